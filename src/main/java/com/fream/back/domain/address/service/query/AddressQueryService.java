@@ -15,8 +15,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -40,19 +40,7 @@ public class AddressQueryService {
                             "이메일 '" + email + "'에 해당하는 사용자를 찾을 수 없습니다."
                     ));
 
-            List<AddressResponseDto> addresses = user.getAddresses().stream()
-                    .map(address -> new AddressResponseDto(
-                            address.getId(),
-                            // 결정적 암호화된 필드들 복호화
-                            encryptionUtil.deterministicDecrypt(address.getRecipientName()),
-                            encryptionUtil.deterministicDecrypt(address.getPhoneNumber()),
-                            encryptionUtil.deterministicDecrypt(address.getZipCode()),
-                            encryptionUtil.deterministicDecrypt(address.getAddress()),
-                            // 상세주소는 양방향 암호화 복호화
-                            address.getDetailedAddress() != null ?
-                                    encryptionUtil.decrypt(address.getDetailedAddress()) : null,
-                            address.isDefault()))
-                    .collect(Collectors.toList());
+            List<AddressResponseDto> addresses = toResponseDtos(user.getAddresses());
 
             log.info("주소 목록 조회 완료: 사용자={}, 조회된 주소 수={}", email, addresses.size());
             return addresses;
@@ -128,17 +116,7 @@ public class AddressQueryService {
             // Repository에서 암호화된 이름으로 검색하는 메서드 필요
             List<Address> foundAddresses = addressRepository.findByUserAndRecipientName(user, encryptedSearchTerm);
 
-            List<AddressResponseDto> addresses = foundAddresses.stream()
-                    .map(address -> new AddressResponseDto(
-                            address.getId(),
-                            encryptionUtil.deterministicDecrypt(address.getRecipientName()),
-                            encryptionUtil.deterministicDecrypt(address.getPhoneNumber()),
-                            encryptionUtil.deterministicDecrypt(address.getZipCode()),
-                            encryptionUtil.deterministicDecrypt(address.getAddress()),
-                            address.getDetailedAddress() != null ?
-                                    encryptionUtil.decrypt(address.getDetailedAddress()) : null,
-                            address.isDefault()))
-                    .collect(Collectors.toList());
+            List<AddressResponseDto> addresses = toResponseDtos(foundAddresses);
 
             log.info("이름으로 주소 검색 완료: 사용자={}, 검색어={}, 결과 수={}",
                     email, recipientName, addresses.size());
@@ -173,17 +151,7 @@ public class AddressQueryService {
             // Repository에서 암호화된 전화번호로 검색하는 메서드 필요
             List<Address> foundAddresses = addressRepository.findByUserAndPhoneNumber(user, encryptedSearchTerm);
 
-            List<AddressResponseDto> addresses = foundAddresses.stream()
-                    .map(address -> new AddressResponseDto(
-                            address.getId(),
-                            encryptionUtil.deterministicDecrypt(address.getRecipientName()),
-                            encryptionUtil.deterministicDecrypt(address.getPhoneNumber()),
-                            encryptionUtil.deterministicDecrypt(address.getZipCode()),
-                            encryptionUtil.deterministicDecrypt(address.getAddress()),
-                            address.getDetailedAddress() != null ?
-                                    encryptionUtil.decrypt(address.getDetailedAddress()) : null,
-                            address.isDefault()))
-                    .collect(Collectors.toList());
+            List<AddressResponseDto> addresses = toResponseDtos(foundAddresses);
 
             log.info("전화번호로 주소 검색 완료: 사용자={}, 검색어={}, 결과 수={}",
                     email, phoneNumber, addresses.size());
@@ -196,4 +164,37 @@ public class AddressQueryService {
             throw new AddressException(AddressErrorCode.ADDRESS_QUERY_ERROR, e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 주소 목록 일괄 복호화 후 DTO 변환
+     * 결정적 암호화 필드와 상세주소를 각각 한 번에 복호화한다.
+     */
+    private List<AddressResponseDto> toResponseDtos(List<Address> addresses) {
+        List<String> deterministicFields = new ArrayList<>(addresses.size() * 4);
+        List<String> detailedAddresses = new ArrayList<>(addresses.size());
+        for (Address address : addresses) {
+            deterministicFields.add(address.getRecipientName());
+            deterministicFields.add(address.getPhoneNumber());
+            deterministicFields.add(address.getZipCode());
+            deterministicFields.add(address.getAddress());
+            detailedAddresses.add(address.getDetailedAddress());
+        }
+        List<String> decryptedFields = encryptionUtil.deterministicDecryptAll(deterministicFields);
+        List<String> decryptedDetails = encryptionUtil.decryptAll(detailedAddresses);
+
+        List<AddressResponseDto> result = new ArrayList<>(addresses.size());
+        for (int i = 0; i < addresses.size(); i++) {
+            Address address = addresses.get(i);
+            int base = i * 4;
+            result.add(new AddressResponseDto(
+                    address.getId(),
+                    decryptedFields.get(base),
+                    decryptedFields.get(base + 1),
+                    decryptedFields.get(base + 2),
+                    decryptedFields.get(base + 3),
+                    decryptedDetails.get(i),
+                    address.isDefault()));
+        }
+        return result;
+    }
+}
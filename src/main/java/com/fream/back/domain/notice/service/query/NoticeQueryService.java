@@ -13,6 +13,7 @@ import com.fream.back.domain.notice.repository.NoticeRepository;
 import com.fream.back.global.utils.FileUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.dao.DataAccessException;
@@ -22,7 +23,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.File;
-import java.io.IOException;
 import java.net.MalformedURLException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -199,13 +199,12 @@ public class NoticeQueryService {
     }
 
     /**
-     * 파일 미리보기 (바이트 배열 반환)
+     * 파일 미리보기 (파일 전체를 메모리에 올리지 않도록 리소스로 반환)
      *
      * @param fileName 파일명
-     * @return 파일 데이터
-     * @throws IOException 파일 읽기 오류 발생 시
+     * @return 파일 리소스
      */
-    public byte[] getFilePreview(String fileName) throws IOException {
+    public Resource getFilePreview(String fileName) {
         if (fileName == null || fileName.trim().isEmpty()) {
             throw new NoticeFileException(NoticeErrorCode.NOTICE_FILE_NOT_FOUND, "조회할 파일명이 필요합니다.");
         }
@@ -228,16 +227,12 @@ public class NoticeQueryService {
                 throw new NoticeFileException(NoticeErrorCode.NOTICE_FILE_NOT_FOUND, "파일이 존재하지 않습니다: " + fileName);
             }
 
-            // 파일 경로 및 데이터 읽기
+            // 파일 경로 (응답 시 컨버터가 고정 크기 버퍼로 스트리밍)
 //            File file = new File(NOTICE_BASE_DIR + File.separator + directory + File.separator + name);
             File file = new File(NOTICE_BASE_DIR + "/" + directory + "/" + name);
-            return java.nio.file.Files.readAllBytes(file.toPath());
+            return new FileSystemResource(file);
         } catch (NoticeFileException e) {
             throw e;
-        } catch (IOException e) {
-            log.error("파일 미리보기 중 IO 예외 발생: ", e);
-            throw new NoticeFileException(NoticeErrorCode.NOTICE_FILE_NOT_FOUND,
-                    "파일 " + fileName + " 읽기 중 오류가 발생했습니다.", e);
         } catch (Exception e) {
             log.error("파일 미리보기 중 예상치 못한 오류 발생: ", e);
             throw new NoticeException(NoticeErrorCode.NOTICE_QUERY_ERROR,
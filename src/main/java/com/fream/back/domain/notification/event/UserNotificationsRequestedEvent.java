@@ -0,0 +1,20 @@
+package com.fream.back.domain.notification.event;
+
+import java.util.Map;
+
+/**
+ * 사용자별 알림 발송 요청 이벤트(notification 모듈 소유 공개 계약).
+ *
+ * <p>발신 도메인이 한 작업(예: 일괄 만료 배치 1회분)에서 여러 사용자에게 보낼 알림을 한 번에 요청한다.
+ * category/type은 {@link NotificationBroadcastRequestedEvent}와 같이 String으로 전달하며, 수신 리스너가 매핑한다.
+ *
+ * @param category 알림 카테고리 이름
+ * @param type 알림 타입 이름
+ * @param messagesByUserId 사용자 ID → 알림 메시지
+ */
+public record UserNotificationsRequestedEvent(
+        String category,
+        String type,
+        Map<Long, String> messagesByUserId
+) {
+}
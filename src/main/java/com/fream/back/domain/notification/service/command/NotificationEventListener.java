@@ -4,6 +4,7 @@ import com.fream.back.domain.notification.dto.NotificationRequestDTO;
 import com.fream.back.domain.notification.entity.NotificationCategory;
 import com.fream.back.domain.notification.entity.NotificationType;
 import com.fream.back.domain.notification.event.NotificationBroadcastRequestedEvent;
+import com.fream.back.domain.notification.event.UserNotificationsRequestedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -29,6 +30,28 @@ public class NotificationEventListener {
         log.debug("전체 알림 이벤트 처리: category={}, type={}", event.category(), event.type());
     }
 
+    /**
+     * 사용자별 알림 요청 (예: 포인트/제재 일괄 만료 배치 1회분)
+     * 발신 측이 배치 커밋 뒤 트랜잭션 밖에서 발행하므로 알림은 각자의 트랜잭션으로 기록된다.
+     */
+    @EventListener
+    public void onUserNotificationsRequested(UserNotificationsRequestedEvent event) {
+        NotificationCategory category = NotificationCategory.valueOf(event.category());
+        NotificationType type = NotificationType.valueOf(event.type());
+
+        event.messagesByUserId().forEach((userId, message) -> notifyQuietly(userId, category, type, message));
+        log.debug("사용자별 알림 이벤트 처리: type={}, 사용자={}명", event.type(), event.messagesByUserId().size());
+    }
+
+    // 한 사용자의 알림 실패가 나머지 사용자 알림을 막지 않도록 기록만 남김
+    private void notifyQuietly(Long userId, NotificationCategory category, NotificationType type, String message) {
+        try {
+            notificationCommandService.createNotification(userId, category, type, message);
+        } catch (Exception e) {
+            log.warn("사용자 알림 생성 실패: 사용자ID={}, 오류={}", userId, e.getMessage());
+        }
+    }
+
     /**
      * 이벤트의 String category/type을 notification enum으로 매핑한다(이벤트 계약을 enum 결합 없이 유지).
      */
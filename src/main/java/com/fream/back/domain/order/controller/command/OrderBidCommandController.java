@@ -6,6 +6,8 @@ import com.fream.back.domain.order.exception.*;
 import com.fream.back.domain.order.service.command.OrderBidCommandService;
 import com.fream.back.domain.payment.dto.PaymentRequestDto;
 import com.fream.back.global.dto.ResponseDto;
+import com.fream.back.global.exception.DuplicateRequestException;
+import com.fream.back.global.idempotency.IdempotencyKeyStore;
 import com.fream.back.global.utils.SecurityUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -25,7 +27,10 @@ import org.springframework.web.bind.annotation.*;
 @Validated
 public class OrderBidCommandController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final OrderBidCommandService orderBidCommandService;
+    private final IdempotencyKeyStore idempotencyKeyStore;
 
     /**
      * 주문 입찰을 생성합니다.
@@ -78,16 +83,21 @@ public class OrderBidCommandController {
 
     /**
      * 즉시 구매 입찰을 생성합니다.
+     * 같은 멱등성 키(헤더가 없으면 판매 입찰 ID)로 다시 요청하면 결제/주문을 다시 만들지 않고 처음 결과를 돌려줍니다.
      *
      * @param requestDto 즉시 구매 요청 정보
+     * @param idempotencyKey 클라이언트 멱등성 키 (선택)
      * @return 생성된 주문 ID
      * @throws OrderBidAccessDeniedException 주문 입찰에 대한 접근 권한이 없는 경우
      * @throws InvalidOrderBidDataException 주문 입찰 정보가 유효하지 않은 경우
      * @throws SaleBidNotFoundException 판매 입찰을 찾을 수 없는 경우
      * @throws OrderBidCreationFailedException 주문 입찰 생성 실패 시
+     * @throws DuplicateRequestException 같은 요청을 처리 중인 경우
      */
     @PostMapping("/instant")
-    public ResponseEntity<ResponseDto<Long>> createInstantOrderBid(@RequestBody @Valid InstantOrderRequestDto requestDto) {
+    public ResponseEntity<ResponseDto<Long>> createInstantOrderBid(
+            @RequestBody @Valid InstantOrderRequestDto requestDto,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         // 사용자 이메일 추출 및 검증
         String email = SecurityUtils.extractAndValidateEmailForOrderBid("즉시 구매 입찰 생성");
 
@@ -97,14 +107,20 @@ public class OrderBidCommandController {
         // 결제 정보 보강
         PaymentRequestDto paymentRequest = enrichPaymentRequest(requestDto.getPaymentRequest(), email);
 
+        // 판매 입찰은 한 번만 체결되므로 키가 없으면 판매 입찰 ID로 중복 클릭을 막음
+        String key = (idempotencyKey != null && !idempotencyKey.isBlank())
+                ? idempotencyKey
+                : "sale-bid-" + requestDto.getSaleBidId();
+
         // 서비스 호출
-        Long orderId = orderBidCommandService.createInstantOrderBid(
-                email,
-                requestDto.getSaleBidId(),
-                requestDto.getAddressId(),
-                requestDto.isWarehouseStorage(),
-                paymentRequest
-        ).getId();
+        Long orderId = idempotencyKeyStore.execute("instant-order:" + email, key, Long.class,
+                () -> orderBidCommandService.createInstantOrderBid(
+                        email,
+                        requestDto.getSaleBidId(),
+                        requestDto.getAddressId(),
+                        requestDto.isWarehouseStorage(),
+                        paymentRequest
+                ).getId());
 
         return ResponseEntity.ok(ResponseDto.success(orderId, "즉시 구매가 성공적으로 처리되었습니다."));
     }
@@ -1,10 +1,13 @@
 package com.fream.back.domain.order.controller.command;
 
+import com.fream.back.domain.order.dto.OrderProcessingAcceptedDto;
 import com.fream.back.domain.order.dto.PayAndShipmentRequestDto;
 import com.fream.back.domain.order.exception.InvalidPaymentShipmentDataException;
 import com.fream.back.domain.order.exception.OrderAccessDeniedException;
 import com.fream.back.domain.order.service.kafka.OrderEventProducer;
 import com.fream.back.global.dto.ResponseDto;
+import com.fream.back.global.exception.DuplicateRequestException;
+import com.fream.back.global.idempotency.IdempotencyKeyStore;
 import com.fream.back.global.utils.SecurityUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -27,22 +30,29 @@ import java.util.Map;
 @Validated
 public class OrderCommandController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final OrderEventProducer orderEventProducer; // 기존 OrderCommandService 대신 Kafka Producer 사용
+    private final IdempotencyKeyStore idempotencyKeyStore;
 
     /**
      * 주문의 결제 및 배송 정보를 처리합니다.
      * ⭐ 전체 처리를 Kafka로 비동기 처리하고 즉시 응답
+     * 멱등성 키 헤더가 있으면 같은 키의 재요청은 이벤트를 다시 발행하지 않고 처음 응답을 돌려줍니다.
+     * (키가 없어도 컨슈머가 주문 ID 단위로 중복 처리를 막음)
      *
      * @param orderId 주문 ID
      * @param requestDto 결제 및 배송 요청 정보
+     * @param idempotencyKey 클라이언트 멱등성 키 (선택)
      * @return 처리 진행 상태 응답
      * @throws OrderAccessDeniedException 주문에 대한 접근 권한이 없는 경우
      * @throws InvalidPaymentShipmentDataException 결제 및 배송 정보가 유효하지 않은 경우
      */
     @PostMapping("/{orderId}/process-payment-shipment")
-    public ResponseEntity<ResponseDto<Map<String, Object>>> processPaymentAndShipment(
+    public ResponseEntity<ResponseDto<OrderProcessingAcceptedDto>> processPaymentAndShipment(
             @PathVariable("orderId") Long orderId,
-            @RequestBody @Valid PayAndShipmentRequestDto requestDto
+            @RequestBody @Valid PayAndShipmentRequestDto requestDto,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
     ) {
         // 사용자 이메일 추출 및 검증
         String email = SecurityUtils.extractAndValidateEmailForOrder("결제 및 배송 처리");
@@ -50,17 +60,11 @@ public class OrderCommandController {
         log.info("사용자 [{}]가 주문(ID: {})의 결제 및 배송 처리를 요청합니다.", email, orderId);
 
         try {
-            // Kafka로 비동기 주문 처리 이벤트 발행
-            orderEventProducer.sendOrderProcessingEvent(orderId, email, requestDto);
-
-            // 즉시 응답 데이터 생성
-            Map<String, Object> responseData = new HashMap<>();
-            responseData.put("orderId", orderId);
-            responseData.put("status", "PROCESSING");
-            responseData.put("message", "주문이 접수되었습니다. 결제를 처리하고 있습니다.");
-            responseData.put("estimatedProcessingTime", "1-3분");
-            responseData.put("websocketTopic", "/topic/order/" + orderId);
-            responseData.put("statusCheckUrl", "/api/orders/" + orderId + "/status");
+            OrderProcessingAcceptedDto responseData = (idempotencyKey != null && !idempotencyKey.isBlank())
+                    ? idempotencyKeyStore.execute("order-payment:" + email, orderId + ":" + idempotencyKey,
+                            OrderProcessingAcceptedDto.class,
+                            () -> publishOrderProcessingEvent(orderId, email, requestDto))
+                    : publishOrderProcessingEvent(orderId, email, requestDto);
 
             log.info("주문 처리 이벤트 발행 완료: 주문ID={}, 사용자={}", orderId, email);
 
@@ -68,6 +72,8 @@ public class OrderCommandController {
             return ResponseEntity.status(HttpStatus.ACCEPTED)
                     .body(ResponseDto.success(responseData, "주문 처리가 시작되었습니다. 처리 완료 시 알림을 받으실 수 있습니다."));
 
+        } catch (DuplicateRequestException e) {
+            throw e;
         } catch (Exception e) {
             log.error("주문 처리 이벤트 발행 실패: 주문ID={}, 사용자={}, 오류={}", orderId, email, e.getMessage(), e);
 
@@ -78,6 +84,25 @@ public class OrderCommandController {
         }
     }
 
+    /**
+     * 주문 처리 이벤트를 발행하고 즉시 응답 데이터를 만듭니다.
+     */
+    private OrderProcessingAcceptedDto publishOrderProcessingEvent(Long orderId, String email,
+                                                                   PayAndShipmentRequestDto requestDto) {
+        // Kafka로 비동기 주문 처리 이벤트 발행
+        orderEventProducer.sendOrderProcessingEvent(orderId, email, requestDto);
+
+        // 즉시 응답 데이터 생성
+        return OrderProcessingAcceptedDto.builder()
+                .orderId(orderId)
+                .status("PROCESSING")
+                .message("주문이 접수되었습니다. 결제를 처리하고 있습니다.")
+                .estimatedProcessingTime("1-3분")
+                .websocketTopic("/topic/order/" + orderId)
+                .statusCheckUrl("/api/orders/" + orderId + "/status")
+                .build();
+    }
+
     //    /**
 //     * 주문의 결제 및 배송 정보를 처리합니다.
 //     *
@@ -2,11 +2,13 @@ package com.fream.back.domain.order.controller.query;
 
 import com.fream.back.domain.order.dto.OrderBidResponseDto;
 import com.fream.back.domain.order.dto.OrderBidStatusCountDto;
+import com.fream.back.domain.order.dto.TradeStatusCountDto;
 import com.fream.back.domain.order.exception.InvalidOrderBidDataException;
 import com.fream.back.domain.order.exception.OrderBidAccessDeniedException;
 import com.fream.back.domain.order.exception.OrderBidNotFoundException;
 import com.fream.back.domain.order.service.query.OrderBidQueryService;
 import com.fream.back.global.dto.ResponseDto;
+import com.fream.back.global.dto.commonDto;
 import com.fream.back.global.utils.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -53,6 +55,39 @@ public class OrderBidQueryController {
         return ResponseEntity.ok(ResponseDto.success(result, "주문 입찰 목록 조회 성공"));
     }
 
+    /**
+     * 주문 입찰 목록을 커서 방식으로 조회합니다. (최신순)
+     * 페이지 번호 대신 이전 응답의 nextCursor를 after로 넘기며, 깊은 페이지도 조회 비용이 같습니다.
+     *
+     * @param bidStatus 입찰 상태 필터
+     * @param orderStatus 주문 상태 필터
+     * @param after 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 100)
+     * @param includeTotal 첫 페이지에서 전체 개수 포함 여부
+     * @return 주문 입찰 목록 (커서 페이징)
+     * @throws OrderBidAccessDeniedException 주문 입찰에 대한 접근 권한이 없는 경우
+     * @throws InvalidOrderBidDataException 주문 입찰 정보가 유효하지 않은 경우
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ResponseDto<commonDto.CursorPageDto<OrderBidResponseDto>>> getOrderBidsByCursor(
+            @RequestParam(value = "bidStatus", required = false) String bidStatus,
+            @RequestParam(value = "orderStatus", required = false) String orderStatus,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "includeTotal", defaultValue = "false") boolean includeTotal
+    ) {
+        // 사용자 이메일 추출 및 검증
+        String email = SecurityUtils.extractAndValidateEmailForOrderBid("주문 입찰 목록 조회");
+
+        log.info("사용자 [{}]의 주문 입찰 목록을 커서로 조회합니다. 필터 - 입찰 상태: {}, 주문 상태: {}, 커서: {}",
+                email, bidStatus, orderStatus, after);
+
+        commonDto.CursorPageDto<OrderBidResponseDto> result =
+                orderBidQueryService.getOrderBidsByCursor(email, bidStatus, orderStatus, after, size, includeTotal);
+
+        return ResponseEntity.ok(ResponseDto.success(result, "주문 입찰 목록 조회 성공"));
+    }
+
     /**
      * 주문 입찰 상태별 개수를 조회합니다.
      *
@@ -71,6 +106,24 @@ public class OrderBidQueryController {
         return ResponseEntity.ok(ResponseDto.success(result, "주문 입찰 상태별 개수 조회 성공"));
     }
 
+    /**
+     * 구매 입찰/판매 입찰/창고 보관 상태별 개수를 한 번에 조회합니다. (마이페이지 대시보드용)
+     *
+     * @return 거래 대시보드 상태별 개수
+     * @throws OrderBidAccessDeniedException 주문 입찰에 대한 접근 권한이 없는 경우
+     */
+    @GetMapping("/count/dashboard")
+    public ResponseEntity<ResponseDto<TradeStatusCountDto>> getTradeStatusCounts() {
+        // 사용자 이메일 추출 및 검증
+        String email = SecurityUtils.extractAndValidateEmailForOrderBid("거래 대시보드 상태별 개수 조회");
+
+        log.info("사용자 [{}]의 거래 대시보드 상태별 개수를 조회합니다.", email);
+
+        TradeStatusCountDto result = orderBidQueryService.getTradeStatusCounts(email);
+
+        return ResponseEntity.ok(ResponseDto.success(result, "거래 대시보드 상태별 개수 조회 성공"));
+    }
+
     /**
      * 주문 입찰 상세 정보를 조회합니다.
      *
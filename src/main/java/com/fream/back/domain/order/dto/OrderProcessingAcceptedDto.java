@@ -0,0 +1,22 @@
+package com.fream.back.domain.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 결제/배송 처리 접수 응답 DTO (멱등성 키 재요청 시 그대로 복원됨)
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderProcessingAcceptedDto {
+    private Long orderId;                   // 주문 ID
+    private String status;                  // 처리 상태 (PROCESSING)
+    private String message;                 // 안내 메시지
+    private String estimatedProcessingTime; // 예상 처리 시간
+    private String websocketTopic;          // 처리 결과 알림 토픽
+    private String statusCheckUrl;          // 상태 조회 URL
+}
@@ -0,0 +1,20 @@
+package com.fream.back.domain.order.dto;
+
+import com.fream.back.domain.sale.dto.SaleBidStatusCountDto;
+import com.fream.back.domain.warehouseStorage.dto.WarehouseStatusCountDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 거래 대시보드 상태별 개수 DTO
+ * 구매 입찰/판매 입찰/창고 보관 상태별 개수를 한 번에 전달
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TradeStatusCountDto {
+    private OrderBidStatusCountDto orderBidCounts;  // 구매 입찰 상태별 개수
+    private SaleBidStatusCountDto saleBidCounts;    // 판매 입찰 상태별 개수
+    private WarehouseStatusCountDto warehouseCounts; // 창고 보관 상태별 개수
+}
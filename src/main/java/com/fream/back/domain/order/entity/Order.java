@@ -23,7 +23,10 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // 사용자별 누적 구매액 집계 (등급 자동 설정)
+        @Index(name = "idx_orders_user_status", columnList = "user_id, status, total_amount")
+})
 public class Order extends BaseTimeEntity {
 
     @Id
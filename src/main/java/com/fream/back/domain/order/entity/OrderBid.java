@@ -18,6 +18,12 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(indexes = {
+        // 사용자별 입찰 내역 키셋 페이징 (생성일, ID 내림차순)
+        @Index(name = "idx_order_bid_user_created", columnList = "user_id, created_date, id"),
+        // 사용자별 상태 개수 집계 (GROUP BY status)
+        @Index(name = "idx_order_bid_user_status", columnList = "user_id, status")
+})
 public class OrderBid extends BaseTimeEntity {
 
     @Id
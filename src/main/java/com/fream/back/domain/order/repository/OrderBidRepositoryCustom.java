@@ -2,6 +2,7 @@ package com.fream.back.domain.order.repository;
 
 import com.fream.back.domain.order.dto.OrderBidResponseDto;
 import com.fream.back.domain.order.dto.OrderBidStatusCountDto;
+import com.fream.back.global.utils.PageUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -23,6 +24,30 @@ public interface OrderBidRepositoryCustom {
      */
     Page<OrderBidResponseDto> findOrderBidsByFilters(String email, String bidStatus, String orderStatus, Pageable pageable);
 
+    /**
+     * 필터링된 주문 입찰 목록을 (생성일, ID) 키셋 커서로 조회합니다. (최신순)
+     * OFFSET 없이 커서 다음 행부터 읽으므로 페이지 깊이와 관계없이 조회 비용이 같습니다.
+     *
+     * @param email 사용자 이메일
+     * @param bidStatus 입찰 상태 필터
+     * @param orderStatus 주문 상태 필터
+     * @param cursor 이전 페이지 마지막 행의 커서 (null이면 첫 페이지)
+     * @param limit 조회할 최대 건수
+     * @return 주문 입찰 목록
+     */
+    List<OrderBidResponseDto> findOrderBidsByFiltersAfter(String email, String bidStatus, String orderStatus,
+                                                          PageUtils.Cursor cursor, int limit);
+
+    /**
+     * 필터링된 주문 입찰 개수를 조회합니다.
+     *
+     * @param email 사용자 이메일
+     * @param bidStatus 입찰 상태 필터
+     * @param orderStatus 주문 상태 필터
+     * @return 주문 입찰 개수
+     */
+    long countOrderBidsByFilters(String email, String bidStatus, String orderStatus);
+
     /**
      * 사용자별 주문 입찰 상태 개수를 조회합니다.
      *
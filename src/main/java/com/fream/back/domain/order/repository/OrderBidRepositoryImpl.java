@@ -11,6 +11,8 @@ import com.fream.back.domain.product.entity.QProductImage;
 import com.fream.back.domain.product.entity.QProductSize;
 import com.fream.back.domain.shipment.entity.QOrderShipment;
 import com.fream.back.domain.user.entity.QUser;
+import com.fream.back.global.utils.PageUtils;
+import com.fream.back.global.utils.StatusCountUtils;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
@@ -47,22 +49,7 @@ public class OrderBidRepositoryImpl implements OrderBidRepositoryCustom {
         QUser user = QUser.user;
 
         // 조건 빌더 생성
-        BooleanBuilder whereBuilder = new BooleanBuilder();
-
-        // 이메일 조건 추가
-        if (StringUtils.hasText(email)) {
-            whereBuilder.and(user.email.eq(email));
-        }
-
-        // 입찰 상태 조건 추가
-        if (StringUtils.hasText(bidStatus)) {
-            whereBuilder.and(orderBid.status.stringValue().eq(bidStatus));
-        }
-
-        // 주문 상태 조건 추가
-        if (StringUtils.hasText(orderStatus)) {
-            whereBuilder.and(order.status.stringValue().eq(orderStatus));
-        }
+        BooleanBuilder whereBuilder = buildFilterCondition(email, bidStatus, orderStatus);
 
         // Main Query
         List<OrderBidResponseDto> content = queryFactory
@@ -96,52 +83,100 @@ public class OrderBidRepositoryImpl implements OrderBidRepositoryCustom {
                 .fetch();
 
         // Count Query
-        Long total = queryFactory
-                .select(orderBid.id.count())
+        long total = countOrderBidsByFilters(email, bidStatus, orderStatus);
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @Override
+    public List<OrderBidResponseDto> findOrderBidsByFiltersAfter(String email, String bidStatus, String orderStatus,
+                                                                 PageUtils.Cursor cursor, int limit) {
+        QOrderBid orderBid = QOrderBid.orderBid;
+        QOrder order = QOrder.order;
+        QProductSize productSize = QProductSize.productSize;
+        QProductColor productColor = QProductColor.productColor;
+        QProduct product = QProduct.product;
+        QProductImage productImage = QProductImage.productImage;
+        QOrderShipment orderShipment = QOrderShipment.orderShipment;
+        QUser user = QUser.user;
+
+        BooleanBuilder whereBuilder = buildFilterCondition(email, bidStatus, orderStatus);
+
+        // 키셋 조건: (생성일, ID)가 커서보다 앞선 행만 (인덱스 user_id, created_date, id 범위 스캔)
+        if (cursor != null) {
+            whereBuilder.and(orderBid.createdDate.lt(cursor.createdDate())
+                    .or(orderBid.createdDate.eq(cursor.createdDate()).and(orderBid.id.lt(cursor.id()))));
+        }
+
+        return queryFactory
+                .select(Projections.constructor(
+                        OrderBidResponseDto.class,
+                        orderBid.id,
+                        product.id,
+                        product.name,
+                        product.englishName,
+                        productSize.size,
+                        productColor.colorName,
+                        productImage.imageUrl,
+                        orderBid.bidPrice,
+                        orderBid.status.stringValue(),
+                        order.status.stringValue(),
+                        orderShipment.status.stringValue(),
+                        orderBid.createdDate,
+                        orderBid.modifiedDate
+                ))
                 .from(orderBid)
                 .join(orderBid.user, user)
+                .join(orderBid.productSize, productSize)
+                .join(productSize.productColor, productColor)
+                .join(productColor.product, product)
+                .join(productColor.thumbnailImage, productImage)
                 .leftJoin(orderBid.order, order)
+                .leftJoin(order.orderShipment, orderShipment)
                 .where(whereBuilder)
-                .fetchOne();
-
-        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+                .orderBy(orderBid.createdDate.desc(), orderBid.id.desc())
+                .limit(limit)
+                .fetch();
     }
 
     @Override
-    public OrderBidStatusCountDto countOrderBidsByStatus(String email) {
+    public long countOrderBidsByFilters(String email, String bidStatus, String orderStatus) {
         QOrderBid orderBid = QOrderBid.orderBid;
+        QOrder order = QOrder.order;
+        QUser user = QUser.user;
 
-        // 대기 중 상태 개수 조회
-        Long pendingCount = queryFactory
-                .select(orderBid.count())
+        Long total = queryFactory
+                .select(orderBid.id.count())
                 .from(orderBid)
-                .where(orderBid.status.eq(BidStatus.PENDING)
-                        .and(orderBid.user.email.eq(email)))
+                .join(orderBid.user, user)
+                .leftJoin(orderBid.order, order)
+                .where(buildFilterCondition(email, bidStatus, orderStatus))
                 .fetchOne();
 
-        // 매칭 완료 상태 개수 조회
-        Long matchedCount = queryFactory
-                .select(orderBid.count())
-                .from(orderBid)
-                .where(orderBid.status.eq(BidStatus.MATCHED)
-                        .and(orderBid.user.email.eq(email)))
-                .fetchOne();
+        return total != null ? total : 0L;
+    }
+
+    @Override
+    public OrderBidStatusCountDto countOrderBidsByStatus(String email) {
+        QOrderBid orderBid = QOrderBid.orderBid;
 
-        // 취소 또는 완료 상태 개수 조회
-        Long cancelledOrCompletedCount = queryFactory
-                .select(orderBid.count())
+        // 상태별 개수를 한 번의 GROUP BY 쿼리로 조회
+        List<Object[]> rows = queryFactory
+                .select(orderBid.status, orderBid.count())
                 .from(orderBid)
-                .where(orderBid.status.in(
-                                BidStatus.CANCELLED, BidStatus.COMPLETED)
-                        .and(orderBid.user.email.eq(email)))
-                .fetchOne();
+                .where(orderBid.user.email.eq(email))
+                .groupBy(orderBid.status)
+                .fetch()
+                .stream()
+                .map(Tuple::toArray)
+                .toList();
 
-        // null 값 처리
-        pendingCount = pendingCount != null ? pendingCount : 0L;
-        matchedCount = matchedCount != null ? matchedCount : 0L;
-        cancelledOrCompletedCount = cancelledOrCompletedCount != null ? cancelledOrCompletedCount : 0L;
+        Map<BidStatus, Long> counts = StatusCountUtils.toCountMap(BidStatus.class, rows);
 
-        return new OrderBidStatusCountDto(pendingCount, matchedCount, cancelledOrCompletedCount);
+        return new OrderBidStatusCountDto(
+                counts.get(BidStatus.PENDING),
+                counts.get(BidStatus.MATCHED),
+                StatusCountUtils.sum(counts, BidStatus.CANCELLED, BidStatus.COMPLETED));
     }
 
     @Override
@@ -215,4 +250,32 @@ public class OrderBidRepositoryImpl implements OrderBidRepositoryCustom {
                         t -> t.get(orderBid.id.count())
                 ));
     }
+
+    /**
+     * 목록/개수 조회 공통 필터 조건
+     */
+    private BooleanBuilder buildFilterCondition(String email, String bidStatus, String orderStatus) {
+        QOrderBid orderBid = QOrderBid.orderBid;
+        QOrder order = QOrder.order;
+        QUser user = QUser.user;
+
+        BooleanBuilder whereBuilder = new BooleanBuilder();
+
+        // 이메일 조건 추가
+        if (StringUtils.hasText(email)) {
+            whereBuilder.and(user.email.eq(email));
+        }
+
+        // 입찰 상태 조건 추가
+        if (StringUtils.hasText(bidStatus)) {
+            whereBuilder.and(orderBid.status.stringValue().eq(bidStatus));
+        }
+
+        // 주문 상태 조건 추가
+        if (StringUtils.hasText(orderStatus)) {
+            whereBuilder.and(order.status.stringValue().eq(orderStatus));
+        }
+
+        return whereBuilder;
+    }
 }
\ No newline at end of file
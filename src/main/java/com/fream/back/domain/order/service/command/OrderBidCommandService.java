@@ -6,6 +6,8 @@ import com.fream.back.domain.order.entity.OrderBid;
 import com.fream.back.domain.order.exception.*;
 import com.fream.back.domain.order.repository.OrderBidRepository;
 import com.fream.back.domain.payment.dto.PaymentRequestDto;
+import com.fream.back.domain.payment.exception.PaymentApiException;
+import com.fream.back.domain.payment.service.command.PaymentCommandService;
 import com.fream.back.domain.product.entity.ProductSize;
 import com.fream.back.domain.product.service.productSize.ProductSizeQueryService;
 import com.fream.back.domain.sale.entity.Sale;
@@ -17,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 주문 입찰 명령 서비스
@@ -31,6 +34,8 @@ public class OrderBidCommandService {
     private final ProductSizeQueryService productSizeQueryService;
     private final UserQueryService userQueryService;
     private final SaleBidQueryService saleBidQueryService;
+    private final PaymentCommandService paymentCommandService;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 주문 입찰을 생성합니다.
@@ -105,6 +110,13 @@ public class OrderBidCommandService {
     /**
      * 즉시 구매 주문 입찰을 생성합니다.
      *
+     * 1. 짧은 트랜잭션으로 주문과 주문 입찰을 생성하고 판매 입찰을 매칭한 뒤 커밋한다.
+     * 2. 트랜잭션 밖에서 결제한다. (결제 단계는 각자 독립 트랜잭션으로 커밋)
+     * 3. 결제가 끝나면 창고 보관 상품을 주문과 연결한다.
+     *
+     * 결제 결과를 알 수 없는 경우(포트원 통신 오류)에는 주문과 PENDING 결제를 남겨 대사 작업이 마무리하게 하고,
+     * 결제가 확실히 실패한 경우에는 주문을 삭제하고 판매 입찰을 원래 상태로 되돌린다.
+     *
      * @param buyerEmail 구매자 이메일
      * @param saleBidId 판매 입찰 ID
      * @param addressId 배송지 ID
@@ -114,8 +126,8 @@ public class OrderBidCommandService {
      * @throws OrderBidCreationFailedException 주문 입찰 생성 실패 시
      * @throws SaleBidNotFoundException 판매 입찰을 찾을 수 없는 경우
      * @throws InvalidOrderBidDataException 주문 입찰 정보가 유효하지 않은 경우
+     * @throws OrderPaymentProcessingFailedException 결제 처리 실패 시
      */
-    @Transactional
     public OrderBid createInstantOrderBid(String buyerEmail, Long saleBidId, Long addressId,
                                           boolean isWarehouseStorage, PaymentRequestDto paymentRequest) {
         try {
@@ -125,29 +137,74 @@ public class OrderBidCommandService {
             // 2. 유저 조회
             User buyer = userQueryService.findByEmail(buyerEmail);
 
-            // 3. SaleBid 및 Sale 조회
-            SaleBid saleBid = getSaleBidAndValidate(saleBidId);
-            Sale sale = saleBid.getSale();
-
-            // 4. Order 생성
-            Order order = orderCommandService.createInstantOrder(
-                    buyer,
-                    saleBid,
-                    addressId,
-                    isWarehouseStorage,
-                    paymentRequest
-            );
+            // 3. Order 및 OrderBid 생성 (커밋)
+            InstantOrder instantOrder = transactionTemplate.execute(status -> {
+                SaleBid saleBid = getSaleBidAndValidate(saleBidId);
+                Sale sale = saleBid.getSale();
+                com.fream.back.domain.sale.entity.BidStatus previousStatus = saleBid.getStatus();
+
+                Order order = orderCommandService.createInstantOrder(
+                        buyer,
+                        saleBid,
+                        addressId,
+                        isWarehouseStorage,
+                        paymentRequest
+                );
+                OrderBid orderBid = createInstantOrderBid(order, saleBid, sale);
+                return new InstantOrder(order, orderBid, saleBidId, previousStatus, sale, sale.isWarehouseStorage());
+            });
+
+            // 4. 결제 처리 (트랜잭션 밖)
+            try {
+                paymentCommandService.processPayment(instantOrder.order(), buyer, paymentRequest);
+            } catch (PaymentApiException e) {
+                log.warn("즉시 구매 결제 결과 확인 불가 - 주문 유지(대사 대상): 주문ID={}", instantOrder.order().getId());
+                throw new OrderPaymentProcessingFailedException("결제 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
+            } catch (Exception e) {
+                log.error("결제 처리 중 오류 발생: {}", e.getMessage(), e);
+                cancelInstantOrder(instantOrder);
+                throw new OrderPaymentProcessingFailedException("결제 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
+            }
 
-            // 5. OrderBid 생성 및 저장
-            OrderBid orderBid = createInstantOrderBid(order, saleBid, sale);
+            // 5. 판매자 창고 보관 상품을 주문과 연결
+            if (instantOrder.warehouseStorage()) {
+                orderCommandService.associateWarehouseStorage(instantOrder.sale());
+            }
 
-            return orderBid;
+            return instantOrder.orderBid();
         } catch (Exception e) {
             handleOrderBidCreationException(e, "즉시 구매 주문 입찰 생성");
             return null; // 실행되지 않음 (예외가 던져짐)
         }
     }
 
+    /**
+     * 결제가 실패한 즉시 구매 주문을 취소합니다.
+     * 판매 입찰을 원래 상태로 되돌리고 주문을 삭제합니다. (주문 입찰, 배송, 실패 결제는 연쇄 삭제)
+     */
+    private void cancelInstantOrder(InstantOrder instantOrder) {
+        Long orderId = instantOrder.order().getId();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                SaleBid saleBid = saleBidQueryService.findById(instantOrder.saleBidId());
+                saleBid.assignOrder(null);
+                saleBid.updateStatus(instantOrder.previousSaleBidStatus());
+                orderCommandService.deleteOrder(orderId);
+            });
+            log.info("결제 실패로 즉시 구매 주문 취소: 주문ID={}, 판매입찰ID={}", orderId, instantOrder.saleBidId());
+        } catch (Exception e) {
+            log.error("즉시 구매 주문 취소 실패: 주문ID={}, 오류={}", orderId, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 결제 전에 커밋한 즉시 구매 주문 정보
+     */
+    private record InstantOrder(Order order, OrderBid orderBid, Long saleBidId,
+                                com.fream.back.domain.sale.entity.BidStatus previousSaleBidStatus,
+                                Sale sale, boolean warehouseStorage) {
+    }
+
     /**
      * 즉시 구매 입력값을 검증합니다.
      */
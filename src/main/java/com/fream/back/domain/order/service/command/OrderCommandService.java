@@ -11,7 +11,6 @@ import com.fream.back.domain.order.exception.*;
 import com.fream.back.domain.order.repository.OrderRepository;
 import com.fream.back.domain.order.service.query.OrderBidQueryService;
 import com.fream.back.domain.payment.dto.PaymentRequestDto;
-import com.fream.back.domain.payment.entity.Payment;
 import com.fream.back.domain.payment.service.command.PaymentCommandService;
 import com.fream.back.domain.product.entity.ProductSize;
 import com.fream.back.domain.sale.entity.Sale;
@@ -29,6 +28,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -44,6 +44,7 @@ public class OrderCommandService {
     private final WarehouseStorageCommandService warehouseStorageCommandService;
     private final AddressQueryService addressQueryService;
     private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 입찰에서 주문을 생성합니다.
@@ -108,7 +109,6 @@ public class OrderCommandService {
      * @throws OrderWarehouseStorageProcessingFailedException 창고 보관 처리 실패 시
      * @throws InvalidPaymentShipmentDataException 결제 및 배송 정보가 유효하지 않은 경우
      */
-    @Transactional
     public void processPaymentAndShipment(Long orderId, String userEmail, PayAndShipmentRequestDto requestDto) {
         if (orderId == null) {
             throw new InvalidOrderDataException("주문 ID가 없습니다.");
@@ -123,75 +123,30 @@ public class OrderCommandService {
         try {
             // 1. User 및 Order 조회
             User user = userQueryService.findByEmail(userEmail);
-            Order order = orderRepository.findById(orderId)
-                    .orElseThrow(() -> new OrderNotFoundException("해당 주문을 찾을 수 없습니다(ID: " + orderId + ")"));
+            Order order = transactionTemplate.execute(status -> {
+                Order found = orderRepository.findById(orderId)
+                        .orElseThrow(() -> new OrderNotFoundException("해당 주문을 찾을 수 없습니다(ID: " + orderId + ")"));
 
-            // 접근 권한 확인
-            if (!order.getUser().getId().equals(user.getId())) {
-                throw new OrderAccessDeniedException("해당 사용자는 이 주문을 처리할 권한이 없습니다.");
-            }
+                // 접근 권한 확인
+                if (!found.getUser().getId().equals(user.getId())) {
+                    throw new OrderAccessDeniedException("해당 사용자는 이 주문을 처리할 권한이 없습니다.");
+                }
+                return found;
+            });
 
             // 주문 정보 유효성 검사
             validatePaymentShipmentRequest(requestDto);
 
             try {
-                // 2. 결제 처리
-                Payment payment = paymentCommandService.processPayment(order, user, requestDto.getPaymentRequest());
-                order.assignPayment(payment);
+                // 2. 결제 처리 (트랜잭션 밖 - 결제 단계는 PaymentCommandService가 각각 커밋)
+                paymentCommandService.processPayment(order, user, requestDto.getPaymentRequest());
             } catch (Exception e) {
                 log.error("결제 처리 중 오류 발생: {}", e.getMessage(), e);
                 throw new OrderPaymentProcessingFailedException("결제 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
             }
 
-            try {
-                // 3. 배송 정보 생성
-                OrderShipment shipment = orderShipmentCommandService.createOrderShipment(
-                        order,
-                        requestDto.getReceiverName(),
-                        requestDto.getReceiverPhone(),
-                        requestDto.getPostalCode(),
-                        requestDto.getAddress()
-                );
-                order.assignOrderShipment(shipment);
-            } catch (Exception e) {
-                log.error("배송 정보 처리 중 오류 발생: {}", e.getMessage(), e);
-                throw new OrderShipmentProcessingFailedException("배송 정보 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
-            }
-
-            try {
-                // 4. 상태 업데이트
-                if (requestDto.isWarehouseStorage()) {
-                    // 창고 보관일 경우
-                    order.updateStatus(OrderStatus.PAYMENT_COMPLETED);
-                    order.updateStatus(OrderStatus.PREPARING);
-                    order.updateStatus(OrderStatus.IN_WAREHOUSE);
-
-                    // 창고 보관 처리 추가
-                    WarehouseStorage warehouseStorage = warehouseStorageCommandService.createOrderStorage(order, user);
-                    order.assignWarehouseStorage(warehouseStorage);
-                    order.updateStatus(OrderStatus.COMPLETED);  // 주문 완료 상태로 변경
-                } else {
-                    // 실제 배송일 경우
-                    order.updateStatus(OrderStatus.PAYMENT_COMPLETED);
-                    order.updateStatus(OrderStatus.PREPARING);
-                }
-            } catch (WarehouseStorageException e) {
-                log.error("창고 보관 처리 중 오류 발생: {}", e.getMessage(), e);
-                throw new OrderWarehouseStorageProcessingFailedException("창고 보관 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
-            } catch (Exception e) {
-                log.error("주문 상태 업데이트 중 오류 발생: {}", e.getMessage(), e);
-                throw new OrderStatusUpdateFailedException("주문 상태 업데이트 중 오류가 발생했습니다: " + e.getMessage(), e);
-            }
-
-            // 5. OrderBid 상태 업데이트
-            try {
-                orderBidQueryService.findById(orderId).ifPresent(orderBid -> {
-                    orderBid.updateStatus(BidStatus.MATCHED);
-                });
-            } catch (Exception e) {
-                log.error("주문 입찰 상태 업데이트 중 오류 발생: {}", e.getMessage(), e);
-                // 중요 정보 처리가 완료되었으므로 예외를 던지지 않고 로그만 남김
-            }
+            // 3. 결제 후 배송/상태 처리 (하나의 트랜잭션, 실패해도 결제 기록은 남음)
+            transactionTemplate.executeWithoutResult(status -> completeOrderAfterPayment(orderId, requestDto));
         } catch (Exception e) {
             if (e instanceof OrderException) {
                 throw e;
@@ -201,8 +156,69 @@ public class OrderCommandService {
         }
     }
 
+    /**
+     * 결제 완료 후 배송 정보 생성 및 주문 상태 변경
+     */
+    private void completeOrderAfterPayment(Long orderId, PayAndShipmentRequestDto requestDto) {
+        // 결제 단계의 커밋 결과(Payment)가 보이도록 새 트랜잭션에서 다시 조회
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new OrderNotFoundException("해당 주문을 찾을 수 없습니다(ID: " + orderId + ")"));
+
+        try {
+            // 배송 정보 생성
+            OrderShipment shipment = orderShipmentCommandService.createOrderShipment(
+                    order,
+                    requestDto.getReceiverName(),
+                    requestDto.getReceiverPhone(),
+                    requestDto.getPostalCode(),
+                    requestDto.getAddress()
+            );
+            order.assignOrderShipment(shipment);
+        } catch (Exception e) {
+            log.error("배송 정보 처리 중 오류 발생: {}", e.getMessage(), e);
+            throw new OrderShipmentProcessingFailedException("배송 정보 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+
+        try {
+            // 상태 업데이트
+            if (requestDto.isWarehouseStorage()) {
+                // 창고 보관일 경우
+                order.updateStatus(OrderStatus.PAYMENT_COMPLETED);
+                order.updateStatus(OrderStatus.PREPARING);
+                order.updateStatus(OrderStatus.IN_WAREHOUSE);
+
+                // 창고 보관 처리 추가
+                WarehouseStorage warehouseStorage = warehouseStorageCommandService.createOrderStorage(order, order.getUser());
+                order.assignWarehouseStorage(warehouseStorage);
+                order.updateStatus(OrderStatus.COMPLETED);  // 주문 완료 상태로 변경
+            } else {
+                // 실제 배송일 경우
+                order.updateStatus(OrderStatus.PAYMENT_COMPLETED);
+                order.updateStatus(OrderStatus.PREPARING);
+            }
+        } catch (WarehouseStorageException e) {
+            log.error("창고 보관 처리 중 오류 발생: {}", e.getMessage(), e);
+            throw new OrderWarehouseStorageProcessingFailedException("창고 보관 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
+        } catch (Exception e) {
+            log.error("주문 상태 업데이트 중 오류 발생: {}", e.getMessage(), e);
+            throw new OrderStatusUpdateFailedException("주문 상태 업데이트 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+
+        // OrderBid 상태 업데이트
+        try {
+            orderBidQueryService.findById(orderId).ifPresent(orderBid -> {
+                orderBid.updateStatus(BidStatus.MATCHED);
+            });
+        } catch (Exception e) {
+            log.error("주문 입찰 상태 업데이트 중 오류 발생: {}", e.getMessage(), e);
+            // 중요 정보 처리가 완료되었으므로 예외를 던지지 않고 로그만 남김
+        }
+    }
+
     /**
      * 즉시 구매 주문을 생성합니다.
+     * 결제는 주문이 커밋된 뒤 호출자가 트랜잭션 밖에서 진행합니다.
+     * (결제 단계가 독립 트랜잭션이라 미커밋 주문을 참조하면 외래키 잠금 대기에 걸림)
      *
      * @param buyer 구매자 정보
      * @param saleBid 판매 입찰 정보
@@ -213,8 +229,6 @@ public class OrderCommandService {
      * @throws OrderCreationFailedException 주문 생성 실패 시
      * @throws SaleBidNotFoundException 판매 입찰을 찾을 수 없는 경우
      * @throws InvalidOrderDataException 주문 정보가 유효하지 않은 경우
-     * @throws OrderPaymentProcessingFailedException 결제 처리 실패 시
-     * @throws OrderWarehouseStorageProcessingFailedException 창고 보관 처리 실패 시
      */
     @Transactional
     public Order createInstantOrder(User buyer, SaleBid saleBid, Long addressId,
@@ -286,28 +300,6 @@ public class OrderCommandService {
                 throw new OrderBidMatchingFailedException("판매 입찰 매칭 중 오류가 발생했습니다: " + e.getMessage(), e);
             }
 
-            // Sale의 isWarehouseStorage 확인 후 상태 변경
-            try {
-                Sale sale = saleBid.getSale();
-                if (sale != null && sale.isWarehouseStorage()) {
-                    warehouseStorageCommandService.updateWarehouseStatus(sale, WarehouseStatus.ASSOCIATED_WITH_ORDER);
-                }
-            } catch (WarehouseStorageException e) {
-                log.error("창고 보관 상태 업데이트 중 오류 발생: {}", e.getMessage(), e);
-                throw new OrderWarehouseStorageProcessingFailedException("창고 보관 상태 업데이트 중 오류가 발생했습니다: " + e.getMessage(), e);
-            } catch (Exception e) {
-                log.error("창고 보관 상태 업데이트 중 예상치 못한 오류 발생: {}", e.getMessage(), e);
-                throw new OrderWarehouseStorageProcessingFailedException("창고 보관 상태 업데이트 중 예상치 못한 오류가 발생했습니다: " + e.getMessage(), e);
-            }
-
-            // 결제 처리
-            try {
-                paymentCommandService.processPayment(order, buyer, paymentRequest);
-            } catch (Exception e) {
-                log.error("결제 처리 중 오류 발생: {}", e.getMessage(), e);
-                throw new OrderPaymentProcessingFailedException("결제 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
-            }
-
             return order;
         } catch (Exception e) {
             if (e instanceof OrderException) {
@@ -318,6 +310,26 @@ public class OrderCommandService {
         }
     }
 
+    /**
+     * 즉시 구매 결제 완료 후 판매자의 창고 보관 상품을 주문과 연결합니다.
+     * 되돌릴 수 없는 상태 전이이므로 결제가 끝난 뒤에 호출합니다.
+     *
+     * @param sale 판매 정보
+     * @throws OrderWarehouseStorageProcessingFailedException 창고 보관 처리 실패 시
+     */
+    @Transactional
+    public void associateWarehouseStorage(Sale sale) {
+        try {
+            warehouseStorageCommandService.updateWarehouseStatus(sale, WarehouseStatus.ASSOCIATED_WITH_ORDER);
+        } catch (WarehouseStorageException e) {
+            log.error("창고 보관 상태 업데이트 중 오류 발생: {}", e.getMessage(), e);
+            throw new OrderWarehouseStorageProcessingFailedException("창고 보관 상태 업데이트 중 오류가 발생했습니다: " + e.getMessage(), e);
+        } catch (Exception e) {
+            log.error("창고 보관 상태 업데이트 중 예상치 못한 오류 발생: {}", e.getMessage(), e);
+            throw new OrderWarehouseStorageProcessingFailedException("창고 보관 상태 업데이트 중 예상치 못한 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * 주문을 삭제합니다.
      *
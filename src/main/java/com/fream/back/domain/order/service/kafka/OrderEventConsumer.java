@@ -14,25 +14,33 @@ import com.fream.back.domain.user.entity.User;
 import com.fream.back.domain.user.service.query.UserQueryService;
 import com.fream.back.domain.warehouseStorage.entity.WarehouseStorage;
 import com.fream.back.domain.warehouseStorage.service.command.WarehouseStorageCommandService;
+import com.fream.back.global.exception.DuplicateRequestException;
+import com.fream.back.global.idempotency.IdempotencyClaim;
+import com.fream.back.global.idempotency.IdempotencyKeyStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 주문 처리 이벤트 컨슈머
- * 결제 + 배송 + 창고보관을 포함한 전체 주문 처리를 트랜잭션으로 처리
+ * 결제 후 배송 + 창고보관을 포함한 주문 처리를 트랜잭션으로 처리
+ * 결제(포트원 호출)는 PaymentCommandService가 단계별 짧은 트랜잭션으로 처리하므로 주문 트랜잭션 밖에서 수행한다.
+ * 실패 건은 지연 단계 재시도 토픽(tier1 → tier2 → tier3)을 거쳐 DLT로 이동한다.
  */
 @Service
 @RequiredArgsConstructor
@@ -47,39 +55,118 @@ public class OrderEventConsumer {
     private final OrderEventProducer orderEventProducer;
     private final SimpMessagingTemplate messagingTemplate; // WebSocket 메시지 전송
     private final KafkaTemplate<String, Map<String, Object>> notificationKafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderRetryDelayScheduler orderRetryDelayScheduler;
+    private final OrderKeyedExecutor orderKeyedExecutor;
+    private final IdempotencyKeyStore idempotencyKeyStore;
+
+    private static final String ORDER_RETRY_LISTENER_ID = "orderRetryListener";
+    private static final String IDEMPOTENCY_SCOPE = "order-processing";
+    private static final String DLT_REASON_RETRY_EXHAUSTED = "RETRY_EXHAUSTED";
+    private static final String DLT_REASON_NON_RETRYABLE = "NON_RETRYABLE";
+    private static final String DLT_REASON_HANDOFF_FAILED = "HANDOFF_FAILED";
+    private static final long HANDOFF_TIMEOUT_SECONDS = 10; // 재시도/DLT 토픽 발행 확인 대기 시간
+    private static final int HANDOFF_MAX_ATTEMPTS = 5; // 워커 스레드에서의 재발행 시도 횟수 (지연 x1, x2, x4, x8 간격)
+
+    // 재발행 간격 기준값 (리스너 스레드 nack 지연, 워커 스레드 재시도 간격)
+    @Value("${spring.kafka.order.retry.handoff-delay-ms:1000}")
+    private long handOffRetryDelayMs;
 
     /**
      * 주문 처리 이벤트 리스너
-     * 전체 주문 처리를 하나의 트랜잭션으로 수행
+     * 결제 완료 후 주문 후속 처리를 하나의 트랜잭션으로 수행
+     * 레코드를 주문 ID 키 실행기에 넘기고 바로 반환하므로 한 파티션 안에서도 서로 다른 주문은 동시에 처리되고,
+     * 같은 주문은 도착 순서대로 처리된다. 오프셋은 앞 레코드가 모두 ACK 된 지점까지만 커밋된다.
+     * 실패한 주문은 지연 재시도 토픽으로 넘기므로 이 리스너는 실패 건 때문에 멈추지 않는다.
      */
     @KafkaListener(
-            topics = "order-processing-topic",
+            topics = OrderEventProducer.ORDER_PROCESSING_TOPIC,
             groupId = "order-processing-group",
-            containerFactory = "orderProcessingKafkaListenerContainerFactory"
+            containerFactory = "orderParallelProcessingKafkaListenerContainerFactory"
     )
-    @Transactional
     public void handleOrderProcessingEvent(
-            @Payload OrderProcessingEvent event,
-            Acknowledgment acknowledgment) {
+            ConsumerRecord<String, OrderProcessingEvent> record,
+            Acknowledgment acknowledgment) throws InterruptedException {
+        OrderProcessingEvent event = record.value();
+        orderKeyedExecutor.submit(event.getOrderId(),
+                () -> processOrderEvent(event, record, acknowledgment, true));
+    }
+
+    /**
+     * 주문 재시도 이벤트 리스너 (지연 단계 토픽)
+     * 발행 시각 + 단계별 지연 시간이 되기 전이면 해당 파티션만 멈추고 되감는다. (리스너 스레드를 재우지 않음)
+     */
+    @KafkaListener(
+            id = ORDER_RETRY_LISTENER_ID,
+            topics = {
+                    OrderEventProducer.ORDER_RETRY_TIER1_TOPIC,
+                    OrderEventProducer.ORDER_RETRY_TIER2_TOPIC,
+                    OrderEventProducer.ORDER_RETRY_TIER3_TOPIC,
+                    OrderEventProducer.ORDER_RETRY_TOPIC
+            },
+            groupId = "order-retry-group",
+            containerFactory = "orderProcessingKafkaListenerContainerFactory"
+    )
+    public void handleOrderRetryEvent(
+            ConsumerRecord<String, OrderProcessingEvent> record,
+            Acknowledgment acknowledgment,
+            Consumer<?, ?> consumer) {
+
+        OrderProcessingEvent event = record.value();
+        long dueAt = record.timestamp() + orderEventProducer.getRetryDelayMs(event.getRetryCount());
+        if (orderRetryDelayScheduler.deferIfNotDue(ORDER_RETRY_LISTENER_ID, record, consumer, dueAt)) {
+            return;
+        }
+
+        log.info("주문 재시도 처리: 주문ID={}, 재시도횟수={}, 토픽={}",
+                event.getOrderId(), event.getRetryCount(), record.topic());
+
+        // 주문 재처리 (다시 실패하면 다음 단계 토픽 또는 DLT로 이동)
+        processOrderEvent(event, record, acknowledgment, false);
+    }
+
+    /**
+     * 주문 처리 공통 로직
+     *
+     * @param parallel 워커 스레드에서 실행 중인지 여부 (nack 불가, ACK 순서 무관)
+     */
+    private void processOrderEvent(OrderProcessingEvent event,
+                                   ConsumerRecord<String, OrderProcessingEvent> record,
+                                   Acknowledgment acknowledgment,
+                                   boolean parallel) {
 
         Instant start = Instant.now();
+        IdempotencyClaim claim = null;
 
         try {
             log.info("주문 처리 이벤트 수신: 주문ID={}, 이벤트ID={}",
                     event.getOrderId(), event.getEventId());
 
-            // 1. 멱등성 검사 - 이미 처리된 주문인지 확인
-            if (isOrderAlreadyProcessed(event.getOrderId())) {
+            // 1. 멱등성 검사 - 주문 ID 단위로 처리 권한 선점 (완료 기록이 있으면 DB 조회 없이 종료)
+            claim = idempotencyKeyStore.claim(IDEMPOTENCY_SCOPE, String.valueOf(event.getOrderId()));
+            if (claim.isCompleted()) {
                 log.warn("이미 처리된 주문 요청 - 중복 처리 방지: 주문ID={}", event.getOrderId());
                 acknowledgment.acknowledge();
                 return;
             }
+            if (claim.isInProgress()) {
+                // 다른 컨슈머가 같은 주문을 처리 중: 재시도 단계로 넘겨 나중에 완료 여부를 다시 확인
+                throw new DuplicateRequestException("같은 주문을 처리 중입니다. 주문ID: " + event.getOrderId());
+            }
 
             // 2. 주문 및 사용자 정보 조회
             Order order = orderRepository.findById(event.getOrderId())
                     .orElseThrow(() -> new IllegalArgumentException(
                             "주문을 찾을 수 없습니다. 주문ID: " + event.getOrderId()));
 
+            // 완료 기록이 만료/유실된 경우를 위한 상태 확인 (PENDING_PAYMENT가 아니면 이미 처리된 것으로 간주)
+            if (order.getStatus() != OrderStatus.PENDING_PAYMENT) {
+                log.warn("이미 처리된 주문 요청 - 중복 처리 방지: 주문ID={}, 상태={}", event.getOrderId(), order.getStatus());
+                idempotencyKeyStore.complete(claim, order.getStatus().name());
+                acknowledgment.acknowledge();
+                return;
+            }
+
             User user = userQueryService.findByEmail(event.getUserEmail());
 
             // 3. 권한 확인
@@ -89,8 +176,10 @@ public class OrderEventConsumer {
                 throw new IllegalArgumentException("주문과 사용자 정보가 일치하지 않습니다.");
             }
 
-            // 4. 전체 주문 처리 수행 (하나의 트랜잭션)
+            // 4. 전체 주문 처리 수행 (결제 후 주문 트랜잭션)
             processCompleteOrder(order, user, event.getRequestDto());
+            idempotencyKeyStore.complete(claim, OrderStatus.PAYMENT_COMPLETED.name());
+            claim = null; // 완료 기록 이후 오류로 반납되지 않도록 함
 
             // 5. 성공 알림 전송
             sendSuccessNotification(event.getOrderId(), event.getUserEmail());
@@ -105,78 +194,41 @@ public class OrderEventConsumer {
 
         } catch (Exception e) {
             log.error("주문 처리 실패: 주문ID={}, 오류={}", event.getOrderId(), e.getMessage(), e);
-            handleOrderProcessingFailure(event, e, acknowledgment);
+            if (claim != null) {
+                // 재시도 시 다시 처리할 수 있도록 처리 권한 반납
+                idempotencyKeyStore.release(claim);
+            }
+            handleOrderProcessingFailure(event, e, record, acknowledgment, parallel);
         }
     }
 
     /**
-     * 주문 재시도 이벤트 리스너
+     * 전체 주문 처리 수행
+     * 결제는 트랜잭션 밖에서 처리하고, 결제 성공 후 배송/상태 변경은 하나의 트랜잭션으로 처리
      */
-    @KafkaListener(
-            topics = "order-retry-topic",
-            groupId = "order-retry-group",
-            containerFactory = "orderProcessingKafkaListenerContainerFactory"
-    )
-    @Transactional
-    public void handleOrderRetryEvent(
-            @Payload OrderProcessingEvent event,
-            Acknowledgment acknowledgment) {
-
-        try {
-            log.info("주문 재시도 처리: 주문ID={}, 재시도횟수={}",
-                    event.getOrderId(), event.getRetryCount());
-
-            if (event.isMaxRetryExceeded()) {
-                log.error("최대 재시도 횟수 초과: 주문ID={}, 재시도횟수={}",
-                        event.getOrderId(), event.getRetryCount());
-
-                // 최종 실패 알림
-                sendFailureNotification(event.getOrderId(), event.getUserEmail(), "최대 재시도 횟수 초과");
-                acknowledgment.acknowledge();
-                return;
-            }
+    private void processCompleteOrder(Order order, User user, PayAndShipmentRequestDto requestDto) {
+        log.info("전체 주문 처리 시작: 주문ID={}", order.getId());
 
-            // 멱등성 재확인
-            if (isOrderAlreadyProcessed(event.getOrderId())) {
-                log.info("재시도 중 주문 완료 확인: 주문ID={}", event.getOrderId());
-                acknowledgment.acknowledge();
-                return;
-            }
+        // 1. 결제 처리 (포트원 호출 동안 커넥션을 잡지 않음)
+        Payment payment = paymentCommandService.processPayment(order, user, requestDto.getPaymentRequest());
 
-            // 재시도 지연 (백오프 전략)
-            Thread.sleep(Math.min(1000 * event.getRetryCount(), 5000));
+        if (!payment.isSuccess()) {
+            throw new RuntimeException("결제 실패: " + payment.getStatus());
+        }
 
-            // 주문 재처리
-            handleOrderProcessingEvent(event, acknowledgment);
+        log.info("결제 처리 완료: 주문ID={}, 결제ID={}", order.getId(), payment.getId());
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("주문 재시도 중 인터럽트 발생: 주문ID={}", event.getOrderId());
-            acknowledgment.acknowledge();
-        } catch (Exception e) {
-            log.error("주문 재시도 처리 중 오류: 주문ID={}, 오류={}",
-                    event.getOrderId(), e.getMessage(), e);
-            acknowledgment.acknowledge();
-        }
+        transactionTemplate.executeWithoutResult(status ->
+                completeOrderAfterPayment(order.getId(), requestDto));
     }
 
     /**
-     * 전체 주문 처리 수행 (하나의 트랜잭션)
+     * 결제 완료 후 주문 처리 (하나의 트랜잭션)
      */
-    private void processCompleteOrder(Order order, User user, PayAndShipmentRequestDto requestDto) {
+    private void completeOrderAfterPayment(Long orderId, PayAndShipmentRequestDto requestDto) {
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다. 주문ID: " + orderId));
         try {
-            log.info("전체 주문 처리 시작: 주문ID={}", order.getId());
-
-            // 1. 결제 처리
-            Payment payment = paymentCommandService.processPayment(order, user, requestDto.getPaymentRequest());
-            order.assignPayment(payment);
-
-            if (!payment.isSuccess()) {
-                throw new RuntimeException("결제 실패: " + payment.getStatus());
-            }
-
-            log.info("결제 처리 완료: 주문ID={}, 결제ID={}", order.getId(), payment.getId());
-
             // 2. 배송 정보 생성
             OrderShipment shipment = orderShipmentCommandService.createOrderShipment(
                     order,
@@ -196,7 +248,7 @@ public class OrderEventConsumer {
 
             if (requestDto.isWarehouseStorage()) {
                 // 창고 보관일 경우
-                WarehouseStorage warehouseStorage = warehouseStorageCommandService.createOrderStorage(order, user);
+                WarehouseStorage warehouseStorage = warehouseStorageCommandService.createOrderStorage(order, order.getUser());
                 order.assignWarehouseStorage(warehouseStorage);
 
                 // 상태 전환 검증
@@ -230,45 +282,97 @@ public class OrderEventConsumer {
     }
 
     /**
-     * 주문이 이미 처리되었는지 확인 (멱등성 보장)
+     * 주문 처리 실패 처리
+     * 재시도 가능하면 다음 지연 단계 토픽으로, 재시도 불가이거나 횟수를 다 쓰면 DLT로 보낸다.
+     * 넘기기에 실패하면 유실되지 않도록 다시 시도한다.
+     * - 리스너 스레드: ACK 하지 않고 잠시 뒤 같은 레코드를 다시 받음 (nack)
+     * - 워커 스레드: nack을 쓸 수 없고 ACK 하지 않으면 컨슈머가 계속 멈춰 있으므로, 해당 주문 작업 안에서 간격을 늘려가며 재발행하고,
+     *   그래도 실패하면 원래 경로와 관계없이 DLT로 보낸다. (재처리 대상으로 남김)
      */
-    private boolean isOrderAlreadyProcessed(Long orderId) {
-        try {
-            Order order = orderRepository.findById(orderId).orElse(null);
-            if (order == null) {
-                return false;
+    private void handleOrderProcessingFailure(OrderProcessingEvent event, Exception error,
+                                              ConsumerRecord<String, OrderProcessingEvent> record,
+                                              Acknowledgment acknowledgment, boolean parallel) {
+        int maxAttempts = parallel ? HANDOFF_MAX_ATTEMPTS : 1;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                handOffFailedEvent(event, error, record);
+                acknowledgment.acknowledge();
+                return;
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("주문 처리 실패 이벤트 발행 중 인터럽트: 주문ID={}", event.getOrderId());
+                break;
+            } catch (Exception e) {
+                log.error("주문 처리 실패 이벤트 발행 실패: 주문ID={}, 시도={}/{}, 오류={}",
+                        event.getOrderId(), attempt, maxAttempts, e.getMessage(), e);
+                if (attempt < maxAttempts && !sleepBeforeHandOffRetry(attempt)) {
+                    break;
+                }
             }
+        }
 
-            // PENDING_PAYMENT 상태가 아니면 이미 처리된 것으로 간주
-            OrderStatus currentStatus = order.getStatus();
-            return currentStatus != OrderStatus.PENDING_PAYMENT;
+        if (!parallel) {
+            acknowledgment.nack(Duration.ofMillis(handOffRetryDelayMs));
+            return;
+        }
 
-        } catch (Exception e) {
-            log.error("주문 중복 검사 중 오류 발생: 주문ID={}, 오류={}", orderId, e.getMessage(), e);
-            return false;
+        if (!sendHandOffFailureToDeadLetter(event, error, record)) {
+            // DLT도 받지 못하면 더 붙잡을수록 파티션 커밋이 멈추므로 원본을 로그로 남기고 넘어감 (수동 재처리 대상)
+            log.error("주문 처리 실패 이벤트 발행 최종 실패, 수동 재처리 필요: 주문ID={}, 원본={}-{}@{}, 이벤트={}",
+                    event.getOrderId(), record.topic(), record.partition(), record.offset(), event);
         }
+        acknowledgment.acknowledge();
     }
 
     /**
-     * 주문 처리 실패 처리
+     * 재시도 단계/DLT 발행을 다 소진한 워커 스레드 실패 건을 DLT로 보낸다. (사유: HANDOFF_FAILED)
+     *
+     * @return DLT 발행이 확인되면 true
      */
-    private void handleOrderProcessingFailure(OrderProcessingEvent event, Exception error, Acknowledgment acknowledgment) {
+    private boolean sendHandOffFailureToDeadLetter(OrderProcessingEvent event, Exception error,
+                                                   ConsumerRecord<String, OrderProcessingEvent> record) {
         try {
-            // 재시도 가능한 오류인지 판단
-            if (isRetryableError(error)) {
-                log.info("재시도 가능한 오류로 재시도 이벤트 발행: 주문ID={}", event.getOrderId());
-                orderEventProducer.sendOrderRetryEvent(event);
-            } else {
-                log.error("재시도 불가능한 오류로 주문 처리 실패: 주문ID={}, 오류={}",
-                        event.getOrderId(), error.getMessage());
-                sendFailureNotification(event.getOrderId(), event.getUserEmail(), error.getMessage());
-            }
+            orderEventProducer.sendOrderDeadLetterEvent(event, error, record, DLT_REASON_HANDOFF_FAILED)
+                    .get(HANDOFF_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            log.warn("주문 처리 실패 이벤트 재발행 실패로 DLT 이동: 주문ID={}", event.getOrderId());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("주문 처리 실패 이벤트 DLT 발행 실패: 주문ID={}, 오류={}", event.getOrderId(), e.getMessage(), e);
+        }
+        return false;
+    }
 
-            acknowledgment.acknowledge();
+    /**
+     * 실패한 주문을 다음 재시도 단계 또는 DLT로 넘긴다. (발행 확인까지 대기)
+     */
+    private void handOffFailedEvent(OrderProcessingEvent event, Exception error,
+                                    ConsumerRecord<String, OrderProcessingEvent> record) throws Exception {
+        boolean retryable = isRetryableError(error);
+        if (retryable && !event.isMaxRetryExceeded()) {
+            log.info("재시도 가능한 오류로 재시도 이벤트 발행: 주문ID={}", event.getOrderId());
+            orderEventProducer.sendOrderRetryEvent(event).get(HANDOFF_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return;
+        }
 
-        } catch (Exception e) {
-            log.error("주문 처리 실패 처리 중 오류: 주문ID={}, 오류={}", event.getOrderId(), e.getMessage(), e);
-            acknowledgment.acknowledge();
+        String reason = retryable ? DLT_REASON_RETRY_EXHAUSTED : DLT_REASON_NON_RETRYABLE;
+        log.error("주문 처리 최종 실패: 주문ID={}, 사유={}, 오류={}",
+                event.getOrderId(), reason, error.getMessage());
+        orderEventProducer.sendOrderDeadLetterEvent(event, error, record, reason)
+                .get(HANDOFF_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        sendFailureNotification(event.getOrderId(), event.getUserEmail(),
+                retryable ? "최대 재시도 횟수 초과" : error.getMessage());
+    }
+
+    private boolean sleepBeforeHandOffRetry(int attempt) {
+        try {
+            Thread.sleep(handOffRetryDelayMs << (attempt - 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
         }
     }
 
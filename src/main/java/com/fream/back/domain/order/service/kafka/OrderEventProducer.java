@@ -4,10 +4,17 @@ import com.fream.back.domain.order.dto.PayAndShipmentRequestDto;
 import com.fream.back.domain.order.dto.kafka.OrderProcessingEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -21,8 +28,24 @@ public class OrderEventProducer {
 
     private final KafkaTemplate<String, OrderProcessingEvent> kafkaTemplate;
 
-    private static final String ORDER_PROCESSING_TOPIC = "order-processing-topic";
-    private static final String ORDER_RETRY_TOPIC = "order-retry-topic";
+    public static final String ORDER_PROCESSING_TOPIC = "order-processing-topic";
+    // 이전 단일 재시도 토픽 (배포 전 발행분 소진용으로만 구독)
+    public static final String ORDER_RETRY_TOPIC = "order-retry-topic";
+    // 재시도 횟수별 지연 단계 토픽 (1회차 → tier1, 2회차 → tier2, 3회차 이상 → tier3)
+    public static final String ORDER_RETRY_TIER1_TOPIC = "order-retry-tier1-topic";
+    public static final String ORDER_RETRY_TIER2_TOPIC = "order-retry-tier2-topic";
+    public static final String ORDER_RETRY_TIER3_TOPIC = "order-retry-tier3-topic";
+    public static final String ORDER_DLT_TOPIC = "order-dlt-topic";
+
+    // DLT 실패 사유 헤더 (RETRY_EXHAUSTED / NON_RETRYABLE / HANDOFF_FAILED)
+    public static final String DLT_REASON_HEADER = "order-dlt-reason";
+
+    private static final List<String> RETRY_TIER_TOPICS =
+            List.of(ORDER_RETRY_TIER1_TOPIC, ORDER_RETRY_TIER2_TOPIC, ORDER_RETRY_TIER3_TOPIC);
+
+    // 단계별 지연 시간 (tier1, tier2, tier3)
+    @Value("${spring.kafka.order.retry.delays-ms:1000,5000,30000}")
+    private List<Long> retryDelaysMs;
 
     /**
      * 주문 처리 이벤트 발행
@@ -61,36 +84,92 @@ public class OrderEventProducer {
 
     /**
      * 주문 처리 재시도 이벤트 발행
+     * 재시도 횟수에 맞는 지연 단계 토픽으로 보내며, 소비 측은 처리 시각이 될 때까지 해당 파티션만 멈춘다.
+     *
+     * @param originalEvent 실패한 이벤트
+     * @return 발행 결과 (최대 재시도 초과 시 발행하지 않고 null로 완료)
      */
-    public void sendOrderRetryEvent(OrderProcessingEvent originalEvent) {
-        try {
-            if (originalEvent.isMaxRetryExceeded()) {
-                log.warn("최대 재시도 횟수 초과로 재시도 중단: 주문ID={}, 재시도횟수={}",
-                        originalEvent.getOrderId(), originalEvent.getRetryCount());
-                return;
-            }
-
-            OrderProcessingEvent retryEvent = originalEvent.withRetry();
+    public CompletableFuture<SendResult<String, OrderProcessingEvent>> sendOrderRetryEvent(OrderProcessingEvent originalEvent) {
+        if (originalEvent.isMaxRetryExceeded()) {
+            log.warn("최대 재시도 횟수 초과로 재시도 중단: 주문ID={}, 재시도횟수={}",
+                    originalEvent.getOrderId(), originalEvent.getRetryCount());
+            return CompletableFuture.completedFuture(null);
+        }
 
-            log.info("주문 처리 재시도 이벤트 발행: 주문ID={}, 재시도횟수={}",
-                    retryEvent.getOrderId(), retryEvent.getRetryCount());
+        OrderProcessingEvent retryEvent = originalEvent.withRetry();
+        String topic = getRetryTopic(retryEvent.getRetryCount());
+
+        log.info("주문 처리 재시도 이벤트 발행: 주문ID={}, 재시도횟수={}, 토픽={}, 지연={}ms",
+                retryEvent.getOrderId(), retryEvent.getRetryCount(), topic, getRetryDelayMs(retryEvent.getRetryCount()));
+
+        return kafkaTemplate.send(topic, retryEvent.getOrderId().toString(), retryEvent)
+                .whenComplete((result, ex) -> {
+                    if (ex == null) {
+                        log.info("주문 처리 재시도 이벤트 발행 성공: 주문ID={}", retryEvent.getOrderId());
+                    } else {
+                        log.error("주문 처리 재시도 이벤트 발행 실패: 주문ID={}, 오류={}",
+                                retryEvent.getOrderId(), ex.getMessage(), ex);
+                    }
+                });
+    }
 
-            CompletableFuture<SendResult<String, OrderProcessingEvent>> future =
-                    kafkaTemplate.send(ORDER_RETRY_TOPIC, retryEvent.getOrderId().toString(), retryEvent);
+    /**
+     * 주문 처리 최종 실패 이벤트를 DLT로 발행
+     * 원본 위치와 예외 정보를 헤더로 남겨 원인 분석 및 수동 재처리에 사용한다.
+     *
+     * @param event 실패한 이벤트
+     * @param error 마지막 실패 원인
+     * @param source 실패한 원본 레코드
+     * @param reason 실패 사유 (RETRY_EXHAUSTED / NON_RETRYABLE / HANDOFF_FAILED)
+     * @return 발행 결과
+     */
+    public CompletableFuture<SendResult<String, OrderProcessingEvent>> sendOrderDeadLetterEvent(
+            OrderProcessingEvent event, Throwable error, ConsumerRecord<?, ?> source, String reason) {
+        ProducerRecord<String, OrderProcessingEvent> record =
+                new ProducerRecord<>(ORDER_DLT_TOPIC, event.getOrderId().toString(), event);
+        Headers headers = record.headers();
+        headers.add(KafkaHeaders.DLT_ORIGINAL_TOPIC, bytes(source.topic()));
+        headers.add(KafkaHeaders.DLT_ORIGINAL_PARTITION, bytes(String.valueOf(source.partition())));
+        headers.add(KafkaHeaders.DLT_ORIGINAL_OFFSET, bytes(String.valueOf(source.offset())));
+        headers.add(KafkaHeaders.DLT_ORIGINAL_TIMESTAMP, bytes(String.valueOf(source.timestamp())));
+        headers.add(KafkaHeaders.DLT_EXCEPTION_FQCN, bytes(error.getClass().getName()));
+        headers.add(KafkaHeaders.DLT_EXCEPTION_MESSAGE, bytes(String.valueOf(error.getMessage())));
+        headers.add(DLT_REASON_HEADER, bytes(reason));
+
+        log.warn("주문 처리 DLT 발행: 주문ID={}, 재시도횟수={}, 사유={}, 원본={}-{}@{}",
+                event.getOrderId(), event.getRetryCount(), reason, source.topic(), source.partition(), source.offset());
+
+        return kafkaTemplate.send(record)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error("주문 처리 DLT 발행 실패: 주문ID={}, 오류={}", event.getOrderId(), ex.getMessage(), ex);
+                    }
+                });
+    }
 
-            future.whenComplete((result, ex) -> {
-                if (ex == null) {
-                    log.info("주문 처리 재시도 이벤트 발행 성공: 주문ID={}", retryEvent.getOrderId());
-                } else {
-                    log.error("주문 처리 재시도 이벤트 발행 실패: 주문ID={}, 오류={}",
-                            retryEvent.getOrderId(), ex.getMessage(), ex);
-                }
-            });
+    /**
+     * 재시도 회차에 해당하는 지연 단계 토픽
+     */
+    public String getRetryTopic(int retryCount) {
+        return RETRY_TIER_TOPICS.get(tierIndex(retryCount, RETRY_TIER_TOPICS.size()));
+    }
 
-        } catch (Exception e) {
-            log.error("주문 처리 재시도 이벤트 발행 중 오류 발생: 주문ID={}, 오류={}",
-                    originalEvent.getOrderId(), e.getMessage(), e);
+    /**
+     * 재시도 회차에 해당하는 지연 시간 (발행 시각 기준)
+     */
+    public long getRetryDelayMs(int retryCount) {
+        if (retryDelaysMs.isEmpty()) {
+            return 0;
         }
+        return retryDelaysMs.get(tierIndex(retryCount, retryDelaysMs.size()));
+    }
+
+    private static int tierIndex(int retryCount, int size) {
+        return Math.min(Math.max(retryCount, 1), size) - 1;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
     }
 
     /**
@@ -0,0 +1,123 @@
+package com.fream.back.domain.order.service.kafka;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 주문 ID 단위 순서를 지키는 병렬 실행기
+ *
+ * 서로 다른 주문은 워커 풀에서 동시에 처리하고, 같은 주문 ID의 작업은 앞 작업이 끝난 뒤에 이어서 실행한다.
+ * 동시에 진행 중인 작업 수는 max-in-flight로 제한하며, 한도에 닿으면 제출한 스레드(리스너)가 기다린다.
+ */
+@Slf4j
+@Component
+public class OrderKeyedExecutor {
+
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+    private final ThreadPoolExecutor executor;
+    // 주문 ID별 마지막으로 등록된 작업 (체인의 꼬리)
+    private final Map<Long, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    public OrderKeyedExecutor(
+            @Value("${spring.kafka.order.processing.parallel.workers:16}") int workers,
+            @Value("${spring.kafka.order.processing.parallel.max-in-flight:64}") int maxInFlight) {
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.inFlight = new Semaphore(this.maxInFlight);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        // 진행 중 작업 수는 세마포어로 제한하므로 큐는 제한하지 않음 (거절 없음)
+        this.executor = new ThreadPoolExecutor(
+                workers, workers, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread t = new Thread(r, "order-worker-" + threadIndex.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        log.info("주문 병렬 처리 실행기 구성: workers={}, maxInFlight={}", workers, this.maxInFlight);
+    }
+
+    /**
+     * 주문 작업을 제출합니다. 같은 주문 ID의 앞 작업이 있으면 그 뒤에 실행됩니다.
+     *
+     * @param orderId 순서 키 (주문 ID)
+     * @param task 실행할 작업 (예외는 로그만 남김)
+     * @throws InterruptedException 한도 대기 중 인터럽트된 경우
+     */
+    public void submit(Long orderId, Runnable task) throws InterruptedException {
+        inFlight.acquire();
+
+        AtomicReference<CompletableFuture<Void>> submitted = new AtomicReference<>();
+        tails.compute(orderId, (key, previous) -> {
+            CompletableFuture<Void> base = previous == null
+                    ? CompletableFuture.completedFuture(null)
+                    : previous.exceptionally(e -> null);
+            submitted.set(base.thenRunAsync(() -> run(orderId, task), executor));
+            return submitted.get();
+        });
+
+        CompletableFuture<Void> next = submitted.get();
+        next.whenComplete((result, error) -> {
+            // 뒤에 이어진 작업이 없을 때만 제거
+            tails.remove(orderId, next);
+            inFlight.release();
+        });
+    }
+
+    /**
+     * 진행 중인 작업이 모두 끝날 때까지 기다립니다. (리밸런스로 파티션을 넘기기 전에 사용)
+     *
+     * @param timeoutMs 최대 대기 시간
+     * @return 제한 시간 안에 모두 끝났으면 true
+     */
+    public boolean awaitIdle(long timeoutMs) {
+        try {
+            if (inFlight.tryAcquire(maxInFlight, timeoutMs, TimeUnit.MILLISECONDS)) {
+                inFlight.release(maxInFlight);
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.warn("주문 병렬 처리 작업 대기 시간 초과: 진행 중={}건", maxInFlight - inFlight.availablePermits());
+        return false;
+    }
+
+    public int getInFlightCount() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run(Long orderId, Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("주문 병렬 처리 작업 실패: 주문ID={}, 오류={}", orderId, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.fream.back.domain.order.service.kafka;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지연 재시도 토픽용 파티션 일시정지/재개 스케줄러
+ *
+ * 처리 시각 전인 레코드를 받으면 리스너 스레드를 재우지 않고 해당 파티션만 멈춘 뒤 그 오프셋으로 되감고,
+ * 처리 시각에 파티션을 재개한다. 컨슈머는 계속 poll 하므로 리밸런스가 일어나지 않고 다른 파티션은 그대로 처리된다.
+ * 같은 토픽 안에서는 지연 시간이 같아 뒤 레코드가 앞 레코드보다 먼저 처리 시각이 되는 일이 없다.
+ * 파티션이 리밸런스로 회수/할당되면 되감기 기록을 지워, 다시 받은 파티션의 레코드를 건너뛰거나 남의 파티션을 재개하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderRetryDelayScheduler {
+
+    private final KafkaListenerEndpointRegistry registry;
+
+    // 되감은 파티션별 오프셋. 같은 poll 묶음의 뒤 레코드는 이 오프셋부터 다시 받으므로 건너뛴다.
+    private final Map<TopicPartition, Rewind> rewinds = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService resumer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "order-retry-resumer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /**
+     * 레코드가 처리 시각 전이면 파티션을 멈추고 되감습니다.
+     * 리스너 스레드(컨슈머 스레드)에서 호출해야 합니다.
+     *
+     * @param listenerId 리스너 컨테이너 ID
+     * @param record 받은 레코드
+     * @param consumer 레코드를 받은 컨슈머
+     * @param dueAt 처리 시각 (epoch ms)
+     * @return true면 지금 처리하지 않음 (ACK 하지 말 것)
+     */
+    public boolean deferIfNotDue(String listenerId, ConsumerRecord<?, ?> record, Consumer<?, ?> consumer, long dueAt) {
+        TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+
+        Rewind rewind = rewinds.get(partition);
+        if (rewind != null) {
+            if (record.offset() > rewind.offset()) {
+                return true;
+            }
+            // 되감은 레코드가 다시 도착 (또는 그 이전부터 다시 받음)
+            rewinds.remove(partition);
+        }
+
+        long delayMs = dueAt - System.currentTimeMillis();
+        if (delayMs <= 0) {
+            return false;
+        }
+
+        MessageListenerContainer container = registry.getListenerContainer(listenerId);
+        if (container == null) {
+            log.error("재시도 리스너 컨테이너를 찾을 수 없어 지연 없이 처리: listenerId={}", listenerId);
+            return false;
+        }
+
+        Rewind newRewind = new Rewind(record.offset(), container);
+        rewinds.put(partition, newRewind);
+        consumer.seek(partition, record.offset());
+        container.pausePartition(partition);
+        resumer.schedule(() -> resumeIfStillRewound(partition, newRewind), delayMs, TimeUnit.MILLISECONDS);
+
+        log.debug("재시도 파티션 일시정지: {}@{}, {}ms 후 재개", partition, record.offset(), delayMs);
+        return true;
+    }
+
+    /**
+     * 리밸런스로 회수되기 직전(커밋 전)의 파티션 처리. 리스너 컨테이너의 리밸런스 리스너에서 호출합니다.
+     * 되감기 기록을 지우고 일시정지 요청을 풀어, 나중에 다시 할당받았을 때 계속 멈춰 있지 않게 합니다.
+     * (새 소유자는 커밋된 오프셋부터 읽으므로 되감은 위치는 더 이상 의미가 없음)
+     */
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        for (TopicPartition partition : partitions) {
+            Rewind rewind = rewinds.remove(partition);
+            if (rewind != null) {
+                resume(rewind.container(), partition);
+                log.debug("회수된 재시도 파티션의 되감기 해제: {}@{}", partition, rewind.offset());
+            }
+        }
+    }
+
+    /**
+     * 새로 할당된 파티션 처리. 이전 소유 시절의 되감기 기록이 남아 있으면 지웁니다.
+     * (다른 인스턴스가 그 사이 되감은 오프셋 뒤까지 커밋했다면, 남은 기록 때문에 모든 레코드를 건너뛰게 됨)
+     */
+    public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+        for (TopicPartition partition : partitions) {
+            if (rewinds.remove(partition) != null) {
+                log.debug("할당된 재시도 파티션의 이전 되감기 기록 삭제: {}", partition);
+            }
+        }
+    }
+
+    // 예약된 재개 시점에 같은 되감기가 아직 유효할 때만 재개 (그 사이 회수/재할당됐으면 무시)
+    private void resumeIfStillRewound(TopicPartition partition, Rewind rewind) {
+        if (rewinds.get(partition) == rewind) {
+            resume(rewind.container(), partition);
+        }
+    }
+
+    private void resume(MessageListenerContainer container, TopicPartition partition) {
+        try {
+            container.resumePartition(partition);
+            log.debug("재시도 파티션 재개: {}", partition);
+        } catch (Exception e) {
+            log.error("재시도 파티션 재개 실패: {}, 오류={}", partition, e.getMessage(), e);
+        }
+    }
+
+    private record Rewind(long offset, MessageListenerContainer container) {
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        resumer.shutdownNow();
+    }
+}
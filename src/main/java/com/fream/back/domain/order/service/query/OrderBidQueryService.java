@@ -2,11 +2,16 @@ package com.fream.back.domain.order.service.query;
 
 import com.fream.back.domain.order.dto.OrderBidResponseDto;
 import com.fream.back.domain.order.dto.OrderBidStatusCountDto;
+import com.fream.back.domain.order.dto.TradeStatusCountDto;
 import com.fream.back.domain.order.entity.OrderBid;
 import com.fream.back.domain.order.exception.InvalidOrderBidDataException;
 import com.fream.back.domain.order.exception.OrderBidAccessDeniedException;
 import com.fream.back.domain.order.exception.OrderBidNotFoundException;
 import com.fream.back.domain.order.repository.OrderBidRepository;
+import com.fream.back.domain.sale.service.query.SaleBidQueryService;
+import com.fream.back.domain.warehouseStorage.service.query.WarehouseStorageQueryService;
+import com.fream.back.global.dto.commonDto;
+import com.fream.back.global.utils.PageUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -14,6 +19,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -25,7 +31,11 @@ import java.util.Optional;
 @Slf4j
 public class OrderBidQueryService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final OrderBidRepository orderBidRepository;
+    private final SaleBidQueryService saleBidQueryService;
+    private final WarehouseStorageQueryService warehouseStorageQueryService;
 
     /**
      * ID로 주문 입찰을 조회합니다.
@@ -77,6 +87,40 @@ public class OrderBidQueryService {
         }
     }
 
+    /**
+     * 주문 입찰 목록을 키셋 커서로 조회합니다. (최신순)
+     *
+     * @param email 사용자 이메일
+     * @param bidStatus 입찰 상태
+     * @param orderStatus 주문 상태
+     * @param after 이전 페이지의 nextCursor (없으면 첫 페이지)
+     * @param size 페이지 크기 (최대 MAX_CURSOR_PAGE_SIZE)
+     * @param includeTotal 첫 페이지에서 전체 개수를 함께 조회할지 여부
+     * @return 주문 입찰 목록 (커서 페이징)
+     * @throws OrderBidAccessDeniedException 사용자 이메일이 유효하지 않을 경우
+     * @throws InvalidOrderBidDataException 조회 중 오류가 발생한 경우
+     */
+    public commonDto.CursorPageDto<OrderBidResponseDto> getOrderBidsByCursor(String email, String bidStatus, String orderStatus,
+                                                                             String after, int size, boolean includeTotal) {
+        validateEmail(email);
+        PageUtils.Cursor cursor = PageUtils.decodeCursor(after);
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        try {
+            List<OrderBidResponseDto> rows = orderBidRepository.findOrderBidsByFiltersAfter(
+                    email, bidStatus, orderStatus, cursor, pageSize + 1);
+            // 전체 개수는 첫 페이지에서만 (이후 페이지는 클라이언트가 첫 값을 유지)
+            Long total = includeTotal && cursor == null
+                    ? orderBidRepository.countOrderBidsByFilters(email, bidStatus, orderStatus)
+                    : null;
+            return PageUtils.toCursorPageDto(rows, pageSize,
+                    dto -> new PageUtils.Cursor(dto.getCreatedDate(), dto.getOrderBidId()), total);
+        } catch (Exception e) {
+            log.error("주문 입찰 커서 목록 조회 중 오류 발생: {}", e.getMessage(), e);
+            throw new InvalidOrderBidDataException("주문 입찰 목록 조회 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * 사용자의 주문 입찰 상태별 개수를 조회합니다.
      *
@@ -96,6 +140,29 @@ public class OrderBidQueryService {
         }
     }
 
+    /**
+     * 구매 입찰/판매 입찰/창고 보관 상태별 개수를 한 번에 조회합니다.
+     * 각 집계는 GROUP BY 쿼리 한 번이며, 같은 읽기 트랜잭션(커넥션) 안에서 이어서 실행됩니다.
+     *
+     * @param email 사용자 이메일
+     * @return 거래 대시보드 상태별 개수
+     * @throws OrderBidAccessDeniedException 사용자 이메일이 유효하지 않을 경우
+     * @throws InvalidOrderBidDataException 조회 중 오류가 발생한 경우
+     */
+    public TradeStatusCountDto getTradeStatusCounts(String email) {
+        validateEmail(email);
+
+        try {
+            return new TradeStatusCountDto(
+                    orderBidRepository.countOrderBidsByStatus(email),
+                    saleBidQueryService.getSaleBidStatusCounts(email),
+                    warehouseStorageQueryService.getWarehouseStatusCount(email));
+        } catch (Exception e) {
+            log.error("거래 대시보드 상태별 개수 조회 중 오류 발생: {}", e.getMessage(), e);
+            throw new InvalidOrderBidDataException("거래 상태별 개수 조회 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * 주문 입찰 상세 정보를 조회합니다.
      *
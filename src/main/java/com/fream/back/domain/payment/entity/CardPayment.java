@@ -1,5 +1,6 @@
 package com.fream.back.domain.payment.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.DiscriminatorValue;
 import jakarta.persistence.Entity;
 import lombok.Builder;
@@ -22,10 +23,13 @@ public class CardPayment extends Payment {
     private String pgProvider;        // PG사 이름
     private String pgTid;             // PG사 거래 ID
 
+    @Column(unique = true)
+    private String merchantUid;       // 가맹점 주문 번호 (포트원 요청 멱등 키)
+
     @Builder
     public CardPayment(String cardNumber, String cardPassword, String cardExpiration, String birthDate,
                        String cardType, double paidAmount, String impUid, String receiptUrl,
-                       String pgProvider, String pgTid) {
+                       String pgProvider, String pgTid, String merchantUid) {
         this.cardNumber = cardNumber;
         this.cardPassword = cardPassword;
         this.cardExpiration = cardExpiration;
@@ -35,8 +39,30 @@ public class CardPayment extends Payment {
         this.receiptUrl = receiptUrl;
         this.pgProvider = pgProvider;
         this.pgTid = pgTid;
+        this.merchantUid = merchantUid;
         this.setPaidAmount(paidAmount);
     }
+
+    /**
+     * 포트원 승인 결과 반영 후 결제 완료 처리
+     */
+    public void approve(String cardType, String impUid, String receiptUrl, String pgProvider, String pgTid) {
+        this.cardType = cardType;
+        this.impUid = impUid;
+        this.receiptUrl = receiptUrl;
+        this.pgProvider = pgProvider;
+        this.pgTid = pgTid;
+        updateStatus(PaymentStatus.PAID);
+        updateSuccessStatus(true);
+    }
+
+    /**
+     * 실패한 결제 건을 같은 가맹점 주문 번호로 다시 대기 상태로 전환
+     */
+    public void retry() {
+        updateStatus(PaymentStatus.PENDING);
+    }
+
     @Override
     public String getImpUid() {
         return this.impUid;
@@ -74,6 +74,10 @@ public abstract class Payment extends BaseTimeEntity {
             throw new IllegalStateException("결제 상태 전환이 허용되지 않습니다: " + this.status + " -> " + newStatus);
         }
     }
+    public void markFailed() {
+        updateStatus(PaymentStatus.FAILED);
+        this.isSuccess = false;
+    }
     // 하위 클래스에서 구현해야 하는 메서드
     public abstract String getImpUid();
 }
@@ -10,11 +10,13 @@ public enum PaymentStatus {
     public boolean canTransitionTo(PaymentStatus newStatus) {
         switch (this) {
             case PENDING:
-                return newStatus == PAID;
+                return newStatus == PAID || newStatus == FAILED;
             case PAID:
                 return newStatus == REFUND_REQUESTED || newStatus == REFUNDED;
             case REFUND_REQUESTED:
                 return newStatus == REFUNDED;
+            case FAILED:
+                return newStatus == PENDING; // 같은 결제 건으로 재시도
             default:
                 return false;
         }
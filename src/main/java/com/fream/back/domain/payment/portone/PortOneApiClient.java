@@ -12,21 +12,38 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
 import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * PortOne API 클라이언트
  * 외부 결제 API와의 통신 담당
+ *
+ * - 액세스 토큰은 만료 직전까지 캐시하고, 갱신이 필요하면 한 스레드만 발급 요청한다.
+ * - 모든 호출은 서킷 브레이커를 거친다. 장애가 이어지면 호출을 바로 거절한다.
+ * - *Async 메서드는 전용 워커 풀에서 실행되며 payment.api.timeout이 지나면 PaymentApiException으로 완료된다.
+ * - 호출을 그 자리에서 재시도하지 않는다. 결과를 모르는 결제를 다시 보내면 merchant_uid 중복으로 거절돼
+ *   승인된 결제가 실패로 기록될 수 있으므로, 결제 서비스가 merchant_uid 조회(대사) 후 이어서 처리한다.
  */
 @Service
 @RequiredArgsConstructor
@@ -39,6 +56,7 @@ public class PortOneApiClient {
     private static final String TOKEN_URL = "/users/getToken";
     private static final String ONE_TIME_PAYMENT_URL = "/subscribe/payments/onetime";
     private static final String CANCEL_PAYMENT_URL = "/payments/cancel";
+    private static final String FIND_BY_MERCHANT_UID_URL = "/payments/find/";
 
     @Value("${imp.key}")
     private String impKey;
@@ -55,23 +73,94 @@ public class PortOneApiClient {
     @Value("${payment.api.timeout:10000}")
     private int apiTimeout; // API 호출 타임아웃 (밀리초)
 
-    @Value("${payment.retry.max-attempts:3}")
-    private int maxRetryAttempts; // 최대 재시도 횟수
+    @Value("${payment.token.refresh-margin-seconds:60}")
+    private long tokenRefreshMarginSeconds; // 만료 몇 초 전에 토큰을 갱신할지
+
+    @Value("${payment.api.async.pool-size:8}")
+    private int asyncPoolSize; // 비동기 호출 워커 수
+
+    @Value("${payment.api.async.queue-capacity:100}")
+    private int asyncQueueCapacity; // 비동기 호출 대기열 크기
+
+    @Value("${payment.circuit-breaker.failure-rate-threshold:0.5}")
+    private double circuitFailureRateThreshold; // 서킷 오픈 실패율
+
+    @Value("${payment.circuit-breaker.minimum-calls:10}")
+    private int circuitMinimumCalls; // 실패율 판단에 필요한 최소 호출 수
+
+    @Value("${payment.circuit-breaker.window-ms:60000}")
+    private long circuitWindowMs; // 실패율 측정 구간
+
+    @Value("${payment.circuit-breaker.open-duration-ms:30000}")
+    private long circuitOpenDurationMs; // 서킷 오픈 유지 시간
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Object tokenLock = new Object();
+    private volatile CachedToken cachedToken;
+
+    private PortOneCircuitBreaker circuitBreaker;
+    private ThreadPoolExecutor asyncExecutor;
+
+    @PostConstruct
+    public void init() {
+        circuitBreaker = new PortOneCircuitBreaker(
+                circuitFailureRateThreshold, circuitMinimumCalls, circuitWindowMs, circuitOpenDurationMs);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        asyncExecutor = new ThreadPoolExecutor(
+                asyncPoolSize, asyncPoolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(asyncQueueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "portone-api-" + threadIndex.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        asyncExecutor.allowCoreThreadTimeOut(true);
+    }
 
-    @Value("${payment.retry.delay-ms:1000}")
-    private int retryDelayMs; // 재시도 간격 (밀리초)
+    @PreDestroy
+    public void shutdown() {
+        asyncExecutor.shutdown();
+    }
 
     /**
-     * PortOne API 액세스 토큰 발급
-     * @return 발급된 액세스 토큰
+     * PortOne API 액세스 토큰 조회
+     * 캐시된 토큰이 만료 직전이 아니면 그대로 사용하고, 갱신이 필요하면 한 스레드만 발급 요청한다.
+     * @return 액세스 토큰
      * @throws PaymentApiException 토큰 발급 실패 시
      */
-    @Retryable(
-            value = {PaymentApiException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000)
-    )
     public String getAccessToken() {
+        CachedToken token = cachedToken;
+        if (token != null && token.isUsable(tokenRefreshMarginSeconds)) {
+            return token.value();
+        }
+        synchronized (tokenLock) {
+            // 대기하는 동안 다른 스레드가 갱신했을 수 있다
+            token = cachedToken;
+            if (token != null && token.isUsable(tokenRefreshMarginSeconds)) {
+                return token.value();
+            }
+            token = issueAccessToken();
+            cachedToken = token;
+            return token.value();
+        }
+    }
+
+    /**
+     * 캐시된 토큰 폐기 (인증 실패 응답을 받은 경우)
+     */
+    public void invalidateAccessToken() {
+        cachedToken = null;
+    }
+
+    /**
+     * PortOne API 액세스 토큰 발급
+     * @return 발급된 액세스 토큰과 만료 시각
+     * @throws PaymentApiException 토큰 발급 실패 시
+     */
+    private CachedToken issueAccessToken() {
         Instant start = Instant.now();
         String url = BASE_URL + TOKEN_URL;
 
@@ -88,12 +177,11 @@ public class PortOneApiClient {
 
         try {
             // JSON 직렬화
-            ObjectMapper objectMapper = new ObjectMapper();
-            String jsonBody = objectMapper.writeValueAsString(requestBody);
+            String jsonBody = OBJECT_MAPPER.writeValueAsString(requestBody);
 
             HttpEntity<String> requestEntity = new HttpEntity<>(jsonBody, headers);
 
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, requestEntity, Map.class);
+            ResponseEntity<Map> response = exchange(url, HttpMethod.POST, requestEntity);
 
             if (response.getStatusCode() == HttpStatus.OK) {
                 Map<String, Object> responseBody = response.getBody();
@@ -104,14 +192,16 @@ public class PortOneApiClient {
                 }
 
                 String accessToken = (String) responseContent.get("access_token");
-                log.info("PortOne API 토큰 발급 성공: {}", accessToken.substring(0, Math.min(10, accessToken.length())) + "...");
+                long expiresAt = resolveTokenExpiry(responseContent);
+                log.info("PortOne API 토큰 발급 성공: {}, 만료={}",
+                        accessToken.substring(0, Math.min(10, accessToken.length())) + "...", Instant.ofEpochSecond(expiresAt));
 
                 // 처리 시간 로깅
                 Instant end = Instant.now();
                 Duration duration = Duration.between(start, end);
                 log.debug("PortOne API 토큰 발급 처리 시간: {}ms", duration.toMillis());
 
-                return accessToken; // 발급된 토큰 반환
+                return new CachedToken(accessToken, expiresAt); // 발급된 토큰 반환
             } else {
                 log.error("PortOne API 토큰 발급 실패: HTTP 상태 코드 {}", response.getStatusCodeValue());
                 throw new PaymentApiException("토큰 발급 실패: HTTP 상태 코드 " + response.getStatusCodeValue());
@@ -134,11 +224,6 @@ public class PortOneApiClient {
      * @return 결제 고유 ID
      * @throws PaymentProcessingException 결제 처리 실패 시
      */
-    @Retryable(
-            value = {PaymentApiException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000)
-    )
     public String requestTestPayment(PaymentInfoCreateDto dto) {
         Instant start = Instant.now();
         String url = BASE_URL + ONE_TIME_PAYMENT_URL;
@@ -173,15 +258,14 @@ public class PortOneApiClient {
 
         try {
             // JSON 직렬화
-            ObjectMapper objectMapper = new ObjectMapper();
-            String jsonBody = objectMapper.writeValueAsString(requestBody);
+            String jsonBody = OBJECT_MAPPER.writeValueAsString(requestBody);
 
             // 디버깅 로그
             log.debug("PortOne API 테스트 결제 요청 정보: URL={}, Headers={}", url, headers);
 
             HttpEntity<String> requestEntity = new HttpEntity<>(jsonBody, headers);
 
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, requestEntity, Map.class);
+            ResponseEntity<Map> response = exchange(url, HttpMethod.POST, requestEntity);
 
             // 응답 상태와 내용 로그 출력
             log.debug("PortOne API 테스트 결제 응답: 상태코드={}", response.getStatusCodeValue());
@@ -221,16 +305,24 @@ public class PortOneApiClient {
      * @return 결제 응답 정보 맵
      * @throws PaymentProcessingException 결제 처리 실패 시
      */
-    @Retryable(
-            value = {PaymentApiException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000)
-    )
     public Map<String, Object> processCardPayment(PaymentInfo paymentInfo, double amount) {
+        return processCardPayment(paymentInfo, amount, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 카드 결제 처리 (가맹점 주문 번호 지정)
+     * 같은 merchant_uid로는 한 번만 결제되므로, 결과를 모르는 요청을 같은 번호로 다시 보내도 이중 결제되지 않는다.
+     * @param paymentInfo 결제 정보 엔티티
+     * @param amount 결제 금액
+     * @param merchantUid 가맹점 주문 번호
+     * @return 결제 응답 정보 맵
+     * @throws PaymentProcessingException 결제 처리 실패 시
+     */
+    public Map<String, Object> processCardPayment(PaymentInfo paymentInfo, double amount, String merchantUid) {
         Instant start = Instant.now();
         String url = BASE_URL + ONE_TIME_PAYMENT_URL;
 
-        log.info("PortOne API 카드 결제 요청 시작: 금액={}", amount);
+        log.info("PortOne API 카드 결제 요청 시작: 금액={}, merchantUid={}", amount, merchantUid);
 
         // 입력값 검증
         validatePaymentInfo(paymentInfo, amount);
@@ -244,7 +336,7 @@ public class PortOneApiClient {
         }
 
         Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("merchant_uid", UUID.randomUUID().toString());
+        requestBody.put("merchant_uid", merchantUid);
         requestBody.put("pg", "nice");
         requestBody.put("method", "card"); // 결제 방식 설정 (수기결제/키인결제)
         requestBody.put("amount", amount);
@@ -259,11 +351,10 @@ public class PortOneApiClient {
         headers.setContentType(MediaType.APPLICATION_JSON);
 
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            String jsonBody = objectMapper.writeValueAsString(requestBody);
+            String jsonBody = OBJECT_MAPPER.writeValueAsString(requestBody);
 
             HttpEntity<String> requestEntity = new HttpEntity<>(jsonBody, headers);
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, requestEntity, Map.class);
+            ResponseEntity<Map> response = exchange(url, HttpMethod.POST, requestEntity);
 
             log.debug("PortOne API 카드 결제 응답: 상태코드={}", response.getStatusCodeValue());
 
@@ -294,17 +385,59 @@ public class PortOneApiClient {
         }
     }
 
+    /**
+     * 가맹점 주문 번호로 결제 조회
+     * 결과를 알 수 없는 결제 요청(타임아웃 등)의 실제 처리 여부를 대사할 때 사용
+     * @param merchantUid 가맹점 주문 번호
+     * @return 결제 정보 맵 (status: paid, ready, failed, cancelled), 포트원에 결제 건이 없으면 null
+     * @throws PaymentApiException 조회 실패 시
+     */
+    public Map<String, Object> findPaymentByMerchantUid(String merchantUid) {
+        Instant start = Instant.now();
+        String url = BASE_URL + FIND_BY_MERCHANT_UID_URL + merchantUid;
+
+        log.info("PortOne API 결제 조회 시작: merchantUid={}", merchantUid);
+
+        String accessToken = getAccessToken();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "Bearer " + accessToken);
+
+        try {
+            ResponseEntity<Map> response = exchange(url, HttpMethod.GET, new HttpEntity<>(headers));
+            Map<String, Object> responseBody = response.getBody();
+
+            if (response.getStatusCode() != HttpStatus.OK || responseBody == null
+                    || !Integer.valueOf(0).equals(responseBody.get("code"))) {
+                log.info("PortOne API 결제 조회 결과 없음: merchantUid={}", merchantUid);
+                return null;
+            }
+
+            Map<String, Object> paymentResponse = (Map<String, Object>) responseBody.get("response");
+            log.info("PortOne API 결제 조회 완료: merchantUid={}, 상태={}",
+                    merchantUid, paymentResponse != null ? paymentResponse.get("status") : null);
+
+            // 처리 시간 로깅
+            Instant end = Instant.now();
+            Duration duration = Duration.between(start, end);
+            log.debug("PortOne API 결제 조회 처리 시간: {}ms", duration.toMillis());
+
+            return paymentResponse;
+        } catch (HttpClientErrorException.NotFound e) {
+            log.info("PortOne API 결제 조회 결과 없음: merchantUid={}", merchantUid);
+            return null;
+        } catch (RestClientException e) {
+            log.error("PortOne API 통신 중 오류 발생: {}", e.getMessage(), e);
+            throw new PaymentApiException("결제 서비스 API 통신 중 오류가 발생했습니다.", e);
+        }
+    }
+
     /**
      * 결제 환불 처리
      * @param impUid 환불할 결제 고유 ID
      * @return 환불 성공 여부
      * @throws PaymentException 환불 처리 실패 시
      */
-    @Retryable(
-            value = {PaymentApiException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000)
-    )
     public boolean refundPayment(String impUid) {
         Instant start = Instant.now();
         String url = BASE_URL + CANCEL_PAYMENT_URL;
@@ -332,11 +465,10 @@ public class PortOneApiClient {
         headers.setContentType(MediaType.APPLICATION_JSON);
 
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            String jsonBody = objectMapper.writeValueAsString(requestBody);
+            String jsonBody = OBJECT_MAPPER.writeValueAsString(requestBody);
 
             HttpEntity<String> requestEntity = new HttpEntity<>(jsonBody, headers);
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, requestEntity, Map.class);
+            ResponseEntity<Map> response = exchange(url, HttpMethod.POST, requestEntity);
 
             log.debug("PortOne API 결제 환불 응답: 상태코드={}", response.getStatusCodeValue());
 
@@ -386,6 +518,114 @@ public class PortOneApiClient {
         return refundPayment(impUid); // 환불 메서드 재사용
     }
 
+    /**
+     * 카드 결제 처리 (비동기)
+     * @param paymentInfo 결제 정보 엔티티
+     * @param amount 결제 금액
+     * @param merchantUid 가맹점 주문 번호
+     * @return 결제 응답 정보 맵 Future
+     */
+    public CompletableFuture<Map<String, Object>> processCardPaymentAsync(PaymentInfo paymentInfo, double amount,
+                                                                          String merchantUid) {
+        return callAsync(() -> processCardPayment(paymentInfo, amount, merchantUid));
+    }
+
+    /**
+     * 가맹점 주문 번호로 결제 조회 (비동기)
+     * @param merchantUid 가맹점 주문 번호
+     * @return 결제 정보 맵 Future (결제 건이 없으면 null)
+     */
+    public CompletableFuture<Map<String, Object>> findPaymentByMerchantUidAsync(String merchantUid) {
+        return callAsync(() -> findPaymentByMerchantUid(merchantUid));
+    }
+
+    /**
+     * 결제 환불 처리 (비동기)
+     * @param impUid 환불할 결제 고유 ID
+     * @return 환불 성공 여부 Future
+     */
+    public CompletableFuture<Boolean> refundPaymentAsync(String impUid) {
+        return callAsync(() -> refundPayment(impUid));
+    }
+
+    /**
+     * 워커 풀에서 호출을 실행하고 타임아웃을 건다
+     * 실패 시 Future는 PaymentException(타임아웃·대기열 초과·서킷 오픈은 PaymentApiException)으로 완료된다.
+     */
+    private <T> CompletableFuture<T> callAsync(Supplier<T> call) {
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(call, asyncExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("PortOne API 비동기 호출 대기열 초과");
+            return CompletableFuture.failedFuture(new PaymentApiException("결제 서비스 요청이 많아 처리할 수 없습니다."));
+        }
+        return future
+                .orTimeout(apiTimeout, TimeUnit.MILLISECONDS)
+                .exceptionally(error -> {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    if (cause instanceof TimeoutException) {
+                        log.warn("PortOne API 비동기 호출 시간 초과: {}ms", apiTimeout);
+                        throw new CompletionException(new PaymentApiException("결제 서비스 응답 시간이 초과되었습니다."));
+                    }
+                    throw new CompletionException(cause);
+                });
+    }
+
+    /**
+     * 서킷 브레이커를 거쳐 PortOne API 호출
+     * 인증 실패(401) 응답이면 캐시된 토큰을 폐기해 다음 호출에서 새로 발급받게 한다.
+     */
+    private ResponseEntity<Map> exchange(String url, HttpMethod method, HttpEntity<?> requestEntity) {
+        if (!circuitBreaker.tryAcquire()) {
+            log.warn("PortOne 서킷 브레이커 오픈 상태 - 호출 거절: {}", url);
+            throw new PaymentApiException("결제 서비스 연동이 일시적으로 중단되었습니다. 잠시 후 다시 시도해주세요.");
+        }
+        try {
+            ResponseEntity<Map> response = restTemplate.exchange(url, method, requestEntity, Map.class);
+            circuitBreaker.recordSuccess();
+            return response;
+        } catch (HttpClientErrorException e) {
+            // 4xx는 서비스가 응답한 것이므로 장애로 보지 않는다
+            circuitBreaker.recordSuccess();
+            if (e.getStatusCode() == HttpStatus.UNAUTHORIZED) {
+                log.warn("PortOne API 인증 실패 - 캐시된 토큰 폐기");
+                invalidateAccessToken();
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            circuitBreaker.recordFailure();
+            throw e;
+        }
+    }
+
+    /**
+     * 토큰 만료 시각(epoch 초) 계산
+     * 응답의 expired_at을 서버 시각(now)과 로컬 시각 차이만큼 보정해 사용하고, 없으면 30분으로 본다.
+     */
+    private long resolveTokenExpiry(Map<String, Object> responseContent) {
+        long localNow = Instant.now().getEpochSecond();
+        Object expiredAt = responseContent.get("expired_at");
+        if (!(expiredAt instanceof Number)) {
+            return localNow + 1800;
+        }
+        Object serverNow = responseContent.get("now");
+        long remaining = serverNow instanceof Number
+                ? ((Number) expiredAt).longValue() - ((Number) serverNow).longValue()
+                : ((Number) expiredAt).longValue() - localNow;
+        return localNow + remaining;
+    }
+
+    /**
+     * 캐시된 액세스 토큰
+     */
+    private record CachedToken(String value, long expiresAtEpochSecond) {
+        boolean isUsable(long marginSeconds) {
+            return Instant.now().getEpochSecond() < expiresAtEpochSecond - marginSeconds;
+        }
+    }
+
     /**
      * 카드번호 마스킹 메서드
      * @param cardNumber 원본 카드번호
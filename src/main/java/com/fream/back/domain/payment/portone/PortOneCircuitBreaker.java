@@ -0,0 +1,117 @@
+package com.fream.back.domain.payment.portone;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.LongSupplier;
+
+/**
+ * PortOne API 서킷 브레이커
+ *
+ * 측정 구간(window) 동안 호출이 최소 횟수 이상이고 실패율이 기준을 넘으면 열려(OPEN) 호출을 바로 거절한다.
+ * 열린 뒤 일정 시간이 지나면 한 건만 시험 호출(HALF_OPEN)을 허용하고, 성공하면 닫히고 실패하면 다시 열린다.
+ * 실패는 통신 오류/5xx만 센다. 카드 거절 같은 업무 오류는 서비스가 살아 있다는 뜻이므로 성공으로 본다.
+ */
+@Slf4j
+class PortOneCircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long windowMs;
+    private final long openDurationMs;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private long windowStartedAt;
+    private int successCount;
+    private int failureCount;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    PortOneCircuitBreaker(double failureRateThreshold, int minimumCalls, long windowMs, long openDurationMs) {
+        this(failureRateThreshold, minimumCalls, windowMs, openDurationMs, System::currentTimeMillis);
+    }
+
+    PortOneCircuitBreaker(double failureRateThreshold, int minimumCalls, long windowMs, long openDurationMs,
+                          LongSupplier clock) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = minimumCalls;
+        this.windowMs = windowMs;
+        this.openDurationMs = openDurationMs;
+        this.clock = clock;
+        this.windowStartedAt = clock.getAsLong();
+    }
+
+    /**
+     * 호출 허용 여부 (허용되면 반드시 recordSuccess/recordFailure 중 하나를 호출해야 한다)
+     */
+    synchronized boolean tryAcquire() {
+        long now = clock.getAsLong();
+        switch (state) {
+            case OPEN:
+                if (now - openedAt < openDurationMs) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = true;
+                log.info("PortOne 서킷 브레이커 HALF_OPEN: 시험 호출 허용");
+                return true;
+            case HALF_OPEN:
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+            default:
+                if (now - windowStartedAt >= windowMs) {
+                    resetWindow(now);
+                }
+                return true;
+        }
+    }
+
+    synchronized void recordSuccess() {
+        if (state == State.HALF_OPEN) {
+            state = State.CLOSED;
+            probeInFlight = false;
+            resetWindow(clock.getAsLong());
+            log.info("PortOne 서킷 브레이커 CLOSED: 시험 호출 성공");
+            return;
+        }
+        successCount++;
+    }
+
+    synchronized void recordFailure() {
+        long now = clock.getAsLong();
+        if (state == State.HALF_OPEN) {
+            open(now);
+            return;
+        }
+        failureCount++;
+        int total = successCount + failureCount;
+        if (state == State.CLOSED && total >= minimumCalls
+                && (double) failureCount / total >= failureRateThreshold) {
+            open(now);
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    private void open(long now) {
+        log.warn("PortOne 서킷 브레이커 OPEN: 실패={}, 성공={}, {}ms 동안 호출 차단",
+                failureCount, successCount, openDurationMs);
+        state = State.OPEN;
+        openedAt = now;
+        probeInFlight = false;
+        resetWindow(now);
+    }
+
+    private void resetWindow(long now) {
+        windowStartedAt = now;
+        successCount = 0;
+        failureCount = 0;
+    }
+}
@@ -39,6 +39,22 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     @Query("SELECT cp FROM CardPayment cp WHERE cp.impUid = :impUid")
     Optional<CardPayment> findByImpUid(@Param("impUid") String impUid);
 
+    /**
+     * 가맹점 주문 번호로 카드 결제 정보 조회
+     */
+    @Query("SELECT cp FROM CardPayment cp WHERE cp.merchantUid = :merchantUid")
+    Optional<CardPayment> findByMerchantUid(@Param("merchantUid") String merchantUid);
+
+    /**
+     * 결과 반영이 끝나지 않은 오래된 카드 결제 조회 (대사 대상)
+     */
+    @Query("SELECT cp FROM CardPayment cp " +
+            "WHERE cp.status = com.fream.back.domain.payment.entity.PaymentStatus.PENDING " +
+            "AND cp.merchantUid IS NOT NULL AND COALESCE(cp.modifiedDate, cp.createdDate) < :before " +
+            "ORDER BY cp.id")
+    List<CardPayment> findStalePendingCardPayments(@Param("before") java.time.LocalDateTime before,
+                                                   org.springframework.data.domain.Pageable pageable);
+
     /**
      * 주문 ID로 결제 정보 조회 (멱등성 보장을 위함)
      * 중복 결제 방지를 위해 사용
@@ -0,0 +1,28 @@
+package com.fream.back.domain.payment.scheduler;
+
+import com.fream.back.domain.payment.service.command.PaymentCommandService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentReconciliationScheduler {
+
+    private final PaymentCommandService paymentCommandService;
+
+    /**
+     * 결과가 반영되지 않은 카드 결제(PENDING)를 포트원 결제 내역과 대사
+     * 포트원 응답 전에 서버가 종료되거나 통신 오류가 난 결제를 마무리한다.
+     */
+    @Scheduled(initialDelayString = "${payment.reconcile.interval-ms:300000}",
+            fixedDelayString = "${payment.reconcile.interval-ms:300000}")
+    public void reconcilePendingPayments() {
+        int resolved = paymentCommandService.reconcilePendingCardPayments();
+        if (resolved > 0) {
+            log.info("대기 중인 카드 결제 대사 완료: {} 건의 결제 상태 확정", resolved);
+        }
+    }
+}
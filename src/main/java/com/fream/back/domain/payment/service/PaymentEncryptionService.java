@@ -6,8 +6,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import jakarta.annotation.PostConstruct;
-import java.security.NoSuchAlgorithmException;
-import java.security.spec.InvalidKeySpecException;
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
 import javax.crypto.SecretKeyFactory;
@@ -15,12 +13,22 @@ import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.PBEKeySpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.spec.KeySpec;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 결제 민감 정보 암호화 서비스
  * 카드 번호, 생년월일 등 민감 정보를 암호화 및 복호화
+ *
+ * - PBKDF2 키 유도는 기동 시 한 번만 수행하고, Cipher 인스턴스는 스레드별로 재사용한다.
+ * - 키 교체: 현재 키 버전(key-version)으로 암호화하고, 이전 키(previous-keys)로 만든 암호문도 복호화한다.
+ *   버전 1(기존 키)의 암호문은 접두사 없이 저장되고, 그 외 버전은 "v{버전}$" 접두사가 붙는다.
  */
 @Service
 @RequiredArgsConstructor
@@ -31,6 +39,9 @@ public class PaymentEncryptionService {
     private static final String SECRET_KEY_ALGORITHM = "PBKDF2WithHmacSHA256";
     private static final int ITERATION_COUNT = 65536;
     private static final int KEY_LENGTH = 256;
+    private static final int LEGACY_KEY_VERSION = 1;
+    private static final char VERSION_PREFIX = 'v';
+    private static final char VERSION_DELIMITER = '$';
 
     @Value("${payment.encryption.secret-key}")
     private String secretKey;
@@ -41,6 +52,51 @@ public class PaymentEncryptionService {
     @Value("${payment.encryption.iv}")
     private String iv;
 
+    @Value("${payment.encryption.key-version:1}")
+    private int keyVersion;
+
+    // 이전 키 목록 ("버전:비밀키" 쉼표 구분)
+    @Value("${payment.encryption.previous-keys:}")
+    private List<String> previousKeys;
+
+    private final Map<Integer, SecretKey> keys = new HashMap<>();
+    private IvParameterSpec ivSpec;
+
+    private final ThreadLocal<Cipher> cipherHolder = ThreadLocal.withInitial(() -> {
+        try {
+            return Cipher.getInstance(ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("암호화 알고리즘을 사용할 수 없습니다: " + ALGORITHM, e);
+        }
+    });
+
+    /**
+     * 키 유도 (기동 시 1회)
+     */
+    @PostConstruct
+    public void init() {
+        long start = System.currentTimeMillis();
+        try {
+            keys.put(keyVersion, generateKey(secretKey));
+            for (String entry : previousKeys) {
+                if (entry == null || entry.isBlank()) {
+                    continue;
+                }
+                int separator = entry.indexOf(':');
+                if (separator <= 0) {
+                    throw new IllegalStateException("이전 키 형식이 올바르지 않습니다. (버전:비밀키)");
+                }
+                int version = Integer.parseInt(entry.substring(0, separator).trim());
+                keys.putIfAbsent(version, generateKey(entry.substring(separator + 1)));
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("결제 암호화 키 생성 실패", e);
+        }
+        ivSpec = new IvParameterSpec(iv.getBytes(StandardCharsets.UTF_8));
+        log.info("결제 암호화 키 초기화 완료: 현재 버전={}, 보유 키 버전={}, {}ms",
+                keyVersion, keys.keySet(), System.currentTimeMillis() - start);
+    }
+
     /**
      * 문자열 암호화
      * @param plainText 암호화할 평문
@@ -48,13 +104,7 @@ public class PaymentEncryptionService {
      */
     public String encrypt(String plainText) {
         try {
-            SecretKey key = generateKey();
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            IvParameterSpec ivSpec = new IvParameterSpec(iv.getBytes(StandardCharsets.UTF_8));
-
-            cipher.init(Cipher.ENCRYPT_MODE, key, ivSpec);
-            byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
-            return Base64.getEncoder().encodeToString(encrypted);
+            return encryptWith(cipherHolder.get(), plainText);
         } catch (Exception e) {
             log.error("암호화 중 오류 발생: {}", e.getMessage(), e);
             // 암호화 실패 시 IllegalStateException 발생 - 저장 불가능한 상태로 처리
@@ -69,13 +119,7 @@ public class PaymentEncryptionService {
      */
     public String decrypt(String encryptedText) {
         try {
-            SecretKey key = generateKey();
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            IvParameterSpec ivSpec = new IvParameterSpec(iv.getBytes(StandardCharsets.UTF_8));
-
-            cipher.init(Cipher.DECRYPT_MODE, key, ivSpec);
-            byte[] decrypted = cipher.doFinal(Base64.getDecoder().decode(encryptedText));
-            return new String(decrypted, StandardCharsets.UTF_8);
+            return decryptWith(cipherHolder.get(), encryptedText);
         } catch (Exception e) {
             log.error("복호화 중 오류 발생: {}", e.getMessage(), e);
             // 복호화 실패 시 IllegalStateException 발생
@@ -83,18 +127,84 @@ public class PaymentEncryptionService {
         }
     }
 
+    /**
+     * 여러 문자열 일괄 암호화 (순서 유지, null은 null)
+     * @param plainTexts 암호화할 평문 목록
+     * @return 암호화된 문자열 목록
+     */
+    public List<String> encryptAll(Collection<String> plainTexts) {
+        Cipher cipher = cipherHolder.get();
+        List<String> result = new ArrayList<>(plainTexts.size());
+        try {
+            for (String plainText : plainTexts) {
+                result.add(plainText == null ? null : encryptWith(cipher, plainText));
+            }
+            return result;
+        } catch (Exception e) {
+            log.error("일괄 암호화 중 오류 발생: {}", e.getMessage(), e);
+            throw new IllegalStateException("민감 정보 암호화 실패", e);
+        }
+    }
+
+    /**
+     * 여러 암호문 일괄 복호화 (순서 유지, null은 null)
+     * @param encryptedTexts 복호화할 암호문 목록
+     * @return 복호화된 평문 목록
+     */
+    public List<String> decryptAll(Collection<String> encryptedTexts) {
+        Cipher cipher = cipherHolder.get();
+        List<String> result = new ArrayList<>(encryptedTexts.size());
+        try {
+            for (String encryptedText : encryptedTexts) {
+                result.add(encryptedText == null ? null : decryptWith(cipher, encryptedText));
+            }
+            return result;
+        } catch (Exception e) {
+            log.error("일괄 복호화 중 오류 발생: {}", e.getMessage(), e);
+            throw new IllegalStateException("민감 정보 복호화 실패", e);
+        }
+    }
+
+    private String encryptWith(Cipher cipher, String plainText) throws GeneralSecurityException {
+        cipher.init(Cipher.ENCRYPT_MODE, keys.get(keyVersion), ivSpec);
+        byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+        String encoded = Base64.getEncoder().encodeToString(encrypted);
+        return keyVersion == LEGACY_KEY_VERSION
+                ? encoded
+                : VERSION_PREFIX + String.valueOf(keyVersion) + VERSION_DELIMITER + encoded;
+    }
+
+    private String decryptWith(Cipher cipher, String encryptedText) throws GeneralSecurityException {
+        int version = LEGACY_KEY_VERSION;
+        String payload = encryptedText;
+        int delimiter = encryptedText.indexOf(VERSION_DELIMITER);
+        if (delimiter > 1 && encryptedText.charAt(0) == VERSION_PREFIX) {
+            // Base64에는 '$'가 없으므로 접두사로 구분 가능
+            version = Integer.parseInt(encryptedText.substring(1, delimiter));
+            payload = encryptedText.substring(delimiter + 1);
+        }
+
+        SecretKey key = keys.get(version);
+        if (key == null) {
+            throw new IllegalStateException("암호화 키 버전을 찾을 수 없습니다: " + version);
+        }
+        cipher.init(Cipher.DECRYPT_MODE, key, ivSpec);
+        byte[] decrypted = cipher.doFinal(Base64.getDecoder().decode(payload));
+        return new String(decrypted, StandardCharsets.UTF_8);
+    }
+
     /**
      * 비밀키 생성
      * @return 생성된 비밀키
      */
-    private SecretKey generateKey() throws Exception {
+    private SecretKey generateKey(String password) throws GeneralSecurityException {
         SecretKeyFactory factory = SecretKeyFactory.getInstance(SECRET_KEY_ALGORITHM);
         KeySpec spec = new PBEKeySpec(
-                secretKey.toCharArray(),
+                password.toCharArray(),
                 salt.getBytes(StandardCharsets.UTF_8),
                 ITERATION_COUNT,
                 KEY_LENGTH
         );
         return new SecretKeySpec(factory.generateSecret(spec).getEncoded(), "AES");
     }
-}
\ No newline at end of file
+}
@@ -19,22 +19,35 @@ import com.fream.back.domain.sale.entity.SaleBid;
 import com.fream.back.domain.sale.entity.SaleStatus;
 import com.fream.back.domain.sale.service.query.SaleBidQueryService;
 import com.fream.back.domain.user.entity.User;
-import lombok.RequiredArgsConstructor;
+import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * 결제 명령 서비스
  * 결제 요청 처리, 환불 등 결제 관련 명령을 처리
+ *
+ * 포트원 API 호출은 DB 트랜잭션 밖에서 수행한다. 호출 전후의 DB 작업은 각각 짧은 트랜잭션으로 나눠
+ * 외부 API 지연이 커넥션 풀을 점유하지 않도록 한다.
+ * 단계별 트랜잭션은 호출자 트랜잭션과 분리(REQUIRES_NEW)되므로, 호출자가 롤백돼도 결제 의도(PENDING)와
+ * 승인 결과는 남아 대사할 수 있다. 따라서 결제 대상 주문은 호출 전에 커밋돼 있어야 한다.
  */
 @Service
-@RequiredArgsConstructor
-@Transactional
 @Slf4j
 public class PaymentCommandService {
 
@@ -43,6 +56,31 @@ public class PaymentCommandService {
     private final PortOneApiClient portOneApiClient;
     private final NotificationCommandService notificationCommandService;
     private final SaleBidQueryService saleBidQueryService;
+    private final TransactionTemplate transactionTemplate; // 단계별 독립 트랜잭션 (REQUIRES_NEW)
+    private final EntityManager entityManager;
+
+    @Value("${payment.reconcile.stale-after-minutes:10}")
+    private long reconcileStaleAfterMinutes; // 대사 대상이 되는 대기 시간 (분)
+
+    @Value("${payment.reconcile.batch-size:50}")
+    private int reconcileBatchSize; // 한 번에 대사할 결제 수
+
+    public PaymentCommandService(PaymentRepository paymentRepository,
+                                 PaymentInfoQueryService paymentInfoQueryService,
+                                 PortOneApiClient portOneApiClient,
+                                 NotificationCommandService notificationCommandService,
+                                 SaleBidQueryService saleBidQueryService,
+                                 PlatformTransactionManager transactionManager,
+                                 EntityManager entityManager) {
+        this.paymentRepository = paymentRepository;
+        this.paymentInfoQueryService = paymentInfoQueryService;
+        this.portOneApiClient = portOneApiClient;
+        this.notificationCommandService = notificationCommandService;
+        this.saleBidQueryService = saleBidQueryService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.entityManager = entityManager;
+    }
 
     /**
      * 결제 처리
@@ -66,22 +104,28 @@ public class PaymentCommandService {
 
             switch (requestDto.getResolvedPaymentType()) {
                 case "CARD":
-                    payment = createCardPayment(order, user, (CardPaymentRequestDto) requestDto);
+                    // 알림 전송 및 Sale 상태 업데이트는 승인 결과 반영 시 함께 처리
+                    payment = processCardPayment(order, user, (CardPaymentRequestDto) requestDto);
                     break;
                 case "ACCOUNT":
-                    payment = createAccountPayment(order, user, (AccountPaymentRequestDto) requestDto);
+                    payment = transactionTemplate.execute(status -> {
+                        Payment created = createAccountPayment(order, user, (AccountPaymentRequestDto) requestDto);
+                        notifyUsersAndUpdateSaleStatus(created.getOrder(), created);
+                        return created;
+                    });
                     break;
                 case "GENERAL":
-                    payment = createGeneralPayment(order, user, (GeneralPaymentRequestDto) requestDto);
+                    payment = transactionTemplate.execute(status -> {
+                        Payment created = createGeneralPayment(order, user, (GeneralPaymentRequestDto) requestDto);
+                        notifyUsersAndUpdateSaleStatus(created.getOrder(), created);
+                        return created;
+                    });
                     break;
                 default:
                     throw new PaymentException(PaymentErrorCode.PAYMENT_VALIDATION_FAILED,
                             "유효하지 않은 결제 유형: " + requestDto.getPaymentType());
             }
 
-            // 알림 전송 및 Sale 상태 업데이트
-            notifyUsersAndUpdateSaleStatus(order, payment);
-
             log.info("결제 처리 완료: 주문ID={}, 결제ID={}, 상태={}",
                     order.getId(), payment.getId(), payment.getStatus());
 
@@ -146,66 +190,54 @@ public class PaymentCommandService {
     }
 
     /**
-     * 카드 결제 생성
+     * 카드 결제 처리 (단계별 트랜잭션)
+     *
+     * 1. 짧은 트랜잭션으로 결제 의도(PENDING, merchant_uid 발급)를 저장하고 커넥션을 반환한다.
+     * 2. 트랜잭션 밖에서 포트원 결제를 요청한다.
+     * 3. 짧은 트랜잭션으로 승인 결과를 반영한다. 이미 반영된 결과는 건너뛴다(멱등).
+     *
+     * 포트원 응답을 받지 못한 경우(통신 오류 등) 결제는 PENDING으로 남고,
+     * 재시도 시 또는 대사 작업에서 merchant_uid로 실제 결제 여부를 확인해 마무리한다.
      *
      * @param order      주문 정보
      * @param user       사용자 정보
      * @param requestDto 카드 결제 요청 DTO
-     * @return 생성된 카드 결제 정보
+     * @return 결과가 반영된 카드 결제 정보
      * @throws PaymentException 결제 처리 실패 시
      */
-    private Payment createCardPayment(Order order, User user, CardPaymentRequestDto requestDto) {
+    private Payment processCardPayment(Order order, User user, CardPaymentRequestDto requestDto) {
         Instant start = Instant.now();
         try {
             log.info("카드 결제 처리 시작: 주문ID={}, 결제정보ID={}",
                     order.getId(), requestDto.getPaymentInfoId());
 
-            // 1. PaymentInfo 조회
-            PaymentInfo paymentInfo;
-            try {
-                paymentInfo = paymentInfoQueryService.getPaymentInfoEntity(user.getEmail(), requestDto.getPaymentInfoId());
-                if (paymentInfo == null) {
-                    throw new PaymentInfoNotFoundException("결제 정보 ID: " + requestDto.getPaymentInfoId() + "를 찾을 수 없습니다.");
-                }
-            } catch (PaymentException e) {
-                throw e; // 이미 PaymentException이면 그대로 전파
-            } catch (Exception e) {
-                throw new PaymentInfoNotFoundException("결제 정보 조회 중 오류가 발생했습니다.", e);
+            // 1. 결제 의도 저장
+            CardPaymentIntent intent = transactionTemplate.execute(status -> prepareCardPayment(order, user, requestDto));
+            if (intent.completedPayment() != null) {
+                log.info("이미 결제가 진행된 주문 - 기존 결제 반환: 주문ID={}, 결제ID={}, 상태={}",
+                        order.getId(), intent.completedPayment().getId(), intent.completedPayment().getStatus());
+                return intent.completedPayment();
             }
 
-            // 2. 결제 요청 생성
+            // 2. 포트원 결제 요청 (트랜잭션 밖)
             Map<String, Object> response;
             try {
-                response = portOneApiClient.processCardPayment(paymentInfo, requestDto.getPaidAmount());
+                response = requestCardPayment(intent);
+            } catch (PaymentApiException e) {
+                log.warn("카드 결제 결과 확인 불가 - 대기 상태 유지: 주문ID={}, 결제ID={}, merchantUid={}",
+                        order.getId(), intent.paymentId(), intent.merchantUid());
+                throw e;
             } catch (PaymentException e) {
-                throw e; // 이미 PaymentException이면 그대로 전파
+                transactionTemplate.executeWithoutResult(status -> failCardPayment(intent.paymentId()));
+                throw e;
             } catch (Exception e) {
+                log.warn("카드 결제 결과 확인 불가 - 대기 상태 유지: 주문ID={}, 결제ID={}, merchantUid={}",
+                        order.getId(), intent.paymentId(), intent.merchantUid());
                 throw new PaymentApiException("카드 결제 요청 중 오류가 발생했습니다: " + e.getMessage());
             }
 
-            // 3. CardPayment 생성 및 저장
-            CardPayment cardPayment = CardPayment.builder()
-                    .cardNumber(paymentInfo.getCardNumber())
-                    .cardPassword(paymentInfo.getCardPassword())
-                    .cardExpiration(paymentInfo.getExpirationDate())
-                    .birthDate(paymentInfo.getBirthDate())
-                    .cardType((String) response.get("card_name"))
-                    .paidAmount(requestDto.getPaidAmount())
-                    .impUid((String) response.get("imp_uid"))
-                    .receiptUrl((String) response.get("receipt_url"))
-                    .pgProvider((String) response.get("pg_provider"))
-                    .pgTid((String) response.get("pg_tid"))
-                    .build();
-
-            cardPayment.assignOrder(order);
-            cardPayment.assignUser(user);
-
-            if ("success".equals(response.get("status"))) {
-                cardPayment.updateStatus(PaymentStatus.PAID);
-                cardPayment.updateSuccessStatus(true); // 결제 성공
-            }
-
-            CardPayment savedPayment = (CardPayment) paymentRepository.save(cardPayment);
+            // 3. 승인 결과 반영
+            Payment savedPayment = transactionTemplate.execute(status -> completeCardPayment(intent.paymentId(), response));
             log.info("카드 결제 처리 완료: 주문ID={}, 결제ID={}, 상태={}",
                     order.getId(), savedPayment.getId(), savedPayment.getStatus());
 
@@ -224,6 +256,195 @@ public class PaymentCommandService {
         }
     }
 
+    /**
+     * 카드 결제 의도 저장 (1단계)
+     * 주문에 이미 결제 건이 있으면 새로 만들지 않고 이어서 처리한다.
+     */
+    private CardPaymentIntent prepareCardPayment(Order order, User user, CardPaymentRequestDto requestDto) {
+        // PaymentInfo 조회
+        PaymentInfo paymentInfo;
+        try {
+            paymentInfo = paymentInfoQueryService.getPaymentInfoEntity(user.getEmail(), requestDto.getPaymentInfoId());
+            if (paymentInfo == null) {
+                throw new PaymentInfoNotFoundException("결제 정보 ID: " + requestDto.getPaymentInfoId() + "를 찾을 수 없습니다.");
+            }
+        } catch (PaymentException e) {
+            throw e; // 이미 PaymentException이면 그대로 전파
+        } catch (Exception e) {
+            throw new PaymentInfoNotFoundException("결제 정보 조회 중 오류가 발생했습니다.", e);
+        }
+
+        Payment existing = paymentRepository.findByOrder_Id(order.getId()).orElse(null);
+        if (existing != null) {
+            if (!(existing instanceof CardPayment cardPayment)) {
+                throw new PaymentException(PaymentErrorCode.PAYMENT_VALIDATION_FAILED,
+                        "이미 다른 결제 수단으로 결제가 진행된 주문입니다. 주문ID: " + order.getId());
+            }
+            if (cardPayment.getMerchantUid() != null
+                    && (cardPayment.getStatus() == PaymentStatus.PENDING || cardPayment.getStatus() == PaymentStatus.FAILED)) {
+                // 이전 요청이 결과를 모르거나 실패한 상태 - 같은 merchant_uid로 대사 후 필요하면 재요청
+                if (cardPayment.getStatus() == PaymentStatus.FAILED) {
+                    cardPayment.retry();
+                }
+                return new CardPaymentIntent(cardPayment.getId(), cardPayment.getMerchantUid(), true,
+                        paymentInfo, cardPayment.getPaidAmount(), null);
+            }
+            return new CardPaymentIntent(cardPayment.getId(), cardPayment.getMerchantUid(), false,
+                    paymentInfo, cardPayment.getPaidAmount(), cardPayment);
+        }
+
+        CardPayment cardPayment = CardPayment.builder()
+                .cardNumber(paymentInfo.getCardNumber())
+                .cardPassword(paymentInfo.getCardPassword())
+                .cardExpiration(paymentInfo.getExpirationDate())
+                .birthDate(paymentInfo.getBirthDate())
+                .paidAmount(requestDto.getPaidAmount())
+                .merchantUid(newMerchantUid())
+                .build();
+
+        cardPayment.assignOrder(managedOrder(order));
+        cardPayment.assignUser(managedUser(user));
+        cardPayment.updateSuccessStatus(false); // 승인 전
+
+        CardPayment savedPayment = paymentRepository.save(cardPayment);
+        log.debug("카드 결제 의도 저장: 주문ID={}, 결제ID={}, merchantUid={}",
+                order.getId(), savedPayment.getId(), savedPayment.getMerchantUid());
+
+        return new CardPaymentIntent(savedPayment.getId(), savedPayment.getMerchantUid(), false,
+                paymentInfo, savedPayment.getPaidAmount(), null);
+    }
+
+    /**
+     * 포트원 카드 결제 요청 (2단계, 트랜잭션 밖)
+     * 이전 요청 결과를 모르는 결제는 먼저 merchant_uid로 조회해 이미 승인됐으면 다시 요청하지 않는다.
+     */
+    private Map<String, Object> requestCardPayment(CardPaymentIntent intent) {
+        if (intent.resumed()) {
+            Map<String, Object> found = portOneApiClient.findPaymentByMerchantUid(intent.merchantUid());
+            if (found != null && isApproved(found)) {
+                log.info("이전 카드 결제 요청이 이미 승인됨: 결제ID={}, merchantUid={}",
+                        intent.paymentId(), intent.merchantUid());
+                return found;
+            }
+        }
+        return portOneApiClient.processCardPayment(intent.paymentInfo(), intent.amount(), intent.merchantUid());
+    }
+
+    /**
+     * 카드 결제 승인 결과 반영 (3단계)
+     * 이미 결과가 반영된 결제는 그대로 반환한다.
+     */
+    private Payment completeCardPayment(Long paymentId, Map<String, Object> response) {
+        CardPayment cardPayment = paymentRepository.findById(paymentId)
+                .filter(CardPayment.class::isInstance)
+                .map(CardPayment.class::cast)
+                .orElseThrow(() -> new PaymentNotFoundException("결제 ID: " + paymentId + "를 찾을 수 없습니다."));
+
+        if (cardPayment.getStatus() != PaymentStatus.PENDING) {
+            log.info("이미 결과가 반영된 카드 결제: 결제ID={}, 상태={}", paymentId, cardPayment.getStatus());
+            return cardPayment;
+        }
+
+        if (!isApproved(response)) {
+            log.warn("카드 결제 승인 실패: 결제ID={}, 상태={}, 사유={}",
+                    paymentId, response.get("status"), response.get("fail_reason"));
+            cardPayment.markFailed();
+            return cardPayment;
+        }
+
+        cardPayment.approve(
+                (String) response.get("card_name"),
+                (String) response.get("imp_uid"),
+                (String) response.get("receipt_url"),
+                (String) response.get("pg_provider"),
+                (String) response.get("pg_tid"));
+
+        // 알림 전송 및 Sale 상태 업데이트
+        notifyUsersAndUpdateSaleStatus(cardPayment.getOrder(), cardPayment);
+        return cardPayment;
+    }
+
+    /**
+     * 승인 거절된 카드 결제를 실패 처리
+     */
+    private void failCardPayment(Long paymentId) {
+        paymentRepository.findById(paymentId)
+                .filter(payment -> payment.getStatus() == PaymentStatus.PENDING)
+                .ifPresent(payment -> {
+                    payment.markFailed();
+                    log.info("카드 결제 실패 처리: 결제ID={}", paymentId);
+                });
+    }
+
+    /**
+     * 결과 반영이 끝나지 않은 오래된 카드 결제 대사
+     * 포트원에서 승인된 건은 완료 처리하고, 결제 건이 없거나 실패한 건은 실패 처리한다.
+     *
+     * @return 상태가 확정된 결제 수
+     */
+    public int reconcilePendingCardPayments() {
+        LocalDateTime before = LocalDateTime.now().minusMinutes(reconcileStaleAfterMinutes);
+        List<CardPayment> stalePayments = transactionTemplate.execute(status ->
+                paymentRepository.findStalePendingCardPayments(before, PageRequest.of(0, reconcileBatchSize)));
+
+        // 조회는 동시에 보내고 결과 반영은 건별 짧은 트랜잭션으로 처리
+        List<CompletableFuture<Map<String, Object>>> lookups = stalePayments.stream()
+                .map(stale -> portOneApiClient.findPaymentByMerchantUidAsync(stale.getMerchantUid()))
+                .toList();
+
+        int resolved = 0;
+        for (int i = 0; i < stalePayments.size(); i++) {
+            CardPayment stale = stalePayments.get(i);
+            try {
+                Map<String, Object> found = lookups.get(i).join();
+                if (found != null && isApproved(found)) {
+                    transactionTemplate.execute(status -> completeCardPayment(stale.getId(), found));
+                } else if (found == null || "failed".equals(found.get("status"))) {
+                    transactionTemplate.executeWithoutResult(status -> failCardPayment(stale.getId()));
+                } else {
+                    // ready 등 아직 진행 중인 결제는 다음 주기에 다시 확인
+                    continue;
+                }
+                resolved++;
+            } catch (Exception e) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                log.warn("카드 결제 대사 실패: 결제ID={}, merchantUid={}, 오류={}",
+                        stale.getId(), stale.getMerchantUid(), cause.getMessage());
+            }
+        }
+        return resolved;
+    }
+
+    private boolean isApproved(Map<String, Object> response) {
+        Object status = response.get("status");
+        return "paid".equals(status) || "success".equals(status);
+    }
+
+    private String newMerchantUid() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * 현재 트랜잭션의 영속성 컨텍스트에 속한 주문 참조
+     * (호출자가 트랜잭션 밖에서 조회한 엔티티를 넘겨도 지연 로딩이 가능하도록)
+     */
+    private Order managedOrder(Order order) {
+        return entityManager.getReference(Order.class, order.getId());
+    }
+
+    private User managedUser(User user) {
+        return entityManager.getReference(User.class, user.getId());
+    }
+
+    /**
+     * 카드 결제 의도
+     *
+     * @param completedPayment 이미 결제가 끝난 주문이면 기존 결제, 아니면 null
+     */
+    private record CardPaymentIntent(Long paymentId, String merchantUid, boolean resumed,
+                                     PaymentInfo paymentInfo, double amount, Payment completedPayment) {
+    }
+
     /**
      * 계좌이체 결제 생성
      *
@@ -255,8 +476,8 @@ public class PaymentCommandService {
                     .paidAmount(requestDto.getPaidAmount())
                     .build();
 
-            accountPayment.assignOrder(order);
-            accountPayment.assignUser(user);
+            accountPayment.assignOrder(managedOrder(order));
+            accountPayment.assignUser(managedUser(user));
             accountPayment.updateStatus(PaymentStatus.PENDING);
 
             AccountPayment savedPayment = (AccountPayment) paymentRepository.save(accountPayment);
@@ -308,8 +529,8 @@ public class PaymentCommandService {
                     .paidAmount(requestDto.getPaidAmount())
                     .build();
 
-            generalPayment.assignOrder(order);
-            generalPayment.assignUser(user);
+            generalPayment.assignOrder(managedOrder(order));
+            generalPayment.assignUser(managedUser(user));
             generalPayment.updateSuccessStatus(true);
             generalPayment.updateStatus(PaymentStatus.PAID);
 
@@ -534,55 +755,72 @@ public class PaymentCommandService {
 
     /**
      * 결제 환불 요청
+     * 환불 가능 여부 확인과 결과 반영은 각각 짧은 트랜잭션으로 처리하고, 포트원 취소 요청은 트랜잭션 밖에서 수행한다.
      *
      * @param paymentId 환불할 결제 ID
      * @return 환불 처리 결과 메시지
      * @throws PaymentException 환불 처리 실패 시
      */
-    @Transactional
     public String refundPayment(Long paymentId) {
         Instant start = Instant.now();
         try {
             log.info("결제 환불 요청 시작: 결제ID={}", paymentId);
 
-            // 1. Payment 정보 조회
-            Payment payment = paymentRepository.findById(paymentId)
-                    .orElseThrow(() -> new PaymentNotFoundException("결제 ID: " + paymentId + "를 찾을 수 없습니다."));
+            // 1. Payment 정보 조회 및 현재 상태 확인
+            String impUid = transactionTemplate.execute(status -> {
+                Payment payment = paymentRepository.findById(paymentId)
+                        .orElseThrow(() -> new PaymentNotFoundException("결제 ID: " + paymentId + "를 찾을 수 없습니다."));
 
-            // 2. 현재 상태 확인
-            if (!payment.getStatus().canTransitionTo(PaymentStatus.REFUND_REQUESTED)) {
-                throw new PaymentException(PaymentErrorCode.INVALID_PAYMENT_STATUS,
-                        "현재 상태에서 환불 요청을 진행할 수 없습니다. 현재 상태: " + payment.getStatus());
-            }
+                // 환불 요청 후 취소가 확정되지 않은 결제는 다시 시도할 수 있다
+                if (payment.getStatus() != PaymentStatus.REFUND_REQUESTED
+                        && !payment.getStatus().canTransitionTo(PaymentStatus.REFUND_REQUESTED)) {
+                    throw new PaymentException(PaymentErrorCode.INVALID_PAYMENT_STATUS,
+                            "현재 상태에서 환불 요청을 진행할 수 없습니다. 현재 상태: " + payment.getStatus());
+                }
 
-            // 3. 포트원 API를 통해 환불 요청
-            if (payment.getImpUid() == null || payment.getImpUid().isBlank()) {
-                throw new PaymentException(PaymentErrorCode.PAYMENT_CANCELLATION_FAILED,
-                        "환불 가능한 결제 ID가 없습니다.");
-            }
+                if (payment.getImpUid() == null || payment.getImpUid().isBlank()) {
+                    throw new PaymentException(PaymentErrorCode.PAYMENT_CANCELLATION_FAILED,
+                            "환불 가능한 결제 ID가 없습니다.");
+                }
+                return payment.getImpUid();
+            });
 
-            boolean refundSuccess = portOneApiClient.cancelPayment(payment.getImpUid());
+            // 2. 포트원 API를 통해 환불 요청 (트랜잭션 밖)
+            boolean refundSuccess = portOneApiClient.cancelPayment(impUid);
 
-            if (refundSuccess) {
-                payment.updateStatus(PaymentStatus.REFUNDED); // 상태를 REFUNDED로 변경
-                paymentRepository.save(payment);
-                log.info("결제 환불 요청 성공: 결제ID={}, 상태=REFUNDED", paymentId);
+            // 3. 결과 반영
+            String message = transactionTemplate.execute(status -> {
+                Payment payment = paymentRepository.findById(paymentId)
+                        .orElseThrow(() -> new PaymentNotFoundException("결제 ID: " + paymentId + "를 찾을 수 없습니다."));
+
+                if (payment.getStatus() == PaymentStatus.REFUNDED) {
+                    // 동시에 들어온 다른 요청이 이미 반영함
+                    log.info("이미 환불이 반영된 결제: 결제ID={}", paymentId);
+                    return "환불이 성공적으로 완료되었습니다.";
+                }
 
-                // 환불 성공 시 알림 발송
-                sendRefundNotification(payment);
+                if (refundSuccess) {
+                    payment.updateStatus(PaymentStatus.REFUNDED); // 상태를 REFUNDED로 변경
+                    log.info("결제 환불 요청 성공: 결제ID={}, 상태=REFUNDED", paymentId);
 
-                // 처리 시간 로깅
-                Instant end = Instant.now();
-                Duration duration = Duration.between(start, end);
-                log.debug("결제 환불 처리 시간: {}ms", duration.toMillis());
+                    // 환불 성공 시 알림 발송
+                    sendRefundNotification(payment);
+                    return "환불이 성공적으로 완료되었습니다.";
+                }
 
-                return "환불이 성공적으로 완료되었습니다.";
-            } else {
-                payment.updateStatus(PaymentStatus.REFUND_REQUESTED); // 환불 요청 상태로 업데이트
-                paymentRepository.save(payment);
+                if (payment.getStatus() != PaymentStatus.REFUND_REQUESTED) {
+                    payment.updateStatus(PaymentStatus.REFUND_REQUESTED); // 환불 요청 상태로 업데이트
+                }
                 log.warn("결제 환불 요청 실패: 결제ID={}, 상태=REFUND_REQUESTED", paymentId);
                 return "환불 요청이 실패하였습니다. 관리자에게 문의하세요.";
-            }
+            });
+
+            // 처리 시간 로깅
+            Instant end = Instant.now();
+            Duration duration = Duration.between(start, end);
+            log.debug("결제 환불 처리 시간: {}ms", duration.toMillis());
+
+            return message;
         } catch (PaymentException e) {
             log.error("결제 환불 요청 실패: 결제ID={}, 에러코드={}, 메시지={}",
                     paymentId, e.getErrorCode().getCode(), e.getMessage());
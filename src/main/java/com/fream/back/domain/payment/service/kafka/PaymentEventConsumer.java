@@ -17,7 +17,6 @@ import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -41,13 +40,13 @@ public class PaymentEventConsumer {
     /**
      * 결제 처리 이벤트 리스너
      * 멱등성을 보장하여 중복 결제를 방지
+     * 포트원 호출 동안 커넥션을 잡지 않도록 트랜잭션은 PaymentCommandService의 단계별로만 연다.
      */
     @KafkaListener(
             topics = "payment-processing-topic",
             groupId = "payment-processing-group",
             containerFactory = "paymentEventKafkaListenerContainerFactory"
     )
-    @Transactional
     public void handlePaymentEvent(
             @Payload PaymentEvent event,
             @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
@@ -116,7 +115,6 @@ public class PaymentEventConsumer {
             groupId = "payment-retry-group",
             containerFactory = "paymentEventKafkaListenerContainerFactory"
     )
-    @Transactional
     public void handlePaymentRetryEvent(
             @Payload PaymentEvent event,
             Acknowledgment acknowledgment) {
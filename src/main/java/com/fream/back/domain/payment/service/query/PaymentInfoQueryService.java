@@ -15,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -48,9 +49,18 @@ public class PaymentInfoQueryService {
 
             List<PaymentInfo> paymentInfos = paymentInfoRepository.findAllByUser_Email(email);
 
-            List<PaymentInfoDto> result = paymentInfos.stream()
-                    .map(this::convertToDto)
-                    .toList();
+            // 카드번호/생년월일을 한 번에 복호화
+            List<String> encrypted = new ArrayList<>(paymentInfos.size() * 2);
+            for (PaymentInfo paymentInfo : paymentInfos) {
+                encrypted.add(paymentInfo.getCardNumber());
+                encrypted.add(paymentInfo.getBirthDate());
+            }
+            List<String> decrypted = encryptionService.decryptAll(encrypted);
+
+            List<PaymentInfoDto> result = new ArrayList<>(paymentInfos.size());
+            for (int i = 0; i < paymentInfos.size(); i++) {
+                result.add(convertToDto(paymentInfos.get(i), decrypted.get(i * 2), decrypted.get(i * 2 + 1)));
+            }
 
             log.info("결제 정보 목록 조회 완료: 사용자={}, 조회된 결제정보 수={}", email, result.size());
             return result;
@@ -188,6 +198,13 @@ public class PaymentInfoQueryService {
         String decryptedCardNumber = encryptionService.decrypt(entity.getCardNumber());
         String decryptedBirthDate = encryptionService.decrypt(entity.getBirthDate());
 
+        return convertToDto(entity, decryptedCardNumber, decryptedBirthDate);
+    }
+
+    /**
+     * 복호화된 값으로 마스킹 처리된 PaymentInfoDto 생성
+     */
+    private PaymentInfoDto convertToDto(PaymentInfo entity, String decryptedCardNumber, String decryptedBirthDate) {
         return PaymentInfoDto.builder()
                 .id(entity.getId())
                 .cardNumber(PaymentCardUtils.maskCardNumber(decryptedCardNumber))
@@ -4,8 +4,11 @@ import com.fream.back.domain.product.dto.ProductSearchByNameDto;
 import com.fream.back.domain.product.dto.ProductSearchResponseDto;
 import com.fream.back.domain.product.exception.ProductException;
 import com.fream.back.domain.product.exception.ProductErrorCode;
+import com.fream.back.domain.product.service.interest.InterestQueryService;
+import com.fream.back.domain.product.service.productImage.ProductImageQueryService;
 import com.fream.back.domain.product.service.product.IndexedProductQueryService;
 import com.fream.back.global.dto.commonDto;
+import com.fream.back.global.utils.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -24,6 +27,8 @@ import org.springframework.web.bind.annotation.*;
 public class IndexedProductQueryController {
 
     private final IndexedProductQueryService indexedProductQueryService;
+    private final InterestQueryService interestQueryService;
+    private final ProductImageQueryService productImageQueryService;
 
     /**
      * 인덱스 최적화 상품 검색 API (이름 기반)
@@ -52,6 +57,10 @@ public class IndexedProductQueryController {
             Page<ProductSearchResponseDto> pageResult = indexedProductQueryService.searchProductsByNames(
                     searchRequest, pageable);
 
+            // 로그인 사용자의 관심 등록 여부 표시
+            interestQueryService.markInterested(pageResult.getContent(), SecurityUtils.extractEmailOrAnonymous());
+            productImageQueryService.markThumbnailSrcset(pageResult.getContent());
+
             commonDto.PageDto<ProductSearchResponseDto> response = toPageDto(pageResult);
 
             log.info("인덱스 최적화 상품 검색 성공 - 총 결과 수: {}, 페이지 수: {}",
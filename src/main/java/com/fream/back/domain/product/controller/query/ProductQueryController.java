@@ -4,24 +4,26 @@ import com.fream.back.domain.product.dto.*;
 import com.fream.back.domain.product.exception.ProductException;
 import com.fream.back.domain.product.exception.ProductErrorCode;
 import com.fream.back.domain.product.service.filter.FilterService;
+import com.fream.back.domain.product.service.interest.InterestQueryService;
+import com.fream.back.domain.product.service.productImage.ProductImageQueryService;
 import com.fream.back.domain.product.service.kafka.ViewEventProducer;
 import com.fream.back.domain.product.service.product.ProductQueryService;
 import com.fream.back.domain.user.entity.Gender;
 import com.fream.back.domain.user.service.query.UserQueryService;
 import com.fream.back.global.config.security.JwtAuthenticationFilter;
 import com.fream.back.global.dto.commonDto;
+import com.fream.back.global.exception.file.FileNotFoundException;
+import com.fream.back.global.utils.MediaStreamingUtil;
 import com.fream.back.global.utils.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.io.File;
-import java.nio.file.Files;
-import java.nio.file.Paths;
-
 /**
  * 상품 관련 조회 컨트롤러
  * 상품 검색, 상세 조회, 이미지 조회, 필터 기능 등을 제공합니다.
@@ -33,9 +35,12 @@ import java.nio.file.Paths;
 public class ProductQueryController {
 
     private final ProductQueryService productQueryService;
+    private final InterestQueryService interestQueryService;
+    private final ProductImageQueryService productImageQueryService;
     private final UserQueryService userQueryService;
     private final ViewEventProducer viewEventProducer;
     private final FilterService filterService;
+    private final MediaStreamingUtil mediaStreamingUtil;
 
     /**
      * 상품 검색 API
@@ -74,6 +79,10 @@ public class ProductQueryController {
                     searchRequest.getSortOption(),
                     pageable);
 
+            // 로그인 사용자의 관심 등록 여부 표시
+            interestQueryService.markInterested(pageResult.getContent(), SecurityUtils.extractEmailOrAnonymous());
+            productImageQueryService.markThumbnailSrcset(pageResult.getContent());
+
             commonDto.PageDto<ProductSearchResponseDto> response = toPageDto(pageResult);
 
             log.info("상품 검색 성공 - 총 결과 수: {}, 페이지 수: {}",
@@ -127,6 +136,7 @@ public class ProductQueryController {
             // 2) 이메일 추출 (익명 시 "anonymous")
             String email = SecurityUtils.extractEmailOrAnonymous();
             log.debug("사용자 이메일 추출 - 이메일: {}", email);
+            detailDto.setInterested(interestQueryService.isInterested(email, detailDto.getColorId()));
 
             // 3) 로그인 사용자라면 나이, 성별 조회
             Integer age = 0;
@@ -164,56 +174,31 @@ public class ProductQueryController {
 
     /**
      * 상품 이미지 조회 API
+     * Range 요청과 조건부 요청(ETag/Last-Modified)을 지원합니다.
+     * w(표시 너비)를 주면 그에 맞는 가장 작은 리사이즈본을 반환합니다. (목록 썸네일: w=320)
      *
      * @param productId 상품 ID
      * @param imageName 이미지명
-     * @return 이미지 바이트 배열
+     * @param width 표시 너비(px, 선택)
+     * @param requestHeaders 요청 헤더 (Range, If-None-Match, If-Modified-Since)
+     * @return 이미지 스트림 (200/206/304/416)
      */
     @GetMapping("/{productId}/images")
-    public ResponseEntity<byte[]> getProductImage(
+    public ResponseEntity<Resource> getProductImage(
             @PathVariable("productId") Long productId,
-            @RequestParam("imageName") String imageName
+            @RequestParam("imageName") String imageName,
+            @RequestParam(value = "w", required = false) Integer width,
+            @RequestHeader HttpHeaders requestHeaders
     ) {
-        log.info("상품 이미지 조회 요청 - 상품ID: {}, 이미지명: {}", productId, imageName);
+        log.debug("상품 이미지 조회 요청 - 상품ID: {}, 이미지명: {}", productId, imageName);
 
         try {
             // 실제 경로: /home/ubuntu/fream/product/{productId}/{imageName}
-            String baseDir = "/home/ubuntu/fream";
-            String directory = "product/" + productId;
-
-            String fullPath = baseDir + File.separator + directory + File.separator + imageName;
-            File imageFile = new File(fullPath);
-
-//            String baseDir = "C:/Users/pickj/webserver/dockerVolums/fream";
-//            String directory = "product/" + productId;
-//            String fullPath = Paths.get(baseDir, directory, imageName).toString();
-//            File imageFile = new File(fullPath);
-
-            if (!imageFile.exists()) {
-                log.error("이미지 파일이 존재하지 않음 - 경로: {}", fullPath);
-                throw new IllegalArgumentException("이미지 파일이 존재하지 않습니다. fullPath=" + fullPath);
-            }
-
-            byte[] imageBytes = Files.readAllBytes(imageFile.toPath());
-
-            String mimeType = Files.probeContentType(imageFile.toPath());
-            if (mimeType == null) {
-                mimeType = "application/octet-stream";
-            }
-
-            log.info("상품 이미지 조회 성공 - 상품ID: {}, 이미지명: {}, 크기: {} bytes",
-                    productId, imageName, imageBytes.length);
-            return ResponseEntity.ok()
-                    .header("Content-Type", mimeType)
-                    .body(imageBytes);
-        } catch (IllegalArgumentException e) {
+            return mediaStreamingUtil.stream("product/" + productId, imageName, width, requestHeaders);
+        } catch (FileNotFoundException e) {
             log.error("상품 이미지 조회 실패 - 상품ID: {}, 이미지명: {}, 오류: {}",
-                    productId, imageName, e.getMessage(), e);
+                    productId, imageName, e.getMessage());
             throw new ProductException(ProductErrorCode.IMAGE_NOT_FOUND, e.getMessage(), e);
-        } catch (Exception e) {
-            log.error("상품 이미지 조회 중 예상치 못한 오류 발생 - 상품ID: {}, 이미지명: {}",
-                    productId, imageName, e);
-            throw new ProductException(ProductErrorCode.IMAGE_NOT_FOUND, "이미지 조회 중 오류가 발생했습니다.", e);
         }
     }
 
@@ -22,6 +22,7 @@ public class ProductDetailResponseDto {
     private String colorName; // 색상명
     private String content; // 색상 상세 설명
     private Long interestCount; // 관심 수 추가
+    private boolean interested; // 로그인 사용자의 관심 등록 여부
     private List<SizeDetailDto> sizes; // 사이즈 정보 리스트
     private List<ColorDetailDto> otherColors; // 다른 색상 정보 리스트 추가
 
@@ -16,6 +16,7 @@ public class ProductSearchResponseDto {
     private String brandName;    // 브랜드명 추가
     private int releasePrice;
     private String thumbnailImageUrl; // 대표 이미지 URL
+    private String thumbnailSrcset; // 리사이즈 파생본 목록 (img srcset, 이미지가 아니면 null)
     private Integer price; // 가장 낮은 구매가 추가
     private String colorName; // 해당 이미지의 색상명 추가
     private Long colorId;        // 컬러 ID 추가
@@ -23,5 +24,6 @@ public class ProductSearchResponseDto {
 
     private Long styleCount;              // 스타일 수
     private Long tradeCount;              // 거래 수 (OrderBid 중 COMPLETED)
+    private boolean interested;           // 로그인 사용자의 관심 등록 여부
 }
 
@@ -1,6 +1,7 @@
 package com.fream.back.domain.product.elasticsearch.config;
 
 import com.fream.back.domain.product.elasticsearch.index.ProductColorIndex;
+import com.fream.back.domain.product.elasticsearch.index.ProductSuggestionIndex;
 import com.fream.back.domain.product.elasticsearch.service.ProductColorIndexingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
@@ -184,7 +185,69 @@ public void run(String... args) {
     // 5) 매핑 적용
     idxOps.putMapping(mapping);
 
-    // 6) 데이터 인덱싱
+    // 5-1) 자동완성 제안 인덱스 (edge-ngram)
+    initSuggestionIndex();
+
+    // 6) 데이터 인덱싱 (자동완성 트라이는 ApplicationReadyEvent에서 최초 적재)
     indexingService.indexAllColors();
 }
+
+    /**
+     * 자동완성 전용 인덱스 생성
+     * 색인 시 edge_ngram(1~20)으로 모든 단어의 접두사를 저장하고, 검색 시에는 원문 토큰 그대로 매칭한다.
+     */
+    private void initSuggestionIndex() {
+        IndexOperations suggestOps = esOperations.indexOps(ProductSuggestionIndex.class);
+        if (suggestOps.exists()) {
+            suggestOps.delete();
+        }
+
+        Document settings = Document.parse("""
+            {
+                "analysis": {
+                  "filter": {
+                    "suggest_edge_ngram": {
+                      "type": "edge_ngram",
+                      "min_gram": 1,
+                      "max_gram": 20
+                    }
+                  },
+                  "analyzer": {
+                    "suggest_index_analyzer": {
+                      "type": "custom",
+                      "tokenizer": "standard",
+                      "filter": ["lowercase", "suggest_edge_ngram"]
+                    },
+                    "suggest_search_analyzer": {
+                      "type": "custom",
+                      "tokenizer": "standard",
+                      "filter": ["lowercase"]
+                    }
+                  }
+                }
+            }
+            """);
+
+        Document mapping = Document.parse("""
+            {
+                "properties": {
+                  "suggest": {
+                    "type": "text",
+                    "analyzer": "suggest_index_analyzer",
+                    "search_analyzer": "suggest_search_analyzer"
+                  },
+                  "displayText": {
+                    "type": "keyword",
+                    "index": false
+                  },
+                  "interestCount": {
+                    "type": "long"
+                  }
+                }
+            }
+            """);
+
+        suggestOps.create(settings);
+        suggestOps.putMapping(mapping);
+    }
 }
@@ -6,8 +6,11 @@ import com.fream.back.domain.product.elasticsearch.index.ProductColorIndex;
 import com.fream.back.domain.product.elasticsearch.service.ProductColorSearchService;
 import com.fream.back.domain.product.entity.enumType.GenderType;
 import com.fream.back.domain.product.repository.SortOption;
+import com.fream.back.domain.product.service.interest.InterestQueryService;
+import com.fream.back.domain.product.service.productImage.ProductImageQueryService;
 import com.fream.back.domain.product.service.product.ProductQueryService;
 import com.fream.back.global.dto.commonDto;
+import com.fream.back.global.utils.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -28,6 +31,8 @@ public class ProductColorSearchController {
 
     private final ProductColorSearchService productColorSearchService;
     private final ProductQueryService productQueryService;
+    private final InterestQueryService interestQueryService;
+    private final ProductImageQueryService productImageQueryService;
 
     @GetMapping
     public ResponseEntity<commonDto.PageDto<ProductSearchResponseDto>> esSearchProducts(
@@ -82,6 +87,10 @@ public class ProductColorSearchController {
         log.info("검색 결과 - 총 항목 수: {}, 총 페이지 수: {}",
                 resultPage.getTotalElements(), resultPage.getTotalPages());
 
+        // 로그인 사용자의 관심 등록 여부 표시
+        interestQueryService.markInterested(resultPage.getContent(), SecurityUtils.extractEmailOrAnonymous());
+        productImageQueryService.markThumbnailSrcset(resultPage.getContent());
+
         commonDto.PageDto<ProductSearchResponseDto> responseDto = toPageDto(resultPage);
         log.info("========== 검색 API 호출 완료 ==========");
         return ResponseEntity.ok(responseDto);
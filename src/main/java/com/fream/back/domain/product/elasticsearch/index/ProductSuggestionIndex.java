@@ -0,0 +1,78 @@
+package com.fream.back.domain.product.elasticsearch.index;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 자동완성 전용 문서 (상품 색상 1건 = 제안 1건)
+ *
+ * suggest 필드는 edge-ngram으로 색인되어 접두사 매칭을 단일 match 쿼리로 처리하고,
+ * 화면에 보여줄 문자열(displayText)은 색인 시점에 미리 만들어 둔다.
+ */
+@Document(indexName = "product-suggestions")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSuggestionIndex {
+
+    @Id
+    private Long colorId;
+
+    // 검색 대상 (브랜드명 + 상품명 + 영문명 + 색상명)
+    @Field(type = FieldType.Text)
+    private String suggest;
+
+    // 미리 만들어 둔 표시 문자열 (ex: "Nike - 에어포스 1 (화이트)")
+    @Field(type = FieldType.Keyword, index = false)
+    private String displayText;
+
+    @Field(type = FieldType.Long)
+    private Long interestCount; // 정렬용
+
+    public static ProductSuggestionIndex from(ProductColorIndex idx) {
+        String suggest = Stream.of(idx.getBrandName(), idx.getProductName(),
+                        idx.getProductEnglishName(), idx.getColorName())
+                .filter(s -> s != null && !s.isBlank())
+                .map(String::trim)
+                .collect(Collectors.joining(" "));
+
+        return ProductSuggestionIndex.builder()
+                .colorId(idx.getColorId())
+                .suggest(suggest)
+                .displayText(displayTextOf(idx.getBrandName(), idx.getProductName(), idx.getColorName()))
+                .interestCount(idx.getInterestCount() != null ? idx.getInterestCount() : 0L)
+                .build();
+    }
+
+    /**
+     * 자동완성 표시 문자열
+     * - 브랜드 + 상품명 (+ 색상명) : "브랜드 - 상품명 (색상명)"
+     * - 그 외에는 비어있지 않은 값 하나 (브랜드 > 상품명 > 색상명 순)
+     */
+    public static String displayTextOf(String brandName, String productName, String colorName) {
+        String brand = brandName != null ? brandName.trim() : "";
+        String product = productName != null ? productName.trim() : "";
+        String color = colorName != null ? colorName.trim() : "";
+
+        if (!brand.isEmpty() && !product.isEmpty()) {
+            return color.isEmpty()
+                    ? brand + " - " + product
+                    : brand + " - " + product + " (" + color + ")";
+        }
+        if (!brand.isEmpty()) {
+            return brand;
+        }
+        if (!product.isEmpty()) {
+            return product;
+        }
+        return color;
+    }
+}
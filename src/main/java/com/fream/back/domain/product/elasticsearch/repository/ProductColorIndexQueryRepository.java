@@ -8,6 +8,7 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -23,7 +24,6 @@ public class ProductColorIndexQueryRepository {
         QCategory c = QCategory.category;
         QCollection coll = QCollection.collection;
         QProductSize ps = QProductSize.productSize;
-        QInterest it = QInterest.interest;
         QProductImage pi = QProductImage.productImage; // 썸네일 이미지 엔티티
 
         return queryFactory
@@ -44,7 +44,7 @@ public class ProductColorIndexQueryRepository {
                         p.releasePrice.as("releasePrice"),
                         ps.purchasePrice.min().as("minPrice"),
                         ps.purchasePrice.max().as("maxPrice"),
-                        it.id.countDistinct().as("interestCount"),
+                        pc.interestCount.as("interestCount"),
                         p.releaseDate.as("releaseDate"),
                         pi.imageUrl.as("thumbnailUrl")
                 ))
@@ -55,7 +55,6 @@ public class ProductColorIndexQueryRepository {
                 .leftJoin(p.collection, coll)
                 .leftJoin(pc.thumbnailImage, pi)
                 .leftJoin(pc.sizes, ps)      // minPrice, maxPrice를 위해 sizes 조인
-                .leftJoin(pc.interests, it) // interestCount를 위해
                 .groupBy(pc.id)
                 .fetch();
     }
@@ -84,7 +83,6 @@ public class ProductColorIndexQueryRepository {
         QCategory c = QCategory.category;
         QCollection coll = QCollection.collection;
         QProductSize ps = QProductSize.productSize;
-        QInterest it = QInterest.interest;
         QProductImage pi = QProductImage.productImage; // 썸네일 이미지 엔티티
 
         return queryFactory
@@ -105,7 +103,7 @@ public class ProductColorIndexQueryRepository {
                         p.releasePrice.as("releasePrice"),
                         ps.purchasePrice.min().as("minPrice"),
                         ps.purchasePrice.max().as("maxPrice"),
-                        it.id.countDistinct().as("interestCount"),
+                        pc.interestCount.as("interestCount"),
                         p.releaseDate.as("releaseDate"),
                         pi.imageUrl.as("thumbnailUrl")
                 ))
@@ -116,7 +114,6 @@ public class ProductColorIndexQueryRepository {
                 .leftJoin(p.collection, coll)
                 .leftJoin(pc.thumbnailImage, pi)
                 .leftJoin(pc.sizes, ps)
-                .leftJoin(pc.interests, it)
                 .where(pc.id.eq(colorId))
                 .groupBy(pc.id)
                 .fetchOne();
@@ -137,6 +134,66 @@ public class ProductColorIndexQueryRepository {
                 .fetch();
     }
 
+    // 여러 colorId 일괄 조회 (증분 색인 큐 flush용)
+    public List<ProductColorIndexDto> findForIndexingDtoByColorIds(Collection<Long> colorIds) {
+        QProductColor pc = QProductColor.productColor;
+        QProduct p = QProduct.product;
+        QBrand b = QBrand.brand;
+        QCategory c = QCategory.category;
+        QCollection coll = QCollection.collection;
+        QProductSize ps = QProductSize.productSize;
+        QProductImage pi = QProductImage.productImage;
+
+        return queryFactory
+                .select(Projections.fields(
+                        ProductColorIndexDto.class,
+                        pc.id.as("colorId"),
+                        p.id.as("productId"),
+                        p.name.as("productName"),
+                        p.englishName.as("productEnglishName"),
+                        b.name.as("brandName"),
+                        c.name.as("categoryName"),
+                        coll.name.as("collectionName"),
+                        b.id.as("brandId"),
+                        c.id.as("categoryId"),
+                        coll.id.as("collectionId"),
+                        pc.colorName.as("colorName"),
+                        p.gender.stringValue().as("gender"),
+                        p.releasePrice.as("releasePrice"),
+                        ps.purchasePrice.min().as("minPrice"),
+                        ps.purchasePrice.max().as("maxPrice"),
+                        pc.interestCount.as("interestCount"),
+                        p.releaseDate.as("releaseDate"),
+                        pi.imageUrl.as("thumbnailUrl")
+                ))
+                .from(pc)
+                .leftJoin(pc.product, p)
+                .leftJoin(p.brand, b)
+                .leftJoin(p.category, c)
+                .leftJoin(p.collection, coll)
+                .leftJoin(pc.thumbnailImage, pi)
+                .leftJoin(pc.sizes, ps)
+                .where(pc.id.in(colorIds))
+                .groupBy(pc.id)
+                .fetch();
+    }
+
+    public List<ProductColorSizeRow> findSizesByColorIds(Collection<Long> colorIds) {
+        QProductColor pc = QProductColor.productColor;
+        QProductSize ps = QProductSize.productSize;
+
+        return queryFactory
+                .select(Projections.fields(
+                        ProductColorSizeRow.class,
+                        pc.id.as("colorId"),
+                        ps.size.as("size")
+                ))
+                .from(pc)
+                .leftJoin(pc.sizes, ps)
+                .where(pc.id.in(colorIds))
+                .fetch();
+    }
+
 
 //    public List<ProductColor> findAllForIndexing() {
 //        QProductColor productColor = QProductColor.productColor;
@@ -0,0 +1,7 @@
+package com.fream.back.domain.product.elasticsearch.repository;
+
+import com.fream.back.domain.product.elasticsearch.index.ProductSuggestionIndex;
+import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+
+public interface ProductSuggestionEsRepository extends ElasticsearchRepository<ProductSuggestionIndex, Long> {
+}
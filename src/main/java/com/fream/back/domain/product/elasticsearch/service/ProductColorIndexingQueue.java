@@ -0,0 +1,95 @@
+package com.fream.back.domain.product.elasticsearch.service;
+
+import com.fream.back.domain.product.event.ProductColorChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 색상 증분 색인 큐
+ *
+ * 쓰기 경로(관심 토글, 사이즈/가격 변경, 색상 수정)는 {@link ProductColorChangedEvent}만 발행하고,
+ * 이 큐가 커밋 이후 colorId를 기록해 둔다. 같은 colorId가 flush 주기 안에 여러 번 들어와도
+ * 마지막 상태 하나로 합쳐지며, 스케줄러가 주기적으로 모아서 ES 벌크 요청 한 번으로 반영한다.
+ * 따라서 호출자는 ES 지연을 기다리지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductColorIndexingQueue {
+
+    private final ProductColorIndexingService indexingService;
+
+    // colorId -> 삭제 여부 (같은 키는 덮어써서 합친다)
+    private final Map<Long, Boolean> pending = new ConcurrentHashMap<>();
+
+    @Value("${product.indexing.max-batch-size:500}")
+    private int maxBatchSize;
+
+    /**
+     * 커밋된 변경만 큐에 넣는다. 트랜잭션 밖에서 발행된 경우에도 바로 등록한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductColorChanged(ProductColorChangedEvent event) {
+        if (event.colorId() == null) {
+            return;
+        }
+        pending.put(event.colorId(), event.deleted());
+    }
+
+    /**
+     * 대기 중인 변경분을 최대 maxBatchSize개씩 꺼내 벌크 색인/삭제한다.
+     * 실패한 항목은 그 사이 더 새로운 변경이 들어오지 않았다면 다시 큐에 넣어 다음 주기에 재시도한다.
+     */
+    @Scheduled(fixedDelayString = "${product.indexing.flush-interval-ms:1000}")
+    public void flush() {
+        while (!pending.isEmpty()) {
+            List<Long> upserts = new ArrayList<>();
+            List<Long> deletes = new ArrayList<>();
+
+            Iterator<Map.Entry<Long, Boolean>> it = pending.entrySet().iterator();
+            while (it.hasNext() && upserts.size() + deletes.size() < maxBatchSize) {
+                Map.Entry<Long, Boolean> entry = it.next();
+                Long colorId = entry.getKey();
+                Boolean deleted = pending.remove(colorId);
+                if (deleted == null) {
+                    continue;
+                }
+                if (deleted) {
+                    deletes.add(colorId);
+                } else {
+                    upserts.add(colorId);
+                }
+            }
+
+            try {
+                indexingService.indexColorsByIds(upserts);
+                indexingService.deleteColorsFromIndex(deletes);
+                log.debug("상품 색상 증분 색인 완료 - 색인: {}건, 삭제: {}건", upserts.size(), deletes.size());
+            } catch (Exception e) {
+                log.error("상품 색상 증분 색인 실패 - 색인: {}건, 삭제: {}건, 다음 주기에 재시도",
+                        upserts.size(), deletes.size(), e);
+                upserts.forEach(id -> pending.putIfAbsent(id, false));
+                deletes.forEach(id -> pending.putIfAbsent(id, true));
+                return;
+            }
+        }
+    }
+
+    /**
+     * 현재 대기 중인 colorId 수 (모니터링용)
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+}
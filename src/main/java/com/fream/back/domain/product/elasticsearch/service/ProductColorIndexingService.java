@@ -3,15 +3,19 @@ package com.fream.back.domain.product.elasticsearch.service;
 import com.fream.back.domain.product.elasticsearch.dto.ProductColorIndexDto;
 import com.fream.back.domain.product.elasticsearch.dto.ProductColorSizeRow;
 import com.fream.back.domain.product.elasticsearch.index.ProductColorIndex;
+import com.fream.back.domain.product.elasticsearch.index.ProductSuggestionIndex;
 import com.fream.back.domain.product.elasticsearch.repository.ProductColorEsRepository;
 import com.fream.back.domain.product.elasticsearch.repository.ProductColorIndexQueryRepository;
+import com.fream.back.domain.product.elasticsearch.repository.ProductSuggestionEsRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,6 +24,7 @@ public class ProductColorIndexingService {
 
     private final ProductColorIndexQueryRepository queryRepository;
     private final ProductColorEsRepository productColorEsRepository;
+    private final ProductSuggestionEsRepository productSuggestionEsRepository;
 
     @Transactional
     public void indexAllColors() {
@@ -69,6 +74,7 @@ public class ProductColorIndexingService {
         // ProductColorIndexingService 클래스의 indexAllColors() 메서드에 로깅 추가
         try {
             productColorEsRepository.saveAll(indexList);
+            productSuggestionEsRepository.saveAll(toSuggestions(indexList));
         } catch (Exception e) {
             System.err.println("인덱싱 중 오류 발생: " + e.getMessage());
             e.printStackTrace();
@@ -119,12 +125,93 @@ public class ProductColorIndexingService {
 
         // 4) Elasticsearch에 저장 (upsert)
         productColorEsRepository.save(indexObj);
+        productSuggestionEsRepository.save(ProductSuggestionIndex.from(indexObj));
     }
+    /**
+     * 여러 colorId 일괄 인덱싱
+     * (ProductColorIndexingQueue가 모아둔 변경분을 한 번에 반영)
+     * DB에서 사라진 colorId는 인덱스에서도 삭제한다.
+     */
+    @Transactional(readOnly = true)
+    public void indexColorsByIds(Collection<Long> colorIds) {
+        if (colorIds.isEmpty()) {
+            return;
+        }
+
+        // 1) 기본 정보 + 사이즈 목록을 IN 조회 두 번으로 가져온다
+        List<ProductColorIndexDto> dtoList = queryRepository.findForIndexingDtoByColorIds(colorIds);
+        Map<Long, List<String>> sizeMap = queryRepository.findSizesByColorIds(colorIds).stream()
+                .collect(Collectors.groupingBy(
+                        ProductColorSizeRow::getColorId,
+                        Collectors.mapping(ProductColorSizeRow::getSize, Collectors.toList())
+                ));
+
+        // 2) ProductColorIndex 빌드
+        List<ProductColorIndex> indexList = dtoList.stream()
+                .map(dto -> ProductColorIndex.builder()
+                        .colorId(dto.getColorId())
+                        .productId(dto.getProductId())
+                        .productName(dto.getProductName())
+                        .productEnglishName(dto.getProductEnglishName())
+                        .brandName(dto.getBrandName())
+                        .categoryName(dto.getCategoryName())
+                        .collectionName(dto.getCollectionName())
+                        .brandId(dto.getBrandId())
+                        .categoryId(dto.getCategoryId())
+                        .collectionId(dto.getCollectionId())
+                        .colorName(dto.getColorName())
+                        .gender(dto.getGender())
+                        .releasePrice(dto.getReleasePrice())
+                        .minPrice(dto.getMinPrice())
+                        .maxPrice(dto.getMaxPrice())
+                        .interestCount(dto.getInterestCount())
+                        .releaseDate(dto.getReleaseDate())
+                        .thumbnailUrl(dto.getThumbnailUrl())
+                        .sizes(sizeMap.getOrDefault(dto.getColorId(), Collections.emptyList()))
+                        .build())
+                .toList();
+
+        // 3) Elasticsearch 벌크 저장
+        if (!indexList.isEmpty()) {
+            productColorEsRepository.saveAll(indexList);
+            productSuggestionEsRepository.saveAll(toSuggestions(indexList));
+        }
+
+        // 4) 조회되지 않은 colorId(이미 삭제됨)는 문서도 제거
+        Set<Long> found = indexList.stream()
+                .map(ProductColorIndex::getColorId)
+                .collect(Collectors.toSet());
+        List<Long> missing = colorIds.stream()
+                .filter(id -> !found.contains(id))
+                .toList();
+        if (!missing.isEmpty()) {
+            productColorEsRepository.deleteAllById(missing);
+            productSuggestionEsRepository.deleteAllById(missing);
+        }
+    }
+
     //colorId 문서를 인덱스에서 삭제
     @Transactional
     public void deleteColorFromIndex(Long colorId) {
         // colorId는 Elasticsearch 문서의 @Id로 쓰이므로
         productColorEsRepository.deleteById(colorId);
+        productSuggestionEsRepository.deleteById(colorId);
+    }
+
+    // 여러 colorId 문서를 벌크로 삭제
+    public void deleteColorsFromIndex(Collection<Long> colorIds) {
+        if (colorIds.isEmpty()) {
+            return;
+        }
+        productColorEsRepository.deleteAllById(colorIds);
+        productSuggestionEsRepository.deleteAllById(colorIds);
+    }
+
+    // 상품 색상 문서 → 자동완성 제안 문서
+    private List<ProductSuggestionIndex> toSuggestions(List<ProductColorIndex> indexList) {
+        return indexList.stream()
+                .map(ProductSuggestionIndex::from)
+                .toList();
     }
 
 
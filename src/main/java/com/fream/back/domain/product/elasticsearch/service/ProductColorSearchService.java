@@ -7,6 +7,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fream.back.domain.order.repository.OrderBidRepository;
 import com.fream.back.domain.product.dto.ProductSearchResponseDto;
 import com.fream.back.domain.product.elasticsearch.index.ProductColorIndex;
+import com.fream.back.domain.product.elasticsearch.index.ProductSuggestionIndex;
 import com.fream.back.domain.product.elasticsearch.repository.ProductColorEsRepository;
 import com.fream.back.domain.product.repository.SortOption;
 import com.fream.back.domain.style.repository.StyleRepository;
@@ -39,6 +40,7 @@ public class ProductColorSearchService {
     private final StyleRepository styleRepository;       // <- custom
     private final OrderBidRepository orderBidRepository; // <- custom
     private final ObjectMapper objectMapper;
+    private final ProductSuggestionService productSuggestionService;
     /**
      * 고급 검색 (멀티매치 + 오타 허용 + 동의어 등)
      */
@@ -645,19 +647,36 @@ public class ProductColorSearchService {
 
     /**
      * 자동완성 기능
-     * 로깅 강화 및 안전한 처리
+     * 접두사 매칭은 ProductSuggestionService(트라이 → 제안 인덱스)가 처리하고,
+     * 매칭이 없을 때(오타 등)만 기존 퍼지 검색으로 보완한다.
      */
     public List<String> autocomplete(String query, int limit) {
-        log.info("자동완성 요청 - 쿼리: '{}', 제한: {}", query, limit);
+        log.debug("자동완성 요청 - 쿼리: '{}', 제한: {}", query, limit);
 
         if (query == null || query.isBlank()) {
-            log.info("자동완성 쿼리가 비어있어 빈 결과 반환");
+            log.debug("자동완성 쿼리가 비어있어 빈 결과 반환");
             return List.of();
         }
 
         // 쿼리 정규화 (앞뒤 공백 제거)
         String normalizedQuery = query.trim();
 
+        try {
+            List<String> suggestions = productSuggestionService.suggest(normalizedQuery, limit);
+            if (!suggestions.isEmpty()) {
+                return suggestions;
+            }
+        } catch (Exception e) {
+            log.warn("자동완성 제안 조회 실패, 퍼지 검색으로 대체: {}", e.getMessage());
+        }
+
+        return fuzzyAutocomplete(normalizedQuery, limit);
+    }
+
+    /**
+     * 퍼지 자동완성 (오타 보정용 대체 경로)
+     */
+    private List<String> fuzzyAutocomplete(String normalizedQuery, int limit) {
         try {
             // 1) 향상된 MultiMatchQuery 구성
             MultiMatchQuery.Builder multiMatchBuilder = new MultiMatchQuery.Builder()
@@ -752,50 +771,7 @@ public class ProductColorSearchService {
             log.warn("null 인덱스가 자동완성 문자열 생성에 전달됨");
             return "";
         }
-
-        // null 체크와 빈 문자열 확인
-        String brand = idx.getBrandName() != null ? idx.getBrandName().trim() : "";
-        String productName = idx.getProductName() != null ? idx.getProductName().trim() : "";
-        String colorName = idx.getColorName() != null ? idx.getColorName().trim() : "";
-
-        // 모든 값이 비어있는 경우 체크
-        if (brand.isEmpty() && productName.isEmpty() && colorName.isEmpty()) {
-            log.warn("자동완성 문자열 생성에 필요한 모든 값이 비어있음 - productId: {}, colorId: {}",
-                    idx.getProductId(), idx.getColorId());
-            return "";
-        }
-
-        // 키워드 검색에서 더 잘 작동하도록 개선된 포맷
-        // 브랜드와 제품명이 모두 있는 경우
-        if (!brand.isEmpty() && !productName.isEmpty()) {
-            if (!colorName.isEmpty()) {
-                // 브랜드명 - 상품명 (컬러명) 포맷
-                String suggestion = String.format("%s - %s (%s)", brand, productName, colorName);
-                log.debug("자동완성 문자열 생성: '{}'", suggestion);
-                return suggestion;
-            } else {
-                // 브랜드명 - 상품명 포맷
-                String suggestion = String.format("%s - %s", brand, productName);
-                log.debug("자동완성 문자열 생성: '{}'", suggestion);
-                return suggestion;
-            }
-        }
-
-        // 브랜드명만 있는 경우
-        if (!brand.isEmpty()) {
-            log.debug("자동완성 문자열 생성 (브랜드만): '{}'", brand);
-            return brand;
-        }
-
-        // 상품명만 있는 경우
-        if (!productName.isEmpty()) {
-            log.debug("자동완성 문자열 생성 (상품명만): '{}'", productName);
-            return productName;
-        }
-
-        // 색상명만 있는 경우
-        log.debug("자동완성 문자열 생성 (색상명만): '{}'", colorName);
-        return colorName;
+        return ProductSuggestionIndex.displayTextOf(idx.getBrandName(), idx.getProductName(), idx.getColorName());
     }
 
     /**
@@ -0,0 +1,148 @@
+package com.fream.back.domain.product.elasticsearch.service;
+
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import com.fream.back.domain.product.elasticsearch.index.ProductSuggestionIndex;
+import com.fream.back.domain.product.event.ProductColorChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품 자동완성 제안 서비스
+ *
+ * 1) 인기 상위 N개 제안으로 만든 메모리 트라이에서 먼저 찾는다 (ES 왕복 없음)
+ * 2) 트라이로 확정할 수 없으면 product-suggestions 인덱스에 edge-ngram match 한 번만 질의한다
+ *
+ * 트라이는 기동 완료 시 한 번 만들고, 상품 색상이 바뀌면(ProductColorChangedEvent) 증분 색인이 반영될 시간을
+ * 기다렸다가 다시 만든다. 재구성 전까지는 트라이를 "전체 포함"으로 취급하지 않으므로
+ * 새로 생기거나 이름이 바뀐 상품은 결과가 모자란 접두사에서 ES 조회로 보인다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductSuggestionService {
+
+    private final ElasticsearchOperations esOperations;
+
+    @Value("${product.autocomplete.trie-size:5000}")
+    private int trieSize;
+
+    @Value("${product.autocomplete.trie-top-k:10}")
+    private int trieTopK;
+
+    @Value("${product.autocomplete.trie-max-depth:20}")
+    private int trieMaxDepth;
+
+    // 증분 색인 큐(flush 주기)가 인덱스에 반영할 때까지 재구성을 미루는 시간
+    @Value("${product.autocomplete.trie-settle-ms:5000}")
+    private long trieSettleMs;
+
+    private volatile ProductSuggestionTrie trie = ProductSuggestionTrie.empty();
+
+    // 마지막으로 트라이에 반영되지 않은 변경이 들어온 시각 (0이면 최신)
+    private final AtomicLong staleSince = new AtomicLong();
+
+    /**
+     * 자동완성 제안 조회
+     *
+     * @return 인기순 표시 문자열 목록 (매칭이 없으면 빈 목록)
+     */
+    public List<String> suggest(String query, int limit) {
+        List<String> cached = trie.lookup(query, limit, staleSince.get() == 0);
+        if (cached != null) {
+            log.debug("자동완성 트라이 적중 - 쿼리: '{}', 결과 수: {}", query, cached.size());
+            return cached;
+        }
+
+        String normalized = ProductSuggestionTrie.normalize(query);
+        NativeQuery nativeQuery = NativeQuery.builder()
+                .withQuery(Query.of(q -> q.match(m -> m
+                        .field("suggest")
+                        .query(normalized)
+                        .operator(Operator.And))))
+                .withSort(s -> s.field(f -> f.field("interestCount").order(SortOrder.Desc)))
+                .withPageable(PageRequest.of(0, limit))
+                .build();
+
+        SearchHits<ProductSuggestionIndex> hits = esOperations.search(nativeQuery, ProductSuggestionIndex.class);
+        return hits.getSearchHits().stream()
+                .map(SearchHit::getContent)
+                .map(ProductSuggestionIndex::getDisplayText)
+                .filter(StringUtils::hasText)
+                .distinct()
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuildTrie();
+    }
+
+    /**
+     * 커밋된 상품 색상 변경이 있으면 트라이를 오래된 것으로 표시한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductColorChanged(ProductColorChangedEvent event) {
+        staleSince.compareAndSet(0, System.currentTimeMillis());
+    }
+
+    /**
+     * 변경 후 trieSettleMs가 지났으면 트라이를 다시 만든다.
+     */
+    @Scheduled(fixedDelayString = "${product.autocomplete.trie-stale-check-ms:10000}")
+    public void rebuildIfStale() {
+        long since = staleSince.get();
+        if (since != 0 && System.currentTimeMillis() - since >= trieSettleMs) {
+            rebuildTrie();
+        }
+    }
+
+    /**
+     * 인기 상위 trieSize개 제안으로 트라이를 새로 만들어 교체한다.
+     * 관심 수 변화는 증분 색인으로 인덱스에 반영되므로 주기적으로 다시 읽어온다.
+     */
+    @Scheduled(fixedDelayString = "${product.autocomplete.trie-refresh-ms:600000}",
+            initialDelayString = "${product.autocomplete.trie-refresh-ms:600000}")
+    public void rebuildTrie() {
+        // 읽기 시작 이후 들어온 변경은 staleSince가 다시 세워져 다음 주기에 반영된다
+        long since = staleSince.getAndSet(0);
+        try {
+            NativeQuery nativeQuery = NativeQuery.builder()
+                    .withQuery(Query.of(q -> q.matchAll(m -> m)))
+                    .withSort(s -> s.field(f -> f.field("interestCount").order(SortOrder.Desc)))
+                    .withPageable(PageRequest.of(0, trieSize))
+                    .build();
+
+            SearchHits<ProductSuggestionIndex> hits = esOperations.search(nativeQuery, ProductSuggestionIndex.class);
+            List<ProductSuggestionTrie.Entry> entries = hits.getSearchHits().stream()
+                    .map(SearchHit::getContent)
+                    .filter(doc -> StringUtils.hasText(doc.getSuggest()) && StringUtils.hasText(doc.getDisplayText()))
+                    .map(doc -> new ProductSuggestionTrie.Entry(doc.getSuggest(), doc.getDisplayText()))
+                    .toList();
+
+            boolean complete = hits.getTotalHits() <= trieSize;
+            trie = ProductSuggestionTrie.build(entries, trieTopK, trieMaxDepth, complete);
+            log.info("자동완성 트라이 갱신 완료 - 제안 수: {}, 전체 포함 여부: {}", entries.size(), complete);
+        } catch (Exception e) {
+            staleSince.compareAndSet(0, since);
+            log.error("자동완성 트라이 갱신 실패 - 기존 트라이 유지: {}", e.getMessage(), e);
+        }
+    }
+}
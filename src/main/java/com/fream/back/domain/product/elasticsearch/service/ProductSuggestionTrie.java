@@ -0,0 +1,110 @@
+package com.fream.back.domain.product.elasticsearch.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 자동완성 접두사 트라이 (불변, 빌드 후 교체 방식)
+ *
+ * 인기순(interestCount 내림차순)으로 정렬된 제안을 순서대로 넣으면 각 노드는 먼저 들어온 topK개만 보관하므로,
+ * 노드의 목록이 곧 해당 접두사의 인기순 상위 결과가 된다. 조회는 접두사 길이만큼만 내려가면 된다.
+ */
+public final class ProductSuggestionTrie {
+
+    private static final ProductSuggestionTrie EMPTY = new ProductSuggestionTrie(0, 0, false);
+
+    private final Node root = new Node();
+    private final int topK;
+    private final int maxDepth;
+    // 카탈로그 전체가 트라이에 들어있는지 여부 (true면 결과가 topK 미만이어도 확정 결과)
+    private final boolean complete;
+
+    private ProductSuggestionTrie(int topK, int maxDepth, boolean complete) {
+        this.topK = topK;
+        this.maxDepth = maxDepth;
+        this.complete = complete;
+    }
+
+    public static ProductSuggestionTrie empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param entries  인기순으로 정렬된 (검색어 원문, 표시 문자열) 목록
+     * @param topK     노드당 보관할 제안 수
+     * @param maxDepth 색인할 최대 접두사 길이
+     * @param complete entries가 카탈로그 전체인지 여부
+     */
+    public static ProductSuggestionTrie build(List<Entry> entries, int topK, int maxDepth, boolean complete) {
+        ProductSuggestionTrie trie = new ProductSuggestionTrie(topK, maxDepth, complete);
+        for (Entry entry : entries) {
+            trie.insert(entry);
+        }
+        return trie;
+    }
+
+    public List<String> lookup(String query, int limit) {
+        return lookup(query, limit, true);
+    }
+
+    /**
+     * 접두사에 해당하는 제안 목록.
+     * 트라이만으로 결과를 확정할 수 없으면(보관 개수 부족) null을 반환해 ES 조회로 넘긴다.
+     *
+     * @param upToDate false면 빌드 이후 카탈로그가 바뀐 것으로 보고, 보관 개수가 limit에 못 미치는 결과를 확정하지 않는다
+     */
+    public List<String> lookup(String query, int limit, boolean upToDate) {
+        String key = normalize(query);
+        if (key.isEmpty() || key.length() > maxDepth || limit > topK) {
+            return null;
+        }
+
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+
+        List<String> top = node != null ? node.top : Collections.emptyList();
+        if (top.size() >= limit) {
+            return top.subList(0, limit);
+        }
+        return complete && upToDate && !top.isEmpty() ? top : null;
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    // 검색어의 각 단어 시작 위치부터 maxDepth 글자까지 경로를 만들고, 지나가는 노드마다 제안을 등록
+    private void insert(Entry entry) {
+        String text = normalize(entry.suggest());
+        for (int start = 0; start < text.length(); start++) {
+            if (start > 0 && text.charAt(start - 1) != ' ') {
+                continue;
+            }
+            Node node = root;
+            int end = Math.min(text.length(), start + maxDepth);
+            for (int i = start; i < end; i++) {
+                node = node.children.computeIfAbsent(text.charAt(i), c -> new Node());
+                if (node.top.size() < topK && !node.top.contains(entry.displayText())) {
+                    node.top.add(entry.displayText());
+                }
+            }
+        }
+    }
+
+    public record Entry(String suggest, String displayText) {
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<String> top = new ArrayList<>(2);
+    }
+}
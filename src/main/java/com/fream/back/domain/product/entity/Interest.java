@@ -9,6 +9,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(name = "interest",
+        uniqueConstraints = @UniqueConstraint(name = "uk_interest_user_product_color", columnNames = {"user_id", "product_color_id"}))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -50,6 +50,11 @@ public class ProductColor extends BaseTimeEntity {
     @OneToMany(mappedBy = "productColor", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ProductDetailImage> productDetailImages = new ArrayList<>();
 
+    // 관심 수 (색인용 비정규화) - ProductColorRepository.updateInterestCount의 원자적 UPDATE로만 변경
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private Long interestCount = 0L;
+
     @Builder.Default
     @OneToMany(mappedBy = "productColor", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Interest> interests = new ArrayList<>();
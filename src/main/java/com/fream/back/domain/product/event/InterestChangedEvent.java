@@ -0,0 +1,18 @@
+package com.fream.back.domain.product.event;
+
+/**
+ * 관심 상품 상태 변경 이벤트.
+ *
+ * <p>{@code InterestCommandService}가 관심 토글 시 발행하며,
+ * {@code ProductInterestCache}가 커밋 이후 수신해 사용자별 관심 상품 집합에 반영한다.
+ *
+ * @param email 사용자 이메일
+ * @param productColorId 상품 색상 ID
+ * @param interested 변경 후 관심 여부
+ */
+public record InterestChangedEvent(
+        String email,
+        Long productColorId,
+        boolean interested
+) {
+}
@@ -0,0 +1,24 @@
+package com.fream.back.domain.product.event;
+
+/**
+ * 상품 색상 검색 문서 갱신 요청 이벤트.
+ *
+ * <p>관심 토글, 사이즈/가격 변경, 색상 생성·수정·삭제 시 발행되며,
+ * {@code ProductColorIndexingQueue}가 커밋 이후 수신해 colorId 단위로 모았다가 ES 벌크 요청으로 반영한다.
+ *
+ * @param colorId 상품 색상 ID (ES 문서 ID)
+ * @param deleted true면 문서 삭제, false면 재색인(upsert)
+ */
+public record ProductColorChangedEvent(
+        Long colorId,
+        boolean deleted
+) {
+
+    public static ProductColorChangedEvent updated(Long colorId) {
+        return new ProductColorChangedEvent(colorId, false);
+    }
+
+    public static ProductColorChangedEvent deleted(Long colorId) {
+        return new ProductColorChangedEvent(colorId, true);
+    }
+}
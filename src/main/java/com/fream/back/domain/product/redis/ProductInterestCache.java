@@ -0,0 +1,63 @@
+package com.fream.back.domain.product.redis;
+
+import com.fream.back.domain.product.event.InterestChangedEvent;
+import com.fream.back.domain.product.repository.InterestRepository;
+import com.fream.back.global.utils.RedisMembershipSet;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 사용자별 관심 상품 색상 ID 집합
+ *
+ * 상품 목록/상세에서 관심 등록 여부를 사용자 조회 없이 이메일 기준 Redis 집합으로 확인한다.
+ * 집합이 없을 때만 DB에서 적재하며, 관심 토글 커밋 이후 이벤트로 갱신한다. (저장 방식은 {@link RedisMembershipSet})
+ */
+@Component
+public class ProductInterestCache {
+
+    private final InterestRepository interestRepository;
+    private final RedisMembershipSet interests;
+    private final boolean enabled;
+
+    public ProductInterestCache(
+            InterestRepository interestRepository,
+            @Qualifier("writeRedisTemplate") RedisTemplate<String, String> writeRedisTemplate,
+            @Value("${product.interest-cache.enabled:true}") boolean enabled,
+            @Value("${product.interest-cache.ttl-hours:24}") long ttlHours,
+            @Value("${product.interest-cache.max-size:5000}") int maxSize,
+            @Value("${product.interest-cache.too-large-ttl-minutes:60}") long tooLargeTtlMinutes) {
+        this.interestRepository = interestRepository;
+        this.enabled = enabled;
+        this.interests = new RedisMembershipSet(writeRedisTemplate, "product:interested:",
+                Duration.ofHours(ttlHours), maxSize, Duration.ofMinutes(tooLargeTtlMinutes));
+    }
+
+    /**
+     * 주어진 상품 색상 중 사용자가 관심 등록한 색상 ID를 조회합니다.
+     *
+     * @return 관심 등록한 색상 ID 집합, 캐시를 사용할 수 없으면 null (호출 측에서 DB로 대체)
+     */
+    public Set<Long> getInterestedColorIds(String email, Collection<Long> colorIds) {
+        if (!enabled) {
+            return null;
+        }
+        return interests.findMembers(email, colorIds,
+                limit -> interestRepository.findProductColorIdsByUserEmail(email, PageRequest.of(0, limit)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInterestChanged(InterestChangedEvent event) {
+        if (enabled && event.email() != null && event.productColorId() != null) {
+            interests.apply(event.email(), event.productColorId(), event.interested());
+        }
+    }
+}
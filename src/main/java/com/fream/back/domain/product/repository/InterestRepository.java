@@ -3,10 +3,17 @@ package com.fream.back.domain.product.repository;
 import com.fream.back.domain.product.entity.Interest;
 import com.fream.back.domain.product.entity.ProductColor;
 import com.fream.back.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface InterestRepository extends JpaRepository<Interest, Long> {
     boolean existsByUserAndProductColor(User user, ProductColor productColor);
@@ -14,4 +21,33 @@ public interface InterestRepository extends JpaRepository<Interest, Long> {
     Optional<Interest> findByUserAndProductColor(User user, ProductColor productColor);
 
     List<Interest> findAllByUserId(Long userId);
-}
\ No newline at end of file
+
+    // 사용자가 관심 등록한 상품 색상 ID 전체
+    @Query("SELECT i.productColor.id FROM Interest i WHERE i.user.id = :userId")
+    List<Long> findProductColorIdsByUserId(@Param("userId") Long userId);
+
+    // 사용자가 관심 등록한 상품 색상 ID 목록 (Redis 관심 집합 적재용)
+    @Query("SELECT i.productColor.id FROM Interest i WHERE i.user.email = :email")
+    List<Long> findProductColorIdsByUserEmail(@Param("email") String email, Pageable pageable);
+
+    // 주어진 상품 색상 중 사용자가 관심 등록한 색상 ID
+    @Query("SELECT i.productColor.id FROM Interest i WHERE i.user.email = :email AND i.productColor.id IN :productColorIds")
+    Set<Long> findProductColorIdsByUserEmailAndProductColorIdIn(@Param("email") String email,
+                                                                @Param("productColorIds") Collection<Long> productColorIds);
+
+    // 관심 상품 삭제 (삭제된 행 수 반환, 엔티티 조회 없음)
+    @Modifying
+    @Query("DELETE FROM Interest i WHERE i.user.id = :userId AND i.productColor.id = :productColorId")
+    int deleteByUserIdAndProductColorId(@Param("userId") Long userId,
+                                        @Param("productColorId") Long productColorId);
+
+    // 관심 상품이 없을 때만 추가 (추가된 행 수 반환, 상품 색상이 없거나 이미 있으면 0)
+    @Modifying
+    @Query("INSERT INTO Interest (user, productColor, createdDate, modifiedDate) " +
+            "SELECT u, pc, :now, :now FROM User u, ProductColor pc " +
+            "WHERE u.id = :userId AND pc.id = :productColorId " +
+            "AND NOT EXISTS (SELECT 1 FROM Interest i WHERE i.user.id = :userId AND i.productColor.id = :productColorId)")
+    int insertIfAbsent(@Param("userId") Long userId,
+                       @Param("productColorId") Long productColorId,
+                       @Param("now") LocalDateTime now);
+}
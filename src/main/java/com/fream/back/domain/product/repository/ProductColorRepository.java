@@ -2,9 +2,23 @@ package com.fream.back.domain.product.repository;
 
 import com.fream.back.domain.product.entity.ProductColor;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface ProductColorRepository extends JpaRepository<ProductColor, Long> {
     List<ProductColor> findByProductId(Long productId);
+
+    // 관심 수 원자적 증감
+    @Modifying
+    @Query("UPDATE ProductColor pc SET pc.interestCount = pc.interestCount + :delta WHERE pc.id = :productColorId")
+    int updateInterestCount(@Param("productColorId") Long productColorId, @Param("delta") long delta);
+
+    // 사용자가 관심 등록한 상품 색상의 관심 수 일괄 차감 (회원 탈퇴 시 관심 행이 cascade로 삭제되기 전에 실행)
+    @Modifying
+    @Query("UPDATE ProductColor pc SET pc.interestCount = pc.interestCount - 1 " +
+            "WHERE pc.id IN (SELECT i.productColor.id FROM Interest i WHERE i.user.id = :userId)")
+    int decrementInterestCountOfUserInterests(@Param("userId") Long userId);
 }
@@ -1,18 +1,24 @@
 package com.fream.back.domain.product.service.interest;
 
-import com.fream.back.domain.product.entity.Interest;
 import com.fream.back.domain.product.entity.ProductColor;
+import com.fream.back.domain.product.event.InterestChangedEvent;
+import com.fream.back.domain.product.event.ProductColorChangedEvent;
 import com.fream.back.domain.product.exception.ProductException;
 import com.fream.back.domain.product.exception.ProductErrorCode;
 import com.fream.back.domain.product.repository.InterestRepository;
-import com.fream.back.domain.product.service.productColor.ProductColorQueryService;
-import com.fream.back.domain.user.entity.User;
+import com.fream.back.domain.product.repository.ProductColorRepository;
+import com.fream.back.domain.user.event.UserDeletingEvent;
 import com.fream.back.domain.user.service.query.UserQueryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * 관심 상품 명령(Command) 서비스
  * 관심 상품의 추가, 삭제 기능을 제공합니다.
@@ -25,11 +31,13 @@ public class InterestCommandService {
 
     private final InterestRepository interestRepository;
     private final UserQueryService userQueryService;
-    private final ProductColorQueryService productColorQueryService;
+    private final ProductColorRepository productColorRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 관심 상품 토글 (추가/삭제)
      * 이미 등록된 관심 상품이면 삭제하고, 등록되지 않은 경우 추가합니다.
+     * (user_id, product_color_id) 유니크 키에 대한 조건부 DELETE/INSERT와 관심 수 원자적 증감으로 처리합니다.
      *
      * @param userEmail 사용자 이메일
      * @param productColorId 상품 색상 ID
@@ -39,36 +47,31 @@ public class InterestCommandService {
         log.info("관심 상품 토글 요청 - 사용자 이메일: {}, 상품 색상ID: {}", userEmail, productColorId);
 
         try {
-            User user = userQueryService.findByEmail(userEmail); // 이메일로 유저 조회
-            log.debug("사용자 조회 성공 - 사용자ID: {}, 이메일: {}", user.getId(), userEmail);
+            Long userId = userQueryService.findUserIdByEmail(userEmail); // 이메일로 유저 ID 조회
+            log.debug("사용자 조회 성공 - 사용자ID: {}, 이메일: {}", userId, userEmail);
 
-            ProductColor productColor = productColorQueryService.findById(productColorId); // ProductColor 조회
-            log.debug("상품 색상 조회 성공 - 색상ID: {}, 색상명: {}", productColorId, productColor.getColorName());
+            // 삭제를 먼저 시도하고, 지운 행이 없을 때만 추가 (사용자/상품 색상의 관심 컬렉션을 로딩하지 않음)
+            if (interestRepository.deleteByUserIdAndProductColorId(userId, productColorId) > 0) {
+                productColorRepository.updateInterestCount(productColorId, -1);
+                eventPublisher.publishEvent(new InterestChangedEvent(userEmail, productColorId, false));
+                log.info("관심 상품 삭제 성공 - 사용자ID: {}, 상품 색상ID: {}", userId, productColorId);
+            } else if (interestRepository.insertIfAbsent(userId, productColorId, LocalDateTime.now()) > 0) {
+                productColorRepository.updateInterestCount(productColorId, 1);
+                eventPublisher.publishEvent(new InterestChangedEvent(userEmail, productColorId, true));
+                log.info("관심 상품 추가 성공 - 사용자ID: {}, 상품 색상ID: {}", userId, productColorId);
+            } else if (!productColorRepository.existsById(productColorId)) {
+                throw new ProductException(ProductErrorCode.PRODUCT_COLOR_NOT_FOUND,
+                        "해당 색상을 찾을 수 없습니다. ID: " + productColorId);
+            } else {
+                // 같은 사용자의 동시 요청이 먼저 추가한 경우 (이미 관심 상태)
+                log.debug("이미 등록된 관심 상품 - 사용자ID: {}, 상품 색상ID: {}", userId, productColorId);
+                return;
+            }
 
-            // 관심 상품이 이미 등록되어 있는지 확인
-            interestRepository.findByUserAndProductColor(user, productColor).ifPresentOrElse(
-                    interest -> {
-                        // 이미 등록된 경우 삭제
-                        log.debug("기존 관심 상품 삭제 - 관심ID: {}", interest.getId());
-                        interest.unassignUser(); // 연관관계 해제
-                        interest.unassignProductColor(); // 연관관계 해제
-                        interestRepository.delete(interest);
-                        log.info("관심 상품 삭제 성공 - 사용자ID: {}, 상품 색상ID: {}", user.getId(), productColorId);
-                    },
-                    () -> {
-                        // 등록되지 않은 경우 추가
-                        log.debug("새 관심 상품 추가");
-                        Interest newInterest = Interest.builder()
-                                .user(user)
-                                .productColor(productColor)
-                                .build();
-                        newInterest.assignUser(user); // 연관관계 설정
-                        newInterest.assignProductColor(productColor); // 연관관계 설정
-                        Interest savedInterest = interestRepository.save(newInterest);
-                        log.info("관심 상품 추가 성공 - 관심ID: {}, 사용자ID: {}, 상품 색상ID: {}",
-                                savedInterest.getId(), user.getId(), productColorId);
-                    }
-            );
+            // interestCount 반영을 위한 재색인 요청 (커밋 후 큐에서 비동기 처리)
+            eventPublisher.publishEvent(ProductColorChangedEvent.updated(productColorId));
+        } catch (ProductException e) {
+            throw e;
         } catch (IllegalArgumentException e) {
             log.error("관심 상품 토글 실패 - 사용자 이메일: {}, 상품 색상ID: {}, 오류: {}",
                     userEmail, productColorId, e.getMessage(), e);
@@ -81,6 +84,26 @@ public class InterestCommandService {
         }
     }
 
+    /**
+     * 회원 탈퇴 전에 사용자가 관심 등록한 상품 색상들의 관심 수를 차감합니다.
+     * 관심 행 자체는 사용자 삭제 시 함께 삭제됩니다. (cascade)
+     * 탈퇴 트랜잭션 안에서 동기로 실행되므로 차감과 삭제가 함께 커밋/롤백됩니다.
+     *
+     * @param event 회원 탈퇴 직전 이벤트
+     */
+    @EventListener
+    public void releaseInterestCounts(UserDeletingEvent event) {
+        List<Long> productColorIds = interestRepository.findProductColorIdsByUserId(event.userId());
+        if (productColorIds.isEmpty()) {
+            return;
+        }
+        int updated = productColorRepository.decrementInterestCountOfUserInterests(event.userId());
+        // interestCount 반영을 위한 재색인 요청 (커밋 후 큐에서 비동기 처리)
+        productColorIds.forEach(productColorId ->
+                eventPublisher.publishEvent(ProductColorChangedEvent.updated(productColorId)));
+        log.info("탈퇴 사용자의 관심 수 정리 - 사용자ID: {}, 상품 색상 {}건", event.userId(), updated);
+    }
+
     /**
      * 상품 색상에 대한 모든 관심 상품 삭제
      *
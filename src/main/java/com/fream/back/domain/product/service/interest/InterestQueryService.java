@@ -3,7 +3,9 @@ package com.fream.back.domain.product.service.interest;
 import com.fream.back.domain.product.dto.ProductSearchResponseDto;
 import com.fream.back.domain.product.exception.ProductException;
 import com.fream.back.domain.product.exception.ProductErrorCode;
+import com.fream.back.domain.product.redis.ProductInterestCache;
 import com.fream.back.domain.product.repository.InterestQueryDslRepository;
+import com.fream.back.domain.product.repository.InterestRepository;
 import com.fream.back.domain.product.repository.SortOption;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,6 +14,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
 /**
  * 관심 상품 조회(Query) 서비스
  * 관심 상품 목록 조회 기능을 제공합니다.
@@ -23,6 +31,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class InterestQueryService {
 
     private final InterestQueryDslRepository interestQueryDslRepository;
+    private final InterestRepository interestRepository;
+    private final ProductInterestCache productInterestCache;
 
     /**
      * 사용자의 관심 상품 목록 조회
@@ -56,4 +66,73 @@ public class InterestQueryService {
                     "관심 상품 목록 조회 중 오류가 발생했습니다.", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 주어진 상품 색상 중 사용자가 관심 등록한 색상 ID 조회
+     * 사용자별 Redis 관심 집합을 우선 사용하고, 사용할 수 없으면 DB로 확인합니다.
+     *
+     * @param email 사용자 이메일 (비로그인이면 빈 결과)
+     * @param colorIds 상품 색상 ID 목록
+     * @return 관심 등록한 색상 ID 집합
+     */
+    public Set<Long> getInterestedColorIds(String email, Collection<Long> colorIds) {
+        if (isAnonymous(email) || colorIds == null || colorIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<Long> interestedColorIds = productInterestCache.getInterestedColorIds(email, colorIds);
+        if (interestedColorIds != null) {
+            return interestedColorIds;
+        }
+        return interestRepository.findProductColorIdsByUserEmailAndProductColorIdIn(email, colorIds);
+    }
+
+    /**
+     * 상품 목록 DTO에 로그인 사용자의 관심 등록 여부를 표시
+     * 조회 실패 시 관심 여부는 기본값(false)으로 둡니다.
+     *
+     * @param products 상품 목록 DTO
+     * @param email 사용자 이메일
+     */
+    public void markInterested(List<ProductSearchResponseDto> products, String email) {
+        if (isAnonymous(email) || products == null || products.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Long> colorIds = products.stream()
+                    .map(ProductSearchResponseDto::getColorId)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+            Set<Long> interestedColorIds = getInterestedColorIds(email, colorIds);
+            products.forEach(dto -> dto.setInterested(interestedColorIds.contains(dto.getColorId())));
+        } catch (Exception e) {
+            log.warn("관심 상품 여부 표시 중 오류 발생 - 기본값으로 진행: email={}, 원인={}", email, e.getMessage());
+        }
+    }
+
+    /**
+     * 로그인 사용자의 특정 상품 색상 관심 등록 여부 (상품 상세용)
+     *
+     * @param email 사용자 이메일
+     * @param colorId 상품 색상 ID
+     * @return 관심 등록 여부 (비로그인 또는 조회 실패 시 false)
+     */
+    public boolean isInterested(String email, Long colorId) {
+        if (colorId == null) {
+            return false;
+        }
+        try {
+            return !getInterestedColorIds(email, List.of(colorId)).isEmpty();
+        } catch (Exception e) {
+            log.warn("관심 상품 여부 확인 중 오류 발생 - false 반환: email={}, 색상ID={}, 원인={}",
+                    email, colorId, e.getMessage());
+            return false;
+        }
+    }
+
+    private static boolean isAnonymous(String email) {
+        return email == null || email.isEmpty() || "anonymous".equals(email) || "anonymousUser".equals(email);
+    }
+}
@@ -4,6 +4,7 @@ import com.fream.back.domain.product.dto.ProductColorCreateRequestDto;
 import com.fream.back.domain.product.dto.ProductColorUpdateRequestDto;
 import com.fream.back.domain.product.entity.*;
 import com.fream.back.domain.product.entity.enumType.ColorType;
+import com.fream.back.domain.product.event.ProductColorChangedEvent;
 import com.fream.back.domain.product.exception.ProductException;
 import com.fream.back.domain.product.exception.ProductErrorCode;
 import com.fream.back.domain.product.repository.ProductColorRepository;
@@ -23,6 +24,7 @@ import org.springframework.batch.core.Job;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -53,6 +55,7 @@ public class ProductColorCommandService {
     private final ProductDetailImageQueryService productDetailImageQueryService;
     private final NginxCachePurgeUtil nginxCachePurgeUtil;
     private final JobLauncher jobLauncher;      // 배치 런처
+    private final ApplicationEventPublisher eventPublisher;
 
     @Qualifier("createSizesJob")
     @Autowired
@@ -156,6 +159,8 @@ public class ProductColorCommandService {
             );
             log.debug("상품 사이즈 생성 완료");
 
+            eventPublisher.publishEvent(ProductColorChangedEvent.updated(savedColor.getId()));
+
             log.info("상품 색상 생성 성공 - 상품ID: {}, 색상ID: {}, 색상명: {}",
                     productId, savedColor.getId(), savedColor.getColorName());
             return savedColor.getId();
@@ -373,6 +378,7 @@ public class ProductColorCommandService {
             // 3) 저장
             log.debug("상품 색상 DB 저장 시작");
             productColorRepository.save(productColor);
+            eventPublisher.publishEvent(ProductColorChangedEvent.updated(productColorId));
             log.info("상품 색상 수정 성공 - 색상ID: {}, 색상명: {}", productColorId, productColor.getColorName());
         } catch (ProductException e) {
             throw e; // 이미 적절한 예외라면 그대로 전파
@@ -474,6 +480,7 @@ public class ProductColorCommandService {
             // 삭제
             log.debug("상품 색상 DB 삭제 시작");
             productColorRepository.delete(productColor);
+            eventPublisher.publishEvent(ProductColorChangedEvent.deleted(productColorId));
             log.info("상품 색상 삭제 성공 - 색상ID: {}", productColorId);
         } catch (ProductException e) {
             throw e; // 이미 적절한 예외라면 그대로 전파
@@ -1,14 +1,18 @@
 package com.fream.back.domain.product.service.productImage;
 
+import com.fream.back.domain.product.dto.ProductSearchResponseDto;
 import com.fream.back.domain.product.entity.ProductImage;
 import com.fream.back.domain.product.exception.ProductException;
 import com.fream.back.domain.product.exception.ProductErrorCode;
 import com.fream.back.domain.product.repository.ProductImageRepository;
+import com.fream.back.global.utils.ImageVariantGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -22,6 +26,27 @@ import java.util.List;
 public class ProductImageQueryService {
 
     private final ProductImageRepository productImageRepository;
+    private final ImageVariantGenerator imageVariantGenerator;
+
+    /**
+     * 상품 목록 DTO에 대표 이미지의 리사이즈 파생본 srcset을 채운다.
+     * 대표 이미지는 파일명만 저장되므로 이미지 조회 API(/products/query/{productId}/images) URL로 만든다.
+     *
+     * @param products 상품 목록 DTO
+     */
+    public void markThumbnailSrcset(List<ProductSearchResponseDto> products) {
+        if (products == null) {
+            return;
+        }
+        for (ProductSearchResponseDto dto : products) {
+            if (dto.getId() == null || dto.getThumbnailImageUrl() == null || dto.getThumbnailImageUrl().isBlank()) {
+                continue;
+            }
+            String url = "/products/query/" + dto.getId() + "/images?imageName="
+                    + URLEncoder.encode(dto.getThumbnailImageUrl(), StandardCharsets.UTF_8);
+            dto.setThumbnailSrcset(imageVariantGenerator.srcset(url));
+        }
+    }
 
     /**
      * 상품 색상 ID로 모든 이미지 조회
@@ -4,12 +4,14 @@ import com.fream.back.domain.product.entity.Category;
 import com.fream.back.domain.product.entity.ProductColor;
 import com.fream.back.domain.product.entity.ProductSize;
 import com.fream.back.domain.product.entity.enumType.SizeType;
+import com.fream.back.domain.product.event.ProductColorChangedEvent;
 import com.fream.back.domain.product.exception.ProductException;
 import com.fream.back.domain.product.exception.ProductErrorCode;
 import com.fream.back.domain.product.repository.ProductSizeRepository;
 import com.fream.back.domain.product.service.category.CategoryQueryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +31,7 @@ public class ProductSizeCommandService {
 
     private final ProductSizeRepository productSizeRepository;
     private final CategoryQueryService categoryQueryService; // 카테고리 쿼리 서비스 주입
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 상품 색상에 대한 사이즈 생성
@@ -97,6 +100,10 @@ public class ProductSizeCommandService {
                         "유효하지 않은 사이즈가 있습니다: " + String.join(", ", invalidSizes));
             }
 
+            if (createdCount > 0) {
+                eventPublisher.publishEvent(ProductColorChangedEvent.updated(productColor.getId()));
+            }
+
             log.info("상품 사이즈 생성 성공 - 색상ID: {}, 생성된 사이즈 수: {}",
                     productColor.getId(), createdCount);
         } catch (ProductException e) {
@@ -164,6 +171,7 @@ public class ProductSizeCommandService {
             log.debug("상품 사이즈 조회 성공 - 사이즈: {}, 색상ID: {}",
                     productSize.getSize(), productSize.getProductColor().getId());
             productSizeRepository.delete(productSize);
+            eventPublisher.publishEvent(ProductColorChangedEvent.updated(productSize.getProductColor().getId()));
             log.info("상품 사이즈 삭제 성공 - 사이즈ID: {}, 사이즈: {}",
                     sizeId, productSize.getSize());
         } catch (ProductException e) {
@@ -200,6 +208,8 @@ public class ProductSizeCommandService {
                     productSize.getSize(), productSize.getProductColor().getId());
 
             productSize.update(purchasePrice, salePrice, quantity);
+            // minPrice/maxPrice 반영을 위한 재색인 요청
+            eventPublisher.publishEvent(ProductColorChangedEvent.updated(productSize.getProductColor().getId()));
             log.info("상품 사이즈 수정 성공 - 사이즈ID: {}, 사이즈: {}",
                     sizeId, productSize.getSize());
         } catch (ProductException e) {
@@ -4,6 +4,7 @@ import com.fream.back.domain.sale.dto.SaleBidResponseDto;
 import com.fream.back.domain.sale.dto.SaleBidStatusCountDto;
 import com.fream.back.domain.sale.service.query.SaleBidQueryService;
 import com.fream.back.global.dto.ResponseDto;
+import com.fream.back.global.dto.commonDto;
 import com.fream.back.global.utils.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 
@@ -36,6 +37,24 @@ public class SaleBidQueryController {
         return ResponseEntity.ok(ResponseDto.success(result, "판매 입찰 목록 조회 성공"));
     }
 
+    // SaleBid 목록 커서 조회 (최신순, 이전 응답의 nextCursor를 after로 전달)
+    @GetMapping("/cursor")
+    public ResponseEntity<ResponseDto<commonDto.CursorPageDto<SaleBidResponseDto>>> getSaleBidsByCursor(
+            @RequestParam(value = "saleBidStatus", required = false) String saleBidStatus,
+            @RequestParam(value = "saleStatus", required = false) String saleStatus,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "includeTotal", defaultValue = "false") boolean includeTotal
+    ) {
+        String email = SecurityUtils.extractEmailFromSecurityContext();
+        log.info("사용자 [{}]의 판매 입찰 목록을 커서로 조회합니다. 필터 - 입찰 상태: {}, 판매 상태: {}, 커서: {}",
+                email, saleBidStatus, saleStatus, after);
+
+        commonDto.CursorPageDto<SaleBidResponseDto> result =
+                saleBidQueryService.getSaleBidsByCursor(email, saleBidStatus, saleStatus, after, size, includeTotal);
+        return ResponseEntity.ok(ResponseDto.success(result, "판매 입찰 목록 조회 성공"));
+    }
+
     // SaleBid 상태 카운트 조회
     @GetMapping("/count")
     public ResponseEntity<ResponseDto<SaleBidStatusCountDto>> getSaleBidStatusCounts() {
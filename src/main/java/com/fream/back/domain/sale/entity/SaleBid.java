@@ -16,6 +16,12 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(indexes = {
+        // 사용자별 입찰 내역 키셋 페이징 (생성일, ID 내림차순)
+        @Index(name = "idx_sale_bid_seller_created", columnList = "seller_id, created_date, id"),
+        // 판매자별 상태 개수 집계 (GROUP BY status)
+        @Index(name = "idx_sale_bid_seller_status", columnList = "seller_id, status")
+})
 public class SaleBid extends BaseTimeEntity {
 
     @Id
@@ -2,9 +2,12 @@ package com.fream.back.domain.sale.repository;
 
 import com.fream.back.domain.sale.dto.SaleBidResponseDto;
 import com.fream.back.domain.sale.dto.SaleBidStatusCountDto;
+import com.fream.back.global.utils.PageUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 /**
  * 판매 입찰 레포지토리 커스텀 인터페이스
  * 커스텀 쿼리 메서드를 정의합니다.
@@ -27,6 +30,34 @@ public interface SaleBidRepositoryCustom {
             Pageable pageable
     );
 
+    /**
+     * 필터 조건에 맞는 판매 입찰 목록을 (생성일, ID) 키셋 커서로 조회 (최신순)
+     *
+     * @param email 판매자 이메일
+     * @param saleBidStatus 판매 입찰 상태 필터 (null인 경우 모든 상태 조회)
+     * @param saleStatus 판매 상태 필터 (null인 경우 모든 상태 조회)
+     * @param cursor 이전 페이지 마지막 행의 커서 (null이면 첫 페이지)
+     * @param limit 조회할 최대 건수
+     * @return 판매 입찰 DTO 목록
+     */
+    List<SaleBidResponseDto> findSaleBidsByFiltersAfter(
+            String email,
+            String saleBidStatus,
+            String saleStatus,
+            PageUtils.Cursor cursor,
+            int limit
+    );
+
+    /**
+     * 필터 조건에 맞는 판매 입찰 개수 조회
+     *
+     * @param email 판매자 이메일
+     * @param saleBidStatus 판매 입찰 상태 필터 (null인 경우 모든 상태 조회)
+     * @param saleStatus 판매 상태 필터 (null인 경우 모든 상태 조회)
+     * @return 판매 입찰 개수
+     */
+    long countSaleBidsByFilters(String email, String saleBidStatus, String saleStatus);
+
     /**
      * 사용자별 판매 입찰 상태 카운트 조회
      *
@@ -10,6 +10,9 @@ import com.fream.back.domain.sale.entity.BidStatus;
 import com.fream.back.domain.sale.entity.QSale;
 import com.fream.back.domain.sale.entity.QSaleBid;
 import com.fream.back.domain.shipment.entity.QSellerShipment;
+import com.fream.back.global.utils.PageUtils;
+import com.fream.back.global.utils.StatusCountUtils;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -21,6 +24,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 판매 입찰 레포지토리 커스텀 구현체
@@ -98,19 +102,7 @@ public class SaleBidRepositoryImpl implements SaleBidRepositoryCustom {
                     .fetch();
 
             // Count Query for pagination
-            Long countResult = queryFactory
-                    .select(saleBid.count())
-                    .from(saleBid)
-                    .join(saleBid.seller).on(emailCondition)
-                    .leftJoin(saleBid.sale, sale)
-                    .where(
-                            statusCondition,
-                            saleStatusCondition
-                    )
-                    .fetchOne();
-
-            // fetchOne()이 null을 반환할 수 있으므로 안전하게 처리
-            long total = countResult != null ? countResult : 0L;
+            long total = countSaleBidsByFilters(email, saleBidStatus, saleStatus);
 
             log.debug("판매 입찰 조회 결과 - 총 {}건, 현재 페이지 {}건", total, content.size());
             return new PageImpl<>(content, pageable, total);
@@ -120,6 +112,101 @@ public class SaleBidRepositoryImpl implements SaleBidRepositoryCustom {
         }
     }
 
+    /**
+     * 필터 조건에 맞는 판매 입찰 목록 키셋 조회
+     * 인덱스(seller_id, created_date, id)를 역순으로 읽어 커서 다음 행부터 limit건만 읽는다.
+     */
+    @Override
+    public List<SaleBidResponseDto> findSaleBidsByFiltersAfter(
+            String email,
+            String saleBidStatus,
+            String saleStatus,
+            PageUtils.Cursor cursor,
+            int limit
+    ) {
+        log.debug("판매 입찰 키셋 조회 - 이메일: {}, 입찰 상태: {}, 판매 상태: {}, 커서: {}, limit: {}",
+                email, saleBidStatus, saleStatus, cursor, limit);
+
+        QSaleBid saleBid = QSaleBid.saleBid;
+        QSale sale = QSale.sale;
+        QProductSize productSize = QProductSize.productSize;
+        QProductColor productColor = QProductColor.productColor;
+        QProduct product = QProduct.product;
+        QProductImage productImage = QProductImage.productImage;
+        QSellerShipment sellerShipment = QSellerShipment.sellerShipment;
+
+        // 필터 조건 생성
+        BooleanExpression emailCondition = saleBid.seller.email.eq(email);
+        BooleanExpression statusCondition = saleBidStatus != null ? saleBid.status.stringValue().eq(saleBidStatus) : null;
+        BooleanExpression saleStatusCondition = saleStatus != null ? sale.status.stringValue().eq(saleStatus) : null;
+        BooleanExpression cursorCondition = cursor != null
+                ? saleBid.createdDate.lt(cursor.createdDate())
+                        .or(saleBid.createdDate.eq(cursor.createdDate()).and(saleBid.id.lt(cursor.id())))
+                : null;
+
+        return queryFactory
+                .select(Projections.constructor(
+                        SaleBidResponseDto.class,
+                        saleBid.id,
+                        product.id,
+                        product.name,
+                        product.englishName,
+                        productSize.size,
+                        productColor.colorName,
+                        productImage.imageUrl,
+                        saleBid.bidPrice,
+                        saleBid.status.stringValue(),
+                        sale.status.stringValue(),
+                        sellerShipment.status.stringValue(),
+                        saleBid.createdDate,
+                        saleBid.modifiedDate,
+                        saleBid.isInstantSale
+                ))
+                .from(saleBid)
+                .join(saleBid.seller).on(emailCondition)
+                .join(saleBid.productSize, productSize)
+                .join(productSize.productColor, productColor)
+                .join(productColor.product, product)
+                .join(productColor.thumbnailImage, productImage)
+                .leftJoin(saleBid.sale, sale)
+                .leftJoin(sale.sellerShipment, sellerShipment)
+                .where(
+                        statusCondition,
+                        saleStatusCondition,
+                        cursorCondition
+                )
+                .orderBy(saleBid.createdDate.desc(), saleBid.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 필터 조건에 맞는 판매 입찰 개수 조회
+     */
+    @Override
+    public long countSaleBidsByFilters(String email, String saleBidStatus, String saleStatus) {
+        QSaleBid saleBid = QSaleBid.saleBid;
+        QSale sale = QSale.sale;
+
+        BooleanExpression emailCondition = saleBid.seller.email.eq(email);
+        BooleanExpression statusCondition = saleBidStatus != null ? saleBid.status.stringValue().eq(saleBidStatus) : null;
+        BooleanExpression saleStatusCondition = saleStatus != null ? sale.status.stringValue().eq(saleStatus) : null;
+
+        Long countResult = queryFactory
+                .select(saleBid.count())
+                .from(saleBid)
+                .join(saleBid.seller).on(emailCondition)
+                .leftJoin(saleBid.sale, sale)
+                .where(
+                        statusCondition,
+                        saleStatusCondition
+                )
+                .fetchOne();
+
+        // fetchOne()이 null을 반환할 수 있으므로 안전하게 처리
+        return countResult != null ? countResult : 0L;
+    }
+
     /**
      * 사용자별 판매 입찰 상태 카운트 조회
      */
@@ -131,32 +218,21 @@ public class SaleBidRepositoryImpl implements SaleBidRepositoryCustom {
         BooleanExpression emailCondition = saleBid.seller.email.eq(email);
 
         try {
-            // 대기 중인 입찰 수
-            Long pendingResult = queryFactory
-                    .select(saleBid.count())
+            // 상태별 개수를 한 번의 GROUP BY 쿼리로 조회
+            List<Object[]> rows = queryFactory
+                    .select(saleBid.status, saleBid.count())
                     .from(saleBid)
-                    .where(emailCondition.and(saleBid.status.eq(BidStatus.PENDING)))
-                    .fetchOne();
-
-            // 매칭 완료된 입찰 수
-            Long matchedResult = queryFactory
-                    .select(saleBid.count())
-                    .from(saleBid)
-                    .where(emailCondition.and(saleBid.status.eq(BidStatus.MATCHED)))
-                    .fetchOne();
-
-            // 취소 또는 완료된 입찰 수
-            Long cancelledOrCompletedResult = queryFactory
-                    .select(saleBid.count())
-                    .from(saleBid)
-                    .where(emailCondition.and(
-                            saleBid.status.in(BidStatus.CANCELLED, BidStatus.COMPLETED)))
-                    .fetchOne();
+                    .where(emailCondition)
+                    .groupBy(saleBid.status)
+                    .fetch()
+                    .stream()
+                    .map(Tuple::toArray)
+                    .toList();
 
-            // null 체크 및 기본값 설정 (fetchOne()이 null을 반환할 수 있음)
-            long pendingCount = pendingResult != null ? pendingResult : 0L;
-            long matchedCount = matchedResult != null ? matchedResult : 0L;
-            long cancelledOrCompletedCount = cancelledOrCompletedResult != null ? cancelledOrCompletedResult : 0L;
+            Map<BidStatus, Long> counts = StatusCountUtils.toCountMap(BidStatus.class, rows);
+            long pendingCount = counts.get(BidStatus.PENDING);
+            long matchedCount = counts.get(BidStatus.MATCHED);
+            long cancelledOrCompletedCount = StatusCountUtils.sum(counts, BidStatus.CANCELLED, BidStatus.COMPLETED);
 
             log.debug("판매 입찰 상태 카운트 - 대기: {}, 매칭: {}, 취소/완료: {}",
                     pendingCount, matchedCount, cancelledOrCompletedCount);
@@ -4,17 +4,23 @@ import com.fream.back.domain.sale.dto.SaleBidResponseDto;
 import com.fream.back.domain.sale.dto.SaleBidStatusCountDto;
 import com.fream.back.domain.sale.entity.SaleBid;
 import com.fream.back.domain.sale.repository.SaleBidRepository;
+import com.fream.back.global.dto.commonDto;
+import com.fream.back.global.utils.PageUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 
 @Service
 @RequiredArgsConstructor
 public class SaleBidQueryService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final SaleBidRepository saleBidRepository;
 
     @Transactional(readOnly = true)
@@ -35,6 +41,21 @@ public class SaleBidQueryService {
     public Page<SaleBidResponseDto> getSaleBids(String email, String saleBidStatus, String saleStatus, Pageable pageable) {
         return saleBidRepository.findSaleBidsByFilters(email, saleBidStatus, saleStatus, pageable);
     }
+    // 키셋 커서 목록 조회 (최신순, 전체 개수는 첫 페이지에서 요청한 경우에만)
+    @Transactional(readOnly = true)
+    public commonDto.CursorPageDto<SaleBidResponseDto> getSaleBidsByCursor(String email, String saleBidStatus, String saleStatus,
+                                                                           String after, int size, boolean includeTotal) {
+        PageUtils.Cursor cursor = PageUtils.decodeCursor(after);
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        List<SaleBidResponseDto> rows = saleBidRepository.findSaleBidsByFiltersAfter(
+                email, saleBidStatus, saleStatus, cursor, pageSize + 1);
+        Long total = includeTotal && cursor == null
+                ? saleBidRepository.countSaleBidsByFilters(email, saleBidStatus, saleStatus)
+                : null;
+        return PageUtils.toCursorPageDto(rows, pageSize,
+                dto -> new PageUtils.Cursor(dto.getCreatedDate(), dto.getSaleBidId()), total);
+    }
     public SaleBidStatusCountDto getSaleBidStatusCounts(String email) {
         return saleBidRepository.countSaleBidsByStatus(email);
     }
@@ -0,0 +1,54 @@
+package com.fream.back.domain.shipment.config;
+
+import com.fream.back.domain.shipment.entity.ShipmentStatus;
+import com.fream.back.domain.shipment.repository.OrderShipmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 배송 조회 대상을 ID 구간으로 나누는 Partitioner
+ * 각 파티션의 ExecutionContext에 minId/maxId(포함)를 담는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ShipmentIdRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID_KEY = "minId";
+    public static final String MAX_ID_KEY = "maxId";
+
+    private final OrderShipmentRepository orderShipmentRepository;
+    private final Collection<ShipmentStatus> statuses;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Long minId = orderShipmentRepository.findMinTrackingTargetId(statuses);
+        Long maxId = orderShipmentRepository.findMaxTrackingTargetId(statuses);
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        if (minId == null || maxId == null) {
+            log.info("배송 상태 업데이트 대상 없음");
+            return partitions;
+        }
+
+        int grid = Math.max(1, gridSize);
+        long span = maxId - minId + 1;
+        long rangeSize = Math.max(1, (span + grid - 1) / grid);
+
+        int index = 0;
+        for (long from = minId; from <= maxId; from += rangeSize) {
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_ID_KEY, from);
+            context.putLong(MAX_ID_KEY, Math.min(from + rangeSize - 1, maxId));
+            partitions.put("partition" + index++, context);
+        }
+
+        log.info("배송 상태 업데이트 파티션 분할: minId={}, maxId={}, 파티션={}개", minId, maxId, partitions.size());
+        return partitions;
+    }
+}
@@ -0,0 +1,85 @@
+package com.fream.back.domain.shipment.config;
+
+import com.fream.back.domain.shipment.dto.ShipmentTrackingTarget;
+import com.fream.back.domain.shipment.entity.ShipmentStatus;
+import com.fream.back.domain.shipment.repository.OrderShipmentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * ID 키셋으로 배송 조회 대상을 읽는 ItemReader (파티션 1개 = 인스턴스 1개)
+ *
+ * 오프셋 페이징은 처리 중 상태가 바뀐 행이 조건에서 빠지면서 뒤 페이지가 당겨져 행을 건너뛴다.
+ * 마지막으로 넘긴 ID 다음부터 읽으므로 그런 누락이 없고, 커밋된 마지막 ID를 저장해 재시작 시 이어 읽는다.
+ */
+@Slf4j
+public class ShipmentKeysetItemReader implements ItemStreamReader<ShipmentTrackingTarget> {
+
+    private static final String LAST_ID_KEY = "shipmentKeysetItemReader.lastId";
+
+    private final OrderShipmentRepository orderShipmentRepository;
+    private final Collection<ShipmentStatus> statuses;
+    private final long minId;
+    private final long maxId;
+    private final int pageSize;
+
+    private final Deque<ShipmentTrackingTarget> buffer = new ArrayDeque<>();
+    private long lastReturnedId;
+    private long lastFetchedId;
+    private boolean exhausted;
+
+    public ShipmentKeysetItemReader(OrderShipmentRepository orderShipmentRepository,
+                                    Collection<ShipmentStatus> statuses,
+                                    long minId, long maxId, int pageSize) {
+        this.orderShipmentRepository = orderShipmentRepository;
+        this.statuses = statuses;
+        this.minId = minId;
+        this.maxId = maxId;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        lastReturnedId = executionContext.containsKey(LAST_ID_KEY)
+                ? executionContext.getLong(LAST_ID_KEY)
+                : minId - 1;
+        lastFetchedId = lastReturnedId;
+        buffer.clear();
+        exhausted = false;
+        log.debug("배송 키셋 리더 시작: 범위={}~{}, 시작 ID 초과={}", minId, maxId, lastReturnedId);
+    }
+
+    @Override
+    public ShipmentTrackingTarget read() {
+        if (buffer.isEmpty() && !exhausted) {
+            List<ShipmentTrackingTarget> page = orderShipmentRepository.findTrackingTargets(
+                    statuses, lastFetchedId, maxId, PageRequest.of(0, pageSize));
+            if (page.isEmpty()) {
+                exhausted = true;
+            } else {
+                buffer.addAll(page);
+                lastFetchedId = page.get(page.size() - 1).shipmentId();
+                exhausted = page.size() < pageSize;
+            }
+        }
+
+        ShipmentTrackingTarget next = buffer.poll();
+        if (next != null) {
+            lastReturnedId = next.shipmentId();
+        }
+        return next;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(LAST_ID_KEY, lastReturnedId);
+    }
+}
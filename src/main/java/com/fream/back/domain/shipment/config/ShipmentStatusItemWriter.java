@@ -0,0 +1,93 @@
+package com.fream.back.domain.shipment.config;
+
+import com.fream.back.domain.notification.service.command.NotificationCommandService;
+import com.fream.back.domain.shipment.config.ShipmentItemProcessor.TrackingResult;
+import com.fream.back.domain.shipment.entity.OrderShipment;
+import com.fream.back.domain.shipment.entity.ShipmentStatus;
+import com.fream.back.domain.shipment.repository.OrderShipmentRepository;
+import com.fream.back.domain.shipment.service.command.OrderShipmentCommandService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 배송 조회 결과를 모아 반영하는 ItemWriter
+ *
+ * 청크의 조회가 모두 끝나길 기다린 뒤, 상태가 바뀐 배송건만 한 번의 IN 조회로 불러와 갱신한다.
+ * 변경은 청크 트랜잭션 커밋 시 함께 반영되므로, 청크가 실패하면 주문 완료 처리까지 같이 롤백된다.
+ * 조회에 실패한 건은 로그만 남기고 다음 실행에서 다시 조회한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ShipmentStatusItemWriter implements ItemWriter<CompletableFuture<TrackingResult>> {
+
+    private final OrderShipmentRepository orderShipmentRepository;
+    private final NotificationCommandService notificationService;
+    private final OrderShipmentCommandService orderService;
+
+    @Override
+    public void write(Chunk<? extends CompletableFuture<TrackingResult>> chunk) {
+        List<TrackingResult> changed = new ArrayList<>();
+        int failedCount = 0;
+
+        for (CompletableFuture<TrackingResult> future : chunk) {
+            TrackingResult result = future.join();
+            if (!result.isSuccess()) {
+                failedCount++;
+                log.warn("배송 상태 조회 실패, 다음 실행에서 재시도: shipmentId={}, trackingNumber={}, 사유={}",
+                        result.target().shipmentId(), result.target().trackingNumber(), result.error().getMessage());
+                continue;
+            }
+            // 현재 상태와 동일한 경우 중복 처리 방지
+            if (result.newStatus() != result.target().status()) {
+                changed.add(result);
+            }
+        }
+
+        if (!changed.isEmpty()) {
+            Map<Long, OrderShipment> shipments = orderShipmentRepository.findAllById(
+                            changed.stream().map(result -> result.target().shipmentId()).toList())
+                    .stream()
+                    .collect(Collectors.toMap(OrderShipment::getId, Function.identity()));
+
+            for (TrackingResult result : changed) {
+                OrderShipment shipment = shipments.get(result.target().shipmentId());
+                // 읽은 뒤 다른 경로로 이미 바뀐 경우도 중복 처리하지 않음
+                if (shipment == null || shipment.getStatus() == result.newStatus()) {
+                    continue;
+                }
+                apply(shipment, result.newStatus());
+            }
+        }
+
+        log.info("배송 상태 반영: 청크={}건, 변경={}건, 조회 실패={}건", chunk.size(), changed.size(), failedCount);
+    }
+
+    private void apply(OrderShipment shipment, ShipmentStatus newStatus) {
+        if (newStatus == ShipmentStatus.DELIVERED) {
+            log.info("배송 완료 처리: shipmentId={}, orderId={}", shipment.getId(), shipment.getOrder().getId());
+
+            shipment.updateStatus(ShipmentStatus.DELIVERED);
+
+            // 주문 완료 처리 및 알림
+            orderService.completeOrder(shipment.getOrder().getId());
+            notificationService.notifyShipmentCompleted(shipment.getOrder());
+
+        } else if (newStatus == ShipmentStatus.OUT_FOR_DELIVERY) {
+            log.info("배송 출발 처리: shipmentId={}", shipment.getId());
+            shipment.updateStatus(ShipmentStatus.OUT_FOR_DELIVERY);
+
+        } else {
+            log.info("배송 중 상태 업데이트: shipmentId={}", shipment.getId());
+            shipment.updateStatus(ShipmentStatus.IN_TRANSIT);
+        }
+    }
+}
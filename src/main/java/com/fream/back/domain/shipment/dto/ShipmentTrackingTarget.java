@@ -0,0 +1,13 @@
+package com.fream.back.domain.shipment.dto;
+
+import com.fream.back.domain.shipment.entity.ShipmentStatus;
+
+/**
+ * 배송 상태 갱신 배치의 조회 대상 (엔티티 대신 필요한 값만 읽음)
+ *
+ * @param shipmentId 배송 ID
+ * @param trackingNumber 운송장 번호
+ * @param status 읽은 시점의 배송 상태
+ */
+public record ShipmentTrackingTarget(Long shipmentId, String trackingNumber, ShipmentStatus status) {
+}
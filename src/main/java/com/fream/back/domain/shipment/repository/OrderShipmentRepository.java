@@ -1,12 +1,42 @@
 package com.fream.back.domain.shipment.repository;
 
+import com.fream.back.domain.shipment.dto.ShipmentTrackingTarget;
 import com.fream.back.domain.shipment.entity.OrderShipment;
 import com.fream.back.domain.shipment.entity.ShipmentStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderShipmentRepository extends JpaRepository<OrderShipment, Long> {
     List<OrderShipment> findByStatusIn(List<ShipmentStatus> statuses);
-}
 
+    /**
+     * 배송 조회 대상(상태 일치 + 운송장 번호 존재) 중 최소 ID
+     */
+    @Query("SELECT MIN(s.id) FROM OrderShipment s WHERE s.status IN :statuses AND s.trackingNumber IS NOT NULL")
+    Long findMinTrackingTargetId(@Param("statuses") Collection<ShipmentStatus> statuses);
+
+    /**
+     * 배송 조회 대상(상태 일치 + 운송장 번호 존재) 중 최대 ID
+     */
+    @Query("SELECT MAX(s.id) FROM OrderShipment s WHERE s.status IN :statuses AND s.trackingNumber IS NOT NULL")
+    Long findMaxTrackingTargetId(@Param("statuses") Collection<ShipmentStatus> statuses);
+
+    /**
+     * ID 키셋 기준 배송 조회 대상 페이지 (afterId 초과 ~ maxId 이하, ID 오름차순)
+     * 오프셋 대신 마지막 ID로 이어 읽으므로 처리 중 상태가 바뀌어도 건너뛰는 행이 없다.
+     */
+    @Query("SELECT new com.fream.back.domain.shipment.dto.ShipmentTrackingTarget(s.id, s.trackingNumber, s.status) " +
+            "FROM OrderShipment s " +
+            "WHERE s.id > :afterId AND s.id <= :maxId " +
+            "AND s.status IN :statuses AND s.trackingNumber IS NOT NULL " +
+            "ORDER BY s.id ASC")
+    List<ShipmentTrackingTarget> findTrackingTargets(@Param("statuses") Collection<ShipmentStatus> statuses,
+                                                     @Param("afterId") Long afterId,
+                                                     @Param("maxId") Long maxId,
+                                                     Pageable pageable);
+}
@@ -22,10 +22,16 @@ import com.fream.back.domain.warehouseStorage.service.command.WarehouseStorageCo
 import com.fream.back.global.utils.CjTrackingPlaywright;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * 주문 배송 관련 비즈니스 로직을 처리하는 서비스
@@ -41,6 +47,10 @@ public class OrderShipmentCommandService {
     private final OrderBidQueryService orderBidQueryService;
     private final WarehouseStorageCommandService warehouseStorageCommandService;
     private final CjTrackingPlaywright cjTrackingPlaywright;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${shipment.tracking.batch-size:50}")
+    private int trackingBatchSize; // 한 번에 동시 조회를 요청할 배송건 수
 
     /**
      * 주문에 대한 배송 정보를 생성합니다.
@@ -304,8 +314,9 @@ public class OrderShipmentCommandService {
 
     /**
      * 전체 배송 상태를 주기적으로 업데이트합니다.
+     * 배송 조회는 트랜잭션 밖에서 브라우저 워커 풀로 동시에 수행하고,
+     * 상태 반영은 배송건마다 짧은 트랜잭션으로 커밋합니다. (한 건 실패가 다른 건에 영향 없음)
      */
-    @Transactional
     public void updateShipmentStatuses() {
         log.info("전체 배송 상태 업데이트 시작");
 
@@ -319,75 +330,91 @@ public class OrderShipmentCommandService {
         int successCount = 0;
         int errorCount = 0;
 
-        for (OrderShipment shipment : shipments) {
-            try {
+        // 대기열이 넘치지 않도록 일정 건수씩 나눠 동시 조회
+        for (int from = 0; from < shipments.size(); from += trackingBatchSize) {
+            List<OrderShipment> batch = shipments.subList(from, Math.min(from + trackingBatchSize, shipments.size()));
+
+            // 2. CJ대한통운에서 현재 배송 상태 동시 조회
+            Map<Long, CompletableFuture<String>> lookups = new LinkedHashMap<>();
+            for (OrderShipment shipment : batch) {
                 String trackingNumber = shipment.getTrackingNumber();
                 if (trackingNumber == null || trackingNumber.isBlank()) {
                     log.warn("운송장 번호가 없는 배송건 스킵: shipmentId={}", shipment.getId());
                     errorCount++;
                     continue;
                 }
+                log.debug("배송 상태 조회 요청: shipmentId={}, trackingNumber={}", shipment.getId(), trackingNumber);
+                lookups.put(shipment.getId(), cjTrackingPlaywright.getCurrentTrackingStatusAsync(trackingNumber));
+            }
 
-                log.debug("배송 상태 조회 시작: shipmentId={}, trackingNumber={}",
-                        shipment.getId(), trackingNumber);
-
-                // 2. CJ대한통운에서 현재 배송 상태 추출
-                String currentStatus = cjTrackingPlaywright.getCurrentTrackingStatus(trackingNumber);
-                ShipmentStatus newStatus = mapToShipmentStatus(currentStatus);
-
-                log.debug("배송 상태 조회 결과: shipmentId={}, currentStatus={}, newStatus={}",
-                        shipment.getId(), currentStatus, newStatus);
-
-                // 현재 상태와 동일한 경우 중복 처리 방지
-                if (shipment.getStatus() == newStatus) {
-                    log.debug("상태 변경 없음 (중복 처리 방지): shipmentId={}, status={}",
-                            shipment.getId(), newStatus);
+            // 3. 조회가 끝난 순서와 무관하게 건별 트랜잭션으로 반영
+            for (Map.Entry<Long, CompletableFuture<String>> lookup : lookups.entrySet()) {
+                Long shipmentId = lookup.getKey();
+                try {
+                    String currentStatus = lookup.getValue().join();
+                    transactionTemplate.executeWithoutResult(status -> applyTrackedStatus(shipmentId, currentStatus));
                     successCount++;
-                    continue;
+                } catch (Exception e) {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    log.error("배송 상태 업데이트 실패: shipmentId={}, error={}", shipmentId, cause.getMessage(), cause);
+                    errorCount++;
                 }
+            }
+        }
 
-                // 3. 배송 상태가 DELIVERED인 경우 Order와 Shipment 상태 업데이트
-                if (newStatus == ShipmentStatus.DELIVERED) {
-                    log.info("배송 완료 처리: shipmentId={}", shipment.getId());
+        log.info("전체 배송 상태 업데이트 완료: 성공={}건, 실패={}건", successCount, errorCount);
+    }
 
-                    shipment.updateStatus(newStatus);
-                    Order order = shipment.getOrder();
-                    order.updateStatus(OrderStatus.COMPLETED);
+    /**
+     * 조회한 배송사 상태를 배송건에 반영합니다. (호출 측 트랜잭션 안에서 실행)
+     *
+     * @param shipmentId 배송 ID
+     * @param currentStatus 배송사 상태 텍스트
+     */
+    private void applyTrackedStatus(Long shipmentId, String currentStatus) {
+        OrderShipment shipment = orderShipmentRepository.findById(shipmentId)
+                .orElseThrow(() -> new ShipmentException(
+                        ShipmentErrorCode.SHIPMENT_NOT_FOUND,
+                        "Shipment 정보를 찾을 수 없습니다: " + shipmentId
+                ));
+        ShipmentStatus newStatus = mapToShipmentStatus(currentStatus);
+
+        log.debug("배송 상태 조회 결과: shipmentId={}, currentStatus={}, newStatus={}",
+                shipmentId, currentStatus, newStatus);
+
+        // 현재 상태와 동일한 경우 중복 처리 방지 (조회 사이에 다른 경로로 바뀐 경우 포함)
+        if (shipment.getStatus() == newStatus) {
+            log.debug("상태 변경 없음 (중복 처리 방지): shipmentId={}, status={}", shipmentId, newStatus);
+            return;
+        }
 
-                    // 배송 완료 알림 전송
-                    User buyer = order.getUser();
-                    notificationCommandService.createNotification(
-                            buyer.getId(),
-                            NotificationCategory.SHOPPING,
-                            NotificationType.BID,
-                            "상품이 배송 완료되었습니다. 주문 ID: " + order.getId()
-                    );
+        // 배송 상태가 DELIVERED인 경우 Order와 Shipment 상태 업데이트
+        if (newStatus == ShipmentStatus.DELIVERED) {
+            log.info("배송 완료 처리: shipmentId={}", shipmentId);
 
-                    log.info("배송 완료 알림 전송: userId={}, orderId={}",
-                            buyer.getId(), order.getId());
+            shipment.updateStatus(newStatus);
+            Order order = shipment.getOrder();
+            order.updateStatus(OrderStatus.COMPLETED);
 
-                } else if (newStatus == ShipmentStatus.OUT_FOR_DELIVERY &&
-                        shipment.getStatus() != ShipmentStatus.OUT_FOR_DELIVERY) {
-                    log.info("배송 출발 처리: shipmentId={}", shipment.getId());
-                    shipment.updateStatus(ShipmentStatus.OUT_FOR_DELIVERY);
+            // 배송 완료 알림 전송
+            User buyer = order.getUser();
+            notificationCommandService.createNotification(
+                    buyer.getId(),
+                    NotificationCategory.SHOPPING,
+                    NotificationType.BID,
+                    "상품이 배송 완료되었습니다. 주문 ID: " + order.getId()
+            );
 
-                } else {
-                    log.debug("기타 상태 업데이트: shipmentId={}, newStatus={}",
-                            shipment.getId(), newStatus);
-                    shipment.updateStatus(newStatus);
-                }
+            log.info("배송 완료 알림 전송: userId={}, orderId={}", buyer.getId(), order.getId());
 
-                orderShipmentRepository.save(shipment);
-                successCount++;
+        } else if (newStatus == ShipmentStatus.OUT_FOR_DELIVERY) {
+            log.info("배송 출발 처리: shipmentId={}", shipmentId);
+            shipment.updateStatus(ShipmentStatus.OUT_FOR_DELIVERY);
 
-            } catch (Exception e) {
-                log.error("배송 상태 업데이트 실패: shipmentId={}, error={}",
-                        shipment.getId(), e.getMessage(), e);
-                errorCount++;
-            }
+        } else {
+            log.debug("기타 상태 업데이트: shipmentId={}, newStatus={}", shipmentId, newStatus);
+            shipment.updateStatus(newStatus);
         }
-
-        log.info("전체 배송 상태 업데이트 완료: 성공={}건, 실패={}건", successCount, errorCount);
     }
 
     /**
@@ -448,7 +475,6 @@ public class OrderShipmentCommandService {
      * @return 갱신된 배송 상태
      * @throws ShipmentException 배송 상태 조회 실패 시 발생
      */
-    @Transactional
     public ShipmentStatus updateAndCheckShipmentStatus(Long shipmentId, String courier, String trackingNumber) throws Exception {
         log.info("단일 송장 상태 즉시 조회 및 업데이트: shipmentId={}, courier={}, trackingNumber={}",
                 shipmentId, courier, trackingNumber);
@@ -459,48 +485,50 @@ public class OrderShipmentCommandService {
         }
 
         try {
-            // 1) 기존 Shipment 로드
-            OrderShipment shipment = orderShipmentRepository.findById(shipmentId)
-                    .orElseThrow(() -> new ShipmentException(
-                            ShipmentErrorCode.SHIPMENT_NOT_FOUND,
-                            "Shipment 정보를 찾을 수 없습니다: " + shipmentId
-                    ));
-
-            log.debug("배송 정보 조회 완료: shipmentId={}, 현재상태={}",
-                    shipment.getId(), shipment.getStatus());
-
-            // 2) 송장 정보 업데이트 (택배사, 송장번호)
-            shipment.updateTrackingInfo(courier, trackingNumber);
-            log.debug("송장 정보 업데이트 완료: courier={}, trackingNumber={}", courier, trackingNumber);
-
-            // 3) CJ대한통운 조회로 현재 상태 확인
+            // 1) CJ대한통운 조회로 현재 상태 확인 (DB 트랜잭션 밖에서 수행)
             String currentStatus = cjTrackingPlaywright.getCurrentTrackingStatus(trackingNumber);
             ShipmentStatus newStatus = mapToShipmentStatus(currentStatus);
 
             log.info("배송 상태 조회 결과: currentStatus={}, mappedStatus={}", currentStatus, newStatus);
 
-            // 4) 상태에 따른 처리
-            if (newStatus == ShipmentStatus.DELIVERED) {
-                log.info("배송 완료 처리: shipmentId={}", shipmentId);
+            // 2) 조회 결과를 짧은 트랜잭션으로 반영
+            return transactionTemplate.execute(status -> {
+                OrderShipment shipment = orderShipmentRepository.findById(shipmentId)
+                        .orElseThrow(() -> new ShipmentException(
+                                ShipmentErrorCode.SHIPMENT_NOT_FOUND,
+                                "Shipment 정보를 찾을 수 없습니다: " + shipmentId
+                        ));
 
-                shipment.updateStatus(ShipmentStatus.DELIVERED);
+                log.debug("배송 정보 조회 완료: shipmentId={}, 현재상태={}",
+                        shipment.getId(), shipment.getStatus());
 
-                // 주문 완료 로직
-                completeOrder(shipment.getOrder().getId());
+                // 송장 정보 업데이트 (택배사, 송장번호)
+                shipment.updateTrackingInfo(courier, trackingNumber);
+                log.debug("송장 정보 업데이트 완료: courier={}, trackingNumber={}", courier, trackingNumber);
 
-            } else if (newStatus == ShipmentStatus.OUT_FOR_DELIVERY) {
-                log.info("배송 출발 처리: shipmentId={}", shipmentId);
-                shipment.updateStatus(ShipmentStatus.OUT_FOR_DELIVERY);
+                // 상태에 따른 처리
+                if (newStatus == ShipmentStatus.DELIVERED) {
+                    log.info("배송 완료 처리: shipmentId={}", shipmentId);
 
-            } else {
-                log.info("배송 중 상태 업데이트: shipmentId={}", shipmentId);
-                shipment.updateStatus(ShipmentStatus.IN_TRANSIT);
-            }
+                    shipment.updateStatus(ShipmentStatus.DELIVERED);
+
+                    // 주문 완료 로직
+                    completeOrder(shipment.getOrder().getId());
+
+                } else if (newStatus == ShipmentStatus.OUT_FOR_DELIVERY) {
+                    log.info("배송 출발 처리: shipmentId={}", shipmentId);
+                    shipment.updateStatus(ShipmentStatus.OUT_FOR_DELIVERY);
+
+                } else {
+                    log.info("배송 중 상태 업데이트: shipmentId={}", shipmentId);
+                    shipment.updateStatus(ShipmentStatus.IN_TRANSIT);
+                }
 
-            // 5) 상태 반환
-            log.info("송장 상태 확인 완료: shipmentId={}, finalStatus={}",
-                    shipmentId, shipment.getStatus());
-            return shipment.getStatus();
+                // 상태 반환
+                log.info("송장 상태 확인 완료: shipmentId={}, finalStatus={}",
+                        shipmentId, shipment.getStatus());
+                return shipment.getStatus();
+            });
 
         } catch (ShipmentException e) {
             throw e;
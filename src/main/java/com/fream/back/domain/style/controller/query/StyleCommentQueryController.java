@@ -1,9 +1,11 @@
 package com.fream.back.domain.style.controller.query;
 
+import com.fream.back.domain.style.dto.StyleCommentResponseDto;
 import com.fream.back.domain.style.dto.StyleCommentsResponseDto;
 import com.fream.back.domain.style.exception.StyleErrorCode;
 import com.fream.back.domain.style.exception.StyleException;
 import com.fream.back.domain.style.service.query.StyleCommentQueryService;
+import com.fream.back.global.dto.commonDto;
 import com.fream.back.global.utils.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -69,4 +71,30 @@ public class StyleCommentQueryController {
                     "스타일 댓글 목록 조회 중 오류가 발생했습니다.", e);
         }
     }
+
+    /**
+     * 특정 댓글의 대댓글 커서 조회 API (최신순)
+     * 댓글 목록 응답의 nextReplyCursor 또는 이전 응답의 nextCursor를 after로 넘깁니다.
+     *
+     * @param commentId 부모(루트) 댓글 ID
+     * @param after 이전 페이지의 커서 (처음부터 조회하면 생략)
+     * @param size 페이지 크기 (최대 100)
+     * @return 대댓글 커서 페이지
+     */
+    @GetMapping("/replies/{commentId}")
+    public ResponseEntity<commonDto.CursorPageDto<StyleCommentResponseDto>> getReplies(
+            @PathVariable("commentId") Long commentId,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", defaultValue = "10") int size
+    ) {
+        log.info("대댓글 커서 조회 요청: commentId={}, after={}, size={}", commentId, after, size);
+
+        String email = SecurityUtils.extractEmailFromSecurityContext();
+        commonDto.CursorPageDto<StyleCommentResponseDto> replies =
+                styleCommentQueryService.getReplies(commentId, email, after, size);
+
+        log.info("대댓글 커서 조회 완료: commentId={}, 결과 수={}, hasNext={}",
+                commentId, replies.getContent().size(), replies.isHasNext());
+        return ResponseEntity.ok(replies);
+    }
 }
\ No newline at end of file
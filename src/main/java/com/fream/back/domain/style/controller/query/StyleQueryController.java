@@ -10,18 +10,19 @@ import com.fream.back.domain.style.service.kafka.StyleViewEventProducer;
 import com.fream.back.domain.style.service.query.StyleQueryService;
 import com.fream.back.domain.user.entity.Gender;
 import com.fream.back.global.config.security.JwtAuthenticationFilter;
+import com.fream.back.global.dto.commonDto;
+import com.fream.back.global.exception.file.FileNotFoundException;
+import com.fream.back.global.utils.MediaStreamingUtil;
 import com.fream.back.global.utils.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-
 @Slf4j
 @RestController
 @RequestMapping("/styles/queries")
@@ -30,6 +31,7 @@ public class StyleQueryController {
 
     private final StyleQueryService styleQueryService;
     private final StyleViewEventProducer styleViewEventProducer;
+    private final MediaStreamingUtil mediaStreamingUtil;
 
     /**
      * 스타일 상세 정보 조회 API
@@ -137,6 +139,30 @@ public class StyleQueryController {
         return ResponseEntity.ok(styles);
     }
 
+    /**
+     * 스타일 피드 커서 조회 API
+     * 페이지 번호 대신 이전 응답의 nextCursor를 after로 넘기며, 깊은 페이지도 조회 비용이 같습니다.
+     *
+     * @param filterRequestDto 필터 조건 (sortBy: popular, latest)
+     * @param after 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 100)
+     * @return 스타일 커서 페이지
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<commonDto.CursorPageDto<StyleResponseDto>> getStyleFeed(
+            @ModelAttribute StyleFilterRequestDto filterRequestDto,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        log.info("스타일 피드 조회 요청: 필터={}, after={}, size={}", filterRequestDto, after, size);
+
+        String email = SecurityUtils.extractEmailFromSecurityContext();
+        commonDto.CursorPageDto<StyleResponseDto> feed = styleQueryService.getStyleFeed(filterRequestDto, after, size, email);
+
+        log.info("스타일 피드 조회 응답 완료: 결과 수={}, hasNext={}", feed.getContent().size(), feed.isHasNext());
+        return ResponseEntity.ok(feed);
+    }
+
     /**
      * 프로필별 스타일 목록 조회 API
      *
@@ -178,61 +204,32 @@ public class StyleQueryController {
 
     /**
      * 스타일 미디어 파일 조회 API
+     * Range 요청(동영상 탐색)과 조건부 요청(ETag/Last-Modified)을 지원합니다.
+     * 이미지는 w(표시 너비)를 주면 그에 맞는 가장 작은 리사이즈본을 반환합니다.
      *
      * @param styleId 스타일 ID
      * @param fileName 파일명
-     * @return 미디어 파일 바이트 배열
-     * @throws IOException 파일 IO 예외 발생 시
+     * @param width 표시 너비(px, 선택)
+     * @param requestHeaders 요청 헤더 (Range, If-None-Match, If-Modified-Since)
+     * @return 미디어 파일 스트림 (200/206/304/416)
      */
     @GetMapping("/{styleId}/media/{fileName}")
-    public ResponseEntity<byte[]> getStyleMedia(
+    public ResponseEntity<Resource> getStyleMedia(
             @PathVariable("styleId") Long styleId,
-            @PathVariable("fileName") String fileName
-    ) throws IOException {
-        log.info("스타일 미디어 파일 조회 요청: styleId={}, fileName={}", styleId, fileName);
+            @PathVariable("fileName") String fileName,
+            @RequestParam(value = "w", required = false) Integer width,
+            @RequestHeader HttpHeaders requestHeaders
+    ) {
+        log.debug("스타일 미디어 파일 조회 요청: styleId={}, fileName={}, range={}",
+                styleId, fileName, requestHeaders.getFirst(HttpHeaders.RANGE));
 
         try {
             // /home/ubuntu/fream/styles/{styleId}/{fileName}
-            String baseDir = "/home/ubuntu/fream";
-//            String baseDir = "C:\\Users\\pickj\\webserver\\dockerVolums\\fream";
-            String directory = "styles/" + styleId;
-            String fullPath = baseDir + File.separator + directory + File.separator + fileName;
-            log.debug("미디어 파일 전체 경로: {}", fullPath);
-
-            File mediaFile = new File(fullPath);
-            if (!mediaFile.exists()) {
-                log.error("미디어 파일을 찾을 수 없음: styleId={}, fileName={}, fullPath={}",
-                        styleId, fileName, fullPath);
-                throw new StyleException(StyleErrorCode.MEDIA_FILE_NOT_FOUND,
-                        "스타일 미디어 파일이 존재하지 않습니다.");
-            }
-
-            byte[] fileBytes = Files.readAllBytes(mediaFile.toPath());
-            String mimeType = Files.probeContentType(mediaFile.toPath());
-            if (mimeType == null) {
-                log.warn("MIME 타입을 확인할 수 없음, 기본값 사용: styleId={}, fileName={}",
-                        styleId, fileName);
-                mimeType = "application/octet-stream";
-            }
-            log.debug("미디어 파일 읽기 성공: styleId={}, fileName={}, fileSize={}, mimeType={}",
-                    styleId, fileName, fileBytes.length, mimeType);
-
-            log.info("스타일 미디어 파일 조회 응답 완료: styleId={}, fileName={}", styleId, fileName);
-            return ResponseEntity.ok()
-                    .header("Content-Type", mimeType)
-                    .body(fileBytes);
-        } catch (StyleException e) {
-            // StyleException은 이미 로깅됨
-            throw e;
-        } catch (IOException e) {
-            log.error("미디어 파일 읽기 중 IO 예외 발생: styleId={}, fileName={}", styleId, fileName, e);
+            return mediaStreamingUtil.stream("styles/" + styleId, fileName, width, requestHeaders);
+        } catch (FileNotFoundException e) {
+            log.error("미디어 파일을 찾을 수 없음: styleId={}, fileName={}", styleId, fileName);
             throw new StyleException(StyleErrorCode.MEDIA_FILE_NOT_FOUND,
-                    "미디어 파일을 읽는 중 오류가 발생했습니다.", e);
-        } catch (Exception e) {
-            log.error("미디어 파일 조회 중 예상치 못한 오류 발생: styleId={}, fileName={}",
-                    styleId, fileName, e);
-            throw new StyleException(StyleErrorCode.STYLE_INVALID_REQUEST,
-                    "미디어 파일 조회 중 오류가 발생했습니다.", e);
+                    "스타일 미디어 파일이 존재하지 않습니다.", e);
         }
     }
 }
\ No newline at end of file
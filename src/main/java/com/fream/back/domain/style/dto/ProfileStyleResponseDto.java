@@ -15,6 +15,7 @@ import java.util.List;
 public class ProfileStyleResponseDto {
     private Long id;
     private String mediaUrl; // 첫 번째 미디어 URL (썸네일)
+    private String mediaSrcset; // 리사이즈 파생본 목록 (img srcset, 이미지가 아니면 null)
     private Long likeCount;
     private Boolean liked;
 
@@ -27,4 +27,9 @@ public class StyleCommentResponseDto {
 
     @Builder.Default
     private List<StyleCommentResponseDto> replies = new ArrayList<>();
+
+    // 아래는 루트 댓글에만 설정 (대댓글 미리보기 이후는 nextReplyCursor로 이어서 조회)
+    private Long replyCount;        // 전체 대댓글 수
+    private Boolean hasMoreReplies; // 미리보기 이후 대댓글 존재 여부
+    private String nextReplyCursor; // 다음 대댓글 조회 시 after로 넘길 커서
 }
\ No newline at end of file
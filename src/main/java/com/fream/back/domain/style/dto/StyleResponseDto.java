@@ -20,6 +20,7 @@ public class StyleResponseDto {
     private String profileImageUrl;
     private String content;
     private String mediaUrl; // 첫 번째 이미지 URL (썸네일)
+    private String mediaSrcset; // 리사이즈 파생본 목록 (img srcset, 이미지가 아니면 null)
     private Long viewCount;
     private Integer likeCount;
     private Boolean liked;
@@ -9,9 +9,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 @Entity
+@Table(name = "style", indexes = {
+        // 인기순 피드: ORDER BY view_count DESC, id DESC 를 인덱스 순서대로 읽고 LIMIT에서 멈춤
+        @Index(name = "idx_style_view_count_id", columnList = "view_count, id")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -38,6 +43,24 @@ public class Style extends BaseTimeEntity {
 
     private Long viewCount; // 뷰 카운트
 
+    private String thumbnailUrl; // 대표 미디어 URL (가장 먼저 등록된 미디어, 목록 조회용 비정규화)
+
+    // 좋아요 수 (목록 조회용 비정규화)
+    // 엔티티 저장 시 덮어쓰지 않도록 updatable = false, StyleRepository.updateLikeCount의 원자적 UPDATE로만 변경
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private Long likeCount = 0L;
+
+    // 댓글 수 (대댓글 포함, 비정규화) - StyleRepository.updateCommentCount의 원자적 UPDATE로만 변경
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private Long commentCount = 0L;
+
+    // 관심 수 (비정규화) - StyleRepository.updateInterestCount의 원자적 UPDATE로만 변경
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private Long interestCount = 0L;
+
     @Builder.Default
     @OneToMany(mappedBy = "style", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<StyleLike> likes = new ArrayList<>();
@@ -92,10 +115,19 @@ public class Style extends BaseTimeEntity {
     public void addMediaUrl(MediaUrl mediaUrl) {
         this.mediaUrls.add(mediaUrl);
         mediaUrl.assignStyle(this);
+        assignThumbnailIfAbsent(mediaUrl.getUrl());
     }
     public void addDataMediaUrl(MediaUrl mediaUrl) {
         this.mediaUrls.add(mediaUrl);
 //        mediaUrl.assignStyle(this);
+        assignThumbnailIfAbsent(mediaUrl.getUrl());
+    }
+
+    // 대표 미디어가 없을 때만 설정 (첫 번째 미디어 유지)
+    public void assignThumbnailIfAbsent(String url) {
+        if (this.thumbnailUrl == null) {
+            this.thumbnailUrl = url;
+        }
     }
 
     public void addComment(StyleComment comment) {
@@ -118,6 +150,15 @@ public class Style extends BaseTimeEntity {
     public void removeMediaUrl(MediaUrl mediaUrl) {
         this.mediaUrls.remove(mediaUrl);
         mediaUrl.unassignStyle(); // MediaUrl에서 Style 해제
+
+        // 대표 미디어가 삭제되면 남은 미디어 중 가장 먼저 등록된 것으로 교체
+        if (mediaUrl.getUrl() != null && mediaUrl.getUrl().equals(this.thumbnailUrl)) {
+            this.thumbnailUrl = this.mediaUrls.stream()
+                    .filter(remaining -> remaining.getId() != null)
+                    .min(Comparator.comparing(MediaUrl::getId))
+                    .map(MediaUrl::getUrl)
+                    .orElse(null);
+        }
     }
 
     public void removeStyleOrderItem(StyleOrderItem styleOrderItem) {
@@ -12,6 +12,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(name = "style_comment", indexes = {
+        // 루트 댓글 목록: style_id + parent_comment_id IS NULL, 최신순
+        @Index(name = "idx_style_comment_style_parent_created", columnList = "style_id, parent_comment_id, created_date"),
+        // 대댓글 미리보기/커서: 부모별 최신순
+        @Index(name = "idx_style_comment_parent_created_id", columnList = "parent_comment_id, created_date, id")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -9,6 +9,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(name = "style_interest",
+        uniqueConstraints = @UniqueConstraint(name = "uk_style_interest_style_profile", columnNames = {"style_id", "profile_id"}),
+        indexes = @Index(name = "idx_style_interest_profile", columnList = "profile_id"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,25 @@
+package com.fream.back.domain.style.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인기 순위(Redis)에 있는 스타일 ID 스냅샷
+ * 순위 뒤에 DB 조회수순 목록을 이어 붙일 때, 순위 ID 전체를 넘기지 않고 이 테이블과 NOT EXISTS로 제외한다.
+ * 삭제된 스타일도 순위에서 빠질 때까지 남아 있을 수 있으므로 스타일 FK는 두지 않는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "style_ranking_snapshot")
+public class StyleRankingSnapshot {
+
+    @Id
+    @Column(name = "style_id")
+    private Long styleId;
+}
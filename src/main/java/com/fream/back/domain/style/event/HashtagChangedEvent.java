@@ -0,0 +1,32 @@
+package com.fream.back.domain.style.event;
+
+import com.fream.back.domain.style.entity.Hashtag;
+
+/**
+ * 해시태그 변경 이벤트 (생성, 이름 변경, 사용 횟수 증감, 삭제).
+ *
+ * <p>{@code HashtagCommandService}와 {@code StyleHashtagCommandService}가 발행하며,
+ * {@code HashtagAutocompleteIndex}가 커밋 이후 수신해 자동완성 트라이에 반영한다.
+ * 롤백된 변경은 트라이에 남지 않도록 발행 시점의 값을 그대로 담는다.
+ *
+ * @param hashtagId 해시태그 ID
+ * @param name 변경 후 이름 (삭제 시 null)
+ * @param count 변경 후 사용 횟수
+ * @param deleted 삭제 여부
+ */
+public record HashtagChangedEvent(
+        Long hashtagId,
+        String name,
+        long count,
+        boolean deleted
+) {
+
+    public static HashtagChangedEvent upserted(Hashtag hashtag) {
+        return new HashtagChangedEvent(hashtag.getId(), hashtag.getName(),
+                hashtag.getCount() != null ? hashtag.getCount() : 0L, false);
+    }
+
+    public static HashtagChangedEvent deleted(Long hashtagId) {
+        return new HashtagChangedEvent(hashtagId, null, 0L, true);
+    }
+}
@@ -0,0 +1,30 @@
+package com.fream.back.domain.style.event;
+
+/**
+ * 스타일 참여(조회/좋아요/댓글/관심) 이벤트.
+ *
+ * <p>조회 이벤트 컨슈머와 좋아요·댓글·관심 커맨드 서비스가 발행하며,
+ * {@code StylePopularityRanking}이 커밋 이후 수신해 인기 순위 점수에 반영한다.
+ *
+ * @param styleId 스타일 ID
+ * @param type 참여 종류
+ */
+public record StyleEngagementEvent(
+        Long styleId,
+        Type type
+) {
+
+    public enum Type {
+        VIEW,
+        LIKE,
+        UNLIKE,
+        COMMENT,
+        INTEREST,
+        UNINTEREST,
+        DELETED // 스타일 삭제 (순위에서 제거)
+    }
+
+    public static StyleEngagementEvent of(Long styleId, Type type) {
+        return new StyleEngagementEvent(styleId, type);
+    }
+}
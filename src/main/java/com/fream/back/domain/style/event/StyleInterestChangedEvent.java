@@ -0,0 +1,18 @@
+package com.fream.back.domain.style.event;
+
+/**
+ * 스타일 관심 상태 변경 이벤트.
+ *
+ * <p>{@code StyleInterestCommandService}가 관심 토글 시 발행하며,
+ * {@code StyleMembershipCache}가 커밋 이후 수신해 사용자별 관심 집합에 반영한다.
+ *
+ * @param email 사용자 이메일
+ * @param styleId 스타일 ID
+ * @param interested 변경 후 관심 여부
+ */
+public record StyleInterestChangedEvent(
+        String email,
+        Long styleId,
+        boolean interested
+) {
+}
@@ -0,0 +1,91 @@
+package com.fream.back.domain.style.redis;
+
+import com.fream.back.domain.style.event.StyleInterestChangedEvent;
+import com.fream.back.domain.style.event.StyleLikeChangedEvent;
+import com.fream.back.domain.style.repository.StyleInterestRepository;
+import com.fream.back.domain.style.repository.StyleLikeRepository;
+import com.fream.back.global.utils.RedisMembershipSet;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자별 좋아요/관심 스타일 ID 집합
+ *
+ * 스타일 목록에서 좋아요/관심 여부를 프로필 조회 없이 이메일 기준 Redis 집합으로 확인한다.
+ * 집합이 없을 때만 DB에서 적재하며, 토글 커밋 이후 이벤트로 갱신한다. (저장 방식은 {@link RedisMembershipSet})
+ */
+@Component
+public class StyleMembershipCache {
+
+    private final StyleLikeRepository styleLikeRepository;
+    private final StyleInterestRepository styleInterestRepository;
+    private final RedisMembershipSet likes;
+    private final RedisMembershipSet interests;
+    private final boolean enabled;
+
+    public StyleMembershipCache(
+            StyleLikeRepository styleLikeRepository,
+            StyleInterestRepository styleInterestRepository,
+            @Qualifier("writeRedisTemplate") RedisTemplate<String, String> writeRedisTemplate,
+            @Value("${style.membership-cache.enabled:true}") boolean enabled,
+            @Value("${style.membership-cache.ttl-hours:24}") long ttlHours,
+            @Value("${style.membership-cache.max-size:5000}") int maxSize,
+            @Value("${style.membership-cache.too-large-ttl-minutes:60}") long tooLargeTtlMinutes) {
+        this.styleLikeRepository = styleLikeRepository;
+        this.styleInterestRepository = styleInterestRepository;
+        this.enabled = enabled;
+        Duration ttl = Duration.ofHours(ttlHours);
+        Duration tooLargeTtl = Duration.ofMinutes(tooLargeTtlMinutes);
+        this.likes = new RedisMembershipSet(writeRedisTemplate, "style:liked:", ttl, maxSize, tooLargeTtl);
+        this.interests = new RedisMembershipSet(writeRedisTemplate, "style:interested:", ttl, maxSize, tooLargeTtl);
+    }
+
+    /**
+     * 주어진 스타일 중 사용자가 좋아요한 스타일 ID를 조회합니다.
+     *
+     * @return 좋아요한 스타일 ID 집합, 캐시를 사용할 수 없으면 null (호출 측에서 DB로 대체)
+     */
+    public Set<Long> getLikedStyleIds(String email, List<Long> styleIds) {
+        if (!enabled) {
+            return null;
+        }
+        return likes.findMembers(email, styleIds,
+                limit -> styleLikeRepository.findStyleIdsByProfileEmail(email, PageRequest.of(0, limit)));
+    }
+
+    /**
+     * 주어진 스타일 중 사용자가 관심 등록한 스타일 ID를 조회합니다.
+     *
+     * @return 관심 등록한 스타일 ID 집합, 캐시를 사용할 수 없으면 null (호출 측에서 DB로 대체)
+     */
+    public Set<Long> getInterestedStyleIds(String email, List<Long> styleIds) {
+        if (!enabled) {
+            return null;
+        }
+        return interests.findMembers(email, styleIds,
+                limit -> styleInterestRepository.findStyleIdsByProfileEmail(email, PageRequest.of(0, limit)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLikeChanged(StyleLikeChangedEvent event) {
+        if (enabled && event.email() != null && event.styleId() != null) {
+            likes.apply(event.email(), event.styleId(), event.liked());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInterestChanged(StyleInterestChangedEvent event) {
+        if (enabled && event.email() != null && event.styleId() != null) {
+            interests.apply(event.email(), event.styleId(), event.interested());
+        }
+    }
+}
@@ -0,0 +1,457 @@
+package com.fream.back.domain.style.redis;
+
+import com.fream.back.domain.style.event.StyleEngagementEvent;
+import com.fream.back.domain.style.repository.StyleRankingSnapshotRepository;
+import com.fream.back.domain.style.repository.StyleRepository;
+import com.fream.back.global.utils.ClusterLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 감쇠 인기 스타일 순위 (Redis Sorted Set)
+ *
+ * 참여 이벤트마다 weight * 2^((now - epoch) / halfLife)를 점수에 더한다(forward decay).
+ * 새 참여일수록 큰 값이 더해지므로 기존 점수를 매번 줄이지 않아도 반감기마다 과거 참여의 비중이 절반이 된다.
+ * 배수가 너무 커지기 전에 관리 스케줄러가 전체 점수를 같은 비율로 줄이고 epoch를 현재로 옮긴다.
+ * 좋아요/관심 취소는 점수에서 빼지 않는다. (더할 때와 다른 배수로 빼면 과하게 줄어듦, 취소된 참여도 반감기에 따라 비중이 줄어듦)
+ *
+ * 배수/재조정 비율 계산은 자바에서 하고, Lua 스크립트는 읽어 둔 epoch가 그대로인지 확인한 뒤 반영만 한다.
+ * (그 사이 다른 인스턴스가 재조정했으면 -1을 돌려주고 새 epoch로 다시 계산)
+ *
+ * 이벤트는 커밋 이후 styleId별로 합산해 두었다가 주기적으로 Lua 스크립트 한 번으로 반영하고,
+ * 조회는 ZREVRANGE로 필요한 구간만 읽는다.
+ * 순위에는 점수가 있는 상위 스타일만 있으므로, 목록 조회 측에서 나머지는 DB 정렬로 이어 붙인다.
+ * 이때 순위 스타일을 DB에서 제외할 수 있도록 순위 ID를 주기적으로 스냅샷 테이블에 복사한다. (여러 인스턴스 중 하나만 수행)
+ */
+@Slf4j
+@Component
+public class StylePopularityRanking {
+
+    static final String RANKING_KEY = "style:ranking:popular";
+    static final String EPOCH_KEY = "style:ranking:epoch";
+    private static final String SEED_LOCK_KEY = "style:ranking:seeding";
+    private static final String SNAPSHOT_LOCK_NAME = "style-ranking-snapshot";
+    private static final long EPOCH_CHANGED = -1L;
+    private static final int MAX_APPLY_ATTEMPTS = 3;
+
+    // ARGV: 배수 계산에 쓴 epoch(초), (styleId, 배수를 곱한 증분) 반복. epoch가 없으면 등록, 다르면 -1. 점수가 0 이하가 되면 제거
+    static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            local epoch = redis.call('GET', KEYS[2])
+            if not epoch then
+                redis.call('SET', KEYS[2], ARGV[1])
+            elseif epoch ~= ARGV[1] then
+                return -1
+            end
+            local applied = 0
+            for i = 2, #ARGV, 2 do
+                local score = tonumber(redis.call('ZINCRBY', KEYS[1], ARGV[i + 1], ARGV[i]))
+                if score <= 0 then
+                    redis.call('ZREM', KEYS[1], ARGV[i])
+                end
+                applied = applied + 1
+            end
+            return applied
+            """, Long.class);
+
+    // ARGV: 재조정 전 epoch(재조정하지 않으면 빈 문자열), 새 epoch, 점수 배율, 최대 보관 수. epoch가 다르면 -1
+    static final RedisScript<Long> MAINTENANCE_SCRIPT = new DefaultRedisScript<>("""
+            if ARGV[1] ~= '' then
+                if redis.call('GET', KEYS[2]) ~= ARGV[1] then
+                    return -1
+                end
+                redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', ARGV[3])
+                redis.call('SET', KEYS[2], ARGV[2])
+            end
+            local size = redis.call('ZCARD', KEYS[1])
+            local max = tonumber(ARGV[4])
+            if size > max then
+                redis.call('ZREMRANGEBYRANK', KEYS[1], 0, size - max - 1)
+                size = max
+            end
+            return size
+            """, Long.class);
+
+    private final StyleRepository styleRepository;
+    private final StyleRankingSnapshotRepository snapshotRepository;
+    private final ClusterLock clusterLock;
+    private final RedisTemplate<String, String> writeRedisTemplate;
+    private final RedisTemplate<String, String> readRedisTemplate;
+    private final LongSupplier clock; // epoch ms
+
+    // styleId -> 아직 반영하지 않은 가중치 합계 (merge/remove로 원자적으로 합치고 꺼냄)
+    private final Map<Long, Double> pending = new ConcurrentHashMap<>();
+    private final Set<Long> removed = ConcurrentHashMap.newKeySet();
+
+    @Value("${style.ranking.enabled:true}")
+    private boolean enabled;
+
+    @Value("${style.ranking.half-life-hours:24}")
+    private double halfLifeHours;
+
+    @Value("${style.ranking.weight.view:1}")
+    private double viewWeight;
+
+    @Value("${style.ranking.weight.like:5}")
+    private double likeWeight;
+
+    @Value("${style.ranking.weight.comment:3}")
+    private double commentWeight;
+
+    @Value("${style.ranking.weight.interest:4}")
+    private double interestWeight;
+
+    @Value("${style.ranking.max-size:10000}")
+    private int maxSize;
+
+    @Value("${style.ranking.max-batch-size:500}")
+    private int maxBatchSize;
+
+    @Value("${style.ranking.rescale-after-half-lives:16}")
+    private int rescaleAfterHalfLives;
+
+    @Autowired
+    public StylePopularityRanking(
+            StyleRepository styleRepository,
+            StyleRankingSnapshotRepository snapshotRepository,
+            ClusterLock clusterLock,
+            @Qualifier("writeRedisTemplate") RedisTemplate<String, String> writeRedisTemplate,
+            @Qualifier("readRedisTemplate") RedisTemplate<String, String> readRedisTemplate) {
+        this(styleRepository, snapshotRepository, clusterLock, writeRedisTemplate, readRedisTemplate,
+                System::currentTimeMillis);
+    }
+
+    StylePopularityRanking(StyleRepository styleRepository,
+                           StyleRankingSnapshotRepository snapshotRepository,
+                           ClusterLock clusterLock,
+                           RedisTemplate<String, String> writeRedisTemplate,
+                           RedisTemplate<String, String> readRedisTemplate,
+                           LongSupplier clock) {
+        this.styleRepository = styleRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.clusterLock = clusterLock;
+        this.writeRedisTemplate = writeRedisTemplate;
+        this.readRedisTemplate = readRedisTemplate;
+        this.clock = clock;
+    }
+
+    /**
+     * 순위 구간 조회 결과
+     *
+     * @param styleIds 점수 내림차순 스타일 ID
+     * @param total 순위에 있는 스타일 수 (점수가 있는 상위 스타일만, 전체 스타일 수가 아님)
+     */
+    public record RankingPage(List<Long> styleIds, long total) {
+    }
+
+    /**
+     * 커밋된 참여만 합산해 둔다. 트랜잭션 밖에서 발행된 경우에도 바로 등록한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEngagement(StyleEngagementEvent event) {
+        if (!enabled || event.styleId() == null) {
+            return;
+        }
+        if (event.type() == StyleEngagementEvent.Type.DELETED) {
+            pending.remove(event.styleId());
+            removed.add(event.styleId());
+            return;
+        }
+        double weight = weightOf(event.type());
+        if (weight != 0) {
+            pending.merge(event.styleId(), weight, Double::sum);
+        }
+    }
+
+    /**
+     * 순위 구간을 조회합니다.
+     *
+     * @param offset 시작 순위 (0부터)
+     * @param limit 조회할 개수
+     * @return 순위 구간, 순위가 비어 있거나 Redis를 사용할 수 없으면 null (호출 측에서 DB 정렬로 대체)
+     */
+    public RankingPage getPage(long offset, int limit) {
+        if (!enabled) {
+            return null;
+        }
+        try {
+            Long total = readRedisTemplate.opsForZSet().zCard(RANKING_KEY);
+            if (total == null || total == 0) {
+                return null;
+            }
+            Set<String> members = readRedisTemplate.opsForZSet()
+                    .reverseRange(RANKING_KEY, offset, offset + limit - 1);
+            List<Long> styleIds = new ArrayList<>();
+            if (members != null) {
+                for (String member : members) {
+                    styleIds.add(Long.valueOf(member));
+                }
+            }
+            return new RankingPage(styleIds, total);
+        } catch (Exception e) {
+            log.warn("인기 스타일 순위 조회 실패, DB 정렬로 대체: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 순위에 있는 스타일 ID 전체를 조회합니다. (최대 maxSize개, 순위 스냅샷 갱신용)
+     *
+     * @return 스타일 ID, Redis를 사용할 수 없으면 null
+     */
+    public Set<Long> getRankedStyleIds() {
+        try {
+            Set<String> members = readRedisTemplate.opsForZSet().range(RANKING_KEY, 0, -1);
+            Set<Long> styleIds = new HashSet<>();
+            if (members != null) {
+                for (String member : members) {
+                    styleIds.add(Long.valueOf(member));
+                }
+            }
+            return styleIds;
+        } catch (Exception e) {
+            log.warn("인기 스타일 순위 전체 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 조회 중 발견한 삭제된 스타일을 다음 반영 주기에 순위에서 제거합니다.
+     */
+    public void discard(Collection<Long> styleIds) {
+        for (Long styleId : styleIds) {
+            pending.remove(styleId);
+            removed.add(styleId);
+        }
+    }
+
+    /**
+     * 대기 중인 가중치를 최대 maxBatchSize개씩 꺼내 반영한다.
+     * 실패한 항목은 다시 합산해 다음 주기에 재시도한다.
+     */
+    @Scheduled(fixedDelayString = "${style.ranking.flush-interval-ms:1000}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        flushRemovals();
+
+        while (!pending.isEmpty()) {
+            Map<Long, Double> batch = new HashMap<>();
+            Iterator<Long> it = pending.keySet().iterator();
+            while (it.hasNext() && batch.size() < maxBatchSize) {
+                Long styleId = it.next();
+                Double weight = pending.remove(styleId);
+                if (weight != null && weight != 0) {
+                    batch.put(styleId, weight);
+                }
+            }
+            if (batch.isEmpty()) {
+                continue;
+            }
+
+            try {
+                applyWeights(batch);
+                log.debug("인기 스타일 순위 반영 완료: {}건", batch.size());
+            } catch (Exception e) {
+                log.error("인기 스타일 순위 반영 실패: {}건, 다음 주기에 재시도, 오류={}", batch.size(), e.getMessage());
+                batch.forEach((styleId, weight) -> pending.merge(styleId, weight, Double::sum));
+                return;
+            }
+        }
+    }
+
+    /**
+     * 점수 배수 재조정과 보관 수 제한
+     * epoch 이후 반감기가 기준 이상 지났으면 전체 점수를 2^(-반감기 수)배로 줄이고 epoch를 현재로 옮긴다.
+     * 상대 순위는 그대로이며, 최대 보관 수를 넘는 하위 스타일은 제거한다.
+     */
+    @Scheduled(fixedDelayString = "${style.ranking.maintenance-interval-ms:3600000}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long now = nowSeconds();
+            String epoch = writeRedisTemplate.opsForValue().get(EPOCH_KEY);
+            String expectedEpoch = "";
+            double weight = 1;
+            if (epoch != null && halfLivesSince(now, Long.parseLong(epoch), halfLifeSeconds()) >= rescaleAfterHalfLives) {
+                expectedEpoch = epoch;
+                weight = rescaleWeight(now, Long.parseLong(epoch), halfLifeSeconds());
+            }
+
+            Long size = writeRedisTemplate.execute(MAINTENANCE_SCRIPT, List.of(RANKING_KEY, EPOCH_KEY),
+                    expectedEpoch, String.valueOf(now), String.valueOf(weight), String.valueOf(maxSize));
+            if (size != null && size == EPOCH_CHANGED) {
+                // 다른 인스턴스가 먼저 재조정함 (다음 주기에 보관 수 정리)
+                log.debug("인기 스타일 순위 재조정 건너뜀: epoch 변경됨");
+                return;
+            }
+            log.debug("인기 스타일 순위 관리 완료: 보관 수={}, 배율={}", size, weight);
+        } catch (Exception e) {
+            log.error("인기 스타일 순위 관리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 순위 ID를 스냅샷 테이블에 복사한다. (순위 뒤 DB 목록에서 순위 스타일을 제외하는 기준)
+     * 갱신 사이에 새로 순위에 든 스타일은 다음 갱신까지 순위 뒤 목록에도 보일 수 있다.
+     */
+    @Scheduled(fixedDelayString = "${style.ranking.snapshot-interval-ms:60000}")
+    public void refreshSnapshot() {
+        if (!enabled) {
+            return;
+        }
+        try (ClusterLock.Lease lease = clusterLock.tryAcquire(SNAPSHOT_LOCK_NAME, Duration.ofMinutes(5))) {
+            if (lease == null) {
+                return;
+            }
+            Set<Long> rankedIds = getRankedStyleIds();
+            if (rankedIds == null) {
+                return;
+            }
+            int changed = snapshotRepository.replace(rankedIds);
+            log.debug("인기 스타일 순위 스냅샷 갱신 완료: 순위={}건, 변경={}건", rankedIds.size(), changed);
+        } catch (Exception e) {
+            log.error("인기 스타일 순위 스냅샷 갱신 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 순위가 비어 있으면 DB의 조회수/좋아요 수로 초기 점수를 채운다. (여러 인스턴스 중 하나만 수행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedIfEmpty() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Long size = writeRedisTemplate.opsForZSet().zCard(RANKING_KEY);
+            if (size != null && size > 0) {
+                return;
+            }
+            Boolean acquired = writeRedisTemplate.opsForValue()
+                    .setIfAbsent(SEED_LOCK_KEY, "1", Duration.ofMinutes(10));
+            if (!Boolean.TRUE.equals(acquired)) {
+                return;
+            }
+
+            List<Object[]> rows = styleRepository.findTopByViewCount(PageRequest.of(0, maxSize));
+            Map<Long, Double> seed = new HashMap<>();
+            for (Object[] row : rows) {
+                long views = row[1] == null ? 0 : ((Number) row[1]).longValue();
+                long likes = row[2] == null ? 0 : ((Number) row[2]).longValue();
+                double score = views * viewWeight + likes * likeWeight;
+                if (score > 0) {
+                    seed.put((Long) row[0], score);
+                }
+            }
+            if (!seed.isEmpty()) {
+                applyWeights(seed);
+            }
+            log.info("인기 스타일 순위 초기화 완료: {}건", seed.size());
+        } catch (Exception e) {
+            log.warn("인기 스타일 순위 초기화 실패 (이벤트로 채워짐): {}", e.getMessage());
+        }
+    }
+
+    private void flushRemovals() {
+        if (removed.isEmpty()) {
+            return;
+        }
+        List<Long> styleIds = new ArrayList<>(removed);
+        try {
+            writeRedisTemplate.opsForZSet().remove(RANKING_KEY,
+                    styleIds.stream().map(String::valueOf).toArray());
+            styleIds.forEach(removed::remove);
+        } catch (Exception e) {
+            log.error("인기 스타일 순위 제거 실패: {}건, 다음 주기에 재시도, 오류={}", styleIds.size(), e.getMessage());
+        }
+    }
+
+    // epoch를 읽어 배수를 곱한 증분을 반영 (반영 사이에 재조정되면 새 epoch로 다시 계산)
+    private void applyWeights(Map<Long, Double> weights) {
+        for (int attempt = 1; attempt <= MAX_APPLY_ATTEMPTS; attempt++) {
+            long now = nowSeconds();
+            String storedEpoch = writeRedisTemplate.opsForValue().get(EPOCH_KEY);
+            long epoch = storedEpoch != null ? Long.parseLong(storedEpoch) : now;
+            double factor = decayFactor(now, epoch, halfLifeSeconds());
+
+            List<String> args = new ArrayList<>(1 + weights.size() * 2);
+            args.add(String.valueOf(epoch));
+            weights.forEach((styleId, weight) -> {
+                args.add(String.valueOf(styleId));
+                args.add(String.valueOf(weight * factor));
+            });
+            Long applied = writeRedisTemplate.execute(INCREMENT_SCRIPT, List.of(RANKING_KEY, EPOCH_KEY), args.toArray());
+            if (applied == null || applied != EPOCH_CHANGED) {
+                return;
+            }
+            log.debug("인기 스타일 순위 epoch 변경으로 재계산: 시도={}", attempt);
+        }
+        throw new IllegalStateException("인기 스타일 순위 epoch가 계속 변경되어 반영하지 못했습니다.");
+    }
+
+    /**
+     * 지금 발생한 참여에 곱할 배수: 2^((now - epoch) / halfLife)
+     * 반감기 하나가 지날 때마다 같은 참여의 증분이 두 배가 되므로, 상대적으로 과거 참여의 비중이 절반이 된다.
+     */
+    static double decayFactor(long nowSeconds, long epochSeconds, long halfLifeSeconds) {
+        return Math.pow(2, halfLivesSince(nowSeconds, epochSeconds, halfLifeSeconds));
+    }
+
+    /**
+     * epoch를 now로 옮길 때 전체 점수에 곱할 비율: 2^(-(now - epoch) / halfLife)
+     * 재조정 뒤의 점수와 새 epoch 기준 증분은 재조정 전 기준과 같은 비율을 유지한다.
+     */
+    static double rescaleWeight(long nowSeconds, long epochSeconds, long halfLifeSeconds) {
+        return Math.pow(2, -halfLivesSince(nowSeconds, epochSeconds, halfLifeSeconds));
+    }
+
+    static double halfLivesSince(long nowSeconds, long epochSeconds, long halfLifeSeconds) {
+        return (double) (nowSeconds - epochSeconds) / halfLifeSeconds;
+    }
+
+    private double weightOf(StyleEngagementEvent.Type type) {
+        return switch (type) {
+            case VIEW -> viewWeight;
+            case LIKE -> likeWeight;
+            case COMMENT -> commentWeight;
+            case INTEREST -> interestWeight;
+            // 취소 시점의 배수는 등록 시점보다 크므로 빼면 등록분보다 많이 줄어 순위에서 빠질 수 있음
+            case UNLIKE, UNINTEREST, DELETED -> 0;
+        };
+    }
+
+    private long halfLifeSeconds() {
+        return Math.max(1L, (long) (halfLifeHours * 3600));
+    }
+
+    private long nowSeconds() {
+        return clock.getAsLong() / 1000;
+    }
+}
@@ -72,4 +72,10 @@ public interface StyleCommentLikeRepository extends JpaRepository<StyleCommentLi
     void deleteByProfileIdAndCommentId(
             @Param("profileId") Long profileId,
             @Param("commentId") Long commentId);
+
+    /**
+     * 여러 댓글의 좋아요 수 (commentId, count)
+     */
+    @Query("SELECT scl.comment.id, COUNT(scl) FROM StyleCommentLike scl WHERE scl.comment.id IN :commentIds GROUP BY scl.comment.id")
+    List<Object[]> countByCommentIdIn(@Param("commentIds") List<Long> commentIds);
 }
\ No newline at end of file
@@ -1,26 +1,50 @@
 package com.fream.back.domain.style.repository;
 
 import com.fream.back.domain.style.entity.StyleComment;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface StyleCommentRepository extends JpaRepository<StyleComment, Long> {
-    // 특정 스타일 ID로 연결된 루트 댓글 목록 조회 (대댓글 제외, 최신순)
-    @Query("SELECT c FROM StyleComment c WHERE c.style.id = :styleId AND c.parentComment IS NULL ORDER BY c.createdDate DESC")
-    Page<StyleComment> findRootCommentsByStyleId(@Param("styleId") Long styleId, Pageable pageable);
+    // 루트 댓글 목록 조회 (작성자 함께 조회, 카운트 쿼리 없음)
+    @Query("SELECT c FROM StyleComment c JOIN FETCH c.profile " +
+            "WHERE c.style.id = :styleId AND c.parentComment IS NULL ORDER BY c.createdDate DESC, c.id DESC")
+    List<StyleComment> findRootCommentsWithProfile(@Param("styleId") Long styleId, Pageable pageable);
 
-    // 특정 스타일의 총 댓글 수 조회 (대댓글 포함)
-    @Query("SELECT COUNT(c) FROM StyleComment c WHERE c.style.id = :styleId")
-    Long countCommentsByStyleId(@Param("styleId") Long styleId);
+    // 부모 댓글별 최신 대댓글 limit개의 ID (부모 수와 무관하게 한 번에 조회)
+    @Query(value = "SELECT ranked.id FROM (" +
+            "SELECT c.id AS id, ROW_NUMBER() OVER (PARTITION BY c.parent_comment_id ORDER BY c.created_date DESC, c.id DESC) AS rn " +
+            "FROM style_comment c WHERE c.parent_comment_id IN (:parentIds)) ranked " +
+            "WHERE ranked.rn <= :limit", nativeQuery = true)
+    List<Long> findTopReplyIdsByParentIds(@Param("parentIds") List<Long> parentIds, @Param("limit") int limit);
+
+    // ID 목록으로 댓글 조회 (작성자 함께 조회)
+    @Query("SELECT c FROM StyleComment c JOIN FETCH c.profile WHERE c.id IN :ids")
+    List<StyleComment> findAllWithProfileByIdIn(@Param("ids") List<Long> ids);
+
+    // 부모 댓글별 대댓글 수 (parentId, count)
+    @Query("SELECT c.parentComment.id, COUNT(c) FROM StyleComment c WHERE c.parentComment.id IN :parentIds GROUP BY c.parentComment.id")
+    List<Object[]> countRepliesByParentIds(@Param("parentIds") List<Long> parentIds);
+
+    // 대댓글 첫 페이지 (최신순)
+    @Query("SELECT c FROM StyleComment c JOIN FETCH c.profile " +
+            "WHERE c.parentComment.id = :parentId ORDER BY c.createdDate DESC, c.id DESC")
+    List<StyleComment> findRepliesFirstPage(@Param("parentId") Long parentId, Pageable pageable);
+
+    // 대댓글 커서 이후 페이지 ((생성일, ID) 키셋)
+    @Query("SELECT c FROM StyleComment c JOIN FETCH c.profile " +
+            "WHERE c.parentComment.id = :parentId " +
+            "AND (c.createdDate < :createdDate OR (c.createdDate = :createdDate AND c.id < :id)) " +
+            "ORDER BY c.createdDate DESC, c.id DESC")
+    List<StyleComment> findRepliesAfter(@Param("parentId") Long parentId,
+                                        @Param("createdDate") LocalDateTime createdDate,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
 
-    // 특정 댓글의 대댓글 목록 조회 (최신순)
-    @Query("SELECT c FROM StyleComment c WHERE c.parentComment.id = :parentCommentId ORDER BY c.createdDate DESC")
-    List<StyleComment> findRepliesByParentCommentId(@Param("parentCommentId") Long parentCommentId);
     // 특정 스타일 ID로 연결된 댓글 목록 조회
     List<StyleComment> findByStyleId(Long styleId);
 
@@ -3,11 +3,13 @@ package com.fream.back.domain.style.repository;
 import com.fream.back.domain.style.entity.Style;
 import com.fream.back.domain.style.entity.StyleInterest;
 import com.fream.back.domain.user.entity.Profile;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -55,6 +57,12 @@ public interface StyleInterestRepository extends JpaRepository<StyleInterest, Lo
             @Param("profileId") Long profileId,
             @Param("styleIds") List<Long> styleIds);
 
+    /**
+     * 사용자가 관심 등록한 스타일 ID 목록 조회 (Redis 관심 집합 적재용)
+     */
+    @Query("SELECT si.style.id FROM StyleInterest si WHERE si.profile.user.email = :email")
+    List<Long> findStyleIdsByProfileEmail(@Param("email") String email, Pageable pageable);
+
     /**
      * 특정 스타일의 관심 등록 수 계산
      */
@@ -66,7 +74,21 @@ public interface StyleInterestRepository extends JpaRepository<StyleInterest, Lo
      */
     @Modifying
     @Query("DELETE FROM StyleInterest si WHERE si.profile.id = :profileId AND si.style.id = :styleId")
-    void deleteByProfileIdAndStyleId(
+    int deleteByProfileIdAndStyleId(
             @Param("profileId") Long profileId,
             @Param("styleId") Long styleId);
-}
\ No newline at end of file
+
+    /**
+     * 관심 등록이 없을 때만 추가 (추가된 행 수 반환, 스타일이 없거나 이미 있으면 0)
+     * 엔티티와 연관 컬렉션을 로딩하지 않고 INSERT ... SELECT 한 번으로 처리
+     */
+    @Modifying
+    @Query("INSERT INTO StyleInterest (style, profile, createdDate, modifiedDate) " +
+            "SELECT s, p, :now, :now FROM Style s, Profile p " +
+            "WHERE s.id = :styleId AND p.id = :profileId " +
+            "AND NOT EXISTS (SELECT 1 FROM StyleInterest si WHERE si.style.id = :styleId AND si.profile.id = :profileId)")
+    int insertIfAbsent(
+            @Param("styleId") Long styleId,
+            @Param("profileId") Long profileId,
+            @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,50 @@
+package com.fream.back.domain.style.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 인기 순위 스냅샷 (style_ranking_snapshot) 갱신
+ * 전체를 지우고 다시 넣지 않고 현재 순위와의 차이만 추가/삭제한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StyleRankingSnapshotRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 스냅샷을 현재 순위의 스타일 ID로 맞춥니다.
+     *
+     * @param rankedIds 순위에 있는 스타일 ID 전체
+     * @return 추가/삭제된 행 수
+     */
+    @Transactional
+    public int replace(Collection<Long> rankedIds) {
+        Set<Long> current = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT style_id FROM style_ranking_snapshot", Long.class));
+        List<Object[]> added = new ArrayList<>();
+        for (Long styleId : rankedIds) {
+            if (!current.remove(styleId)) {
+                added.add(new Object[]{styleId});
+            }
+        }
+        List<Object[]> removed = current.stream().map(styleId -> new Object[]{styleId}).toList();
+
+        if (!removed.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM style_ranking_snapshot WHERE style_id = ?", removed);
+        }
+        if (!added.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO style_ranking_snapshot (style_id) VALUES (?)", added);
+        }
+        return added.size() + removed.size();
+    }
+}
@@ -1,7 +1,11 @@
 package com.fream.back.domain.style.repository;
 
 import com.fream.back.domain.style.entity.Style;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -9,5 +13,27 @@ public interface StyleRepository extends JpaRepository<Style, Long>, StyleReposi
     // 특정 프로필 ID로 스타일 목록 조회
     List<Style> findByProfileId(Long profileId);
 
+    // 좋아요 수 원자적 증감 (동시 토글 시 갱신 유실 방지)
+    @Modifying
+    @Query("UPDATE Style s SET s.likeCount = s.likeCount + :delta WHERE s.id = :styleId")
+    int updateLikeCount(@Param("styleId") Long styleId, @Param("delta") long delta);
+
+    // 댓글 수 원자적 증감 (대댓글 포함)
+    @Modifying
+    @Query("UPDATE Style s SET s.commentCount = s.commentCount + :delta WHERE s.id = :styleId")
+    int updateCommentCount(@Param("styleId") Long styleId, @Param("delta") long delta);
+
+    // 관심 수 원자적 증감
+    @Modifying
+    @Query("UPDATE Style s SET s.interestCount = s.interestCount + :delta WHERE s.id = :styleId")
+    int updateInterestCount(@Param("styleId") Long styleId, @Param("delta") long delta);
+
+    // 유지 중인 댓글 수 조회
+    @Query("SELECT s.commentCount FROM Style s WHERE s.id = :styleId")
+    Long findCommentCountById(@Param("styleId") Long styleId);
+
+    // 인기 순위 초기화용 (id, viewCount, likeCount) 조회수 상위 목록
+    @Query("SELECT s.id, s.viewCount, s.likeCount FROM Style s ORDER BY s.viewCount DESC, s.id DESC")
+    List<Object[]> findTopByViewCount(Pageable pageable);
 
 }
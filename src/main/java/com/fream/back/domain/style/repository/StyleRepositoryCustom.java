@@ -4,6 +4,7 @@ import com.fream.back.domain.style.dto.ProfileStyleResponseDto;
 import com.fream.back.domain.style.dto.StyleDetailResponseDto;
 import com.fream.back.domain.style.dto.StyleFilterRequestDto;
 import com.fream.back.domain.style.dto.StyleResponseDto;
+import com.fream.back.global.utils.PageUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -12,6 +13,9 @@ import java.util.Map;
 
 public interface StyleRepositoryCustom {
     Page<StyleResponseDto> filterStyles(StyleFilterRequestDto filterRequestDto, Pageable pageable);
+    List<StyleResponseDto> findStyleResponsesByIds(List<Long> styleIds);
+    List<StyleResponseDto> findPopularStylesOutsideRanking(long offset, int limit);
+    List<StyleResponseDto> findStyleFeed(StyleFilterRequestDto filterRequestDto, PageUtils.ScoreCursor after, int limit);
     StyleDetailResponseDto getStyleDetail(Long styleId);
     Page<ProfileStyleResponseDto> getStylesByProfile(Long profileId, Pageable pageable);
     Map<Long, Long> styleCountByColorIds(List<Long> colorIds);
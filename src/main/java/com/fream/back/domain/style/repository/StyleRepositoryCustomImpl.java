@@ -8,13 +8,16 @@ import com.fream.back.domain.style.dto.StyleFilterRequestDto;
 import com.fream.back.domain.style.dto.StyleResponseDto;
 import com.fream.back.domain.style.entity.QMediaUrl;
 import com.fream.back.domain.style.entity.QStyle;
+import com.fream.back.domain.style.entity.QStyleRankingSnapshot;
 import com.fream.back.domain.style.entity.QStyleOrderItem;
 import com.fream.back.domain.user.entity.QProfile;
+import com.fream.back.global.utils.PageUtils;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
-import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -24,6 +27,7 @@ import org.springframework.data.support.PageableExecutionUtils;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -144,93 +148,170 @@ public class StyleRepositoryCustomImpl implements StyleRepositoryCustom {
 //
 //        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
 //    }
-@Override
-public Page<StyleResponseDto> filterStyles(StyleFilterRequestDto filterRequestDto, Pageable pageable) {
-    QStyle style = QStyle.style;
-    QProfile profile = QProfile.profile;
-    QStyleOrderItem styleOrderItem = QStyleOrderItem.styleOrderItem;
-    QOrderItem orderItem = QOrderItem.orderItem;
-    QMediaUrl mediaUrl = QMediaUrl.mediaUrl;
-    QProductSize productSize = QProductSize.productSize;
-    QProductColor productColor = QProductColor.productColor;
-    QProduct product = QProduct.product;
-    QBrand brand = QBrand.brand;
-
-    // 1단계: 필터링 조건에 맞는 스타일 ID 찾기
-    BooleanBuilder filterBuilder = new BooleanBuilder();
-
-    if (filterRequestDto != null) {
+    /**
+     * 필터링된 스타일 목록 조회 (오프셋 페이징)
+     * 상품 조건은 EXISTS 서브쿼리로 걸어 행이 늘어나지 않으므로, 정렬 + LIMIT을 바로 적용해 현재 페이지 행만 읽는다.
+     * 썸네일/좋아요 수는 style의 비정규화 컬럼을 사용한다.
+     */
+    @Override
+    public Page<StyleResponseDto> filterStyles(StyleFilterRequestDto filterRequestDto, Pageable pageable) {
+        QStyle style = QStyle.style;
+        BooleanBuilder condition = buildFilterCondition(filterRequestDto, style);
+
+        List<StyleResponseDto> content = selectStyleResponse(style)
+                .where(condition)
+                .orderBy(feedOrder(filterRequestDto, style))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // 총 카운트: 마지막 페이지 등 필요한 경우에만 실행
+        JPAQuery<Long> countQuery = queryFactory
+                .select(style.count())
+                .from(style)
+                .join(style.profile, QProfile.profile)
+                .where(condition);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 필터링된 스타일 피드 키셋 조회
+     * 인기순은 (viewCount, id), 최신순은 id 기준으로 커서 "다음" 행부터 limit건을 읽는다.
+     * 조회수는 계속 바뀌므로 인기순 피드는 페이지 사이에 순위가 바뀐 스타일이 중복/누락될 수 있다.
+     */
+    @Override
+    public List<StyleResponseDto> findStyleFeed(StyleFilterRequestDto filterRequestDto,
+                                                PageUtils.ScoreCursor after, int limit) {
+        QStyle style = QStyle.style;
+        BooleanBuilder condition = buildFilterCondition(filterRequestDto, style);
+
+        if (after != null) {
+            if (isPopular(filterRequestDto)) {
+                condition.and(style.viewCount.lt(after.score())
+                        .or(style.viewCount.eq(after.score()).and(style.id.lt(after.id()))));
+            } else {
+                condition.and(style.id.lt(after.id()));
+            }
+        }
+
+        return selectStyleResponse(style)
+                .where(condition)
+                .orderBy(feedOrder(filterRequestDto, style))
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * ID 목록으로 스타일 목록 DTO 조회 (인기 순위에서 가져온 ID 순서대로 정렬해 반환, 삭제된 스타일은 제외)
+     */
+    @Override
+    public List<StyleResponseDto> findStyleResponsesByIds(List<Long> styleIds) {
+        if (styleIds == null || styleIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        QStyle style = QStyle.style;
+        Map<Long, StyleResponseDto> byId = selectStyleResponse(style)
+                .where(style.id.in(styleIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(StyleResponseDto::getId, dto -> dto));
+
+        return styleIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 인기 순위에 없는 스타일을 조회수순으로 조회 (순위 목록 뒤에 이어 붙이는 용도)
+     * offset은 순위 목록을 뺀 나머지 기준이다. 순위 스타일은 스냅샷 테이블과 NOT EXISTS로 제외한다.
+     */
+    @Override
+    public List<StyleResponseDto> findPopularStylesOutsideRanking(long offset, int limit) {
+        QStyle style = QStyle.style;
+        QStyleRankingSnapshot snapshot = QStyleRankingSnapshot.styleRankingSnapshot;
+
+        return selectStyleResponse(style)
+                .where(JPAExpressions.selectOne()
+                        .from(snapshot)
+                        .where(snapshot.styleId.eq(style.id))
+                        .notExists())
+                .orderBy(style.viewCount.desc(), style.id.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    // 스타일 목록 DTO 조회 (프로필은 작성자 1명이므로 조인해도 행이 늘지 않음)
+    private JPAQuery<StyleResponseDto> selectStyleResponse(QStyle style) {
+        QProfile profile = QProfile.profile;
+        return queryFactory.select(Projections.constructor(
+                        StyleResponseDto.class,
+                        style.id,
+                        profile.id,
+                        profile.profileName,
+                        profile.profileImageUrl,
+                        style.content,
+                        style.thumbnailUrl,
+                        style.viewCount,
+                        style.likeCount.intValue()
+                ))
+                .from(style)
+                .join(style.profile, profile);
+    }
+
+    private BooleanBuilder buildFilterCondition(StyleFilterRequestDto filterRequestDto, QStyle style) {
+        BooleanBuilder builder = new BooleanBuilder();
+        if (filterRequestDto == null) {
+            return builder;
+        }
+
+        if (filterRequestDto.getProfileName() != null) {
+            builder.and(QProfile.profile.profileName.eq(filterRequestDto.getProfileName()));
+        }
+
+        QProduct product = QProduct.product;
+        BooleanBuilder productCondition = new BooleanBuilder();
         if (filterRequestDto.getBrandName() != null) {
-            filterBuilder.and(brand.name.eq(filterRequestDto.getBrandName()));
+            productCondition.and(product.brand.name.eq(filterRequestDto.getBrandName()));
         }
         if (filterRequestDto.getCollectionName() != null) {
-            filterBuilder.and(product.collection.name.eq(filterRequestDto.getCollectionName()));
+            productCondition.and(product.collection.name.eq(filterRequestDto.getCollectionName()));
         }
         if (filterRequestDto.getCategoryId() != null) {
-            filterBuilder.and(product.category.id.eq(filterRequestDto.getCategoryId()));
+            productCondition.and(product.category.id.eq(filterRequestDto.getCategoryId()));
         }
-        if (filterRequestDto.getProfileName() != null) {
-            filterBuilder.and(profile.profileName.eq(filterRequestDto.getProfileName()));
+
+        // 상품 조건: 스타일에 연결된 주문 상품 중 하나라도 모두 만족하면 포함 (조인 대신 EXISTS로 중복 행 방지)
+        if (productCondition.hasValue()) {
+            QStyleOrderItem styleOrderItem = QStyleOrderItem.styleOrderItem;
+            QOrderItem orderItem = QOrderItem.orderItem;
+            QProductSize productSize = QProductSize.productSize;
+            QProductColor productColor = QProductColor.productColor;
+
+            builder.and(JPAExpressions.selectOne()
+                    .from(styleOrderItem)
+                    .join(styleOrderItem.orderItem, orderItem)
+                    .join(orderItem.productSize, productSize)
+                    .join(productSize.productColor, productColor)
+                    .join(productColor.product, product)
+                    .where(styleOrderItem.style.eq(style), productCondition)
+                    .exists());
         }
+        return builder;
     }
 
-    List<Long> filteredStyleIds = queryFactory
-            .select(style.id)
-            .from(style)
-            .leftJoin(style.profile, profile)
-            .leftJoin(style.styleOrderItems, styleOrderItem)
-            .leftJoin(styleOrderItem.orderItem, orderItem)
-            .leftJoin(orderItem.productSize, productSize)
-            .leftJoin(productSize.productColor, productColor)
-            .leftJoin(productColor.product, product)
-            .leftJoin(product.brand, brand)
-            .where(filterBuilder)
-            .distinct()
-            .fetch();
-
-    // 2단계: 찾은 ID로 실제 필요한 데이터 조회
-    var query = queryFactory.select(Projections.constructor(
-                    StyleResponseDto.class,
-                    style.id,
-                    profile.id,
-                    profile.profileName,
-                    profile.profileImageUrl,
-                    style.content,
-                    // 가장 먼저 저장된 MediaUrl
-                    JPAExpressions
-                            .select(mediaUrl.url)
-                            .from(mediaUrl)
-                            .where(mediaUrl.style.eq(style)
-                                    .and(mediaUrl.id.eq(
-                                            JPAExpressions
-                                                    .select(mediaUrl.id.min())
-                                                    .from(mediaUrl)
-                                                    .where(mediaUrl.style.eq(style))
-                                    ))),
-                    style.viewCount,
-                    style.likes.size() // 좋아요 수 계산
-            ))
-            .from(style)
-            .leftJoin(style.profile, profile)
-            .where(style.id.in(filteredStyleIds))
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize());
-
-    // 정렬
-    if (filterRequestDto != null && "popular".equals(filterRequestDto.getSortBy())) {
-        query.orderBy(style.viewCount.desc(), style.id.desc());
-    } else {
-        query.orderBy(style.id.desc());
+    private boolean isPopular(StyleFilterRequestDto filterRequestDto) {
+        return filterRequestDto != null && "popular".equals(filterRequestDto.getSortBy());
     }
 
-    // 데이터 조회
-    List<StyleResponseDto> content = query.fetch();
-
-    // 총 카운트 계산
-    long total = filteredStyleIds.size();
-
-    return PageableExecutionUtils.getPage(content, pageable, () -> total);
-}
+    private OrderSpecifier<?>[] feedOrder(StyleFilterRequestDto filterRequestDto, QStyle style) {
+        if (isPopular(filterRequestDto)) {
+            return new OrderSpecifier<?>[]{style.viewCount.desc(), style.id.desc()};
+        }
+        return new OrderSpecifier<?>[]{style.id.desc()};
+    }
 
 
     @Override
@@ -286,8 +367,9 @@ public Page<StyleResponseDto> filterStyles(StyleFilterRequestDto filterRequestDt
                         profile.profileName.as("profileName"),
                         profile.profileImageUrl.as("profileImageUrl"),
                         style.content.as("content"),
-                        ExpressionUtils.as(style.likes.size().longValue(), "likeCount"),
-                        ExpressionUtils.as(style.comments.size().longValue(), "commentCount"),
+                        style.likeCount.as("likeCount"),
+                        style.commentCount.as("commentCount"),
+                        style.interestCount.as("interestCount"),
                         style.createdDate.as("createdDate")
                 ))
                 .from(style)
@@ -311,20 +393,12 @@ public Page<StyleResponseDto> filterStyles(StyleFilterRequestDto filterRequestDt
         QProfile profile = QProfile.profile;
         QMediaUrl mediaUrl = QMediaUrl.mediaUrl;
 
-        // 첫 번째 미디어 URL 조회
+        // 썸네일/좋아요 수는 비정규화 컬럼 사용
         var query = queryFactory.select(Projections.constructor(
                         ProfileStyleResponseDto.class,
                         style.id,
-                        JPAExpressions.select(mediaUrl.url)
-                                .from(mediaUrl)
-                                .where(mediaUrl.style.id.eq(style.id)
-                                        .and(mediaUrl.id.eq(
-                                                JPAExpressions
-                                                        .select(mediaUrl.id.min())
-                                                        .from(mediaUrl)
-                                                        .where(mediaUrl.style.id.eq(style.id))
-                                        ))),
-                        style.likes.size().longValue()  // 좋아요 수
+                        style.thumbnailUrl,
+                        style.likeCount
                 ))
                 .from(style)
                 .leftJoin(style.profile, profile)
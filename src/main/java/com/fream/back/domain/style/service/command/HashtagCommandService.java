@@ -4,12 +4,14 @@ import com.fream.back.domain.style.dto.HashtagCreateRequestDto;
 import com.fream.back.domain.style.dto.HashtagResponseDto;
 import com.fream.back.domain.style.dto.HashtagUpdateRequestDto;
 import com.fream.back.domain.style.entity.Hashtag;
+import com.fream.back.domain.style.event.HashtagChangedEvent;
 import com.fream.back.domain.style.exception.StyleErrorCode;
 import com.fream.back.domain.style.exception.StyleException;
 import com.fream.back.domain.style.repository.HashtagRepository;
 import com.fream.back.domain.style.repository.StyleHashtagRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +23,7 @@ public class HashtagCommandService {
 
     private final HashtagRepository hashtagRepository;
     private final StyleHashtagRepository styleHashtagRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 해시태그 생성
@@ -56,6 +59,7 @@ public class HashtagCommandService {
 
             // 저장 및 DTO 반환
             Hashtag savedHashtag = hashtagRepository.save(hashtag);
+            eventPublisher.publishEvent(HashtagChangedEvent.upserted(savedHashtag));
             log.info("해시태그 생성 완료: hashtagId={}, name={}", savedHashtag.getId(), savedHashtag.getName());
             return convertToDto(savedHashtag);
 
@@ -110,6 +114,7 @@ public class HashtagCommandService {
 
             // 저장 및 DTO 반환
             Hashtag savedHashtag = hashtagRepository.save(updatedHashtag);
+            eventPublisher.publishEvent(HashtagChangedEvent.upserted(savedHashtag));
             log.info("해시태그 수정 완료: hashtagId={}, 이전 이름={}, 새 이름={}",
                     id, hashtag.getName(), savedHashtag.getName());
 
@@ -152,6 +157,7 @@ public class HashtagCommandService {
 
             // 삭제
             hashtagRepository.delete(hashtag);
+            eventPublisher.publishEvent(HashtagChangedEvent.deleted(id));
             log.info("해시태그 삭제 완료: hashtagId={}, name={}", id, hashtag.getName());
 
         } catch (StyleException e) {
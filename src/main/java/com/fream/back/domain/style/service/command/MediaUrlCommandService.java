@@ -77,8 +77,9 @@ public class MediaUrlCommandService {
                     .url(url)  // 전체 URL 경로 저장
                     .build();
 
-            // 5. 양방향 연관관계 설정
+            // 5. 양방향 연관관계 설정 (첫 미디어면 스타일 대표 이미지로 지정)
             mediaUrl.assignStyle(style);
+            style.assignThumbnailIfAbsent(url);
 
             MediaUrl savedMediaUrl = mediaUrlRepository.save(mediaUrl);
             log.info("미디어 URL 저장 완료: mediaUrlId={}, styleId={}, url={}",
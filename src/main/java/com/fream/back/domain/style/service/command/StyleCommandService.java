@@ -4,6 +4,7 @@ import com.fream.back.domain.style.entity.Hashtag;
 import com.fream.back.domain.style.entity.MediaUrl;
 import com.fream.back.domain.style.entity.Style;
 import com.fream.back.domain.style.entity.StyleOrderItem;
+import com.fream.back.domain.style.event.StyleEngagementEvent;
 import com.fream.back.domain.style.exception.StyleErrorCode;
 import com.fream.back.domain.style.exception.StyleException;
 import com.fream.back.domain.style.repository.HashtagRepository;
@@ -12,6 +13,7 @@ import com.fream.back.domain.user.entity.Profile;
 import com.fream.back.domain.user.service.profile.ProfileQueryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -33,6 +35,7 @@ public class StyleCommandService {
     private final HashtagRepository hashtagRepository;
     private final HashtagCommandService hashtagCommandService;
     private final StyleHashtagCommandService styleHashtagCommandService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 스타일 생성 (해시태그 처리 추가)
@@ -329,6 +332,7 @@ public class StyleCommandService {
 
             // 스타일 삭제
             styleRepository.delete(style);
+            eventPublisher.publishEvent(StyleEngagementEvent.of(styleId, StyleEngagementEvent.Type.DELETED));
             log.info("스타일 삭제 완료: styleId={}", styleId);
 
         } catch (StyleException e) {
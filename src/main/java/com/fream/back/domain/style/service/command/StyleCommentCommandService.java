@@ -2,14 +2,17 @@ package com.fream.back.domain.style.service.command;
 
 import com.fream.back.domain.style.entity.Style;
 import com.fream.back.domain.style.entity.StyleComment;
+import com.fream.back.domain.style.event.StyleEngagementEvent;
 import com.fream.back.domain.style.exception.StyleErrorCode;
 import com.fream.back.domain.style.exception.StyleException;
 import com.fream.back.domain.style.repository.StyleCommentRepository;
+import com.fream.back.domain.style.repository.StyleRepository;
 import com.fream.back.domain.style.service.query.StyleQueryService;
 import com.fream.back.domain.user.entity.Profile;
 import com.fream.back.domain.user.service.profile.ProfileQueryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,8 +23,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class StyleCommentCommandService {
 
     private final StyleCommentRepository styleCommentRepository;
+    private final StyleRepository styleRepository;
     private final ProfileQueryService profileQueryService;
     private final StyleQueryService styleQueryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 댓글 생성
@@ -106,6 +111,8 @@ public class StyleCommentCommandService {
 
             // 6. 댓글 저장
             StyleComment savedComment = styleCommentRepository.save(comment);
+            styleRepository.updateCommentCount(styleId, 1);
+            eventPublisher.publishEvent(StyleEngagementEvent.of(styleId, StyleEngagementEvent.Type.COMMENT));
             log.info("댓글 생성 완료: commentId={}, styleId={}, parentCommentId={}",
                     savedComment.getId(), styleId, parentCommentId);
 
@@ -189,6 +196,7 @@ public class StyleCommentCommandService {
             }
 
             styleCommentRepository.delete(comment); // 자식 댓글은 cascade로 자동 삭제
+            styleRepository.updateCommentCount(comment.getStyle().getId(), -(1L + replyCount));
             log.info("댓글 삭제 완료: commentId={}", commentId);
 
         } catch (StyleException e) {
@@ -3,12 +3,14 @@ package com.fream.back.domain.style.service.command;
 import com.fream.back.domain.style.entity.Hashtag;
 import com.fream.back.domain.style.entity.Style;
 import com.fream.back.domain.style.entity.StyleHashtag;
+import com.fream.back.domain.style.event.HashtagChangedEvent;
 import com.fream.back.domain.style.exception.StyleErrorCode;
 import com.fream.back.domain.style.exception.StyleException;
 import com.fream.back.domain.style.repository.HashtagRepository;
 import com.fream.back.domain.style.repository.StyleHashtagRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,7 @@ public class StyleHashtagCommandService {
 
     private final StyleHashtagRepository styleHashtagRepository;
     private final HashtagRepository hashtagRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 스타일에 해시태그 추가 (기존 해시태그 사용)
@@ -50,6 +53,7 @@ public class StyleHashtagCommandService {
             // 해시태그 사용 횟수 증가
             hashtag.incrementCount();
             hashtagRepository.save(hashtag);
+            eventPublisher.publishEvent(HashtagChangedEvent.upserted(hashtag));
             log.debug("해시태그 사용 횟수 증가: hashtagId={}, 새 카운트={}",
                     hashtag.getId(), hashtag.getCount());
 
@@ -98,6 +102,7 @@ public class StyleHashtagCommandService {
                     Hashtag hashtag = styleHashtag.getHashtag();
                     hashtag.decrementCount();
                     hashtagRepository.save(hashtag);
+                    eventPublisher.publishEvent(HashtagChangedEvent.upserted(hashtag));
                     log.debug("해시태그 사용 횟수 감소: hashtagId={}, 새 카운트={}",
                             hashtag.getId(), hashtag.getCount());
                 } catch (Exception e) {
@@ -138,6 +143,7 @@ public class StyleHashtagCommandService {
                 Hashtag hashtag = styleHashtag.get().getHashtag();
                 hashtag.decrementCount();
                 hashtagRepository.save(hashtag);
+                eventPublisher.publishEvent(HashtagChangedEvent.upserted(hashtag));
                 log.debug("해시태그 사용 횟수 감소: hashtagId={}, 새 카운트={}",
                         hashtag.getId(), hashtag.getCount());
 
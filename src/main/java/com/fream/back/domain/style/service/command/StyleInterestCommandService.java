@@ -1,18 +1,20 @@
 package com.fream.back.domain.style.service.command;
 
-import com.fream.back.domain.style.entity.Style;
-import com.fream.back.domain.style.entity.StyleInterest;
+import com.fream.back.domain.style.event.StyleEngagementEvent;
+import com.fream.back.domain.style.event.StyleInterestChangedEvent;
 import com.fream.back.domain.style.exception.StyleErrorCode;
 import com.fream.back.domain.style.exception.StyleException;
 import com.fream.back.domain.style.repository.StyleInterestRepository;
-import com.fream.back.domain.style.service.query.StyleQueryService;
-import com.fream.back.domain.user.entity.Profile;
+import com.fream.back.domain.style.repository.StyleRepository;
 import com.fream.back.domain.user.service.profile.ProfileQueryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -20,11 +22,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class StyleInterestCommandService {
 
     private final StyleInterestRepository styleInterestRepository;
+    private final StyleRepository styleRepository;
     private final ProfileQueryService profileQueryService;
-    private final StyleQueryService styleQueryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 스타일 관심 상태 토글
+     * (style_id, profile_id) 유니크 키에 대한 조건부 DELETE/INSERT와 관심 수 원자적 증감으로 처리
      *
      * @param email 사용자 이메일
      * @param styleId 스타일 ID
@@ -43,34 +47,25 @@ public class StyleInterestCommandService {
         }
 
         try {
-            Profile profile = profileQueryService.getProfileByEmail(email);
-            log.debug("프로필 조회 성공: profileId={}, profileName={}",
-                    profile.getId(), profile.getProfileName());
-
-            Style style = styleQueryService.findStyleById(styleId);
-            log.debug("스타일 조회 성공: styleId={}", styleId);
+            Long profileId = profileQueryService.getProfileIdByEmail(email);
+            log.debug("프로필 ID 조회 성공: profileId={}", profileId);
 
-            StyleInterest existingInterest = styleInterestRepository.findByStyleAndProfile(style, profile)
-                    .orElse(null);
-
-            if (existingInterest != null) {
-                // 관심 취소
-                log.debug("기존 관심 삭제: interestId={}, styleId={}, profileId={}",
-                        existingInterest.getId(), styleId, profile.getId());
-                styleInterestRepository.delete(existingInterest);
-                style.removeInterest(existingInterest); // Style -> Interest 관계 제거
-                log.info("스타일 관심 취소 완료: styleId={}, profileId={}", styleId, profile.getId());
+            // 삭제를 먼저 시도하고, 지운 행이 없을 때만 추가 (스타일/관심 엔티티를 로딩하지 않음)
+            if (styleInterestRepository.deleteByProfileIdAndStyleId(profileId, styleId) > 0) {
+                styleRepository.updateInterestCount(styleId, -1);
+                eventPublisher.publishEvent(StyleEngagementEvent.of(styleId, StyleEngagementEvent.Type.UNINTEREST));
+                eventPublisher.publishEvent(new StyleInterestChangedEvent(email, styleId, false));
+                log.info("스타일 관심 취소 완료: styleId={}, profileId={}", styleId, profileId);
+            } else if (styleInterestRepository.insertIfAbsent(styleId, profileId, LocalDateTime.now()) > 0) {
+                styleRepository.updateInterestCount(styleId, 1);
+                eventPublisher.publishEvent(StyleEngagementEvent.of(styleId, StyleEngagementEvent.Type.INTEREST));
+                eventPublisher.publishEvent(new StyleInterestChangedEvent(email, styleId, true));
+                log.info("스타일 관심 추가 완료: styleId={}, profileId={}", styleId, profileId);
+            } else if (!styleRepository.existsById(styleId)) {
+                throw new StyleException(StyleErrorCode.STYLE_NOT_FOUND, "스타일을 찾을 수 없습니다: " + styleId);
             } else {
-                // 새로운 관심 추가
-                StyleInterest styleInterest = StyleInterest.builder()
-                        .style(style)
-                        .profile(profile)
-                        .build();
-
-                style.addInterest(styleInterest); // Style -> Interest 관계 설정
-                StyleInterest savedInterest = styleInterestRepository.save(styleInterest);
-                log.info("스타일 관심 추가 완료: interestId={}, styleId={}, profileId={}",
-                        savedInterest.getId(), styleId, profile.getId());
+                // 같은 사용자의 동시 요청이 먼저 추가한 경우 (이미 관심 상태)
+                log.debug("이미 관심 등록한 스타일: styleId={}, profileId={}", styleId, profileId);
             }
         } catch (StyleException e) {
             // StyleException은 이미 로깅됨
@@ -1,18 +1,20 @@
 package com.fream.back.domain.style.service.command;
 
-import com.fream.back.domain.style.entity.Style;
-import com.fream.back.domain.style.entity.StyleLike;
+import com.fream.back.domain.style.event.StyleEngagementEvent;
+import com.fream.back.domain.style.event.StyleLikeChangedEvent;
 import com.fream.back.domain.style.exception.StyleErrorCode;
 import com.fream.back.domain.style.exception.StyleException;
 import com.fream.back.domain.style.repository.StyleLikeRepository;
-import com.fream.back.domain.style.service.query.StyleQueryService;
-import com.fream.back.domain.user.entity.Profile;
+import com.fream.back.domain.style.repository.StyleRepository;
 import com.fream.back.domain.user.service.profile.ProfileQueryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -20,11 +22,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class StyleLikeCommandService {
 
     private final StyleLikeRepository styleLikeRepository;
+    private final StyleRepository styleRepository;
     private final ProfileQueryService profileQueryService;
-    private final StyleQueryService styleQueryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 좋아요 추가 또는 취소 (토글)
+     * (style_id, profile_id) 유니크 키에 대한 조건부 DELETE/INSERT와 좋아요 수 원자적 증감으로 처리
      *
      * @param email 사용자 이메일
      * @param styleId 스타일 ID
@@ -43,35 +47,30 @@ public class StyleLikeCommandService {
         }
 
         try {
-            Profile profile = profileQueryService.getProfileByEmail(email);
-            log.debug("프로필 조회 성공: profileId={}, profileName={}",
-                    profile.getId(), profile.getProfileName());
-
-            Style style = styleQueryService.findStyleById(styleId);
-            log.debug("스타일 조회 성공: styleId={}", styleId);
-
-            // 기존 좋아요 조회
-            StyleLike existingLike = styleLikeRepository.findByStyleAndProfile(style, profile).orElse(null);
+            Long profileId = profileQueryService.getProfileIdByEmail(email);
+            log.debug("프로필 ID 조회 성공: profileId={}", profileId);
 
-            if (existingLike != null) {
-                // 좋아요 취소
-                log.debug("기존 좋아요 삭제: likeId={}, styleId={}, profileId={}",
-                        existingLike.getId(), styleId, profile.getId());
-                styleLikeRepository.delete(existingLike);
-                style.removeLike(existingLike); // Style -> Like 관계 제거
-                log.info("스타일 좋아요 취소 완료: styleId={}, profileId={}", styleId, profile.getId());
+            // 삭제를 먼저 시도하고, 지운 행이 없을 때만 추가 (스타일/좋아요 엔티티를 로딩하지 않음)
+            boolean liked;
+            if (styleLikeRepository.deleteByProfileIdAndStyleId(profileId, styleId) > 0) {
+                liked = false;
+                styleRepository.updateLikeCount(styleId, -1);
+                eventPublisher.publishEvent(StyleEngagementEvent.of(styleId, StyleEngagementEvent.Type.UNLIKE));
+                log.info("스타일 좋아요 취소 완료: styleId={}, profileId={}", styleId, profileId);
+            } else if (styleLikeRepository.insertIfAbsent(styleId, profileId, LocalDateTime.now()) > 0) {
+                liked = true;
+                styleRepository.updateLikeCount(styleId, 1);
+                eventPublisher.publishEvent(StyleEngagementEvent.of(styleId, StyleEngagementEvent.Type.LIKE));
+                log.info("스타일 좋아요 추가 완료: styleId={}, profileId={}", styleId, profileId);
+            } else if (!styleRepository.existsById(styleId)) {
+                throw new StyleException(StyleErrorCode.STYLE_NOT_FOUND, "스타일을 찾을 수 없습니다: " + styleId);
             } else {
-                // 새로운 좋아요 추가
-                StyleLike styleLike = StyleLike.builder()
-                        .style(style)
-                        .profile(profile)
-                        .build();
-
-                style.addLike(styleLike); // Style -> Like 관계 설정
-                StyleLike savedLike = styleLikeRepository.save(styleLike);
-                log.info("스타일 좋아요 추가 완료: likeId={}, styleId={}, profileId={}",
-                        savedLike.getId(), styleId, profile.getId());
+                // 같은 사용자의 동시 요청이 먼저 추가한 경우 (이미 좋아요 상태)
+                log.debug("이미 좋아요한 스타일: styleId={}, profileId={}", styleId, profileId);
+                return;
             }
+
+            eventPublisher.publishEvent(new StyleLikeChangedEvent(email, styleId, liked));
         } catch (StyleException e) {
             // StyleException은 이미 로깅됨
             throw e;
@@ -3,10 +3,12 @@ package com.fream.back.domain.style.service.kafka;
 import com.fream.back.domain.style.dto.kafka.StyleViewEvent;
 import com.fream.back.domain.style.entity.Style;
 import com.fream.back.domain.style.entity.StyleViewLog;
+import com.fream.back.domain.style.event.StyleEngagementEvent;
 import com.fream.back.domain.style.repository.StyleRepository;
 import com.fream.back.domain.style.repository.StyleViewLogRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,6 +24,7 @@ public class StyleViewEventConsumer {
 
     private final StyleRepository styleRepository;
     private final StyleViewLogRepository styleViewLogRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 버퍼링을 위한 큐 설정 (고부하 시스템을 위한 최적화)
     private final ConcurrentLinkedQueue<StyleViewLog> buffer = new ConcurrentLinkedQueue<>();
@@ -44,6 +47,7 @@ public class StyleViewEventConsumer {
             // 2) Style 엔티티의 viewCount 증가
             style.incrementViewCount();
             styleRepository.save(style);
+            eventPublisher.publishEvent(StyleEngagementEvent.of(style.getId(), StyleEngagementEvent.Type.VIEW));
 
             // 3) 로그 엔티티 생성
             StyleViewLog viewLog = StyleViewLog.create(
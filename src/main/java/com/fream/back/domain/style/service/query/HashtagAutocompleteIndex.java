@@ -0,0 +1,311 @@
+package com.fream.back.domain.style.service.query;
+
+import com.fream.back.domain.style.dto.HashtagResponseDto;
+import com.fream.back.domain.style.entity.Hashtag;
+import com.fream.back.domain.style.event.HashtagChangedEvent;
+import com.fream.back.domain.style.repository.HashtagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 해시태그 자동완성 메모리 색인
+ *
+ * 초성 시퀀스와 소문자 이름 각각에 대해 접미사 트라이를 두고, 노드마다 사용 횟수(count) 상위 topK개 ID만 보관한다.
+ * 모든 접미사를 넣어두므로 "포함" 검색도 키워드 길이만큼 내려가면 끝나고, 해시태그 수와 무관하게 동작한다.
+ *
+ * HashtagCommandService(생성/수정/삭제)와 StyleHashtagCommandService(사용 횟수 증감)가 발행한
+ * {@link HashtagChangedEvent}를 커밋 이후에 받아 갱신하므로 롤백된 변경은 반영되지 않는다.
+ * 잘려나간(topK 밖) 후보가 있는 노드에서 항목이 빠지거나 순위가 내려가면 대체 후보를 알 수 없으므로
+ * 재구성 플래그만 세우고 스케줄러가 DB에서 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HashtagAutocompleteIndex {
+
+    // 유니코드 한글 음절의 초성 19자 (가 = 0xAC00, 초성 간격 21 * 28)
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private final HashtagRepository hashtagRepository;
+
+    @Value("${style.hashtag.autocomplete.top-k:20}")
+    private int topK;
+
+    @Value("${style.hashtag.autocomplete.max-depth:12}")
+    private int maxDepth;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean(false);
+    // 재구성 도중 들어온 변경 감지용
+    private final AtomicLong modifications = new AtomicLong();
+
+    // 아래 필드는 lock으로 보호
+    private Map<Long, HashtagResponseDto> tags = new HashMap<>();
+    private Node chosungRoot = new Node();
+    private Node nameRoot = new Node();
+    private boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 재구성 요청이 있을 때만 전체 해시태그를 다시 읽어 트라이를 교체한다.
+     */
+    @Scheduled(fixedDelayString = "${style.hashtag.autocomplete.rebuild-check-ms:60000}")
+    public void rebuildIfRequested() {
+        if (rebuildRequested.getAndSet(false)) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        try {
+            long startedAt = modifications.get();
+            List<Hashtag> all = hashtagRepository.findAll();
+            Map<Long, HashtagResponseDto> newTags = new HashMap<>(all.size() * 2);
+            Node newChosung = new Node();
+            Node newName = new Node();
+
+            // count 내림차순으로 넣으면 노드마다 앞쪽 topK개만 남기면 된다
+            all.stream()
+                    .map(HashtagAutocompleteIndex::toDto)
+                    .sorted(ORDER)
+                    .forEach(dto -> {
+                        newTags.put(dto.getId(), dto);
+                        insertAll(newChosung, extractChosung(dto.getName()), dto, newTags);
+                        insertAll(newName, normalizeName(dto.getName()), dto, newTags);
+                    });
+
+            lock.writeLock().lock();
+            try {
+                tags = newTags;
+                chosungRoot = newChosung;
+                nameRoot = newName;
+                ready = true;
+                if (modifications.get() != startedAt) {
+                    // 읽어온 이후의 변경분이 반영되지 않았으므로 다음 주기에 다시 만든다
+                    rebuildRequested.set(true);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("해시태그 자동완성 색인 재구성 완료: 해시태그 수={}", newTags.size());
+        } catch (Exception e) {
+            log.error("해시태그 자동완성 색인 재구성 실패", e);
+        }
+    }
+
+    /**
+     * 초성 포함 검색. 색인이 준비되지 않았거나 limit이 보관 개수를 넘으면 null.
+     */
+    public List<HashtagResponseDto> searchChosung(String chosung, int limit) {
+        return search(true, chosung, limit);
+    }
+
+    /**
+     * 이름 포함 검색(대소문자 무시). 색인이 준비되지 않았거나 limit이 보관 개수를 넘으면 null.
+     */
+    public List<HashtagResponseDto> searchName(String keyword, int limit) {
+        return search(false, normalizeName(keyword), limit);
+    }
+
+    /**
+     * 커밋된 해시태그 변경 반영. 트랜잭션 밖에서 발행된 경우에도 바로 반영한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onHashtagChanged(HashtagChangedEvent event) {
+        if (event.deleted()) {
+            remove(event.hashtagId());
+        } else {
+            upsert(HashtagResponseDto.builder()
+                    .id(event.hashtagId())
+                    .name(event.name())
+                    .count(event.count())
+                    .build());
+        }
+    }
+
+    /**
+     * 해시태그 생성/이름 변경/사용 횟수 변경 반영
+     */
+    public void upsert(Hashtag hashtag) {
+        if (hashtag == null) {
+            return;
+        }
+        upsert(toDto(hashtag));
+    }
+
+    private void upsert(HashtagResponseDto dto) {
+        if (dto.getId() == null || dto.getName() == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            modifications.incrementAndGet();
+            HashtagResponseDto previous = tags.get(dto.getId());
+            if (previous != null) {
+                boolean demoted = dto.getCount() < previous.getCount()
+                        || !previous.getName().equals(dto.getName());
+                removeAll(chosungRoot, extractChosung(previous.getName()), previous.getId(), demoted);
+                removeAll(nameRoot, normalizeName(previous.getName()), previous.getId(), demoted);
+            }
+            tags.put(dto.getId(), dto);
+            insertAll(chosungRoot, extractChosung(dto.getName()), dto, tags);
+            insertAll(nameRoot, normalizeName(dto.getName()), dto, tags);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 해시태그 삭제 반영
+     */
+    public void remove(Long hashtagId) {
+        lock.writeLock().lock();
+        try {
+            modifications.incrementAndGet();
+            HashtagResponseDto previous = tags.remove(hashtagId);
+            if (previous != null) {
+                removeAll(chosungRoot, extractChosung(previous.getName()), hashtagId, true);
+                removeAll(nameRoot, normalizeName(previous.getName()), hashtagId, true);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 한글 음절 문자열에서 초성만 추출 (한글 음절이 아닌 문자는 건너뜀)
+     */
+    public static String extractChosung(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        StringBuilder result = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            if (c >= '가' && c <= '힣') {
+                result.append(CHOSUNG[(c - '가') / (21 * 28)]);
+            }
+        }
+        return result.toString();
+    }
+
+    private List<HashtagResponseDto> search(boolean chosung, String key, int limit) {
+        lock.readLock().lock();
+        try {
+            if (!ready || limit > topK || key.length() > maxDepth) {
+                return null;
+            }
+            if (key.isEmpty()) {
+                return List.of();
+            }
+            Node node = chosung ? chosungRoot : nameRoot;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            List<HashtagResponseDto> result = new ArrayList<>(Math.min(limit, node.top.size()));
+            for (int i = 0; i < node.top.size() && result.size() < limit; i++) {
+                result.add(tags.get(node.top.get(i)));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 모든 접미사 경로(최대 maxDepth 글자)에 등록
+    private void insertAll(Node root, String key, HashtagResponseDto dto, Map<Long, HashtagResponseDto> index) {
+        for (int start = 0; start < key.length(); start++) {
+            Node node = root;
+            int end = Math.min(key.length(), start + maxDepth);
+            for (int i = start; i < end; i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                node.place(dto, index, topK);
+            }
+        }
+    }
+
+    private void removeAll(Node root, String key, Long id, boolean demoted) {
+        for (int start = 0; start < key.length(); start++) {
+            Node node = root;
+            int end = Math.min(key.length(), start + maxDepth);
+            for (int i = start; i < end && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+                if (node != null && node.top.remove(id) && node.truncated && demoted) {
+                    // 잘려나간 후보가 대신 들어와야 할 수 있음
+                    rebuildRequested.set(true);
+                }
+            }
+        }
+    }
+
+    private static String normalizeName(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static HashtagResponseDto toDto(Hashtag hashtag) {
+        return HashtagResponseDto.builder()
+                .id(hashtag.getId())
+                .name(hashtag.getName())
+                .count(hashtag.getCount() != null ? hashtag.getCount() : 0L)
+                .build();
+    }
+
+    // count 내림차순, 동률이면 ID 오름차순
+    private static final Comparator<HashtagResponseDto> ORDER =
+            Comparator.comparing(HashtagResponseDto::getCount, Comparator.reverseOrder())
+                    .thenComparing(HashtagResponseDto::getId);
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final List<Long> top = new ArrayList<>(2);
+        private boolean truncated; // topK를 넘어 잘려나간 후보가 있었는지
+
+        // 같은 노드를 여러 접미사가 지나갈 수 있으므로 중복 없이 정렬 위치에 삽입
+        private void place(HashtagResponseDto dto, Map<Long, HashtagResponseDto> index, int topK) {
+            if (top.contains(dto.getId())) {
+                return;
+            }
+            int pos = 0;
+            while (pos < top.size() && ORDER.compare(index.get(top.get(pos)), dto) < 0) {
+                pos++;
+            }
+            if (pos >= topK) {
+                truncated = true;
+                return;
+            }
+            top.add(pos, dto.getId());
+            if (top.size() > topK) {
+                top.remove(top.size() - 1);
+                truncated = true;
+            }
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.util.stream.Collectors;
 public class HashtagQueryService {
 
     private final HashtagRepository hashtagRepository;
+    private final HashtagAutocompleteIndex hashtagAutocompleteIndex;
 
     /**
      * ID로 해시태그 조회
@@ -233,6 +234,13 @@ public class HashtagQueryService {
         log.debug("한글 기반 자동완성 실행: keyword={}, limit={}", keyword, limit);
 
         try {
+            // 메모리 색인 우선 (키워드 길이만큼만 탐색)
+            List<HashtagResponseDto> indexed = hashtagAutocompleteIndex.searchName(keyword, limit);
+            if (indexed != null) {
+                log.debug("한글 기반 자동완성 색인 조회 완료: keyword={}, 결과 수={}", keyword, indexed.size());
+                return indexed;
+            }
+
             List<HashtagResponseDto> result = hashtagRepository.findByNameContainingKeywordOrderByCountDesc(keyword, Pageable.ofSize(limit))
                     .stream()
                     .map(this::convertToDto)
@@ -258,13 +266,20 @@ public class HashtagQueryService {
         log.debug("초성 기반 자동완성 실행: keyword={}, limit={}", keyword, limit);
 
         try {
-            // 전체 해시태그 조회
+            // 메모리 초성 색인 우선 (키워드 길이만큼만 탐색)
+            List<HashtagResponseDto> indexed = hashtagAutocompleteIndex.searchChosung(keyword, limit);
+            if (indexed != null) {
+                log.debug("초성 기반 자동완성 색인 조회 완료: keyword={}, 결과 수={}", keyword, indexed.size());
+                return indexed;
+            }
+
+            // 색인 준비 전이거나 limit이 색인 보관 개수를 넘는 경우에만 전체 조회
             List<Hashtag> allHashtags = hashtagRepository.findAll();
             log.debug("초성 검색을 위한 전체 해시태그 조회: 총 개수={}", allHashtags.size());
 
             List<HashtagResponseDto> result = allHashtags.stream()
                     .filter(tag -> {
-                        String chosung = extractChosung(tag.getName());
+                        String chosung = HashtagAutocompleteIndex.extractChosung(tag.getName());
                         return chosung.contains(keyword);
                     })
                     .sorted(Comparator.comparing(Hashtag::getCount).reversed())
@@ -351,28 +366,6 @@ public class HashtagQueryService {
         return hasChosung;
     }
 
-    /**
-     * 한글 문자열에서 초성만 추출
-     */
-    private String extractChosung(String text) {
-        if (text == null || text.isEmpty()) {
-            return "";
-        }
-
-        StringBuilder result = new StringBuilder();
-
-        for (char c : text.toCharArray()) {
-            // 한글인 경우에만 초성 추출
-            if (c >= '가' && c <= '힣') {
-                // 한글 유니코드 수식: (한글 - 가) / (21 * 28) + 'ㄱ'
-                char chosung = (char) ((c - '가') / (21 * 28) + 'ㄱ');
-                result.append(chosung);
-            }
-        }
-
-        return result.toString();
-    }
-
     /**
      * 엔티티를 DTO로 변환
      */
@@ -12,7 +12,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -131,4 +133,35 @@ public class StyleCommentLikeQueryService {
                     "댓글 좋아요 상태 확인 중 오류가 발생했습니다.", e);
         }
     }
+
+    /**
+     * 프로필 ID 기준 여러 댓글의 좋아요 상태를 한 번에 확인 (좋아요한 댓글 ID만 조회)
+     *
+     * @param profileId 프로필 ID
+     * @param commentIds 확인할 댓글 ID 목록
+     * @return 좋아요한 댓글 ID 집합
+     */
+    public Set<Long> getLikedCommentIds(Long profileId, List<Long> commentIds) {
+        if (profileId == null || commentIds == null || commentIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return styleCommentLikeRepository.findCommentIdsByProfileIdAndCommentIdIn(profileId, commentIds);
+    }
+
+    /**
+     * 여러 댓글의 좋아요 수를 한 번에 조회
+     *
+     * @param commentIds 댓글 ID 목록
+     * @return 댓글 ID → 좋아요 수 (좋아요가 없는 댓글은 포함되지 않음)
+     */
+    public Map<Long, Long> getLikeCountMap(List<Long> commentIds) {
+        if (commentIds == null || commentIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, Long> likeCounts = new HashMap<>();
+        for (Object[] row : styleCommentLikeRepository.countByCommentIdIn(commentIds)) {
+            likeCounts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return likeCounts;
+    }
 }
\ No newline at end of file
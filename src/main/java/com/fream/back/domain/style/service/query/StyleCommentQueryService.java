@@ -6,11 +6,14 @@ import com.fream.back.domain.style.entity.StyleComment;
 import com.fream.back.domain.style.exception.StyleErrorCode;
 import com.fream.back.domain.style.exception.StyleException;
 import com.fream.back.domain.style.repository.StyleCommentRepository;
+import com.fream.back.domain.style.repository.StyleRepository;
 import com.fream.back.domain.user.entity.Profile;
 import com.fream.back.domain.user.service.profile.ProfileQueryService;
+import com.fream.back.global.dto.commonDto;
+import com.fream.back.global.utils.PageUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -28,6 +31,17 @@ public class StyleCommentQueryService {
     private final StyleCommentRepository styleCommentRepository;
     private final StyleCommentLikeQueryService styleCommentLikeQueryService;
     private final ProfileQueryService profileQueryService;
+    private final StyleRepository styleRepository;
+
+    private static final int MAX_REPLY_PAGE_SIZE = 100;
+    // 최신순 (생성일 내림차순, 같으면 ID 내림차순)
+    private static final Comparator<StyleComment> LATEST_FIRST = Comparator
+            .comparing(StyleComment::getCreatedDate)
+            .thenComparing(StyleComment::getId)
+            .reversed();
+
+    @Value("${style.comment.reply-preview-size:3}")
+    private int replyPreviewSize; // 댓글 목록에서 루트 댓글마다 함께 내려줄 대댓글 수
 
     /**
      * 특정 스타일의 댓글 목록 페이징 조회 (대댓글 포함)
@@ -61,58 +75,45 @@ public class StyleCommentQueryService {
             // 페이지 요청 생성 (최신순)
             Pageable pageable = PageRequest.of(page, size);
 
-            // 루트 댓글 조회
-            Page<StyleComment> rootCommentsPage = styleCommentRepository.findRootCommentsByStyleId(styleId, pageable);
-            List<StyleComment> rootComments = rootCommentsPage.getContent();
+            // 루트 댓글 조회 (작성자 함께 조회)
+            List<StyleComment> rootComments = styleCommentRepository.findRootCommentsWithProfile(styleId, pageable);
             log.debug("루트 댓글 조회 완료: styleId={}, 루트 댓글 수={}", styleId, rootComments.size());
 
-            // 총 댓글 수 조회
-            Long totalComments = styleCommentRepository.countCommentsByStyleId(styleId);
+            // 총 댓글 수 조회 (스타일에 유지 중인 카운터)
+            Long totalComments = styleRepository.findCommentCountById(styleId);
+            if (totalComments == null) {
+                totalComments = 0L;
+            }
             log.debug("총 댓글 수 조회 완료: styleId={}, 총 댓글 수={}", styleId, totalComments);
 
-            // 댓글 ID 목록 (루트 댓글 + 대댓글)
-            List<Long> allCommentIds = new ArrayList<>();
-            Map<Long, List<StyleComment>> repliesMap = new HashMap<>();
+            // 루트 댓글별 대댓글 미리보기와 대댓글 수 (루트 댓글 수와 무관하게 한 번씩 조회)
+            List<Long> rootIds = rootComments.stream().map(StyleComment::getId).collect(Collectors.toList());
+            Map<Long, List<StyleComment>> repliesMap = findReplyPreviews(rootIds);
+            Map<Long, Long> replyCounts = countReplies(rootIds);
 
-            // 루트 댓글 ID 추가
-            rootComments.forEach(comment -> allCommentIds.add(comment.getId()));
-
-            // 각 루트 댓글의 대댓글 조회 및 ID 추가
-            for (StyleComment rootComment : rootComments) {
-                List<StyleComment> replies = styleCommentRepository.findRepliesByParentCommentId(rootComment.getId());
-                repliesMap.put(rootComment.getId(), replies);
+            // 댓글 ID 목록 (루트 댓글 + 대댓글)
+            List<Long> allCommentIds = new ArrayList<>(rootIds);
+            repliesMap.values().forEach(replies -> replies.forEach(reply -> allCommentIds.add(reply.getId())));
 
-                replies.forEach(reply -> allCommentIds.add(reply.getId()));
-                log.debug("루트 댓글의 대댓글 조회 완료: rootCommentId={}, 대댓글 수={}",
-                        rootComment.getId(), replies.size());
-            }
+            // 좋아요 수 조회
+            Map<Long, Long> likeCounts = styleCommentLikeQueryService.getLikeCountMap(allCommentIds);
 
-            // 좋아요 상태 조회
+            // 현재 로그인한 사용자의 프로필 이미지 URL과 좋아요 상태 조회
+            String userProfileImageUrl = null;
             Set<Long> likedCommentIds = Collections.emptySet();
-            if (email != null && !email.isEmpty() && !"anonymousUser".equals(email)) {
-                likedCommentIds = styleCommentLikeQueryService.getLikedCommentIds(email, allCommentIds);
+            Profile userProfile = findProfileOrNull(email);
+            if (userProfile != null) {
+                userProfileImageUrl = userProfile.getProfileImageUrl();
+                likedCommentIds = styleCommentLikeQueryService.getLikedCommentIds(userProfile.getId(), allCommentIds);
                 log.debug("좋아요 상태 조회 완료: email={}, 좋아요 댓글 수={}/{}",
                         email, likedCommentIds.size(), allCommentIds.size());
             }
 
             // DTO 변환
-            List<StyleCommentResponseDto> commentDtos = convertToResponseDtos(rootComments, repliesMap, likedCommentIds);
+            List<StyleCommentResponseDto> commentDtos =
+                    convertToResponseDtos(rootComments, repliesMap, replyCounts, likeCounts, likedCommentIds);
             log.debug("댓글 DTO 변환 완료: styleId={}, DTO 수={}", styleId, commentDtos.size());
 
-            // 현재 로그인한 사용자의 프로필 이미지 URL 조회
-            String userProfileImageUrl = null;
-            if (email != null && !email.isEmpty() && !"anonymousUser".equals(email)) {
-                try {
-                    Profile userProfile = profileQueryService.getProfileByEmail(email);
-                    userProfileImageUrl = userProfile.getProfileImageUrl();
-                    log.debug("사용자 프로필 이미지 URL 조회 완료: email={}, profileImageUrl={}",
-                            email, userProfileImageUrl);
-                } catch (Exception e) {
-                    log.warn("사용자 프로필 조회 실패 - 기본값 null 사용: email={}, 원인={}",
-                            email, e.getMessage());
-                }
-            }
-
             StyleCommentsResponseDto response = new StyleCommentsResponseDto(commentDtos, totalComments, userProfileImageUrl);
             log.info("스타일 댓글 목록 조회 완료: styleId={}, 총 댓글 수={}, 현재 페이지 댓글 수={}",
                     styleId, totalComments, commentDtos.size());
@@ -129,45 +130,143 @@ public class StyleCommentQueryService {
         }
     }
 
+    /**
+     * 특정 댓글의 대댓글 커서 조회 (최신순)
+     * 댓글 목록 응답의 nextReplyCursor 또는 이전 응답의 nextCursor를 after로 넘깁니다.
+     *
+     * @param parentCommentId 부모(루트) 댓글 ID
+     * @param email 사용자 이메일
+     * @param after 이전 페이지의 커서 (처음부터 조회하면 null)
+     * @param size 페이지 크기 (최대 100)
+     * @return 대댓글 커서 페이지
+     */
+    public commonDto.CursorPageDto<StyleCommentResponseDto> getReplies(Long parentCommentId, String email,
+                                                                      String after, int size) {
+        log.debug("대댓글 커서 조회 시작: parentCommentId={}, after={}, size={}", parentCommentId, after, size);
+
+        if (parentCommentId == null) {
+            throw new StyleException(StyleErrorCode.COMMENT_NOT_FOUND, "댓글 ID가 필요합니다.");
+        }
+
+        PageUtils.Cursor cursor = PageUtils.decodeCursor(after);
+        int pageSize = Math.min(Math.max(size, 1), MAX_REPLY_PAGE_SIZE);
+
+        try {
+            // 다음 페이지 여부 판단을 위해 1건 더 조회
+            Pageable limit = PageRequest.of(0, pageSize + 1);
+            List<StyleComment> rows = cursor == null
+                    ? styleCommentRepository.findRepliesFirstPage(parentCommentId, limit)
+                    : styleCommentRepository.findRepliesAfter(parentCommentId, cursor.createdDate(), cursor.id(), limit);
+            commonDto.CursorPageDto<StyleComment> page = PageUtils.toCursorPageDto(rows, pageSize,
+                    reply -> new PageUtils.Cursor(reply.getCreatedDate(), reply.getId()), null);
+
+            List<Long> replyIds = page.getContent().stream().map(StyleComment::getId).collect(Collectors.toList());
+            Map<Long, Long> likeCounts = styleCommentLikeQueryService.getLikeCountMap(replyIds);
+            Profile userProfile = findProfileOrNull(email);
+            Set<Long> likedCommentIds = userProfile == null
+                    ? Collections.emptySet()
+                    : styleCommentLikeQueryService.getLikedCommentIds(userProfile.getId(), replyIds);
+
+            List<StyleCommentResponseDto> replyDtos = page.getContent().stream()
+                    .map(reply -> toResponseDto(reply, likeCounts, likedCommentIds))
+                    .collect(Collectors.toList());
+
+            log.debug("대댓글 커서 조회 완료: parentCommentId={}, 결과 수={}, hasNext={}",
+                    parentCommentId, replyDtos.size(), page.isHasNext());
+            return new commonDto.CursorPageDto<>(replyDtos, page.getNextCursor(), page.isHasNext(), null);
+        } catch (StyleException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("대댓글 커서 조회 중 예상치 못한 오류 발생: parentCommentId={}", parentCommentId, e);
+            throw new StyleException(StyleErrorCode.STYLE_INVALID_REQUEST,
+                    "대댓글 조회 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 루트 댓글별 최신 대댓글 미리보기 (부모별 상위 N개를 한 번에 조회, 최신순)
+     */
+    private Map<Long, List<StyleComment>> findReplyPreviews(List<Long> rootIds) {
+        Map<Long, List<StyleComment>> repliesMap = new HashMap<>();
+        if (rootIds.isEmpty() || replyPreviewSize <= 0) {
+            return repliesMap;
+        }
+
+        List<Long> replyIds = styleCommentRepository.findTopReplyIdsByParentIds(rootIds, replyPreviewSize);
+        if (replyIds.isEmpty()) {
+            return repliesMap;
+        }
+
+        styleCommentRepository.findAllWithProfileByIdIn(replyIds).stream()
+                .sorted(LATEST_FIRST)
+                .forEach(reply -> repliesMap
+                        .computeIfAbsent(reply.getParentComment().getId(), key -> new ArrayList<>())
+                        .add(reply));
+        log.debug("대댓글 미리보기 조회 완료: 루트 댓글 수={}, 대댓글 수={}", rootIds.size(), replyIds.size());
+        return repliesMap;
+    }
+
+    /**
+     * 루트 댓글별 전체 대댓글 수
+     */
+    private Map<Long, Long> countReplies(List<Long> rootIds) {
+        Map<Long, Long> replyCounts = new HashMap<>();
+        if (rootIds.isEmpty()) {
+            return replyCounts;
+        }
+        for (Object[] row : styleCommentRepository.countRepliesByParentIds(rootIds)) {
+            replyCounts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return replyCounts;
+    }
+
+    /**
+     * 로그인 사용자의 프로필 조회 (비로그인이거나 조회 실패 시 null)
+     */
+    private Profile findProfileOrNull(String email) {
+        if (email == null || email.isEmpty() || "anonymousUser".equals(email)) {
+            return null;
+        }
+        try {
+            return profileQueryService.getProfileByEmail(email);
+        } catch (Exception e) {
+            log.warn("사용자 프로필 조회 실패 - 비로그인으로 처리: email={}, 원인={}", email, e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * 댓글 엔티티를 DTO로 변환
      */
     private List<StyleCommentResponseDto> convertToResponseDtos(
             List<StyleComment> rootComments,
             Map<Long, List<StyleComment>> repliesMap,
+            Map<Long, Long> replyCounts,
+            Map<Long, Long> likeCounts,
             Set<Long> likedCommentIds
     ) {
         try {
             return rootComments.stream()
                     .map(rootComment -> {
                         // 루트 댓글의 DTO 생성
-                        StyleCommentResponseDto dto = StyleCommentResponseDto.builder()
-                                .id(rootComment.getId())
-                                .profileId(rootComment.getProfile().getId())
-                                .profileName(rootComment.getProfile().getProfileName())
-                                .profileImageUrl(rootComment.getProfile().getProfileImageUrl())
-                                .content(rootComment.getContent())
-                                .likeCount((long) rootComment.getLikes().size())
-                                .liked(likedCommentIds.contains(rootComment.getId()))
-                                .createdDate(rootComment.getCreatedDate())
-                                .build();
-
-                        // 대댓글이 있으면 DTO 목록 생성
+                        StyleCommentResponseDto dto = toResponseDto(rootComment, likeCounts, likedCommentIds);
+
+                        // 대댓글 미리보기 DTO 목록 생성
                         List<StyleComment> replies = repliesMap.getOrDefault(rootComment.getId(), Collections.emptyList());
                         List<StyleCommentResponseDto> replyDtos = replies.stream()
-                                .map(reply -> StyleCommentResponseDto.builder()
-                                        .id(reply.getId())
-                                        .profileId(reply.getProfile().getId())
-                                        .profileName(reply.getProfile().getProfileName())
-                                        .profileImageUrl(reply.getProfile().getProfileImageUrl())
-                                        .content(reply.getContent())
-                                        .likeCount((long) reply.getLikes().size())
-                                        .liked(likedCommentIds.contains(reply.getId()))
-                                        .createdDate(reply.getCreatedDate())
-                                        .build())
+                                .map(reply -> toResponseDto(reply, likeCounts, likedCommentIds))
                                 .collect(Collectors.toList());
 
+                        long replyCount = replyCounts.getOrDefault(rootComment.getId(), 0L);
+                        boolean hasMoreReplies = replyCount > replies.size();
                         dto.setReplies(replyDtos);
+                        dto.setReplyCount(replyCount);
+                        dto.setHasMoreReplies(hasMoreReplies);
+                        if (hasMoreReplies && !replies.isEmpty()) {
+                            StyleComment last = replies.get(replies.size() - 1);
+                            dto.setNextReplyCursor(PageUtils.encodeCursor(
+                                    new PageUtils.Cursor(last.getCreatedDate(), last.getId())));
+                        }
                         return dto;
                     })
                     .collect(Collectors.toList());
@@ -178,6 +277,20 @@ public class StyleCommentQueryService {
         }
     }
 
+    private StyleCommentResponseDto toResponseDto(StyleComment comment, Map<Long, Long> likeCounts,
+                                                  Set<Long> likedCommentIds) {
+        return StyleCommentResponseDto.builder()
+                .id(comment.getId())
+                .profileId(comment.getProfile().getId())
+                .profileName(comment.getProfile().getProfileName())
+                .profileImageUrl(comment.getProfile().getProfileImageUrl())
+                .content(comment.getContent())
+                .likeCount(likeCounts.getOrDefault(comment.getId(), 0L))
+                .liked(likedCommentIds.contains(comment.getId()))
+                .createdDate(comment.getCreatedDate())
+                .build();
+    }
+
     /**
      * 특정 댓글 조회
      *
@@ -3,8 +3,8 @@ package com.fream.back.domain.style.service.query;
 import com.fream.back.domain.style.entity.StyleInterest;
 import com.fream.back.domain.style.exception.StyleErrorCode;
 import com.fream.back.domain.style.exception.StyleException;
+import com.fream.back.domain.style.redis.StyleMembershipCache;
 import com.fream.back.domain.style.repository.StyleInterestRepository;
-import com.fream.back.domain.user.entity.Profile;
 import com.fream.back.domain.user.service.profile.ProfileQueryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +24,7 @@ public class StyleInterestQueryService {
 
     private final StyleInterestRepository styleInterestRepository;
     private final ProfileQueryService profileQueryService;
+    private final StyleMembershipCache styleMembershipCache;
 
     /**
      * 특정 스타일 ID와 프로필 ID로 관심 등록 여부를 확인합니다.
@@ -125,6 +126,33 @@ public class StyleInterestQueryService {
         }
     }
 
+    /**
+     * 여러 스타일에 대한 사용자의 관심 상태를 이메일 기준으로 한 번에 확인합니다.
+     * 사용자별 Redis 관심 집합을 우선 사용하고, 사용할 수 없으면 프로필 조회 후 DB로 확인합니다.
+     *
+     * @param email 사용자 이메일
+     * @param styleIds 스타일 ID 목록
+     * @return 관심 등록한 스타일 ID 집합
+     */
+    public Set<Long> getInterestedStyleIds(String email, List<Long> styleIds) {
+        if (email == null || styleIds == null || styleIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<Long> interestedStyleIds = styleMembershipCache.getInterestedStyleIds(email, styleIds);
+        if (interestedStyleIds != null) {
+            return interestedStyleIds;
+        }
+
+        try {
+            Long profileId = profileQueryService.getProfileIdByEmail(email);
+            return styleInterestRepository.findStyleIdsByProfileIdAndStyleIdIn(profileId, styleIds);
+        } catch (Exception e) {
+            log.warn("프로필 조회 중 오류 발생 - 빈 결과 반환: email={}, 원인={}", email, e.getMessage());
+            return Collections.emptySet();
+        }
+    }
+
     /**
      * 이메일로 사용자를 식별하여 특정 스타일에 대한 관심 등록 여부를 확인합니다.
      * 주로 StyleQueryService에서 직접 프로필을 조회하는 경우에는 사용하지 않습니다.
@@ -142,9 +170,7 @@ public class StyleInterestQueryService {
         }
 
         try {
-            Profile profile = profileQueryService.getProfileByEmail(email);
-            boolean isInterested = styleInterestRepository.existsByStyleIdAndProfileId(
-                    styleId, profile.getId());
+            boolean isInterested = !getInterestedStyleIds(email, List.of(styleId)).isEmpty();
 
             log.debug("사용자 이메일로 스타일 관심 여부 확인 완료: email={}, styleId={}, 관심={}",
                     email, styleId, isInterested);
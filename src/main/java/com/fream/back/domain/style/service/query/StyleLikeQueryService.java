@@ -3,8 +3,8 @@ package com.fream.back.domain.style.service.query;
 import com.fream.back.domain.style.entity.StyleLike;
 import com.fream.back.domain.style.exception.StyleErrorCode;
 import com.fream.back.domain.style.exception.StyleException;
+import com.fream.back.domain.style.redis.StyleMembershipCache;
 import com.fream.back.domain.style.repository.StyleLikeRepository;
-import com.fream.back.domain.user.entity.Profile;
 import com.fream.back.domain.user.service.profile.ProfileQueryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,7 +14,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -24,6 +23,7 @@ public class StyleLikeQueryService {
 
     private final StyleLikeRepository styleLikeRepository;
     private final ProfileQueryService profileQueryService;
+    private final StyleMembershipCache styleMembershipCache;
 
     /**
      * 특정 스타일에 대한 사용자의 좋아요 여부를 확인합니다.
@@ -41,8 +41,7 @@ public class StyleLikeQueryService {
         }
 
         try {
-            Profile profile = profileQueryService.getProfileByEmail(email);
-            boolean isLiked = styleLikeRepository.existsByStyleIdAndProfileId(styleId, profile.getId());
+            boolean isLiked = !getLikedStyleIds(email, List.of(styleId)).isEmpty();
 
             log.debug("사용자 이메일로 좋아요 여부 확인 완료: email={}, styleId={}, 좋아요={}",
                     email, styleId, isLiked);
@@ -73,13 +72,12 @@ public class StyleLikeQueryService {
             }
 
             try {
-                Profile profile = profileQueryService.getProfileByEmail(email);
-                List<StyleLike> likes = styleLikeRepository.findByProfileIdAndStyleIdIn(
-                        profile.getId(), styleIds);
-
-                Set<Long> likedStyleIds = likes.stream()
-                        .map(like -> like.getStyle().getId())
-                        .collect(Collectors.toSet());
+                // 사용자별 Redis 좋아요 집합 우선, 사용할 수 없으면 프로필 조회 후 DB 조회
+                Set<Long> likedStyleIds = styleMembershipCache.getLikedStyleIds(email, styleIds);
+                if (likedStyleIds == null) {
+                    Long profileId = profileQueryService.getProfileIdByEmail(email);
+                    likedStyleIds = styleLikeRepository.findStyleIdsByProfileIdAndStyleIdIn(profileId, styleIds);
+                }
 
                 log.debug("여러 스타일에 대한 좋아요 상태 확인 완료: email={}, 좋아요 스타일 수={}/{}",
                         email, likedStyleIds.size(), styleIds.size());
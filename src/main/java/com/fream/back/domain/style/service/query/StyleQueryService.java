@@ -7,16 +7,20 @@ import com.fream.back.domain.style.dto.StyleResponseDto;
 import com.fream.back.domain.style.entity.Style;
 import com.fream.back.domain.style.exception.StyleErrorCode;
 import com.fream.back.domain.style.exception.StyleException;
+import com.fream.back.domain.style.redis.StylePopularityRanking;
 import com.fream.back.domain.style.repository.StyleRepository;
-import com.fream.back.domain.user.entity.Profile;
-import com.fream.back.domain.user.service.profile.ProfileQueryService;
+import com.fream.back.global.dto.commonDto;
+import com.fream.back.global.utils.ImageVariantGenerator;
+import com.fream.back.global.utils.PageUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -33,7 +37,11 @@ public class StyleQueryService {
     private final StyleLikeQueryService styleLikeQueryService;
     private final StyleInterestQueryService styleInterestQueryService;
     private final StyleHashtagQueryService styleHashtagQueryService;
-    private final ProfileQueryService profileQueryService;
+    private final StylePopularityRanking stylePopularityRanking;
+    private final ImageVariantGenerator imageVariantGenerator;
+
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+    private static final int MAX_RANKING_TOP_UP_ROUNDS = 3;
 
     /**
      * 스타일 ID로 스타일 조회
@@ -90,8 +98,11 @@ public class StyleQueryService {
         log.debug("필터링된 스타일 목록 조회 시작: 필터={}, 페이지={}, 이메일={}", filterRequestDto, pageable, email);
 
         try {
-            // 스타일 목록 조회
-            Page<StyleResponseDto> styles = styleRepository.filterStyles(filterRequestDto, pageable);
+            // 스타일 목록 조회 (필터 없는 인기순은 미리 계산된 순위 사용, 사용할 수 없으면 DB 정렬)
+            Page<StyleResponseDto> styles = findRankedStyles(filterRequestDto, pageable);
+            if (styles == null) {
+                styles = styleRepository.filterStyles(filterRequestDto, pageable);
+            }
             log.debug("스타일 기본 정보 조회 완료: 조회된 스타일 수={}", styles.getTotalElements());
 
             // 결과가 없으면 빈 페이지 반환
@@ -100,62 +111,162 @@ public class StyleQueryService {
                 return styles;
             }
 
-            // 스타일 ID 목록 추출
-            List<Long> styleIds = styles.getContent().stream()
-                    .map(StyleResponseDto::getId)
-                    .collect(Collectors.toList());
+            enrichStyleResponses(styles.getContent(), email);
 
-            // 해시태그 맵 한 번에 조회
-            Map<Long, List<com.fream.back.domain.style.dto.HashtagResponseDto>> styleToHashtagsMap =
-                    styleHashtagQueryService.getHashtagMapByStyleIds(styleIds);
-            log.debug("스타일별 해시태그 정보 조회 완료");
+            log.debug("필터링된 스타일 목록 조회 완료: 총 {}개", styles.getTotalElements());
+            return styles;
 
-            // 로그인한 사용자인 경우 - 좋아요 및 관심 상태 확인
-            if (email != null && !email.isEmpty() && !"anonymousUser".equals(email)) {
-                log.debug("로그인 사용자의 좋아요/관심 상태 조회 시작: email={}", email);
+        } catch (Exception e) {
+            log.error("필터링된 스타일 목록 조회 중 오류 발생: {}", e.getMessage(), e);
+            throw new StyleException(StyleErrorCode.STYLE_INVALID_REQUEST,
+                    "스타일 목록 조회 중 오류가 발생했습니다.", e);
+        }
+    }
 
-                try {
-                    // 사용자 프로필 조회 (한 번만 실행)
-                    Profile profile = profileQueryService.getProfileByEmail(email);
-                    Long profileId = profile.getId();
+    /**
+     * 스타일 피드 키셋 조회 (해시태그/좋아요/관심 상태 포함)
+     * 페이지 번호 대신 이전 응답의 nextCursor를 after로 넘기며, 깊은 페이지도 조회 비용이 같습니다.
+     *
+     * @param filterRequestDto 필터 요청 DTO (sortBy: popular = 조회수순, latest = 최신순)
+     * @param after 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 100)
+     * @param email 사용자 이메일
+     * @return 커서 페이지
+     */
+    public commonDto.CursorPageDto<StyleResponseDto> getStyleFeed(StyleFilterRequestDto filterRequestDto,
+                                                                  String after, int size, String email) {
+        log.debug("스타일 피드 조회 시작: 필터={}, after={}, size={}", filterRequestDto, after, size);
 
-                    // 좋아요 상태 한 번에 조회
-                    Set<Long> likedStyleIds = styleLikeQueryService.getLikedStyleIds(email, styleIds);
+        PageUtils.ScoreCursor cursor = PageUtils.decodeScoreCursor(after);
+        int pageSize = Math.min(Math.max(size, 1), MAX_FEED_PAGE_SIZE);
+        boolean popular = filterRequestDto != null && "popular".equals(filterRequestDto.getSortBy());
 
-                    // 관심 상태 한 번에 조회
-                    Set<Long> interestedStyleIds = styleInterestQueryService.getInterestedStyleIds(profileId, styleIds);
-                    log.debug("좋아요/관심 상태 조회 완료: 좋아요 개수={}, 관심 개수={}",
-                            likedStyleIds.size(), interestedStyleIds.size());
+        try {
+            // 다음 페이지 여부 판단을 위해 1건 더 조회
+            List<StyleResponseDto> rows = styleRepository.findStyleFeed(filterRequestDto, cursor, pageSize + 1);
+            commonDto.CursorPageDto<StyleResponseDto> page = PageUtils.toScoreCursorPageDto(rows, pageSize,
+                    dto -> new PageUtils.ScoreCursor(popular ? dto.getViewCount() : dto.getId(), dto.getId()),
+                    null);
+
+            if (!page.getContent().isEmpty()) {
+                enrichStyleResponses(page.getContent(), email);
+            }
 
-                    // 각 스타일에 좋아요, 관심 상태, 해시태그 설정
-                    for (StyleResponseDto dto : styles.getContent()) {
-                        dto.setLiked(likedStyleIds.contains(dto.getId()));
-                        dto.setInterested(interestedStyleIds.contains(dto.getId()));
-                        dto.setHashtags(styleToHashtagsMap.getOrDefault(dto.getId(), Collections.emptyList()));
-                    }
-                } catch (Exception e) {
-                    log.warn("사용자 정보 연동 중 오류 발생 - 기본값으로 진행: email={}, 원인={}", email, e.getMessage());
-                    // 프로필 조회 실패 시 각 DTO는 이미 기본값이 설정되어 있으므로
-                    // 해시태그만 설정
-                    for (StyleResponseDto dto : styles.getContent()) {
-                        dto.setHashtags(styleToHashtagsMap.getOrDefault(dto.getId(), Collections.emptyList()));
-                    }
+            log.debug("스타일 피드 조회 완료: 결과 수={}, hasNext={}", page.getContent().size(), page.isHasNext());
+            return page;
+        } catch (Exception e) {
+            log.error("스타일 피드 조회 중 오류 발생: {}", e.getMessage(), e);
+            throw new StyleException(StyleErrorCode.STYLE_INVALID_REQUEST,
+                    "스타일 피드 조회 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 필터 없는 인기순 목록을 시간 감쇠 인기 순위에서 조회 (대상이 아니거나 순위를 사용할 수 없으면 null)
+     * 순위에는 점수가 있는 상위 스타일(최대 maxSize개)만 있으므로 순위가 끝나면 나머지 스타일을 조회수순으로 이어 붙이고,
+     * 전체 건수는 순위 크기가 아닌 전체 스타일 수를 사용한다.
+     * 순위에 남아 있는 삭제된 스타일은 다음 반영 때 제거하도록 넘기고, 뒤 순위에서 채워 페이지 크기를 맞춘다.
+     * (제거 전까지는 채운 스타일이 다음 페이지 첫머리에 한 번 더 보일 수 있음)
+     * 순위 뒤 목록은 주기적으로 복사한 순위 스냅샷으로 제외하므로, 스냅샷 갱신 전 새로 순위에 든 스타일은 양쪽에 보일 수 있다.
+     */
+    private Page<StyleResponseDto> findRankedStyles(StyleFilterRequestDto filterRequestDto, Pageable pageable) {
+        if (filterRequestDto == null || !"popular".equals(filterRequestDto.getSortBy())
+                || filterRequestDto.getBrandName() != null
+                || filterRequestDto.getCollectionName() != null
+                || filterRequestDto.getCategoryId() != null
+                || filterRequestDto.getProfileName() != null) {
+            return null;
+        }
+
+        long offset = pageable.getOffset();
+        int pageSize = pageable.getPageSize();
+        StylePopularityRanking.RankingPage ranking = stylePopularityRanking.getPage(offset, pageSize);
+        if (ranking == null) {
+            return null;
+        }
+
+        List<StyleResponseDto> content = new ArrayList<>(pageSize);
+        long nextRank = offset + ranking.styleIds().size();
+        boolean missing = appendLiveStyles(ranking.styleIds(), content);
+        for (int round = 0; missing && content.size() < pageSize && nextRank < ranking.total()
+                && round < MAX_RANKING_TOP_UP_ROUNDS; round++) {
+            StylePopularityRanking.RankingPage more =
+                    stylePopularityRanking.getPage(nextRank, pageSize - content.size());
+            if (more == null || more.styleIds().isEmpty()) {
+                break;
+            }
+            nextRank += more.styleIds().size();
+            missing = appendLiveStyles(more.styleIds(), content);
+        }
+
+        // 순위를 다 읽었으면 순위에 없는 스타일을 조회수순으로 이어 붙임 (순위 스냅샷 테이블로 제외)
+        if (content.size() < pageSize && nextRank >= ranking.total()) {
+            long tailOffset = Math.max(0, offset - ranking.total());
+            content.addAll(styleRepository.findPopularStylesOutsideRanking(tailOffset, pageSize - content.size()));
+        }
+
+        return PageableExecutionUtils.getPage(content, pageable, styleRepository::count);
+    }
+
+    // 순위 ID 순서대로 존재하는 스타일을 추가하고, 삭제된 스타일은 순위에서 제거 요청 (삭제된 스타일이 있었으면 true)
+    private boolean appendLiveStyles(List<Long> styleIds, List<StyleResponseDto> content) {
+        List<StyleResponseDto> found = styleRepository.findStyleResponsesByIds(styleIds);
+        content.addAll(found);
+        if (found.size() == styleIds.size()) {
+            return false;
+        }
+        Set<Long> foundIds = found.stream().map(StyleResponseDto::getId).collect(Collectors.toSet());
+        List<Long> deletedIds = styleIds.stream().filter(id -> !foundIds.contains(id)).collect(Collectors.toList());
+        log.debug("인기 순위에 삭제된 스타일 포함: styleIds={}", deletedIds);
+        stylePopularityRanking.discard(deletedIds);
+        return true;
+    }
+
+    // 스타일 목록에 썸네일 srcset, 해시태그, 좋아요/관심 상태를 일괄 조회해 채움
+    private void enrichStyleResponses(List<StyleResponseDto> styles, String email) {
+        styles.forEach(dto -> dto.setMediaSrcset(imageVariantGenerator.srcset(dto.getMediaUrl())));
+
+        // 스타일 ID 목록 추출
+        List<Long> styleIds = styles.stream()
+                .map(StyleResponseDto::getId)
+                .collect(Collectors.toList());
+
+        // 해시태그 맵 한 번에 조회
+        Map<Long, List<com.fream.back.domain.style.dto.HashtagResponseDto>> styleToHashtagsMap =
+                styleHashtagQueryService.getHashtagMapByStyleIds(styleIds);
+        log.debug("스타일별 해시태그 정보 조회 완료");
+
+        // 로그인한 사용자인 경우 - 좋아요 및 관심 상태 확인
+        if (email != null && !email.isEmpty() && !"anonymousUser".equals(email)) {
+            log.debug("로그인 사용자의 좋아요/관심 상태 조회 시작: email={}", email);
+
+            try {
+                // 좋아요/관심 상태 한 번에 조회 (사용자별 Redis 집합이 있으면 DB 조회 없음)
+                Set<Long> likedStyleIds = styleLikeQueryService.getLikedStyleIds(email, styleIds);
+                Set<Long> interestedStyleIds = styleInterestQueryService.getInterestedStyleIds(email, styleIds);
+                log.debug("좋아요/관심 상태 조회 완료: 좋아요 개수={}, 관심 개수={}",
+                        likedStyleIds.size(), interestedStyleIds.size());
+
+                // 각 스타일에 좋아요, 관심 상태, 해시태그 설정
+                for (StyleResponseDto dto : styles) {
+                    dto.setLiked(likedStyleIds.contains(dto.getId()));
+                    dto.setInterested(interestedStyleIds.contains(dto.getId()));
+                    dto.setHashtags(styleToHashtagsMap.getOrDefault(dto.getId(), Collections.emptyList()));
                 }
-            } else {
-                log.debug("비로그인 사용자용 스타일 정보 구성");
-                // 로그인하지 않은 경우 - 해시태그만 설정 (liked, interested는 기본값 false)
-                for (StyleResponseDto dto : styles.getContent()) {
+            } catch (Exception e) {
+                log.warn("사용자 정보 연동 중 오류 발생 - 기본값으로 진행: email={}, 원인={}", email, e.getMessage());
+                // 프로필 조회 실패 시 각 DTO는 이미 기본값이 설정되어 있으므로
+                // 해시태그만 설정
+                for (StyleResponseDto dto : styles) {
                     dto.setHashtags(styleToHashtagsMap.getOrDefault(dto.getId(), Collections.emptyList()));
                 }
             }
-
-            log.debug("필터링된 스타일 목록 조회 완료: 총 {}개", styles.getTotalElements());
-            return styles;
-
-        } catch (Exception e) {
-            log.error("필터링된 스타일 목록 조회 중 오류 발생: {}", e.getMessage(), e);
-            throw new StyleException(StyleErrorCode.STYLE_INVALID_REQUEST,
-                    "스타일 목록 조회 중 오류가 발생했습니다.", e);
+        } else {
+            log.debug("비로그인 사용자용 스타일 정보 구성");
+            // 로그인하지 않은 경우 - 해시태그만 설정 (liked, interested는 기본값 false)
+            for (StyleResponseDto dto : styles) {
+                dto.setHashtags(styleToHashtagsMap.getOrDefault(dto.getId(), Collections.emptyList()));
+            }
         }
     }
 
@@ -181,6 +292,8 @@ public class StyleQueryService {
                 return styles;
             }
 
+            styles.getContent().forEach(dto -> dto.setMediaSrcset(imageVariantGenerator.srcset(dto.getMediaUrl())));
+
             // 스타일 ID 목록 추출
             List<Long> styleIds = styles.getContent().stream()
                     .map(ProfileStyleResponseDto::getId)
@@ -263,16 +376,11 @@ public class StyleQueryService {
                 log.debug("로그인 사용자의 좋아요/관심 상태 조회 시작: styleId={}, email={}", styleId, email);
 
                 try {
-                    // 이메일을 통해 프로필 정보 조회 - 한 번의 조회로 재사용
-                    Profile profile = profileQueryService.getProfileByEmail(email);
-                    Long profileId = profile.getId();
-
-                    // 좋아요 상태 확인 및 설정 - 프로필 ID 사용
-                    boolean isLiked = styleLikeQueryService.isLikedByProfile(styleId, profileId);
+                    // 좋아요/관심 상태 확인 및 설정 (사용자별 Redis 집합 우선)
+                    boolean isLiked = styleLikeQueryService.checkUserLiked(email, styleId);
                     detailDto.setLiked(isLiked);
 
-                    // 관심 상태 확인 및 설정 - 프로필 ID 사용
-                    boolean isInterested = styleInterestQueryService.isStyleInterestedByProfile(styleId, profileId);
+                    boolean isInterested = styleInterestQueryService.checkUserInterested(email, styleId);
                     detailDto.setInterested(isInterested);
 
                     log.debug("사용자 좋아요/관심 상태 조회 완료: styleId={}, 좋아요={}, 관심={}",
@@ -0,0 +1,146 @@
+package com.fream.back.domain.user.config;
+
+import com.fream.back.domain.user.config.GradeAssignmentProcessor.GradeChange;
+import com.fream.back.domain.user.dto.UserPurchaseTotal;
+import com.fream.back.domain.user.repository.UserGradeRepository;
+import com.fream.back.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 회원 등급 자동 설정 배치 작업 구성
+ *
+ * 처리 흐름:
+ *   1. Reader: 사용자 ID 키셋 페이지마다 배송 완료 주문 합계를 집계 쿼리 한 번으로 읽음 (재시작 시 마지막 커밋 지점부터)
+ *   2. Processor: 스텝 시작 시 메모리에 올린 등급 표로 구매액 → 등급 매핑, 변경 없는 사용자는 제외
+ *   3. Writer: 청크의 변경분을 UPDATE ... CASE 한 문장으로 반영
+ *   진행 상황은 청크마다 로그로 남기고, 읽은/변경한 수는 StepExecution에 기록되어 조회할 수 있다.
+ *   관리자 요청은 전용 비동기 런처로 실행해 실행 ID만 바로 돌려주고, 진행 상황은 상태 조회 API로 확인한다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class GradeAssignmentJobConfig {
+
+    public static final String JOB_NAME = "assignUserGradesJob";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final UserRepository userRepository;
+    private final UserGradeRepository userGradeRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${user.grade.batch.chunk-size:500}")
+    private int chunkSize; // 청크 크기 (집계 쿼리 1회당 사용자 수 = UPDATE 1회당 최대 대상 수)
+
+    @Bean
+    public Job assignUserGradesJob() {
+        log.info("회원 등급 자동 설정 작업 구성");
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(assignUserGradesStep())
+                .build();
+    }
+
+    /**
+     * 등급 자동 설정 전용 비동기 런처
+     * 실행을 JobRepository에 등록한 뒤 바로 반환하고, 배치는 전용 스레드에서 진행한다.
+     * 다른 배치가 쓰는 기본 동기 런처를 대체하지 않도록 이름으로만 주입한다.
+     */
+    @Bean(defaultCandidate = false)
+    public TaskExecutorJobLauncher gradeAssignmentJobLauncher() throws Exception {
+        TaskExecutorJobLauncher jobLauncher = new TaskExecutorJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.setTaskExecutor(gradeAssignmentTaskExecutor());
+        jobLauncher.afterPropertiesSet();
+        return jobLauncher;
+    }
+
+    /**
+     * 등급 자동 설정 실행 스레드 (동시에 한 실행만, 대기열 없음)
+     * 실행 중 재요청은 서비스에서 먼저 거절하고, 그 사이 경합으로 들어온 실행은 거절되어 FAILED로 남는다.
+     */
+    @Bean(defaultCandidate = false)
+    public ThreadPoolTaskExecutor gradeAssignmentTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("grade-assignment-");
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Bean
+    public Step assignUserGradesStep() {
+        log.info("회원 등급 자동 설정 스텝 구성: 청크 크기={}", chunkSize);
+
+        return new StepBuilder("assignUserGradesStep", jobRepository)
+                .<UserPurchaseTotal, GradeChange>chunk(chunkSize, transactionManager)
+                .reader(userPurchaseTotalReader())
+                .processor(gradeAssignmentProcessor())
+                .writer(new UserGradeBulkWriter(jdbcTemplate))
+                .listener(gradeAssignmentProgressListener())
+                .build();
+    }
+
+    /**
+     * Reader: 사용자 ID 키셋으로 누적 구매액 조회
+     */
+    @Bean
+    @StepScope
+    public UserPurchaseTotalReader userPurchaseTotalReader() {
+        return new UserPurchaseTotalReader(userRepository, chunkSize);
+    }
+
+    /**
+     * Processor: 스텝 실행마다 등급 표를 새로 읽음 (재시작 시에도 최신 등급 기준)
+     */
+    @Bean
+    @StepScope
+    public GradeAssignmentProcessor gradeAssignmentProcessor() {
+        return new GradeAssignmentProcessor(userGradeRepository.findAll());
+    }
+
+    /**
+     * ChunkListener: 청크 커밋마다 진행 상황 로그
+     */
+    @Bean
+    public ChunkListener gradeAssignmentProgressListener() {
+        return new ChunkListener() {
+            @Override
+            public void afterChunk(ChunkContext context) {
+                StepExecution stepExecution = context.getStepContext().getStepExecution();
+                log.info("회원 등급 자동 설정 진행: 처리={}명, 변경={}명, 마지막 사용자 ID={}",
+                        stepExecution.getReadCount(),
+                        stepExecution.getWriteCount(),
+                        stepExecution.getExecutionContext().get(UserPurchaseTotalReader.LAST_ID_KEY));
+            }
+
+            @Override
+            public void afterChunkError(ChunkContext context) {
+                StepExecution stepExecution = context.getStepContext().getStepExecution();
+                log.error("회원 등급 자동 설정 청크 실패: 처리={}명, 변경={}명 (재실행 시 마지막 커밋 지점부터 이어서 처리)",
+                        stepExecution.getReadCount(), stepExecution.getWriteCount());
+            }
+        };
+    }
+}
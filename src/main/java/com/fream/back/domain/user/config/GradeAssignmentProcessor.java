@@ -0,0 +1,47 @@
+package com.fream.back.domain.user.config;
+
+import com.fream.back.domain.user.dto.UserPurchaseTotal;
+import com.fream.back.domain.user.entity.UserGrade;
+import org.springframework.batch.item.ItemProcessor;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 누적 구매액 → 등급 매핑 Processor
+ *
+ * 등급 표는 몇 건뿐이라 스텝 시작 시 메모리에 올려두고(최소 구매액 내림차순) 사용자마다 첫 조건 충족 등급을 고른다.
+ * 등급이 바뀌지 않는 사용자와 조건에 맞는 등급이 없는 사용자는 걸러내므로(null 반환) Writer에는 변경분만 전달된다.
+ */
+public class GradeAssignmentProcessor implements ItemProcessor<UserPurchaseTotal, GradeAssignmentProcessor.GradeChange> {
+
+    /**
+     * 등급 변경 대상 (사용자 ID → 새 등급 ID)
+     */
+    public record GradeChange(Long userId, Long gradeId) {
+    }
+
+    private final List<UserGrade> gradesByThresholdDesc;
+
+    public GradeAssignmentProcessor(List<UserGrade> grades) {
+        this.gradesByThresholdDesc = grades.stream()
+                .filter(grade -> grade.getMinPurchaseAmount() != null)
+                .sorted(Comparator.comparing(UserGrade::getMinPurchaseAmount).reversed())
+                .toList();
+    }
+
+    @Override
+    public GradeChange process(UserPurchaseTotal item) {
+        long total = item.totalPurchaseAmount() != null ? item.totalPurchaseAmount() : 0L;
+
+        for (UserGrade grade : gradesByThresholdDesc) {
+            if (grade.getMinPurchaseAmount() <= total) {
+                return Objects.equals(grade.getId(), item.gradeId())
+                        ? null
+                        : new GradeChange(item.userId(), grade.getId());
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.fream.back.domain.user.config;
+
+import com.fream.back.domain.user.config.GradeAssignmentProcessor.GradeChange;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 등급 변경분을 청크당 UPDATE 한 번으로 반영하는 Writer
+ *
+ * UPDATE users SET grade_id = CASE id WHEN ? THEN ? ... END WHERE id IN (...) 형태로,
+ * 엔티티를 읽어 변경 감지하지 않고 청크의 모든 변경을 한 문장으로 기록한다.
+ */
+@Slf4j
+public class UserGradeBulkWriter implements ItemWriter<GradeChange> {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserGradeBulkWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void write(Chunk<? extends GradeChange> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        StringBuilder caseSql = new StringBuilder("UPDATE users SET grade_id = CASE id");
+        StringBuilder inSql = new StringBuilder(" WHERE id IN (");
+        List<Object> caseArgs = new ArrayList<>(chunk.size() * 2 + 1);
+        List<Object> inArgs = new ArrayList<>(chunk.size());
+
+        for (GradeChange change : chunk) {
+            caseSql.append(" WHEN ? THEN ?");
+            caseArgs.add(change.userId());
+            caseArgs.add(change.gradeId());
+            inSql.append(inArgs.isEmpty() ? "?" : ", ?");
+            inArgs.add(change.userId());
+        }
+        caseSql.append(" ELSE grade_id END, modified_date = ?");
+        caseArgs.add(Timestamp.valueOf(LocalDateTime.now()));
+        inSql.append(")");
+
+        caseArgs.addAll(inArgs);
+        int updated = jdbcTemplate.update(caseSql.append(inSql).toString(), caseArgs.toArray());
+        log.debug("등급 일괄 변경: 대상={}명, 반영={}명", chunk.size(), updated);
+    }
+}
@@ -0,0 +1,75 @@
+package com.fream.back.domain.user.config;
+
+import com.fream.back.domain.user.dto.UserPurchaseTotal;
+import com.fream.back.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 사용자 ID 키셋으로 사용자별 누적 구매액을 읽는 ItemReader
+ *
+ * 한 페이지마다 사용자 pageSize명의 완료 주문 합계를 집계 쿼리 한 번으로 가져온다.
+ * 커밋된 마지막 사용자 ID를 저장해 재시작 시 그 다음 사용자부터 이어 읽는다.
+ */
+@Slf4j
+public class UserPurchaseTotalReader implements ItemStreamReader<UserPurchaseTotal> {
+
+    static final String LAST_ID_KEY = "userPurchaseTotalReader.lastId";
+
+    private final UserRepository userRepository;
+    private final int pageSize;
+
+    private final Deque<UserPurchaseTotal> buffer = new ArrayDeque<>();
+    private long lastReturnedId;
+    private long lastFetchedId;
+    private boolean exhausted;
+
+    public UserPurchaseTotalReader(UserRepository userRepository, int pageSize) {
+        this.userRepository = userRepository;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        lastReturnedId = executionContext.containsKey(LAST_ID_KEY)
+                ? executionContext.getLong(LAST_ID_KEY)
+                : 0L;
+        lastFetchedId = lastReturnedId;
+        buffer.clear();
+        exhausted = false;
+        log.debug("구매액 키셋 리더 시작: 시작 사용자 ID 초과={}", lastReturnedId);
+    }
+
+    @Override
+    public UserPurchaseTotal read() {
+        if (buffer.isEmpty() && !exhausted) {
+            List<UserPurchaseTotal> page = userRepository.findPurchaseTotalsAfter(
+                    lastFetchedId, PageRequest.of(0, pageSize));
+            if (page.isEmpty()) {
+                exhausted = true;
+            } else {
+                buffer.addAll(page);
+                lastFetchedId = page.get(page.size() - 1).userId();
+                exhausted = page.size() < pageSize;
+            }
+        }
+
+        UserPurchaseTotal next = buffer.poll();
+        if (next != null) {
+            lastReturnedId = next.userId();
+        }
+        return next;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(LAST_ID_KEY, lastReturnedId);
+    }
+}
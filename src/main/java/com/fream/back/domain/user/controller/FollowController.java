@@ -3,6 +3,7 @@ package com.fream.back.domain.user.controller;
 import com.fream.back.domain.user.dto.follow.FollowDto;
 import com.fream.back.domain.user.service.follow.FollowCommandService;
 import com.fream.back.domain.user.service.follow.FollowQueryService;
+import com.fream.back.global.dto.commonDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -54,4 +55,40 @@ public class FollowController {
         Page<FollowDto> followings = followQueryService.getFollowings(email, pageable);
         return ResponseEntity.ok(followings);
     }
+
+    // 내 팔로워 목록 (커서, 최신 팔로우순)
+    @GetMapping("/followers/cursor")
+    public ResponseEntity<commonDto.CursorPageDto<FollowDto>> getFollowersByCursor(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        String email = extractEmailFromSecurityContext();
+        return ResponseEntity.ok(followQueryService.getMyFollowersByCursor(email, after, size));
+    }
+
+    // 내 팔로잉 목록 (커서, 최신 팔로우순)
+    @GetMapping("/followings/cursor")
+    public ResponseEntity<commonDto.CursorPageDto<FollowDto>> getFollowingsByCursor(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        String email = extractEmailFromSecurityContext();
+        return ResponseEntity.ok(followQueryService.getMyFollowingsByCursor(email, after, size));
+    }
+
+    // 특정 프로필의 팔로워 목록 (커서, 최신 팔로우순)
+    @GetMapping("/{profileId}/followers")
+    public ResponseEntity<commonDto.CursorPageDto<FollowDto>> getProfileFollowers(
+            @PathVariable("profileId") Long profileId,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(followQueryService.getFollowersByCursor(profileId, after, size));
+    }
+
+    // 특정 프로필의 팔로잉 목록 (커서, 최신 팔로우순)
+    @GetMapping("/{profileId}/followings")
+    public ResponseEntity<commonDto.CursorPageDto<FollowDto>> getProfileFollowings(
+            @PathVariable("profileId") Long profileId,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(followQueryService.getFollowingsByCursor(profileId, after, size));
+    }
 }
@@ -5,18 +5,16 @@ import com.fream.back.domain.user.dto.ProfileUpdateDto;
 import com.fream.back.domain.user.service.profile.ProfileCommandService;
 import com.fream.back.domain.user.service.profile.ProfileQueryService;
 import com.fream.back.global.utils.FileUtils;
+import com.fream.back.global.utils.MediaStreamingUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
-
 @RestController
 @RequestMapping("/profiles")
 @RequiredArgsConstructor
@@ -25,6 +23,7 @@ public class ProfileController {
     private final ProfileQueryService profileQueryService;
     private final ProfileCommandService profileCommandService;
     private final FileUtils fileUtils;
+    private final MediaStreamingUtil mediaStreamingUtil;
 
     // SecurityContextHolder에서 이메일 추출
     private String extractEmailFromSecurityContext() {
@@ -54,28 +53,13 @@ public class ProfileController {
         return ResponseEntity.ok("프로필이 성공적으로 업데이트되었습니다.");
     }
 
-    // 프로필 이미지 파일 제공
+    // 프로필 이미지 파일 제공 (파일 전체를 메모리에 올리지 않고 스트리밍, ETag/Range 지원)
     @GetMapping("/{profileId}/image")
-    public ResponseEntity<byte[]> getProfileImage(@PathVariable("profileId") Long profileId) throws IOException {
+    public ResponseEntity<Resource> getProfileImage(@PathVariable("profileId") Long profileId,
+                                                    @RequestHeader HttpHeaders requestHeaders) {
         // DB에서 파일명 얻어온다고 가정
         String profileImageFileName = profileQueryService.getProfileImageFileName(profileId);
-        // directory = "profile_images"
-        String baseDir = "/home/ubuntu/fream";
-//        String baseDir = "C:\\Users\\pickj\\webserver\\dockerVolums\\fream";
-        String directory = "profile_images";
-        String fullPath = baseDir + File.separator + directory + File.separator + profileImageFileName;
-
-        File imageFile = new File(fullPath);
-        if (!imageFile.exists()) {
-            throw new IllegalArgumentException("이미지 파일이 존재하지 않습니다: " + fullPath);
-        }
-
-        byte[] imageBytes = Files.readAllBytes(imageFile.toPath());
-        String mimeType = Files.probeContentType(imageFile.toPath());
-        if (mimeType == null) mimeType = "application/octet-stream";
-
-        return ResponseEntity.ok()
-                .header("Content-Type", mimeType)
-                .body(imageBytes);
+        // /home/ubuntu/fream/profile_images/{fileName}
+        return mediaStreamingUtil.stream("profile_images", profileImageFileName, requestHeaders);
     }
 }
@@ -118,7 +118,7 @@ public class AdminGradeController {
 
     /**
      * 등급 자동 설정 실행
-     * (구매액 기준으로 등급 자동 부여 배치 작업 수동 실행)
+     * (구매액 기준으로 등급 자동 부여 배치 작업 수동 실행, 시작만 하고 실행 ID를 바로 반환)
      */
     @PostMapping("/auto-assign")
     public ResponseEntity<AutoAssignResultDto> runGradeAutoAssignment() {
@@ -126,6 +126,19 @@ public class AdminGradeController {
         userQueryService.checkAdminRole(email); // 관리자 권한 확인
 
         AutoAssignResultDto result = adminGradeService.runGradeAutoAssignment();
+        return ResponseEntity.accepted().body(result);
+    }
+
+    /**
+     * 등급 자동 설정 진행 상황 조회
+     * (가장 최근 배치 실행의 상태와 처리/변경 사용자 수)
+     */
+    @GetMapping("/auto-assign/status")
+    public ResponseEntity<AutoAssignResultDto> getGradeAutoAssignmentStatus() {
+        String email = extractEmailFromSecurityContext();
+        userQueryService.checkAdminRole(email); // 관리자 권한 확인
+
+        AutoAssignResultDto result = adminGradeService.getGradeAutoAssignmentStatus();
         return ResponseEntity.ok(result);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package com.fream.back.domain.user.dto;
+
+/**
+ * 만료 대상 포인트 (일괄 만료 처리용 최소 컬럼)
+ *
+ * @param pointId 포인트 ID
+ * @param userId 소유 사용자 ID
+ * @param remainingAmount 만료 시 소멸되는 남은 금액
+ */
+public record ExpiringPoint(Long pointId, Long userId, int remainingAmount) {
+}
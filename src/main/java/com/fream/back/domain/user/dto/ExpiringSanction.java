@@ -0,0 +1,13 @@
+package com.fream.back.domain.user.dto;
+
+import com.fream.back.domain.user.entity.SanctionType;
+
+/**
+ * 만료 대상 제재 (일괄 만료 처리용 최소 컬럼)
+ *
+ * @param sanctionId 제재 ID
+ * @param userId 제재 대상 사용자 ID
+ * @param type 제재 유형 (종료 알림 대상 판단용)
+ */
+public record ExpiringSanction(Long sanctionId, Long userId, SanctionType type) {
+}
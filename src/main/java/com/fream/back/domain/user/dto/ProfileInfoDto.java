@@ -17,5 +17,7 @@ public class ProfileInfoDto {
     private String email;             // 이메일
     private String bio;               // 소개글
     private Boolean isPublic;         // 공개 여부
+    private Long followerCount;       // 팔로워 수
+    private Long followingCount;      // 팔로잉 수
     private List<BlockedProfileDto> blockedProfiles; // 차단된 프로필 목록
 }
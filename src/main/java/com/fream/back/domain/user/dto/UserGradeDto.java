@@ -67,7 +67,9 @@ public class UserGradeDto {
     @NoArgsConstructor
     @AllArgsConstructor
     public static class AutoAssignResultDto {
-        private Integer processed;
-        private Integer updated;
+        private Long jobExecutionId; // 배치 실행 ID
+        private String status;       // 실행 상태 (STARTED, COMPLETED, FAILED 등)
+        private Integer processed;   // 처리한 사용자 수
+        private Integer updated;     // 등급이 변경된 사용자 수
     }
 }
\ No newline at end of file
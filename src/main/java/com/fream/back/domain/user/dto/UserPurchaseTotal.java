@@ -0,0 +1,11 @@
+package com.fream.back.domain.user.dto;
+
+/**
+ * 등급 자동 설정 배치의 처리 단위 (사용자별 누적 구매액)
+ *
+ * @param userId 사용자 ID
+ * @param gradeId 현재 등급 ID (없으면 null)
+ * @param totalPurchaseAmount 배송 완료 주문의 총 금액 합계
+ */
+public record UserPurchaseTotal(Long userId, Long gradeId, Long totalPurchaseAmount) {
+}
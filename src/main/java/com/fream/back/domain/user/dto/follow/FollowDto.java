@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class FollowDto {
+    private Long followId;         // 팔로우 관계 ID (커서 조회 기준, 최신 팔로우일수록 큼)
     private Long profileId;        // 팔로우된(또는 팔로우하는) 프로필의 ID
     private String profileName;    // 프로필 이름
     private String profileImageUrl; // 프로필 이미지 URL
@@ -12,7 +12,14 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "follows")
+@Table(name = "follows",
+        uniqueConstraints = @UniqueConstraint(name = "uk_follows_follower_following",
+                columnNames = {"follower_profile_id", "following_profile_id"}),
+        indexes = {
+                // 팔로워/팔로잉 목록 키셋 조회 (팔로우 ID 내림차순)
+                @Index(name = "idx_follows_following_id", columnList = "following_profile_id, id"),
+                @Index(name = "idx_follows_follower_id", columnList = "follower_profile_id, id")
+        })
 public class Follow extends BaseTimeEntity { // BaseTimeEntity 상속
 
     @Id
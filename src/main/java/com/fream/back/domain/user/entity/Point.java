@@ -14,6 +14,10 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(indexes = {
+        // 유효기간이 지난 사용 가능 포인트 조회 (일괄 만료)
+        @Index(name = "idx_point_status_expiration", columnList = "status, expiration_date, id")
+})
 public class Point extends BaseTimeEntity {
 
     @Id
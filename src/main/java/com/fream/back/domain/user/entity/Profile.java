@@ -35,6 +35,15 @@ public class Profile extends BaseTimeEntity {
     private boolean isPublic; // 프로필 공개 여부
     private String profileImageUrl; // 프로필 이미지 URL
 
+    // 팔로워/팔로잉 수 (비정규화, ProfileRepository의 원자적 증감 쿼리로만 변경)
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private Long followerCount = 0L;
+
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private Long followingCount = 0L;
+
     @Builder.Default
     @OneToMany(mappedBy = "follower", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Follow> followings = new ArrayList<>(); // 내가 팔로우한 프로필들
@@ -14,7 +14,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "user_sanctions")
+@Table(name = "user_sanctions", indexes = {
+        // 종료일이 지난 활성 제재 조회 (일괄 만료)
+        @Index(name = "idx_user_sanctions_status_end", columnList = "status, end_date, id")
+})
 public class UserSanction extends BaseTimeEntity {
 
     @Id
@@ -0,0 +1,20 @@
+package com.fream.back.domain.user.event;
+
+/**
+ * 팔로우 관계 변경 이벤트.
+ *
+ * <p>{@code FollowCommandService}가 팔로우/언팔로우 시 발행하며,
+ * {@code FollowerListCache}가 커밋 이후 수신해 캐시된 팔로워 목록에 반영한다.
+ *
+ * @param followId 팔로우 관계 ID (언팔로우 시 null)
+ * @param followerProfileId 팔로우를 한 프로필 ID
+ * @param followingProfileId 팔로우된 프로필 ID
+ * @param followed 변경 후 팔로우 여부
+ */
+public record FollowChangedEvent(
+        Long followId,
+        Long followerProfileId,
+        Long followingProfileId,
+        boolean followed
+) {
+}
@@ -0,0 +1,17 @@
+package com.fream.back.domain.user.event;
+
+/**
+ * 회원 탈퇴 직전 이벤트.
+ *
+ * <p>{@code UserCommandService}가 사용자 행을 삭제하기 전에 같은 트랜잭션 안에서 발행한다.
+ * 사용자와 함께 cascade로 지워지는 행의 비정규화 카운터를 다른 모듈이 동기 {@code @EventListener}로 정리한다.
+ * (예: {@code InterestCommandService}가 관심 상품 수 차감)
+ *
+ * @param userId 삭제할 사용자 ID
+ * @param email 삭제할 사용자 이메일
+ */
+public record UserDeletingEvent(
+        Long userId,
+        String email
+) {
+}
@@ -0,0 +1,186 @@
+package com.fream.back.domain.user.redis;
+
+import com.fream.back.domain.user.event.FollowChangedEvent;
+import com.fream.back.domain.user.repository.FollowRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 인기 프로필의 팔로워 목록 캐시 (Redis Sorted Set)
+ *
+ * 팔로워 수가 hot-threshold 이상인 프로필만 대상으로, 최신 window-size건의 팔로워를
+ * 점수 = 팔로우 ID, 멤버 = 팔로워 프로필 ID로 보관한다.
+ * - 목록은 처음 조회할 때 DB에서 적재하고, 팔로우/언팔로우 커밋 이후 이벤트로 ZADD/ZREM 한다.
+ * - 새 팔로우는 항상 가장 큰 ID라 창의 위쪽에 붙고, 창을 넘치면 가장 오래된 쪽부터 잘라낸다.
+ *   따라서 캐시는 언제나 "최신 N건"이며, 한 페이지(size+1건)를 캐시 안에서 모두 채울 수 있을 때만 사용한다.
+ *   창을 벗어난 깊은 페이지는 DB 키셋 조회로 대체한다.
+ *
+ * 적재(DB 조회 ~ ZADD) 사이에 커밋된 팔로우는 빠질 수 있으며 TTL 만료 시 바로잡힌다.
+ * 본인 팔로우 직후 조회가 복제 지연의 영향을 받지 않도록 Primary 전용 템플릿으로 읽고 쓴다.
+ */
+@Slf4j
+@Component
+public class FollowerListCache {
+
+    private static final String KEY_PREFIX = "follow:followers:";
+
+    // ARGV: TTL(초), (점수, 멤버) 쌍 목록. 이미 있으면 덮어쓰지 않음
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            for i = 2, #ARGV, 1000 do
+                redis.call('ZADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // ARGV: 점수(팔로우 ID), 멤버(팔로워 프로필 ID), 최대 보관 수. 적재되지 않은 목록은 건드리지 않음
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[3]) + 1))
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final FollowRepository followRepository;
+    private final boolean enabled;
+    private final long hotThreshold;
+    private final int windowSize;
+    private final long ttlSeconds;
+
+    public FollowerListCache(
+            @Qualifier("writeRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            FollowRepository followRepository,
+            @Value("${follow.follower-cache.enabled:true}") boolean enabled,
+            @Value("${follow.follower-cache.hot-threshold:1000}") long hotThreshold,
+            @Value("${follow.follower-cache.window-size:1000}") int windowSize,
+            @Value("${follow.follower-cache.ttl-minutes:60}") long ttlMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.followRepository = followRepository;
+        this.enabled = enabled;
+        this.hotThreshold = hotThreshold;
+        this.windowSize = Math.max(1, windowSize);
+        this.ttlSeconds = Math.max(1L, ttlMinutes * 60);
+    }
+
+    /**
+     * 캐시된 팔로워 관계 한 건 (팔로우 ID 내림차순으로 반환)
+     */
+    public record FollowerEdge(Long followId, Long followerProfileId) {
+    }
+
+    /**
+     * 팔로워 목록에서 afterId 다음의 limit건을 조회합니다.
+     *
+     * @param profileId 팔로우된 프로필 ID
+     * @param followerCount 프로필의 팔로워 수 (인기 프로필 여부 판단)
+     * @param afterId 이전 페이지 마지막 팔로우 ID (첫 페이지는 null)
+     * @param limit 조회 건수 (페이지 크기 + 1)
+     * @return 팔로워 관계 목록, 캐시로 채울 수 없으면 null (호출 측에서 DB로 대체)
+     */
+    public List<FollowerEdge> findPage(Long profileId, long followerCount, Long afterId, int limit) {
+        if (!enabled || followerCount < hotThreshold || limit > windowSize) {
+            return null;
+        }
+
+        String key = KEY_PREFIX + profileId;
+        try {
+            double max = afterId == null ? Double.POSITIVE_INFINITY : afterId - 1;
+            Set<ZSetOperations.TypedTuple<String>> tuples =
+                    redisTemplate.opsForZSet().reverseRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, max, 0, limit);
+            if (tuples != null && tuples.size() == limit) {
+                List<FollowerEdge> edges = new ArrayList<>(limit);
+                for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                    edges.add(new FollowerEdge(tuple.getScore().longValue(), Long.valueOf(tuple.getValue())));
+                }
+                return edges;
+            }
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                // 캐시된 창을 벗어난 페이지
+                return null;
+            }
+            return loadAndPage(key, profileId, afterId, limit);
+        } catch (Exception e) {
+            log.warn("팔로워 목록 캐시 조회 실패, DB 조회로 대체: key={}, 오류={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 캐시된 팔로워 목록을 지웁니다. (목록과 DB가 어긋난 것을 발견한 경우)
+     */
+    public void evict(Long profileId) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + profileId);
+        } catch (Exception e) {
+            log.error("팔로워 목록 캐시 삭제 실패 (TTL 만료 시 정리): profileId={}, 오류={}", profileId, e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFollowChanged(FollowChangedEvent event) {
+        if (!enabled || event.followingProfileId() == null || event.followerProfileId() == null) {
+            return;
+        }
+
+        String key = KEY_PREFIX + event.followingProfileId();
+        String member = String.valueOf(event.followerProfileId());
+        try {
+            if (event.followed()) {
+                if (event.followId() == null) {
+                    evict(event.followingProfileId());
+                    return;
+                }
+                redisTemplate.execute(ADD_SCRIPT, List.of(key),
+                        String.valueOf(event.followId()), member, String.valueOf(windowSize));
+            } else {
+                redisTemplate.opsForZSet().remove(key, member);
+            }
+        } catch (Exception e) {
+            log.warn("팔로워 목록 캐시 반영 실패, 목록 삭제: key={}, 오류={}", key, e.getMessage());
+            evict(event.followingProfileId());
+        }
+    }
+
+    private List<FollowerEdge> loadAndPage(String key, Long profileId, Long afterId, int limit) {
+        List<Object[]> rows = followRepository.findFollowerEdges(profileId, PageRequest.of(0, windowSize));
+
+        List<String> args = new ArrayList<>(rows.size() * 2 + 1);
+        args.add(String.valueOf(ttlSeconds));
+        List<FollowerEdge> page = new ArrayList<>(limit);
+        for (Object[] row : rows) {
+            FollowerEdge edge = new FollowerEdge((Long) row[0], (Long) row[1]);
+            args.add(String.valueOf(edge.followId()));
+            args.add(String.valueOf(edge.followerProfileId()));
+            if (page.size() < limit && (afterId == null || edge.followId() < afterId)) {
+                page.add(edge);
+            }
+        }
+        if (!rows.isEmpty()) {
+            redisTemplate.execute(LOAD_SCRIPT, List.of(key), args.toArray());
+            log.debug("팔로워 목록 캐시 적재 완료: key={}, {}건", key, rows.size());
+        }
+
+        // 창이 잘린 상태에서 페이지를 다 채우지 못하면 창 밖까지 이어지므로 DB로 대체
+        boolean complete = rows.size() < windowSize;
+        return page.size() == limit || complete ? page : null;
+    }
+}
@@ -1,22 +1,78 @@
 package com.fream.back.domain.user.repository;
 
+import com.fream.back.domain.user.dto.follow.FollowDto;
 import com.fream.back.domain.user.entity.Follow;
-import com.fream.back.domain.user.entity.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface FollowRepository extends JpaRepository<Follow, Long> {
 
-    Optional<Follow> findByFollowerAndFollowing(Profile follower, Profile following);
-
     @Query("SELECT f FROM Follow f WHERE f.following.id = :profileId")
     Page<Follow> findFollowersByProfileId(@Param("profileId") Long profileId, Pageable pageable);
 
     @Query("SELECT f FROM Follow f WHERE f.follower.id = :profileId")
     Page<Follow> findFollowingsByProfileId(@Param("profileId") Long profileId, Pageable pageable);
+
+    @Query("SELECT f.id FROM Follow f WHERE f.follower.id = :followerId AND f.following.id = :followingId")
+    Optional<Long> findIdByFollowerIdAndFollowingId(@Param("followerId") Long followerId,
+                                                    @Param("followingId") Long followingId);
+
+    /**
+     * 팔로우 관계가 없을 때만 추가합니다. (단일 INSERT ... SELECT, 사전 조회 없음)
+     * 두 프로필 중 하나라도 없으면 추가되지 않습니다.
+     * 동시에 같은 요청이 들어와도 (follower, following) 유니크 제약으로 한 건만 남습니다.
+     *
+     * @return 추가된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("INSERT INTO Follow (follower, following, createdDate, modifiedDate) " +
+            "SELECT fr, fg, :now, :now FROM Profile fr, Profile fg " +
+            "WHERE fr.id = :followerId AND fg.id = :followingId " +
+            "AND NOT EXISTS (SELECT 1 FROM Follow f WHERE f.follower.id = :followerId AND f.following.id = :followingId)")
+    int insertIfAbsent(
+            @Param("followerId") Long followerId,
+            @Param("followingId") Long followingId,
+            @Param("now") LocalDateTime now);
+
+    // 팔로우 관계 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM Follow f WHERE f.follower.id = :followerId AND f.following.id = :followingId")
+    int deleteByFollowerIdAndFollowingId(@Param("followerId") Long followerId,
+                                         @Param("followingId") Long followingId);
+
+    // 팔로워 첫 페이지 (최신 팔로우순)
+    @Query("SELECT new com.fream.back.domain.user.dto.follow.FollowDto(f.id, p.id, p.profileName, p.profileImageUrl) " +
+            "FROM Follow f JOIN f.follower p WHERE f.following.id = :profileId ORDER BY f.id DESC")
+    List<FollowDto> findFollowersFirstPage(@Param("profileId") Long profileId, Pageable pageable);
+
+    // 팔로워 커서 이후 페이지 (팔로우 ID 키셋)
+    @Query("SELECT new com.fream.back.domain.user.dto.follow.FollowDto(f.id, p.id, p.profileName, p.profileImageUrl) " +
+            "FROM Follow f JOIN f.follower p WHERE f.following.id = :profileId AND f.id < :afterId ORDER BY f.id DESC")
+    List<FollowDto> findFollowersAfter(@Param("profileId") Long profileId,
+                                       @Param("afterId") Long afterId,
+                                       Pageable pageable);
+
+    // 팔로잉 첫 페이지 (최신 팔로우순)
+    @Query("SELECT new com.fream.back.domain.user.dto.follow.FollowDto(f.id, p.id, p.profileName, p.profileImageUrl) " +
+            "FROM Follow f JOIN f.following p WHERE f.follower.id = :profileId ORDER BY f.id DESC")
+    List<FollowDto> findFollowingsFirstPage(@Param("profileId") Long profileId, Pageable pageable);
+
+    // 팔로잉 커서 이후 페이지 (팔로우 ID 키셋)
+    @Query("SELECT new com.fream.back.domain.user.dto.follow.FollowDto(f.id, p.id, p.profileName, p.profileImageUrl) " +
+            "FROM Follow f JOIN f.following p WHERE f.follower.id = :profileId AND f.id < :afterId ORDER BY f.id DESC")
+    List<FollowDto> findFollowingsAfter(@Param("profileId") Long profileId,
+                                        @Param("afterId") Long afterId,
+                                        Pageable pageable);
+
+    // 팔로워 캐시 적재용 (팔로우 ID, 팔로워 프로필 ID), 최신순
+    @Query("SELECT f.id, f.follower.id FROM Follow f WHERE f.following.id = :profileId ORDER BY f.id DESC")
+    List<Object[]> findFollowerEdges(@Param("profileId") Long profileId, Pageable pageable);
 }
@@ -1,9 +1,14 @@
 package com.fream.back.domain.user.repository;
 
+import com.fream.back.domain.user.dto.ExpiringPoint;
 import com.fream.back.domain.user.entity.Point;
 import com.fream.back.domain.user.entity.PointStatus;
 import com.fream.back.domain.user.entity.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -18,8 +23,19 @@ public interface PointRepository extends JpaRepository<Point, Long> {
     // 사용자의 사용 가능한 포인트 내역 조회 (유효기간 임박 순)
     List<Point> findByUserAndStatusOrderByExpirationDateAsc(User user, PointStatus status);
 
-    // 특정 날짜 이전에 만료되는 사용 가능한 포인트 조회
-    List<Point> findByStatusAndExpirationDateBefore(PointStatus status, LocalDate date);
+    // 유효기간이 지난 사용 가능 포인트를 ID 순으로 잠금 조회 (일괄 만료 배치 1회분)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.fream.back.domain.user.dto.ExpiringPoint(p.id, p.user.id, p.remainingAmount) " +
+            "FROM Point p WHERE p.status = :status AND p.expirationDate < :date ORDER BY p.id")
+    List<ExpiringPoint> findExpiringPoints(@Param("status") PointStatus status,
+                                           @Param("date") LocalDate date,
+                                           Pageable pageable);
+
+    // 포인트 일괄 만료 (사용 가능 상태인 행만)
+    @Modifying
+    @Query("UPDATE Point p SET p.status = com.fream.back.domain.user.entity.PointStatus.EXPIRED, p.remainingAmount = 0 " +
+            "WHERE p.id IN :ids AND p.status = com.fream.back.domain.user.entity.PointStatus.AVAILABLE")
+    int expireByIds(@Param("ids") List<Long> ids);
 
     // 사용자의 총 사용가능 포인트 합계 조회
     @Query("SELECT SUM(p.remainingAmount) FROM Point p WHERE p.user = :user AND p.status = 'AVAILABLE'")
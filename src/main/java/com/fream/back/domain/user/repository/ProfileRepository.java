@@ -3,6 +3,7 @@ package com.fream.back.domain.user.repository;
 import com.fream.back.domain.user.entity.Profile;
 import com.fream.back.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -12,4 +13,41 @@ public interface ProfileRepository extends JpaRepository<Profile, Long> {
     @Query("SELECT p FROM Profile p JOIN FETCH p.user u WHERE u.email = :email")
     Optional<Profile> findByUserEmailWithFetchJoin(@Param("email") String email);// 사용자 이메일로 프로필 조회
     Optional<Profile> findByUser(User user);
+
+    @Query("SELECT p.id FROM Profile p WHERE p.user.email = :email")
+    Optional<Long> findIdByUserEmail(@Param("email") String email); // 사용자 이메일로 프로필 ID만 조회
+
+    @Query("SELECT p.user.id FROM Profile p WHERE p.id = :profileId")
+    Optional<Long> findUserIdById(@Param("profileId") Long profileId); // 프로필 소유 사용자 ID만 조회
+
+    @Query("SELECT p.Name FROM Profile p WHERE p.id = :profileId")
+    Optional<String> findNameById(@Param("profileId") Long profileId); // 프로필 이름(실명)만 조회
+
+    @Query("SELECT p.followerCount FROM Profile p WHERE p.id = :profileId")
+    Optional<Long> findFollowerCountById(@Param("profileId") Long profileId); // 팔로워 수만 조회
+
+    @Query("SELECT p.followingCount FROM Profile p WHERE p.id = :profileId")
+    Optional<Long> findFollowingCountById(@Param("profileId") Long profileId); // 팔로잉 수만 조회
+
+    // 팔로워 수 원자적 증감 (동시 팔로우 시 갱신 유실 방지)
+    @Modifying
+    @Query("UPDATE Profile p SET p.followerCount = p.followerCount + :delta WHERE p.id = :profileId")
+    int updateFollowerCount(@Param("profileId") Long profileId, @Param("delta") long delta);
+
+    // 팔로잉 수 원자적 증감
+    @Modifying
+    @Query("UPDATE Profile p SET p.followingCount = p.followingCount + :delta WHERE p.id = :profileId")
+    int updateFollowingCount(@Param("profileId") Long profileId, @Param("delta") long delta);
+
+    // 프로필 삭제 전: 이 프로필이 팔로우하던 상대들의 팔로워 수 차감
+    @Modifying
+    @Query("UPDATE Profile p SET p.followerCount = p.followerCount - 1 " +
+            "WHERE p.id IN (SELECT f.following.id FROM Follow f WHERE f.follower.id = :profileId)")
+    int decrementFollowerCountOfFollowings(@Param("profileId") Long profileId);
+
+    // 프로필 삭제 전: 이 프로필을 팔로우하던 상대들의 팔로잉 수 차감
+    @Modifying
+    @Query("UPDATE Profile p SET p.followingCount = p.followingCount - 1 " +
+            "WHERE p.id IN (SELECT f.follower.id FROM Follow f WHERE f.following.id = :profileId)")
+    int decrementFollowingCountOfFollowers(@Param("profileId") Long profileId);
 }
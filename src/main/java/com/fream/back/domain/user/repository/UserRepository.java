@@ -1,5 +1,6 @@
 package com.fream.back.domain.user.repository;
 
+import com.fream.back.domain.user.dto.UserPurchaseTotal;
 import com.fream.back.domain.user.entity.Gender;
 import com.fream.back.domain.user.entity.Role;
 import com.fream.back.domain.user.entity.User;
@@ -77,6 +78,17 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
     @Query("SELECT u.grade.id, COUNT(u) FROM User u WHERE u.grade IS NOT NULL GROUP BY u.grade.id")
     List<Object[]> countUsersByGrade();
 
+    /**
+     * 사용자 ID 키셋으로 사용자별 누적 구매액(배송 완료 주문 합계)을 조회 (등급 자동 설정 배치)
+     * 주문이 없는 사용자도 0으로 포함
+     */
+    @Query("SELECT new com.fream.back.domain.user.dto.UserPurchaseTotal(u.id, g.id, COALESCE(SUM(o.totalAmount), 0L)) " +
+            "FROM User u LEFT JOIN u.grade g " +
+            "LEFT JOIN Order o ON o.user = u AND o.status = com.fream.back.domain.order.entity.OrderStatus.COMPLETED " +
+            "WHERE u.id > :lastId " +
+            "GROUP BY u.id, g.id ORDER BY u.id")
+    List<UserPurchaseTotal> findPurchaseTotalsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
     /**
      * 활성 상태 사용자 수 조회
      */
@@ -1,13 +1,17 @@
 package com.fream.back.domain.user.repository;
 
+import com.fream.back.domain.user.dto.ExpiringSanction;
 import com.fream.back.domain.user.entity.SanctionStatus;
 import com.fream.back.domain.user.entity.SanctionType;
 import com.fream.back.domain.user.entity.User;
 import com.fream.back.domain.user.entity.UserSanction;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -28,9 +32,29 @@ public interface UserSanctionRepository extends JpaRepository<UserSanction, Long
     // 특정 유형의 제재 내역 조회
     Page<UserSanction> findByType(SanctionType type, Pageable pageable);
 
-    // 만료되어야 할 제재 조회 (현재 시간 이후에 종료되는 활성 제재)
-    @Query("SELECT s FROM UserSanction s WHERE s.status = 'ACTIVE' AND s.endDate IS NOT NULL AND s.endDate <= :now")
-    List<UserSanction> findExpirableSanctions(@Param("now") LocalDateTime now);
+    // 종료일이 지난 활성 제재를 ID 순으로 잠금 조회 (일괄 만료 배치 1회분)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.fream.back.domain.user.dto.ExpiringSanction(s.id, s.user.id, s.type) FROM UserSanction s " +
+            "WHERE s.status = com.fream.back.domain.user.entity.SanctionStatus.ACTIVE " +
+            "AND s.endDate IS NOT NULL AND s.endDate <= :now ORDER BY s.id")
+    List<ExpiringSanction> findExpirableSanctions(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 제재 일괄 만료 (활성 상태인 행만)
+    @Modifying
+    @Query("UPDATE UserSanction s SET s.status = com.fream.back.domain.user.entity.SanctionStatus.EXPIRED " +
+            "WHERE s.id IN :ids AND s.status = com.fream.back.domain.user.entity.SanctionStatus.ACTIVE")
+    int expireByIds(@Param("ids") List<Long> ids);
+
+    // 만료된 임시 정지 제재의 사용자 중 다른 활성 정지 제재가 없는 사용자 계정 복구
+    @Modifying
+    @Query("UPDATE User u SET u.isActive = true " +
+            "WHERE u.id IN (SELECT s.user.id FROM UserSanction s WHERE s.id IN :ids " +
+            "   AND s.type = com.fream.back.domain.user.entity.SanctionType.TEMPORARY_BAN) " +
+            "AND NOT EXISTS (SELECT 1 FROM UserSanction o WHERE o.user.id = u.id " +
+            "   AND o.status = com.fream.back.domain.user.entity.SanctionStatus.ACTIVE " +
+            "   AND o.type IN (com.fream.back.domain.user.entity.SanctionType.PERMANENT_BAN, " +
+            "                  com.fream.back.domain.user.entity.SanctionType.TEMPORARY_BAN))")
+    int reactivateUsersOfExpiredBans(@Param("ids") List<Long> ids);
 
     // 특정 기간에 생성된 제재 조회
     Page<UserSanction> findByCreatedDateBetween(LocalDateTime start, LocalDateTime end, Pageable pageable);
@@ -0,0 +1,30 @@
+package com.fream.back.domain.user.scheduler;
+
+import com.fream.back.domain.user.service.admin.AdminSanctionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SanctionExpirationScheduler {
+
+    private final AdminSanctionService adminSanctionService;
+
+    /**
+     * 1시간마다 종료일이 지난 제재 확인 및 처리 (매 시간 5분, 포인트 만료와 시간 분리)
+     * cron = "초 분 시 일 월 요일"
+     */
+    @Scheduled(cron = "0 5 * * * *")
+    public void checkExpiredSanctions() {
+        log.info("제재 만료 체크 스케줄러 실행");
+        try {
+            int expiredCount = adminSanctionService.processExpiredSanctions();
+            log.info("제재 만료 처리 완료: {} 개의 제재가 만료됨", expiredCount);
+        } catch (Exception e) {
+            log.error("제재 만료 처리 중 오류 발생", e);
+        }
+    }
+}
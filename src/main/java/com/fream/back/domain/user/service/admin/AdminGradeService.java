@@ -1,13 +1,22 @@
 package com.fream.back.domain.user.service.admin;
 
+import com.fream.back.domain.user.config.GradeAssignmentJobConfig;
 import com.fream.back.domain.user.dto.UserGradeDto.*;
-import com.fream.back.domain.user.entity.User;
 import com.fream.back.domain.user.entity.UserGrade;
 import com.fream.back.domain.user.repository.UserGradeRepository;
-import com.fream.back.domain.user.repository.UserRepository;
 import com.fream.back.global.exception.EntityNotFoundException;
 import com.fream.back.global.exception.InvalidRequestException;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,12 +26,25 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class AdminGradeService {
 
     private final UserGradeRepository userGradeRepository;
-    private final UserRepository userRepository;
+    private final JobLauncher jobLauncher; // 등급 자동 설정 전용 비동기 런처
+    private final JobExplorer jobExplorer;
+    private final Job assignUserGradesJob;
+
+    public AdminGradeService(
+            UserGradeRepository userGradeRepository,
+            @Qualifier("gradeAssignmentJobLauncher") JobLauncher jobLauncher,
+            JobExplorer jobExplorer,
+            @Qualifier("assignUserGradesJob") Job assignUserGradesJob) {
+        this.userGradeRepository = userGradeRepository;
+        this.jobLauncher = jobLauncher;
+        this.jobExplorer = jobExplorer;
+        this.assignUserGradesJob = assignUserGradesJob;
+    }
 
     /**
      * 모든 등급 조회
@@ -30,9 +52,10 @@ public class AdminGradeService {
     @Transactional(readOnly = true)
     public List<GradeResponseDto> getAllGrades() {
         List<UserGrade> grades = userGradeRepository.findAllByOrderByLevelAsc();
+        Map<Long, Long> userCounts = getUserCountsByGradeId();
 
         return grades.stream()
-                .map(this::convertToGradeResponseDto)
+                .map(grade -> convertToGradeResponseDto(grade, userCounts.getOrDefault(grade.getId(), 0L)))
                 .collect(Collectors.toList());
     }
 
@@ -44,7 +67,7 @@ public class AdminGradeService {
         UserGrade grade = userGradeRepository.findById(gradeId)
                 .orElseThrow(() -> new EntityNotFoundException("Grade not found with id: " + gradeId));
 
-        return convertToGradeResponseDto(grade);
+        return convertToGradeResponseDto(grade, userGradeRepository.countUsersByGradeId(gradeId));
     }
 
     /**
@@ -73,7 +96,7 @@ public class AdminGradeService {
 
         userGradeRepository.save(grade);
 
-        return convertToGradeResponseDto(grade);
+        return convertToGradeResponseDto(grade, 0L);
     }
 
     /**
@@ -100,7 +123,7 @@ public class AdminGradeService {
                 requestDto.getBenefits()
         );
 
-        return convertToGradeResponseDto(grade);
+        return convertToGradeResponseDto(grade, userGradeRepository.countUsersByGradeId(gradeId));
     }
 
     /**
@@ -125,18 +148,13 @@ public class AdminGradeService {
      */
     @Transactional(readOnly = true)
     public Map<Integer, Long> getGradeUserCounts() {
-        List<Object[]> counts = userGradeRepository.countUsersGroupByGrade();
+        Map<Long, Long> userCounts = getUserCountsByGradeId();
         Map<Integer, Long> result = new HashMap<>();
 
-        for (Object[] row : counts) {
-            if (row[0] != null) {
-                Long gradeId = (Long) row[0];
-                Long userCount = (Long) row[1];
-
-                UserGrade grade = userGradeRepository.findById(gradeId).orElse(null);
-                if (grade != null) {
-                    result.put(grade.getLevel(), userCount);
-                }
+        for (UserGrade grade : userGradeRepository.findAll()) {
+            Long userCount = userCounts.get(grade.getId());
+            if (userCount != null) {
+                result.put(grade.getLevel(), userCount);
             }
         }
 
@@ -149,10 +167,11 @@ public class AdminGradeService {
     @Transactional(readOnly = true)
     public List<GradeStatisticsDto> getGradeStatistics() {
         List<UserGrade> grades = userGradeRepository.findAllByOrderByLevelAsc();
+        Map<Long, Long> userCounts = getUserCountsByGradeId();
         List<GradeStatisticsDto> result = new ArrayList<>();
 
         for (UserGrade grade : grades) {
-            Long userCount = userGradeRepository.countUsersByGradeId(grade.getId());
+            Long userCount = userCounts.getOrDefault(grade.getId(), 0L);
 
             result.add(GradeStatisticsDto.builder()
                     .id(grade.getId())
@@ -167,47 +186,82 @@ public class AdminGradeService {
 
     /**
      * 등급 자동 설정 실행
+     * 배치 작업(assignUserGradesJob)을 비동기로 시작하고 실행 ID를 바로 반환합니다. (진행 상황은 상태 조회로 확인)
+     * 직전 실행이 실패/중단된 경우 같은 작업 인스턴스를 재시작해 마지막 커밋 지점부터 이어서 처리합니다.
      */
-    @Transactional
     public AutoAssignResultDto runGradeAutoAssignment() {
-        List<User> users = userRepository.findAll();
-        int processed = 0;
-        int updated = 0;
-
-        for (User user : users) {
-            processed++;
+        JobExecution lastExecution = findLastGradeAssignmentExecution();
+        if (lastExecution != null && lastExecution.isRunning()) {
+            throw new InvalidRequestException("Grade auto assignment is already running: " + lastExecution.getId());
+        }
 
-            // 사용자 총 구매액 조회 (가정: 주문 테이블에서 가져와야 함)
-            // 실제 구현에서는 OrderRepository 등에서 가져와야 함
-            Integer totalPurchaseAmount = 0; // 임시 값
+        boolean restart = lastExecution != null
+                && (lastExecution.getStatus() == BatchStatus.FAILED || lastExecution.getStatus() == BatchStatus.STOPPED);
+        JobParameters jobParameters = restart
+                ? lastExecution.getJobParameters()
+                : new JobParametersBuilder()
+                        .addLong("timestamp", System.currentTimeMillis())
+                        .toJobParameters();
+
+        try {
+            log.info("회원 등급 자동 설정 실행: 재시작={}", restart);
+            JobExecution execution = jobLauncher.run(assignUserGradesJob, jobParameters);
+            log.info("회원 등급 자동 설정 시작: 실행 ID={}, 상태={}", execution.getId(), execution.getStatus());
+            return convertToAutoAssignResultDto(execution);
+        } catch (Exception e) {
+            log.error("회원 등급 자동 설정 실행 실패: {}", e.getMessage(), e);
+            throw new InvalidRequestException("Failed to run grade auto assignment: " + e.getMessage());
+        }
+    }
 
-            // 구매액에 맞는 등급 찾기
-            List<UserGrade> matchingGrades = userGradeRepository.findGradeByPurchaseAmount(totalPurchaseAmount);
+    /**
+     * 최근 등급 자동 설정 실행의 진행 상황 조회
+     */
+    public AutoAssignResultDto getGradeAutoAssignmentStatus() {
+        JobExecution lastExecution = findLastGradeAssignmentExecution();
+        if (lastExecution == null) {
+            throw new EntityNotFoundException("Grade auto assignment has never run");
+        }
+        return convertToAutoAssignResultDto(lastExecution);
+    }
 
-            if (!matchingGrades.isEmpty()) {
-                // 가장 높은 조건의 등급 선택 (이미 DB 쿼리에서 DESC로 정렬됨)
-                UserGrade newGrade = matchingGrades.get(0);
+    private JobExecution findLastGradeAssignmentExecution() {
+        JobInstance lastInstance = jobExplorer.getLastJobInstance(GradeAssignmentJobConfig.JOB_NAME);
+        return lastInstance != null ? jobExplorer.getLastJobExecution(lastInstance) : null;
+    }
 
-                // 기존 등급과 다르면 업데이트
-                if (user.getGrade() == null || !user.getGrade().getId().equals(newGrade.getId())) {
-                    user.addGrade(newGrade);
-                    updated++;
-                }
-            }
+    // 같은 인스턴스의 여러 실행(재시작)에 걸친 누적이 아닌, 이 실행에서 처리한 수
+    private AutoAssignResultDto convertToAutoAssignResultDto(JobExecution execution) {
+        long processed = 0;
+        long updated = 0;
+        for (StepExecution stepExecution : execution.getStepExecutions()) {
+            processed += stepExecution.getReadCount();
+            updated += stepExecution.getWriteCount();
         }
 
         return AutoAssignResultDto.builder()
-                .processed(processed)
-                .updated(updated)
+                .jobExecutionId(execution.getId())
+                .status(execution.getStatus().name())
+                .processed((int) processed)
+                .updated((int) updated)
                 .build();
     }
 
+    // 등급 ID → 사용자 수 (GROUP BY 한 번)
+    private Map<Long, Long> getUserCountsByGradeId() {
+        Map<Long, Long> userCounts = new HashMap<>();
+        for (Object[] row : userGradeRepository.countUsersGroupByGrade()) {
+            if (row[0] != null) {
+                userCounts.put((Long) row[0], (Long) row[1]);
+            }
+        }
+        return userCounts;
+    }
+
     /**
      * UserGrade 엔티티를 GradeResponseDto로 변환
      */
-    private GradeResponseDto convertToGradeResponseDto(UserGrade grade) {
-        Long userCount = userGradeRepository.countUsersByGradeId(grade.getId());
-
+    private GradeResponseDto convertToGradeResponseDto(UserGrade grade, Long userCount) {
         return GradeResponseDto.builder()
                 .id(grade.getId())
                 .level(grade.getLevel())
@@ -1,5 +1,7 @@
 package com.fream.back.domain.user.service.admin;
 
+import com.fream.back.domain.notification.event.UserNotificationsRequestedEvent;
+import com.fream.back.domain.user.dto.ExpiringSanction;
 import com.fream.back.domain.user.dto.SanctionDto.*;
 import com.fream.back.domain.user.entity.*;
 import com.fream.back.domain.user.repository.UserRepository;
@@ -7,6 +9,7 @@ import com.fream.back.domain.user.repository.UserSanctionRepository;
 import com.fream.back.domain.user.repository.UserSanctionSpecifications;
 import com.fream.back.global.exception.EntityNotFoundException;
 import com.fream.back.global.exception.InvalidRequestException;
+import com.fream.back.global.utils.BulkExpiryExecutor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -17,7 +20,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,6 +31,7 @@ public class AdminSanctionService {
 
     private final UserSanctionRepository userSanctionRepository;
     private final UserRepository userRepository;
+    private final BulkExpiryExecutor bulkExpiryExecutor;
 
     /**
      * 제재 검색 (페이징)
@@ -253,27 +259,38 @@ public class AdminSanctionService {
 
     /**
      * 만료된 제재 처리 (배치 작업용)
+     * 종료일이 지난 활성 제재를 배치 단위 UPDATE로 만료시키고, 같은 트랜잭션에서
+     * 다른 활성 정지 제재가 없는 임시 정지 사용자의 계정을 복구합니다. 배치마다 정지/제한이 끝난 사용자에게 종료 알림을 요청합니다.
+     * 배치마다 트랜잭션을 따로 쓰므로 트랜잭션 밖에서 호출해야 합니다.
      */
-    @Transactional
     public int processExpiredSanctions() {
         LocalDateTime now = LocalDateTime.now();
-        List<UserSanction> expirableSanctions = userSanctionRepository.findExpirableSanctions(now);
-
-        int processedCount = 0;
 
-        for (UserSanction sanction : expirableSanctions) {
-            sanction.expire();
+        return bulkExpiryExecutor.expireAll("sanctions",
+                limit -> userSanctionRepository.findExpirableSanctions(now, PageRequest.of(0, limit)),
+                sanctions -> {
+                    List<Long> ids = sanctions.stream().map(ExpiringSanction::sanctionId).toList();
+                    int expired = userSanctionRepository.expireByIds(ids);
+                    userSanctionRepository.reactivateUsersOfExpiredBans(ids);
+                    return expired;
+                },
+                AdminSanctionService::toSanctionEndNotifications);
+    }
 
-            // 사용자 상태 복구 (임시 정지 제재)
-            if (sanction.getType() == SanctionType.TEMPORARY_BAN &&
-                    !hasOtherActiveBanSanctions(sanction.getUser(), sanction.getId())) {
-                sanction.getUser().addActive(true);
+    /**
+     * 만료된 제재 배치 → 사용자별 제재 종료 알림 요청 (정지/기능 제한만, 경고는 이용 제한이 아니므로 제외)
+     *
+     * @return 알림 대상이 없으면 null (발행하지 않음)
+     */
+    private static UserNotificationsRequestedEvent toSanctionEndNotifications(List<ExpiringSanction> sanctions) {
+        Map<Long, String> messages = new LinkedHashMap<>();
+        for (ExpiringSanction sanction : sanctions) {
+            if (sanction.type() != SanctionType.WARNING) {
+                messages.put(sanction.userId(), "이용 제한 기간이 종료되었습니다.");
             }
-
-            processedCount++;
         }
-
-        return processedCount;
+        return messages.isEmpty() ? null
+                : new UserNotificationsRequestedEvent("SHOPPING", "ANNOUNCEMENT", messages);
     }
 
     /**
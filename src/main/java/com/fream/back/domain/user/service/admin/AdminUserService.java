@@ -454,8 +454,8 @@ public class AdminUserService {
                 .bio(profile.getBio())
                 .isPublic(profile.isPublic())
                 .profileImageUrl(profile.getProfileImageUrl())
-                .followersCount((long) profile.getFollowers().size())
-                .followingCount((long) profile.getFollowings().size())
+                .followersCount(profile.getFollowerCount())
+                .followingCount(profile.getFollowingCount())
                 .stylesCount((long) profile.getStyles().size())
                 .build();
     }
@@ -5,12 +5,15 @@ import com.fream.back.domain.user.dto.UserRegistrationDto;
 import com.fream.back.domain.user.dto.VerifiedCustomerDto;
 import com.fream.back.domain.user.entity.Gender;
 import com.fream.back.domain.user.entity.User;
+import com.fream.back.domain.user.event.UserDeletingEvent;
 import com.fream.back.domain.user.exception.*;
 import com.fream.back.domain.user.repository.UserRepository;
+import com.fream.back.domain.user.service.follow.FollowCommandService;
 import com.fream.back.domain.user.service.profile.ProfileCommandService;
 import com.fream.back.global.utils.FileUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,6 +35,8 @@ public class UserCommandService {
     private final FileUtils fileUtils;
     private final NotificationCommandService notificationCommandService;
     private final IdentityVerificationService identityVerificationService;
+    private final FollowCommandService followCommandService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 본인인증을 통한 회원가입 처리
@@ -192,6 +197,14 @@ public class UserCommandService {
                 // 이미지 삭제 실패는 계정 삭제를 중단시키지 않음
             }
 
+            // 상대 프로필의 팔로워/팔로잉 수 차감 (팔로우 행은 프로필과 함께 삭제됨)
+            if (user.getProfile() != null) {
+                followCommandService.releaseFollowCounts(user.getProfile().getId());
+            }
+
+            // 다른 모듈의 비정규화 카운터 정리 (관심 상품 수 등, 같은 트랜잭션에서 동기 실행)
+            eventPublisher.publishEvent(new UserDeletingEvent(user.getId(), email));
+
             // 사용자 정보 삭제
             userRepository.delete(user);
             log.info("계정 삭제 완료: email={}, userId={}", email, user.getId());
@@ -3,8 +3,7 @@ package com.fream.back.domain.user.service.follow;
 import com.fream.back.domain.notification.entity.NotificationCategory;
 import com.fream.back.domain.notification.entity.NotificationType;
 import com.fream.back.domain.notification.service.command.NotificationCommandService;
-import com.fream.back.domain.user.entity.Follow;
-import com.fream.back.domain.user.entity.Profile;
+import com.fream.back.domain.user.event.FollowChangedEvent;
 import com.fream.back.domain.user.exception.AlreadyFollowingException;
 import com.fream.back.domain.user.exception.CannotFollowSelfException;
 import com.fream.back.domain.user.exception.NotFollowingException;
@@ -13,9 +12,12 @@ import com.fream.back.domain.user.repository.FollowRepository;
 import com.fream.back.domain.user.repository.ProfileRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -24,45 +26,49 @@ public class FollowCommandService {
     private final FollowRepository followRepository;
     private final ProfileRepository profileRepository;
     private final NotificationCommandService notificationCommandService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 팔로우를 추가합니다.
+     * 프로필을 조회하지 않고 (follower, following) 유니크 제약 위에서 INSERT ... SELECT 한 번으로 추가하며,
+     * 실제로 추가된 경우에만 양쪽 프로필의 팔로워/팔로잉 수를 원자적으로 증가시킵니다.
+     */
     @Transactional
     public void createFollow(String email, Long followingProfileId) {
         log.info("팔로우 생성 시작 - 요청자: {}, 대상: {}", email, followingProfileId);
 
         try {
-            // 현재 사용자의 프로필 가져오기
-            Profile followerProfile = profileRepository.findByUserEmailWithFetchJoin(email)
-                    .orElseThrow(() -> new ProfileNotFoundException("사용자의 프로필이 존재하지 않습니다."));
-
-            // 팔로우 대상 프로필 가져오기
-            Profile followingProfile = profileRepository.findById(followingProfileId)
-                    .orElseThrow(() -> new ProfileNotFoundException(followingProfileId));
+            Long followerProfileId = findProfileId(email);
 
             // 자기 자신을 팔로우하려는 경우 체크
-            if (followerProfile.getId().equals(followingProfileId)) {
+            if (followerProfileId.equals(followingProfileId)) {
                 log.warn("자기 자신 팔로우 시도 - 사용자: {}", email);
                 throw new CannotFollowSelfException();
             }
 
-            // 이미 팔로우 중인지 확인
-            if (followRepository.findByFollowerAndFollowing(followerProfile, followingProfile).isPresent()) {
+            int inserted = followRepository.insertIfAbsent(followerProfileId, followingProfileId, LocalDateTime.now());
+            if (inserted == 0) {
+                if (!profileRepository.existsById(followingProfileId)) {
+                    throw new ProfileNotFoundException(followingProfileId);
+                }
                 log.warn("이미 팔로우 중 - 요청자: {}, 대상: {}", email, followingProfileId);
                 throw new AlreadyFollowingException(followingProfileId);
             }
 
-            // 팔로우 관계 생성
-            Follow follow = Follow.builder()
-                    .follower(followerProfile)
-                    .following(followingProfile)
-                    .build();
+            updateFollowCounts(followerProfileId, followingProfileId, 1);
 
-            followRepository.save(follow);
+            Long followId = followRepository.findIdByFollowerIdAndFollowingId(followerProfileId, followingProfileId)
+                    .orElse(null);
+            eventPublisher.publishEvent(new FollowChangedEvent(followId, followerProfileId, followingProfileId, true));
 
             // 팔로우 알림 생성
             try {
-                String message = followerProfile.getName() + "님이 회원님을 팔로우 했습니다.";
+                Long followingUserId = profileRepository.findUserIdById(followingProfileId)
+                        .orElseThrow(() -> new ProfileNotFoundException(followingProfileId));
+                String followerName = profileRepository.findNameById(followerProfileId).orElse(null);
+                String message = followerName + "님이 회원님을 팔로우 했습니다.";
                 notificationCommandService.createNotification(
-                        followingProfile.getUser().getId(),
+                        followingUserId,
                         NotificationCategory.STYLE,
                         NotificationType.FOLLOW,
                         message
@@ -82,25 +88,28 @@ public class FollowCommandService {
         }
     }
 
+    /**
+     * 팔로우를 삭제합니다.
+     * 실제로 삭제된 경우에만 양쪽 프로필의 팔로워/팔로잉 수를 원자적으로 감소시킵니다.
+     */
     @Transactional
     public void deleteFollow(String email, Long followingProfileId) {
         log.info("팔로우 삭제 시작 - 요청자: {}, 대상: {}", email, followingProfileId);
 
         try {
-            // 팔로우를 한 사용자 (follower) 프로필 조회
-            Profile followerProfile = profileRepository.findByUserEmailWithFetchJoin(email)
-                    .orElseThrow(() -> new ProfileNotFoundException("사용자의 프로필이 존재하지 않습니다."));
-
-            // 팔로우된 사용자 (following) 프로필 조회
-            Profile followingProfile = profileRepository.findById(followingProfileId)
-                    .orElseThrow(() -> new ProfileNotFoundException(followingProfileId));
+            Long followerProfileId = findProfileId(email);
+
+            int deleted = followRepository.deleteByFollowerIdAndFollowingId(followerProfileId, followingProfileId);
+            if (deleted == 0) {
+                if (!profileRepository.existsById(followingProfileId)) {
+                    throw new ProfileNotFoundException(followingProfileId);
+                }
+                throw new NotFollowingException(followingProfileId);
+            }
 
-            // 팔로우 관계 조회
-            Follow follow = followRepository.findByFollowerAndFollowing(followerProfile, followingProfile)
-                    .orElseThrow(() -> new NotFollowingException(followingProfileId));
+            updateFollowCounts(followerProfileId, followingProfileId, -1);
+            eventPublisher.publishEvent(new FollowChangedEvent(null, followerProfileId, followingProfileId, false));
 
-            // 팔로우 관계 삭제
-            followRepository.delete(follow);
             log.info("팔로우 삭제 완료 - 요청자: {}, 대상: {}", email, followingProfileId);
         } catch (ProfileNotFoundException | NotFollowingException e) {
             throw e;
@@ -109,4 +118,31 @@ public class FollowCommandService {
             throw new NotFollowingException("팔로우 삭제 처리 중 오류가 발생했습니다.");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 프로필 삭제 전에 상대 프로필들의 팔로워/팔로잉 수를 차감합니다.
+     * 팔로우 행 자체는 프로필 삭제 시 함께 삭제됩니다. (cascade)
+     */
+    @Transactional
+    public void releaseFollowCounts(Long profileId) {
+        int followings = profileRepository.decrementFollowerCountOfFollowings(profileId);
+        int followers = profileRepository.decrementFollowingCountOfFollowers(profileId);
+        log.info("삭제 프로필의 팔로우 수 정리 - 프로필: {}, 팔로잉 {}건, 팔로워 {}건", profileId, followings, followers);
+    }
+
+    private Long findProfileId(String email) {
+        return profileRepository.findIdByUserEmail(email)
+                .orElseThrow(() -> new ProfileNotFoundException("사용자의 프로필이 존재하지 않습니다."));
+    }
+
+    // 맞팔로우가 동시에 일어나도 교착되지 않도록 항상 작은 프로필 ID부터 갱신
+    private void updateFollowCounts(Long followerProfileId, Long followingProfileId, long delta) {
+        if (followerProfileId < followingProfileId) {
+            profileRepository.updateFollowingCount(followerProfileId, delta);
+            profileRepository.updateFollowerCount(followingProfileId, delta);
+        } else {
+            profileRepository.updateFollowerCount(followingProfileId, delta);
+            profileRepository.updateFollowingCount(followerProfileId, delta);
+        }
+    }
+}
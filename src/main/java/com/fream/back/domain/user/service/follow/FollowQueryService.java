@@ -4,32 +4,46 @@ import com.fream.back.domain.user.dto.follow.FollowDto;
 import com.fream.back.domain.user.entity.Follow;
 import com.fream.back.domain.user.entity.Profile;
 import com.fream.back.domain.user.exception.ProfileNotFoundException;
+import com.fream.back.domain.user.redis.FollowerListCache;
+import com.fream.back.domain.user.redis.FollowerListCache.FollowerEdge;
 import com.fream.back.domain.user.repository.FollowRepository;
 import com.fream.back.domain.user.repository.ProfileRepository;
+import com.fream.back.global.dto.commonDto;
+import com.fream.back.global.utils.PageUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FollowQueryService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final FollowRepository followRepository;
     private final ProfileRepository profileRepository;
+    private final FollowerListCache followerListCache;
 
     public Page<FollowDto> getFollowers(String email, Pageable pageable) {
         log.info("팔로워 목록 조회 시작 - 사용자: {}", email);
 
         try {
-            Profile profile = profileRepository.findByUserEmailWithFetchJoin(email)
-                    .orElseThrow(() -> new ProfileNotFoundException("사용자의 프로필이 존재하지 않습니다."));
+            Long profileId = findProfileId(email);
 
-            Page<Follow> followers = followRepository.findFollowersByProfileId(profile.getId(), pageable);
+            Page<Follow> followers = followRepository.findFollowersByProfileId(profileId, pageable);
 
             Page<FollowDto> result = followers.map(follow -> new FollowDto(
+                    follow.getId(),
                     follow.getFollower().getId(),
                     follow.getFollower().getProfileName(),
                     follow.getFollower().getProfileImageUrl()
@@ -49,12 +63,12 @@ public class FollowQueryService {
         log.info("팔로잉 목록 조회 시작 - 사용자: {}", email);
 
         try {
-            Profile profile = profileRepository.findByUserEmailWithFetchJoin(email)
-                    .orElseThrow(() -> new ProfileNotFoundException("사용자의 프로필이 존재하지 않습니다."));
+            Long profileId = findProfileId(email);
 
-            Page<Follow> followings = followRepository.findFollowingsByProfileId(profile.getId(), pageable);
+            Page<Follow> followings = followRepository.findFollowingsByProfileId(profileId, pageable);
 
             Page<FollowDto> result = followings.map(follow -> new FollowDto(
+                    follow.getId(),
                     follow.getFollowing().getId(),
                     follow.getFollowing().getProfileName(),
                     follow.getFollowing().getProfileImageUrl()
@@ -69,4 +83,100 @@ public class FollowQueryService {
             throw new ProfileNotFoundException("팔로잉 목록을 조회할 수 없습니다.");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 팔로워 목록을 커서 방식으로 조회합니다. (최신 팔로우순)
+     * 팔로워가 많은 프로필은 Redis에 캐시된 최신 팔로워 목록에서 바로 읽고,
+     * 캐시 범위를 벗어난 페이지만 팔로우 ID 키셋으로 DB를 조회합니다.
+     * 전체 개수는 프로필의 팔로워 수 컬럼을 사용하며 첫 페이지에만 포함합니다.
+     *
+     * @param profileId 프로필 ID
+     * @param after 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 100)
+     * @return 팔로워 커서 페이지
+     */
+    public commonDto.CursorPageDto<FollowDto> getFollowersByCursor(Long profileId, String after, int size) {
+        Long afterId = PageUtils.decodeIdCursor(after);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        long followerCount = profileRepository.findFollowerCountById(profileId)
+                .orElseThrow(() -> new ProfileNotFoundException(profileId));
+
+        // 다음 페이지 여부 판단을 위해 1건 더 조회
+        List<FollowDto> rows = findCachedFollowers(profileId, followerCount, afterId, pageSize + 1);
+        if (rows == null) {
+            Pageable limit = PageRequest.of(0, pageSize + 1);
+            rows = afterId == null
+                    ? followRepository.findFollowersFirstPage(profileId, limit)
+                    : followRepository.findFollowersAfter(profileId, afterId, limit);
+        }
+
+        log.debug("팔로워 커서 조회 완료 - 프로필: {}, 결과 수: {}", profileId, rows.size());
+        return PageUtils.toIdCursorPageDto(rows, pageSize, FollowDto::getFollowId,
+                afterId == null ? followerCount : null);
+    }
+
+    /**
+     * 팔로잉 목록을 커서 방식으로 조회합니다. (최신 팔로우순, 팔로우 ID 키셋)
+     *
+     * @param profileId 프로필 ID
+     * @param after 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 100)
+     * @return 팔로잉 커서 페이지
+     */
+    public commonDto.CursorPageDto<FollowDto> getFollowingsByCursor(Long profileId, String after, int size) {
+        Long afterId = PageUtils.decodeIdCursor(after);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        Long followingCount = null;
+        if (afterId == null) {
+            followingCount = profileRepository.findFollowingCountById(profileId)
+                    .orElseThrow(() -> new ProfileNotFoundException(profileId));
+        }
+
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<FollowDto> rows = afterId == null
+                ? followRepository.findFollowingsFirstPage(profileId, limit)
+                : followRepository.findFollowingsAfter(profileId, afterId, limit);
+
+        log.debug("팔로잉 커서 조회 완료 - 프로필: {}, 결과 수: {}", profileId, rows.size());
+        return PageUtils.toIdCursorPageDto(rows, pageSize, FollowDto::getFollowId, followingCount);
+    }
+
+    public commonDto.CursorPageDto<FollowDto> getMyFollowersByCursor(String email, String after, int size) {
+        return getFollowersByCursor(findProfileId(email), after, size);
+    }
+
+    public commonDto.CursorPageDto<FollowDto> getMyFollowingsByCursor(String email, String after, int size) {
+        return getFollowingsByCursor(findProfileId(email), after, size);
+    }
+
+    // 캐시된 팔로워 ID 목록 → 프로필 정보 (PK 조회), 캐시를 사용할 수 없으면 null
+    private List<FollowDto> findCachedFollowers(Long profileId, long followerCount, Long afterId, int limit) {
+        List<FollowerEdge> edges = followerListCache.findPage(profileId, followerCount, afterId, limit);
+        if (edges == null) {
+            return null;
+        }
+
+        List<Long> followerIds = edges.stream().map(FollowerEdge::followerProfileId).collect(Collectors.toList());
+        Map<Long, Profile> profiles = profileRepository.findAllById(followerIds).stream()
+                .collect(Collectors.toMap(Profile::getId, Function.identity()));
+
+        List<FollowDto> rows = new ArrayList<>(edges.size());
+        for (FollowerEdge edge : edges) {
+            Profile follower = profiles.get(edge.followerProfileId());
+            if (follower == null) {
+                // 캐시에 남은 삭제된 프로필 → 목록을 버리고 DB로 조회
+                followerListCache.evict(profileId);
+                return null;
+            }
+            rows.add(new FollowDto(edge.followId(), follower.getId(), follower.getProfileName(), follower.getProfileImageUrl()));
+        }
+        return rows;
+    }
+
+    private Long findProfileId(String email) {
+        return profileRepository.findIdByUserEmail(email)
+                .orElseThrow(() -> new ProfileNotFoundException("사용자의 프로필이 존재하지 않습니다."));
+    }
+}
@@ -1,5 +1,7 @@
 package com.fream.back.domain.user.service.point;
 
+import com.fream.back.domain.notification.event.UserNotificationsRequestedEvent;
+import com.fream.back.domain.user.dto.ExpiringPoint;
 import com.fream.back.domain.user.dto.PointDto;
 import com.fream.back.domain.user.entity.Point;
 import com.fream.back.domain.user.entity.PointStatus;
@@ -9,13 +11,17 @@ import com.fream.back.domain.user.exception.InvalidPointAmountException;
 import com.fream.back.domain.user.exception.UserNotFoundException;
 import com.fream.back.domain.user.repository.PointRepository;
 import com.fream.back.domain.user.service.query.UserQueryService;
+import com.fream.back.global.utils.BulkExpiryExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 @Slf4j
 @Service
@@ -24,6 +30,7 @@ public class PointCommandService {
 
     private final PointRepository pointRepository;
     private final UserQueryService userQueryService;
+    private final BulkExpiryExecutor bulkExpiryExecutor;
 
     /**
      * 포인트 적립
@@ -134,27 +141,41 @@ public class PointCommandService {
 
     /**
      * 만료된 포인트 처리 (스케줄러에서 호출)
+     * 유효기간이 지난 포인트를 배치 단위 UPDATE로 만료시키고, 배치마다 사용자별 소멸 알림을 요청합니다.
+     * 배치마다 트랜잭션을 따로 쓰므로 트랜잭션 밖에서 호출해야 합니다.
      */
-    @Transactional
     public int expirePoints() {
         log.info("만료 포인트 처리 시작");
 
         try {
-            List<Point> expiredPoints = pointRepository.findByStatusAndExpirationDateBefore(
-                    PointStatus.AVAILABLE, LocalDate.now());
-
-            for (Point point : expiredPoints) {
-                point.expire();
-            }
-
-            log.info("만료 포인트 처리 완료 - 만료된 포인트 수: {}", expiredPoints.size());
-            return expiredPoints.size();
+            LocalDate today = LocalDate.now();
+            int expiredCount = bulkExpiryExecutor.expireAll("points",
+                    limit -> pointRepository.findExpiringPoints(PointStatus.AVAILABLE, today, PageRequest.of(0, limit)),
+                    points -> pointRepository.expireByIds(points.stream().map(ExpiringPoint::pointId).toList()),
+                    PointCommandService::toExpiryNotifications);
+
+            log.info("만료 포인트 처리 완료 - 만료된 포인트 수: {}", expiredCount);
+            return expiredCount;
         } catch (Exception e) {
             log.error("만료 포인트 처리 중 오류 발생", e);
             return 0;
         }
     }
 
+    /**
+     * 만료된 포인트 배치 → 사용자별 소멸 알림 요청 (사용자당 1건, 소멸 금액 합계)
+     */
+    private static UserNotificationsRequestedEvent toExpiryNotifications(List<ExpiringPoint> points) {
+        Map<Long, Integer> expiredAmounts = new TreeMap<>();
+        for (ExpiringPoint point : points) {
+            expiredAmounts.merge(point.userId(), point.remainingAmount(), Integer::sum);
+        }
+
+        Map<Long, String> messages = new TreeMap<>();
+        expiredAmounts.forEach((userId, amount) -> messages.put(userId, "유효기간이 지난 포인트 " + amount + "P가 소멸되었습니다."));
+        return new UserNotificationsRequestedEvent("SHOPPING", "BENEFIT", messages);
+    }
+
     /**
      * 포인트 적립 요청 검증
      */
@@ -39,6 +39,8 @@ public class ProfileQueryService {
                     email,
                     profile.getBio(),
                     profile.isPublic(),
+                    profile.getFollowerCount(),
+                    profile.getFollowingCount(),
                     blockedProfiles
             );
 
@@ -73,6 +75,15 @@ public class ProfileQueryService {
         }
     }
 
+    /**
+     * 이메일 기반 프로필 ID 조회 (프로필 엔티티를 로딩하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Long getProfileIdByEmail(String email) {
+        return profileRepository.findIdByUserEmail(email)
+                .orElseThrow(() -> new ProfileNotFoundException("프로필을 찾을 수 없습니다."));
+    }
+
     /**
      * 프로필 이미지 파일명 조회
      */
@@ -16,6 +16,10 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(indexes = {
+        // 사용자별 상태 개수 집계 (GROUP BY status)
+        @Index(name = "idx_warehouse_storage_user_status", columnList = "user_id, status")
+})
 public class WarehouseStorage {
 
     @Id
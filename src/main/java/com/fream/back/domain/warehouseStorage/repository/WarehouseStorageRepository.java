@@ -3,6 +3,8 @@ package com.fream.back.domain.warehouseStorage.repository;
 import com.fream.back.domain.sale.entity.Sale;
 import com.fream.back.domain.warehouseStorage.entity.WarehouseStorage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,4 +12,8 @@ import java.util.Optional;
 public interface WarehouseStorageRepository extends JpaRepository<WarehouseStorage, Long> {
     Optional<WarehouseStorage> findBySale(Sale sale);
     List<WarehouseStorage> findByUser_Email(String email);
+
+    // 사용자별 보관 상태 개수 ([상태, 개수])
+    @Query("SELECT w.status, COUNT(w) FROM WarehouseStorage w WHERE w.user.email = :email GROUP BY w.status")
+    List<Object[]> countByStatusForUser(@Param("email") String email);
 }
@@ -7,11 +7,12 @@ import com.fream.back.domain.warehouseStorage.entity.WarehouseStorage;
 import com.fream.back.domain.warehouseStorage.exception.WarehouseStorageNotFoundException;
 import com.fream.back.domain.warehouseStorage.exception.WarehouseStorageAccessDeniedException;
 import com.fream.back.domain.warehouseStorage.repository.WarehouseStorageRepository;
+import com.fream.back.global.utils.StatusCountUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -44,30 +45,19 @@ public class WarehouseStorageQueryService {
             throw new WarehouseStorageAccessDeniedException("사용자 이메일 정보가 없습니다.");
         }
 
-        List<WarehouseStorage> storages = warehouseStorageRepository.findByUser_Email(userEmail);
+        // 보관 목록을 읽지 않고 상태별 개수만 GROUP BY로 조회
+        Map<WarehouseStatus, Long> counts = StatusCountUtils.toCountMap(
+                WarehouseStatus.class, warehouseStorageRepository.countByStatusForUser(userEmail));
 
         return WarehouseStatusCountDto.builder()
-                .inStorageCount(countByStatus(storages, WarehouseStatus.IN_STORAGE))
-                .associatedWithOrderCount(countByStatus(storages, WarehouseStatus.ASSOCIATED_WITH_ORDER))
-                .removedFromStorageCount(countByStatus(storages, WarehouseStatus.REMOVED_FROM_STORAGE))
-                .onAuctionCount(countByStatus(storages, WarehouseStatus.ON_AUCTION))
-                .soldCount(countByStatus(storages, WarehouseStatus.SOLD))
+                .inStorageCount(counts.get(WarehouseStatus.IN_STORAGE))
+                .associatedWithOrderCount(counts.get(WarehouseStatus.ASSOCIATED_WITH_ORDER))
+                .removedFromStorageCount(counts.get(WarehouseStatus.REMOVED_FROM_STORAGE))
+                .onAuctionCount(counts.get(WarehouseStatus.ON_AUCTION))
+                .soldCount(counts.get(WarehouseStatus.SOLD))
                 .build();
     }
 
-    /**
-     * 창고 보관 목록에서 특정 상태에 해당하는 항목 수를 계산합니다.
-     *
-     * @param storages 창고 보관 목록
-     * @param status 확인할 상태
-     * @return 해당 상태의 항목 수
-     */
-    private long countByStatus(List<WarehouseStorage> storages, WarehouseStatus status) {
-        return storages.stream()
-                .filter(storage -> storage.getStatus() == status)
-                .count();
-    }
-
     /**
      * ID로 창고 보관 정보를 조회합니다.
      *
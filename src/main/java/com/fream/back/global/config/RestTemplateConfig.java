@@ -1,6 +1,18 @@
 package com.fream.back.global.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
@@ -9,6 +21,8 @@ import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.List;
 
 /**
  * 외부 API 통신을 위한 RestTemplate 설정
@@ -18,9 +32,37 @@ import java.io.IOException;
 @Configuration
 public class RestTemplateConfig {
 
+    @Value("${rest-client.connect-timeout-ms:5000}")
+    private int connectTimeoutMs; // 연결 타임아웃
+
+    @Value("${rest-client.read-timeout-ms:10000}")
+    private int readTimeoutMs; // 읽기 타임아웃
+
+    @Value("${rest-client.pool.max-total:100}")
+    private int maxTotal; // 전체 최대 커넥션 수
+
+    @Value("${rest-client.pool.max-per-route:20}")
+    private int maxPerRoute; // 호스트별 기본 최대 커넥션 수
+
+    // 호스트별 최대 커넥션 수 ("https://host=개수" 쉼표 구분)
+    @Value("${rest-client.pool.route-limits:}")
+    private List<String> routeLimits;
+
+    @Value("${rest-client.pool.acquire-timeout-ms:2000}")
+    private int acquireTimeoutMs; // 풀에서 커넥션을 얻기까지 최대 대기 시간
+
+    @Value("${rest-client.pool.keep-alive-ms:30000}")
+    private long keepAliveMs; // 서버가 Keep-Alive 시간을 주지 않을 때 사용할 유지 시간
+
+    @Value("${rest-client.pool.idle-evict-ms:60000}")
+    private long idleEvictMs; // 이 시간 이상 쉬는 커넥션은 정리
+
+    @Value("${rest-client.pool.time-to-live-ms:300000}")
+    private long timeToLiveMs; // 커넥션 최대 수명 (DNS 변경 반영)
+
     /**
      * 기본 RestTemplate 설정
-     * - HttpComponents 기반 팩토리 사용
+     * - 커넥션 풀(HttpClient 5) 기반 팩토리 사용: 호스트별 커넥션 수 제한, Keep-Alive 재사용, 유휴 커넥션 정리
      * - 타임아웃 설정
      * - 로깅 인터셉터 추가
      *
@@ -29,9 +71,8 @@ public class RestTemplateConfig {
     @Bean
     public RestTemplate restTemplate() {
         // HTTP Components 기반 팩토리 생성
-        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory();
-        factory.setConnectTimeout(5000);  // 연결 타임아웃 5초
-        factory.setReadTimeout(10000);    // 읽기 타임아웃 10초
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(pooledHttpClient());
+        factory.setReadTimeout(readTimeoutMs);
 
         // RestTemplate 생성
         RestTemplate restTemplate = new RestTemplate(factory);
@@ -42,6 +83,65 @@ public class RestTemplateConfig {
         return restTemplate;
     }
 
+    /**
+     * 커넥션 풀을 사용하는 HttpClient 생성
+     *
+     * @return 구성된 HttpClient
+     */
+    private CloseableHttpClient pooledHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(5))
+                        .setTimeToLive(TimeValue.ofMilliseconds(timeToLiveMs))
+                        .build())
+                .build();
+
+        for (String entry : routeLimits) {
+            if (entry == null || entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.lastIndexOf('=');
+            if (separator <= 0) {
+                throw new IllegalStateException("호스트별 커넥션 제한 형식이 올바르지 않습니다. (https://host=개수): " + entry);
+            }
+            try {
+                HttpHost host = HttpHost.create(entry.substring(0, separator).trim());
+                int limit = Integer.parseInt(entry.substring(separator + 1).trim());
+                // 실제 요청 경로와 같은 키가 되도록 기본 포트와 보안 여부를 채운다
+                boolean secure = "https".equalsIgnoreCase(host.getSchemeName());
+                int port = host.getPort() > 0 ? host.getPort() : (secure ? 443 : 80);
+                HttpHost target = new HttpHost(host.getSchemeName(), host.getHostName(), port);
+                connectionManager.setMaxPerRoute(new HttpRoute(target, null, secure), limit);
+            } catch (URISyntaxException | NumberFormatException e) {
+                throw new IllegalStateException("호스트별 커넥션 제한 형식이 올바르지 않습니다. (https://host=개수): " + entry, e);
+            }
+        }
+
+        log.info("RestTemplate 커넥션 풀 설정: maxTotal={}, maxPerRoute={}, routeLimits={}",
+                maxTotal, maxPerRoute, routeLimits);
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(acquireTimeoutMs))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> {
+                    // 서버가 Keep-Alive 시간을 알려주면 따르고, 없으면 기본값 사용
+                    TimeValue serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return serverKeepAlive != null && TimeValue.isPositive(serverKeepAlive)
+                            && serverKeepAlive.toMilliseconds() < keepAliveMs
+                            ? serverKeepAlive
+                            : TimeValue.ofMilliseconds(keepAliveMs);
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleEvictMs))
+                .build();
+    }
+
     /**
      * API 요청/응답 로깅을 위한 인터셉터
      *
@@ -74,4 +174,4 @@ public class RestTemplateConfig {
             }
         };
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,12 @@
 package com.fream.back.global.config.kafka;
 
 import com.fream.back.domain.order.dto.kafka.OrderProcessingEvent;
+import com.fream.back.domain.order.service.kafka.OrderKeyedExecutor;
+import com.fream.back.domain.order.service.kafka.OrderRetryDelayScheduler;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,11 +15,15 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 
 /**
  * OrderProcessingEvent를 위한 Kafka 설정 클래스
@@ -28,6 +36,15 @@ public class OrderKafkaConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    @Value("${spring.kafka.order.processing.concurrency:2}")
+    private int processingConcurrency; // 주문 처리 컨슈머 수 (파티션 수 이하)
+
+    @Value("${spring.kafka.order.processing.parallel.max-poll-records:50}")
+    private int parallelMaxPollRecords; // 병렬 처리 시 poll 1회 최대 레코드 수 (= 컨슈머당 동시 처리 상한)
+
+    @Value("${spring.kafka.order.processing.parallel.revoke-wait-ms:10000}")
+    private long parallelRevokeWaitMs; // 리밸런스 시 진행 중 작업 대기 시간
+
     // ================================
     // Producer 설정 (OrderProcessingEvent)
     // ================================
@@ -93,21 +110,71 @@ public class OrderKafkaConfig {
     }
 
     /**
-     * 주문 처리 이벤트 Listener Container Factory 설정
+     * 주문 처리 이벤트 Listener Container Factory 설정 (지연 재시도 토픽 리스너용)
+     * - 리밸런스 시 지연 재시도 스케줄러의 파티션 되감기 기록을 정리
      */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, OrderProcessingEvent> orderProcessingKafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, OrderProcessingEvent> orderProcessingKafkaListenerContainerFactory(
+            OrderRetryDelayScheduler orderRetryDelayScheduler) {
         ConcurrentKafkaListenerContainerFactory<String, OrderProcessingEvent> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(orderProcessingEventConsumerFactory());
 
         // 동시성 제어 - 주문 처리는 순차적으로 처리하는 것이 안전
-        factory.setConcurrency(2); // 2개의 컨슈머로 병렬 처리 (주문별로 순서 보장)
+        factory.setConcurrency(processingConcurrency); // 컨슈머 수만큼 병렬 처리 (주문별로 순서 보장)
 
         // 수동 ACK 모드 설정 (처리 완료 후 커밋)
         factory.getContainerProperties().setAckMode(
                 org.springframework.kafka.listener.ContainerProperties.AckMode.MANUAL_IMMEDIATE
         );
+        factory.getContainerProperties().setConsumerRebalanceListener(new ConsumerAwareRebalanceListener() {
+            @Override
+            public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+                orderRetryDelayScheduler.onPartitionsRevoked(partitions);
+            }
+
+            @Override
+            public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+                orderRetryDelayScheduler.onPartitionsRevoked(partitions);
+            }
+
+            @Override
+            public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+                orderRetryDelayScheduler.onPartitionsAssigned(partitions);
+            }
+        });
+
+        return factory;
+    }
+
+    /**
+     * 주문 처리 병렬 Listener Container Factory 설정
+     * - 리스너는 레코드를 OrderKeyedExecutor에 넘기고 바로 반환 (같은 주문 ID는 순서대로, 다른 주문은 동시에 처리)
+     * - ACK는 워커 스레드에서 처리 순서와 무관하게 호출되고, 컨테이너가 앞 오프셋이 모두 끝난 지점까지만 커밋 (asyncAcks)
+     * - 한 번의 poll 묶음이 모두 ACK 될 때까지 컨테이너가 컨슈머를 일시정지하므로 파티션당 동시 처리량은 poll 크기만큼
+     * - 파티션을 넘기기 전(리밸런스) 진행 중인 작업을 기다려 중복 처리를 줄임
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, OrderProcessingEvent> orderParallelProcessingKafkaListenerContainerFactory(
+            OrderKeyedExecutor orderKeyedExecutor) {
+        ConcurrentKafkaListenerContainerFactory<String, OrderProcessingEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(orderProcessingEventConsumerFactory());
+        factory.setConcurrency(processingConcurrency);
+
+        ContainerProperties containerProperties = factory.getContainerProperties();
+        // 이 컨테이너만 poll 크기를 늘림 (컨슈머 팩토리 설정 덮어쓰기)
+        Properties consumerOverrides = new Properties();
+        consumerOverrides.setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(parallelMaxPollRecords));
+        containerProperties.setKafkaConsumerProperties(consumerOverrides);
+        containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL);
+        containerProperties.setAsyncAcks(true);
+        containerProperties.setConsumerRebalanceListener(new ConsumerAwareRebalanceListener() {
+            @Override
+            public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+                orderKeyedExecutor.awaitIdle(parallelRevokeWaitMs);
+            }
+        });
 
         return factory;
     }
@@ -3,27 +3,33 @@ package com.fream.back.global.controller;
 import com.fream.back.global.dto.LogFileDTO;
 import com.fream.back.global.dto.LogResponseDTO;
 import com.fream.back.global.dto.LogLineDTO;
+import com.fream.back.global.utils.LogFileReader;
+import com.fream.back.global.utils.LogSearchIndex;
+import com.fream.back.global.utils.LogTailStreamer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Slf4j
 @RestController
+@RequiredArgsConstructor
 @RequestMapping("/api/logs")
 @PreAuthorize("hasRole('ADMIN')") // 관리자만 접근 가능
 public class LogController {
@@ -31,13 +37,9 @@ public class LogController {
     @Value("${logging.file.path:/path/to/springlog}")
     private String logDirectoryPath;
 
-    // 로그 레벨을 파악하기 위한 패턴 (로그 형식에 맞게 조정 필요)
-    private static final Pattern LOG_PATTERN = Pattern.compile(
-            "(\\d{4}-\\d{2}-\\d{2}\\s\\d{2}:\\d{2}:\\d{2}\\.\\d{3})\\s+"   // 타임스탬프 그룹
-                    + "\\[(.*?)\\]\\s+"                                           // 스레드 이름 그룹
-                    + "(ERROR|WARN|INFO|DEBUG|TRACE)\\s+"                         // 로그 레벨 그룹
-                    + "(.*?)\\s+-\\s+"                                            // 로거 이름 그룹
-                    + "(.*)");                                                    // 메시지 그룹
+    private final LogFileReader logFileReader;
+    private final LogTailStreamer logTailStreamer;
+    private final LogSearchIndex logSearchIndex;
 
     /**
      * 사용 가능한 로그 파일 목록을 반환합니다.
@@ -95,30 +97,20 @@ public class LogController {
             @RequestParam(required = false) String endTime) {
 
         // 경로 조작 방지
-        if (fileName.contains("..") || fileName.contains("/") || fileName.contains("\\")) {
+        Path logFile = resolveLogFile(fileName);
+        if (logFile == null) {
             return ResponseEntity.badRequest()
                     .body(LogResponseDTO.builder().error("잘못된 파일 이름입니다.").build());
         }
 
-        Path logFile = Paths.get(logDirectoryPath, fileName);
-
         if (!Files.exists(logFile) || !Files.isRegularFile(logFile)) {
             return ResponseEntity.notFound().build();
         }
 
         try {
             // 날짜 범위 파싱
-            LocalDateTime startDateTime = null;
-            LocalDateTime endDateTime = null;
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-
-            if (startTime != null && !startTime.isEmpty()) {
-                startDateTime = LocalDateTime.parse(startTime, formatter);
-            }
-
-            if (endTime != null && !endTime.isEmpty()) {
-                endDateTime = LocalDateTime.parse(endTime, formatter);
-            }
+            LocalDateTime startDateTime = parseDateTime(startTime);
+            LocalDateTime endDateTime = parseDateTime(endTime);
 
             // 로그 내용 읽기
             LogResponseDTO response = readLogFileWithPaging(
@@ -143,8 +135,95 @@ public class LogController {
         }
     }
 
+    /**
+     * 로그 종류별 통합 검색 (활성 파일 + 보관 중인 롤링 파일 전체)
+     * 검색어는 단어(토큰) 단위로 일치하며, 색인 버킷의 시간 범위/블룸 필터로 관련 없는 구간은 읽지 않습니다.
+     * 응답의 levelCounts는 레벨 조건을 제외한 나머지 조건에 맞는 레벨별 건수입니다.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<LogResponseDTO> searchLogs(
+            @RequestParam(defaultValue = "application") String type,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String level,
+            @RequestParam(defaultValue = "true") boolean reverse,
+            @RequestParam(required = false) String startTime,
+            @RequestParam(required = false) String endTime) {
+
+        if (!logSearchIndex.isIndexedType(type)) {
+            return ResponseEntity.badRequest()
+                    .body(LogResponseDTO.builder().error("검색할 수 없는 로그 종류입니다.").build());
+        }
+        if (page < 0 || size <= 0 || size > 1000) {
+            return ResponseEntity.badRequest()
+                    .body(LogResponseDTO.builder()
+                            .error("잘못된 페이징 파라미터입니다. (0 ≤ page, 0 < size ≤ 1000)")
+                            .build());
+        }
+
+        try {
+            LogSearchIndex.LogQuery query = LogSearchIndex.LogQuery.of(
+                    search, true, level, parseDateTime(startTime), parseDateTime(endTime));
+            LogSearchIndex.SearchResult result = logSearchIndex.search(
+                    logSearchIndex.filesOf(type), query, reverse, (long) page * size, size);
+
+            return ResponseEntity.ok(LogResponseDTO.builder()
+                    .fileName(type)
+                    .page(page)
+                    .size(size)
+                    .totalLines(toInt(result.totalLines()))
+                    .totalFilteredLines(toInt(result.totalMatched()))
+                    .content(result.lines())
+                    .levelCounts(result.levelCounts())
+                    .build());
+        } catch (IOException e) {
+            log.error("로그 검색 중 오류 발생: type={}", type, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(LogResponseDTO.builder()
+                            .error("로그를 검색하는 중 오류가 발생했습니다.")
+                            .build());
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return ResponseEntity.badRequest()
+                    .body(LogResponseDTO.builder()
+                            .error(e.getMessage())
+                            .build());
+        }
+    }
+
+    /**
+     * 실시간 로그 tail (SSE)
+     * 마지막 lines줄을 먼저 보내고 이후 추가되는 줄을 "log" 이벤트로 전송합니다.
+     */
+    @GetMapping(value = "/{fileName}/tail", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> tailLog(
+            @PathVariable String fileName,
+            @RequestParam(defaultValue = "100") int lines) {
+
+        Path logFile = resolveLogFile(fileName);
+        if (logFile == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!Files.exists(logFile) || !Files.isRegularFile(logFile)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        try {
+            SseEmitter emitter = logTailStreamer.subscribe(logFile, Math.min(Math.max(lines, 0), 1000));
+            if (emitter == null) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+            }
+            return ResponseEntity.ok(emitter);
+        } catch (IOException e) {
+            log.error("로그 tail 시작 중 오류 발생: {}", fileName, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     /**
      * 로그 파일을 효율적으로 읽고 페이징 처리하는 메서드
+     * - 필터가 없으면 희소 라인 인덱스로 해당 페이지 줄만 바로 읽는다. (역방향은 끝에서부터 계산)
+     * - 필터가 있으면 파일을 한 번만 순회하며 일치 건수를 세고 해당 페이지만 보관한다.
      */
     private LogResponseDTO readLogFileWithPaging(
             Path logFile, int page, int size, String search, String level,
@@ -155,8 +234,9 @@ public class LogController {
             throw new IllegalArgumentException("잘못된 페이징 파라미터입니다. (0 ≤ page, 0 < size ≤ 1000)");
         }
 
-        long fileSize = Files.size(logFile);
-        if (fileSize == 0) {
+        LogFileReader.IndexSnapshot snapshot = logFileReader.snapshot(logFile);
+        long totalLines = snapshot.totalLines();
+        if (totalLines == 0) {
             return LogResponseDTO.builder()
                     .totalLines(0)
                     .totalFilteredLines(0)
@@ -164,108 +244,89 @@ public class LogController {
                     .build();
         }
 
-        // 역방향 읽기를 위한 설정
         List<LogLineDTO> resultLines = new ArrayList<>();
-        int foundLines = 0;
-        int totalFilteredLines = 0;
-
-        try (RandomAccessFile raf = new RandomAccessFile(logFile.toFile(), "r")) {
-            // 버퍼 크기 설정
-            final int BUFFER_SIZE = 8192;
-            byte[] buffer = new byte[BUFFER_SIZE];
-
-            // 로그 라인 시작 위치 추적
-            List<Long> linePositions = new ArrayList<>();
-            long position = 0;
-
-            // 로그 파일의 모든 라인 위치 인덱싱 (대용량 파일에서는 최적화 필요)
-            while (position < fileSize) {
-                linePositions.add(position);
-                raf.seek(position);
-                String line = raf.readLine();
-                if (line == null) break;
-
-                // UTF-8 처리를 위한 바이트 길이 계산
-                position += line.getBytes("UTF-8").length + 1; // +1 for newline
-            }
-
-            // 총 라인 수
-            int totalLines = linePositions.size();
-
-            // 필터링 및 페이징을 위한 처리
-            List<Integer> filteredLineIndices = new ArrayList<>();
-
-            for (int i = 0; i < totalLines; i++) {
-                int lineIndex = reverse ? totalLines - 1 - i : i;
-                long linePosition = linePositions.get(lineIndex);
-
-                raf.seek(linePosition);
-                String line = raf.readLine();
-                if (line == null) continue;
-
-                // 로그 라인 파싱
-                LogLineDTO logLine = parseLogLine(line);
-
-                // 필터 적용
-                if (matchesFilter(logLine, search, level, startTime, endTime)) {
-                    filteredLineIndices.add(lineIndex);
-                    totalFilteredLines++;
+        long skip = (long) page * size;
+        boolean filtered = StringUtils.hasText(search) || StringUtils.hasText(level)
+                || startTime != null || endTime != null;
+
+        if (!filtered) {
+            if (skip < totalLines) {
+                long from = reverse ? Math.max(0, totalLines - skip - size) : skip;
+                long to = reverse ? totalLines - skip : Math.min(totalLines, skip + size);
+                List<String> lines = logFileReader.readLines(logFile, from, (int) (to - from));
+                for (int i = 0; i < lines.size(); i++) {
+                    LogLineDTO logLine = LogFileReader.parseLine(lines.get(i));
+                    logLine.setLineNumber(toInt(from + i + 1)); // 1-based line number
+                    resultLines.add(logLine);
+                }
+                if (reverse) {
+                    Collections.reverse(resultLines);
                 }
             }
+            return LogResponseDTO.builder()
+                    .totalLines(toInt(totalLines))
+                    .totalFilteredLines(toInt(totalLines))
+                    .content(resultLines)
+                    .build();
+        }
 
-            // 페이징 적용
-            int startIndex = page * size;
-            int endIndex = Math.min(startIndex + size, filteredLineIndices.size());
-
-            if (startIndex < filteredLineIndices.size()) {
-                for (int i = startIndex; i < endIndex; i++) {
-                    int lineIndex = filteredLineIndices.get(i);
-                    long linePosition = linePositions.get(lineIndex);
-
-                    raf.seek(linePosition);
-                    String line = raf.readLine();
-                    if (line == null) continue;
+        // 검색 색인 대상 파일이면 시간/레벨 버킷 단위로 건너뛰며 조회 (필터 의미는 아래 단순 스캔과 동일)
+        if (logSearchIndex.isIndexed(logFile)) {
+            LogSearchIndex.SearchResult result = logSearchIndex.search(List.of(logFile),
+                    LogSearchIndex.LogQuery.perLine(search, level, startTime, endTime), reverse, skip, size);
+            return LogResponseDTO.builder()
+                    .totalLines(toInt(totalLines))
+                    .totalFilteredLines(toInt(result.totalMatched()))
+                    .content(result.lines())
+                    .levelCounts(result.levelCounts())
+                    .build();
+        }
 
-                    LogLineDTO logLine = parseLogLine(line);
-                    logLine.setLineNumber(lineIndex + 1); // 1-based line number
-                    resultLines.add(logLine);
-                }
+        String keyword = StringUtils.hasText(search) ? search.toLowerCase() : null;
+        long[] matched = {0};
+        logFileReader.scan(logFile, reverse, (lineNumber, line) -> {
+            // 비용이 싼 검색어 비교를 정규식 파싱보다 먼저
+            if (keyword != null && !line.toLowerCase().contains(keyword)) {
+                return true;
             }
-        }
+            LogLineDTO logLine = LogFileReader.parseLine(line);
+            if (!matchesFilter(logLine, null, level, startTime, endTime)) {
+                return true;
+            }
+            long rank = matched[0]++;
+            if (rank >= skip && rank < skip + size) {
+                logLine.setLineNumber(toInt(lineNumber + 1)); // 1-based line number
+                resultLines.add(logLine);
+            }
+            return true;
+        });
 
         return LogResponseDTO.builder()
-                .totalLines(foundLines)
-                .totalFilteredLines(totalFilteredLines)
+                .totalLines(toInt(totalLines))
+                .totalFilteredLines(toInt(matched[0]))
                 .content(resultLines)
                 .build();
     }
 
+    private static LocalDateTime parseDateTime(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        return LocalDateTime.parse(value, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+    }
+
+    private static int toInt(long value) {
+        return (int) Math.min(value, Integer.MAX_VALUE);
+    }
+
     /**
-     * 로그 라인을 파싱하여 구조화된 데이터로 변환
+     * 로그 파일 경로 확인 (경로 조작 시 null)
      */
-    private LogLineDTO parseLogLine(String line) {
-        Matcher matcher = LOG_PATTERN.matcher(line);
-        if (matcher.find()) {
-            String timestamp = matcher.group(1);
-            String thread = matcher.group(2);
-            String level = matcher.group(3);
-            String logger = matcher.group(4);
-            String message = matcher.group(5);
-
-            return LogLineDTO.builder()
-                    .timestamp(timestamp)
-                    .thread(thread)
-                    .level(level)
-                    .logger(logger)
-                    .message(message)
-                    .rawLine(line)
-                    .build();
-        } else {
-            // 패턴에 맞지 않는 라인은 원시 로그로 처리
-            return LogLineDTO.builder()
-                    .rawLine(line)
-                    .build();
+    private Path resolveLogFile(String fileName) {
+        if (fileName.contains("..") || fileName.contains("/") || fileName.contains("\\")) {
+            return null;
         }
+        return Paths.get(logDirectoryPath, fileName);
     }
 
     /**
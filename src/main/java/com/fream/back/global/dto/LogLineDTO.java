@@ -12,6 +12,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 public class LogLineDTO {
+    private String fileName; // 여러 파일 검색 시 출처 파일
     private int lineNumber;
     private String timestamp;
     private String thread;
@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 @Data
 @Builder
 @NoArgsConstructor
@@ -17,5 +18,6 @@ public class LogResponseDTO {
     private int totalLines;
     private int totalFilteredLines;
     private List<LogLineDTO> content;
+    private Map<String, Long> levelCounts; // 레벨별 일치 건수 (검색 색인 사용 시)
     private String error;
 }
@@ -19,4 +19,14 @@ public class commonDto {
         private int size;            // 페이지 당 개수
     }
 
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CursorPageDto<T> {
+        private List<T> content;      // 실제 데이터 목록
+        private String nextCursor;    // 다음 페이지 요청 시 after로 넘길 커서 (마지막 페이지면 null)
+        private boolean hasNext;      // 다음 페이지 존재 여부
+        private Long totalElements;   // 전체 개수 (첫 페이지에서 요청한 경우에만, 그 외 null)
+    }
+
 }
@@ -0,0 +1,24 @@
+package com.fream.back.global.exception;
+
+/**
+ * 중복 요청 예외
+ * 같은 멱등성 키의 요청이 아직 처리 중인 경우 사용
+ */
+public class DuplicateRequestException extends GlobalException {
+
+    /**
+     * 기본 메시지와 함께 예외 생성
+     */
+    public DuplicateRequestException() {
+        super(GlobalErrorCode.DUPLICATE_REQUEST_IN_PROGRESS);
+    }
+
+    /**
+     * 사용자 정의 메시지와 함께 예외 생성
+     *
+     * @param message 사용자 정의 에러 메시지
+     */
+    public DuplicateRequestException(String message) {
+        super(GlobalErrorCode.DUPLICATE_REQUEST_IN_PROGRESS, message);
+    }
+}
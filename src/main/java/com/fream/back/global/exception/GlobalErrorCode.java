@@ -111,7 +111,14 @@ public enum GlobalErrorCode implements ErrorCode {
      * 웹소켓 인증 오류 (401)
      * 웹소켓 연결 시 인증에 실패한 경우
      */
-    WEBSOCKET_AUTHENTICATION_ERROR("G031", "웹소켓 인증에 실패했습니다.", 401);
+    WEBSOCKET_AUTHENTICATION_ERROR("G031", "웹소켓 인증에 실패했습니다.", 401),
+
+    // 중복 요청 관련 에러
+    /**
+     * 중복 요청 처리 중 (409)
+     * 같은 멱등성 키의 요청이 아직 처리 중인 경우
+     */
+    DUPLICATE_REQUEST_IN_PROGRESS("G040", "동일한 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.", 409);
 
     private final String code;      // 에러 코드
     private final String message;   // 에러 메시지
@@ -0,0 +1,43 @@
+package com.fream.back.global.idempotency;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 멱등성 키 선점 결과
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class IdempotencyClaim {
+
+    public enum State {
+        ACQUIRED,    // 처리 권한을 얻음 (처리 후 complete 또는 release 필요)
+        IN_PROGRESS, // 같은 키의 요청이 처리 중
+        COMPLETED    // 이미 처리 완료 (저장된 결과 사용)
+    }
+
+    enum Backend {
+        REDIS,
+        DATABASE
+    }
+
+    private final String storeKey;
+    private final State state;
+    private final Backend backend;
+    private final String storedResponse; // COMPLETED일 때 저장된 결과 (JSON)
+    @Getter(AccessLevel.PACKAGE)
+    private final String token; // ACQUIRED일 때 이 선점의 소유자 토큰 (Redis: UUID, DB: 기록 ID)
+
+    public boolean isAcquired() {
+        return state == State.ACQUIRED;
+    }
+
+    public boolean isCompleted() {
+        return state == State.COMPLETED;
+    }
+
+    public boolean isInProgress() {
+        return state == State.IN_PROGRESS;
+    }
+}
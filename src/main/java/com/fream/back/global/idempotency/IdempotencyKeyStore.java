@@ -0,0 +1,311 @@
+package com.fream.back.global.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fream.back.global.exception.DuplicateRequestException;
+import com.fream.back.global.idempotency.IdempotencyClaim.Backend;
+import com.fream.back.global.idempotency.IdempotencyClaim.State;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 멱등성 키 저장소
+ *
+ * 클라이언트가 보낸 키나 이벤트 ID 단위로 "처리 중"과 "처리 완료(결과)"를 기록해,
+ * 같은 요청이 다시 들어오면 결제/DB 쓰기를 다시 하지 않고 저장된 결과를 돌려준다.
+ * - 기본 저장소는 Redis (SET NX로 처리 권한 선점, 완료 시 결과로 덮어씀)
+ *   선점 직후 상태를 읽으므로 복제 지연이 없도록 Primary 전용 템플릿을 사용한다.
+ * - Redis 장애 시 DB(idempotency_record, 키 유니크 제약)로 대체
+ * - 처리 중 기록은 TTL을 둬서 처리 도중 프로세스가 죽어도 일정 시간 뒤 다시 처리할 수 있다.
+ *   TTL은 최악의 처리 시간보다 길어야 한다. (짧으면 처리 중에 같은 요청이 다시 선점해 중복 처리됨)
+ * - 선점마다 소유자 토큰(UUID, DB는 기록 ID)을 두고, 완료/반납은 아직 그 토큰일 때만 반영한다.
+ *   처리 중 TTL이 지나 다른 요청이 다시 선점했다면 먼저 온 요청이 그 선점을 지우거나 덮어쓰지 않는다.
+ * - Redis 결과 저장에 실패해 DB에 남긴 결과는, Redis 처리 중 기록이 만료된 뒤의 선점에서 확인해 돌려준다.
+ *
+ * DB 대체 경로는 자체 트랜잭션으로 기록하므로 트랜잭션 밖에서 호출해야 한다.
+ */
+@Slf4j
+@Component
+public class IdempotencyKeyStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String IN_PROGRESS_PREFIX = "P:";
+    private static final String COMPLETED_PREFIX = "C:";
+
+    // ARGV: 처리 중 값(소유자 토큰 포함), 완료 값, TTL(ms)
+    // 아직 이 선점이거나 (TTL 만료로) 키가 없을 때만 결과 저장. 다른 요청의 선점/결과는 덮어쓰지 않음
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if current == ARGV[1] or not current then
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // ARGV: 처리 중 값(소유자 토큰 포함)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final IdempotencyRecordRepository recordRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration inProgressTtl;
+    private final Duration completedTtl;
+
+    public IdempotencyKeyStore(
+            @Qualifier("writeRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            IdempotencyRecordRepository recordRepository,
+            ObjectMapper objectMapper,
+            @Value("${idempotency.in-progress-ttl-seconds:300}") long inProgressTtlSeconds,
+            @Value("${idempotency.completed-ttl-hours:24}") long completedTtlHours) {
+        this.redisTemplate = redisTemplate;
+        this.recordRepository = recordRepository;
+        this.objectMapper = objectMapper;
+        this.inProgressTtl = Duration.ofSeconds(inProgressTtlSeconds);
+        this.completedTtl = Duration.ofHours(completedTtlHours);
+    }
+
+    /**
+     * 멱등성 키로 작업을 한 번만 실행합니다.
+     * 이미 완료된 키면 작업을 실행하지 않고 저장된 결과를 돌려주고, 작업이 실패하면 키를 풀어 다시 시도할 수 있게 합니다.
+     *
+     * @param scope 키 범위 (요청 종류, 사용자 등)
+     * @param key 멱등성 키
+     * @param resultType 결과 타입 (JSON으로 저장/복원)
+     * @param action 실행할 작업
+     * @return 작업 결과 또는 저장된 결과
+     * @throws DuplicateRequestException 같은 키의 요청이 처리 중인 경우
+     */
+    public <T> T execute(String scope, String key, Class<T> resultType, Supplier<T> action) {
+        IdempotencyClaim claim = claim(scope, key);
+        if (claim.isCompleted()) {
+            log.info("중복 요청 - 저장된 결과 반환: key={}", claim.getStoreKey());
+            return readResult(claim, resultType);
+        }
+        if (claim.isInProgress()) {
+            log.warn("중복 요청 - 처리 중: key={}", claim.getStoreKey());
+            throw new DuplicateRequestException();
+        }
+
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            release(claim);
+            throw e;
+        }
+        complete(claim, result);
+        return result;
+    }
+
+    /**
+     * 멱등성 키의 처리 권한을 선점합니다.
+     * ACQUIRED를 받은 경우 처리 후 반드시 complete 또는 release를 호출해야 합니다.
+     *
+     * @param scope 키 범위
+     * @param key 멱등성 키
+     * @return 선점 결과
+     */
+    public IdempotencyClaim claim(String scope, String key) {
+        String storeKey = KEY_PREFIX + scope + ":" + key;
+        try {
+            return claimInRedis(storeKey);
+        } catch (DataAccessException e) {
+            log.warn("Redis 멱등성 키 선점 실패, DB로 대체: key={}, 오류={}", storeKey, e.getMessage());
+            return claimInDatabase(storeKey);
+        }
+    }
+
+    /**
+     * 처리 완료를 기록합니다. 이후 같은 키의 요청은 이 결과를 받습니다.
+     *
+     * @param claim 선점 결과 (ACQUIRED)
+     * @param result 처리 결과 (JSON으로 저장)
+     */
+    public void complete(IdempotencyClaim claim, Object result) {
+        if (!claim.isAcquired()) {
+            return;
+        }
+        String response = writeResult(result);
+        if (claim.getBackend() == Backend.REDIS) {
+            try {
+                if (!completeInRedis(claim.getStoreKey(), IN_PROGRESS_PREFIX + claim.getToken(), response, completedTtl)) {
+                    log.warn("멱등성 선점이 만료되어 다른 요청이 처리 중, 결과 저장 생략: key={}", claim.getStoreKey());
+                }
+                return;
+            } catch (DataAccessException e) {
+                log.warn("Redis 멱등성 결과 저장 실패, DB로 대체: key={}, 오류={}", claim.getStoreKey(), e.getMessage());
+            }
+            completeInDatabase(claim.getStoreKey(), response);
+            return;
+        }
+        completeOwnDatabaseRecord(claim, response);
+    }
+
+    /**
+     * 처리 권한을 반납합니다. (처리 실패 시 같은 키로 다시 시도할 수 있게 함)
+     *
+     * @param claim 선점 결과 (ACQUIRED)
+     */
+    public void release(IdempotencyClaim claim) {
+        if (!claim.isAcquired()) {
+            return;
+        }
+        try {
+            if (claim.getBackend() == Backend.REDIS) {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(claim.getStoreKey()), IN_PROGRESS_PREFIX + claim.getToken());
+            } else {
+                recordRepository.deleteInProgressById(Long.valueOf(claim.getToken()));
+            }
+        } catch (DataAccessException e) {
+            // 반납하지 못해도 처리 중 TTL이 지나면 다시 처리할 수 있음
+            log.warn("멱등성 키 반납 실패: key={}, 오류={}", claim.getStoreKey(), e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 결과를 복원합니다.
+     *
+     * @param claim 선점 결과 (COMPLETED)
+     * @param resultType 결과 타입
+     * @return 저장된 결과
+     */
+    public <T> T readResult(IdempotencyClaim claim, Class<T> resultType) {
+        try {
+            return objectMapper.readValue(claim.getStoredResponse(), resultType);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.error("멱등성 결과 복원 실패: key={}, 오류={}", claim.getStoreKey(), e.getMessage());
+            throw new DuplicateRequestException("이미 처리된 요청입니다.");
+        }
+    }
+
+    /**
+     * 만료된 DB 멱등성 기록 정리
+     */
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:3600000}")
+    public void purgeExpiredRecords() {
+        try {
+            int deleted = recordRepository.deleteExpired(LocalDateTime.now());
+            if (deleted > 0) {
+                log.info("만료된 멱등성 기록 정리: {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("만료된 멱등성 기록 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private IdempotencyClaim claimInRedis(String storeKey) {
+        String token = UUID.randomUUID().toString();
+        String inProgressValue = IN_PROGRESS_PREFIX + token;
+        if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(storeKey, inProgressValue, inProgressTtl))) {
+            // Redis 결과 저장 실패로 DB에만 남은 결과가 있으면 다시 처리하지 않고 그 결과를 Redis에 옮겨 돌려줌
+            IdempotencyRecord stored = findCompletedInDatabase(storeKey).orElse(null);
+            if (stored != null) {
+                Duration remaining = Duration.between(LocalDateTime.now(), stored.getExpiresAt());
+                completeInRedis(storeKey, inProgressValue, stored.getResponse(),
+                        remaining.compareTo(Duration.ofSeconds(1)) > 0 ? remaining : Duration.ofSeconds(1));
+                return new IdempotencyClaim(storeKey, State.COMPLETED, Backend.REDIS, stored.getResponse(), null);
+            }
+            return new IdempotencyClaim(storeKey, State.ACQUIRED, Backend.REDIS, null, token);
+        }
+        String value = redisTemplate.opsForValue().get(storeKey);
+        if (value != null && value.startsWith(COMPLETED_PREFIX)) {
+            return new IdempotencyClaim(storeKey, State.COMPLETED, Backend.REDIS,
+                    value.substring(COMPLETED_PREFIX.length()), null);
+        }
+        // 처리 중이거나, 선점 직후 만료된 경우 (다음 요청부터 다시 선점 가능)
+        return new IdempotencyClaim(storeKey, State.IN_PROGRESS, Backend.REDIS, null, null);
+    }
+
+    private boolean completeInRedis(String storeKey, String inProgressValue, String response, Duration ttl) {
+        Long result = redisTemplate.execute(COMPLETE_SCRIPT, List.of(storeKey),
+                inProgressValue, COMPLETED_PREFIX + response, String.valueOf(ttl.toMillis()));
+        return result != null && result == 1L;
+    }
+
+    // DB에 남은 만료 전 완료 결과 (DB를 읽을 수 없으면 없는 것으로 보고 처리)
+    private Optional<IdempotencyRecord> findCompletedInDatabase(String storeKey) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            return recordRepository.findByIdempotencyKey(storeKey)
+                    .filter(record -> record.isCompleted() && !record.isExpired(now));
+        } catch (DataAccessException e) {
+            log.warn("DB 멱등성 결과 확인 실패: key={}, 오류={}", storeKey, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private IdempotencyClaim claimInDatabase(String storeKey) {
+        LocalDateTime now = LocalDateTime.now();
+        recordRepository.deleteExpiredByKey(storeKey, now);
+        try {
+            IdempotencyRecord claimed = recordRepository.saveAndFlush(IdempotencyRecord.builder()
+                    .idempotencyKey(storeKey)
+                    .completed(false)
+                    .expiresAt(now.plus(inProgressTtl))
+                    .build());
+            return new IdempotencyClaim(storeKey, State.ACQUIRED, Backend.DATABASE, null, String.valueOf(claimed.getId()));
+        } catch (DataIntegrityViolationException e) {
+            return recordRepository.findByIdempotencyKey(storeKey)
+                    .filter(IdempotencyRecord::isCompleted)
+                    .map(record -> new IdempotencyClaim(storeKey, State.COMPLETED, Backend.DATABASE, record.getResponse(), null))
+                    .orElseGet(() -> new IdempotencyClaim(storeKey, State.IN_PROGRESS, Backend.DATABASE, null, null));
+        }
+    }
+
+    // DB로 선점한 경우: 이 선점이 만든 기록일 때만 완료 처리 (만료 후 다른 요청이 다시 선점했으면 덮어쓰지 않음)
+    private void completeOwnDatabaseRecord(IdempotencyClaim claim, String response) {
+        try {
+            Optional<IdempotencyRecord> own = recordRepository.findById(Long.valueOf(claim.getToken()));
+            if (own.isEmpty()) {
+                log.warn("멱등성 선점이 만료되어 다른 요청이 처리 중, 결과 저장 생략: key={}", claim.getStoreKey());
+                return;
+            }
+            own.get().complete(response, LocalDateTime.now().plus(completedTtl));
+            recordRepository.save(own.get());
+        } catch (DataAccessException e) {
+            log.error("멱등성 결과 저장 실패: key={}, 오류={}", claim.getStoreKey(), e.getMessage());
+        }
+    }
+
+    private void completeInDatabase(String storeKey, String response) {
+        LocalDateTime expiresAt = LocalDateTime.now().plus(completedTtl);
+        try {
+            IdempotencyRecord record = recordRepository.findByIdempotencyKey(storeKey)
+                    .orElseGet(() -> IdempotencyRecord.builder().idempotencyKey(storeKey).build());
+            record.complete(response, expiresAt);
+            recordRepository.save(record);
+        } catch (DataAccessException e) {
+            // 결과를 남기지 못하면 처리 중 TTL 이후 같은 요청이 다시 처리될 수 있음 (각 처리의 상태 검증에 맡김)
+            log.error("멱등성 결과 저장 실패: key={}, 오류={}", storeKey, e.getMessage());
+        }
+    }
+
+    private String writeResult(Object result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("멱등성 결과를 JSON으로 변환할 수 없습니다.", e);
+        }
+    }
+}
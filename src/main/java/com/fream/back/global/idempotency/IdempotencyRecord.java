@@ -0,0 +1,52 @@
+package com.fream.back.global.idempotency;
+
+import com.fream.back.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등성 키 기록 (Redis를 쓸 수 없을 때의 대체 저장소)
+ * 키 유니크 제약으로 동시에 들어온 같은 요청 중 하나만 처리 권한을 얻는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "idempotency_record",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_record_key", columnNames = "idempotency_key"),
+        indexes = @Index(name = "idx_idempotency_record_expires_at", columnList = "expires_at"))
+public class IdempotencyRecord extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "idempotency_key", nullable = false, length = 255)
+    private String idempotencyKey; // 범위:키
+
+    @Column(nullable = false)
+    private boolean completed; // 처리 완료 여부 (false면 처리 중)
+
+    @Lob
+    @Column(columnDefinition = "TEXT")
+    private String response; // 처리 결과 (JSON)
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt; // 만료 시각 (이후에는 새 요청으로 취급)
+
+    public void complete(String response, LocalDateTime expiresAt) {
+        this.completed = true;
+        this.response = response;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+}
@@ -0,0 +1,120 @@
+package com.fream.back.global.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * "기한이 지난 행 만료" 일괄 실행기
+ *
+ * 대상을 batch-size건씩 잘라 배치마다 별도 트랜잭션에서
+ *   1. 기한이 지난 행을 ID 순으로 최대 batch-size건 잠금 조회 (ID 등 최소 컬럼만)
+ *   2. 그 ID들을 UPDATE ... WHERE id IN (...) AND 상태 조건 한 문장으로 만료
+ * 를 수행하고, 커밋 뒤에 만료된 대상으로 이벤트를 발행한다. 남은 대상이 없을 때까지 반복한다.
+ * 엔티티를 올려 변경 감지하지 않으므로 힙 사용량은 대상 수와 무관하게 배치 크기로 제한된다.
+ *
+ * 클러스터 잠금({@link ClusterLock})을 잡은 인스턴스 한 곳에서만 실행되며, 배치마다 잠금을 연장한다.
+ * 이벤트는 트랜잭션 밖에서 발행되므로 수신 측은 자체 트랜잭션으로 알림 등을 기록할 수 있다.
+ */
+@Slf4j
+@Component
+public class BulkExpiryExecutor {
+
+    private final ClusterLock clusterLock;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration lockLease;
+
+    public BulkExpiryExecutor(
+            ClusterLock clusterLock,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${expiry.batch-size:1000}") int batchSize,
+            @Value("${expiry.max-batches:1000}") int maxBatches,
+            @Value("${expiry.lock-lease-seconds:300}") long lockLeaseSeconds) {
+        this.clusterLock = clusterLock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatches = Math.max(1, maxBatches);
+        this.lockLease = Duration.ofSeconds(Math.max(1L, lockLeaseSeconds));
+    }
+
+    /**
+     * 기한이 지난 대상을 모두 만료시킵니다.
+     *
+     * @param name 작업 이름 (잠금 키, 로그에 사용)
+     * @param dueLoader 기한이 지난 대상을 최대 limit건 잠금 조회하는 함수
+     * @param expirer 조회한 대상을 만료시키고 만료된 행 수를 반환하는 함수
+     * @param eventFactory 커밋된 배치의 대상 → 발행할 이벤트 (null이면 발행하지 않음)
+     * @return 만료된 행 수, 다른 인스턴스가 실행 중이면 0
+     */
+    public <T> int expireAll(String name,
+                             IntFunction<List<T>> dueLoader,
+                             ToIntFunction<List<T>> expirer,
+                             Function<List<T>, Object> eventFactory) {
+        try (ClusterLock.Lease lease = clusterLock.tryAcquire("expiry:" + name, lockLease)) {
+            if (lease == null) {
+                log.info("만료 처리 건너뜀 (다른 인스턴스에서 실행 중): {}", name);
+                return 0;
+            }
+
+            int total = 0;
+            for (int batch = 1; batch <= maxBatches; batch++) {
+                BatchResult<T> result = transactionTemplate.execute(status -> {
+                    List<T> targets = dueLoader.apply(batchSize);
+                    int expired = targets.isEmpty() ? 0 : expirer.applyAsInt(targets);
+                    return new BatchResult<>(targets, expired);
+                });
+                if (result == null || result.targets().isEmpty()) {
+                    break;
+                }
+
+                total += result.expired();
+                publish(name, eventFactory, result.targets());
+                log.debug("만료 처리 배치 완료: {}, 배치={}, 대상={}건, 만료={}건", name, batch, result.targets().size(), result.expired());
+
+                // 마지막 배치이거나, 대상이 있는데 하나도 만료되지 않으면(조건 불일치) 반복하지 않음
+                if (result.targets().size() < batchSize || result.expired() == 0) {
+                    break;
+                }
+                if (!lease.extend()) {
+                    log.warn("만료 처리 잠금을 잃어 중단 (다음 실행에서 이어서 처리): {}", name);
+                    break;
+                }
+                if (batch == maxBatches) {
+                    log.warn("만료 처리 배치 수 한도 도달 (다음 실행에서 이어서 처리): {}, 한도={}", name, maxBatches);
+                }
+            }
+
+            log.info("만료 처리 완료: {}, 만료={}건", name, total);
+            return total;
+        }
+    }
+
+    private <T> void publish(String name, Function<List<T>, Object> eventFactory, List<T> targets) {
+        try {
+            Object event = eventFactory.apply(targets);
+            if (event != null) {
+                eventPublisher.publishEvent(event);
+            }
+        } catch (Exception e) {
+            // 만료는 이미 커밋됨. 이벤트(알림) 실패가 나머지 배치를 막지 않도록 기록만 남김
+            log.error("만료 이벤트 발행 실패: {}, 대상={}건, 오류={}", name, targets.size(), e.getMessage(), e);
+        }
+    }
+
+    private record BatchResult<T>(List<T> targets, int expired) {
+    }
+}
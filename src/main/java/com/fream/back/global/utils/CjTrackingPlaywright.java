@@ -2,116 +2,101 @@ package com.fream.back.global.utils;
 
 import com.fream.back.domain.shipment.exception.ShipmentErrorCode;
 import com.fream.back.domain.shipment.exception.ShipmentException;
-import com.microsoft.playwright.Browser;
-import com.microsoft.playwright.BrowserType;
 import com.microsoft.playwright.Page;
-import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.options.WaitUntilState;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.select.Elements;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 /**
  * CJ대한통운 배송 조회를 위한 Playwright 유틸리티 클래스
+ * 조회는 PlaywrightBrowserManager 워커 풀의 재사용 페이지에서 실행됩니다.
  */
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class CjTrackingPlaywright {
 
     private static final String TRACKING_URL_PREFIX = "https://trace.cjlogistics.com/next/tracking.html?wblNo=";
     private static final String STATUS_SELECTOR = "tbody#statusDetail tr";
-    private static final int SELECTOR_TIMEOUT_MS = 30000; // 30초
+
+    private final PlaywrightBrowserManager browserManager;
 
     /**
-     * 운송장 번호로 현재 배송 상태를 조회합니다.
+     * 운송장 번호로 현재 배송 상태를 조회합니다. (조회가 끝날 때까지 대기)
      *
      * @param trackingNumber 운송장 번호
      * @return 배송 상태 텍스트 (예: "배송완료", "배송출발")
      * @throws ShipmentException 배송 조회 실패 시 발생
      */
     public String getCurrentTrackingStatus(String trackingNumber) throws Exception {
+        try {
+            return getCurrentTrackingStatusAsync(trackingNumber).join();
+        } catch (CompletionException e) {
+            throw unwrap(e, trackingNumber);
+        }
+    }
+
+    /**
+     * 운송장 번호로 현재 배송 상태를 비동기로 조회합니다.
+     * 브라우저 워커 풀에서 실행되므로 여러 건을 동시에 요청하면 워커 수만큼 병렬로 조회됩니다.
+     *
+     * @param trackingNumber 운송장 번호
+     * @return 배송 상태 텍스트 (실패 시 ShipmentException으로 완료)
+     */
+    public CompletableFuture<String> getCurrentTrackingStatusAsync(String trackingNumber) {
         if (trackingNumber == null || trackingNumber.isBlank()) {
             log.warn("유효하지 않은 운송장 번호: {}", trackingNumber);
-            throw new ShipmentException(ShipmentErrorCode.TRACKING_NUMBER_INVALID);
+            return CompletableFuture.failedFuture(new ShipmentException(ShipmentErrorCode.TRACKING_NUMBER_INVALID));
         }
 
-        log.info("CJ대한통운 배송 상태 조회 시작: 운송장 번호 = {}", trackingNumber);
-
-        Playwright playwright = null;
-        Browser browser = null;
-        Page page = null;
+        log.info("CJ대한통운 배송 상태 조회 요청: 운송장 번호 = {}", trackingNumber);
 
         try {
-            // 1) Playwright 객체 생성
-            log.debug("Playwright 인스턴스 생성");
-            playwright = Playwright.create();
-
-            // 2) Chromium 브라우저를 headless 모드로 실행
-            log.debug("Chromium 브라우저 시작 (headless 모드)");
-            browser = playwright.chromium().launch(
-                    new BrowserType.LaunchOptions()
-                            .setHeadless(true)
-                            .setSlowMo(100)
-            );
-
-            page = browser.newPage();
-
-            // 3) 해당 URL로 이동
-            String url = TRACKING_URL_PREFIX + trackingNumber;
-            log.debug("배송 조회 페이지로 이동: {}", url);
-            page.navigate(url);
-
-            // 4) 자바스크립트로 tbody#statusDetail이 채워질 때까지 대기
-            log.debug("배송 상태 테이블 로드 대기 (최대 {}ms)", SELECTOR_TIMEOUT_MS);
-            page.setDefaultTimeout(SELECTOR_TIMEOUT_MS);
-            page.waitForSelector(STATUS_SELECTOR);
-
-            // 5) 최종 렌더링된 HTML 문자열 추출
-            log.debug("페이지 HTML 로드");
-            String renderedHtml = page.content();
-
-            // 6) Jsoup으로 파싱
-            log.debug("HTML 파싱 시작");
-            String statusText = parseStatusFromHtml(renderedHtml, trackingNumber);
-            log.info("배송 상태 파싱 완료: 운송장={}, 상태={}", trackingNumber, statusText);
-
-            return statusText;
-
-        } catch (Exception e) {
-            log.error("배송 상태 조회 실패: 운송장={}, 오류={}", trackingNumber, e.getMessage(), e);
-
-            if (e instanceof ShipmentException) {
-                throw e;
-            }
-
-            throw new ShipmentException(
-                    ShipmentErrorCode.EXTERNAL_TRACKING_SERVICE_ERROR,
-                    "CJ대한통운 배송 조회 중 오류 발생: " + e.getMessage(),
-                    e
-            );
-        } finally {
-            // 리소스 해제
-            log.debug("리소스 해제 시작");
-
-            try {
-                if (page != null) {
-                    page.close();
-                }
-
-                if (browser != null) {
-                    browser.close();
-                }
-
-                if (playwright != null) {
-                    playwright.close();
+            return browserManager.submit(page -> {
+                // 1) 해당 URL로 이동 (DOM 구성까지만 대기, 이후 테이블은 선택자로 대기)
+                String url = TRACKING_URL_PREFIX + trackingNumber;
+                log.debug("배송 조회 페이지로 이동: {}", url);
+                page.navigate(url, new Page.NavigateOptions().setWaitUntil(WaitUntilState.DOMCONTENTLOADED));
+
+                // 2) 자바스크립트로 tbody#statusDetail이 채워질 때까지 대기 (페이지 기본 타임아웃 적용)
+                page.waitForSelector(STATUS_SELECTOR);
+
+                // 3) 최종 렌더링된 HTML 문자열 추출 후 Jsoup으로 파싱
+                String statusText = parseStatusFromHtml(page.content(), trackingNumber);
+                log.info("배송 상태 파싱 완료: 운송장={}, 상태={}", trackingNumber, statusText);
+                return statusText;
+            }).handle((statusText, error) -> {
+                if (error != null) {
+                    throw unwrap(error, trackingNumber);
                 }
+                return statusText;
+            });
+        } catch (ShipmentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 
-                log.debug("리소스 해제 완료");
-            } catch (Exception e) {
-                log.warn("리소스 해제 중 오류 발생: {}", e.getMessage());
-            }
+    /**
+     * 조회 중 발생한 예외를 ShipmentException으로 정리합니다.
+     */
+    private ShipmentException unwrap(Throwable error, String trackingNumber) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof ShipmentException shipmentException) {
+            return shipmentException;
         }
+        log.error("배송 상태 조회 실패: 운송장={}, 오류={}", trackingNumber, cause.getMessage(), cause);
+        return new ShipmentException(
+                ShipmentErrorCode.EXTERNAL_TRACKING_SERVICE_ERROR,
+                "CJ대한통운 배송 조회 중 오류 발생: " + cause.getMessage(),
+                cause
+        );
     }
 
     /**
@@ -0,0 +1,110 @@
+package com.fream.back.global.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 여러 인스턴스 중 한 곳에서만 작업을 실행하기 위한 Redis 잠금
+ *
+ * SET NX PX로 잠금을 잡고 소유자 토큰을 값으로 둔다. 연장/해제는 토큰이 같을 때만 수행하므로
+ * 임대 시간이 지나 다른 인스턴스가 잡은 잠금을 지우지 않는다.
+ * 긴 작업은 진행 중에 {@link Lease#extend()}로 임대 시간을 늘린다.
+ */
+@Slf4j
+@Component
+public class ClusterLock {
+
+    private static final String KEY_PREFIX = "lock:";
+
+    // ARGV: 토큰
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    // ARGV: 토큰, 임대 시간(ms)
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public ClusterLock(@Qualifier("writeRedisTemplate") RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 잠금을 시도합니다. 기다리지 않습니다.
+     *
+     * @param name 잠금 이름
+     * @param leaseTime 임대 시간 (해제/연장 없이 이 시간이 지나면 자동 해제)
+     * @return 잡은 잠금, 다른 인스턴스가 잡고 있거나 Redis를 사용할 수 없으면 null
+     */
+    public Lease tryAcquire(String name, Duration leaseTime) {
+        String key = KEY_PREFIX + name;
+        String token = UUID.randomUUID().toString();
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, leaseTime))) {
+                return new Lease(key, token, leaseTime);
+            }
+            log.debug("다른 인스턴스가 잠금 보유 중: {}", key);
+        } catch (Exception e) {
+            log.warn("잠금 획득 실패: key={}, 오류={}", key, e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * 잡은 잠금 (try-with-resources로 해제)
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final String key;
+        private final String token;
+        private final Duration leaseTime;
+
+        private Lease(String key, String token, Duration leaseTime) {
+            this.key = key;
+            this.token = token;
+            this.leaseTime = leaseTime;
+        }
+
+        /**
+         * 임대 시간을 처음 길이만큼 다시 늘립니다.
+         *
+         * @return 아직 이 인스턴스가 잠금을 보유하고 있으면 true
+         */
+        public boolean extend() {
+            try {
+                Long result = redisTemplate.execute(EXTEND_SCRIPT, List.of(key),
+                        token, String.valueOf(leaseTime.toMillis()));
+                return result != null && result == 1L;
+            } catch (Exception e) {
+                log.warn("잠금 연장 실패: key={}, 오류={}", key, e.getMessage());
+                return false;
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+            } catch (Exception e) {
+                log.warn("잠금 해제 실패 (임대 시간 후 자동 해제): key={}, 오류={}", key, e.getMessage());
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.fream.back.global.exception.file.DirectoryCreationException;
 import com.fream.back.global.exception.file.FileNotFoundException;
 import com.fream.back.global.exception.file.FileUploadException;
 import com.fream.back.global.exception.file.UnsupportedFileTypeException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
@@ -21,6 +22,7 @@ import java.util.UUID;
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class FileUtils {
 
     // 서버에서 파일을 저장할 루트 디렉토리 (배포환경 경로)
@@ -28,6 +30,8 @@ public class FileUtils {
 //    private static final String BASE_DIR = "C:\\Users\\pickj\\webserver\\dockerVolums\\fream";
 //    private static final String BASE_DIR = "C:/Users/pickj/webserver/dockerVolums/fream";
 
+    private final ImageVariantGenerator imageVariantGenerator;
+
     /**
      * 파일 존재 여부 확인
      *
@@ -107,6 +111,11 @@ public class FileUtils {
             file.transferTo(filePath.toFile());
             log.info("파일 저장 완료: 경로={}, 크기={}bytes", filePath, file.getSize());
 
+            // 6) 이미지면 리사이즈 파생본 생성 예약 (비동기)
+            if (contentType.startsWith("image/")) {
+                imageVariantGenerator.submit(filePath);
+            }
+
             // 반환: DB 등에 저장될 "uniqueFilename" (ex: "thumbnail_abc123.jpg")
             return uniqueFilename;
         } catch (UnsupportedFileTypeException | DirectoryCreationException e) {
@@ -140,6 +149,7 @@ public class FileUtils {
         }
 
         boolean deleted = file.delete();
+        imageVariantGenerator.deleteVariants(file.toPath());
         if (deleted) {
             log.info("파일 삭제 성공: {}", file.getAbsolutePath());
         } else {
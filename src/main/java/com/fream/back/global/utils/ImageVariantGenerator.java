@@ -0,0 +1,311 @@
+package com.fream.back.global.utils;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지 파생본(리사이즈 썸네일) 생성기
+ *
+ * 원본 저장 직후 제한된 워커 풀에서 비동기로 설정된 너비별 축소본을 만든다.
+ * - 파일명 규칙: "thumbnail_abc.jpg" -> "thumbnail_abc_w320.jpg" (같은 디렉토리)
+ * - WebP writer가 등록되어 있으면 WebP, 없으면 JPEG(불투명)/PNG(투명)로 저장
+ * - 큐가 가득 차면 작업을 버린다. 파생본이 없으면 원본이 그대로 서빙되므로 기능상 문제는 없다.
+ * - 원본보다 작지 않은 너비는 만들지 않는다.
+ */
+@Slf4j
+@Component
+public class ImageVariantGenerator {
+
+    private static final String VARIANT_MARKER = "_w";
+
+    private final boolean enabled;
+    private final int[] widths;
+    private final float quality;
+    private final ThreadPoolExecutor executor;
+    private final boolean webpSupported;
+
+    public ImageVariantGenerator(
+            @Value("${file.image-variant.enabled:true}") boolean enabled,
+            @Value("${file.image-variant.widths:320,640,1080}") int[] widths,
+            @Value("${file.image-variant.quality:0.82}") float quality,
+            @Value("${file.image-variant.pool-size:2}") int poolSize,
+            @Value("${file.image-variant.queue-capacity:200}") int queueCapacity) {
+        this.enabled = enabled;
+        this.widths = Arrays.stream(widths).filter(w -> w > 0).sorted().distinct().toArray();
+        this.quality = quality;
+        this.webpSupported = ImageIO.getImageWritersByFormatName("webp").hasNext();
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "image-variant-" + threadIndex.incrementAndGet());
+                    t.setDaemon(true);
+                    t.setPriority(Thread.NORM_PRIORITY - 1);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        log.info("이미지 파생본 생성기 초기화: enabled={}, widths={}, webp={}, poolSize={}, queueCapacity={}",
+                enabled, Arrays.toString(this.widths), webpSupported, poolSize, queueCapacity);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 원본 이미지의 파생본 생성을 예약
+     *
+     * @param original 저장이 완료된 원본 파일 경로
+     */
+    public void submit(Path original) {
+        if (!enabled || widths.length == 0 || outputFormat(original) == null) {
+            return;
+        }
+        try {
+            executor.execute(() -> generate(original));
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 파생본 작업 큐가 가득 차 생성을 건너뜀: {}", original);
+        }
+    }
+
+    /**
+     * 요청 너비를 만족하는 가장 작은 파생본 경로 반환
+     *
+     * @param original       원본 파일 경로
+     * @param requestedWidth 요청 너비 (px)
+     * @return 존재하는 파생본 경로, 맞는 파생본이 없으면 원본 경로
+     */
+    public Path resolve(Path original, int requestedWidth) {
+        for (int width : widths) {
+            if (width < requestedWidth) {
+                continue;
+            }
+            for (String ext : candidateExtensions()) {
+                Path variant = variantPath(original, width, ext);
+                if (Files.isRegularFile(variant)) {
+                    return variant;
+                }
+            }
+            // 원본이 이 너비보다 작아 파생본이 없으면 더 큰 파생본도 없다
+            break;
+        }
+        return original;
+    }
+
+    /**
+     * 이미지 URL의 srcset 값 생성 (예: "url?w=320 320w, url?w=640 640w, url?w=1080 1080w")
+     * 각 항목은 {@link #resolve}로 가장 가까운 파생본(없으면 원본)이 서빙된다.
+     *
+     * @param url 원본 이미지 URL (쿼리 문자열이 있으면 w를 이어 붙인다)
+     * @return srcset 문자열, 파생본 대상이 아니면(동영상, GIF, 생성 비활성) null
+     */
+    public String srcset(String url) {
+        if (!enabled || widths.length == 0 || url == null || url.isBlank()) {
+            return null;
+        }
+        int dotIndex = url.lastIndexOf('.');
+        String ext = dotIndex == -1 ? "" : url.substring(dotIndex + 1).toLowerCase(Locale.ROOT);
+        if (outputFormat(ext) == null) {
+            return null;
+        }
+        String separator = url.indexOf('?') == -1 ? "?" : "&";
+        StringBuilder srcset = new StringBuilder();
+        for (int width : widths) {
+            if (!srcset.isEmpty()) {
+                srcset.append(", ");
+            }
+            srcset.append(url).append(separator).append("w=").append(width).append(' ').append(width).append('w');
+        }
+        return srcset.toString();
+    }
+
+    /**
+     * 원본에 딸린 파생본 파일 삭제
+     *
+     * @param original 원본 파일 경로
+     */
+    public void deleteVariants(Path original) {
+        for (int width : widths) {
+            for (String ext : candidateExtensions()) {
+                try {
+                    Files.deleteIfExists(variantPath(original, width, ext));
+                } catch (IOException e) {
+                    log.warn("이미지 파생본 삭제 실패: original={}, width={}", original, width, e);
+                }
+            }
+        }
+    }
+
+    void generate(Path original) {
+        long start = System.currentTimeMillis();
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            if (input == null) {
+                return;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                log.debug("이미지 파생본 생성 불가 (reader 없음): {}", original);
+                return;
+            }
+            ImageReader reader = readers.next();
+            BufferedImage source;
+            try {
+                reader.setInput(input, true, true);
+                int sourceWidth = reader.getWidth(0);
+
+                List<Integer> targets = new ArrayList<>();
+                for (int width : widths) {
+                    if (width < sourceWidth) {
+                        targets.add(width);
+                    }
+                }
+                if (targets.isEmpty()) {
+                    return;
+                }
+
+                // 대용량 원본은 디코딩 단계에서 서브샘플링해 힙 사용량을 줄인다 (가장 큰 대상의 2배 이상 해상도 유지)
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, sourceWidth / (targets.get(targets.size() - 1) * 2));
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                source = reader.read(0, param);
+                String format = outputFormat(original);
+                boolean alpha = source.getColorModel().hasAlpha();
+                if (!webpSupported && "jpg".equals(format) && alpha) {
+                    format = "png";
+                }
+
+                // 큰 너비부터 줄여가며 이전 결과를 다음 입력으로 사용
+                BufferedImage current = source;
+                for (int i = targets.size() - 1; i >= 0; i--) {
+                    int width = targets.get(i);
+                    current = resize(current, width, alpha && !"jpg".equals(format));
+                    write(current, variantPath(original, width, format), format);
+                }
+            } finally {
+                reader.dispose();
+            }
+            log.debug("이미지 파생본 생성 완료: {}, {}ms", original, System.currentTimeMillis() - start);
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 파생본 생성 실패: {}", original, e);
+        }
+    }
+
+    private BufferedImage resize(BufferedImage source, int width, boolean keepAlpha) {
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        BufferedImage target = new BufferedImage(width, height,
+                keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            if (!keepAlpha) {
+                // 투명 영역은 흰 배경으로
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, width, height);
+            }
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private void write(BufferedImage image, Path target, String format) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+        if (!writers.hasNext()) {
+            log.warn("이미지 writer 없음: format={}", format);
+            return;
+        }
+        ImageWriter writer = writers.next();
+        // 임시 파일에 쓴 뒤 이동해 서빙 중에 반쯤 쓰인 파일이 노출되지 않게 한다
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed() && !"png".equals(format)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                String[] types = param.getCompressionTypes();
+                if (types != null && types.length > 0 && param.getCompressionType() == null) {
+                    param.setCompressionType(types[0]);
+                }
+                param.setCompressionQuality(quality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 파생본 출력 포맷 (null이면 파생본 대상 아님)
+     * GIF는 애니메이션이 깨지므로 제외한다.
+     */
+    private String outputFormat(Path original) {
+        return outputFormat(extension(original));
+    }
+
+    private String outputFormat(String ext) {
+        if (!ext.equals("jpg") && !ext.equals("jpeg") && !ext.equals("png") && !ext.equals("bmp")
+                && !ext.equals("webp")) {
+            return null;
+        }
+        if (webpSupported) {
+            return "webp";
+        }
+        return ext.equals("png") ? "png" : "jpg";
+    }
+
+    private List<String> candidateExtensions() {
+        return webpSupported ? List.of("webp", "jpg", "png") : List.of("jpg", "png");
+    }
+
+    static Path variantPath(Path original, int width, String extension) {
+        String fileName = original.getFileName().toString();
+        int dotIndex = fileName.lastIndexOf('.');
+        String base = dotIndex == -1 ? fileName : fileName.substring(0, dotIndex);
+        return original.resolveSibling(base + VARIANT_MARKER + width + "." + extension);
+    }
+
+    private static String extension(Path path) {
+        String fileName = path.getFileName().toString();
+        int dotIndex = fileName.lastIndexOf('.');
+        return dotIndex == -1 ? "" : fileName.substring(dotIndex + 1).toLowerCase(Locale.ROOT);
+    }
+}
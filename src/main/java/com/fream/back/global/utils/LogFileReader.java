@@ -0,0 +1,342 @@
+package com.fream.back.global.utils;
+
+import com.fream.back.global.dto.LogLineDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 로그 파일 리더
+ *
+ * 파일마다 N줄 간격의 시작 오프셋(체크포인트)만 저장하는 희소 라인 인덱스를 메모리에 유지한다.
+ * - 인덱스는 요청 시 마지막으로 색인한 위치 이후만 추가로 스캔한다. (파일이 교체/축소되면 처음부터 재구성)
+ * - 특정 줄 범위는 가장 가까운 체크포인트로 이동해 최대 N줄만 건너뛰고 읽는다.
+ * - 역방향 스캔은 끝 구간부터 체크포인트 단위로 거슬러 올라간다.
+ * - 파일 내용은 FileChannel 메모리 매핑으로 읽는다.
+ */
+@Slf4j
+@Component
+public class LogFileReader {
+
+    // 로그 레벨을 파악하기 위한 패턴 (로그 형식에 맞게 조정 필요)
+    private static final Pattern LOG_PATTERN = Pattern.compile(
+            "(\\d{4}-\\d{2}-\\d{2}\\s\\d{2}:\\d{2}:\\d{2}\\.\\d{3})\\s+"   // 타임스탬프 그룹
+                    + "\\[(.*?)\\]\\s+"                                           // 스레드 이름 그룹
+                    + "(ERROR|WARN|INFO|DEBUG|TRACE)\\s+"                         // 로그 레벨 그룹
+                    + "(.*?)\\s+-\\s+"                                            // 로거 이름 그룹
+                    + "(.*)");                                                    // 메시지 그룹
+
+    // 한 번에 매핑할 최대 크기
+    private static final int MAP_WINDOW = 16 * 1024 * 1024;
+    private static final int MAX_WINDOW = Integer.MAX_VALUE - 8;
+
+    private final int checkpointInterval;
+    private final Map<Path, SparseLineIndex> indexes = new ConcurrentHashMap<>();
+
+    public LogFileReader(@Value("${log-viewer.index.checkpoint-interval:1024}") int checkpointInterval) {
+        this.checkpointInterval = Math.max(1, checkpointInterval);
+    }
+
+    /**
+     * 줄 단위 콜백
+     */
+    @FunctionalInterface
+    public interface LineVisitor {
+        /**
+         * @param lineNumber 0부터 시작하는 줄 번호
+         * @param line       개행 문자를 제외한 줄 내용
+         * @return 계속 읽으려면 true
+         */
+        boolean visit(long lineNumber, String line);
+    }
+
+    /**
+     * 인덱스 스냅샷
+     *
+     * @param checkpoints    checkpoints[k] = (k * interval)번째 줄의 시작 오프셋
+     * @param completeLines  개행으로 끝난 줄 수
+     * @param indexedBytes   마지막 개행 다음 오프셋
+     * @param size           스냅샷 시점의 파일 크기
+     */
+    public record IndexSnapshot(long[] checkpoints, long completeLines, long indexedBytes, long size) {
+        /**
+         * 전체 줄 수 (개행 없이 끝난 마지막 줄 포함)
+         */
+        public long totalLines() {
+            return completeLines + (size > indexedBytes ? 1 : 0);
+        }
+    }
+
+    /**
+     * 인덱스를 최신 상태로 갱신하고 스냅샷 반환
+     */
+    public IndexSnapshot snapshot(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return refresh(file, channel);
+        }
+    }
+
+    /**
+     * [fromLine, fromLine + count) 범위의 줄을 순서대로 반환
+     */
+    public List<String> readLines(Path file, long fromLine, int count) throws IOException {
+        List<String> lines = new ArrayList<>(Math.max(0, count));
+        if (count <= 0) {
+            return lines;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            IndexSnapshot snapshot = refresh(file, channel);
+            if (fromLine >= snapshot.totalLines()) {
+                return lines;
+            }
+            int checkpoint = (int) (fromLine / checkpointInterval);
+            long checkpointLine = (long) checkpoint * checkpointInterval;
+            long toLine = fromLine + count;
+            scanRange(channel, snapshot.checkpoints()[checkpoint], checkpointLine, snapshot.size(),
+                    (lineNumber, line) -> {
+                        if (lineNumber >= fromLine) {
+                            lines.add(line);
+                        }
+                        return lineNumber + 1 < toLine;
+                    });
+        }
+        return lines;
+    }
+
+    /**
+     * 파일 전체를 한 줄씩 순회
+     *
+     * @param reverse true면 마지막 줄부터 역순으로 순회
+     */
+    public void scan(Path file, boolean reverse, LineVisitor visitor) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            IndexSnapshot snapshot = refresh(file, channel);
+            if (!reverse) {
+                scanRange(channel, 0, 0, snapshot.size(), visitor);
+                return;
+            }
+
+            long[] checkpoints = snapshot.checkpoints();
+            for (int k = checkpoints.length - 1; k >= 0; k--) {
+                long start = checkpoints[k];
+                long end = k + 1 < checkpoints.length ? checkpoints[k + 1] : snapshot.size();
+                if (start >= end) {
+                    continue;
+                }
+                List<String> segment = new ArrayList<>(checkpointInterval);
+                scanRange(channel, start, 0, end, (lineNumber, line) -> segment.add(line));
+
+                long firstLine = (long) k * checkpointInterval;
+                for (int i = segment.size() - 1; i >= 0; i--) {
+                    if (!visitor.visit(firstLine + i, segment.get(i))) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * offset부터 개행으로 끝난 줄만 최대 maxLines개 읽는다. (tail용)
+     *
+     * @param offset    읽기 시작 오프셋 (줄 시작 위치)
+     * @param firstLine offset 위치 줄의 번호
+     * @return 다음 읽기 시작 오프셋
+     */
+    public long readCompleteLines(Path file, long offset, long firstLine, int maxLines,
+                                  LineVisitor visitor) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            IndexSnapshot snapshot = refresh(file, channel);
+            if (offset >= snapshot.indexedBytes()) {
+                return offset;
+            }
+            return scanRange(channel, offset, firstLine, snapshot.indexedBytes(),
+                    (lineNumber, line) -> visitor.visit(lineNumber, line)
+                            && lineNumber - firstLine + 1 < maxLines);
+        }
+    }
+
+    /**
+     * 완결된 줄 번호의 시작 오프셋 (완결 줄 수 이상이면 마지막 개행 다음 오프셋)
+     */
+    public long offsetOfLine(Path file, long line) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            IndexSnapshot snapshot = refresh(file, channel);
+            if (line >= snapshot.completeLines()) {
+                return snapshot.indexedBytes();
+            }
+            int checkpoint = (int) (line / checkpointInterval);
+            long checkpointLine = (long) checkpoint * checkpointInterval;
+            long checkpointOffset = snapshot.checkpoints()[checkpoint];
+            if (checkpointLine == line) {
+                return checkpointOffset;
+            }
+            // 직전 줄까지 읽으면 반환 오프셋이 line의 시작 위치
+            return scanRange(channel, checkpointOffset, checkpointLine, snapshot.indexedBytes(),
+                    (lineNumber, text) -> lineNumber + 1 < line);
+        }
+    }
+
+    /**
+     * 로그 라인을 파싱하여 구조화된 데이터로 변환
+     */
+    public static LogLineDTO parseLine(String line) {
+        Matcher matcher = LOG_PATTERN.matcher(line);
+        if (matcher.find()) {
+            return LogLineDTO.builder()
+                    .timestamp(matcher.group(1))
+                    .thread(matcher.group(2))
+                    .level(matcher.group(3))
+                    .logger(matcher.group(4))
+                    .message(matcher.group(5))
+                    .rawLine(line)
+                    .build();
+        }
+        // 패턴에 맞지 않는 라인은 원시 로그로 처리
+        return LogLineDTO.builder()
+                .rawLine(line)
+                .build();
+    }
+
+    /**
+     * 삭제된 파일의 인덱스 정리 (롤링으로 지워진 파일)
+     */
+    @Scheduled(fixedDelay = 3600000)
+    public void evictDeletedFiles() {
+        indexes.keySet().removeIf(path -> !Files.exists(path));
+    }
+
+    private IndexSnapshot refresh(Path file, FileChannel channel) throws IOException {
+        Object fileKey = Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+        SparseLineIndex index = indexes.computeIfAbsent(
+                file.toAbsolutePath().normalize(), p -> new SparseLineIndex());
+        return index.refresh(channel, fileKey, checkpointInterval);
+    }
+
+    /**
+     * [start, end) 구간을 줄 단위로 읽는다.
+     *
+     * @return 마지막으로 방문한 줄의 다음 오프셋
+     */
+    private static long scanRange(FileChannel channel, long start, long firstLine, long end,
+                                  LineVisitor visitor) throws IOException {
+        long lineNumber = firstLine;
+        long position = start;
+        int window = MAP_WINDOW;
+
+        while (position < end) {
+            int length = (int) Math.min(window, end - position);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            boolean lastWindow = position + length >= end;
+
+            int lineStart = 0;
+            for (int i = 0; i < length; i++) {
+                if (buffer.get(i) == '\n') {
+                    boolean proceed = visitor.visit(lineNumber++, decode(buffer, lineStart, i));
+                    lineStart = i + 1;
+                    if (!proceed) {
+                        return position + lineStart;
+                    }
+                }
+            }
+
+            if (lastWindow) {
+                // 개행 없이 끝난 마지막 줄
+                if (lineStart < length) {
+                    visitor.visit(lineNumber, decode(buffer, lineStart, length));
+                    return position + length;
+                }
+                return position + lineStart;
+            }
+
+            if (lineStart == 0) {
+                // 한 줄이 창보다 길면 창을 키워 다시 매핑
+                if (window == MAX_WINDOW) {
+                    visitor.visit(lineNumber++, decode(buffer, 0, length));
+                    position += length;
+                } else {
+                    window = (int) Math.min((long) window * 2, MAX_WINDOW);
+                }
+                continue;
+            }
+            position += lineStart;
+        }
+        return position;
+    }
+
+    private static String decode(MappedByteBuffer buffer, int from, int to) {
+        if (to > from && buffer.get(to - 1) == '\r') {
+            to--;
+        }
+        byte[] bytes = new byte[to - from];
+        buffer.get(from, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 파일별 희소 라인 인덱스
+     */
+    private static class SparseLineIndex {
+
+        private Object fileKey;
+        private long[] checkpoints = new long[]{0L};
+        private int checkpointCount = 1;
+        private long completeLines;
+        private long indexedBytes;
+
+        synchronized IndexSnapshot refresh(FileChannel channel, Object currentKey, int interval) throws IOException {
+            long size = channel.size();
+            if (!Objects.equals(fileKey, currentKey) || size < indexedBytes) {
+                // 파일이 롤링으로 교체되었거나 잘렸으면 처음부터
+                fileKey = currentKey;
+                checkpoints = new long[]{0L};
+                checkpointCount = 1;
+                completeLines = 0;
+                indexedBytes = 0;
+            }
+
+            long position = indexedBytes;
+            while (position < size) {
+                int length = (int) Math.min(MAP_WINDOW, size - position);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                for (int i = 0; i < length; i++) {
+                    if (buffer.get(i) == '\n') {
+                        completeLines++;
+                        indexedBytes = position + i + 1;
+                        if (completeLines % interval == 0) {
+                            addCheckpoint(indexedBytes);
+                        }
+                    }
+                }
+                position += length;
+            }
+
+            return new IndexSnapshot(Arrays.copyOf(checkpoints, checkpointCount), completeLines, indexedBytes, size);
+        }
+
+        private void addCheckpoint(long offset) {
+            if (checkpointCount == checkpoints.length) {
+                checkpoints = Arrays.copyOf(checkpoints, checkpoints.length * 2);
+            }
+            checkpoints[checkpointCount++] = offset;
+        }
+    }
+}
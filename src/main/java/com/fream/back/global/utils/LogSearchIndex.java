@@ -0,0 +1,890 @@
+package com.fream.back.global.utils;
+
+import com.fream.back.global.dto.LogLineDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 로그 검색 인덱스
+ *
+ * logback.xml의 로그 파일(활성 파일 + 날짜별 롤링 파일)을 버킷 단위로 나누어 색인한다.
+ * - 버킷: 시간 창(bucket-minutes) 또는 줄 수(bucket-lines) 단위의 연속 줄 구간
+ * - 버킷마다 시간 범위, 레벨별 줄 수, 토큰 블룸 필터를 보관한다.
+ * - 검색 시 시간 범위/블룸 필터로 관련 없는 버킷은 읽지 않고,
+ *   버킷 전체가 조건에 들어오면 레벨별 줄 수만으로 건수와 페이지 위치를 계산한다.
+ * - 타임스탬프가 없는 줄(스택트레이스 등)은 직전 로그 항목의 시간/레벨을 따른다.
+ *   단, 파일 뷰어 호환 조건({@link LogQuery#perLine})에서는 기존 뷰어처럼 이런 줄이 시간/레벨 조건을 항상 통과한다.
+ *
+ * 색인은 백그라운드에서 주기적으로 증분 갱신되며, 검색 직전에도 새로 추가된 부분만 반영한다.
+ * 전체 색인 크기가 max-index-bytes를 넘으면 오래 사용하지 않은 파일부터 블룸 필터를 버리고,
+ * 그래도 넘으면 파일 색인 자체를 버린다. (다음 검색 때 다시 만든다)
+ */
+@Slf4j
+@Component
+public class LogSearchIndex {
+
+    public static final String[] LEVELS = {"ERROR", "WARN", "INFO", "DEBUG", "TRACE"};
+    private static final int OTHER = LEVELS.length;
+    private static final String OTHER_LEVEL = "OTHER";
+
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final int MAX_TOKEN_LENGTH = 64;
+
+    // 블룸 필터를 제외한 버킷 하나의 대략적인 힙 사용량 (레코드 + 레벨별 줄 수 배열)
+    private static final long BUCKET_OVERHEAD_BYTES = 160;
+
+    // {type}.log 또는 {type}.yyyy-MM-dd.log
+    private static final Pattern FILE_PATTERN = Pattern.compile("^(.+?)(?:\\.(\\d{4}-\\d{2}-\\d{2}))?\\.log$");
+
+    private final LogFileReader logFileReader;
+    private final String logDirectoryPath;
+    private final Set<String> indexedTypes;
+    private final int bucketLines;
+    private final int bucketMinutes;
+    private final int bloomBitsPerToken;
+    private final int maxBloomBits;
+    private final long maxIndexBytes;
+
+    private final Map<Path, FileIndex> indexes = new ConcurrentHashMap<>();
+    private final AtomicLong indexedBytes = new AtomicLong();
+    // 파일 색인 사용 순서 (LRU 판단용)
+    private final AtomicLong accessClock = new AtomicLong();
+    private final Object budgetLock = new Object();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final ExecutorService indexer = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "log-search-indexer");
+        t.setDaemon(true);
+        t.setPriority(Thread.MIN_PRIORITY);
+        return t;
+    });
+
+    public LogSearchIndex(
+            LogFileReader logFileReader,
+            @Value("${logging.file.path:/path/to/springlog}") String logDirectoryPath,
+            @Value("${log-viewer.search.types:application,error,security,file-utils}") List<String> indexedTypes,
+            @Value("${log-viewer.search.bucket-lines:8192}") int bucketLines,
+            @Value("${log-viewer.search.bucket-minutes:10}") int bucketMinutes,
+            @Value("${log-viewer.search.bloom-bits-per-token:10}") int bloomBitsPerToken,
+            @Value("${log-viewer.search.max-bloom-bytes:65536}") int maxBloomBytes,
+            @Value("${log-viewer.search.max-index-bytes:67108864}") long maxIndexBytes) {
+        this.logFileReader = logFileReader;
+        this.logDirectoryPath = logDirectoryPath;
+        this.indexedTypes = new HashSet<>(indexedTypes);
+        this.bucketLines = Math.max(1, bucketLines);
+        this.bucketMinutes = Math.max(1, Math.min(60, bucketMinutes));
+        this.bloomBitsPerToken = Math.max(1, bloomBitsPerToken);
+        this.maxBloomBits = Math.max(64, maxBloomBytes * 8);
+        this.maxIndexBytes = Math.max(0, maxIndexBytes);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexer.shutdownNow();
+    }
+
+    /**
+     * 검색 조건
+     *
+     * @param keyword    소문자 검색어 (null이면 조건 없음)
+     * @param tokens     토큰 일치 모드의 검색 토큰 (null이면 부분 문자열 일치)
+     * @param levelIndex 레벨 인덱스 (-1이면 조건 없음)
+     * @param from       시작 시각 (yyyyMMddHHmmssSSS, -1이면 조건 없음)
+     * @param to         종료 시각 (yyyyMMddHHmmssSSS, -1이면 조건 없음)
+     * @param perLine    true면 시간/레벨 조건을 줄 자신의 값으로만 판단하고, 타임스탬프가 없는 줄은 통과시킨다.
+     *                   false면 타임스탬프가 없는 줄이 직전 로그 항목의 시간/레벨을 따른다.
+     */
+    public record LogQuery(String keyword, List<String> tokens, int levelIndex, long from, long to,
+                           boolean perLine) {
+
+        /**
+         * @param tokenMatch true면 검색어를 단어(토큰) 단위로 일치시키고 블룸 필터로 버킷을 건너뛴다.
+         *                   false면 기존 뷰어와 같은 부분 문자열 일치 (블룸 필터 미사용)
+         */
+        public static LogQuery of(String search, boolean tokenMatch, String level,
+                                  LocalDateTime startTime, LocalDateTime endTime) {
+            return of(search, tokenMatch, level, startTime, endTime, false);
+        }
+
+        /**
+         * 파일 뷰어(/{fileName}) 호환 조건
+         * 부분 문자열 일치이며, 스택트레이스 등 타임스탬프가 없는 줄은 기존 뷰어처럼 시간/레벨 조건을 항상 통과한다.
+         */
+        public static LogQuery perLine(String search, String level,
+                                       LocalDateTime startTime, LocalDateTime endTime) {
+            return of(search, false, level, startTime, endTime, true);
+        }
+
+        private static LogQuery of(String search, boolean tokenMatch, String level,
+                                   LocalDateTime startTime, LocalDateTime endTime, boolean perLine) {
+            String keyword = search == null || search.isBlank() ? null : search.toLowerCase(Locale.ROOT);
+            List<String> tokens = null;
+            if (keyword != null && tokenMatch) {
+                List<String> collected = new ArrayList<>();
+                tokenize(keyword, collected::add);
+                tokens = collected.isEmpty() ? null : collected;
+            }
+            int levelIndex = level == null || level.isBlank() ? -1 : LogSearchIndex.levelIndex(level.toUpperCase(Locale.ROOT));
+            if (level != null && !level.isBlank() && levelIndex == OTHER) {
+                throw new IllegalArgumentException("지원하지 않는 로그 레벨입니다: " + level);
+            }
+            return new LogQuery(keyword, tokens, levelIndex,
+                    startTime == null ? -1 : encode(startTime),
+                    endTime == null ? -1 : encode(endTime), perLine);
+        }
+
+        boolean hasTimeRange() {
+            return from >= 0 || to >= 0;
+        }
+
+        // 줄 단위 조건에서 타임스탬프 없는 줄이 들어 있는 버킷은 시간/레벨만으로 판단할 수 없다
+        boolean needsLineCheck(Bucket bucket) {
+            return perLine && bucket.continuationLines() > 0 && (levelIndex >= 0 || hasTimeRange());
+        }
+
+        boolean matchesTime(long time) {
+            if (!hasTimeRange()) {
+                return true;
+            }
+            return time >= 0 && (from < 0 || time >= from) && (to < 0 || time <= to);
+        }
+
+        boolean matchesKeyword(String line) {
+            if (keyword == null) {
+                return true;
+            }
+            String lower = line.toLowerCase(Locale.ROOT);
+            if (tokens == null) {
+                return lower.contains(keyword);
+            }
+            for (String token : tokens) {
+                if (!containsToken(lower, token)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 검색 결과
+     *
+     * @param lines       요청 페이지의 줄
+     * @param totalLines  대상 파일 전체 줄 수 (색인 기준)
+     * @param totalMatched 조건에 맞는 전체 줄 수
+     * @param levelCounts 레벨 조건을 제외한 나머지 조건에 맞는 레벨별 줄 수
+     */
+    public record SearchResult(List<LogLineDTO> lines, long totalLines, long totalMatched,
+                               Map<String, Long> levelCounts) {
+    }
+
+    /**
+     * 색인 대상 파일인지 확인
+     */
+    public boolean isIndexed(Path file) {
+        Matcher matcher = FILE_PATTERN.matcher(file.getFileName().toString());
+        return matcher.matches() && indexedTypes.contains(matcher.group(1));
+    }
+
+    /**
+     * 색인 대상 로그 종류인지 확인 (application, error, ...)
+     */
+    public boolean isIndexedType(String type) {
+        return indexedTypes.contains(type);
+    }
+
+    /**
+     * 로그 종류별 파일 목록 (오래된 롤링 파일 -> 활성 파일 순)
+     */
+    public List<Path> filesOf(String type) throws IOException {
+        Path directory = Paths.get(logDirectoryPath);
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> stream = Files.list(directory)) {
+            return stream
+                    .filter(Files::isRegularFile)
+                    .filter(path -> {
+                        Matcher matcher = FILE_PATTERN.matcher(path.getFileName().toString());
+                        return matcher.matches() && matcher.group(1).equals(type);
+                    })
+                    .sorted(Comparator.comparing(LogSearchIndex::rollingDate))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * 색인 대상 파일 전체 증분 갱신 (백그라운드)
+     */
+    @Scheduled(initialDelayString = "${log-viewer.search.initial-delay-ms:60000}",
+            fixedDelayString = "${log-viewer.search.refresh-interval-ms:30000}")
+    public void scheduleRefresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        indexer.execute(() -> {
+            try {
+                refreshAll();
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+
+    void refreshAll() {
+        indexes.forEach((path, index) -> {
+            if (!Files.exists(path)) {
+                discard(path, index);
+            }
+        });
+        for (String type : indexedTypes) {
+            try {
+                for (Path file : filesOf(type)) {
+                    buckets(file);
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("로그 검색 색인 갱신 실패: type={}, reason={}", type, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 여러 파일에 걸친 검색
+     *
+     * @param files   오래된 순으로 정렬된 파일 목록
+     * @param reverse true면 최신 줄부터
+     * @param skip    건너뛸 일치 줄 수 (page * size)
+     * @param size    페이지 크기
+     */
+    public SearchResult search(List<Path> files, LogQuery query, boolean reverse, long skip, int size)
+            throws IOException {
+        List<Path> ordered = new ArrayList<>(files);
+        if (reverse) {
+            Collections.reverse(ordered);
+        }
+
+        long[] facets = new long[LEVELS.length + 1];
+        long[] rank = {0};
+        long totalLines = 0;
+        List<LogLineDTO> page = new ArrayList<>();
+
+        for (Path file : ordered) {
+            List<Bucket> buckets = new ArrayList<>(buckets(file));
+            if (reverse) {
+                Collections.reverse(buckets);
+            }
+            String fileName = file.getFileName().toString();
+
+            for (Bucket bucket : buckets) {
+                totalLines += bucket.lineCount();
+
+                boolean lineCheck = query.needsLineCheck(bucket);
+
+                // 1) 시간 범위 밖 버킷은 건너뜀
+                if (query.hasTimeRange() && !lineCheck && !bucket.overlaps(query.from(), query.to())) {
+                    continue;
+                }
+                // 2) 검색 토큰 중 하나라도 블룸 필터에 없으면 건너뜀 (메모리 상한으로 블룸 필터를 버린 버킷은 스캔)
+                if (query.tokens() != null && bucket.bloom() != null
+                        && !bucket.bloom().mightContainAll(query.tokens())) {
+                    continue;
+                }
+
+                // 3) 버킷 전체가 조건을 만족하면 줄 수만으로 집계
+                boolean needScan = query.keyword() != null || lineCheck
+                        || (query.hasTimeRange() && !bucket.within(query.from(), query.to()));
+                if (!needScan) {
+                    for (int i = 0; i < facets.length; i++) {
+                        facets[i] += bucket.levelCounts()[i];
+                    }
+                    long matched = query.levelIndex() < 0
+                            ? bucket.lineCount() : bucket.levelCounts()[query.levelIndex()];
+                    if (rank[0] + matched <= skip || rank[0] >= skip + size) {
+                        rank[0] += matched;
+                        continue;
+                    }
+                }
+
+                // 4) 버킷 내용 스캔
+                scanBucket(file, bucket, reverse, (line, lineNumber, level, time, continuation) -> {
+                    boolean lenient = query.perLine() && continuation;
+                    if ((!lenient && !query.matchesTime(time)) || !query.matchesKeyword(line)) {
+                        return;
+                    }
+                    if (needScan) {
+                        facets[level]++;
+                    }
+                    if (!lenient && query.levelIndex() >= 0 && query.levelIndex() != level) {
+                        return;
+                    }
+                    long r = rank[0]++;
+                    if (r >= skip && r < skip + size) {
+                        LogLineDTO logLine = LogFileReader.parseLine(line);
+                        logLine.setLineNumber((int) Math.min(lineNumber + 1, Integer.MAX_VALUE));
+                        logLine.setFileName(fileName);
+                        page.add(logLine);
+                    }
+                });
+            }
+        }
+
+        Map<String, Long> levelCounts = new LinkedHashMap<>();
+        for (int i = 0; i < LEVELS.length; i++) {
+            levelCounts.put(LEVELS[i], facets[i]);
+        }
+        if (facets[OTHER] > 0) {
+            levelCounts.put(OTHER_LEVEL, facets[OTHER]);
+        }
+        return new SearchResult(page, totalLines, rank[0], levelCounts);
+    }
+
+    @FunctionalInterface
+    private interface BucketLineVisitor {
+        /**
+         * @param level        유효 레벨 (타임스탬프가 없는 줄은 직전 로그 항목의 레벨)
+         * @param time         유효 시각
+         * @param continuation 줄 자체에 타임스탬프가 없는지 여부
+         */
+        void visit(String line, long lineNumber, int level, long time, boolean continuation);
+    }
+
+    private void scanBucket(Path file, Bucket bucket, boolean reverse, BucketLineVisitor visitor) throws IOException {
+        List<String> lines = new ArrayList<>(bucket.lineCount());
+        logFileReader.readCompleteLines(file, bucket.startOffset(), bucket.startLine(), bucket.lineCount(),
+                (lineNumber, line) -> lines.add(line));
+
+        int count = lines.size();
+        int[] levels = new int[count];
+        long[] times = new long[count];
+        boolean[] continuations = new boolean[count];
+        int level = bucket.startLevel();
+        long time = bucket.startTime();
+        for (int i = 0; i < count; i++) {
+            String line = lines.get(i);
+            long entryTime = parseTime(line);
+            if (entryTime >= 0) {
+                time = entryTime;
+                level = parseLevel(line);
+            }
+            levels[i] = level;
+            times[i] = time;
+            continuations[i] = entryTime < 0;
+        }
+
+        for (int n = 0; n < count; n++) {
+            int i = reverse ? count - 1 - n : n;
+            visitor.visit(lines.get(i), bucket.startLine() + i, levels[i], times[i], continuations[i]);
+        }
+    }
+
+    /**
+     * 파일의 버킷 목록 (새로 추가된 부분만 색인 후 반환)
+     */
+    List<Bucket> buckets(Path file) throws IOException {
+        Path key = file.toAbsolutePath().normalize();
+        while (true) {
+            FileIndex index = indexes.computeIfAbsent(key, p -> new FileIndex());
+            List<Bucket> result;
+            boolean grown;
+            synchronized (index) {
+                if (index.evicted) {
+                    // 메모리 상한으로 방금 버려진 색인이면 새로 만든다
+                    continue;
+                }
+                Object fileKey = Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+                long size = Files.size(file);
+                if (!Objects.equals(fileKey, index.fileKey) || size < index.sealedEndOffset) {
+                    index.reset(fileKey);
+                }
+                if (size != index.lastSize) {
+                    extend(file, index);
+                    index.lastSize = size;
+                }
+                index.lastAccess = accessClock.incrementAndGet();
+                grown = account(index) > 0;
+
+                result = new ArrayList<>(index.sealed.size() + 1);
+                result.addAll(index.sealed);
+                if (index.tail != null) {
+                    result.add(index.tail);
+                }
+            }
+            if (grown && indexedBytes.get() > maxIndexBytes) {
+                enforceBudget(index);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 전체 색인 크기 (바이트 추정치)
+     */
+    long indexedBytes() {
+        return indexedBytes.get();
+    }
+
+    // 파일 색인 크기를 다시 계산해 전체 합계에 반영하고 증감분 반환 (index 락 보유 상태에서 호출)
+    private long account(FileIndex index) {
+        long bytes = 0;
+        for (Bucket bucket : index.sealed) {
+            bytes += bucket.estimatedBytes();
+        }
+        if (index.tail != null) {
+            bytes += index.tail.estimatedBytes();
+        }
+        long delta = bytes - index.bytes;
+        index.bytes = bytes;
+        indexedBytes.addAndGet(delta);
+        return delta;
+    }
+
+    private void discard(Path path, FileIndex index) {
+        if (!indexes.remove(path, index)) {
+            return;
+        }
+        synchronized (index) {
+            index.evicted = true;
+            indexedBytes.addAndGet(-index.bytes);
+            index.bytes = 0;
+        }
+    }
+
+    /**
+     * 메모리 상한 적용
+     * 1) 오래 사용하지 않은 파일부터 블룸 필터 해제 (시간/레벨 건너뛰기는 유지되고 검색어 조건만 스캔으로 처리)
+     * 2) 그래도 넘으면 오래 사용하지 않은 파일 색인 해제
+     * 3) 방금 사용한 파일 하나만으로 넘으면 그 파일의 오래된 버킷부터 블룸 필터 해제
+     */
+    private void enforceBudget(FileIndex current) {
+        synchronized (budgetLock) {
+            List<Map.Entry<Path, FileIndex>> others = indexes.entrySet().stream()
+                    .filter(entry -> entry.getValue() != current)
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccess))
+                    .collect(Collectors.toList());
+
+            for (Map.Entry<Path, FileIndex> entry : others) {
+                if (indexedBytes.get() <= maxIndexBytes) {
+                    return;
+                }
+                dropBlooms(entry.getValue());
+            }
+            for (Map.Entry<Path, FileIndex> entry : others) {
+                if (indexedBytes.get() <= maxIndexBytes) {
+                    return;
+                }
+                discard(entry.getKey(), entry.getValue());
+                log.debug("로그 검색 색인 해제 (메모리 상한): file={}", entry.getKey().getFileName());
+            }
+            if (indexedBytes.get() > maxIndexBytes) {
+                dropBlooms(current);
+            }
+            if (indexedBytes.get() > maxIndexBytes) {
+                log.warn("로그 검색 색인이 메모리 상한을 넘었습니다: 색인={}bytes, 상한={}bytes",
+                        indexedBytes.get(), maxIndexBytes);
+            }
+        }
+    }
+
+    // 오래된 버킷부터 블룸 필터를 버림 (증분 색인 중인 tail은 다음 갱신 때 다시 만들어지므로 제외)
+    private void dropBlooms(FileIndex index) {
+        synchronized (index) {
+            for (int i = 0; i < index.sealed.size() && indexedBytes.get() > maxIndexBytes; i++) {
+                Bucket bucket = index.sealed.get(i);
+                if (bucket.bloom() != null) {
+                    Bucket stripped = bucket.withoutBloom();
+                    index.sealed.set(i, stripped);
+                    long delta = stripped.estimatedBytes() - bucket.estimatedBytes();
+                    index.bytes += delta;
+                    indexedBytes.addAndGet(delta);
+                }
+            }
+        }
+    }
+
+    private void extend(Path file, FileIndex index) throws IOException {
+        long started = System.currentTimeMillis();
+        int sealedBefore = index.sealed.size();
+        index.tail = null;
+
+        while (true) {
+            BucketBuilder builder = new BucketBuilder(index.sealedLines, index.sealedEndOffset,
+                    index.carryLevel, index.carryTime);
+            long nextOffset = logFileReader.readCompleteLines(
+                    file, index.sealedEndOffset, index.sealedLines, bucketLines, builder::accept);
+            if (builder.lineCount == 0) {
+                break;
+            }
+            Bucket bucket = builder.build(nextOffset);
+            if (!builder.closed) {
+                // 아직 채워지지 않은 마지막 버킷은 다음 갱신 때 다시 만든다
+                index.tail = bucket;
+                break;
+            }
+            index.sealed.add(bucket);
+            index.sealedEndOffset = nextOffset;
+            index.sealedLines += builder.lineCount;
+            index.carryLevel = builder.level;
+            index.carryTime = builder.time;
+        }
+
+        int added = index.sealed.size() - sealedBefore;
+        if (added > 0) {
+            log.debug("로그 검색 색인 갱신: file={}, 추가 버킷={}, 전체 버킷={}, {}ms",
+                    file.getFileName(), added, index.sealed.size(), System.currentTimeMillis() - started);
+        }
+    }
+
+    /**
+     * 색인 버킷
+     *
+     * @param startLevel 버킷 시작 시점의 유효 레벨 (직전 로그 항목의 레벨)
+     * @param startTime  버킷 시작 시점의 유효 시각
+     * @param minTime    버킷 내 유효 시각 최소값 (-1이면 시각 있는 줄 없음)
+     * @param hasUntimed 유효 시각이 없는 줄(파일 첫 로그 항목 이전의 줄) 포함 여부
+     * @param continuationLines 줄 자체에 타임스탬프가 없는 줄 수 (스택트레이스 등)
+     * @param bloom      토큰 블룸 필터 (메모리 상한으로 버려졌으면 null)
+     */
+    record Bucket(long startLine, int lineCount, long startOffset, long endOffset,
+                  int startLevel, long startTime, long minTime, long maxTime, boolean hasUntimed,
+                  int continuationLines, long[] levelCounts, TokenBloom bloom) {
+
+        Bucket withoutBloom() {
+            return new Bucket(startLine, lineCount, startOffset, endOffset, startLevel, startTime,
+                    minTime, maxTime, hasUntimed, continuationLines, levelCounts, null);
+        }
+
+        long estimatedBytes() {
+            return BUCKET_OVERHEAD_BYTES + (bloom == null ? 0 : bloom.estimatedBytes());
+        }
+
+        boolean overlaps(long from, long to) {
+            return minTime >= 0 && (from < 0 || maxTime >= from) && (to < 0 || minTime <= to);
+        }
+
+        boolean within(long from, long to) {
+            // 시각 없는 줄은 시간 조건에 맞지 않으므로 스캔 필요
+            return minTime >= 0 && !hasUntimed
+                    && (from < 0 || minTime >= from) && (to < 0 || maxTime <= to);
+        }
+    }
+
+    private class BucketBuilder {
+        private final long startLine;
+        private final long startOffset;
+        private final int startLevel;
+        private final long startTime;
+        private final long[] levelCounts = new long[LEVELS.length + 1];
+        private final Set<String> tokens = new HashSet<>();
+
+        private int level;
+        private long time;
+        private long minTime = -1;
+        private long maxTime = -1;
+        private long window = -1;
+        private boolean hasUntimed;
+        private int continuationLines;
+        private int lineCount;
+        private boolean closed;
+
+        BucketBuilder(long startLine, long startOffset, int startLevel, long startTime) {
+            this.startLine = startLine;
+            this.startOffset = startOffset;
+            this.startLevel = startLevel;
+            this.startTime = startTime;
+            this.level = startLevel;
+            this.time = startTime;
+        }
+
+        boolean accept(long lineNumber, String line) {
+            long entryTime = parseTime(line);
+            if (entryTime >= 0) {
+                time = entryTime;
+                level = parseLevel(line);
+            } else {
+                continuationLines++;
+            }
+            levelCounts[level]++;
+            lineCount++;
+            if (time >= 0) {
+                minTime = minTime < 0 ? time : Math.min(minTime, time);
+                maxTime = Math.max(maxTime, time);
+            } else {
+                hasUntimed = true;
+            }
+            tokenize(line.toLowerCase(Locale.ROOT), tokens::add);
+
+            if (lineCount >= bucketLines) {
+                closed = true;
+                return false;
+            }
+            if (entryTime >= 0) {
+                long entryWindow = windowOf(entryTime);
+                if (window < 0) {
+                    window = entryWindow;
+                } else if (entryWindow != window) {
+                    // 시간 창이 바뀐 첫 줄까지 포함하고 닫는다
+                    closed = true;
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Bucket build(long endOffset) {
+            return new Bucket(startLine, lineCount, startOffset, endOffset, startLevel, startTime,
+                    minTime, maxTime, hasUntimed, continuationLines, levelCounts, TokenBloom.of(tokens, bloomBitsPerToken, maxBloomBits));
+        }
+    }
+
+    private long windowOf(long time) {
+        // yyyyMMddHHmmssSSS -> yyyyMMddHH * 100 + (mm / bucketMinutes)
+        long minuteKey = time / 100000;
+        long hourKey = minuteKey / 100;
+        int minute = (int) (minuteKey % 100);
+        return hourKey * 100 + minute / bucketMinutes;
+    }
+
+    private static class FileIndex {
+        private Object fileKey;
+        private final List<Bucket> sealed = new ArrayList<>();
+        private long sealedEndOffset;
+        private long sealedLines;
+        private int carryLevel = OTHER;
+        private long carryTime = -1;
+        private Bucket tail;
+        private long lastSize = -1;
+        // 메모리 상한 관리용
+        private long bytes;
+        private volatile long lastAccess;
+        private boolean evicted;
+
+        void reset(Object fileKey) {
+            this.fileKey = fileKey;
+            sealed.clear();
+            sealedEndOffset = 0;
+            sealedLines = 0;
+            carryLevel = OTHER;
+            carryTime = -1;
+            tail = null;
+            lastSize = -1;
+        }
+    }
+
+    /**
+     * 토큰 블룸 필터 (FNV-1a 64bit 기반 이중 해싱)
+     */
+    static final class TokenBloom {
+        private final long[] bits;
+        private final int numBits;
+        private final int hashCount;
+
+        private TokenBloom(int numBits, int hashCount) {
+            this.numBits = numBits;
+            this.hashCount = hashCount;
+            this.bits = new long[(numBits + 63) / 64];
+        }
+
+        static TokenBloom of(Set<String> tokens, int bitsPerToken, int maxBits) {
+            long wanted = Math.max(64L, (long) tokens.size() * bitsPerToken);
+            int numBits = (int) Math.min(wanted, maxBits);
+            int hashCount = Math.max(1, Math.min(8, (int) Math.round(bitsPerToken * Math.log(2))));
+            TokenBloom bloom = new TokenBloom(numBits, hashCount);
+            for (String token : tokens) {
+                bloom.put(token);
+            }
+            return bloom;
+        }
+
+        void put(String token) {
+            long hash = hash(token);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                int bit = Math.floorMod(h1 + i * h2, numBits);
+                bits[bit >>> 6] |= 1L << bit;
+            }
+        }
+
+        boolean mightContain(String token) {
+            // 색인하지 않는 길이의 토큰은 판단 불가
+            if (token.length() < MIN_TOKEN_LENGTH || token.length() > MAX_TOKEN_LENGTH) {
+                return true;
+            }
+            long hash = hash(token);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                int bit = Math.floorMod(h1 + i * h2, numBits);
+                if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        long estimatedBytes() {
+            return 16L + bits.length * 8L;
+        }
+
+        boolean mightContainAll(List<String> tokens) {
+            for (String token : tokens) {
+                if (!mightContain(token)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long hash(String token) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < token.length(); i++) {
+                hash ^= token.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+    }
+
+    /**
+     * 문자/숫자 연속 구간을 토큰으로 분리 (입력은 소문자)
+     */
+    static void tokenize(String lowerText, Consumer<String> sink) {
+        int start = -1;
+        int length = lowerText.length();
+        for (int i = 0; i <= length; i++) {
+            boolean tokenChar = i < length && Character.isLetterOrDigit(lowerText.charAt(i));
+            if (tokenChar) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                int tokenLength = i - start;
+                if (tokenLength >= MIN_TOKEN_LENGTH && tokenLength <= MAX_TOKEN_LENGTH) {
+                    sink.accept(lowerText.substring(start, i));
+                }
+                start = -1;
+            }
+        }
+    }
+
+    /**
+     * 소문자 줄에 토큰이 단어 경계로 포함되어 있는지 확인
+     */
+    static boolean containsToken(String lowerLine, String token) {
+        int from = 0;
+        while (true) {
+            int index = lowerLine.indexOf(token, from);
+            if (index < 0) {
+                return false;
+            }
+            int end = index + token.length();
+            boolean startBoundary = index == 0 || !Character.isLetterOrDigit(lowerLine.charAt(index - 1));
+            boolean endBoundary = end == lowerLine.length() || !Character.isLetterOrDigit(lowerLine.charAt(end));
+            if (startBoundary && endBoundary) {
+                return true;
+            }
+            from = index + 1;
+        }
+    }
+
+    /**
+     * "yyyy-MM-dd HH:mm:ss.SSS"로 시작하는 줄의 시각을 yyyyMMddHHmmssSSS 정수로 변환 (없으면 -1)
+     */
+    static long parseTime(String line) {
+        if (line.length() < 23) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = 0; i < 23; i++) {
+            char c = line.charAt(i);
+            switch (i) {
+                case 4, 7 -> {
+                    if (c != '-') return -1;
+                }
+                case 10 -> {
+                    if (c != ' ') return -1;
+                }
+                case 13, 16 -> {
+                    if (c != ':') return -1;
+                }
+                case 19 -> {
+                    if (c != '.') return -1;
+                }
+                default -> {
+                    if (c < '0' || c > '9') return -1;
+                    value = value * 10 + (c - '0');
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * "[thread] LEVEL" 부분의 레벨 인덱스 (없으면 OTHER)
+     */
+    static int parseLevel(String line) {
+        int bracket = line.indexOf("] ", 23);
+        if (bracket < 0) {
+            return OTHER;
+        }
+        int start = bracket + 2;
+        while (start < line.length() && line.charAt(start) == ' ') {
+            start++;
+        }
+        int end = start;
+        while (end < line.length() && line.charAt(end) != ' ') {
+            end++;
+        }
+        return levelIndex(line.substring(start, end));
+    }
+
+    static int levelIndex(String level) {
+        for (int i = 0; i < LEVELS.length; i++) {
+            if (LEVELS[i].equals(level)) {
+                return i;
+            }
+        }
+        return OTHER;
+    }
+
+    static long encode(LocalDateTime time) {
+        return (((((time.getYear() * 100L + time.getMonthValue()) * 100L + time.getDayOfMonth()) * 100L
+                + time.getHour()) * 100L + time.getMinute()) * 100L + time.getSecond()) * 1000L
+                + time.getNano() / 1_000_000;
+    }
+
+    private static String rollingDate(Path path) {
+        Matcher matcher = FILE_PATTERN.matcher(path.getFileName().toString());
+        // 활성 파일은 가장 최신
+        return matcher.matches() && matcher.group(2) != null ? matcher.group(2) : "9999-99-99";
+    }
+}
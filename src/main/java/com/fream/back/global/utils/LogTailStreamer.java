@@ -0,0 +1,164 @@
+package com.fream.back.global.utils;
+
+import com.fream.back.global.dto.LogLineDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그 파일 실시간 tail (SSE)
+ *
+ * 구독마다 마지막으로 보낸 오프셋을 기억하고, 주기적으로 새로 추가된 완결 줄만 "log" 이벤트로 보낸다.
+ * 파일이 롤링으로 교체되거나 잘리면 새 파일의 처음부터 다시 따라간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LogTailStreamer {
+
+    private static final long HEARTBEAT_INTERVAL_MS = 15000;
+
+    private final LogFileReader logFileReader;
+
+    @Value("${log-viewer.tail.max-subscribers:10}")
+    private int maxSubscribers;
+
+    @Value("${log-viewer.tail.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${log-viewer.tail.max-lines-per-poll:500}")
+    private int maxLinesPerPoll;
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    /**
+     * tail 구독 시작
+     *
+     * @param file         로그 파일
+     * @param initialLines 처음에 보낼 마지막 줄 수
+     * @return SSE emitter, 구독자 수 초과 시 null
+     */
+    public SseEmitter subscribe(Path file, int initialLines) throws IOException {
+        if (subscriptions.size() >= maxSubscribers) {
+            log.warn("로그 tail 구독자 수 초과: current={}, max={}", subscriptions.size(), maxSubscribers);
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        LogFileReader.IndexSnapshot snapshot = logFileReader.snapshot(file);
+        Subscription subscription = new Subscription(file, emitter, fileKey(file));
+
+        // 마지막 initialLines 줄부터 시작
+        long startLine = Math.max(0, snapshot.completeLines() - Math.max(0, initialLines));
+        subscription.offset = logFileReader.offsetOfLine(file, startLine);
+        subscription.nextLine = startLine;
+
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(e -> subscriptions.remove(subscription));
+        subscriptions.add(subscription);
+
+        push(subscription);
+        log.info("로그 tail 구독 시작: file={}, startLine={}", file.getFileName(), startLine + 1);
+        return emitter;
+    }
+
+    /**
+     * 새로 추가된 줄 전송
+     */
+    @Scheduled(fixedDelayString = "${log-viewer.tail.poll-interval-ms:1000}")
+    public void poll() {
+        for (Subscription subscription : subscriptions) {
+            push(subscription);
+        }
+    }
+
+    private void push(Subscription subscription) {
+        synchronized (subscription) {
+            try {
+                Path file = subscription.file;
+                if (!Files.exists(file)) {
+                    heartbeat(subscription);
+                    return;
+                }
+
+                Object currentKey = fileKey(file);
+                if (!Objects.equals(currentKey, subscription.fileKey) || Files.size(file) < subscription.offset) {
+                    log.debug("로그 파일 교체 감지, 처음부터 tail: {}", file.getFileName());
+                    subscription.fileKey = currentKey;
+                    subscription.offset = 0;
+                    subscription.nextLine = 0;
+                }
+
+                List<LogLineDTO> batch = new ArrayList<>();
+                long nextOffset = logFileReader.readCompleteLines(
+                        file, subscription.offset, subscription.nextLine, maxLinesPerPoll,
+                        (lineNumber, line) -> {
+                            LogLineDTO logLine = LogFileReader.parseLine(line);
+                            logLine.setLineNumber((int) Math.min(lineNumber + 1, Integer.MAX_VALUE));
+                            batch.add(logLine);
+                            return true;
+                        });
+
+                if (batch.isEmpty()) {
+                    heartbeat(subscription);
+                    return;
+                }
+
+                subscription.emitter.send(SseEmitter.event()
+                        .name("log")
+                        .data(batch, MediaType.APPLICATION_JSON));
+                subscription.offset = nextOffset;
+                subscription.nextLine += batch.size();
+                subscription.lastSentAt = System.currentTimeMillis();
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 종료 등
+                log.debug("로그 tail 전송 실패, 구독 종료: file={}, reason={}",
+                        subscription.file.getFileName(), e.getMessage());
+                subscriptions.remove(subscription);
+                subscription.emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private void heartbeat(Subscription subscription) throws IOException {
+        long now = System.currentTimeMillis();
+        if (now - subscription.lastSentAt >= HEARTBEAT_INTERVAL_MS) {
+            subscription.emitter.send(SseEmitter.event().comment("heartbeat"));
+            subscription.lastSentAt = now;
+        }
+    }
+
+    private static Object fileKey(Path file) throws IOException {
+        return Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+    }
+
+    private static class Subscription {
+        private final Path file;
+        private final SseEmitter emitter;
+        private Object fileKey;
+        private long offset;
+        private long nextLine;
+        private long lastSentAt = System.currentTimeMillis();
+
+        Subscription(Path file, SseEmitter emitter, Object fileKey) {
+            this.file = file;
+            this.emitter = emitter;
+            this.fileKey = fileKey;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.fream.back.global.utils;
+
+import com.fream.back.global.exception.file.FileNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 업로드된 미디어(상품 이미지, 스타일 이미지/동영상) 스트리밍 응답 유틸리티
+ *
+ * - 파일 전체를 byte[]로 읽지 않고 Resource로 넘겨 고정 크기 버퍼로 흘려보낸다.
+ * - Range 요청이면 Spring MVC의 Resource 범위 처리로 206 Partial Content(다중 범위는 multipart/byteranges)
+ *   또는 416으로 응답해 동영상 탐색이 가능하다.
+ * - ETag/Last-Modified를 내려주고 If-None-Match/If-Modified-Since가 일치하면 304로 응답한다.
+ * - MIME 타입은 확장자별로 한 번만 판별해 캐싱한다.
+ * - 요청 너비가 있으면 그 너비를 만족하는 가장 작은 리사이즈 파생본을 서빙한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MediaStreamingUtil {
+
+    // 업로드 파일 루트 디렉토리 (FileUtils와 동일)
+    private static final String BASE_DIR = "/home/ubuntu/fream";
+//    private static final String BASE_DIR = "C:/Users/pickj/webserver/dockerVolums/fream";
+
+    // 업로드 파일명은 UUID 기반이라 내용이 바뀌지 않으므로 길게 캐싱
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(7)).cachePublic();
+
+    private Path baseDir = Paths.get(BASE_DIR);
+
+    // 확장자 -> MIME 타입
+    private final Map<String, MediaType> mediaTypeCache = new ConcurrentHashMap<>();
+
+    private final ImageVariantGenerator imageVariantGenerator;
+
+    /**
+     * 미디어 파일 응답 생성
+     *
+     * @param directory      예) "product/10", "styles/5"
+     * @param fileName       예) "thumbnail_abc.jpg"
+     * @param requestHeaders 요청 헤더 (Range, If-None-Match, If-Modified-Since)
+     * @return 200(전체), 206(부분), 304(변경 없음), 416(범위 오류) 응답
+     * @throws FileNotFoundException 파일이 없거나 디렉토리 밖을 가리키는 경우
+     */
+    public ResponseEntity<Resource> stream(String directory, String fileName, HttpHeaders requestHeaders) {
+        return stream(directory, fileName, null, requestHeaders);
+    }
+
+    /**
+     * 미디어 파일 응답 생성 (리사이즈 파생본 선택)
+     *
+     * @param directory      예) "product/10", "styles/5"
+     * @param fileName       예) "thumbnail_abc.jpg"
+     * @param width          표시 너비(px), null이면 원본
+     * @param requestHeaders 요청 헤더 (Range, If-None-Match, If-Modified-Since)
+     * @return 200(전체), 206(부분), 304(변경 없음), 416(범위 오류) 응답
+     * @throws FileNotFoundException 파일이 없거나 디렉토리 밖을 가리키는 경우
+     */
+    public ResponseEntity<Resource> stream(String directory, String fileName, Integer width, HttpHeaders requestHeaders) {
+        if (fileName == null || fileName.isBlank()) {
+            throw new FileNotFoundException("파일명이 없습니다: " + directory);
+        }
+        Path dirPath = baseDir.resolve(directory).normalize();
+        Path filePath = dirPath.resolve(fileName).normalize();
+
+        // 경로 검증 (디렉토리 탐색 방지)
+        if (!filePath.startsWith(dirPath) || !Files.isRegularFile(filePath)) {
+            log.warn("미디어 파일을 찾을 수 없음: {}", filePath);
+            throw new FileNotFoundException("파일을 찾을 수 없습니다: " + directory + "/" + fileName);
+        }
+
+        if (width != null && width > 0) {
+            filePath = imageVariantGenerator.resolve(filePath, width);
+        }
+
+        FileSystemResource resource = new FileSystemResource(filePath);
+        long contentLength;
+        long lastModified;
+        try {
+            contentLength = resource.contentLength();
+            lastModified = resource.lastModified();
+        } catch (IOException e) {
+            log.warn("미디어 파일 속성 조회 실패: {}", filePath, e);
+            throw new FileNotFoundException("파일을 읽을 수 없습니다: " + directory + "/" + fileName);
+        }
+
+        String eTag = "\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(contentLength) + "\"";
+        MediaType mediaType = resolveMediaType(filePath);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(eTag);
+        headers.setLastModified(lastModified);
+        headers.setCacheControl(CACHE_CONTROL);
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // 1) 조건부 GET
+        if (isNotModified(requestHeaders, eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+
+        // 2) 전체 또는 Range 요청
+        // 본문 타입이 Resource이면 Spring MVC가 Range 헤더를 해석해 206(단일/multipart/byteranges) 또는
+        // 416(Content-Range: bytes */길이)으로 바꿔 응답한다. Content-Length는 컨버터가 범위에 맞게 채운다.
+        return ResponseEntity.ok()
+                .headers(headers)
+                .contentType(mediaType)
+                .body(resource);
+    }
+
+    private boolean isNotModified(HttpHeaders requestHeaders, String eTag, long lastModified) {
+        List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            // If-None-Match가 있으면 If-Modified-Since는 무시 (RFC 9110)
+            return ifNoneMatch.stream()
+                    .anyMatch(tag -> tag.equals("*") || tag.equals(eTag) || tag.equals("W/" + eTag));
+        }
+        long ifModifiedSince = requestHeaders.getIfModifiedSince();
+        // HTTP 날짜는 초 단위
+        return ifModifiedSince != -1 && lastModified / 1000 <= ifModifiedSince / 1000;
+    }
+
+    private MediaType resolveMediaType(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int dotIndex = fileName.lastIndexOf('.');
+        String extension = dotIndex == -1 ? "" : fileName.substring(dotIndex + 1).toLowerCase(Locale.ROOT);
+
+        return mediaTypeCache.computeIfAbsent(extension, ext -> {
+            try {
+                String probed = Files.probeContentType(filePath);
+                if (probed != null) {
+                    return MediaType.parseMediaType(probed);
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                log.debug("MIME 타입 판별 실패, 확장자 기반으로 대체: {}", fileName);
+            }
+            return MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        });
+    }
+}
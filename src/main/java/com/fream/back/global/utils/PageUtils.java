@@ -2,10 +2,20 @@ package com.fream.back.global.utils;
 
 
 import com.fream.back.global.dto.commonDto;
+import com.fream.back.global.exception.InvalidRequestException;
 import org.springframework.data.domain.Page;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
 public class PageUtils {
 
+    private static final String CURSOR_SEPARATOR = "_";
+
     // Spring Data의 Page<T> → custom PageDto<T> 변환
     public static <T> commonDto.PageDto<T> toPageDto(Page<T> page) {
         commonDto.PageDto<T> pageDto = new commonDto.PageDto<>();
@@ -17,4 +27,104 @@ public class PageUtils {
         return pageDto;
     }
 
+    /**
+     * (생성일, ID) 키셋 커서
+     * 생성일 내림차순, 같은 생성일이면 ID 내림차순으로 정렬된 목록에서 이 행 "다음"부터 조회할 때 사용
+     */
+    public record Cursor(LocalDateTime createdDate, Long id) {
+    }
+
+    /**
+     * (점수, ID) 키셋 커서
+     * 점수(조회수 등) 내림차순, 같은 점수면 ID 내림차순으로 정렬된 목록에서 이 행 "다음"부터 조회할 때 사용
+     */
+    public record ScoreCursor(Long score, Long id) {
+    }
+
+    // size + 1건을 조회한 결과 → CursorPageDto 변환 (초과분으로 다음 페이지 여부 판단)
+    public static <T> commonDto.CursorPageDto<T> toCursorPageDto(List<T> rows, int size,
+                                                                  Function<T, Cursor> cursorOf, Long totalElements) {
+        return toCursorPage(rows, size, row -> encodeCursor(cursorOf.apply(row)), totalElements);
+    }
+
+    // size + 1건을 조회한 결과 → CursorPageDto 변환 ((점수, ID) 커서)
+    public static <T> commonDto.CursorPageDto<T> toScoreCursorPageDto(List<T> rows, int size,
+                                                                       Function<T, ScoreCursor> cursorOf, Long totalElements) {
+        return toCursorPage(rows, size, row -> encodeScoreCursor(cursorOf.apply(row)), totalElements);
+    }
+
+    // size + 1건을 조회한 결과 → CursorPageDto 변환 (ID 단독 커서, ID 내림차순 목록)
+    public static <T> commonDto.CursorPageDto<T> toIdCursorPageDto(List<T> rows, int size,
+                                                                    Function<T, Long> idOf, Long totalElements) {
+        return toCursorPage(rows, size, row -> encodeIdCursor(idOf.apply(row)), totalElements);
+    }
+
+    private static <T> commonDto.CursorPageDto<T> toCursorPage(List<T> rows, int size,
+                                                               Function<T, String> encoder, Long totalElements) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? encoder.apply(content.get(content.size() - 1)) : null;
+        return new commonDto.CursorPageDto<>(content, nextCursor, hasNext, totalElements);
+    }
+
+    // 커서 → 불투명 문자열 (URL-safe Base64)
+    public static String encodeCursor(Cursor cursor) {
+        String raw = cursor.createdDate() + CURSOR_SEPARATOR + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 불투명 문자열 → 커서 (비어 있으면 null = 첫 페이지)
+    public static Cursor decodeCursor(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(CURSOR_SEPARATOR);
+            return new Cursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다: " + encoded);
+        }
+    }
+
+    // (점수, ID) 커서 → 불투명 문자열
+    public static String encodeScoreCursor(ScoreCursor cursor) {
+        String raw = cursor.score() + CURSOR_SEPARATOR + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 불투명 문자열 → (점수, ID) 커서 (비어 있으면 null = 첫 페이지)
+    public static ScoreCursor decodeScoreCursor(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(CURSOR_SEPARATOR);
+            return new ScoreCursor(
+                    Long.parseLong(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다: " + encoded);
+        }
+    }
+
+    // ID 커서 → 불투명 문자열
+    public static String encodeIdCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 불투명 문자열 → ID 커서 (비어 있으면 null = 첫 페이지)
+    public static Long decodeIdCursor(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다: " + encoded);
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.fream.back.global.utils;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,13 +10,19 @@ import javax.crypto.Cipher;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * 개인정보 암호화 및 복호화 유틸리티
  * - 양방향 암호화: 상세주소 등 복구가 필요한 데이터
  * - 결정적 암호화: 이름, 전화번호, 주소 등 검색이 필요한 데이터
+ *
+ * 키/IV 스펙은 기동 시 한 번 만들고, Cipher와 MessageDigest는 스레드별로 재사용한다.
  */
 @Slf4j
 @Component
@@ -31,6 +38,36 @@ public class PersonalDataEncryptionUtil {
     private static final String ALGORITHM = "AES/CBC/PKCS5Padding";
     private static final String DETERMINISTIC_ALGORITHM = "AES/ECB/PKCS5Padding";
 
+    private SecretKeySpec keySpec;
+    private IvParameterSpec ivParamSpec;
+    private byte[] secretKeyBytes;
+
+    private final ThreadLocal<Cipher> cipherHolder = ThreadLocal.withInitial(() -> newCipher(ALGORITHM));
+    private final ThreadLocal<Cipher> deterministicCipherHolder =
+            ThreadLocal.withInitial(() -> newCipher(DETERMINISTIC_ALGORITHM));
+    private final ThreadLocal<MessageDigest> digestHolder = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    });
+
+    @PostConstruct
+    public void init() {
+        secretKeyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
+        keySpec = new SecretKeySpec(secretKeyBytes, "AES");
+        ivParamSpec = new IvParameterSpec(iv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cipher newCipher(String algorithm) {
+        try {
+            return Cipher.getInstance(algorithm);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("암호화 알고리즘을 사용할 수 없습니다: " + algorithm, e);
+        }
+    }
+
     /**
      * 양방향 암호화 (상세주소용)
      * IV를 사용하여 같은 입력이라도 매번 다른 암호화 결과 생성
@@ -44,14 +81,7 @@ public class PersonalDataEncryptionUtil {
         }
 
         try {
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            SecretKeySpec keySpec = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), "AES");
-            IvParameterSpec ivParamSpec = new IvParameterSpec(iv.getBytes(StandardCharsets.UTF_8));
-
-            cipher.init(Cipher.ENCRYPT_MODE, keySpec, ivParamSpec);
-            byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
-
-            return Base64.getEncoder().encodeToString(encrypted);
+            return encryptWith(cipherHolder.get(), plainText);
         } catch (Exception e) {
             log.error("데이터 암호화 중 오류 발생: {}", e.getMessage(), e);
             throw new RuntimeException("데이터 암호화 처리 중 오류가 발생했습니다", e);
@@ -70,15 +100,7 @@ public class PersonalDataEncryptionUtil {
         }
 
         try {
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            SecretKeySpec keySpec = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), "AES");
-            IvParameterSpec ivParamSpec = new IvParameterSpec(iv.getBytes(StandardCharsets.UTF_8));
-
-            cipher.init(Cipher.DECRYPT_MODE, keySpec, ivParamSpec);
-            byte[] decodedBytes = Base64.getDecoder().decode(encryptedText);
-            byte[] decrypted = cipher.doFinal(decodedBytes);
-
-            return new String(decrypted, StandardCharsets.UTF_8);
+            return decryptWith(cipherHolder.get(), encryptedText);
         } catch (Exception e) {
             log.error("데이터 복호화 중 오류 발생: {}", e.getMessage(), e);
             throw new RuntimeException("데이터 복호화 처리 중 오류가 발생했습니다", e);
@@ -102,11 +124,11 @@ public class PersonalDataEncryptionUtil {
 //            String deterministicKey = generateDeterministicKey(plainText);
             byte[] deterministicKeyBytes = generateDeterministicKeyBytes(plainText);
 
-            Cipher cipher = Cipher.getInstance(DETERMINISTIC_ALGORITHM);
+            Cipher cipher = deterministicCipherHolder.get();
 //            SecretKeySpec keySpec = new SecretKeySpec(deterministicKey.getBytes(StandardCharsets.UTF_8), "AES");
-            SecretKeySpec keySpec = new SecretKeySpec(deterministicKeyBytes, "AES"); // 바이트 배열 직접 사용
+            SecretKeySpec inputKeySpec = new SecretKeySpec(deterministicKeyBytes, "AES"); // 바이트 배열 직접 사용
 
-            cipher.init(Cipher.ENCRYPT_MODE, keySpec);
+            cipher.init(Cipher.ENCRYPT_MODE, inputKeySpec);
             byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
 
             return Base64.getEncoder().encodeToString(encrypted);
@@ -118,8 +140,10 @@ public class PersonalDataEncryptionUtil {
 
     private byte[] generateDeterministicKeyBytes(String input) {
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest((secretKey + input).getBytes(StandardCharsets.UTF_8));
+            // secretKey + input 의 UTF-8 바이트 해시 (문자열 연결 없이 순서대로 입력)
+            MessageDigest digest = digestHolder.get();
+            digest.update(secretKeyBytes);
+            byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
 
             byte[] keyBytes = new byte[16];
             System.arraycopy(hash, 0, keyBytes, 0, 16);
@@ -150,14 +174,7 @@ public class PersonalDataEncryptionUtil {
             // 또는 별도의 매핑 테이블 필요
 
             // 임시로 기본키로 복호화 시도
-            Cipher cipher = Cipher.getInstance(DETERMINISTIC_ALGORITHM);
-            SecretKeySpec keySpec = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), "AES");
-
-            cipher.init(Cipher.DECRYPT_MODE, keySpec);
-            byte[] decodedBytes = Base64.getDecoder().decode(encryptedText);
-            byte[] decrypted = cipher.doFinal(decodedBytes);
-
-            return new String(decrypted, StandardCharsets.UTF_8);
+            return deterministicDecryptWith(deterministicCipherHolder.get(), encryptedText);
         } catch (Exception e) {
             log.error("결정적 복호화 중 오류 발생: {}", e.getMessage(), e);
             throw new RuntimeException("결정적 복호화 처리 중 오류가 발생했습니다", e);
@@ -183,6 +200,86 @@ public class PersonalDataEncryptionUtil {
 //        }
 //    }
 
+    /**
+     * 양방향 일괄 암호화 (순서 유지, null/빈 문자열은 그대로)
+     *
+     * @param plainTexts 암호화할 원본 문자열 목록
+     * @return 암호화된 문자열 목록
+     */
+    public List<String> encryptAll(Collection<String> plainTexts) {
+        Cipher cipher = cipherHolder.get();
+        List<String> result = new ArrayList<>(plainTexts.size());
+        try {
+            for (String plainText : plainTexts) {
+                result.add(plainText == null || plainText.isEmpty() ? plainText : encryptWith(cipher, plainText));
+            }
+            return result;
+        } catch (Exception e) {
+            log.error("데이터 일괄 암호화 중 오류 발생: {}", e.getMessage(), e);
+            throw new RuntimeException("데이터 암호화 처리 중 오류가 발생했습니다", e);
+        }
+    }
+
+    /**
+     * 양방향 일괄 복호화 (순서 유지, null/빈 문자열은 그대로)
+     *
+     * @param encryptedTexts 암호화된 문자열 목록
+     * @return 복호화된 원본 문자열 목록
+     */
+    public List<String> decryptAll(Collection<String> encryptedTexts) {
+        Cipher cipher = cipherHolder.get();
+        List<String> result = new ArrayList<>(encryptedTexts.size());
+        try {
+            for (String encryptedText : encryptedTexts) {
+                result.add(encryptedText == null || encryptedText.isEmpty()
+                        ? encryptedText : decryptWith(cipher, encryptedText));
+            }
+            return result;
+        } catch (Exception e) {
+            log.error("데이터 일괄 복호화 중 오류 발생: {}", e.getMessage(), e);
+            throw new RuntimeException("데이터 복호화 처리 중 오류가 발생했습니다", e);
+        }
+    }
+
+    /**
+     * 결정적 일괄 복호화 (순서 유지, null/빈 문자열은 그대로)
+     *
+     * @param encryptedTexts 암호화된 문자열 목록
+     * @return 복호화된 원본 문자열 목록
+     */
+    public List<String> deterministicDecryptAll(Collection<String> encryptedTexts) {
+        Cipher cipher = deterministicCipherHolder.get();
+        List<String> result = new ArrayList<>(encryptedTexts.size());
+        try {
+            for (String encryptedText : encryptedTexts) {
+                result.add(encryptedText == null || encryptedText.isEmpty()
+                        ? encryptedText : deterministicDecryptWith(cipher, encryptedText));
+            }
+            return result;
+        } catch (Exception e) {
+            log.error("결정적 일괄 복호화 중 오류 발생: {}", e.getMessage(), e);
+            throw new RuntimeException("결정적 복호화 처리 중 오류가 발생했습니다", e);
+        }
+    }
+
+    private String encryptWith(Cipher cipher, String plainText) throws GeneralSecurityException {
+        cipher.init(Cipher.ENCRYPT_MODE, keySpec, ivParamSpec);
+        byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(encrypted);
+    }
+
+    private String decryptWith(Cipher cipher, String encryptedText) throws GeneralSecurityException {
+        cipher.init(Cipher.DECRYPT_MODE, keySpec, ivParamSpec);
+        byte[] decrypted = cipher.doFinal(Base64.getDecoder().decode(encryptedText));
+        return new String(decrypted, StandardCharsets.UTF_8);
+    }
+
+    private String deterministicDecryptWith(Cipher cipher, String encryptedText) throws GeneralSecurityException {
+        cipher.init(Cipher.DECRYPT_MODE, keySpec);
+        byte[] decrypted = cipher.doFinal(Base64.getDecoder().decode(encryptedText));
+        return new String(decrypted, StandardCharsets.UTF_8);
+    }
+
     /**
      * 검색용 암호화된 값 생성
      * 검색 시 사용할 암호화된 값을 생성
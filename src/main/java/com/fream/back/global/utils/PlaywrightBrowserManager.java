@@ -3,136 +3,398 @@ package com.fream.back.global.utils;
 import com.fream.back.domain.shipment.exception.ShipmentErrorCode;
 import com.fream.back.domain.shipment.exception.ShipmentException;
 import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
 import com.microsoft.playwright.BrowserType;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.Playwright;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
- * Playwright 브라우저 생성 및 관리 유틸리티
- * 싱글톤으로 브라우저 인스턴스를 관리합니다.
+ * Playwright 브라우저 워커 풀
+ *
+ * Playwright 객체는 스레드 안전하지 않으므로 워커 스레드마다 자기 Playwright/Browser/Context/Page를 하나씩 갖고,
+ * 작업 큐에서 조회 작업을 꺼내 같은 페이지를 재사용해 처리한다.
+ * - 브라우저는 첫 작업 때 띄우고, 유휴 시간이 길어지면 닫는다 (다음 작업 때 다시 띄움).
+ * - 이미지/폰트 등 조회에 필요 없는 리소스 요청은 컨텍스트 단위로 차단한다.
+ * - 컨텍스트는 일정 횟수 사용 후 새로 만들어 쿠키/메모리 누적을 막는다.
+ * 브라우저 자원은 워커마다 BrowserSession으로 감싸 풀 동작과 분리한다.
  */
 @Slf4j
 @Component
 public class PlaywrightBrowserManager {
-    private Playwright playwright;
-    private Browser browser;
-    private final AtomicBoolean initialized = new AtomicBoolean(false);
+
+    private static final long POLL_INTERVAL_MS = 1000;
+
+    private final int workerCount;
+    private final long lookupTimeoutMs;
+    private final long idleCloseMs;
+    private final int maxTasksPerContext;
+
+    private final BlockingQueue<BrowserTask<?>> queue;
+    private final List<Worker> workers = new ArrayList<>();
+    // closeBrowser() 호출마다 증가, 워커는 세대가 바뀌면 현재 브라우저를 닫는다
+    private final AtomicInteger generation = new AtomicInteger();
+    private volatile boolean running = true;
 
     private static final BrowserType.LaunchOptions LAUNCH_OPTIONS = new BrowserType.LaunchOptions()
-            .setHeadless(true)
-            .setSlowMo(100);
+            .setHeadless(true);
+
+    @Autowired
+    public PlaywrightBrowserManager(
+            @Value("${shipment.tracking.workers:4}") int workerCount,
+            @Value("${shipment.tracking.queue-capacity:200}") int queueCapacity,
+            @Value("${shipment.tracking.lookup-timeout-ms:30000}") long lookupTimeoutMs,
+            @Value("${shipment.tracking.idle-close-ms:300000}") long idleCloseMs,
+            @Value("${shipment.tracking.max-lookups-per-context:200}") int maxTasksPerContext,
+            @Value("${shipment.tracking.blocked-resource-types:image,font,media}") Set<String> blockedResourceTypes) {
+        this(workerCount, queueCapacity, lookupTimeoutMs, idleCloseMs, maxTasksPerContext,
+                name -> new PlaywrightSession(name, lookupTimeoutMs, Set.copyOf(blockedResourceTypes)));
+        log.info("Playwright 워커 풀 구성: workers={}, queueCapacity={}, lookupTimeoutMs={}, blocked={}",
+                this.workerCount, queueCapacity, lookupTimeoutMs, blockedResourceTypes);
+    }
+
+    PlaywrightBrowserManager(int workerCount, int queueCapacity, long lookupTimeoutMs, long idleCloseMs,
+                             int maxTasksPerContext, Function<String, BrowserSession> sessionFactory) {
+        this.workerCount = Math.max(1, workerCount);
+        this.lookupTimeoutMs = lookupTimeoutMs;
+        this.idleCloseMs = idleCloseMs;
+        this.maxTasksPerContext = Math.max(1, maxTasksPerContext);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+
+        for (int i = 1; i <= this.workerCount; i++) {
+            String name = "playwright-worker-" + i;
+            Worker worker = new Worker(name, sessionFactory.apply(name));
+            workers.add(worker);
+            worker.start();
+        }
+    }
 
     /**
-     * 브라우저를 열고 초기화합니다.
-     * 이미 열려있는 경우, 기존 브라우저를 재사용합니다.
+     * 워커의 페이지로 작업을 실행합니다.
+     * 페이지는 작업이 끝나면 다른 작업에 재사용되므로 작업 밖으로 꺼내면 안 됩니다.
+     * 페이지 기본 타임아웃은 조회 1건 기준(lookup-timeout-ms)으로 설정되어 있습니다.
      *
-     * @throws ShipmentException 브라우저 초기화 실패 시 발생
+     * @param task 페이지로 수행할 작업
+     * @return 작업 결과
+     * @throws ShipmentException 대기 큐가 가득 찬 경우 발생
      */
-    public synchronized void openBrowser() {
-        if (initialized.get() && browser != null && playwright != null) {
-            log.debug("브라우저가 이미 열려 있습니다. 재사용합니다.");
-            return;
+    public <T> CompletableFuture<T> submit(Function<Page, T> task) {
+        if (!running) {
+            throw new ShipmentException(ShipmentErrorCode.BROWSER_INITIALIZATION_ERROR, "브라우저 워커 풀이 종료되었습니다.");
         }
+        BrowserTask<T> browserTask = new BrowserTask<>(task);
+        if (!queue.offer(browserTask)) {
+            log.warn("브라우저 작업 대기열 초과: 대기={}건", queue.size());
+            throw new ShipmentException(ShipmentErrorCode.EXTERNAL_TRACKING_SERVICE_ERROR, "배송 조회 요청이 많아 처리할 수 없습니다.");
+        }
+        return browserTask.future;
+    }
 
+    /**
+     * 모든 워커의 브라우저를 미리 띄웁니다. (호출하지 않아도 첫 작업 때 자동으로 띄움)
+     */
+    public void openBrowser() {
+        List<CompletableFuture<Void>> warmups = new ArrayList<>();
+        for (Worker worker : workers) {
+            warmups.add(worker.requestWarmup());
+        }
         try {
-            log.info("Playwright 브라우저 초기화 시작");
+            CompletableFuture.allOf(warmups.toArray(CompletableFuture[]::new))
+                    .get(lookupTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("Playwright 브라우저 예열 실패: {}", e.getMessage());
+        }
+    }
 
-            if (playwright == null) {
-                log.debug("Playwright 엔진 생성");
-                playwright = Playwright.create();
-            }
+    /**
+     * 워커 브라우저를 닫습니다.
+     * 진행 중인 작업은 끝까지 처리하고, 각 워커가 다음 작업을 받기 전에 닫습니다.
+     */
+    public void closeBrowser() {
+        generation.incrementAndGet();
+        log.info("Playwright 브라우저 해제 요청");
+    }
 
-            if (browser == null) {
-                log.debug("Chromium 브라우저 시작 (headless={}, slowMo={}ms)",
-                        LAUNCH_OPTIONS.headless, LAUNCH_OPTIONS.slowMo);
-                browser = playwright.chromium().launch(LAUNCH_OPTIONS);
-            }
+    /**
+     * 브라우저가 떠 있는 워커가 하나라도 있는지 확인합니다.
+     *
+     * @return 사용 가능한 브라우저가 있으면 true
+     */
+    public boolean isInitialized() {
+        return workers.stream().anyMatch(worker -> worker.session.isOpen());
+    }
 
-            initialized.set(true);
-            log.info("Playwright 브라우저 초기화 완료");
+    public int getWorkerCount() {
+        return workerCount;
+    }
 
-        } catch (Exception e) {
-            log.error("Playwright 브라우저 초기화 실패: {}", e.getMessage(), e);
-            closeBrowser(); // 실패한 경우 리소스 정리
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        for (Worker worker : workers) {
+            worker.interrupt();
+        }
+        BrowserTask<?> task;
+        while ((task = queue.poll()) != null) {
+            task.future.cancel(false);
+        }
+    }
 
-            throw new ShipmentException(
-                    ShipmentErrorCode.BROWSER_INITIALIZATION_ERROR,
-                    "브라우저 초기화에 실패했습니다: " + e.getMessage(),
-                    e
-            );
+    private static final class BrowserTask<T> {
+        private final Function<Page, T> work;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private BrowserTask(Function<Page, T> work) {
+            this.work = work;
+        }
+
+        private void run(Page page) {
+            // 호출 측에서 이미 포기한 작업은 실행하지 않음
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(work.apply(page));
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
         }
     }
 
     /**
-     * 브라우저를 닫고 리소스를 해제합니다.
+     * 워커 하나가 소유하는 브라우저 세션
+     * 워커 스레드에서만 호출되며, isOpen()만 다른 스레드에서 읽는다.
+     */
+    interface BrowserSession {
+
+        /**
+         * 필요하면 브라우저와 컨텍스트를 띄우고 현재 페이지를 반환합니다.
+         */
+        Page page();
+
+        boolean isOpen();
+
+        boolean isConnected();
+
+        /**
+         * 컨텍스트(페이지 포함)만 닫습니다. 다음 page() 호출 때 새로 만듭니다.
+         */
+        void closeContext();
+
+        void close();
+    }
+
+    /**
+     * 자기 브라우저를 소유하는 워커 스레드
      */
-    public synchronized void closeBrowser() {
-        log.info("Playwright 브라우저 리소스 해제 시작");
+    private final class Worker extends Thread {
+        private final BrowserSession session;
+        private int contextTaskCount;
+        private int browserGeneration;
+        private long lastUsedAt = System.currentTimeMillis();
+        private volatile CompletableFuture<Void> warmup;
+
+        private Worker(String name, BrowserSession session) {
+            super(name);
+            this.session = session;
+            setDaemon(true);
+        }
 
-        if (browser != null) {
+        private synchronized CompletableFuture<Void> requestWarmup() {
+            if (warmup == null || warmup.isDone()) {
+                warmup = new CompletableFuture<>();
+            }
+            return warmup;
+        }
+
+        @Override
+        public void run() {
             try {
-                log.debug("브라우저 닫기 시작");
-                browser.close(); // 모든 Page도 함께 닫힘
-                log.debug("브라우저 닫기 완료");
-            } catch (Exception e) {
-                log.warn("브라우저 닫기 실패: {}", e.getMessage());
+                while (running) {
+                    BrowserTask<?> task = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                    if (browserGeneration != generation.get()
+                            || (task == null && session.isOpen() && System.currentTimeMillis() - lastUsedAt > idleCloseMs)) {
+                        closeAll();
+                    }
+                    CompletableFuture<Void> pendingWarmup = warmup;
+                    if (pendingWarmup != null && !pendingWarmup.isDone()) {
+                        try {
+                            ensurePage();
+                            lastUsedAt = System.currentTimeMillis();
+                            pendingWarmup.complete(null);
+                        } catch (Exception e) {
+                            pendingWarmup.completeExceptionally(e);
+                        }
+                    }
+                    if (task != null) {
+                        execute(task);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
             } finally {
-                browser = null;
+                closeAll();
             }
         }
 
-        if (playwright != null) {
+        private void execute(BrowserTask<?> task) {
+            Page current;
             try {
-                log.debug("Playwright 엔진 닫기 시작");
-                playwright.close();
-                log.debug("Playwright 엔진 닫기 완료");
+                current = ensurePage();
             } catch (Exception e) {
-                log.warn("Playwright 엔진 닫기 실패: {}", e.getMessage());
-            } finally {
-                playwright = null;
+                task.future.completeExceptionally(e);
+                return;
+            }
+            task.run(current);
+            lastUsedAt = System.currentTimeMillis();
+            if (++contextTaskCount >= maxTasksPerContext || !session.isConnected()) {
+                session.closeContext();
+                contextTaskCount = 0;
             }
         }
 
-        initialized.set(false);
-        log.info("Playwright 브라우저 리소스 해제 완료");
+        private Page ensurePage() {
+            if (session.isOpen() && !session.isConnected()) {
+                log.warn("브라우저 연결 끊김, 재시작: worker={}", getName());
+                closeAll();
+            }
+            try {
+                boolean wasOpen = session.isOpen();
+                Page page = session.page();
+                if (!wasOpen) {
+                    browserGeneration = generation.get();
+                }
+                return page;
+            } catch (Exception e) {
+                log.error("Playwright 브라우저 초기화 실패: worker={}, error={}", getName(), e.getMessage(), e);
+                closeAll(); // 실패한 경우 리소스 정리
+                throw new ShipmentException(
+                        ShipmentErrorCode.BROWSER_INITIALIZATION_ERROR,
+                        "브라우저 초기화에 실패했습니다: " + e.getMessage(),
+                        e
+                );
+            }
+        }
+
+        private void closeAll() {
+            boolean wasOpen = session.isOpen();
+            session.close();
+            contextTaskCount = 0;
+            if (wasOpen) {
+                log.info("Playwright 브라우저 해제 완료: worker={}", getName());
+            }
+            browserGeneration = generation.get();
+        }
     }
 
     /**
-     * 새 페이지를 생성합니다.
-     * 브라우저가 초기화되지 않은 경우 자동으로 초기화합니다.
-     *
-     * @return 새로 생성된 페이지
-     * @throws ShipmentException 페이지 생성 실패 시 발생
+     * Playwright 엔진/Chromium/컨텍스트/페이지를 소유하는 세션
      */
-    public Page newPage() {
-        if (!initialized.get() || browser == null) {
-            log.info("브라우저가 초기화되지 않았습니다. 자동으로 초기화합니다.");
-            openBrowser();
+    private static final class PlaywrightSession implements BrowserSession {
+        private final String name;
+        private final long lookupTimeoutMs;
+        private final Set<String> blockedResourceTypes;
+
+        private Playwright playwright;
+        private Browser browser;
+        private BrowserContext context;
+        private Page page;
+        private volatile boolean open;
+
+        private PlaywrightSession(String name, long lookupTimeoutMs, Set<String> blockedResourceTypes) {
+            this.name = name;
+            this.lookupTimeoutMs = lookupTimeoutMs;
+            this.blockedResourceTypes = blockedResourceTypes;
         }
 
-        try {
-            log.debug("새 페이지 생성");
-            return browser.newPage();
-        } catch (Exception e) {
-            log.error("새 페이지 생성 실패: {}", e.getMessage(), e);
-            throw new ShipmentException(
-                    ShipmentErrorCode.BROWSER_INITIALIZATION_ERROR,
-                    "새 페이지를 생성할 수 없습니다: " + e.getMessage(),
-                    e
-            );
+        @Override
+        public Page page() {
+            if (playwright == null) {
+                playwright = Playwright.create();
+            }
+            if (browser == null) {
+                log.info("Chromium 브라우저 시작: worker={}", name);
+                browser = playwright.chromium().launch(LAUNCH_OPTIONS);
+                open = true;
+            }
+            if (context == null) {
+                context = browser.newContext();
+                context.setDefaultTimeout(lookupTimeoutMs);
+                context.setDefaultNavigationTimeout(lookupTimeoutMs);
+                if (!blockedResourceTypes.isEmpty()) {
+                    context.route("**/*", route -> {
+                        if (blockedResourceTypes.contains(route.request().resourceType())) {
+                            route.abort();
+                        } else {
+                            route.resume();
+                        }
+                    });
+                }
+                page = context.newPage();
+            }
+            return page;
         }
-    }
 
-    /**
-     * 현재 브라우저 인스턴스가 유효한지 확인합니다.
-     *
-     * @return 브라우저가 초기화되었고 사용 가능한 경우 true
-     */
-    public boolean isInitialized() {
-        return initialized.get() && browser != null && playwright != null;
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return browser != null && browser.isConnected();
+        }
+
+        @Override
+        public void closeContext() {
+            if (context != null) {
+                try {
+                    context.close(); // 페이지도 함께 닫힘
+                } catch (Exception e) {
+                    log.warn("브라우저 컨텍스트 닫기 실패: worker={}, error={}", name, e.getMessage());
+                } finally {
+                    context = null;
+                    page = null;
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            closeContext();
+            if (browser != null) {
+                try {
+                    browser.close();
+                } catch (Exception e) {
+                    log.warn("브라우저 닫기 실패: worker={}, error={}", name, e.getMessage());
+                } finally {
+                    browser = null;
+                }
+            }
+            if (playwright != null) {
+                try {
+                    playwright.close();
+                } catch (Exception e) {
+                    log.warn("Playwright 엔진 닫기 실패: worker={}, error={}", name, e.getMessage());
+                } finally {
+                    playwright = null;
+                }
+            }
+            open = false;
+        }
     }
-}
\ No newline at end of file
+}
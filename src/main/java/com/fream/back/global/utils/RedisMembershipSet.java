@@ -0,0 +1,159 @@
+package com.fream.back.global.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+ * 사용자별 ID 소속 집합 (Redis Set)
+ *
+ * "이 사용자가 좋아요/관심 등록한 ID인가"를 목록 단위로 SMISMEMBER 한 번에 확인한다.
+ * - 집합은 처음 조회할 때 DB에서 통째로 적재하고, 적재 완료 표시로 LOADED_MARKER를 함께 넣는다.
+ *   멤버가 모두 정수라 Redis가 intset(정렬된 정수 배열)으로 압축 저장한다. (set-max-intset-entries 이내)
+ * - 토글은 커밋 이후 집합이 적재되어 있을 때만 SADD/SREM으로 반영한다.
+ * - 사용자당 max-size를 넘는 집합은 적재하지 않고, 모든 집합은 TTL로 만료되어 메모리가 제한된다.
+ *   넘는 사용자는 TOO_LARGE_MARKER만 든 집합을 짧은 TTL로 남겨, 만료 전까지는 적재 조회(max-size + 1건) 없이 바로 DB로 대체한다.
+ *
+ * 적재(DB 조회 ~ SADD) 사이에 커밋된 토글은 빠질 수 있으며 TTL 만료 시 바로잡힌다.
+ * 본인 토글 직후 조회가 복제 지연의 영향을 받지 않도록 Primary 전용 템플릿으로 읽고 쓴다.
+ */
+@Slf4j
+public class RedisMembershipSet {
+
+    private static final String LOADED_MARKER = "0"; // 대상 ID는 1부터 시작
+    private static final String TOO_LARGE_MARKER = "-1"; // max-size 초과로 적재하지 않은 사용자 (UPDATE_SCRIPT와 같은 값)
+
+    // ARGV: TTL(초), 멤버 목록. 이미 있으면 덮어쓰지 않음
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            for i = 2, #ARGV, 1000 do
+                redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // ARGV: 명령(SADD/SREM), 대상 ID. 적재되지 않은 집합과 초과 표시 집합은 건드리지 않음
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 or redis.call('SISMEMBER', KEYS[1], '-1') == 1 then
+                return 0
+            end
+            return redis.call(ARGV[1], KEYS[1], ARGV[2])
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String keyPrefix;
+    private final long ttlSeconds;
+    private final long tooLargeTtlSeconds;
+    private final int maxSize;
+
+    /**
+     * @param redisTemplate Primary 전용 템플릿 (writeRedisTemplate)
+     * @param keyPrefix 키 접두사 (뒤에 사용자 식별자가 붙음)
+     * @param ttl 집합 보관 시간
+     * @param maxSize 사용자당 최대 적재 개수
+     * @param tooLargeTtl max-size 초과 표시 보관 시간 (만료 후 다음 조회 때 다시 적재 시도)
+     */
+    public RedisMembershipSet(RedisTemplate<String, String> redisTemplate, String keyPrefix,
+                              Duration ttl, int maxSize, Duration tooLargeTtl) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.ttlSeconds = Math.max(1L, ttl.toSeconds());
+        this.tooLargeTtlSeconds = Math.max(1L, tooLargeTtl.toSeconds());
+        this.maxSize = Math.max(1, maxSize);
+    }
+
+    /**
+     * 주어진 ID 중 사용자 집합에 속한 ID를 조회합니다.
+     * 집합이 없으면 loader로 DB에서 적재한 뒤 결과를 계산합니다.
+     *
+     * @param owner 사용자 식별자
+     * @param ids 확인할 ID 목록
+     * @param loader 사용자의 전체 ID를 최대 limit개 조회하는 함수 (적재 시에만 호출)
+     * @return 집합에 속한 ID, 집합을 사용할 수 없으면 null (호출 측에서 DB로 대체)
+     */
+    public Set<Long> findMembers(String owner, Collection<Long> ids, IntFunction<List<Long>> loader) {
+        String key = keyPrefix + owner;
+        try {
+            List<Long> targets = new ArrayList<>(ids);
+            Object[] members = new Object[targets.size() + 2];
+            members[0] = LOADED_MARKER;
+            members[1] = TOO_LARGE_MARKER;
+            for (int i = 0; i < targets.size(); i++) {
+                members[i + 2] = String.valueOf(targets.get(i));
+            }
+            Map<Object, Boolean> result = redisTemplate.opsForSet().isMember(key, members);
+            if (result != null && Boolean.TRUE.equals(result.get(TOO_LARGE_MARKER))) {
+                return null;
+            }
+            if (result != null && Boolean.TRUE.equals(result.get(LOADED_MARKER))) {
+                Set<Long> found = new HashSet<>();
+                for (Long id : targets) {
+                    if (Boolean.TRUE.equals(result.get(String.valueOf(id)))) {
+                        found.add(id);
+                    }
+                }
+                return found;
+            }
+            return loadAndMatch(key, targets, loader);
+        } catch (Exception e) {
+            log.warn("소속 집합 조회 실패, DB 조회로 대체: key={}, 오류={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 커밋된 변경을 적재된 집합에 반영합니다.
+     * 반영에 실패하면 집합을 지워 다음 조회 때 DB에서 다시 적재하도록 합니다.
+     *
+     * @param owner 사용자 식별자
+     * @param id 대상 ID
+     * @param member 변경 후 소속 여부
+     */
+    public void apply(String owner, Long id, boolean member) {
+        String key = keyPrefix + owner;
+        try {
+            redisTemplate.execute(UPDATE_SCRIPT, List.of(key), member ? "SADD" : "SREM", String.valueOf(id));
+        } catch (Exception e) {
+            log.warn("소속 집합 반영 실패, 집합 삭제: key={}, id={}, 오류={}", key, id, e.getMessage());
+            try {
+                redisTemplate.delete(key);
+            } catch (Exception deleteError) {
+                log.error("소속 집합 삭제 실패 (TTL 만료 시 정리): key={}, 오류={}", key, deleteError.getMessage());
+            }
+        }
+    }
+
+    private Set<Long> loadAndMatch(String key, List<Long> targets, IntFunction<List<Long>> loader) {
+        List<Long> memberIds = loader.apply(maxSize + 1);
+        if (memberIds.size() > maxSize) {
+            // 초과 표시를 남겨 TTL 동안은 적재 조회를 반복하지 않음
+            redisTemplate.execute(LOAD_SCRIPT, List.of(key), String.valueOf(tooLargeTtlSeconds), TOO_LARGE_MARKER);
+            log.debug("소속 ID가 많아 집합을 적재하지 않음: key={}, 초과 표시 {}초", key, tooLargeTtlSeconds);
+            return null;
+        }
+
+        List<String> args = new ArrayList<>(memberIds.size() + 2);
+        args.add(String.valueOf(ttlSeconds));
+        args.add(LOADED_MARKER);
+        memberIds.forEach(id -> args.add(String.valueOf(id)));
+        redisTemplate.execute(LOAD_SCRIPT, List.of(key), args.toArray());
+        log.debug("소속 집합 적재 완료: key={}, {}건", key, memberIds.size());
+
+        Set<Long> found = new HashSet<>(targets);
+        found.retainAll(new HashSet<>(memberIds));
+        return found;
+    }
+}
@@ -0,0 +1,36 @@
+package com.fream.back.global.utils;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상태별 개수 집계 유틸
+ * 상태별로 count 쿼리를 여러 번 보내지 않고, GROUP BY status 한 번의 결과를 상태별 개수로 바꿔 쓴다.
+ */
+public class StatusCountUtils {
+
+    // GROUP BY status 결과 행 ([상태, 개수]) → 상태별 개수 (결과에 없는 상태는 0)
+    public static <E extends Enum<E>> Map<E, Long> toCountMap(Class<E> statusType, List<Object[]> rows) {
+        Map<E, Long> counts = new EnumMap<>(statusType);
+        for (E status : statusType.getEnumConstants()) {
+            counts.put(status, 0L);
+        }
+        for (Object[] row : rows) {
+            if (row[0] != null && row[1] != null) {
+                counts.put(statusType.cast(row[0]), ((Number) row[1]).longValue());
+            }
+        }
+        return counts;
+    }
+
+    // 여러 상태의 개수 합계
+    @SafeVarargs
+    public static <E extends Enum<E>> long sum(Map<E, Long> counts, E... statuses) {
+        long total = 0;
+        for (E status : statuses) {
+            total += counts.getOrDefault(status, 0L);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,93 @@
+package com.fream.back.domain.order;
+
+import com.fream.back.domain.order.dto.OrderBidResponseDto;
+import com.fream.back.domain.order.repository.OrderBidRepository;
+import com.fream.back.domain.order.service.query.OrderBidQueryService;
+import com.fream.back.domain.sale.service.query.SaleBidQueryService;
+import com.fream.back.domain.warehouseStorage.service.query.WarehouseStorageQueryService;
+import com.fream.back.global.dto.commonDto;
+import com.fream.back.global.exception.InvalidRequestException;
+import com.fream.back.global.utils.PageUtils;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 주문 입찰 커서 조회 단위 테스트 — size + 1 조회, 페이지 크기 상한, 첫 페이지에서만 전체 개수, 다음 커서 전달.
+ */
+class OrderBidCursorQueryTest {
+
+    private static final String EMAIL = "buyer@test.com";
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+    private final OrderBidRepository orderBidRepository = mock(OrderBidRepository.class);
+    private final OrderBidQueryService service = new OrderBidQueryService(orderBidRepository,
+            mock(SaleBidQueryService.class), mock(WarehouseStorageQueryService.class));
+
+    @Test
+    void firstPage_fetchesOneExtraRow_andCountsOnlyWhenRequested() {
+        when(orderBidRepository.findOrderBidsByFiltersAfter(EMAIL, null, null, null, 3)).thenReturn(rows(30, 20, 10));
+        when(orderBidRepository.countOrderBidsByFilters(EMAIL, null, null)).thenReturn(5L);
+
+        commonDto.CursorPageDto<OrderBidResponseDto> page = service.getOrderBidsByCursor(EMAIL, null, null, null, 2, true);
+
+        assertThat(page.getContent()).extracting(OrderBidResponseDto::getOrderBidId).containsExactly(30L, 20L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getTotalElements()).isEqualTo(5L);
+        assertThat(PageUtils.decodeCursor(page.getNextCursor())).isEqualTo(new PageUtils.Cursor(CREATED, 20L));
+    }
+
+    @Test
+    void nextPage_passesDecodedCursor_andSkipsCount() {
+        String after = PageUtils.encodeCursor(new PageUtils.Cursor(CREATED, 20L));
+        when(orderBidRepository.findOrderBidsByFiltersAfter(EMAIL, "PENDING", null, new PageUtils.Cursor(CREATED, 20L), 3))
+                .thenReturn(rows(10));
+
+        commonDto.CursorPageDto<OrderBidResponseDto> page =
+                service.getOrderBidsByCursor(EMAIL, "PENDING", null, after, 2, true);
+
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.getTotalElements()).isNull();
+        verify(orderBidRepository, never()).countOrderBidsByFilters(any(), any(), any());
+    }
+
+    @Test
+    void pageSize_isClampedBetweenOneAndHundred() {
+        when(orderBidRepository.findOrderBidsByFiltersAfter(eq(EMAIL), isNull(), isNull(), isNull(), anyInt()))
+                .thenReturn(List.of());
+
+        service.getOrderBidsByCursor(EMAIL, null, null, null, 10_000, false);
+        service.getOrderBidsByCursor(EMAIL, null, null, null, 0, false);
+
+        verify(orderBidRepository).findOrderBidsByFiltersAfter(EMAIL, null, null, null, 101);
+        verify(orderBidRepository).findOrderBidsByFiltersAfter(EMAIL, null, null, null, 2);
+    }
+
+    @Test
+    void malformedCursor_isRejectedBeforeQuerying() {
+        assertThatThrownBy(() -> service.getOrderBidsByCursor(EMAIL, null, null, "!!!", 20, false))
+                .isInstanceOf(InvalidRequestException.class);
+        verify(orderBidRepository, never()).findOrderBidsByFiltersAfter(any(), any(), any(), any(), anyInt());
+    }
+
+    private static List<OrderBidResponseDto> rows(long... ids) {
+        return LongStream.of(ids)
+                .mapToObj(id -> OrderBidResponseDto.builder().orderBidId(id).createdDate(CREATED).build())
+                .toList();
+    }
+}
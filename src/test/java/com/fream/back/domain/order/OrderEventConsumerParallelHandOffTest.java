@@ -0,0 +1,121 @@
+package com.fream.back.domain.order;
+
+import com.fream.back.domain.order.dto.kafka.OrderProcessingEvent;
+import com.fream.back.domain.order.repository.OrderRepository;
+import com.fream.back.domain.order.service.kafka.OrderEventConsumer;
+import com.fream.back.domain.order.service.kafka.OrderEventProducer;
+import com.fream.back.domain.order.service.kafka.OrderKeyedExecutor;
+import com.fream.back.domain.order.service.kafka.OrderRetryDelayScheduler;
+import com.fream.back.domain.payment.service.command.PaymentCommandService;
+import com.fream.back.domain.shipment.service.command.OrderShipmentCommandService;
+import com.fream.back.domain.user.service.query.UserQueryService;
+import com.fream.back.domain.warehouseStorage.service.command.WarehouseStorageCommandService;
+import com.fream.back.global.idempotency.IdempotencyClaim;
+import com.fream.back.global.idempotency.IdempotencyKeyStore;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 주문 처리 리스너의 워커 스레드 실패 처리 단위 테스트 — 재발행 재시도, 소진 시 DLT(HANDOFF_FAILED) 이동, DLT 실패 시에도 ACK.
+ */
+class OrderEventConsumerParallelHandOffTest {
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final OrderEventProducer orderEventProducer = mock(OrderEventProducer.class);
+    private final OrderKeyedExecutor orderKeyedExecutor = mock(OrderKeyedExecutor.class);
+    private final IdempotencyKeyStore idempotencyKeyStore = mock(IdempotencyKeyStore.class);
+    private final Acknowledgment acknowledgment = mock(Acknowledgment.class);
+    private final OrderProcessingEvent event = OrderProcessingEvent.create(10L, "buyer@test.com", null);
+    private final ConsumerRecord<String, OrderProcessingEvent> record =
+            new ConsumerRecord<>(OrderEventProducer.ORDER_PROCESSING_TOPIC, 1, 42L, "10", event);
+    private OrderEventConsumer orderEventConsumer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        orderEventConsumer = new OrderEventConsumer(orderRepository, mock(PaymentCommandService.class),
+                mock(OrderShipmentCommandService.class), mock(WarehouseStorageCommandService.class),
+                mock(UserQueryService.class), orderEventProducer, mock(SimpMessagingTemplate.class),
+                (KafkaTemplate<String, Map<String, Object>>) mock(KafkaTemplate.class), mock(TransactionTemplate.class),
+                mock(OrderRetryDelayScheduler.class), orderKeyedExecutor, idempotencyKeyStore);
+        ReflectionTestUtils.setField(orderEventConsumer, "handOffRetryDelayMs", 1L);
+
+        // 워커 풀 대신 제출 스레드에서 바로 실행
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(orderKeyedExecutor).submit(anyLong(), any(Runnable.class));
+
+        IdempotencyClaim claim = mock(IdempotencyClaim.class);
+        when(claim.isAcquired()).thenReturn(true);
+        when(idempotencyKeyStore.claim(any(), any())).thenReturn(claim);
+        when(orderRepository.findById(10L)).thenThrow(new QueryTimeoutException("lock wait timeout"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void retryPublishRecovers_acksWithoutDlt() throws Exception {
+        when(orderEventProducer.sendOrderRetryEvent(any())).thenReturn(failed(), failed(), sent());
+
+        orderEventConsumer.handleOrderProcessingEvent(record, acknowledgment);
+
+        verify(orderEventProducer, times(3)).sendOrderRetryEvent(event);
+        verify(orderEventProducer, never()).sendOrderDeadLetterEvent(any(), any(), any(), any());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void retryPublishExhausted_routesToDltAsHandOffFailed() throws Exception {
+        when(orderEventProducer.sendOrderRetryEvent(any())).thenReturn(failed());
+        when(orderEventProducer.sendOrderDeadLetterEvent(any(), any(), any(), any())).thenReturn(sent());
+
+        orderEventConsumer.handleOrderProcessingEvent(record, acknowledgment);
+
+        verify(orderEventProducer, times(5)).sendOrderRetryEvent(event);
+        verify(orderEventProducer).sendOrderDeadLetterEvent(eq(event), any(QueryTimeoutException.class),
+                eq(record), eq("HANDOFF_FAILED"));
+        verify(acknowledgment).acknowledge();
+        verify(acknowledgment, never()).nack(any());
+    }
+
+    @Test
+    void dltAlsoUnavailable_stillAcksSoPartitionKeepsCommitting() throws Exception {
+        when(orderEventProducer.sendOrderRetryEvent(any())).thenReturn(failed());
+        when(orderEventProducer.sendOrderDeadLetterEvent(any(), any(), any(), any())).thenReturn(failed());
+
+        orderEventConsumer.handleOrderProcessingEvent(record, acknowledgment);
+
+        verify(orderEventProducer).sendOrderDeadLetterEvent(any(), any(), any(), eq("HANDOFF_FAILED"));
+        verify(acknowledgment).acknowledge();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompletableFuture<SendResult<String, OrderProcessingEvent>> sent() {
+        return CompletableFuture.completedFuture(mock(SendResult.class));
+    }
+
+    private static CompletableFuture<SendResult<String, OrderProcessingEvent>> failed() {
+        return CompletableFuture.failedFuture(new IllegalStateException("broker unavailable"));
+    }
+}
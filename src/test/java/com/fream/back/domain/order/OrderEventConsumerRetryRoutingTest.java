@@ -0,0 +1,172 @@
+package com.fream.back.domain.order;
+
+import com.fream.back.domain.order.dto.kafka.OrderProcessingEvent;
+import com.fream.back.domain.order.repository.OrderRepository;
+import com.fream.back.domain.order.service.kafka.OrderEventConsumer;
+import com.fream.back.domain.order.service.kafka.OrderEventProducer;
+import com.fream.back.domain.order.service.kafka.OrderKeyedExecutor;
+import com.fream.back.domain.order.service.kafka.OrderRetryDelayScheduler;
+import com.fream.back.domain.payment.service.command.PaymentCommandService;
+import com.fream.back.domain.shipment.service.command.OrderShipmentCommandService;
+import com.fream.back.domain.user.service.query.UserQueryService;
+import com.fream.back.domain.warehouseStorage.service.command.WarehouseStorageCommandService;
+import com.fream.back.global.idempotency.IdempotencyClaim;
+import com.fream.back.global.idempotency.IdempotencyKeyStore;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 주문 재시도 리스너 단위 테스트 — 처리 시각 전 지연, 재시도 가능 오류는 다음 단계 토픽, 재시도 불가/횟수 초과는 DLT, 발행 실패 시 nack.
+ */
+class OrderEventConsumerRetryRoutingTest {
+
+    private static final String LISTENER_ID = "orderRetryListener";
+    private static final long RECORD_TIMESTAMP = 1_700_000_000_000L;
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final OrderEventProducer orderEventProducer = mock(OrderEventProducer.class);
+    private final OrderRetryDelayScheduler orderRetryDelayScheduler = mock(OrderRetryDelayScheduler.class);
+    private final IdempotencyKeyStore idempotencyKeyStore = mock(IdempotencyKeyStore.class);
+    private final IdempotencyClaim claim = mock(IdempotencyClaim.class);
+    private final Acknowledgment acknowledgment = mock(Acknowledgment.class);
+    private final Consumer<?, ?> consumer = mock(Consumer.class);
+    private OrderEventConsumer orderEventConsumer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        orderEventConsumer = new OrderEventConsumer(orderRepository, mock(PaymentCommandService.class),
+                mock(OrderShipmentCommandService.class), mock(WarehouseStorageCommandService.class),
+                mock(UserQueryService.class), orderEventProducer, mock(SimpMessagingTemplate.class),
+                (KafkaTemplate<String, Map<String, Object>>) mock(KafkaTemplate.class), mock(TransactionTemplate.class),
+                orderRetryDelayScheduler, mock(OrderKeyedExecutor.class), idempotencyKeyStore);
+        ReflectionTestUtils.setField(orderEventConsumer, "handOffRetryDelayMs", 1_000L);
+
+        when(orderEventProducer.getRetryDelayMs(anyInt())).thenReturn(5_000L);
+        when(claim.isAcquired()).thenReturn(true);
+        when(idempotencyKeyStore.claim(any(), any())).thenReturn(claim);
+        when(orderEventProducer.sendOrderRetryEvent(any())).thenReturn(sent());
+        when(orderEventProducer.sendOrderDeadLetterEvent(any(), any(), any(), any())).thenReturn(sent());
+    }
+
+    @Test
+    void notDueRecord_isDeferredWithoutProcessingOrAck() {
+        ConsumerRecord<String, OrderProcessingEvent> record = record(event(2));
+        when(orderRetryDelayScheduler.deferIfNotDue(eq(LISTENER_ID), eq(record), eq(consumer), anyLong())).thenReturn(true);
+
+        orderEventConsumer.handleOrderRetryEvent(record, acknowledgment, consumer);
+
+        // 처리 시각 = 레코드 발행 시각 + 회차별 지연
+        verify(orderRetryDelayScheduler).deferIfNotDue(LISTENER_ID, record, consumer, RECORD_TIMESTAMP + 5_000L);
+        verifyNoInteractions(idempotencyKeyStore, orderRepository, acknowledgment);
+    }
+
+    @Test
+    void retryableFailure_isPublishedToNextTier_andAcked() {
+        OrderProcessingEvent event = event(1);
+        when(orderRepository.findById(10L)).thenThrow(new QueryTimeoutException("lock wait timeout"));
+
+        orderEventConsumer.handleOrderRetryEvent(record(event), acknowledgment, consumer);
+
+        verify(idempotencyKeyStore).release(claim);
+        verify(orderEventProducer).sendOrderRetryEvent(event);
+        verify(orderEventProducer, never()).sendOrderDeadLetterEvent(any(), any(), any(), any());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void retryableFailure_afterLastTier_goesToDltAsRetryExhausted() {
+        OrderProcessingEvent event = event(3);
+        ConsumerRecord<String, OrderProcessingEvent> record = record(event);
+        QueryTimeoutException error = new QueryTimeoutException("lock wait timeout");
+        when(orderRepository.findById(10L)).thenThrow(error);
+
+        orderEventConsumer.handleOrderRetryEvent(record, acknowledgment, consumer);
+
+        verify(orderEventProducer, never()).sendOrderRetryEvent(any());
+        verify(orderEventProducer).sendOrderDeadLetterEvent(event, error, record, "RETRY_EXHAUSTED");
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void nonRetryableFailure_goesStraightToDlt() {
+        OrderProcessingEvent event = event(1);
+        ConsumerRecord<String, OrderProcessingEvent> record = record(event);
+        when(orderRepository.findById(10L)).thenReturn(Optional.empty());
+
+        orderEventConsumer.handleOrderRetryEvent(record, acknowledgment, consumer);
+
+        verify(orderEventProducer, never()).sendOrderRetryEvent(any());
+        verify(orderEventProducer).sendOrderDeadLetterEvent(eq(event), any(IllegalArgumentException.class),
+                eq(record), eq("NON_RETRYABLE"));
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void handOffPublishFailure_nacksRecordInsteadOfAcking() {
+        when(orderRepository.findById(10L)).thenThrow(new QueryTimeoutException("lock wait timeout"));
+        when(orderEventProducer.sendOrderRetryEvent(any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+
+        orderEventConsumer.handleOrderRetryEvent(record(event(1)), acknowledgment, consumer);
+
+        // 리스너 스레드에서는 ACK 하지 않고 같은 레코드를 잠시 뒤 다시 받는다
+        verify(acknowledgment, never()).acknowledge();
+        verify(acknowledgment).nack(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void completedClaim_isAckedWithoutRouting() {
+        when(claim.isAcquired()).thenReturn(false);
+        when(claim.isCompleted()).thenReturn(true);
+
+        orderEventConsumer.handleOrderRetryEvent(record(event(2)), acknowledgment, consumer);
+
+        verify(acknowledgment).acknowledge();
+        verifyNoInteractions(orderRepository);
+        verify(orderEventProducer, never()).sendOrderRetryEvent(any());
+        verify(orderEventProducer, never()).sendOrderDeadLetterEvent(any(), any(), any(), any());
+    }
+
+    private static OrderProcessingEvent event(int retryCount) {
+        OrderProcessingEvent event = OrderProcessingEvent.create(10L, "buyer@test.com", null);
+        event.setRetryCount(retryCount);
+        return event;
+    }
+
+    private static ConsumerRecord<String, OrderProcessingEvent> record(OrderProcessingEvent event) {
+        return new ConsumerRecord<>(OrderEventProducer.ORDER_RETRY_TIER2_TOPIC, 0, 7L, RECORD_TIMESTAMP,
+                TimestampType.CREATE_TIME, 0, 0, "10", event, new RecordHeaders(), Optional.empty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompletableFuture<SendResult<String, OrderProcessingEvent>> sent() {
+        return CompletableFuture.completedFuture(mock(SendResult.class));
+    }
+}
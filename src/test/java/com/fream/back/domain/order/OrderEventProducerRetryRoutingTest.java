@@ -0,0 +1,122 @@
+package com.fream.back.domain.order;
+
+import com.fream.back.domain.order.dto.kafka.OrderProcessingEvent;
+import com.fream.back.domain.order.service.kafka.OrderEventProducer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 주문 재시도 발행 단위 테스트 — 회차별 지연 단계 토픽/지연 시간, 최대 재시도 초과 시 발행 중단, DLT 헤더.
+ */
+class OrderEventProducerRetryRoutingTest {
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, OrderProcessingEvent> kafkaTemplate = mock(KafkaTemplate.class);
+    private final OrderEventProducer producer = new OrderEventProducer(kafkaTemplate);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(producer, "retryDelaysMs", List.of(1000L, 5000L, 30000L));
+    }
+
+    @Test
+    void retryCount_mapsToTierTopicAndDelay() {
+        assertThat(producer.getRetryTopic(1)).isEqualTo(OrderEventProducer.ORDER_RETRY_TIER1_TOPIC);
+        assertThat(producer.getRetryTopic(2)).isEqualTo(OrderEventProducer.ORDER_RETRY_TIER2_TOPIC);
+        assertThat(producer.getRetryTopic(3)).isEqualTo(OrderEventProducer.ORDER_RETRY_TIER3_TOPIC);
+        assertThat(producer.getRetryTopic(7)).isEqualTo(OrderEventProducer.ORDER_RETRY_TIER3_TOPIC);
+        // 이전 단일 재시도 토픽에서 온 0회차 레코드도 tier1 지연을 따른다
+        assertThat(producer.getRetryDelayMs(0)).isEqualTo(1000L);
+        assertThat(producer.getRetryDelayMs(1)).isEqualTo(1000L);
+        assertThat(producer.getRetryDelayMs(2)).isEqualTo(5000L);
+        assertThat(producer.getRetryDelayMs(5)).isEqualTo(30000L);
+    }
+
+    @Test
+    void retryDelays_shorterListThanTiers_reusesLastDelay() {
+        ReflectionTestUtils.setField(producer, "retryDelaysMs", List.of(2000L));
+
+        assertThat(producer.getRetryDelayMs(3)).isEqualTo(2000L);
+
+        ReflectionTestUtils.setField(producer, "retryDelaysMs", List.of());
+        assertThat(producer.getRetryDelayMs(1)).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sendOrderRetryEvent_publishesNextRetryToItsTierTopic() {
+        when(kafkaTemplate.send(anyString(), anyString(), any(OrderProcessingEvent.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        OrderProcessingEvent event = event(1);
+
+        producer.sendOrderRetryEvent(event);
+
+        ArgumentCaptor<OrderProcessingEvent> sent = ArgumentCaptor.forClass(OrderProcessingEvent.class);
+        verify(kafkaTemplate).send(eq(OrderEventProducer.ORDER_RETRY_TIER2_TOPIC), eq("10"), sent.capture());
+        assertThat(sent.getValue().getRetryCount()).isEqualTo(2);
+        assertThat(sent.getValue().getEventId()).isEqualTo(event.getEventId());
+    }
+
+    @Test
+    void sendOrderRetryEvent_maxRetryExceeded_doesNotPublish() throws Exception {
+        CompletableFuture<SendResult<String, OrderProcessingEvent>> result = producer.sendOrderRetryEvent(event(3));
+
+        assertThat(result.get()).isNull();
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any(OrderProcessingEvent.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sendOrderDeadLetterEvent_recordsSourceAndReasonHeaders() {
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        ConsumerRecord<String, OrderProcessingEvent> source =
+                new ConsumerRecord<>(OrderEventProducer.ORDER_RETRY_TIER3_TOPIC, 2, 41L, "10", event(3));
+
+        producer.sendOrderDeadLetterEvent(event(3), new IllegalStateException("PG 응답 없음"), source, "RETRY_EXHAUSTED");
+
+        ArgumentCaptor<ProducerRecord<String, OrderProcessingEvent>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        ProducerRecord<String, OrderProcessingEvent> record = captor.getValue();
+        assertThat(record.topic()).isEqualTo(OrderEventProducer.ORDER_DLT_TOPIC);
+        assertThat(record.key()).isEqualTo("10");
+        assertThat(header(record, KafkaHeaders.DLT_ORIGINAL_TOPIC)).isEqualTo(OrderEventProducer.ORDER_RETRY_TIER3_TOPIC);
+        assertThat(header(record, KafkaHeaders.DLT_ORIGINAL_PARTITION)).isEqualTo("2");
+        assertThat(header(record, KafkaHeaders.DLT_ORIGINAL_OFFSET)).isEqualTo("41");
+        assertThat(header(record, KafkaHeaders.DLT_EXCEPTION_FQCN)).isEqualTo(IllegalStateException.class.getName());
+        assertThat(header(record, KafkaHeaders.DLT_EXCEPTION_MESSAGE)).isEqualTo("PG 응답 없음");
+        assertThat(header(record, OrderEventProducer.DLT_REASON_HEADER)).isEqualTo("RETRY_EXHAUSTED");
+    }
+
+    private static OrderProcessingEvent event(int retryCount) {
+        OrderProcessingEvent event = OrderProcessingEvent.create(10L, "buyer@test.com", null);
+        event.setRetryCount(retryCount);
+        return event;
+    }
+
+    private static String header(ProducerRecord<?, ?> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,136 @@
+package com.fream.back.domain.order;
+
+import com.fream.back.domain.order.service.kafka.OrderKeyedExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 ID 키 실행기 단위 테스트 — 같은 주문 순차 실행, 다른 주문 동시 실행, 실패 격리, 진행 중 상한, 유휴 대기.
+ */
+class OrderKeyedExecutorTest {
+
+    private OrderKeyedExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void sameOrder_runsInSubmissionOrder() throws Exception {
+        executor = new OrderKeyedExecutor(4, 64);
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < 20; i++) {
+            int index = i;
+            executor.submit(1L, () -> {
+                sleep(index % 3);
+                executed.add(index);
+            });
+        }
+
+        assertThat(executor.awaitIdle(5_000)).isTrue();
+        assertThat(executed).containsExactlyElementsOf(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9,
+                10, 11, 12, 13, 14, 15, 16, 17, 18, 19));
+    }
+
+    @Test
+    void differentOrders_runConcurrently() throws Exception {
+        executor = new OrderKeyedExecutor(2, 64);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        executor.submit(1L, () -> {
+            bothStarted.countDown();
+            await(release);
+        });
+        executor.submit(2L, () -> {
+            bothStarted.countDown();
+            await(release);
+        });
+
+        assertThat(bothStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+        assertThat(executor.awaitIdle(5_000)).isTrue();
+    }
+
+    @Test
+    void failedTask_doesNotBlockNextTaskOfSameOrder() throws Exception {
+        executor = new OrderKeyedExecutor(2, 64);
+        AtomicBoolean nextRan = new AtomicBoolean();
+
+        executor.submit(1L, () -> {
+            throw new IllegalStateException("처리 실패");
+        });
+        executor.submit(1L, () -> nextRan.set(true));
+
+        assertThat(executor.awaitIdle(5_000)).isTrue();
+        assertThat(nextRan).isTrue();
+    }
+
+    @Test
+    void submit_blocksWhenMaxInFlightReached() throws Exception {
+        executor = new OrderKeyedExecutor(4, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(1L, () -> await(release));
+        executor.submit(2L, () -> await(release));
+        assertThat(executor.getInFlightCount()).isEqualTo(2);
+
+        CountDownLatch thirdSubmitted = new CountDownLatch(1);
+        Thread submitter = new Thread(() -> {
+            try {
+                executor.submit(3L, () -> { });
+                thirdSubmitted.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        submitter.start();
+
+        // 상한에 닿으면 제출한 스레드(리스너)가 기다린다
+        assertThat(thirdSubmitted.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        release.countDown();
+        assertThat(thirdSubmitted.await(5, TimeUnit.SECONDS)).isTrue();
+        submitter.join(5_000);
+        assertThat(executor.awaitIdle(5_000)).isTrue();
+        assertThat(executor.getInFlightCount()).isZero();
+    }
+
+    @Test
+    void awaitIdle_timesOutWhileTaskIsRunning() throws Exception {
+        executor = new OrderKeyedExecutor(1, 4);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(1L, () -> await(release));
+
+        assertThat(executor.awaitIdle(100)).isFalse();
+
+        release.countDown();
+        assertThat(executor.awaitIdle(5_000)).isTrue();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.fream.back.domain.order;
+
+import com.fream.back.domain.order.service.kafka.OrderRetryDelayScheduler;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 지연 재시도 스케줄러 단위 테스트 — 처리 시각 전 파티션 정지/되감기, 같은 poll 묶음 건너뛰기, 재개, 컨테이너 누락,
+ * 회수 후 재할당 시 되감기 기록 정리.
+ */
+class OrderRetryDelaySchedulerTest {
+
+    private static final String LISTENER_ID = "orderRetryListener";
+    private static final String TOPIC = "order-retry-tier2-topic";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+    private final KafkaListenerEndpointRegistry registry = mock(KafkaListenerEndpointRegistry.class);
+    private final MessageListenerContainer container = mock(MessageListenerContainer.class);
+    private final Consumer<?, ?> consumer = mock(Consumer.class);
+    private final OrderRetryDelayScheduler scheduler = new OrderRetryDelayScheduler(registry);
+
+    @BeforeEach
+    void setUp() {
+        when(registry.getListenerContainer(LISTENER_ID)).thenReturn(container);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void dueRecord_isProcessedImmediately() {
+        boolean deferred = scheduler.deferIfNotDue(LISTENER_ID, record(5), consumer, System.currentTimeMillis() - 1);
+
+        assertThat(deferred).isFalse();
+        verify(container, never()).pausePartition(any());
+        verify(consumer, never()).seek(any(TopicPartition.class), anyLong());
+    }
+
+    @Test
+    void notDueRecord_pausesAndRewindsPartition_thenResumesWhenDue() {
+        boolean deferred = scheduler.deferIfNotDue(LISTENER_ID, record(5), consumer, System.currentTimeMillis() + 100);
+
+        assertThat(deferred).isTrue();
+        verify(consumer).seek(PARTITION, 5L);
+        verify(container).pausePartition(PARTITION);
+        verify(container, timeout(2_000)).resumePartition(PARTITION);
+    }
+
+    @Test
+    void laterRecordsOfSamePoll_areSkippedUntilRewoundRecordReturns() {
+        long future = System.currentTimeMillis() + 60_000;
+        assertThat(scheduler.deferIfNotDue(LISTENER_ID, record(5), consumer, future)).isTrue();
+
+        // 같은 poll 묶음의 뒤 레코드는 되감은 오프셋부터 다시 받으므로 처리하지 않고 정지도 반복하지 않음
+        assertThat(scheduler.deferIfNotDue(LISTENER_ID, record(6), consumer, System.currentTimeMillis() - 1)).isTrue();
+        assertThat(scheduler.deferIfNotDue(LISTENER_ID, record(7), consumer, System.currentTimeMillis() - 1)).isTrue();
+        verify(container, times(1)).pausePartition(PARTITION);
+
+        // 재개 후 되감은 레코드가 다시 도착하면 정상 처리
+        assertThat(scheduler.deferIfNotDue(LISTENER_ID, record(5), consumer, System.currentTimeMillis() - 1)).isFalse();
+        assertThat(scheduler.deferIfNotDue(LISTENER_ID, record(6), consumer, System.currentTimeMillis() - 1)).isFalse();
+    }
+
+    @Test
+    void otherPartitions_areNotAffectedByPausedPartition() {
+        scheduler.deferIfNotDue(LISTENER_ID, record(5), consumer, System.currentTimeMillis() + 60_000);
+
+        ConsumerRecord<String, String> other = new ConsumerRecord<>(TOPIC, 1, 9L, "20", "event");
+        assertThat(scheduler.deferIfNotDue(LISTENER_ID, other, consumer, System.currentTimeMillis() - 1)).isFalse();
+    }
+
+    @Test
+    void missingContainer_processesWithoutDelay() {
+        when(registry.getListenerContainer(LISTENER_ID)).thenReturn(null);
+
+        boolean deferred = scheduler.deferIfNotDue(LISTENER_ID, record(5), consumer, System.currentTimeMillis() + 60_000);
+
+        assertThat(deferred).isFalse();
+        verify(consumer, never()).seek(any(TopicPartition.class), anyLong());
+    }
+
+    @Test
+    void revokedWhileRewound_thenReassignedPastRewoundOffset_processesRecords() throws InterruptedException {
+        assertThat(scheduler.deferIfNotDue(LISTENER_ID, record(5), consumer, System.currentTimeMillis() + 200)).isTrue();
+
+        // 회수 직전: 되감기 기록을 지우고 일시정지 요청을 해제
+        scheduler.onPartitionsRevoked(List.of(PARTITION));
+        verify(container, times(1)).resumePartition(PARTITION);
+
+        // 그 사이 다른 인스턴스가 오프셋 9까지 커밋한 뒤 다시 할당받음
+        scheduler.onPartitionsAssigned(List.of(PARTITION));
+        assertThat(scheduler.deferIfNotDue(LISTENER_ID, record(9), consumer, System.currentTimeMillis() - 1)).isFalse();
+        assertThat(scheduler.deferIfNotDue(LISTENER_ID, record(10), consumer, System.currentTimeMillis() - 1)).isFalse();
+
+        // 회수 전에 예약된 재개는 더 이상 유효하지 않으므로 다시 재개하지 않음
+        Thread.sleep(500);
+        verify(container, times(1)).resumePartition(PARTITION);
+    }
+
+    @Test
+    void assignedPartitionWithStaleRewind_isCleared_otherPartitionsKeepTheirs() {
+        TopicPartition other = new TopicPartition(TOPIC, 1);
+        long future = System.currentTimeMillis() + 60_000;
+        scheduler.deferIfNotDue(LISTENER_ID, record(5), consumer, future);
+        scheduler.deferIfNotDue(LISTENER_ID, new ConsumerRecord<>(TOPIC, 1, 3L, "20", "event"), consumer, future);
+
+        // 회수 콜백 없이 재할당된 경우(파티션 유실 등)도 이전 기록으로 레코드를 버리지 않음
+        scheduler.onPartitionsAssigned(List.of(PARTITION));
+
+        assertThat(scheduler.deferIfNotDue(LISTENER_ID, record(9), consumer, System.currentTimeMillis() - 1)).isFalse();
+        assertThat(scheduler.deferIfNotDue(LISTENER_ID, new ConsumerRecord<>(TOPIC, 1, 4L, "20", "event"), consumer,
+                System.currentTimeMillis() - 1)).isTrue();
+        verify(container, never()).resumePartition(other);
+    }
+
+    private static ConsumerRecord<String, String> record(long offset) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, "10", "event");
+    }
+}
@@ -0,0 +1,137 @@
+package com.fream.back.domain.order;
+
+import com.fream.back.domain.order.dto.OrderBidStatusCountDto;
+import com.fream.back.domain.order.entity.BidStatus;
+import com.fream.back.domain.order.entity.OrderBid;
+import com.fream.back.domain.order.repository.OrderBidRepository;
+import com.fream.back.domain.sale.dto.SaleBidStatusCountDto;
+import com.fream.back.domain.sale.entity.SaleBid;
+import com.fream.back.domain.sale.repository.SaleBidRepository;
+import com.fream.back.domain.user.entity.User;
+import com.fream.back.domain.user.repository.UserRepository;
+import com.fream.back.domain.warehouseStorage.dto.WarehouseStatusCountDto;
+import com.fream.back.domain.warehouseStorage.entity.WarehouseStatus;
+import com.fream.back.domain.warehouseStorage.entity.WarehouseStorage;
+import com.fream.back.domain.warehouseStorage.repository.WarehouseStorageRepository;
+import com.fream.back.domain.warehouseStorage.service.query.WarehouseStorageQueryService;
+import com.fream.back.global.config.QueryDslConfig;
+import com.fream.back.global.utils.StatusCountUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상태별 개수 GROUP BY 집계 테스트 — 구매/판매 입찰과 창고 보관 개수가 사용자별로 한 번의 그룹 쿼리로 맞게 집계되고, 없는 상태는 0.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(QueryDslConfig.class)
+class StatusGroupCountQueryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private OrderBidRepository orderBidRepository;
+    @Autowired
+    private SaleBidRepository saleBidRepository;
+    @Autowired
+    private WarehouseStorageRepository warehouseStorageRepository;
+
+    private User owner;
+    private User other;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(user("owner@test.com", "REF-OWNER"));
+        other = userRepository.save(user("other@test.com", "REF-OTHER"));
+    }
+
+    @Test
+    void orderBidCounts_groupByStatusForOwnerOnly() {
+        orderBids(owner, BidStatus.PENDING, BidStatus.PENDING, BidStatus.MATCHED, BidStatus.CANCELLED, BidStatus.COMPLETED);
+        orderBids(other, BidStatus.PENDING, BidStatus.MATCHED);
+
+        OrderBidStatusCountDto counts = orderBidRepository.countOrderBidsByStatus(owner.getEmail());
+
+        assertThat(counts.getPendingCount()).isEqualTo(2);
+        assertThat(counts.getMatchedCount()).isEqualTo(1);
+        assertThat(counts.getCancelledOrCompletedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void saleBidCounts_missingStatusesAreZero() {
+        // 판매 입찰은 sale 도메인의 BidStatus를 사용
+        saleBids(owner, "MATCHED", "MATCHED", "MATCHED");
+        saleBids(other, "PENDING");
+
+        SaleBidStatusCountDto counts = saleBidRepository.countSaleBidsByStatus(owner.getEmail());
+
+        assertThat(counts.getPendingCount()).isZero();
+        assertThat(counts.getMatchedCount()).isEqualTo(3);
+        assertThat(counts.getCancelledOrCompletedCount()).isZero();
+    }
+
+    @Test
+    void warehouseCounts_groupByStatusForOwnerOnly() {
+        storages(owner, WarehouseStatus.IN_STORAGE, WarehouseStatus.IN_STORAGE, WarehouseStatus.ON_AUCTION, WarehouseStatus.SOLD);
+        storages(other, WarehouseStatus.SOLD);
+
+        List<Object[]> rows = warehouseStorageRepository.countByStatusForUser(owner.getEmail());
+        WarehouseStatusCountDto counts = new WarehouseStorageQueryService(warehouseStorageRepository)
+                .getWarehouseStatusCount(owner.getEmail());
+
+        assertThat(rows).hasSize(3); // 상태별 한 행
+        assertThat(counts.getInStorageCount()).isEqualTo(2);
+        assertThat(counts.getOnAuctionCount()).isEqualTo(1);
+        assertThat(counts.getSoldCount()).isEqualTo(1);
+        assertThat(counts.getAssociatedWithOrderCount()).isZero();
+        assertThat(counts.getRemovedFromStorageCount()).isZero();
+    }
+
+    @Test
+    void userWithoutRows_getsAllZeroCounts() {
+        Map<WarehouseStatus, Long> counts = StatusCountUtils.toCountMap(WarehouseStatus.class,
+                warehouseStorageRepository.countByStatusForUser("nobody@test.com"));
+
+        assertThat(counts).hasSize(WarehouseStatus.values().length).allSatisfy((status, count) -> assertThat(count).isZero());
+        assertThat(orderBidRepository.countOrderBidsByStatus("nobody@test.com").getPendingCount()).isZero();
+    }
+
+    private void orderBids(User user, BidStatus... statuses) {
+        for (BidStatus status : statuses) {
+            orderBidRepository.save(OrderBid.builder().user(user).bidPrice(10_000).status(status).build());
+        }
+    }
+
+    private void saleBids(User seller, String... statuses) {
+        for (String status : statuses) {
+            saleBidRepository.save(SaleBid.builder().seller(seller).bidPrice(10_000)
+                    .status(com.fream.back.domain.sale.entity.BidStatus.valueOf(status)).build());
+        }
+    }
+
+    private void storages(User user, WarehouseStatus... statuses) {
+        for (WarehouseStatus status : statuses) {
+            warehouseStorageRepository.save(WarehouseStorage.builder().user(user).status(status).build());
+        }
+    }
+
+    private static User user(String email, String referralCode) {
+        return User.builder()
+                .email(email)
+                .password("pw")
+                .referralCode(referralCode)
+                .phoneNumber("010-0000-0000")
+                .build();
+    }
+}
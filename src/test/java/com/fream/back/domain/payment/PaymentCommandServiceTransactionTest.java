@@ -0,0 +1,137 @@
+package com.fream.back.domain.payment;
+
+import com.fream.back.domain.notification.service.command.NotificationCommandService;
+import com.fream.back.domain.order.entity.Order;
+import com.fream.back.domain.order.entity.OrderStatus;
+import com.fream.back.domain.order.repository.OrderRepository;
+import com.fream.back.domain.payment.dto.CardPaymentRequestDto;
+import com.fream.back.domain.payment.entity.Payment;
+import com.fream.back.domain.payment.entity.PaymentInfo;
+import com.fream.back.domain.payment.entity.PaymentStatus;
+import com.fream.back.domain.payment.exception.PaymentApiException;
+import com.fream.back.domain.payment.portone.PortOneApiClient;
+import com.fream.back.domain.payment.repository.PaymentRepository;
+import com.fream.back.domain.payment.service.command.PaymentCommandService;
+import com.fream.back.domain.payment.service.query.PaymentInfoQueryService;
+import com.fream.back.domain.sale.service.query.SaleBidQueryService;
+import com.fream.back.domain.user.entity.User;
+import com.fream.back.domain.user.repository.UserRepository;
+import com.fream.back.global.config.QueryDslConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 결제 단계 트랜잭션 테스트 — 호출자 트랜잭션이 롤백돼도 결제 의도(PENDING)와 승인 결과는 남는다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(QueryDslConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PaymentCommandServiceTransactionTest {
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManager entityManager;
+
+    private final PortOneApiClient portOneApiClient = mock(PortOneApiClient.class);
+    private PaymentCommandService service;
+    private TransactionTemplate outer;
+    private User buyer;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        PaymentInfoQueryService paymentInfoQueryService = mock(PaymentInfoQueryService.class);
+        when(paymentInfoQueryService.getPaymentInfoEntity(anyString(), anyLong())).thenReturn(PaymentInfo.builder()
+                .cardNumber("1234-5678-9012-3456")
+                .cardPassword("12")
+                .expirationDate("12/30")
+                .birthDate("900101")
+                .build());
+        service = new PaymentCommandService(paymentRepository, paymentInfoQueryService, portOneApiClient,
+                mock(NotificationCommandService.class), mock(SaleBidQueryService.class), transactionManager, entityManager);
+        outer = new TransactionTemplate(transactionManager);
+
+        buyer = userRepository.save(User.builder()
+                .email("payer@test.com")
+                .password("pw")
+                .referralCode("REF-PAYER")
+                .phoneNumber("010-0000-0000")
+                .build());
+        order = orderRepository.save(Order.builder()
+                .user(buyer)
+                .totalAmount(10_000)
+                .status(OrderStatus.PENDING_PAYMENT)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentRepository.findByOrder_Id(order.getId()).ifPresent(paymentRepository::delete);
+        orderRepository.deleteById(order.getId());
+        userRepository.deleteById(buyer.getId());
+    }
+
+    @Test
+    void unknownOutcome_pendingPaymentSurvivesCallerRollback() {
+        when(portOneApiClient.processCardPayment(any(), anyDouble(), anyString()))
+                .thenThrow(new PaymentApiException("timeout"));
+
+        assertThatThrownBy(() -> outer.executeWithoutResult(status ->
+                service.processPayment(order, buyer, cardRequest())))
+                .isInstanceOf(PaymentApiException.class);
+
+        // 호출자 트랜잭션은 롤백됐지만 merchant_uid가 있는 PENDING 결제는 대사 대상으로 남아 있어야 한다
+        Payment pending = paymentRepository.findByOrder_Id(order.getId()).orElseThrow();
+        assertThat(pending.getStatus()).isEqualTo(PaymentStatus.PENDING);
+    }
+
+    @Test
+    void approvedPayment_survivesCallerRollback() {
+        when(portOneApiClient.processCardPayment(any(), anyDouble(), anyString()))
+                .thenReturn(Map.of("status", "paid", "imp_uid", "imp_1", "card_name", "신한카드"));
+
+        assertThatThrownBy(() -> outer.executeWithoutResult(status -> {
+            service.processPayment(order, buyer, cardRequest());
+            throw new IllegalStateException("배송 정보 처리 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // 승인된 결제가 호출자 롤백과 함께 사라지면 돈은 빠져나갔는데 기록이 없게 된다
+        Payment approved = paymentRepository.findByOrder_Id(order.getId()).orElseThrow();
+        assertThat(approved.getStatus()).isEqualTo(PaymentStatus.PAID);
+    }
+
+    private CardPaymentRequestDto cardRequest() {
+        return new CardPaymentRequestDto("CARD", "CARD", 10_000, order.getId(), buyer.getEmail(), 1L);
+    }
+}
@@ -0,0 +1,124 @@
+package com.fream.back.domain.payment;
+
+import com.fream.back.domain.payment.service.PaymentEncryptionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 결제 암호화 서비스 단위 테스트 — 기동 시 키 유도, 기존 암호문 호환, 키 버전 교체, 스레드별 Cipher 재사용, 일괄 처리.
+ */
+class PaymentEncryptionServiceTest {
+
+    private static final String SECRET = "payment-secret";
+    private static final String SALT = "payment-salt";
+    private static final String IV = "0123456789abcdef";
+
+    @Test
+    void encrypt_producesSameCiphertextAsPerCallKeyDerivation() throws Exception {
+        PaymentEncryptionService service = newService(SECRET, 1, List.of());
+
+        String encrypted = service.encrypt("1234-5678-9012-3456");
+
+        // 기존 구현(호출마다 PBKDF2 유도)으로 만든 암호문과 같아야 저장된 데이터를 그대로 읽을 수 있다
+        assertThat(encrypted).isEqualTo(legacyEncrypt(SECRET, "1234-5678-9012-3456"));
+        assertThat(service.decrypt(legacyEncrypt(SECRET, "900101"))).isEqualTo("900101");
+    }
+
+    @Test
+    void keyRotation_encryptsWithCurrentVersion_andDecryptsPreviousKeys() throws Exception {
+        PaymentEncryptionService rotated = newService("new-secret", 2, List.of("1:" + SECRET));
+
+        String encrypted = rotated.encrypt("card");
+
+        assertThat(encrypted).startsWith("v2$");
+        assertThat(rotated.decrypt(encrypted)).isEqualTo("card");
+        assertThat(rotated.decrypt(legacyEncrypt(SECRET, "old-card"))).isEqualTo("old-card");
+
+        // 이전 키를 모르는 서비스는 새 버전 암호문을 복호화하지 못한다
+        PaymentEncryptionService legacyOnly = newService(SECRET, 1, List.of());
+        assertThatThrownBy(() -> legacyOnly.decrypt(encrypted)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void init_rejectsMalformedPreviousKey() {
+        assertThatThrownBy(() -> newService(SECRET, 2, List.of("no-version")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void encryptAllAndDecryptAll_keepOrderAndNulls_andMatchSingleCalls() {
+        PaymentEncryptionService service = newService(SECRET, 1, List.of());
+        List<String> plain = Arrays.asList("a", null, "생년월일 900101", "a");
+
+        List<String> encrypted = service.encryptAll(plain);
+
+        assertThat(encrypted).hasSize(4);
+        assertThat(encrypted.get(0)).isEqualTo(service.encrypt("a")).isEqualTo(encrypted.get(3));
+        assertThat(encrypted.get(1)).isNull();
+        assertThat(service.decryptAll(encrypted)).containsExactlyElementsOf(plain);
+    }
+
+    @Test
+    void concurrentCalls_eachThreadReusesItsOwnCipher() throws Exception {
+        PaymentEncryptionService service = newService(SECRET, 1, List.of());
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Boolean>> tasks = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                tasks.add(() -> {
+                    for (int i = 0; i < 200; i++) {
+                        String value = "card-" + thread + "-" + i;
+                        if (!value.equals(service.decrypt(service.encrypt(value)))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                });
+            }
+            for (Future<Boolean> result : pool.invokeAll(tasks)) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static PaymentEncryptionService newService(String secret, int version, List<String> previousKeys) {
+        PaymentEncryptionService service = new PaymentEncryptionService();
+        ReflectionTestUtils.setField(service, "secretKey", secret);
+        ReflectionTestUtils.setField(service, "salt", SALT);
+        ReflectionTestUtils.setField(service, "iv", IV);
+        ReflectionTestUtils.setField(service, "keyVersion", version);
+        ReflectionTestUtils.setField(service, "previousKeys", previousKeys);
+        service.init();
+        return service;
+    }
+
+    private static String legacyEncrypt(String secret, String plainText) throws Exception {
+        SecretKeyFactory factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
+        PBEKeySpec spec = new PBEKeySpec(secret.toCharArray(), SALT.getBytes(StandardCharsets.UTF_8), 65536, 256);
+        SecretKeySpec key = new SecretKeySpec(factory.generateSecret(spec).getEncoded(), "AES");
+        Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+        cipher.init(Cipher.ENCRYPT_MODE, key, new IvParameterSpec(IV.getBytes(StandardCharsets.UTF_8)));
+        return Base64.getEncoder().encodeToString(cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8)));
+    }
+}
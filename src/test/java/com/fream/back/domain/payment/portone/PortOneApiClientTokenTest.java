@@ -0,0 +1,175 @@
+package com.fream.back.domain.payment.portone;
+
+import com.fream.back.domain.payment.exception.PaymentApiException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PortOne 액세스 토큰 캐시 단위 테스트 — 만료 여유 시간 기준 갱신, 서버 시각 보정, 폐기/401 처리, 동시 발급 방지, 서킷 오픈 시 거절.
+ */
+class PortOneApiClientTokenTest {
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private final PortOneApiClient client = newClient();
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAccessToken_reusesCachedTokenUntilRefreshMargin() {
+        long now = Instant.now().getEpochSecond();
+        when(restTemplate.exchange(contains("/users/getToken"), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(tokenResponse("tok-1", now, now + 1800));
+
+        assertThat(client.getAccessToken()).isEqualTo("tok-1");
+        assertThat(client.getAccessToken()).isEqualTo("tok-1");
+
+        verify(restTemplate, times(1)).exchange(contains("/users/getToken"), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAccessToken_refreshesTokenInsideRefreshMargin() {
+        long now = Instant.now().getEpochSecond();
+        // 남은 수명 30초 < 갱신 여유 60초
+        when(restTemplate.exchange(contains("/users/getToken"), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(tokenResponse("tok-1", now, now + 30), tokenResponse("tok-2", now, now + 1800));
+
+        assertThat(client.getAccessToken()).isEqualTo("tok-1");
+        assertThat(client.getAccessToken()).isEqualTo("tok-2");
+        assertThat(client.getAccessToken()).isEqualTo("tok-2");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAccessToken_usesServerClockForRemainingLifetime() {
+        // 서버 시각이 로컬과 크게 달라도 남은 수명(expired_at - now)만큼 캐시
+        when(restTemplate.exchange(contains("/users/getToken"), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(tokenResponse("tok-1", 100, 1900), tokenResponse("tok-2", 100, 1900));
+
+        client.getAccessToken();
+        assertThat(client.getAccessToken()).isEqualTo("tok-1");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void invalidateAndUnauthorizedResponse_forceReissue() {
+        long now = Instant.now().getEpochSecond();
+        when(restTemplate.exchange(contains("/users/getToken"), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(tokenResponse("tok-1", now, now + 1800),
+                        tokenResponse("tok-2", now, now + 1800),
+                        tokenResponse("tok-3", now, now + 1800));
+        when(restTemplate.exchange(contains("/payments/find/"), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.UNAUTHORIZED));
+
+        assertThat(client.getAccessToken()).isEqualTo("tok-1");
+        client.invalidateAccessToken();
+        assertThat(client.getAccessToken()).isEqualTo("tok-2");
+
+        assertThatThrownBy(() -> client.findPaymentByMerchantUid("m-1")).isInstanceOf(PaymentApiException.class);
+        assertThat(client.getAccessToken()).isEqualTo("tok-3");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void concurrentCallers_issueTokenOnce() throws Exception {
+        long now = Instant.now().getEpochSecond();
+        when(restTemplate.exchange(contains("/users/getToken"), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(50);
+                    return tokenResponse("tok-1", now, now + 1800);
+                });
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Callable<String>> tasks = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                tasks.add(() -> {
+                    start.await();
+                    return client.getAccessToken();
+                });
+            }
+            List<Future<String>> results = new ArrayList<>();
+            for (Callable<String> task : tasks) {
+                results.add(pool.submit(task));
+            }
+            start.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get()).isEqualTo("tok-1");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        verify(restTemplate, times(1)).exchange(contains("/users/getToken"), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void openCircuit_rejectsCallsWithoutReachingPortOne() {
+        when(restTemplate.exchange(contains("/users/getToken"), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenThrow(new ResourceAccessException("connect timed out"));
+
+        // 최소 2회, 실패율 50% → 두 번 실패하면 열림
+        assertThatThrownBy(client::getAccessToken).isInstanceOf(PaymentApiException.class);
+        assertThatThrownBy(client::getAccessToken).isInstanceOf(PaymentApiException.class);
+        assertThatThrownBy(client::getAccessToken).isInstanceOf(PaymentApiException.class)
+                .hasMessageContaining("일시적으로 중단");
+
+        verify(restTemplate, times(2)).exchange(contains("/users/getToken"), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class));
+    }
+
+    private PortOneApiClient newClient() {
+        PortOneApiClient portOneApiClient = new PortOneApiClient(restTemplate);
+        ReflectionTestUtils.setField(portOneApiClient, "impKey", "key");
+        ReflectionTestUtils.setField(portOneApiClient, "impSecret", "secret");
+        ReflectionTestUtils.setField(portOneApiClient, "apiTimeout", 1000);
+        ReflectionTestUtils.setField(portOneApiClient, "tokenRefreshMarginSeconds", 60L);
+        ReflectionTestUtils.setField(portOneApiClient, "asyncPoolSize", 1);
+        ReflectionTestUtils.setField(portOneApiClient, "asyncQueueCapacity", 1);
+        ReflectionTestUtils.setField(portOneApiClient, "circuitFailureRateThreshold", 0.5);
+        ReflectionTestUtils.setField(portOneApiClient, "circuitMinimumCalls", 2);
+        ReflectionTestUtils.setField(portOneApiClient, "circuitWindowMs", 60_000L);
+        ReflectionTestUtils.setField(portOneApiClient, "circuitOpenDurationMs", 60_000L);
+        portOneApiClient.init();
+        return portOneApiClient;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static ResponseEntity<Map> tokenResponse(String token, long serverNow, long expiredAt) {
+        Map body = Map.of("code", 0, "response", Map.of("access_token", token, "now", serverNow, "expired_at", expiredAt));
+        return ResponseEntity.ok(body);
+    }
+}
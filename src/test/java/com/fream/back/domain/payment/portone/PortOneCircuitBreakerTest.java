@@ -0,0 +1,96 @@
+package com.fream.back.domain.payment.portone;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PortOne 서킷 브레이커 단위 테스트 — CLOSED → OPEN → HALF_OPEN → CLOSED/OPEN 전이와 측정 구간 초기화.
+ */
+class PortOneCircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    // 실패율 50%, 최소 4회, 측정 구간 10초, 오픈 유지 5초
+    private final PortOneCircuitBreaker breaker = new PortOneCircuitBreaker(0.5, 4, 10_000, 5_000, now::get);
+
+    @Test
+    void closed_staysClosedBelowMinimumCalls() {
+        failures(3);
+
+        assertThat(breaker.getState()).isEqualTo(PortOneCircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void closed_opensWhenFailureRateReachesThreshold() {
+        successes(2);
+        failures(1);
+        assertThat(breaker.getState()).isEqualTo(PortOneCircuitBreaker.State.CLOSED);
+
+        failures(1); // 2/4 = 50%
+
+        assertThat(breaker.getState()).isEqualTo(PortOneCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void closed_windowResetDropsOldFailures() {
+        failures(3);
+        now.addAndGet(10_000);
+
+        assertThat(breaker.tryAcquire()).isTrue(); // 새 측정 구간 시작
+        breaker.recordFailure();
+
+        assertThat(breaker.getState()).isEqualTo(PortOneCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void open_allowsSingleProbeAfterOpenDuration_andClosesOnSuccess() {
+        failures(4);
+        now.addAndGet(4_999);
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        now.addAndGet(1);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(PortOneCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isFalse(); // 시험 호출은 한 건만
+
+        breaker.recordSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(PortOneCircuitBreaker.State.CLOSED);
+        // 닫히면서 측정 구간이 비워지므로 이전 실패가 다시 서킷을 열지 않는다
+        failures(3);
+        assertThat(breaker.getState()).isEqualTo(PortOneCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void halfOpen_reopensOnProbeFailure_andWaitsFullOpenDurationAgain() {
+        failures(4);
+        now.addAndGet(5_000);
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        breaker.recordFailure();
+
+        assertThat(breaker.getState()).isEqualTo(PortOneCircuitBreaker.State.OPEN);
+        now.addAndGet(4_999);
+        assertThat(breaker.tryAcquire()).isFalse();
+        now.addAndGet(1);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    private void successes(int count) {
+        for (int i = 0; i < count; i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+            breaker.recordSuccess();
+        }
+    }
+
+    private void failures(int count) {
+        for (int i = 0; i < count; i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+            breaker.recordFailure();
+        }
+    }
+}
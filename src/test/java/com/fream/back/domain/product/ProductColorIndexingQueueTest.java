@@ -0,0 +1,85 @@
+package com.fream.back.domain.product;
+
+import com.fream.back.domain.product.elasticsearch.service.ProductColorIndexingQueue;
+import com.fream.back.domain.product.elasticsearch.service.ProductColorIndexingService;
+import com.fream.back.domain.product.event.ProductColorChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 상품 색상 증분 색인 큐 단위 테스트 — colorId 병합, 배치 분할, 실패 재적재.
+ */
+class ProductColorIndexingQueueTest {
+
+    private ProductColorIndexingService indexingService;
+    private ProductColorIndexingQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        indexingService = mock(ProductColorIndexingService.class);
+        queue = new ProductColorIndexingQueue(indexingService);
+        ReflectionTestUtils.setField(queue, "maxBatchSize", 500);
+    }
+
+    @Test
+    void sameColorId_isCoalesced_andLastChangeWins() {
+        queue.onProductColorChanged(ProductColorChangedEvent.updated(1L));
+        queue.onProductColorChanged(ProductColorChangedEvent.updated(1L));
+        queue.onProductColorChanged(ProductColorChangedEvent.updated(2L));
+        queue.onProductColorChanged(ProductColorChangedEvent.deleted(2L));
+
+        assertThat(queue.pendingCount()).isEqualTo(2);
+
+        queue.flush();
+
+        verify(indexingService).indexColorsByIds(List.of(1L));
+        verify(indexingService).deleteColorsFromIndex(List.of(2L));
+        assertThat(queue.pendingCount()).isZero();
+    }
+
+    @Test
+    void flush_splitsIntoBatchesOfMaxBatchSize() {
+        ReflectionTestUtils.setField(queue, "maxBatchSize", 2);
+        for (long id = 1; id <= 5; id++) {
+            queue.onProductColorChanged(ProductColorChangedEvent.updated(id));
+        }
+
+        queue.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(indexingService, times(3)).indexColorsByIds(captor.capture());
+        assertThat(captor.getAllValues()).allSatisfy(batch -> assertThat(batch.size()).isLessThanOrEqualTo(2));
+        assertThat(captor.getAllValues().stream().mapToInt(Collection::size).sum()).isEqualTo(5);
+    }
+
+    @Test
+    void failedBatch_isRequeued_forNextFlush() {
+        queue.onProductColorChanged(ProductColorChangedEvent.updated(1L));
+        queue.onProductColorChanged(ProductColorChangedEvent.deleted(2L));
+        doThrow(new RuntimeException("es down")).when(indexingService).indexColorsByIds(anyCollection());
+
+        queue.flush();
+
+        assertThat(queue.pendingCount()).isEqualTo(2);
+    }
+
+    @Test
+    void nullColorId_isIgnored() {
+        queue.onProductColorChanged(new ProductColorChangedEvent(null, false));
+
+        assertThat(queue.pendingCount()).isZero();
+    }
+}
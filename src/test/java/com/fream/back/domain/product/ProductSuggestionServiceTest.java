@@ -0,0 +1,113 @@
+package com.fream.back.domain.product;
+
+import com.fream.back.domain.product.elasticsearch.index.ProductSuggestionIndex;
+import com.fream.back.domain.product.elasticsearch.service.ProductSuggestionService;
+import com.fream.back.domain.product.elasticsearch.service.ProductSuggestionTrie;
+import com.fream.back.domain.product.event.ProductColorChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 자동완성 트라이/제안 서비스 단위 테스트 — 접두사 top-k, 확정 여부, 변경 후 재구성.
+ */
+class ProductSuggestionServiceTest {
+
+    private ElasticsearchOperations esOperations;
+    private ProductSuggestionService service;
+
+    @BeforeEach
+    void setUp() {
+        esOperations = mock(ElasticsearchOperations.class);
+        service = new ProductSuggestionService(esOperations);
+        ReflectionTestUtils.setField(service, "trieSize", 100);
+        ReflectionTestUtils.setField(service, "trieTopK", 10);
+        ReflectionTestUtils.setField(service, "trieMaxDepth", 20);
+        ReflectionTestUtils.setField(service, "trieSettleMs", 0L);
+    }
+
+    @Test
+    void trie_keepsPopularityOrder_andMatchesEveryWordPrefix() {
+        ProductSuggestionTrie trie = ProductSuggestionTrie.build(List.of(
+                new ProductSuggestionTrie.Entry("nike dunk low", "Nike Dunk Low"),
+                new ProductSuggestionTrie.Entry("nike air force", "Nike Air Force"),
+                new ProductSuggestionTrie.Entry("adidas samba", "Adidas Samba")
+        ), 2, 20, true);
+
+        assertThat(trie.lookup("NIKE", 2)).containsExactly("Nike Dunk Low", "Nike Air Force");
+        assertThat(trie.lookup("sam", 1)).containsExactly("Adidas Samba");
+        // 보관 개수(topK)보다 많이 요청하면 트라이로 확정하지 않는다
+        assertThat(trie.lookup("nike", 3)).isNull();
+    }
+
+    @Test
+    void trie_completeCatalog_answersShortLists_unlessOutOfDate() {
+        ProductSuggestionTrie trie = ProductSuggestionTrie.build(List.of(
+                new ProductSuggestionTrie.Entry("adidas samba", "Adidas Samba")
+        ), 10, 20, true);
+
+        assertThat(trie.lookup("adi", 5)).containsExactly("Adidas Samba");
+        assertThat(trie.lookup("adi", 5, false)).isNull();
+        assertThat(trie.lookup("zzz", 5)).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void suggest_fallsThroughToIndex_afterChange_untilTrieIsRebuilt() {
+        SearchHits<ProductSuggestionIndex> initial = hits(2, doc("adidas samba", "Adidas Samba"));
+        SearchHits<ProductSuggestionIndex> afterChange = hits(2,
+                doc("adidas samba", "Adidas Samba"), doc("adidas gazelle", "Adidas Gazelle"));
+        when(esOperations.search(any(NativeQuery.class), eq(ProductSuggestionIndex.class)))
+                .thenReturn(initial, afterChange);
+        service.initialize();
+
+        assertThat(service.suggest("adi", 5)).containsExactly("Adidas Samba");
+
+        // 변경 통지 후에는 부족한 결과를 확정하지 않고 인덱스로 넘긴다
+        service.onProductColorChanged(ProductColorChangedEvent.updated(7L));
+        assertThat(service.suggest("adi", 5)).containsExactly("Adidas Samba", "Adidas Gazelle");
+
+        // 재구성 이후에는 새 트라이가 확정 결과를 낸다
+        service.rebuildIfStale();
+        assertThat(service.suggest("adi", 5)).containsExactly("Adidas Samba", "Adidas Gazelle");
+        verify(esOperations, times(3)).search(any(NativeQuery.class), eq(ProductSuggestionIndex.class));
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private static SearchHits<ProductSuggestionIndex> hits(long total, ProductSuggestionIndex... docs) {
+        SearchHits<ProductSuggestionIndex> hits = mock(SearchHits.class);
+        List<SearchHit<ProductSuggestionIndex>> list = Arrays.stream(docs)
+                .map(doc -> {
+                    SearchHit<ProductSuggestionIndex> hit = mock(SearchHit.class);
+                    when(hit.getContent()).thenReturn(doc);
+                    return hit;
+                })
+                .toList();
+        when(hits.getSearchHits()).thenReturn(list);
+        when(hits.getTotalHits()).thenReturn(total);
+        return hits;
+    }
+
+    private static ProductSuggestionIndex doc(String suggest, String displayText) {
+        ProductSuggestionIndex doc = new ProductSuggestionIndex();
+        doc.setSuggest(suggest);
+        doc.setDisplayText(displayText);
+        return doc;
+    }
+}
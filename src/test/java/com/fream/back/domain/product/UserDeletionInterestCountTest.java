@@ -0,0 +1,143 @@
+package com.fream.back.domain.product;
+
+import com.fream.back.domain.notification.service.command.NotificationCommandService;
+import com.fream.back.domain.product.entity.ProductColor;
+import com.fream.back.domain.product.event.ProductColorChangedEvent;
+import com.fream.back.domain.product.repository.InterestRepository;
+import com.fream.back.domain.product.repository.ProductColorRepository;
+import com.fream.back.domain.product.service.interest.InterestCommandService;
+import com.fream.back.domain.user.entity.User;
+import com.fream.back.domain.user.event.UserDeletingEvent;
+import com.fream.back.domain.user.repository.UserRepository;
+import com.fream.back.domain.user.service.command.IdentityVerificationService;
+import com.fream.back.domain.user.service.command.UserCommandService;
+import com.fream.back.domain.user.service.follow.FollowCommandService;
+import com.fream.back.domain.user.service.profile.ProfileCommandService;
+import com.fream.back.domain.user.service.query.UserQueryService;
+import com.fream.back.global.config.QueryDslConfig;
+import com.fream.back.global.utils.FileUtils;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 회원 탈퇴 시 관심 수 정리 테스트 — 탈퇴 사용자의 관심 상품만 관심 수 차감, cascade 삭제 전 실행, 재색인 요청, 관심 상품이 없으면 무변경.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(QueryDslConfig.class)
+class UserDeletionInterestCountTest {
+
+    @Autowired
+    private InterestRepository interestRepository;
+    @Autowired
+    private ProductColorRepository productColorRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private final UserQueryService userQueryService = mock(UserQueryService.class);
+    private final ApplicationEventPublisher productEvents = mock(ApplicationEventPublisher.class);
+    private InterestCommandService interestCommandService;
+    private UserCommandService userCommandService;
+
+    @BeforeEach
+    void setUp() {
+        interestCommandService = new InterestCommandService(
+                interestRepository, userQueryService, productColorRepository, productEvents);
+        // 탈퇴 이벤트를 같은 트랜잭션에서 동기로 관심 서비스에 전달 (@EventListener와 같은 동작)
+        ApplicationEventPublisher userEvents = event -> {
+            if (event instanceof UserDeletingEvent deleting) {
+                interestCommandService.releaseInterestCounts(deleting);
+            }
+        };
+        userCommandService = new UserCommandService(userRepository, mock(PasswordEncoder.class),
+                mock(ProfileCommandService.class), mock(FileUtils.class), mock(NotificationCommandService.class),
+                mock(IdentityVerificationService.class), mock(FollowCommandService.class), userEvents);
+    }
+
+    @Test
+    void deleteAccount_decrementsOnlyTheDeletedUsersInterests() {
+        User alice = user("alice");
+        User bob = user("bob");
+        ProductColor black = color("Black");
+        ProductColor white = color("White");
+        ProductColor red = color("Red");
+        interest(alice, black);
+        interest(alice, white);
+        interest(bob, black);
+        interest(bob, red);
+        entityManager.clear();
+        clearInvocations(productEvents);
+
+        userCommandService.deleteAccount(alice.getEmail());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(interestCount(black)).isEqualTo(1);
+        assertThat(interestCount(white)).isZero();
+        assertThat(interestCount(red)).isEqualTo(1);
+        assertThat(interestRepository.findAllByUserId(alice.getId())).isEmpty();
+        assertThat(interestRepository.findAllByUserId(bob.getId())).hasSize(2);
+        verify(productEvents).publishEvent(ProductColorChangedEvent.updated(black.getId()));
+        verify(productEvents).publishEvent(ProductColorChangedEvent.updated(white.getId()));
+        verify(productEvents, never()).publishEvent(ProductColorChangedEvent.updated(red.getId()));
+    }
+
+    @Test
+    void userWithoutInterests_leavesCountsUntouched() {
+        User alice = user("alice");
+        User bob = user("bob");
+        ProductColor black = color("Black");
+        interest(bob, black);
+        entityManager.clear();
+        clearInvocations(productEvents);
+
+        userCommandService.deleteAccount(alice.getEmail());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(interestCount(black)).isEqualTo(1);
+        verify(productEvents, never()).publishEvent(any());
+    }
+
+    private long interestCount(ProductColor color) {
+        return productColorRepository.findById(color.getId()).orElseThrow().getInterestCount();
+    }
+
+    // 관심 토글과 같은 경로로 관심 행과 관심 수를 함께 만든다
+    private void interest(User user, ProductColor color) {
+        when(userQueryService.findUserIdByEmail(user.getEmail())).thenReturn(user.getId());
+        interestCommandService.toggleInterest(user.getEmail(), color.getId());
+    }
+
+    private ProductColor color(String name) {
+        return productColorRepository.save(ProductColor.builder().colorName(name).build());
+    }
+
+    private User user(String name) {
+        return userRepository.save(User.builder()
+                .email(name + "@test.com")
+                .password("pw")
+                .referralCode("REF-" + name)
+                .phoneNumber("010-0000-0000")
+                .build());
+    }
+}
@@ -0,0 +1,176 @@
+package com.fream.back.domain.shipment;
+
+import com.fream.back.domain.notification.service.command.NotificationCommandService;
+import com.fream.back.domain.order.entity.Order;
+import com.fream.back.domain.order.entity.OrderStatus;
+import com.fream.back.domain.order.service.query.OrderBidQueryService;
+import com.fream.back.domain.sale.service.query.SaleBidQueryService;
+import com.fream.back.domain.shipment.entity.OrderShipment;
+import com.fream.back.domain.shipment.entity.ShipmentStatus;
+import com.fream.back.domain.shipment.exception.ShipmentErrorCode;
+import com.fream.back.domain.shipment.exception.ShipmentException;
+import com.fream.back.domain.shipment.repository.OrderShipmentRepository;
+import com.fream.back.domain.shipment.service.command.OrderShipmentCommandService;
+import com.fream.back.domain.user.entity.User;
+import com.fream.back.domain.warehouseStorage.service.command.WarehouseStorageCommandService;
+import com.fream.back.global.utils.CjTrackingPlaywright;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 배송 상태 일괄 갱신 단위 테스트 — 트랜잭션 밖 동시 조회, 건별 짧은 트랜잭션 반영, 실패 격리, 중복 반영 방지.
+ */
+class OrderShipmentCommandServiceTest {
+
+    private final OrderShipmentRepository orderShipmentRepository = mock(OrderShipmentRepository.class);
+    private final NotificationCommandService notificationCommandService = mock(NotificationCommandService.class);
+    private final CjTrackingPlaywright cjTrackingPlaywright = mock(CjTrackingPlaywright.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private OrderShipmentCommandService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        service = new OrderShipmentCommandService(orderShipmentRepository, notificationCommandService,
+                mock(SaleBidQueryService.class), mock(OrderBidQueryService.class),
+                mock(WarehouseStorageCommandService.class), cjTrackingPlaywright, transactionTemplate);
+        ReflectionTestUtils.setField(service, "trackingBatchSize", 2);
+
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    @Test
+    void updateShipmentStatuses_appliesEachResultInOwnTransaction_andIsolatesFailures() {
+        OrderShipment outForDelivery = shipment(1L, "T1", ShipmentStatus.IN_TRANSIT);
+        OrderShipment noTracking = shipment(2L, null, ShipmentStatus.IN_TRANSIT);
+        OrderShipment lookupFails = shipment(3L, "T3", ShipmentStatus.IN_TRANSIT);
+        OrderShipment delivered = shipment(4L, "T4", ShipmentStatus.OUT_FOR_DELIVERY);
+        OrderShipment unchanged = shipment(5L, "T5", ShipmentStatus.IN_TRANSIT);
+        List<OrderShipment> shipments = List.of(outForDelivery, noTracking, lookupFails, delivered, unchanged);
+        when(orderShipmentRepository.findByStatusIn(anyList())).thenReturn(shipments);
+        for (OrderShipment shipment : shipments) {
+            when(orderShipmentRepository.findById(shipment.getId())).thenReturn(Optional.of(shipment));
+        }
+        Map<String, CompletableFuture<String>> lookups = Map.of(
+                "T1", CompletableFuture.completedFuture("배송출발"),
+                "T3", CompletableFuture.failedFuture(new ShipmentException(ShipmentErrorCode.EXTERNAL_TRACKING_SERVICE_ERROR)),
+                "T4", CompletableFuture.completedFuture("배송완료"),
+                "T5", CompletableFuture.completedFuture("간선상차"));
+        when(cjTrackingPlaywright.getCurrentTrackingStatusAsync(anyString()))
+                .thenAnswer(invocation -> lookups.get(invocation.<String>getArgument(0)));
+
+        service.updateShipmentStatuses();
+
+        assertThat(outForDelivery.getStatus()).isEqualTo(ShipmentStatus.OUT_FOR_DELIVERY);
+        assertThat(lookupFails.getStatus()).isEqualTo(ShipmentStatus.IN_TRANSIT);
+        assertThat(delivered.getStatus()).isEqualTo(ShipmentStatus.DELIVERED);
+        assertThat(delivered.getOrder().getStatus()).isEqualTo(OrderStatus.COMPLETED);
+        assertThat(unchanged.getStatus()).isEqualTo(ShipmentStatus.IN_TRANSIT);
+        verify(notificationCommandService).createNotification(eq(40L), any(), any(), contains("배송 완료"));
+
+        // 조회 성공한 세 건만 건별 트랜잭션으로 반영, 실패/운송장 없는 건은 트랜잭션을 열지 않음
+        verify(transactionTemplate, times(3)).executeWithoutResult(any());
+        verify(cjTrackingPlaywright, never()).getCurrentTrackingStatusAsync(null);
+
+        // 같은 묶음의 조회는 반영 전에 모두 요청됨
+        InOrder order = inOrder(cjTrackingPlaywright, transactionTemplate);
+        order.verify(cjTrackingPlaywright).getCurrentTrackingStatusAsync("T3");
+        order.verify(cjTrackingPlaywright).getCurrentTrackingStatusAsync("T4");
+        order.verify(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void updateShipmentStatuses_skipsResultAlreadyAppliedElsewhere() {
+        OrderShipment stale = shipment(1L, "T1", ShipmentStatus.OUT_FOR_DELIVERY);
+        OrderShipment current = shipment(1L, "T1", ShipmentStatus.DELIVERED);
+        when(orderShipmentRepository.findByStatusIn(anyList())).thenReturn(List.of(stale));
+        when(orderShipmentRepository.findById(1L)).thenReturn(Optional.of(current));
+        when(cjTrackingPlaywright.getCurrentTrackingStatusAsync("T1"))
+                .thenReturn(CompletableFuture.completedFuture("배송완료"));
+
+        service.updateShipmentStatuses();
+
+        // 트랜잭션 안에서 다시 읽은 상태가 이미 DELIVERED면 알림/주문 변경 없이 건너뜀
+        assertThat(current.getOrder().getStatus()).isEqualTo(OrderStatus.IN_TRANSIT);
+        verify(notificationCommandService, never()).createNotification(anyLong(), any(), any(), anyString());
+    }
+
+    @Test
+    void updateAndCheckShipmentStatus_looksUpBeforeOpeningTransaction() throws Exception {
+        OrderShipment shipment = shipment(1L, null, ShipmentStatus.SHIPPED);
+        when(orderShipmentRepository.findById(1L)).thenReturn(Optional.of(shipment));
+        when(cjTrackingPlaywright.getCurrentTrackingStatus("T1")).thenReturn("배송출발");
+
+        ShipmentStatus result = service.updateAndCheckShipmentStatus(1L, "CJ", "T1");
+
+        assertThat(result).isEqualTo(ShipmentStatus.OUT_FOR_DELIVERY);
+        assertThat(shipment.getTrackingNumber()).isEqualTo("T1");
+        InOrder order = inOrder(cjTrackingPlaywright, transactionTemplate);
+        order.verify(cjTrackingPlaywright).getCurrentTrackingStatus("T1");
+        order.verify(transactionTemplate).execute(any());
+    }
+
+    @Test
+    void updateAndCheckShipmentStatus_lookupFailure_neverOpensTransaction() throws Exception {
+        when(cjTrackingPlaywright.getCurrentTrackingStatus("T1"))
+                .thenThrow(new ShipmentException(ShipmentErrorCode.EXTERNAL_TRACKING_SERVICE_ERROR));
+
+        assertThatThrownBy(() -> service.updateAndCheckShipmentStatus(1L, "CJ", "T1"))
+                .isInstanceOfSatisfying(ShipmentException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(ShipmentErrorCode.EXTERNAL_TRACKING_SERVICE_ERROR));
+        assertThatThrownBy(() -> service.updateAndCheckShipmentStatus(1L, " ", "T1"))
+                .isInstanceOfSatisfying(ShipmentException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(ShipmentErrorCode.TRACKING_INFO_REQUIRED));
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    private static OrderShipment shipment(Long id, String trackingNumber, ShipmentStatus status) {
+        User buyer = User.builder().email("buyer" + id + "@test.com").build();
+        ReflectionTestUtils.setField(buyer, "id", id * 10);
+        Order order = Order.builder()
+                .user(buyer)
+                .totalAmount(10_000)
+                .status(OrderStatus.IN_TRANSIT)
+                .build();
+        ReflectionTestUtils.setField(order, "id", id * 100);
+        return OrderShipment.builder()
+                .id(id)
+                .order(order)
+                .courier(trackingNumber == null ? null : "CJ")
+                .trackingNumber(trackingNumber)
+                .status(status)
+                .build();
+    }
+}
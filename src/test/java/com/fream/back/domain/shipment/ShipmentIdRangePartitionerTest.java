@@ -0,0 +1,86 @@
+package com.fream.back.domain.shipment;
+
+import com.fream.back.domain.shipment.config.ShipmentIdRangePartitioner;
+import com.fream.back.domain.shipment.entity.ShipmentStatus;
+import com.fream.back.domain.shipment.repository.OrderShipmentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static com.fream.back.domain.shipment.config.ShipmentIdRangePartitioner.MAX_ID_KEY;
+import static com.fream.back.domain.shipment.config.ShipmentIdRangePartitioner.MIN_ID_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 배송 ID 구간 파티셔너 단위 테스트 — 구간이 겹치거나 비지 않고 min~max 전체를 덮음, 대상 없음/ID 1개, ID 폭보다 큰 그리드.
+ */
+class ShipmentIdRangePartitionerTest {
+
+    private static final List<ShipmentStatus> TRACKED = List.of(ShipmentStatus.IN_TRANSIT, ShipmentStatus.OUT_FOR_DELIVERY);
+
+    private final OrderShipmentRepository orderShipmentRepository = mock(OrderShipmentRepository.class);
+    private final ShipmentIdRangePartitioner partitioner = new ShipmentIdRangePartitioner(orderShipmentRepository, TRACKED);
+
+    @Test
+    void splitsIdSpanIntoContiguousRanges_lastOneShorter() {
+        idSpan(101L, 110L);
+
+        assertThat(ranges(partitioner.partition(3))).containsExactly(
+                new long[]{101, 104}, new long[]{105, 108}, new long[]{109, 110});
+    }
+
+    @Test
+    void evenSpan_givesEqualRanges() {
+        idSpan(1L, 12L);
+
+        assertThat(ranges(partitioner.partition(4))).containsExactly(
+                new long[]{1, 3}, new long[]{4, 6}, new long[]{7, 9}, new long[]{10, 12});
+    }
+
+    @Test
+    void noTrackingTargets_givesNoPartitions() {
+        idSpan(null, null);
+
+        assertThat(partitioner.partition(3)).isEmpty();
+    }
+
+    @Test
+    void singleId_givesOnePartition() {
+        idSpan(42L, 42L);
+
+        assertThat(ranges(partitioner.partition(3))).containsExactly(new long[]{42, 42});
+    }
+
+    @Test
+    void gridLargerThanIdSpan_givesOneIdPerPartition() {
+        idSpan(7L, 9L);
+
+        assertThat(ranges(partitioner.partition(8))).containsExactly(
+                new long[]{7, 7}, new long[]{8, 8}, new long[]{9, 9});
+    }
+
+    @Test
+    void nonPositiveGrid_fallsBackToSinglePartition() {
+        idSpan(1L, 5L);
+
+        assertThat(ranges(partitioner.partition(0))).containsExactly(new long[]{1, 5});
+    }
+
+    private void idSpan(Long minId, Long maxId) {
+        when(orderShipmentRepository.findMinTrackingTargetId(TRACKED)).thenReturn(minId);
+        when(orderShipmentRepository.findMaxTrackingTargetId(TRACKED)).thenReturn(maxId);
+    }
+
+    // 파티션별 [minId, maxId] 를 시작 ID 순으로
+    private static List<long[]> ranges(Map<String, ExecutionContext> partitions) {
+        return partitions.values().stream()
+                .map(context -> new long[]{context.getLong(MIN_ID_KEY), context.getLong(MAX_ID_KEY)})
+                .sorted(Comparator.comparingLong(range -> range[0]))
+                .toList();
+    }
+}
@@ -0,0 +1,165 @@
+package com.fream.back.domain.shipment;
+
+import com.fream.back.domain.order.entity.Order;
+import com.fream.back.domain.order.entity.OrderStatus;
+import com.fream.back.domain.order.repository.OrderRepository;
+import com.fream.back.domain.shipment.config.ShipmentKeysetItemReader;
+import com.fream.back.domain.shipment.dto.ShipmentTrackingTarget;
+import com.fream.back.domain.shipment.entity.OrderShipment;
+import com.fream.back.domain.shipment.entity.ShipmentStatus;
+import com.fream.back.domain.shipment.repository.OrderShipmentRepository;
+import com.fream.back.domain.user.entity.User;
+import com.fream.back.domain.user.repository.UserRepository;
+import com.fream.back.global.config.QueryDslConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 배송 키셋 리더 테스트 — 처리 중 앞 행의 상태가 바뀌어도 뒤 행을 건너뛰지 않음, 저장된 마지막 ID 다음부터 재시작,
+ * 파티션 범위 밖·조회 대상이 아닌 행 제외.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(QueryDslConfig.class)
+class ShipmentKeysetItemReaderTest {
+
+    private static final String LAST_ID_KEY = "shipmentKeysetItemReader.lastId";
+    private static final List<ShipmentStatus> TRACKED = List.of(ShipmentStatus.IN_TRANSIT, ShipmentStatus.OUT_FOR_DELIVERY);
+
+    @Autowired
+    private OrderShipmentRepository orderShipmentRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private User buyer;
+    private final List<OrderShipment> shipments = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        buyer = userRepository.save(User.builder()
+                .email("buyer@test.com")
+                .password("pw")
+                .referralCode("REF-buyer")
+                .phoneNumber("010-0000-0000")
+                .build());
+        for (int i = 0; i < 6; i++) {
+            shipments.add(shipment("T" + i, ShipmentStatus.IN_TRANSIT));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void rowsDeliveredMidRun_doNotShiftLaterPages() {
+        ShipmentKeysetItemReader reader = reader(firstId(), lastId(), 2);
+        reader.open(new ExecutionContext());
+
+        List<Long> seen = new ArrayList<>();
+        seen.add(reader.read().shipmentId());
+        seen.add(reader.read().shipmentId());
+        // 첫 페이지 처리 결과가 커밋되어 조회 대상 조건에서 빠짐 (오프셋 페이징이면 다음 페이지가 당겨져 2건을 건너뜀)
+        markDelivered(shipments.get(0), shipments.get(1));
+        seen.addAll(readAll(reader));
+
+        assertThat(seen).containsExactlyElementsOf(ids(shipments));
+    }
+
+    @Test
+    void restart_resumesAfterSavedLastId() {
+        ShipmentKeysetItemReader reader = reader(firstId(), lastId(), 2);
+        ExecutionContext executionContext = new ExecutionContext();
+        reader.open(executionContext);
+        reader.read();
+        reader.read();
+        reader.read();
+        reader.update(executionContext); // 세 번째 항목까지 커밋된 뒤 실패
+        markDelivered(shipments.get(0), shipments.get(1), shipments.get(2));
+
+        ShipmentKeysetItemReader restarted = reader(firstId(), lastId(), 2);
+        restarted.open(executionContext);
+
+        assertThat(executionContext.getLong(LAST_ID_KEY)).isEqualTo(shipments.get(2).getId());
+        assertThat(readAll(restarted)).containsExactlyElementsOf(ids(shipments.subList(3, 6)));
+    }
+
+    @Test
+    void readsOnlyTrackedRowsInsideItsPartitionRange() {
+        OrderShipment pending = shipment("T-pending", ShipmentStatus.PENDING);
+        OrderShipment noTracking = shipment(null, ShipmentStatus.IN_TRANSIT);
+        entityManager.flush();
+        entityManager.clear();
+
+        ShipmentKeysetItemReader reader = reader(shipments.get(1).getId(), shipments.get(3).getId(), 10);
+        reader.open(new ExecutionContext());
+        ShipmentKeysetItemReader tail = reader(shipments.get(4).getId(), noTracking.getId(), 10);
+        tail.open(new ExecutionContext());
+
+        assertThat(readAll(reader)).containsExactlyElementsOf(ids(shipments.subList(1, 4)));
+        assertThat(readAll(tail)).containsExactlyElementsOf(ids(shipments.subList(4, 6)))
+                .doesNotContain(pending.getId(), noTracking.getId());
+    }
+
+    private ShipmentKeysetItemReader reader(long minId, long maxId, int pageSize) {
+        return new ShipmentKeysetItemReader(orderShipmentRepository, TRACKED, minId, maxId, pageSize);
+    }
+
+    private List<Long> readAll(ShipmentKeysetItemReader reader) {
+        List<Long> ids = new ArrayList<>();
+        ShipmentTrackingTarget target;
+        while ((target = reader.read()) != null && ids.size() < 20) {
+            ids.add(target.shipmentId());
+        }
+        return ids;
+    }
+
+    private void markDelivered(OrderShipment... delivered) {
+        for (OrderShipment shipment : delivered) {
+            orderShipmentRepository.findById(shipment.getId()).orElseThrow().updateStatus(ShipmentStatus.DELIVERED);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private long firstId() {
+        return shipments.get(0).getId();
+    }
+
+    private long lastId() {
+        return shipments.get(shipments.size() - 1).getId();
+    }
+
+    private static List<Long> ids(List<OrderShipment> shipments) {
+        return shipments.stream().map(OrderShipment::getId).toList();
+    }
+
+    private OrderShipment shipment(String trackingNumber, ShipmentStatus status) {
+        Order order = orderRepository.save(Order.builder()
+                .user(buyer)
+                .totalAmount(10_000)
+                .status(OrderStatus.IN_TRANSIT)
+                .build());
+        return orderShipmentRepository.save(OrderShipment.builder()
+                .order(order)
+                .courier(trackingNumber == null ? null : "CJ")
+                .trackingNumber(trackingNumber)
+                .status(status)
+                .build());
+    }
+}
@@ -0,0 +1,138 @@
+package com.fream.back.domain.shipment;
+
+import com.fream.back.domain.notification.service.command.NotificationCommandService;
+import com.fream.back.domain.order.entity.Order;
+import com.fream.back.domain.order.entity.OrderStatus;
+import com.fream.back.domain.shipment.config.ShipmentItemProcessor.TrackingResult;
+import com.fream.back.domain.shipment.config.ShipmentStatusItemWriter;
+import com.fream.back.domain.shipment.dto.ShipmentTrackingTarget;
+import com.fream.back.domain.shipment.entity.OrderShipment;
+import com.fream.back.domain.shipment.entity.ShipmentStatus;
+import com.fream.back.domain.shipment.repository.OrderShipmentRepository;
+import com.fream.back.domain.shipment.service.command.OrderShipmentCommandService;
+import com.fream.back.domain.user.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 배송 상태 Writer 단위 테스트 — 청크의 조회 Future를 모두 기다려 상태가 바뀐 건만 IN 조회 한 번으로 반영,
+ * 조회 실패 결과는 건너뛰고 나머지 반영, 예외로 끝난 Future는 skip(Exception.class)이 처리하도록 예외 전달.
+ */
+class ShipmentStatusItemWriterTest {
+
+    private final OrderShipmentRepository orderShipmentRepository = mock(OrderShipmentRepository.class);
+    private final NotificationCommandService notificationService = mock(NotificationCommandService.class);
+    private final OrderShipmentCommandService orderService = mock(OrderShipmentCommandService.class);
+    private final ShipmentStatusItemWriter writer =
+            new ShipmentStatusItemWriter(orderShipmentRepository, notificationService, orderService);
+
+    @Test
+    void joinsLookups_andAppliesOnlyChangedStatuses() {
+        OrderShipment delivered = shipment(1L, ShipmentStatus.OUT_FOR_DELIVERY);
+        OrderShipment departed = shipment(2L, ShipmentStatus.IN_TRANSIT);
+        OrderShipment unchanged = shipment(3L, ShipmentStatus.IN_TRANSIT);
+        when(orderShipmentRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(delivered, departed));
+
+        CompletableFuture<TrackingResult> slowLookup = new CompletableFuture<>();
+        Chunk<CompletableFuture<TrackingResult>> chunk = new Chunk<>(List.of(
+                slowLookup,
+                CompletableFuture.completedFuture(success(departed, ShipmentStatus.OUT_FOR_DELIVERY)),
+                CompletableFuture.completedFuture(success(unchanged, ShipmentStatus.IN_TRANSIT))));
+        // 워커 스레드에서 늦게 끝나는 조회도 기다린 뒤 반영
+        CompletableFuture.runAsync(() -> slowLookup.complete(success(delivered, ShipmentStatus.DELIVERED)));
+
+        writer.write(chunk);
+
+        assertThat(delivered.getStatus()).isEqualTo(ShipmentStatus.DELIVERED);
+        assertThat(departed.getStatus()).isEqualTo(ShipmentStatus.OUT_FOR_DELIVERY);
+        assertThat(unchanged.getStatus()).isEqualTo(ShipmentStatus.IN_TRANSIT);
+        verify(orderService).completeOrder(delivered.getOrder().getId());
+        verify(notificationService).notifyShipmentCompleted(delivered.getOrder());
+        verify(orderService, never()).completeOrder(departed.getOrder().getId());
+    }
+
+    @Test
+    void failedLookup_isLeftForNextRun_whileOthersAreApplied() {
+        OrderShipment failed = shipment(1L, ShipmentStatus.IN_TRANSIT);
+        OrderShipment departed = shipment(2L, ShipmentStatus.IN_TRANSIT);
+        when(orderShipmentRepository.findAllById(List.of(2L))).thenReturn(List.of(departed));
+
+        writer.write(new Chunk<>(List.of(
+                CompletableFuture.completedFuture(new TrackingResult(target(failed), null, null,
+                        new IllegalStateException("tracking page timeout"))),
+                CompletableFuture.completedFuture(success(departed, ShipmentStatus.OUT_FOR_DELIVERY)))));
+
+        assertThat(failed.getStatus()).isEqualTo(ShipmentStatus.IN_TRANSIT);
+        assertThat(departed.getStatus()).isEqualTo(ShipmentStatus.OUT_FOR_DELIVERY);
+    }
+
+    @Test
+    void exceptionallyCompletedLookup_propagatesForSkip_andItemAloneIsWrittenOnScan() {
+        OrderShipment departed = shipment(2L, ShipmentStatus.IN_TRANSIT);
+        when(orderShipmentRepository.findAllById(List.of(2L))).thenReturn(List.of(departed));
+        CompletableFuture<TrackingResult> broken = CompletableFuture.failedFuture(new IllegalStateException("worker died"));
+        CompletableFuture<TrackingResult> good = CompletableFuture.completedFuture(success(departed, ShipmentStatus.OUT_FOR_DELIVERY));
+
+        // Exception 하위 타입이므로 skip(Exception.class) 대상: 청크 롤백 후 항목별 재처리(scan)
+        assertThatThrownBy(() -> writer.write(new Chunk<>(List.of(broken, good))))
+                .isInstanceOf(CompletionException.class)
+                .isInstanceOf(Exception.class);
+        verify(orderShipmentRepository, never()).findAllById(anyList());
+
+        // scan 모드: 한 건씩 다시 쓰면 실패 건만 건너뛰고 나머지는 반영
+        List<Exception> skipped = new ArrayList<>();
+        for (CompletableFuture<TrackingResult> item : List.of(broken, good)) {
+            try {
+                writer.write(new Chunk<>(List.of(item)));
+            } catch (Exception e) {
+                skipped.add(e);
+            }
+        }
+        assertThat(skipped).hasSize(1);
+        assertThat(departed.getStatus()).isEqualTo(ShipmentStatus.OUT_FOR_DELIVERY);
+        verify(orderService, never()).completeOrder(anyLong());
+        verify(notificationService, never()).notifyShipmentCompleted(any());
+    }
+
+    private static TrackingResult success(OrderShipment shipment, ShipmentStatus newStatus) {
+        return new TrackingResult(target(shipment), newStatus.name(), newStatus, null);
+    }
+
+    private static ShipmentTrackingTarget target(OrderShipment shipment) {
+        return new ShipmentTrackingTarget(shipment.getId(), shipment.getTrackingNumber(), shipment.getStatus());
+    }
+
+    private static OrderShipment shipment(Long id, ShipmentStatus status) {
+        User buyer = User.builder().email("buyer" + id + "@test.com").build();
+        ReflectionTestUtils.setField(buyer, "id", id * 10);
+        Order order = Order.builder()
+                .user(buyer)
+                .totalAmount(10_000)
+                .status(OrderStatus.IN_TRANSIT)
+                .build();
+        ReflectionTestUtils.setField(order, "id", id * 100);
+        return OrderShipment.builder()
+                .id(id)
+                .order(order)
+                .courier("CJ")
+                .trackingNumber("T" + id)
+                .status(status)
+                .build();
+    }
+}
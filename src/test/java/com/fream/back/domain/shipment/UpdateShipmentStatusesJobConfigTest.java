@@ -0,0 +1,81 @@
+package com.fream.back.domain.shipment;
+
+import com.fream.back.domain.notification.service.command.NotificationCommandService;
+import com.fream.back.domain.shipment.config.UpdateShipmentStatusesJobConfig;
+import com.fream.back.domain.shipment.repository.OrderShipmentRepository;
+import com.fream.back.domain.shipment.service.command.OrderShipmentCommandService;
+import com.fream.back.global.utils.CjTrackingPlaywright;
+import com.fream.back.global.utils.PlaywrightBrowserManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.partition.support.PartitionStep;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 배송 상태 배치 구성 테스트 — 파티션 스레드 풀이 스프링 부트 기본 TaskExecutor를 대체하지 않는다.
+ */
+class UpdateShipmentStatusesJobConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class))
+            .withUserConfiguration(UpdateShipmentStatusesJobConfig.class)
+            .withPropertyValues("shipment.batch.grid-size=3")
+            .withBean(JobRepository.class, () -> mock(JobRepository.class))
+            .withBean(PlatformTransactionManager.class, () -> mock(PlatformTransactionManager.class))
+            .withBean(OrderShipmentRepository.class, () -> mock(OrderShipmentRepository.class))
+            .withBean(NotificationCommandService.class, () -> mock(NotificationCommandService.class))
+            .withBean(OrderShipmentCommandService.class, () -> mock(OrderShipmentCommandService.class))
+            .withBean(CjTrackingPlaywright.class, () -> mock(CjTrackingPlaywright.class))
+            .withBean(PlaywrightBrowserManager.class, () -> mock(PlaywrightBrowserManager.class));
+
+    @Test
+    void partitionExecutor_keepsBootApplicationTaskExecutor() {
+        contextRunner.withBean(ExecutorConsumer.class).run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context).hasBean("applicationTaskExecutor");
+
+            // 타입으로 주입받는 곳에는 부트 기본 실행기만 보인다
+            ExecutorConsumer consumer = context.getBean(ExecutorConsumer.class);
+            assertThat(consumer.executor).isSameAs(context.getBean("applicationTaskExecutor"));
+            assertThat(consumer.taskExecutor).isSameAs(context.getBean("applicationTaskExecutor"));
+        });
+    }
+
+    @Test
+    void partitionExecutor_isNamedThreadPoolSizedToGrid() {
+        contextRunner.run(context -> {
+            ThreadPoolTaskExecutor executor = context.getBean("shipmentPartitionTaskExecutor", ThreadPoolTaskExecutor.class);
+
+            assertThat(executor.getCorePoolSize()).isEqualTo(3);
+            assertThat(executor.getMaxPoolSize()).isEqualTo(3);
+            assertThat(executor.getThreadNamePrefix()).isEqualTo("shipment-partition-");
+            assertThat(executor.getThreadPoolExecutor().isShutdown()).isFalse();
+
+            // 매니저 스텝의 파티션 핸들러가 이 풀을 사용
+            PartitionStep step = context.getBean("updateShipmentStatusesStep", PartitionStep.class);
+            Object handler = ReflectionTestUtils.getField(step, "partitionHandler");
+            assertThat(ReflectionTestUtils.getField(handler, "taskExecutor")).isSameAs(executor);
+        });
+    }
+
+    static class ExecutorConsumer {
+        private final Executor executor;
+        private final TaskExecutor taskExecutor;
+
+        ExecutorConsumer(Executor executor, TaskExecutor taskExecutor) {
+            this.executor = executor;
+            this.taskExecutor = taskExecutor;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.fream.back.domain.style;
+
+import com.fream.back.domain.style.dto.HashtagResponseDto;
+import com.fream.back.domain.style.entity.Hashtag;
+import com.fream.back.domain.style.event.HashtagChangedEvent;
+import com.fream.back.domain.style.repository.HashtagRepository;
+import com.fream.back.domain.style.service.query.HashtagAutocompleteIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 해시태그 자동완성 메모리 색인 단위 테스트 — 초성/이름 포함 검색, count순 top-k, 증분 갱신(커밋 이후만).
+ */
+class HashtagAutocompleteIndexTest {
+
+    private HashtagRepository hashtagRepository;
+    private HashtagAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        hashtagRepository = mock(HashtagRepository.class);
+        index = new HashtagAutocompleteIndex(hashtagRepository);
+        ReflectionTestUtils.setField(index, "topK", 2);
+        ReflectionTestUtils.setField(index, "maxDepth", 12);
+
+        when(hashtagRepository.findAll()).thenReturn(List.of(
+                tag(1L, "데일리룩", 5L),
+                tag(2L, "데이트룩", 9L),
+                tag(3L, "꾸안꾸", 7L),
+                tag(4L, "OOTD", 3L)
+        ));
+        index.rebuild();
+    }
+
+    @Test
+    void extractChosung_mapsDoubleConsonantsCorrectly() {
+        assertThat(HashtagAutocompleteIndex.extractChosung("꾸안꾸")).isEqualTo("ㄲㅇㄲ");
+        assertThat(HashtagAutocompleteIndex.extractChosung("데일리룩#1")).isEqualTo("ㄷㅇㄹㄹ");
+    }
+
+    @Test
+    void searchChosung_matchesAnywhereAndOrdersByCount() {
+        assertThat(names(index.searchChosung("ㄷㅇ", 2))).containsExactly("데이트룩", "데일리룩");
+        assertThat(names(index.searchChosung("ㄹㄹ", 2))).containsExactly("데일리룩");
+        assertThat(names(index.searchChosung("ㅇㄲ", 2))).containsExactly("꾸안꾸");
+        assertThat(index.searchChosung("ㅎㅎ", 2)).isEmpty();
+    }
+
+    @Test
+    void searchName_isCaseInsensitiveContains() {
+        assertThat(names(index.searchName("ot", 2))).containsExactly("OOTD");
+        assertThat(names(index.searchName("룩", 2))).containsExactly("데이트룩", "데일리룩");
+    }
+
+    @Test
+    void search_returnsNullWhenLimitExceedsTopK() {
+        assertThat(index.searchChosung("ㄷ", 3)).isNull();
+    }
+
+    @Test
+    void upsert_reordersOnCountIncreaseAndRemoveDropsTag() {
+        index.upsert(tag(1L, "데일리룩", 20L));
+        assertThat(names(index.searchName("룩", 2))).containsExactly("데일리룩", "데이트룩");
+
+        index.remove(2L);
+        assertThat(names(index.searchName("룩", 2))).containsExactly("데일리룩");
+    }
+
+    @Test
+    void changeEvent_isAppliedOnlyAfterCommit() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.register(TxConfig.class);
+        context.registerBean(HashtagAutocompleteIndex.class, () -> index);
+        context.refresh();
+        TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        // 롤백된 변경은 색인에 남지 않는다
+        tx.executeWithoutResult(status -> {
+            context.publishEvent(HashtagChangedEvent.upserted(tag(5L, "데님룩", 50L)));
+            status.setRollbackOnly();
+        });
+        assertThat(names(index.searchName("룩", 2))).containsExactly("데이트룩", "데일리룩");
+
+        // 커밋된 변경만 반영
+        tx.executeWithoutResult(status -> {
+            context.publishEvent(HashtagChangedEvent.upserted(tag(5L, "데님룩", 50L)));
+            assertThat(names(index.searchName("룩", 2))).containsExactly("데이트룩", "데일리룩");
+        });
+        assertThat(names(index.searchName("룩", 2))).containsExactly("데님룩", "데이트룩");
+
+        tx.executeWithoutResult(status -> context.publishEvent(HashtagChangedEvent.deleted(5L)));
+        assertThat(names(index.searchName("룩", 2))).containsExactly("데이트룩", "데일리룩");
+        context.close();
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class TxConfig {
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new ResourcelessTransactionManager();
+        }
+    }
+
+    private static Hashtag tag(Long id, String name, Long count) {
+        return Hashtag.builder().id(id).name(name).count(count).build();
+    }
+
+    private static List<String> names(List<HashtagResponseDto> dtos) {
+        return dtos.stream().map(HashtagResponseDto::getName).toList();
+    }
+}
@@ -0,0 +1,242 @@
+package com.fream.back.domain.style;
+
+import com.fream.back.domain.style.dto.StyleCommentResponseDto;
+import com.fream.back.domain.style.entity.Style;
+import com.fream.back.domain.style.entity.StyleComment;
+import com.fream.back.domain.style.entity.StyleCommentLike;
+import com.fream.back.domain.style.repository.StyleCommentLikeRepository;
+import com.fream.back.domain.style.repository.StyleCommentRepository;
+import com.fream.back.domain.style.repository.StyleRepository;
+import com.fream.back.domain.style.service.query.StyleCommentLikeQueryService;
+import com.fream.back.domain.style.service.query.StyleCommentQueryService;
+import com.fream.back.domain.user.entity.Profile;
+import com.fream.back.domain.user.entity.User;
+import com.fream.back.domain.user.repository.ProfileRepository;
+import com.fream.back.domain.user.repository.UserRepository;
+import com.fream.back.domain.user.service.profile.ProfileQueryService;
+import com.fream.back.global.config.QueryDslConfig;
+import com.fream.back.global.dto.commonDto;
+import com.fream.back.global.exception.InvalidRequestException;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 스타일 댓글 대댓글 조회 테스트 — 루트별 최신 대댓글 미리보기/대댓글 수/다음 커서, 미리보기 이후 커서 이어 읽기, 동시각 ID 정렬,
+ * 좋아요 상태, 루트 댓글 수와 무관한 쿼리 수.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(QueryDslConfig.class)
+class StyleCommentReplyPagingTest {
+
+    @Autowired
+    private StyleCommentRepository styleCommentRepository;
+    @Autowired
+    private StyleCommentLikeRepository styleCommentLikeRepository;
+    @Autowired
+    private StyleRepository styleRepository;
+    @Autowired
+    private ProfileRepository profileRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private final ProfileQueryService profileQueryService = mock(ProfileQueryService.class);
+    private StyleCommentQueryService service;
+    private Profile writer;
+    private Style style;
+
+    @BeforeEach
+    void setUp() {
+        service = new StyleCommentQueryService(styleCommentRepository,
+                new StyleCommentLikeQueryService(styleCommentLikeRepository, profileQueryService),
+                profileQueryService, styleRepository);
+        ReflectionTestUtils.setField(service, "replyPreviewSize", 2);
+
+        writer = profile("writer");
+        style = styleRepository.save(Style.builder().profile(writer).content("content").build());
+    }
+
+    @Test
+    void commentList_previewsLatestRepliesPerRoot_withReplyCountAndCursor() {
+        StyleComment busy = comment(null);
+        List<StyleComment> busyReplies = replies(busy, 4);
+        StyleComment quiet = comment(null);
+        StyleComment quietReply = comment(quiet);
+        StyleComment empty = comment(null);
+
+        List<StyleCommentResponseDto> roots = service.getCommentsByStyleId(style.getId(), null, 0, 10).getComments();
+
+        assertThat(roots).extracting(StyleCommentResponseDto::getId)
+                .containsExactly(empty.getId(), quiet.getId(), busy.getId());
+
+        StyleCommentResponseDto busyDto = roots.get(2);
+        assertThat(busyDto.getReplies()).extracting(StyleCommentResponseDto::getId)
+                .containsExactly(busyReplies.get(3).getId(), busyReplies.get(2).getId());
+        assertThat(busyDto.getReplyCount()).isEqualTo(4);
+        assertThat(busyDto.getHasMoreReplies()).isTrue();
+        assertThat(busyDto.getNextReplyCursor()).isNotNull();
+
+        StyleCommentResponseDto quietDto = roots.get(1);
+        assertThat(quietDto.getReplies()).extracting(StyleCommentResponseDto::getId).containsExactly(quietReply.getId());
+        assertThat(quietDto.getHasMoreReplies()).isFalse();
+        assertThat(quietDto.getNextReplyCursor()).isNull();
+
+        assertThat(roots.get(0).getReplies()).isEmpty();
+        assertThat(roots.get(0).getReplyCount()).isZero();
+    }
+
+    @Test
+    void replyCursor_continuesAfterPreviewWithoutGapsOrDuplicates() {
+        StyleComment root = comment(null);
+        List<StyleComment> replies = replies(root, 5);
+        // 실제 요청처럼 DB에 저장된 작성 시각(마이크로초)으로 커서를 만든다
+        entityManager.flush();
+        entityManager.clear();
+
+        StyleCommentResponseDto rootDto = service.getCommentsByStyleId(style.getId(), null, 0, 10).getComments().get(0);
+        List<Long> seen = new ArrayList<>(rootDto.getReplies().stream().map(StyleCommentResponseDto::getId).toList());
+        seen.addAll(walkReplies(root.getId(), rootDto.getNextReplyCursor(), 2));
+
+        assertThat(seen).containsExactlyElementsOf(latestFirst(replies));
+    }
+
+    @Test
+    void replyCursor_breaksCreatedDateTiesById() {
+        StyleComment root = comment(null);
+        List<StyleComment> replies = replies(root, 5);
+        // 같은 시각에 작성된 대댓글도 페이지 경계에서 중복·누락 없이 ID 내림차순
+        entityManager.createNativeQuery("UPDATE style_comment SET created_date = :createdDate WHERE parent_comment_id = :parentId")
+                .setParameter("createdDate", LocalDateTime.of(2026, 1, 1, 12, 0))
+                .setParameter("parentId", root.getId())
+                .executeUpdate();
+        entityManager.clear();
+
+        List<Long> seen = walkReplies(root.getId(), null, 2);
+
+        assertThat(seen).containsExactlyElementsOf(latestFirst(replies));
+    }
+
+    @Test
+    void likedState_andLikeCounts_coverRootsAndPreviewReplies() {
+        Profile reader = profile("reader");
+        StyleComment root = comment(null);
+        StyleComment reply = comment(root);
+        like(root, reader);
+        like(root, writer);
+        like(reply, writer);
+        when(profileQueryService.getProfileByEmail("reader@test.com")).thenReturn(reader);
+
+        StyleCommentResponseDto rootDto =
+                service.getCommentsByStyleId(style.getId(), "reader@test.com", 0, 10).getComments().get(0);
+
+        assertThat(rootDto.getLikeCount()).isEqualTo(2);
+        assertThat(rootDto.getLiked()).isTrue();
+        assertThat(rootDto.getReplies().get(0).getLikeCount()).isEqualTo(1);
+        assertThat(rootDto.getReplies().get(0).getLiked()).isFalse();
+    }
+
+    @Test
+    void commentList_queryCountDoesNotGrowWithRootComments() {
+        for (int i = 0; i < 2; i++) {
+            replies(comment(null), 3);
+        }
+        long fewRoots = countQueries(() -> service.getCommentsByStyleId(style.getId(), null, 0, 10));
+
+        for (int i = 0; i < 6; i++) {
+            replies(comment(null), 3);
+        }
+        long manyRoots = countQueries(() -> service.getCommentsByStyleId(style.getId(), null, 0, 10));
+
+        assertThat(manyRoots).isEqualTo(fewRoots);
+    }
+
+    @Test
+    void malformedReplyCursor_isRejected() {
+        StyleComment root = comment(null);
+
+        assertThatThrownBy(() -> service.getReplies(root.getId(), null, "!!!", 10))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    // nextCursor를 따라 마지막 페이지까지 읽은 대댓글 ID
+    private List<Long> walkReplies(Long rootId, String after, int size) {
+        List<Long> seen = new ArrayList<>();
+        int pages = 0;
+        do {
+            commonDto.CursorPageDto<StyleCommentResponseDto> page = service.getReplies(rootId, null, after, size);
+            page.getContent().forEach(reply -> seen.add(reply.getId()));
+            after = page.getNextCursor();
+            assertThat(page.isHasNext()).isEqualTo(after != null);
+        } while (after != null && ++pages < 20);
+        return seen;
+    }
+
+    private static List<Long> latestFirst(List<StyleComment> comments) {
+        List<Long> ids = new ArrayList<>(comments.stream().map(StyleComment::getId).toList());
+        Collections.reverse(ids);
+        return ids;
+    }
+
+    private long countQueries(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<StyleComment> replies(StyleComment root, int count) {
+        List<StyleComment> replies = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            replies.add(comment(root));
+        }
+        return replies;
+    }
+
+    private StyleComment comment(StyleComment parent) {
+        return styleCommentRepository.save(StyleComment.builder()
+                .style(style)
+                .profile(writer)
+                .content("comment")
+                .parentComment(parent)
+                .build());
+    }
+
+    private void like(StyleComment comment, Profile profile) {
+        styleCommentLikeRepository.save(StyleCommentLike.builder().comment(comment).profile(profile).build());
+    }
+
+    private Profile profile(String name) {
+        User user = userRepository.save(User.builder()
+                .email(name + "@test.com")
+                .password("pw")
+                .referralCode("REF-" + name)
+                .phoneNumber("010-0000-0000")
+                .build());
+        return profileRepository.save(Profile.builder().user(user).profileName(name).build());
+    }
+}
@@ -0,0 +1,158 @@
+package com.fream.back.domain.style;
+
+import com.fream.back.domain.style.dto.StyleFilterRequestDto;
+import com.fream.back.domain.style.dto.StyleResponseDto;
+import com.fream.back.domain.style.entity.Style;
+import com.fream.back.domain.style.redis.StylePopularityRanking;
+import com.fream.back.domain.style.repository.StyleRepository;
+import com.fream.back.domain.style.service.query.StyleHashtagQueryService;
+import com.fream.back.domain.style.service.query.StyleInterestQueryService;
+import com.fream.back.domain.style.service.query.StyleLikeQueryService;
+import com.fream.back.domain.style.service.query.StyleQueryService;
+import com.fream.back.domain.user.entity.Profile;
+import com.fream.back.domain.user.entity.User;
+import com.fream.back.domain.user.repository.ProfileRepository;
+import com.fream.back.domain.user.repository.UserRepository;
+import com.fream.back.global.config.QueryDslConfig;
+import com.fream.back.global.dto.commonDto;
+import com.fream.back.global.exception.InvalidRequestException;
+import com.fream.back.global.utils.ImageVariantGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 스타일 피드 키셋 커서 테스트 — 최신순(ID)/인기순(조회수, ID) 커서로 끝까지 넘겨도 중복·누락 없음, 동점 조회수 순서, 필터와 커서 조합.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(QueryDslConfig.class)
+class StyleFeedCursorTest {
+
+    @Autowired
+    private StyleRepository styleRepository;
+    @Autowired
+    private ProfileRepository profileRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private StyleQueryService styleQueryService;
+    private Profile writer;
+    private Profile otherWriter;
+
+    @BeforeEach
+    void setUp() {
+        styleQueryService = new StyleQueryService(styleRepository, mock(StyleLikeQueryService.class),
+                mock(StyleInterestQueryService.class), mock(StyleHashtagQueryService.class),
+                mock(StylePopularityRanking.class), mock(ImageVariantGenerator.class));
+        writer = profile("writer");
+        otherWriter = profile("other");
+    }
+
+    @Test
+    void latestFeed_walksEveryStyleOnceInIdOrder() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(style(writer, 0L).getId());
+        }
+
+        Collections.reverse(ids);
+
+        List<List<Long>> pages = walk(filter("latest", null), 2);
+
+        assertThat(pages).hasSize(3);
+        assertThat(pages.stream().flatMap(List::stream).toList()).containsExactlyElementsOf(ids);
+    }
+
+    @Test
+    void popularFeed_ordersByViewCountThenId_acrossTiedPageBoundaries() {
+        Style a = style(writer, 10L);
+        Style b = style(writer, 30L);
+        Style c = style(writer, 10L);
+        Style d = style(writer, 30L);
+        Style e = style(writer, 0L);
+
+        List<List<Long>> pages = walk(filter("popular", null), 2);
+
+        // (30, d) (30, b) | (10, c) (10, a) | (0, e)
+        assertThat(pages).containsExactly(
+                List.of(d.getId(), b.getId()),
+                List.of(c.getId(), a.getId()),
+                List.of(e.getId()));
+    }
+
+    @Test
+    void cursor_isAppliedTogetherWithFilter() {
+        Style first = style(writer, 0L);
+        style(otherWriter, 0L);
+        Style second = style(writer, 0L);
+        style(otherWriter, 0L);
+
+        List<List<Long>> pages = walk(filter("latest", "writer"), 1);
+
+        assertThat(pages).containsExactly(List.of(second.getId()), List.of(first.getId()));
+    }
+
+    @Test
+    void lastPage_hasNoNextCursor_andEmptyFeedIsSinglePage() {
+        commonDto.CursorPageDto<StyleResponseDto> empty =
+                styleQueryService.getStyleFeed(filter("popular", null), null, 20, null);
+
+        assertThat(empty.getContent()).isEmpty();
+        assertThat(empty.isHasNext()).isFalse();
+        assertThat(empty.getNextCursor()).isNull();
+    }
+
+    @Test
+    void malformedCursor_isRejected() {
+        assertThatThrownBy(() -> styleQueryService.getStyleFeed(filter("latest", null), "!!!", 20, null))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    // nextCursor를 따라 마지막 페이지까지 읽은 페이지별 스타일 ID
+    private List<List<Long>> walk(StyleFilterRequestDto filter, int size) {
+        List<List<Long>> pages = new ArrayList<>();
+        String after = null;
+        do {
+            commonDto.CursorPageDto<StyleResponseDto> page = styleQueryService.getStyleFeed(filter, after, size, null);
+            pages.add(page.getContent().stream().map(StyleResponseDto::getId).toList());
+            after = page.getNextCursor();
+            assertThat(page.isHasNext()).isEqualTo(after != null);
+        } while (after != null && pages.size() < 20);
+        return pages;
+    }
+
+    private Style style(Profile profile, Long viewCount) {
+        return styleRepository.save(Style.builder().profile(profile).content("content").viewCount(viewCount).build());
+    }
+
+    private Profile profile(String name) {
+        User user = userRepository.save(User.builder()
+                .email(name + "@test.com")
+                .password("pw")
+                .referralCode("REF-" + name)
+                .phoneNumber("010-0000-0000")
+                .build());
+        return profileRepository.save(Profile.builder().user(user).profileName(name).build());
+    }
+
+    private static StyleFilterRequestDto filter(String sortBy, String profileName) {
+        StyleFilterRequestDto filter = new StyleFilterRequestDto();
+        filter.setSortBy(sortBy);
+        filter.setProfileName(profileName);
+        return filter;
+    }
+}
@@ -0,0 +1,99 @@
+package com.fream.back.domain.style;
+
+import com.fream.back.domain.style.controller.query.StyleQueryController;
+import com.fream.back.domain.style.service.kafka.StyleViewEventProducer;
+import com.fream.back.domain.style.service.query.StyleQueryService;
+import com.fream.back.global.utils.ImageVariantGenerator;
+import com.fream.back.global.utils.MediaStreamingUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 스타일 미디어 스트리밍 MockMvc 테스트 — 200/206(단일·다중 범위)/304/416.
+ */
+class StyleMediaStreamingTest {
+
+    private static final String BODY = "0123456789abcdefghij"; // 20 bytes
+    private static final String URL = "/styles/queries/5/media/clip.mp4";
+
+    @TempDir
+    Path baseDir;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path dir = Files.createDirectories(baseDir.resolve("styles/5"));
+        Files.writeString(dir.resolve("clip.mp4"), BODY, StandardCharsets.US_ASCII);
+
+        MediaStreamingUtil mediaStreamingUtil = new MediaStreamingUtil(
+                new ImageVariantGenerator(false, new int[]{320}, 0.8f, 1, 1));
+        ReflectionTestUtils.setField(mediaStreamingUtil, "baseDir", baseDir);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new StyleQueryController(
+                mock(StyleQueryService.class), mock(StyleViewEventProducer.class), mediaStreamingUtil)).build();
+    }
+
+    @Test
+    void fullRequest_returns200WithWholeFile() throws Exception {
+        mockMvc.perform(get(URL))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(content().contentType("video/mp4"))
+                .andExpect(content().string(BODY));
+    }
+
+    @Test
+    void singleRange_returns206WithContentRange() throws Exception {
+        mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/20"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+                .andExpect(content().string("2345"));
+    }
+
+    @Test
+    void multipleRanges_return206Multipart() throws Exception {
+        MvcResult result = mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=0-1,10-12"))
+                .andExpect(status().isPartialContent())
+                .andReturn();
+
+        assertThat(result.getResponse().getContentType()).startsWith("multipart/byteranges");
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).contains("Content-Range: bytes 0-1/20", "Content-Range: bytes 10-12/20", "01", "abc");
+    }
+
+    @Test
+    void matchingIfNoneMatch_returns304() throws Exception {
+        String eTag = mockMvc.perform(get(URL)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(URL).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void unsatisfiableRange_returns416() throws Exception {
+        mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=100-200"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */20"));
+    }
+}
@@ -0,0 +1,190 @@
+package com.fream.back.domain.style;
+
+import com.fream.back.domain.style.dto.StyleFilterRequestDto;
+import com.fream.back.domain.style.dto.StyleResponseDto;
+import com.fream.back.domain.style.entity.Style;
+import com.fream.back.domain.style.redis.StylePopularityRanking;
+import com.fream.back.domain.style.repository.StyleRankingSnapshotRepository;
+import com.fream.back.domain.style.repository.StyleRepository;
+import com.fream.back.domain.style.service.query.StyleHashtagQueryService;
+import com.fream.back.domain.style.service.query.StyleInterestQueryService;
+import com.fream.back.domain.style.service.query.StyleLikeQueryService;
+import com.fream.back.domain.style.service.query.StyleQueryService;
+import com.fream.back.domain.user.entity.Profile;
+import com.fream.back.domain.user.entity.User;
+import com.fream.back.domain.user.repository.ProfileRepository;
+import com.fream.back.domain.user.repository.UserRepository;
+import com.fream.back.global.config.QueryDslConfig;
+import com.fream.back.global.utils.ImageVariantGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 인기순 목록 순위 조회 테스트 — 순위 뒤 DB 조회수순 이어 붙이기(순위 스냅샷으로 제외), 순위 밖 페이지, 전체 건수, 삭제된 스타일 보충, 순위 미사용 시 DB 정렬.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(QueryDslConfig.class)
+class StyleRankedListingTest {
+
+    @Autowired
+    private StyleRepository styleRepository;
+    @Autowired
+    private ProfileRepository profileRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final StylePopularityRanking stylePopularityRanking = mock(StylePopularityRanking.class);
+    private final List<Long> rankedIds = new ArrayList<>();
+    private StyleQueryService styleQueryService;
+    private StyleRankingSnapshotRepository snapshotRepository;
+    private Profile writer;
+
+    @BeforeEach
+    void setUp() {
+        styleQueryService = new StyleQueryService(styleRepository, mock(StyleLikeQueryService.class),
+                mock(StyleInterestQueryService.class), mock(StyleHashtagQueryService.class),
+                stylePopularityRanking, mock(ImageVariantGenerator.class));
+        writer = profile("writer");
+        snapshotRepository = new StyleRankingSnapshotRepository(jdbcTemplate);
+
+        // 순위 구간 조회를 rankedIds 목록으로 흉내 (ZREVRANGE + ZCARD)
+        when(stylePopularityRanking.getPage(anyLong(), anyInt())).thenAnswer(invocation -> {
+            long offset = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            if (rankedIds.isEmpty()) {
+                return null;
+            }
+            int from = (int) Math.min(offset, rankedIds.size());
+            int to = (int) Math.min(offset + limit, rankedIds.size());
+            return new StylePopularityRanking.RankingPage(new ArrayList<>(rankedIds.subList(from, to)), rankedIds.size());
+        });
+    }
+
+    @Test
+    void rankedStyles_areFollowedByUnrankedStylesInViewCountOrder() {
+        Style a = style(0L);
+        Style b = style(50L);
+        Style c = style(10L);
+        Style d = style(30L);
+        Style e = style(0L);
+        rank(a.getId(), c.getId());
+
+        Page<StyleResponseDto> first = styleQueryService.getFilteredStyles(filter(null), PageRequest.of(0, 3), null);
+        // 순위(2건)를 넘어선 페이지도 빈 페이지가 아니라 DB 정렬로 이어진다
+        Page<StyleResponseDto> second = styleQueryService.getFilteredStyles(filter(null), PageRequest.of(1, 3), null);
+
+        assertThat(ids(first)).containsExactly(a.getId(), c.getId(), b.getId());
+        assertThat(ids(second)).containsExactly(d.getId(), e.getId());
+        // 전체 건수는 순위 크기가 아닌 전체 스타일 수
+        assertThat(first.getTotalElements()).isEqualTo(5);
+        assertThat(first.getTotalPages()).isEqualTo(2);
+        verify(stylePopularityRanking, never()).getRankedStyleIds();
+    }
+
+    @Test
+    void snapshotReplace_followsRankingChanges() {
+        Style a = style(30L);
+        Style b = style(20L);
+        Style c = style(10L);
+        rank(a.getId(), b.getId());
+
+        // b가 순위에서 빠지고 c가 들어옴: 순위 뒤 목록에는 a, c 대신 b가 보임
+        rankedIds.clear();
+        rank(a.getId(), c.getId());
+        Page<StyleResponseDto> page = styleQueryService.getFilteredStyles(filter(null), PageRequest.of(0, 3), null);
+
+        assertThat(ids(page)).containsExactly(a.getId(), c.getId(), b.getId());
+        assertThat(snapshotRepository.replace(List.of(a.getId(), c.getId()))).isZero();
+    }
+
+    @Test
+    void deletedRankedStyle_isDiscarded_andPageIsFilledFromNextRanks() {
+        Style a = style(0L);
+        Style b = style(0L);
+        Style c = style(0L);
+        long deletedId = c.getId() + 1000;
+        rank(a.getId(), deletedId, c.getId(), b.getId());
+
+        Page<StyleResponseDto> page = styleQueryService.getFilteredStyles(filter(null), PageRequest.of(0, 2), null);
+
+        assertThat(ids(page)).containsExactly(a.getId(), c.getId());
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        verify(stylePopularityRanking).discard(List.of(deletedId));
+    }
+
+    @Test
+    void unavailableRanking_fallsBackToDbOrder() {
+        Style a = style(5L);
+        Style b = style(20L);
+
+        Page<StyleResponseDto> page = styleQueryService.getFilteredStyles(filter(null), PageRequest.of(0, 10), null);
+
+        assertThat(ids(page)).containsExactly(b.getId(), a.getId());
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void filteredPopularListing_doesNotUseRanking() {
+        Style a = style(5L);
+        rankedIds.add(a.getId());
+
+        Page<StyleResponseDto> page = styleQueryService.getFilteredStyles(filter("writer"), PageRequest.of(0, 10), null);
+
+        assertThat(ids(page)).containsExactly(a.getId());
+        verify(stylePopularityRanking, never()).getPage(anyLong(), anyInt());
+    }
+
+    // 순위에 등록하고 스냅샷 갱신
+    private void rank(Long... styleIds) {
+        rankedIds.addAll(List.of(styleIds));
+        snapshotRepository.replace(rankedIds);
+    }
+
+    private static List<Long> ids(Page<StyleResponseDto> page) {
+        return page.getContent().stream().map(StyleResponseDto::getId).toList();
+    }
+
+    private Style style(Long viewCount) {
+        return styleRepository.save(Style.builder().profile(writer).content("content").viewCount(viewCount).build());
+    }
+
+    private Profile profile(String name) {
+        User user = userRepository.save(User.builder()
+                .email(name + "@test.com")
+                .password("pw")
+                .referralCode("REF-" + name)
+                .phoneNumber("010-0000-0000")
+                .build());
+        return profileRepository.save(Profile.builder().user(user).profileName(name).build());
+    }
+
+    private static StyleFilterRequestDto filter(String profileName) {
+        StyleFilterRequestDto filter = new StyleFilterRequestDto();
+        filter.setSortBy("popular");
+        filter.setProfileName(profileName);
+        return filter;
+    }
+}
@@ -0,0 +1,283 @@
+package com.fream.back.domain.style.redis;
+
+import com.fream.back.domain.style.event.StyleEngagementEvent;
+import com.fream.back.domain.style.repository.StyleRankingSnapshotRepository;
+import com.fream.back.domain.style.repository.StyleRepository;
+import com.fream.back.global.utils.ClusterLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 인기 스타일 순위 단위 테스트 — forward decay 배수, 재조정 비율, epoch 확인 후 반영/재계산, 좋아요 취소, 보관 수 관리, 순위 스냅샷 갱신, 조회 실패 시 대체.
+ * Lua 스크립트는 같은 규칙으로 동작하는 메모리 구현으로 대신한다.
+ */
+class StylePopularityRankingTest {
+
+    private static final long HALF_LIFE = 24 * 3600;
+    private static final long T0 = 1_700_000_000L;
+
+    private final AtomicLong nowMs = new AtomicLong(T0 * 1000);
+    private final Map<String, Double> scores = new HashMap<>();
+    private final List<List<Object>> incrementCalls = new ArrayList<>();
+    private final List<List<Object>> maintenanceCalls = new ArrayList<>();
+    private String epoch;
+    private String staleEpoch; // 다음 GET 한 번만 돌려줄 이전 epoch (사이에 재조정된 상황)
+
+    private final RedisTemplate<String, String> writeRedisTemplate = mockTemplate();
+    private final RedisTemplate<String, String> readRedisTemplate = mockTemplate();
+    private final StyleRankingSnapshotRepository snapshotRepository = mock(StyleRankingSnapshotRepository.class);
+    private final ClusterLock clusterLock = mock(ClusterLock.class);
+    private final StylePopularityRanking ranking = new StylePopularityRanking(mock(StyleRepository.class),
+            snapshotRepository, clusterLock, writeRedisTemplate, readRedisTemplate, nowMs::get);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ReflectionTestUtils.setField(ranking, "enabled", true);
+        ReflectionTestUtils.setField(ranking, "halfLifeHours", 24.0);
+        ReflectionTestUtils.setField(ranking, "viewWeight", 1.0);
+        ReflectionTestUtils.setField(ranking, "likeWeight", 5.0);
+        ReflectionTestUtils.setField(ranking, "maxSize", 10_000);
+        ReflectionTestUtils.setField(ranking, "maxBatchSize", 500);
+        ReflectionTestUtils.setField(ranking, "rescaleAfterHalfLives", 16);
+
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(writeRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("style:ranking:epoch")).thenAnswer(invocation -> {
+            if (staleEpoch != null) {
+                String stale = staleEpoch;
+                staleEpoch = null;
+                return stale;
+            }
+            return epoch;
+        });
+        when(writeRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    Object script = invocation.getArgument(0);
+                    List<Object> args = new ArrayList<>();
+                    for (int i = 2; i < invocation.getArguments().length; i++) {
+                        args.add(invocation.getArguments()[i]);
+                    }
+                    return script == StylePopularityRanking.INCREMENT_SCRIPT ? increment(args) : maintain(args);
+                });
+    }
+
+    @Test
+    void decayFactor_doublesEveryHalfLife_andRescaleWeightIsItsInverse() {
+        assertThat(StylePopularityRanking.decayFactor(T0, T0, HALF_LIFE)).isEqualTo(1.0);
+        assertThat(StylePopularityRanking.decayFactor(T0 + HALF_LIFE, T0, HALF_LIFE)).isEqualTo(2.0);
+        assertThat(StylePopularityRanking.decayFactor(T0 + 3 * HALF_LIFE, T0, HALF_LIFE)).isEqualTo(8.0);
+        assertThat(StylePopularityRanking.decayFactor(T0 + HALF_LIFE / 2, T0, HALF_LIFE))
+                .isCloseTo(Math.sqrt(2), within(1e-12));
+
+        long now = T0 + 17 * HALF_LIFE + 1234;
+        assertThat(StylePopularityRanking.rescaleWeight(now, T0, HALF_LIFE)
+                * StylePopularityRanking.decayFactor(now, T0, HALF_LIFE)).isCloseTo(1.0, within(1e-12));
+    }
+
+    @Test
+    void flush_registersEpochOnFirstEngagement() {
+        ranking.onEngagement(StyleEngagementEvent.of(1L, StyleEngagementEvent.Type.LIKE));
+
+        ranking.flush();
+
+        assertThat(epoch).isEqualTo(String.valueOf(T0));
+        assertThat(incrementCalls.get(0)).containsExactly(String.valueOf(T0), "1", "5.0");
+        assertThat(scores).containsEntry("1", 5.0);
+    }
+
+    @Test
+    void flush_scalesIncrementByHalfLivesSinceEpoch() {
+        epoch = String.valueOf(T0);
+        nowMs.set((T0 + 2 * HALF_LIFE) * 1000);
+
+        ranking.onEngagement(StyleEngagementEvent.of(1L, StyleEngagementEvent.Type.VIEW));
+        ranking.onEngagement(StyleEngagementEvent.of(1L, StyleEngagementEvent.Type.VIEW));
+        ranking.flush();
+
+        // 두 반감기 뒤의 참여 2회 = 2 * 2^2
+        assertThat(incrementCalls.get(0)).containsExactly(String.valueOf(T0), "1", "8.0");
+        assertThat(scores).containsEntry("1", 8.0);
+    }
+
+    @Test
+    void flush_recomputesWithNewEpoch_whenRescaledBetweenReadAndApply() {
+        epoch = String.valueOf(T0 + 2 * HALF_LIFE);
+        staleEpoch = String.valueOf(T0);
+        nowMs.set((T0 + 2 * HALF_LIFE) * 1000);
+
+        ranking.onEngagement(StyleEngagementEvent.of(1L, StyleEngagementEvent.Type.LIKE));
+        ranking.flush();
+
+        assertThat(incrementCalls).hasSize(2);
+        assertThat(incrementCalls.get(0)).containsExactly(String.valueOf(T0), "1", "20.0");
+        assertThat(incrementCalls.get(1)).containsExactly(String.valueOf(T0 + 2 * HALF_LIFE), "1", "5.0");
+        assertThat(scores).containsEntry("1", 5.0);
+    }
+
+    @Test
+    void unlikeAfterHalfLives_doesNotOverSubtractOrRemoveStyle() {
+        ranking.onEngagement(StyleEngagementEvent.of(1L, StyleEngagementEvent.Type.LIKE));
+        ranking.flush();
+        nowMs.set((T0 + 2 * HALF_LIFE) * 1000);
+
+        // 지금 배수(4)로 빼면 -20이 되어 등록분 5보다 많이 줄고 순위에서 빠짐
+        ranking.onEngagement(StyleEngagementEvent.of(1L, StyleEngagementEvent.Type.UNLIKE));
+        ranking.onEngagement(StyleEngagementEvent.of(1L, StyleEngagementEvent.Type.UNINTEREST));
+        ranking.flush();
+
+        assertThat(incrementCalls).hasSize(1);
+        assertThat(scores).containsEntry("1", 5.0);
+    }
+
+    @Test
+    void maintain_keepsAppendOnlyWithoutRescale_beforeThreshold() {
+        epoch = String.valueOf(T0);
+        scores.put("1", 3.0);
+        nowMs.set((T0 + 3 * HALF_LIFE) * 1000);
+
+        ranking.maintain();
+
+        assertThat(maintenanceCalls.get(0)).containsExactly("", String.valueOf(T0 + 3 * HALF_LIFE), "1.0", "10000");
+        assertThat(epoch).isEqualTo(String.valueOf(T0));
+        assertThat(scores).containsEntry("1", 3.0);
+    }
+
+    @Test
+    void rescale_preservesOrderAndMatchesExponentiallyDecayedScores() {
+        // t0: 1번 조회, t0+1H: 2번 좋아요, t0+4H: 3번 조회 2회
+        ranking.onEngagement(StyleEngagementEvent.of(1L, StyleEngagementEvent.Type.VIEW));
+        ranking.flush();
+        nowMs.set((T0 + HALF_LIFE) * 1000);
+        ranking.onEngagement(StyleEngagementEvent.of(2L, StyleEngagementEvent.Type.LIKE));
+        ranking.flush();
+        nowMs.set((T0 + 4 * HALF_LIFE) * 1000);
+        ranking.onEngagement(StyleEngagementEvent.of(3L, StyleEngagementEvent.Type.VIEW));
+        ranking.onEngagement(StyleEngagementEvent.of(3L, StyleEngagementEvent.Type.VIEW));
+        ranking.flush();
+
+        long now = T0 + 17 * HALF_LIFE;
+        nowMs.set(now * 1000);
+        ranking.maintain();
+
+        // epoch가 now로 옮겨졌으므로 저장된 점수 = 지금 시점의 지수 감쇠 점수
+        assertThat(epoch).isEqualTo(String.valueOf(now));
+        assertThat(scores.get("1")).isCloseTo(1 * Math.pow(2, -17), within(1e-15));
+        assertThat(scores.get("2")).isCloseTo(5 * Math.pow(2, -16), within(1e-15));
+        assertThat(scores.get("3")).isCloseTo(2 * Math.pow(2, -13), within(1e-15));
+
+        // 재조정 뒤 참여는 배수 1부터 다시 시작하고 순위 비교 기준은 그대로
+        ranking.onEngagement(StyleEngagementEvent.of(1L, StyleEngagementEvent.Type.VIEW));
+        ranking.flush();
+        assertThat(scores.get("1")).isCloseTo(1 + Math.pow(2, -17), within(1e-12));
+        assertThat(scores.get("1")).isGreaterThan(scores.get("3"));
+        assertThat(scores.get("3")).isGreaterThan(scores.get("2"));
+    }
+
+    @Test
+    void maintain_skipsWhenAnotherInstanceRescaledFirst() {
+        epoch = String.valueOf(T0 + 17 * HALF_LIFE);
+        staleEpoch = String.valueOf(T0);
+        scores.put("1", 4.0);
+        nowMs.set((T0 + 17 * HALF_LIFE) * 1000);
+
+        ranking.maintain();
+
+        assertThat(maintenanceCalls).hasSize(1);
+        assertThat(scores).containsEntry("1", 4.0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void refreshSnapshot_copiesRankedIdsOnlyWhileHoldingLock() {
+        ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+        when(readRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.range("style:ranking:popular", 0, -1)).thenReturn(Set.of("1", "2"));
+
+        // 다른 인스턴스가 갱신 중
+        ranking.refreshSnapshot();
+        verify(snapshotRepository, never()).replace(any());
+
+        when(clusterLock.tryAcquire("style-ranking-snapshot", Duration.ofMinutes(5)))
+                .thenReturn(mock(ClusterLock.Lease.class));
+        ranking.refreshSnapshot();
+        verify(snapshotRepository).replace(Set.of(1L, 2L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getPage_returnsNullWhenRankingIsEmptyOrRedisFails() {
+        ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+        when(readRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.zCard(anyString())).thenReturn(0L);
+
+        assertThat(ranking.getPage(0, 20)).isNull();
+
+        when(zSetOperations.zCard(anyString())).thenThrow(new IllegalStateException("connection refused"));
+        when(zSetOperations.range(anyString(), anyLong(), anyLong())).thenThrow(new IllegalStateException("connection refused"));
+
+        assertThat(ranking.getPage(0, 20)).isNull();
+        assertThat(ranking.getRankedStyleIds()).isNull();
+    }
+
+    // INCREMENT_SCRIPT와 같은 규칙: epoch가 없으면 등록, 다르면 -1, 점수가 0 이하가 되면 제거
+    private long increment(List<Object> args) {
+        incrementCalls.add(args);
+        if (epoch == null) {
+            epoch = (String) args.get(0);
+        } else if (!epoch.equals(args.get(0))) {
+            return -1;
+        }
+        for (int i = 1; i < args.size(); i += 2) {
+            String member = (String) args.get(i);
+            double score = scores.merge(member, Double.parseDouble((String) args.get(i + 1)), Double::sum);
+            if (score <= 0) {
+                scores.remove(member);
+            }
+        }
+        return (args.size() - 1) / 2;
+    }
+
+    // MAINTENANCE_SCRIPT와 같은 규칙: 재조정 시 epoch 확인 후 전체 점수에 배율을 곱하고 epoch 이동
+    private long maintain(List<Object> args) {
+        maintenanceCalls.add(args);
+        if (!"".equals(args.get(0))) {
+            if (!args.get(0).equals(epoch)) {
+                return -1;
+            }
+            double weight = Double.parseDouble((String) args.get(2));
+            scores.replaceAll((member, score) -> score * weight);
+            epoch = (String) args.get(1);
+        }
+        return scores.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisTemplate<String, String> mockTemplate() {
+        return mock(RedisTemplate.class);
+    }
+}
@@ -0,0 +1,85 @@
+package com.fream.back.domain.user;
+
+import com.fream.back.domain.user.config.GradeAssignmentJobConfig;
+import com.fream.back.domain.user.dto.UserGradeDto.AutoAssignResultDto;
+import com.fream.back.domain.user.repository.UserGradeRepository;
+import com.fream.back.domain.user.service.admin.AdminGradeService;
+import com.fream.back.global.exception.InvalidRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 등급 자동 설정 실행 단위 테스트 — 비동기 런처가 돌려준 실행 ID/상태를 바로 반환, 실행 중이면 거절,
+ * 직전 실행이 실패했으면 같은 파라미터로 재시작.
+ */
+class AdminGradeAutoAssignTest {
+
+    private final JobLauncher jobLauncher = mock(JobLauncher.class);
+    private final JobExplorer jobExplorer = mock(JobExplorer.class);
+    private final Job assignUserGradesJob = mock(Job.class);
+    private final JobInstance lastInstance = new JobInstance(1L, GradeAssignmentJobConfig.JOB_NAME);
+    private AdminGradeService adminGradeService;
+
+    @BeforeEach
+    void setUp() {
+        adminGradeService = new AdminGradeService(
+                mock(UserGradeRepository.class), jobLauncher, jobExplorer, assignUserGradesJob);
+    }
+
+    @Test
+    void firstRun_returnsLaunchedExecutionIdWithoutWaiting() throws Exception {
+        JobExecution launched = new JobExecution(lastInstance, 42L, new JobParameters()); // 비동기 런처: STARTING 상태로 반환
+        when(jobLauncher.run(eq(assignUserGradesJob), any(JobParameters.class))).thenReturn(launched);
+
+        AutoAssignResultDto result = adminGradeService.runGradeAutoAssignment();
+
+        assertThat(result.getJobExecutionId()).isEqualTo(42L);
+        assertThat(result.getStatus()).isEqualTo(BatchStatus.STARTING.name());
+        assertThat(result.getProcessed()).isZero();
+        verify(jobLauncher).run(eq(assignUserGradesJob), argThat(parameters -> parameters.getLong("timestamp") != null));
+    }
+
+    @Test
+    void runningExecution_rejectsNewRun() throws Exception {
+        lastExecution(BatchStatus.STARTED, new JobParameters());
+
+        assertThatThrownBy(() -> adminGradeService.runGradeAutoAssignment())
+                .isInstanceOf(InvalidRequestException.class);
+        verify(jobLauncher, never()).run(any(), any());
+    }
+
+    @Test
+    void failedExecution_isRestartedWithSameParameters() throws Exception {
+        JobParameters previous = new JobParametersBuilder().addLong("timestamp", 1000L).toJobParameters();
+        lastExecution(BatchStatus.FAILED, previous);
+        when(jobLauncher.run(assignUserGradesJob, previous)).thenReturn(new JobExecution(lastInstance, 43L, previous));
+
+        assertThat(adminGradeService.runGradeAutoAssignment().getJobExecutionId()).isEqualTo(43L);
+        verify(jobLauncher).run(assignUserGradesJob, previous);
+    }
+
+    private void lastExecution(BatchStatus status, JobParameters parameters) {
+        JobExecution execution = new JobExecution(lastInstance, 41L, parameters);
+        execution.setStatus(status);
+        when(jobExplorer.getLastJobInstance(GradeAssignmentJobConfig.JOB_NAME)).thenReturn(lastInstance);
+        when(jobExplorer.getLastJobExecution(lastInstance)).thenReturn(execution);
+    }
+}
@@ -0,0 +1,86 @@
+package com.fream.back.domain.user;
+
+import com.fream.back.domain.notification.event.UserNotificationsRequestedEvent;
+import com.fream.back.domain.user.dto.ExpiringPoint;
+import com.fream.back.domain.user.dto.ExpiringSanction;
+import com.fream.back.domain.user.entity.SanctionType;
+import com.fream.back.domain.user.repository.PointRepository;
+import com.fream.back.domain.user.repository.UserRepository;
+import com.fream.back.domain.user.repository.UserSanctionRepository;
+import com.fream.back.domain.user.service.admin.AdminSanctionService;
+import com.fream.back.domain.user.service.point.PointCommandService;
+import com.fream.back.domain.user.service.query.UserQueryService;
+import com.fream.back.global.utils.BulkExpiryExecutor;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 일괄 만료 알림 요청 단위 테스트 — 포인트 소멸은 사용자별 합계 1건, 제재 종료는 정지/기능 제한만 사용자별 1건(경고 제외),
+ * 알림 대상이 없는 배치는 발행하지 않음. 요청은 notification 모듈 소유 이벤트로 발행한다.
+ */
+class ExpiryNotificationRequestTest {
+
+    private final BulkExpiryExecutor bulkExpiryExecutor = mock(BulkExpiryExecutor.class);
+
+    @Test
+    void expiredPoints_requestOneNotificationPerUserWithSummedAmount() {
+        new PointCommandService(mock(PointRepository.class), mock(UserQueryService.class), bulkExpiryExecutor)
+                .expirePoints();
+        Function<List<ExpiringPoint>, Object> eventFactory = capturedEventFactory("points");
+
+        UserNotificationsRequestedEvent event = (UserNotificationsRequestedEvent) eventFactory.apply(List.of(
+                new ExpiringPoint(1L, 10L, 300),
+                new ExpiringPoint(2L, 20L, 50),
+                new ExpiringPoint(3L, 10L, 200)));
+
+        assertThat(event.type()).isEqualTo("BENEFIT");
+        assertThat(event.messagesByUserId()).isEqualTo(Map.of(
+                10L, "유효기간이 지난 포인트 500P가 소멸되었습니다.",
+                20L, "유효기간이 지난 포인트 50P가 소멸되었습니다."));
+    }
+
+    @Test
+    void expiredSanctions_notifyBansAndRestrictionsOnly() {
+        sanctionService().processExpiredSanctions();
+        Function<List<ExpiringSanction>, Object> eventFactory = capturedEventFactory("sanctions");
+
+        UserNotificationsRequestedEvent event = (UserNotificationsRequestedEvent) eventFactory.apply(List.of(
+                new ExpiringSanction(1L, 10L, SanctionType.WARNING),
+                new ExpiringSanction(2L, 20L, SanctionType.TEMPORARY_BAN),
+                new ExpiringSanction(3L, 30L, SanctionType.FEATURE_RESTRICTION),
+                new ExpiringSanction(4L, 20L, SanctionType.FEATURE_RESTRICTION)));
+
+        assertThat(event.type()).isEqualTo("ANNOUNCEMENT");
+        assertThat(event.messagesByUserId()).containsOnlyKeys(20L, 30L);
+        assertThat(event.messagesByUserId()).containsEntry(20L, "이용 제한 기간이 종료되었습니다.");
+    }
+
+    @Test
+    void warningsOnlyBatch_publishesNothing() {
+        sanctionService().processExpiredSanctions();
+        Function<List<ExpiringSanction>, Object> eventFactory = capturedEventFactory("sanctions");
+
+        assertThat(eventFactory.apply(List.of(new ExpiringSanction(1L, 10L, SanctionType.WARNING)))).isNull();
+    }
+
+    private AdminSanctionService sanctionService() {
+        return new AdminSanctionService(mock(UserSanctionRepository.class), mock(UserRepository.class), bulkExpiryExecutor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Function<List<T>, Object> capturedEventFactory(String name) {
+        ArgumentCaptor<Function<List<T>, Object>> captor = ArgumentCaptor.forClass(Function.class);
+        verify(bulkExpiryExecutor).expireAll(eq(name), any(), any(), captor.capture());
+        return captor.getValue();
+    }
+}
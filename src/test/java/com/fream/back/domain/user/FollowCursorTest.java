@@ -0,0 +1,169 @@
+package com.fream.back.domain.user;
+
+import com.fream.back.domain.user.dto.follow.FollowDto;
+import com.fream.back.domain.user.entity.Follow;
+import com.fream.back.domain.user.entity.Profile;
+import com.fream.back.domain.user.entity.User;
+import com.fream.back.domain.user.exception.ProfileNotFoundException;
+import com.fream.back.domain.user.redis.FollowerListCache;
+import com.fream.back.domain.user.redis.FollowerListCache.FollowerEdge;
+import com.fream.back.domain.user.repository.FollowRepository;
+import com.fream.back.domain.user.repository.ProfileRepository;
+import com.fream.back.domain.user.repository.UserRepository;
+import com.fream.back.domain.user.service.follow.FollowQueryService;
+import com.fream.back.global.config.QueryDslConfig;
+import com.fream.back.global.dto.commonDto;
+import com.fream.back.global.exception.InvalidRequestException;
+import com.fream.back.global.utils.PageUtils;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 팔로워/팔로잉 커서 조회 테스트 — 팔로우 ID 키셋으로 끝까지 넘겨도 중복·누락 없음, 전체 수는 첫 페이지에만,
+ * 캐시된 팔로워 목록의 프로필 채우기, 캐시에 남은 삭제 프로필 발견 시 캐시 삭제 후 DB 조회.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(QueryDslConfig.class)
+class FollowCursorTest {
+
+    @Autowired
+    private FollowRepository followRepository;
+    @Autowired
+    private ProfileRepository profileRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private final FollowerListCache followerListCache = mock(FollowerListCache.class);
+    private FollowQueryService followQueryService;
+    private Profile star;
+    private final List<Profile> fans = new ArrayList<>();
+    private final List<Follow> fanFollows = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        followQueryService = new FollowQueryService(followRepository, profileRepository, followerListCache);
+        when(followerListCache.findPage(anyLong(), anyLong(), any(), anyInt())).thenReturn(null);
+
+        star = profile("star");
+        for (int i = 0; i < 5; i++) {
+            Profile fan = profile("fan" + i);
+            fans.add(fan);
+            fanFollows.add(follow(fan, star));
+        }
+        follow(star, fans.get(0));
+        follow(star, fans.get(3));
+        profileRepository.updateFollowerCount(star.getId(), 5);
+        profileRepository.updateFollowingCount(star.getId(), 2);
+        entityManager.clear();
+    }
+
+    @Test
+    void followerCursor_walksEveryFollowerOnceNewestFirst_withTotalOnFirstPageOnly() {
+        List<commonDto.CursorPageDto<FollowDto>> pages = walk(after -> followQueryService.getFollowersByCursor(star.getId(), after, 2));
+
+        assertThat(pages).hasSize(3);
+        assertThat(profileIds(pages)).containsExactly(
+                fans.get(4).getId(), fans.get(3).getId(), fans.get(2).getId(), fans.get(1).getId(), fans.get(0).getId());
+        assertThat(pages.get(0).getTotalElements()).isEqualTo(5);
+        assertThat(pages.get(1).getTotalElements()).isNull();
+    }
+
+    @Test
+    void followingCursor_walksFollowingsNewestFirst() {
+        List<commonDto.CursorPageDto<FollowDto>> pages = walk(after -> followQueryService.getFollowingsByCursor(star.getId(), after, 1));
+
+        assertThat(profileIds(pages)).containsExactly(fans.get(3).getId(), fans.get(0).getId());
+        assertThat(pages.get(0).getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void cachedFollowerEdges_areFilledWithProfiles() {
+        when(followerListCache.findPage(eq(star.getId()), eq(5L), any(), eq(3))).thenReturn(List.of(
+                edge(4), edge(3), edge(2)));
+
+        commonDto.CursorPageDto<FollowDto> page = followQueryService.getFollowersByCursor(star.getId(), null, 2);
+
+        assertThat(page.getContent()).extracting(FollowDto::getProfileName).containsExactly("fan4", "fan3");
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo(PageUtils.encodeIdCursor(fanFollows.get(3).getId()));
+    }
+
+    @Test
+    void cachedEdgeOfDeletedProfile_evictsCache_andReadsFromDb() {
+        when(followerListCache.findPage(eq(star.getId()), eq(5L), any(), eq(3))).thenReturn(List.of(
+                edge(4), new FollowerEdge(fanFollows.get(3).getId() + 1000, fans.get(4).getId() + 1000), edge(2)));
+
+        commonDto.CursorPageDto<FollowDto> page = followQueryService.getFollowersByCursor(star.getId(), null, 2);
+
+        verify(followerListCache).evict(star.getId());
+        assertThat(page.getContent()).extracting(FollowDto::getProfileId)
+                .containsExactly(fans.get(4).getId(), fans.get(3).getId());
+    }
+
+    @Test
+    void unknownProfile_andMalformedCursor_areRejected() {
+        assertThatThrownBy(() -> followQueryService.getFollowersByCursor(star.getId() + 1000, null, 2))
+                .isInstanceOf(ProfileNotFoundException.class);
+        assertThatThrownBy(() -> followQueryService.getFollowersByCursor(star.getId(), "!!!", 2))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    // nextCursor를 따라 마지막 페이지까지 읽은 페이지 목록
+    private List<commonDto.CursorPageDto<FollowDto>> walk(Function<String, commonDto.CursorPageDto<FollowDto>> fetch) {
+        List<commonDto.CursorPageDto<FollowDto>> pages = new ArrayList<>();
+        String after = null;
+        do {
+            commonDto.CursorPageDto<FollowDto> page = fetch.apply(after);
+            pages.add(page);
+            after = page.getNextCursor();
+            assertThat(page.isHasNext()).isEqualTo(after != null);
+        } while (after != null && pages.size() < 20);
+        return pages;
+    }
+
+    private static List<Long> profileIds(List<commonDto.CursorPageDto<FollowDto>> pages) {
+        return pages.stream().flatMap(page -> page.getContent().stream()).map(FollowDto::getProfileId).toList();
+    }
+
+    private FollowerEdge edge(int fanIndex) {
+        return new FollowerEdge(fanFollows.get(fanIndex).getId(), fans.get(fanIndex).getId());
+    }
+
+    private Follow follow(Profile follower, Profile following) {
+        return followRepository.save(Follow.builder().follower(follower).following(following).build());
+    }
+
+    private Profile profile(String name) {
+        User user = userRepository.save(User.builder()
+                .email(name + "@test.com")
+                .password("pw")
+                .referralCode("REF-" + name)
+                .phoneNumber("010-0000-0000")
+                .build());
+        return profileRepository.save(Profile.builder().user(user).profileName(name).build());
+    }
+}
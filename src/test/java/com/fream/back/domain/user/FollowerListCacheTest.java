@@ -0,0 +1,194 @@
+package com.fream.back.domain.user;
+
+import com.fream.back.domain.user.event.FollowChangedEvent;
+import com.fream.back.domain.user.redis.FollowerListCache;
+import com.fream.back.domain.user.redis.FollowerListCache.FollowerEdge;
+import com.fream.back.domain.user.repository.FollowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 인기 프로필 팔로워 목록 캐시 단위 테스트 — 인기 프로필만 캐시, 최초 조회 시 최신 창 적재, 창 안의 페이지는 캐시로/창 밖은 DB로,
+ * 팔로우/언팔로우 반영과 창 크기 유지, Redis 실패 시 대체와 목록 삭제.
+ * Lua 스크립트는 같은 규칙으로 동작하는 메모리 구현으로 대신한다.
+ */
+class FollowerListCacheTest {
+
+    private static final long PROFILE_ID = 7L;
+    private static final String KEY = "follow:followers:7";
+
+    // key -> (팔로우 ID -> 팔로워 프로필 ID)
+    private final Map<String, TreeMap<Long, Long>> store = new HashMap<>();
+    private final FollowRepository followRepository = mock(FollowRepository.class);
+    private RedisTemplate<String, String> redisTemplate;
+    private ZSetOperations<String, String> zSetOperations;
+    private FollowerListCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        zSetOperations = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.hasKey(anyString())).thenAnswer(invocation -> store.containsKey(invocation.<String>getArgument(0)));
+        when(zSetOperations.reverseRangeByScoreWithScores(anyString(), anyDouble(), anyDouble(), anyLong(), anyLong()))
+                .thenAnswer(invocation -> {
+                    TreeMap<Long, Long> edges = store.getOrDefault(invocation.<String>getArgument(0), new TreeMap<>());
+                    double max = invocation.getArgument(2);
+                    long count = invocation.getArgument(4);
+                    Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
+                    for (Map.Entry<Long, Long> edge : edges.descendingMap().entrySet()) {
+                        if (edge.getKey() <= max && tuples.size() < count) {
+                            tuples.add(new DefaultTypedTuple<>(String.valueOf(edge.getValue()), edge.getKey().doubleValue()));
+                        }
+                    }
+                    return tuples;
+                });
+        when(zSetOperations.remove(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            TreeMap<Long, Long> edges = store.get(invocation.<String>getArgument(0));
+            if (edges != null) {
+                edges.values().remove(Long.valueOf((String) invocation.getArgument(1)));
+            }
+            return 1L;
+        });
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(invocation -> {
+            String key = invocation.<List<String>>getArgument(1).get(0);
+            List<String> args = new ArrayList<>();
+            for (int i = 2; i < invocation.getArguments().length; i++) {
+                args.add((String) invocation.getArguments()[i]);
+            }
+            return args.size() == 3 ? add(key, args) : load(key, args);
+        });
+
+        // 인기 기준 100명, 창 5건
+        cache = new FollowerListCache(redisTemplate, followRepository, true, 100, 5, 60);
+    }
+
+    @Test
+    void profileBelowHotThreshold_isNotCached() {
+        assertThat(cache.findPage(PROFILE_ID, 99, null, 3)).isNull();
+
+        verifyNoInteractions(followRepository);
+        verify(redisTemplate, never()).opsForZSet();
+    }
+
+    @Test
+    void firstLookupLoadsLatestWindow_andNextPageIsServedFromCache() {
+        dbFollowers(20L, 19L, 18L, 17L, 16L);
+
+        List<FollowerEdge> first = cache.findPage(PROFILE_ID, 1000, null, 3);
+        List<FollowerEdge> second = cache.findPage(PROFILE_ID, 1000, 18L, 2);
+
+        assertThat(first).extracting(FollowerEdge::followId).containsExactly(20L, 19L, 18L);
+        assertThat(first).extracting(FollowerEdge::followerProfileId).containsExactly(120L, 119L, 118L);
+        assertThat(second).extracting(FollowerEdge::followId).containsExactly(17L, 16L);
+        verify(followRepository, times(1)).findFollowerEdges(eq(PROFILE_ID), any(Pageable.class));
+    }
+
+    @Test
+    void pageReachingPastWindow_fallsBackToDb() {
+        dbFollowers(20L, 19L, 18L, 17L, 16L); // 창(5건)이 가득 찬 상태, DB에는 더 오래된 팔로우가 있을 수 있음
+        cache.findPage(PROFILE_ID, 1000, null, 3);
+
+        assertThat(cache.findPage(PROFILE_ID, 1000, 17L, 3)).isNull();
+        // 한 페이지가 창보다 크면 캐시를 쓰지 않음
+        assertThat(cache.findPage(PROFILE_ID, 1000, null, 6)).isNull();
+    }
+
+    @Test
+    void shortProfileList_isComplete_soLastPageComesFromCache() {
+        dbFollowers(20L, 19L);
+
+        assertThat(cache.findPage(PROFILE_ID, 1000, null, 3)).extracting(FollowerEdge::followId).containsExactly(20L, 19L);
+    }
+
+    @Test
+    void followAndUnfollow_updateLoadedWindow_andKeepWindowSize() {
+        dbFollowers(20L, 19L, 18L, 17L, 16L);
+        cache.findPage(PROFILE_ID, 1000, null, 3);
+
+        cache.onFollowChanged(new FollowChangedEvent(21L, 121L, PROFILE_ID, true));
+        cache.onFollowChanged(new FollowChangedEvent(null, 119L, PROFILE_ID, false));
+
+        assertThat(store.get(KEY).keySet()).containsExactly(17L, 18L, 20L, 21L);
+
+        // 적재되지 않은 목록은 건드리지 않음
+        cache.onFollowChanged(new FollowChangedEvent(30L, 130L, 8L, true));
+        assertThat(store).doesNotContainKey("follow:followers:8");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void redisFailure_fallsBackToDb_andFailedUpdateEvictsList() {
+        when(zSetOperations.reverseRangeByScoreWithScores(anyString(), anyDouble(), anyDouble(), anyLong(), anyLong()))
+                .thenThrow(new IllegalStateException("connection refused"));
+        assertThat(cache.findPage(PROFILE_ID, 1000, null, 3)).isNull();
+
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new IllegalStateException("connection refused"));
+        cache.onFollowChanged(new FollowChangedEvent(21L, 121L, PROFILE_ID, true));
+        verify(redisTemplate).delete(KEY);
+    }
+
+    // 팔로우 ID 내림차순 최신 팔로워 (팔로워 프로필 ID = 팔로우 ID + 100)
+    private void dbFollowers(Long... followIds) {
+        List<Object[]> rows = new ArrayList<>();
+        for (Long followId : followIds) {
+            rows.add(new Object[]{followId, followId + 100});
+        }
+        when(followRepository.findFollowerEdges(eq(PROFILE_ID), any(Pageable.class))).thenReturn(rows);
+    }
+
+    // LOAD_SCRIPT와 같은 규칙: 이미 있으면 그대로, 없으면 (점수, 멤버) 쌍 추가
+    private long load(String key, List<String> args) {
+        if (store.containsKey(key)) {
+            return 0;
+        }
+        TreeMap<Long, Long> edges = new TreeMap<>();
+        for (int i = 1; i < args.size(); i += 2) {
+            edges.put(Long.valueOf(args.get(i)), Long.valueOf(args.get(i + 1)));
+        }
+        store.put(key, edges);
+        return 1;
+    }
+
+    // ADD_SCRIPT와 같은 규칙: 적재된 목록에만 추가하고 가장 오래된 쪽부터 창 크기로 자름
+    private long add(String key, List<String> args) {
+        TreeMap<Long, Long> edges = store.get(key);
+        if (edges == null) {
+            return 0;
+        }
+        edges.put(Long.valueOf(args.get(0)), Long.valueOf(args.get(1)));
+        while (edges.size() > Integer.parseInt(args.get(2))) {
+            edges.pollFirstEntry();
+        }
+        return 1;
+    }
+}
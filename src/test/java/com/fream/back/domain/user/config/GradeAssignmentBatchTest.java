@@ -0,0 +1,152 @@
+package com.fream.back.domain.user.config;
+
+import com.fream.back.domain.user.config.GradeAssignmentProcessor.GradeChange;
+import com.fream.back.domain.user.dto.UserPurchaseTotal;
+import com.fream.back.domain.user.entity.User;
+import com.fream.back.domain.user.entity.UserGrade;
+import com.fream.back.domain.user.repository.UserGradeRepository;
+import com.fream.back.domain.user.repository.UserRepository;
+import com.fream.back.global.config.QueryDslConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 등급 자동 설정 배치 테스트 — 리더가 저장한 마지막 사용자 ID 다음부터 이어 읽기, 페이지 경계를 넘는 키셋 조회,
+ * CASE 일괄 UPDATE가 청크의 대상만 각자의 등급으로 변경.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(QueryDslConfig.class)
+class GradeAssignmentBatchTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserGradeRepository userGradeRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<User> users = new ArrayList<>();
+    private UserGrade bronze;
+    private UserGrade silver;
+    private UserGrade gold;
+
+    @BeforeEach
+    void setUp() {
+        bronze = grade(1, "브론즈", 0);
+        silver = grade(2, "실버", 100_000);
+        gold = grade(3, "골드", 500_000);
+        for (int i = 0; i < 5; i++) {
+            users.add(user("user" + i, bronze));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void reader_resumesAfterLastCommittedUser() {
+        UserPurchaseTotalReader reader = new UserPurchaseTotalReader(userRepository, 2);
+        ExecutionContext executionContext = new ExecutionContext();
+        reader.open(executionContext);
+        reader.read();
+        reader.read();
+        reader.update(executionContext); // 첫 청크 커밋 지점
+
+        assertThat(executionContext.getLong(UserPurchaseTotalReader.LAST_ID_KEY)).isEqualTo(users.get(1).getId());
+
+        // 실패 후 재시작: 저장된 실행 컨텍스트로 새 리더를 열면 다음 사용자부터
+        UserPurchaseTotalReader restarted = new UserPurchaseTotalReader(userRepository, 2);
+        restarted.open(executionContext);
+
+        assertThat(readAll(restarted)).extracting(UserPurchaseTotal::userId)
+                .containsExactly(users.get(2).getId(), users.get(3).getId(), users.get(4).getId());
+    }
+
+    @Test
+    void reader_withoutSavedPosition_readsEveryUserWithZeroTotals() {
+        UserPurchaseTotalReader reader = new UserPurchaseTotalReader(userRepository, 2);
+        reader.open(new ExecutionContext());
+
+        List<UserPurchaseTotal> totals = readAll(reader);
+
+        assertThat(totals).extracting(UserPurchaseTotal::userId)
+                .containsExactlyElementsOf(users.stream().map(User::getId).toList());
+        assertThat(totals).allSatisfy(total -> {
+            assertThat(total.totalPurchaseAmount()).isZero();
+            assertThat(total.gradeId()).isEqualTo(bronze.getId());
+        });
+    }
+
+    @Test
+    void writer_updatesEachUserToItsOwnGrade_inOneStatement() {
+        UserGradeBulkWriter writer = new UserGradeBulkWriter(jdbcTemplate);
+
+        writer.write(new Chunk<>(List.of(
+                new GradeChange(users.get(0).getId(), gold.getId()),
+                new GradeChange(users.get(2).getId(), silver.getId()),
+                new GradeChange(users.get(3).getId(), gold.getId()))));
+
+        assertThat(gradeIdsOfUsers()).containsExactly(
+                gold.getId(), bronze.getId(), silver.getId(), gold.getId(), bronze.getId());
+    }
+
+    @Test
+    void writer_emptyChunk_changesNothing() {
+        new UserGradeBulkWriter(jdbcTemplate).write(new Chunk<>());
+
+        assertThat(gradeIdsOfUsers()).containsOnly(bronze.getId());
+    }
+
+    private List<Long> gradeIdsOfUsers() {
+        entityManager.clear();
+        return users.stream()
+                .map(user -> userRepository.findById(user.getId()).orElseThrow().getGrade().getId())
+                .toList();
+    }
+
+    private static List<UserPurchaseTotal> readAll(UserPurchaseTotalReader reader) {
+        List<UserPurchaseTotal> totals = new ArrayList<>();
+        UserPurchaseTotal total;
+        while ((total = reader.read()) != null && totals.size() < 20) {
+            totals.add(total);
+        }
+        return totals;
+    }
+
+    private UserGrade grade(int level, String name, int minPurchaseAmount) {
+        return userGradeRepository.save(UserGrade.builder()
+                .level(level)
+                .name(name)
+                .minPurchaseAmount(minPurchaseAmount)
+                .pointRate(1.0)
+                .build());
+    }
+
+    private User user(String name, UserGrade grade) {
+        User user = User.builder()
+                .email(name + "@test.com")
+                .password("pw")
+                .referralCode("REF-" + name)
+                .phoneNumber("010-0000-0000")
+                .build();
+        user.addGrade(grade);
+        return userRepository.save(user);
+    }
+}
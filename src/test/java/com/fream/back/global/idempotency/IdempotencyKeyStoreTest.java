@@ -0,0 +1,296 @@
+package com.fream.back.global.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fream.back.domain.order.dto.OrderProcessingAcceptedDto;
+import com.fream.back.global.exception.DuplicateRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 멱등성 키 저장소 단위 테스트 — 최초 실행/결과 저장, 완료 결과 타입 복원, 처리 중 거절, 실패 시 반납, 선점 소유자 확인, Redis 장애 시 DB 대체.
+ */
+class IdempotencyKeyStoreTest {
+
+    private static final String STORE_KEY = "idempotency:order-payment:buyer@test.com:10:key-1";
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final IdempotencyRecordRepository recordRepository = mock(IdempotencyRecordRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final IdempotencyKeyStore store =
+            new IdempotencyKeyStore(redisTemplate, recordRepository, objectMapper, 60, 24);
+    private final AtomicInteger executions = new AtomicInteger();
+    // Redis 대체 (SET NX, GET, 완료/반납 Lua 스크립트)
+    private final Map<String, String> redis = new HashMap<>();
+    private final Map<String, Long> ttlMillis = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenAnswer(invocation -> {
+            String key = invocation.getArgument(0);
+            if (redis.containsKey(key)) {
+                return false;
+            }
+            redis.put(key, invocation.getArgument(1));
+            ttlMillis.put(key, invocation.<Duration>getArgument(2).toMillis());
+            return true;
+        });
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(this::runScript);
+    }
+
+    @Test
+    void firstRequest_runsActionAndStoresResult() throws Exception {
+        OrderProcessingAcceptedDto result = execute();
+
+        assertThat(result.getOrderId()).isEqualTo(10L);
+        assertThat(executions).hasValue(1);
+        assertThat(redis.get(STORE_KEY)).isEqualTo("C:" + objectMapper.writeValueAsString(result));
+        assertThat(ttlMillis.get(STORE_KEY)).isEqualTo(Duration.ofHours(24).toMillis());
+    }
+
+    @Test
+    void claim_storesPerClaimOwnerTokenWithInProgressTtl() {
+        IdempotencyClaim first = store.claim("order-payment:buyer@test.com", "10:key-1");
+
+        assertThat(first.isAcquired()).isTrue();
+        assertThat(redis.get(STORE_KEY)).isEqualTo("P:" + first.getToken());
+        assertThat(ttlMillis.get(STORE_KEY)).isEqualTo(Duration.ofSeconds(60).toMillis());
+        redis.clear();
+        assertThat(store.claim("order-payment:buyer@test.com", "10:key-1").getToken()).isNotEqualTo(first.getToken());
+    }
+
+    @Test
+    void completedKey_returnsStoredResultAsRequestedType() throws Exception {
+        redis.put(STORE_KEY, "C:" + objectMapper.writeValueAsString(accepted()));
+
+        OrderProcessingAcceptedDto result = execute();
+
+        assertThat(executions).hasValue(0);
+        assertThat(result).isEqualTo(accepted());
+    }
+
+    @Test
+    void inProgressKey_isRejectedWithoutRunningAction() {
+        redis.put(STORE_KEY, "P:other-request");
+
+        assertThatThrownBy(this::execute).isInstanceOf(DuplicateRequestException.class);
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    void failedAction_releasesKeyForRetry() {
+        assertThatThrownBy(() -> store.execute("order-payment:buyer@test.com", "10:key-1",
+                OrderProcessingAcceptedDto.class, () -> {
+                    throw new IllegalStateException("Kafka 발행 실패");
+                })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(redis).doesNotContainKey(STORE_KEY);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void releaseAfterExpiry_keepsOtherRequestsClaim() {
+        IdempotencyClaim slow = store.claim("order-payment:buyer@test.com", "10:key-1");
+        redis.remove(STORE_KEY); // 처리 중 TTL 만료
+        IdempotencyClaim next = store.claim("order-payment:buyer@test.com", "10:key-1");
+
+        store.release(slow);
+
+        assertThat(next.isAcquired()).isTrue();
+        assertThat(redis.get(STORE_KEY)).isEqualTo("P:" + next.getToken());
+    }
+
+    @Test
+    void completeAfterExpiry_doesNotOverwriteOtherRequestsClaim() {
+        IdempotencyClaim slow = store.claim("order-payment:buyer@test.com", "10:key-1");
+        redis.remove(STORE_KEY);
+        IdempotencyClaim next = store.claim("order-payment:buyer@test.com", "10:key-1");
+
+        store.complete(slow, accepted());
+
+        assertThat(redis.get(STORE_KEY)).isEqualTo("P:" + next.getToken());
+        verify(recordRepository, never()).save(any());
+    }
+
+    @Test
+    void completeAfterExpiryWithoutNewClaim_stillStoresResult() throws Exception {
+        IdempotencyClaim slow = store.claim("order-payment:buyer@test.com", "10:key-1");
+        redis.remove(STORE_KEY);
+
+        store.complete(slow, accepted());
+
+        assertThat(redis.get(STORE_KEY)).isEqualTo("C:" + objectMapper.writeValueAsString(accepted()));
+    }
+
+    @Test
+    void resultSavedOnlyInDatabase_isReturnedAfterRedisClaimExpires() throws Exception {
+        IdempotencyClaim first = store.claim("order-payment:buyer@test.com", "10:key-1");
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("connection reset"))
+                .thenAnswer(this::runScript);
+        store.complete(first, accepted());
+        ArgumentCaptor<IdempotencyRecord> saved = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(recordRepository).save(saved.capture());
+        when(recordRepository.findByIdempotencyKey(STORE_KEY)).thenReturn(Optional.of(saved.getValue()));
+        redis.remove(STORE_KEY); // Redis의 처리 중 기록 만료
+
+        OrderProcessingAcceptedDto result = execute();
+
+        assertThat(executions).hasValue(0);
+        assertThat(result).isEqualTo(accepted());
+        assertThat(redis.get(STORE_KEY)).startsWith("C:");
+    }
+
+    @Test
+    void unreadableStoredResult_isTreatedAsDuplicate() {
+        redis.put(STORE_KEY, "C:{broken");
+
+        assertThatThrownBy(this::execute).isInstanceOf(DuplicateRequestException.class);
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    void redisDown_claimsAndCompletesInDatabase() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+        IdempotencyRecord inProgress = IdempotencyRecord.builder().id(7L).idempotencyKey(STORE_KEY).build();
+        when(recordRepository.saveAndFlush(any())).thenReturn(inProgress);
+        when(recordRepository.findById(7L)).thenReturn(Optional.of(inProgress));
+
+        OrderProcessingAcceptedDto result = execute();
+
+        assertThat(result.getOrderId()).isEqualTo(10L);
+        verify(recordRepository).deleteExpiredByKey(eq(STORE_KEY), any(LocalDateTime.class));
+        ArgumentCaptor<IdempotencyRecord> claimed = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(recordRepository).saveAndFlush(claimed.capture());
+        assertThat(claimed.getValue().isCompleted()).isFalse();
+        verify(recordRepository).save(inProgress);
+        assertThat(inProgress.isCompleted()).isTrue();
+        assertThat(inProgress.getResponse()).contains("\"orderId\":10");
+    }
+
+    @Test
+    void redisDown_failedAction_deletesOnlyOwnInProgressRecord() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+        when(recordRepository.saveAndFlush(any()))
+                .thenReturn(IdempotencyRecord.builder().id(7L).idempotencyKey(STORE_KEY).build());
+
+        assertThatThrownBy(() -> store.execute("order-payment:buyer@test.com", "10:key-1",
+                OrderProcessingAcceptedDto.class, () -> {
+                    throw new IllegalStateException("Kafka 발행 실패");
+                })).isInstanceOf(IllegalStateException.class);
+
+        verify(recordRepository).deleteInProgressById(7L);
+    }
+
+    @Test
+    void redisDown_completeAfterOwnRecordExpired_doesNotTouchOtherRecord() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+        when(recordRepository.saveAndFlush(any()))
+                .thenReturn(IdempotencyRecord.builder().id(7L).idempotencyKey(STORE_KEY).build());
+        when(recordRepository.findById(anyLong())).thenReturn(Optional.empty());
+
+        execute();
+
+        verify(recordRepository, never()).save(any());
+    }
+
+    @Test
+    void redisDown_duplicateDatabaseKey_returnsCompletedResult() throws Exception {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+        when(recordRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("uk_idempotency_record_key"));
+        IdempotencyRecord completed = IdempotencyRecord.builder().idempotencyKey(STORE_KEY).build();
+        completed.complete(objectMapper.writeValueAsString(accepted()), LocalDateTime.now().plusHours(1));
+        when(recordRepository.findByIdempotencyKey(STORE_KEY)).thenReturn(Optional.of(completed));
+
+        OrderProcessingAcceptedDto result = execute();
+
+        assertThat(executions).hasValue(0);
+        assertThat(result).isEqualTo(accepted());
+    }
+
+    @Test
+    void redisDown_duplicateDatabaseKeyInProgress_isRejected() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+        when(recordRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("uk_idempotency_record_key"));
+        when(recordRepository.findByIdempotencyKey(STORE_KEY))
+                .thenReturn(Optional.of(IdempotencyRecord.builder().idempotencyKey(STORE_KEY).build()));
+
+        assertThatThrownBy(this::execute).isInstanceOf(DuplicateRequestException.class);
+        assertThat(executions).hasValue(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Long runScript(InvocationOnMock invocation) {
+        String script = invocation.<RedisScript<Long>>getArgument(0).getScriptAsString();
+        String key = invocation.<List<String>>getArgument(1).get(0);
+        String current = redis.get(key);
+        Object[] args = invocation.getArguments();
+        if (script.contains("'SET'")) {
+            if (args[2].equals(current) || current == null) {
+                redis.put(key, (String) args[3]);
+                ttlMillis.put(key, Long.parseLong((String) args[4]));
+                return 1L;
+            }
+            return 0L;
+        }
+        if (args[2].equals(current)) {
+            redis.remove(key);
+            return 1L;
+        }
+        return 0L;
+    }
+
+    private OrderProcessingAcceptedDto execute() {
+        return store.execute("order-payment:buyer@test.com", "10:key-1", OrderProcessingAcceptedDto.class, () -> {
+            executions.incrementAndGet();
+            return accepted();
+        });
+    }
+
+    private static OrderProcessingAcceptedDto accepted() {
+        return OrderProcessingAcceptedDto.builder()
+                .orderId(10L)
+                .status("PROCESSING")
+                .message("주문이 접수되었습니다. 결제를 처리하고 있습니다.")
+                .estimatedProcessingTime("1-3분")
+                .websocketTopic("/topic/order/10")
+                .statusCheckUrl("/api/orders/10/status")
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+package com.fream.back.global.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 일괄 만료 실행기 단위 테스트 — 배치 크기씩 남은 대상이 없을 때까지 반복, 배치마다 트랜잭션/이벤트 1건, 잠금 미획득 시 건너뜀,
+ * 잠금 상실·만료 0건·배치 수 한도에서 중단, 이벤트 실패가 다음 배치를 막지 않음.
+ */
+class BulkExpiryExecutorTest {
+
+    private final ClusterLock clusterLock = mock(ClusterLock.class);
+    private final ClusterLock.Lease lease = mock(ClusterLock.Lease.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final List<Object> events = new ArrayList<>();
+
+    // 기한이 지난 행 ID (만료되면 제거)
+    private final TreeSet<Long> due = new TreeSet<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        when(clusterLock.tryAcquire(eq("expiry:points"), any(Duration.class))).thenReturn(lease);
+        when(lease.extend()).thenReturn(true);
+        doAnswer(invocation -> events.add(invocation.getArgument(0)))
+                .when(eventPublisher).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void expiresEverythingInBatches_withOneTransactionAndEventPerBatch() {
+        dueIds(1, 7);
+
+        int expired = executor(3, 100).expireAll("points", this::load, this::expire, List::copyOf);
+
+        assertThat(expired).isEqualTo(7);
+        assertThat(due).isEmpty();
+        assertThat(events).containsExactly(List.of(1L, 2L, 3L), List.of(4L, 5L, 6L), List.of(7L));
+        verify(transactionManager, times(3)).commit(any());
+        verify(lease, times(2)).extend();
+        verify(lease).close();
+    }
+
+    @Test
+    void exactMultipleOfBatchSize_endsWithEmptyLoad_withoutEvent() {
+        dueIds(1, 6);
+
+        assertThat(executor(3, 100).expireAll("points", this::load, this::expire, List::copyOf)).isEqualTo(6);
+
+        assertThat(loads).hasValue(3);
+        assertThat(events).hasSize(2);
+    }
+
+    @Test
+    void lockHeldByOtherInstance_skipsWithoutLoading() {
+        when(clusterLock.tryAcquire(anyString(), any(Duration.class))).thenReturn(null);
+        dueIds(1, 5);
+
+        assertThat(executor(3, 100).expireAll("points", this::load, this::expire, List::copyOf)).isZero();
+
+        assertThat(loads).hasValue(0);
+        verifyNoInteractions(transactionManager, eventPublisher);
+    }
+
+    @Test
+    void lostLease_stopsAfterCurrentBatch() {
+        when(lease.extend()).thenReturn(false);
+        dueIds(1, 7);
+
+        assertThat(executor(3, 100).expireAll("points", this::load, this::expire, List::copyOf)).isEqualTo(3);
+
+        assertThat(due).containsExactly(4L, 5L, 6L, 7L);
+        verify(lease).close();
+    }
+
+    @Test
+    void batchThatExpiresNothing_stopsInsteadOfSpinning() {
+        dueIds(1, 7);
+
+        int expired = executor(3, 100).expireAll("points", this::load, targets -> 0, List::copyOf);
+
+        assertThat(expired).isZero();
+        assertThat(loads).hasValue(1);
+        assertThat(events).hasSize(1);
+    }
+
+    @Test
+    void maxBatches_limitsOneRun() {
+        dueIds(1, 10);
+
+        assertThat(executor(3, 2).expireAll("points", this::load, this::expire, List::copyOf)).isEqualTo(6);
+
+        assertThat(due).containsExactly(7L, 8L, 9L, 10L);
+    }
+
+    @Test
+    void failedOrNullEvent_doesNotStopRemainingBatches() {
+        doThrow(new IllegalStateException("listener failed")).when(eventPublisher).publishEvent(List.of(1L, 2L, 3L));
+        dueIds(1, 7);
+
+        int expired = executor(3, 100).expireAll("points", this::load, this::expire,
+                targets -> targets.contains(7L) ? null : List.copyOf(targets));
+
+        assertThat(expired).isEqualTo(7);
+        assertThat(events).containsExactly(List.of(4L, 5L, 6L));
+        verify(eventPublisher, never()).publishEvent(List.of(7L));
+    }
+
+    private BulkExpiryExecutor executor(int batchSize, int maxBatches) {
+        return new BulkExpiryExecutor(clusterLock, transactionManager, eventPublisher, batchSize, maxBatches, 60);
+    }
+
+    private void dueIds(long from, long to) {
+        LongStream.rangeClosed(from, to).forEach(due::add);
+    }
+
+    private List<Long> load(int limit) {
+        loads.incrementAndGet();
+        return due.stream().limit(limit).toList();
+    }
+
+    private int expire(List<Long> ids) {
+        int expired = 0;
+        for (Long id : ids) {
+            if (due.remove(id)) {
+                expired++;
+            }
+        }
+        return expired;
+    }
+}
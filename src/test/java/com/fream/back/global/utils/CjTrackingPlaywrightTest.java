@@ -0,0 +1,96 @@
+package com.fream.back.global.utils;
+
+import com.fream.back.domain.shipment.exception.ShipmentErrorCode;
+import com.fream.back.domain.shipment.exception.ShipmentException;
+import com.microsoft.playwright.Page;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CJ대한통운 배송 조회 단위 테스트 — 워커 풀 제출, 최신 상태 파싱, 오류 코드 정리.
+ */
+class CjTrackingPlaywrightTest {
+
+    private final PlaywrightBrowserManager browserManager = mock(PlaywrightBrowserManager.class);
+    private final Page page = mock(Page.class);
+    private final CjTrackingPlaywright tracking = new CjTrackingPlaywright(browserManager);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        // 워커 대신 호출 스레드에서 바로 실행
+        when(browserManager.submit(any())).thenAnswer(invocation -> {
+            Function<Page, Object> task = invocation.getArgument(0);
+            try {
+                return CompletableFuture.completedFuture(task.apply(page));
+            } catch (Exception e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+    }
+
+    @Test
+    void getCurrentTrackingStatus_returnsLastRowStatusColumn() throws Exception {
+        when(page.content()).thenReturn(table(
+                row("2024-01-01", "서울", "집화처리", "담당", "간선상차"),
+                row("2024-01-02", "부산", "배달출발", "담당", "배송출발")));
+
+        assertThat(tracking.getCurrentTrackingStatus("123")).isEqualTo("배송출발");
+        assertThat(tracking.getCurrentTrackingStatusAsync("123").join()).isEqualTo("배송출발");
+    }
+
+    @Test
+    void emptyOrMalformedTable_failsWithParseError() {
+        when(page.content()).thenReturn(table(), table("<tr><td>only</td></tr>"));
+
+        assertThatThrownBy(() -> tracking.getCurrentTrackingStatus("123"))
+                .isInstanceOfSatisfying(ShipmentException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(ShipmentErrorCode.TRACKING_HTML_PARSE_ERROR));
+        assertThatThrownBy(() -> tracking.getCurrentTrackingStatus("123"))
+                .isInstanceOfSatisfying(ShipmentException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(ShipmentErrorCode.TRACKING_HTML_PARSE_ERROR));
+    }
+
+    @Test
+    void browserError_isWrappedAsExternalTrackingError() {
+        when(page.content()).thenThrow(new RuntimeException("Timeout 30000ms exceeded"));
+
+        assertThatThrownBy(() -> tracking.getCurrentTrackingStatus("123"))
+                .isInstanceOfSatisfying(ShipmentException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(ShipmentErrorCode.EXTERNAL_TRACKING_SERVICE_ERROR));
+    }
+
+    @Test
+    void blankTrackingNumberOrFullQueue_failsWithoutThrowingFromAsync() {
+        CompletableFuture<String> blank = tracking.getCurrentTrackingStatusAsync(" ");
+        assertThat(blank).isCompletedExceptionally();
+        verify(browserManager, never()).submit(any());
+
+        when(browserManager.submit(any())).thenThrow(
+                new ShipmentException(ShipmentErrorCode.EXTERNAL_TRACKING_SERVICE_ERROR, "대기열 초과"));
+        assertThat(tracking.getCurrentTrackingStatusAsync("123")).isCompletedExceptionally();
+    }
+
+    private static String table(String... rows) {
+        return "<html><body><table><tbody id=\"statusDetail\">" + String.join("", rows) + "</tbody></table></body></html>";
+    }
+
+    private static String row(String... cells) {
+        StringBuilder html = new StringBuilder("<tr>");
+        for (String cell : cells) {
+            html.append("<td>").append(cell).append("</td>");
+        }
+        return html.append("</tr>").toString();
+    }
+}
@@ -0,0 +1,120 @@
+package com.fream.back.global.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 클러스터 잠금 단위 테스트 — 한 곳만 획득, 해제 후 재획득, 다른 소유자의 잠금은 연장/해제하지 않음, Redis 실패 시 미획득.
+ * Lua 스크립트는 같은 규칙으로 동작하는 메모리 구현으로 대신한다.
+ */
+class ClusterLockTest {
+
+    private static final String KEY = "lock:expiry:points";
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    private final Map<String, String> store = new HashMap<>();
+    private final Map<String, Long> ttls = new HashMap<>();
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private ClusterLock clusterLock;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenAnswer(invocation -> {
+            String key = invocation.getArgument(0);
+            if (store.containsKey(key)) {
+                return false;
+            }
+            store.put(key, invocation.getArgument(1));
+            ttls.put(key, invocation.<Duration>getArgument(2).toMillis());
+            return true;
+        });
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(invocation -> {
+            String key = invocation.<List<String>>getArgument(1).get(0);
+            String token = invocation.getArgument(2);
+            if (!token.equals(store.get(key))) {
+                return 0L;
+            }
+            // 인자가 토큰뿐이면 RELEASE_SCRIPT, 임대 시간이 있으면 EXTEND_SCRIPT
+            if (invocation.getArguments().length == 3) {
+                store.remove(key);
+            } else {
+                ttls.put(key, Long.parseLong(invocation.getArgument(3)));
+            }
+            return 1L;
+        });
+
+        clusterLock = new ClusterLock(redisTemplate);
+    }
+
+    @Test
+    void onlyOneHolder_untilReleased() {
+        ClusterLock.Lease first = clusterLock.tryAcquire("expiry:points", LEASE);
+
+        assertThat(first).isNotNull();
+        assertThat(ttls).containsEntry(KEY, 30_000L);
+        assertThat(clusterLock.tryAcquire("expiry:points", LEASE)).isNull();
+        // 이름이 다르면 별개의 잠금
+        assertThat(clusterLock.tryAcquire("expiry:sanctions", LEASE)).isNotNull();
+
+        first.close();
+        assertThat(store).doesNotContainKey(KEY);
+        assertThat(clusterLock.tryAcquire("expiry:points", LEASE)).isNotNull();
+    }
+
+    @Test
+    void extend_renewsOwnLeaseOnly() {
+        ClusterLock.Lease lease = clusterLock.tryAcquire("expiry:points", LEASE);
+        ttls.put(KEY, 1L);
+
+        assertThat(lease.extend()).isTrue();
+        assertThat(ttls).containsEntry(KEY, 30_000L);
+
+        // 임대 시간이 지나 다른 인스턴스가 잠금을 잡은 경우
+        store.put(KEY, "other-instance");
+        assertThat(lease.extend()).isFalse();
+    }
+
+    @Test
+    void close_afterLeaseWasTakenOver_keepsOtherHoldersLock() {
+        ClusterLock.Lease lease = clusterLock.tryAcquire("expiry:points", LEASE);
+        store.put(KEY, "other-instance");
+
+        lease.close();
+
+        assertThat(store).containsEntry(KEY, "other-instance");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void redisFailure_isNotAcquired_andExtendReportsLoss() {
+        ClusterLock.Lease lease = clusterLock.tryAcquire("expiry:points", LEASE);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new IllegalStateException("connection refused"));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new IllegalStateException("connection refused"));
+
+        assertThat(clusterLock.tryAcquire("expiry:sanctions", LEASE)).isNull();
+        assertThat(lease.extend()).isFalse();
+        lease.close(); // 해제 실패는 기록만 하고 예외를 던지지 않음
+    }
+}
@@ -0,0 +1,78 @@
+package com.fream.back.global.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이미지 리사이즈 파생본 단위 테스트 — 생성 너비, 최적 파생본 선택, srcset, 삭제.
+ */
+class ImageVariantGeneratorTest {
+
+    @TempDir
+    Path dir;
+
+    private ImageVariantGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        generator = new ImageVariantGenerator(true, new int[]{320, 640, 1080}, 0.8f, 1, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        generator.shutdown();
+    }
+
+    @Test
+    void generate_writesOnlyWidthsSmallerThanSource_andResolvePicksSmallestFit() throws Exception {
+        Path original = dir.resolve("thumbnail_abc.jpg");
+        ImageIO.write(new BufferedImage(800, 400, BufferedImage.TYPE_INT_RGB), "jpg", original.toFile());
+
+        generator.generate(original);
+
+        Path w320 = ImageVariantGenerator.variantPath(original, 320, "jpg");
+        Path w640 = ImageVariantGenerator.variantPath(original, 640, "jpg");
+        assertThat(w320).exists();
+        assertThat(w640).exists();
+        assertThat(ImageVariantGenerator.variantPath(original, 1080, "jpg")).doesNotExist();
+        assertThat(ImageIO.read(w320.toFile()).getWidth()).isEqualTo(320);
+        assertThat(ImageIO.read(w320.toFile()).getHeight()).isEqualTo(160);
+
+        assertThat(generator.resolve(original, 200)).isEqualTo(w320);
+        assertThat(generator.resolve(original, 500)).isEqualTo(w640);
+        // 원본보다 큰 요청은 원본
+        assertThat(generator.resolve(original, 1000)).isEqualTo(original);
+
+        generator.deleteVariants(original);
+        assertThat(Files.list(dir)).containsExactly(original);
+    }
+
+    @Test
+    void srcset_listsConfiguredWidths_forImagesOnly() {
+        assertThat(generator.srcset("/styles/queries/5/media/a.jpg"))
+                .isEqualTo("/styles/queries/5/media/a.jpg?w=320 320w, /styles/queries/5/media/a.jpg?w=640 640w, "
+                        + "/styles/queries/5/media/a.jpg?w=1080 1080w");
+        assertThat(generator.srcset("/products/query/1/images?imageName=b.png"))
+                .startsWith("/products/query/1/images?imageName=b.png&w=320 320w");
+        assertThat(generator.srcset("/styles/queries/5/media/clip.mp4")).isNull();
+        assertThat(generator.srcset("/styles/queries/5/media/anim.gif")).isNull();
+        assertThat(generator.srcset(null)).isNull();
+    }
+
+    @Test
+    void srcset_isNullWhenGenerationDisabled() {
+        ImageVariantGenerator disabled = new ImageVariantGenerator(false, new int[]{320}, 0.8f, 1, 1);
+
+        assertThat(disabled.srcset("/styles/queries/5/media/a.jpg")).isNull();
+        disabled.shutdown();
+    }
+}
@@ -0,0 +1,114 @@
+package com.fream.back.global.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그 파일 희소 인덱스 단위 테스트 — 체크포인트 기반 범위 읽기, 역방향 스캔, 증분 색인, 롤링 재구성, tail 오프셋.
+ */
+class LogFileReaderTest {
+
+    @TempDir
+    Path dir;
+
+    // 체크포인트 간격 3줄
+    private final LogFileReader reader = new LogFileReader(3);
+
+    @Test
+    void readLines_startsFromNearestCheckpoint_acrossCheckpointBoundaries() throws Exception {
+        Path file = write("app.log", lines(0, 10));
+
+        assertThat(reader.readLines(file, 2, 5)).containsExactly("line-2", "line-3", "line-4", "line-5", "line-6");
+        assertThat(reader.readLines(file, 8, 5)).containsExactly("line-8", "line-9");
+        assertThat(reader.readLines(file, 10, 5)).isEmpty();
+
+        LogFileReader.IndexSnapshot snapshot = reader.snapshot(file);
+        assertThat(snapshot.totalLines()).isEqualTo(10);
+        assertThat(snapshot.checkpoints()).hasSize(4); // 0, 3, 6, 9번째 줄
+    }
+
+    @Test
+    void reverseScan_visitsFromLastLine_andStopsWhenVisitorReturnsFalse() throws Exception {
+        Path file = write("app.log", lines(0, 7));
+
+        List<String> visited = new ArrayList<>();
+        reader.scan(file, true, (lineNumber, line) -> {
+            visited.add(lineNumber + ":" + line);
+            return visited.size() < 4;
+        });
+
+        assertThat(visited).containsExactly("6:line-6", "5:line-5", "4:line-4", "3:line-3");
+    }
+
+    @Test
+    void appendedLines_areIndexedIncrementally_andPartialLastLineIsCounted() throws Exception {
+        Path file = write("app.log", lines(0, 4));
+        assertThat(reader.snapshot(file).totalLines()).isEqualTo(4);
+
+        Files.writeString(file, "line-4\nline-5\npartial", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        LogFileReader.IndexSnapshot snapshot = reader.snapshot(file);
+        assertThat(snapshot.completeLines()).isEqualTo(6);
+        assertThat(snapshot.totalLines()).isEqualTo(7);
+        assertThat(reader.readLines(file, 5, 3)).containsExactly("line-5", "partial");
+    }
+
+    @Test
+    void truncatedFile_rebuildsIndexFromStart() throws Exception {
+        Path file = write("app.log", lines(0, 9));
+        assertThat(reader.snapshot(file).totalLines()).isEqualTo(9);
+
+        Files.writeString(file, "new-0\nnew-1\n", StandardCharsets.UTF_8, StandardOpenOption.TRUNCATE_EXISTING);
+
+        assertThat(reader.snapshot(file).totalLines()).isEqualTo(2);
+        assertThat(reader.readLines(file, 0, 5)).containsExactly("new-0", "new-1");
+    }
+
+    @Test
+    void readCompleteLines_skipsUnterminatedTail_andReturnsNextOffset() throws Exception {
+        Path file = write("app.log", "line-0\nline-1\nline-2\npart");
+
+        long offset = reader.offsetOfLine(file, 1);
+        assertThat(offset).isEqualTo("line-0\n".length());
+
+        List<String> tail = new ArrayList<>();
+        long next = reader.readCompleteLines(file, offset, 1, 10, (lineNumber, line) -> tail.add(line));
+
+        assertThat(tail).containsExactly("line-1", "line-2");
+        assertThat(next).isEqualTo("line-0\nline-1\nline-2\n".length());
+        // 완결 줄 수 이상이면 마지막 개행 다음 오프셋
+        assertThat(reader.offsetOfLine(file, 10)).isEqualTo(next);
+    }
+
+    @Test
+    void parseLine_extractsLevelAndTimestamp_andKeepsRawLineOtherwise() {
+        var parsed = LogFileReader.parseLine(
+                "2026-10-19 10:00:00.123 [main] ERROR com.fream.Foo - boom");
+        assertThat(parsed.getLevel()).isEqualTo("ERROR");
+        assertThat(parsed.getTimestamp()).isEqualTo("2026-10-19 10:00:00.123");
+        assertThat(parsed.getMessage()).isEqualTo("boom");
+
+        var raw = LogFileReader.parseLine("\tat com.fream.Foo.bar(Foo.java:1)");
+        assertThat(raw.getLevel()).isNull();
+        assertThat(raw.getRawLine()).isEqualTo("\tat com.fream.Foo.bar(Foo.java:1)");
+    }
+
+    private Path write(String name, String content) throws Exception {
+        return Files.writeString(dir.resolve(name), content, StandardCharsets.UTF_8);
+    }
+
+    private static String lines(int from, int to) {
+        return IntStream.range(from, to).mapToObj(i -> "line-" + i + "\n").collect(Collectors.joining());
+    }
+}
@@ -0,0 +1,184 @@
+package com.fream.back.global.utils;
+
+import com.fream.back.global.dto.LogLineDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그 검색 색인 단위 테스트 — 파일 뷰어 호환 필터 의미, 항목 단위 검색, 메모리 상한(블룸 필터 해제/LRU 색인 해제).
+ */
+class LogSearchIndexTest {
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    private static final List<String> LINES = List.of(
+            "2024-01-01 10:00:00.000 [main] INFO  com.fream.App - started",
+            "2024-01-01 10:00:01.000 [main] INFO  com.fream.App - request ok",
+            "2024-01-01 10:00:02.000 [main] INFO  com.fream.App - request ok",
+            "2024-01-01 10:00:03.000 [main] WARN  com.fream.App - slow request",
+            "2024-01-01 10:05:00.000 [http-1] ERROR com.fream.Pay - payment failed",
+            "java.lang.IllegalStateException: boom",
+            "\tat com.fream.Pay.pay(Pay.java:10)",
+            "2024-01-01 10:06:00.000 [http-1] INFO  com.fream.Pay - retry scheduled",
+            "\tat com.fream.Pay.retry(Pay.java:20)",
+            "2024-01-01 10:12:00.000 [main] ERROR com.fream.Db - db down",
+            "Caused by: java.sql.SQLException: timeout",
+            "2024-01-01 10:13:00.000 [main] DEBUG com.fream.Db - ping",
+            "2024-01-01 10:20:00.000 [main] INFO  com.fream.Db - recovered",
+            "2024-01-01 10:20:01.000 [main] INFO  com.fream.Db - request ok",
+            "2024-01-01 10:20:02.000 [main] WARN  com.fream.Db - pool low",
+            "2024-01-01 10:20:03.000 [main] INFO  com.fream.Db - request ok");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void perLineQuery_matchesLegacyViewerFilter_untimedLinesPassLevelAndTime() throws Exception {
+        Path file = write("application.log");
+        LogSearchIndex index = newIndex(Long.MAX_VALUE);
+
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 10, 5);
+        LocalDateTime to = LocalDateTime.of(2024, 1, 1, 10, 12);
+        Object[][] filters = {
+                {null, "ERROR", null, null},
+                {null, "INFO", null, null},
+                {null, null, from, to},
+                {null, "ERROR", from, to},
+                {"boom", null, null, null},
+                {"request", "WARN", null, null},
+                {"pay", "INFO", from, null},
+        };
+
+        for (Object[] f : filters) {
+            for (boolean reverse : new boolean[]{false, true}) {
+                LogSearchIndex.LogQuery query = LogSearchIndex.LogQuery.perLine(
+                        (String) f[0], (String) f[1], (LocalDateTime) f[2], (LocalDateTime) f[3]);
+                LogSearchIndex.SearchResult result = index.search(List.of(file), query, reverse, 0, 100);
+
+                List<Integer> expected = legacyMatches((String) f[0], (String) f[1],
+                        (LocalDateTime) f[2], (LocalDateTime) f[3], reverse);
+                assertThat(lineNumbers(result)).as("filter=%s reverse=%s", Arrays.toString(f), reverse)
+                        .containsExactlyElementsOf(expected);
+                assertThat(result.totalMatched()).isEqualTo(expected.size());
+            }
+        }
+    }
+
+    @Test
+    void perLineQuery_levelFilter_keepsContinuationLinesOfOtherLevels() throws Exception {
+        Path file = write("application.log");
+        LogSearchIndex index = newIndex(Long.MAX_VALUE);
+
+        LogSearchIndex.SearchResult result = index.search(List.of(file),
+                LogSearchIndex.LogQuery.perLine(null, "ERROR", null, null), false, 0, 100);
+
+        // 기존 뷰어처럼 INFO 항목에 딸린 스택트레이스 줄(9번)도 포함
+        assertThat(lineNumbers(result)).containsExactly(5, 6, 7, 9, 10, 11);
+    }
+
+    @Test
+    void entryQuery_continuationLinesFollowTheirEntry() throws Exception {
+        Path file = write("application.log");
+        LogSearchIndex index = newIndex(Long.MAX_VALUE);
+
+        LogSearchIndex.SearchResult errors = index.search(List.of(file),
+                LogSearchIndex.LogQuery.of(null, true, "ERROR", null, null), false, 0, 100);
+        assertThat(lineNumbers(errors)).containsExactly(5, 6, 7, 10, 11);
+        assertThat(errors.levelCounts()).containsEntry("ERROR", 5L).containsEntry("INFO", 8L);
+
+        LogSearchIndex.SearchResult tokens = index.search(List.of(file),
+                LogSearchIndex.LogQuery.of("request ok", true, null, null, null), true, 1, 2);
+        assertThat(tokens.totalMatched()).isEqualTo(4);
+        assertThat(lineNumbers(tokens)).containsExactly(14, 3);
+    }
+
+    @Test
+    void memoryBudget_singleFileOverBudget_dropsBloomsButStillFindsTokens() throws Exception {
+        Path file = write("application.log");
+        long fullSize = indexedSize(file);
+
+        LogSearchIndex index = newIndex(fullSize - 1);
+        LogSearchIndex.SearchResult result = index.search(List.of(file),
+                LogSearchIndex.LogQuery.of("boom", true, null, null, null), false, 0, 100);
+
+        assertThat(index.indexedBytes()).isLessThanOrEqualTo(fullSize - 1);
+        assertThat(lineNumbers(result)).containsExactly(6);
+    }
+
+    @Test
+    void memoryBudget_evictsLeastRecentlyUsedFileIndex_andRebuildsOnNextSearch() throws Exception {
+        Path first = write("application.2024-01-01.log");
+        Path second = write("application.log");
+        long oneFile = indexedSize(first);
+
+        LogSearchIndex index = newIndex(oneFile);
+        LogSearchIndex.LogQuery query = LogSearchIndex.LogQuery.of("payment", true, "ERROR", null, null);
+
+        assertThat(lineNumbers(index.search(List.of(first), query, false, 0, 10))).containsExactly(5);
+        assertThat(index.indexedBytes()).isEqualTo(oneFile);
+
+        assertThat(lineNumbers(index.search(List.of(second), query, false, 0, 10))).containsExactly(5);
+        assertThat(index.indexedBytes()).isEqualTo(oneFile); // 첫 파일 색인은 해제됨
+
+        assertThat(lineNumbers(index.search(List.of(first, second), query, false, 0, 10))).containsExactly(5, 5);
+        assertThat(index.indexedBytes()).isLessThanOrEqualTo(oneFile);
+    }
+
+    private LogSearchIndex newIndex(long maxIndexBytes) {
+        // 버킷당 4줄, 10분 창
+        return new LogSearchIndex(new LogFileReader(3), dir.toString(), List.of("application"),
+                4, 10, 10, 65536, maxIndexBytes);
+    }
+
+    private long indexedSize(Path file) throws Exception {
+        LogSearchIndex unbounded = newIndex(Long.MAX_VALUE);
+        unbounded.buckets(file);
+        return unbounded.indexedBytes();
+    }
+
+    private Path write(String name) throws Exception {
+        return Files.write(dir.resolve(name), (String.join("\n", LINES) + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<Integer> lineNumbers(LogSearchIndex.SearchResult result) {
+        return result.lines().stream().map(LogLineDTO::getLineNumber).toList();
+    }
+
+    // 색인 도입 전 LogController.matchesFilter와 같은 판정
+    private static List<Integer> legacyMatches(String search, String level,
+                                               LocalDateTime startTime, LocalDateTime endTime, boolean reverse) {
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < LINES.size(); i++) {
+            LogLineDTO line = LogFileReader.parseLine(LINES.get(i));
+            if (search != null && !line.getRawLine().toLowerCase().contains(search.toLowerCase())) {
+                continue;
+            }
+            if (level != null && line.getLevel() != null && !line.getLevel().equalsIgnoreCase(level)) {
+                continue;
+            }
+            if ((startTime != null || endTime != null) && line.getTimestamp() != null) {
+                LocalDateTime time = LocalDateTime.parse(line.getTimestamp(), TIME);
+                if ((startTime != null && time.isBefore(startTime)) || (endTime != null && time.isAfter(endTime))) {
+                    continue;
+                }
+            }
+            result.add(i + 1);
+        }
+        if (reverse) {
+            Collections.reverse(result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,103 @@
+package com.fream.back.global.utils;
+
+import com.fream.back.global.dto.commonDto;
+import com.fream.back.global.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 커서 인코딩 단위 테스트 — (생성일, ID)/(점수, ID)/ID 커서 왕복, 빈 커서, 손상된 커서 거절, size + 1 기반 다음 페이지 판단.
+ */
+class PageUtilsCursorTest {
+
+    @Test
+    void cursor_roundTripsIncludingSubSecondPrecision() {
+        PageUtils.Cursor cursor = new PageUtils.Cursor(LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_456_000), 42L);
+
+        String encoded = PageUtils.encodeCursor(cursor);
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(PageUtils.decodeCursor(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void cursor_roundTripsWholeMinuteTimestamp() {
+        // LocalDateTime.toString은 초가 0이면 초를 생략한다 ("2024-03-01T12:30")
+        PageUtils.Cursor cursor = new PageUtils.Cursor(LocalDateTime.of(2024, 3, 1, 12, 30), 7L);
+
+        assertThat(PageUtils.decodeCursor(PageUtils.encodeCursor(cursor))).isEqualTo(cursor);
+    }
+
+    @Test
+    void scoreCursor_roundTrips() {
+        PageUtils.ScoreCursor cursor = new PageUtils.ScoreCursor(0L, Long.MAX_VALUE);
+
+        assertThat(PageUtils.decodeScoreCursor(PageUtils.encodeScoreCursor(cursor))).isEqualTo(cursor);
+    }
+
+    @Test
+    void idCursor_roundTrips() {
+        String encoded = PageUtils.encodeIdCursor(9_007_199_254_740_993L);
+
+        assertThat(encoded).doesNotContain("=");
+        assertThat(PageUtils.decodeIdCursor(encoded)).isEqualTo(9_007_199_254_740_993L);
+    }
+
+    @Test
+    void emptyCursor_meansFirstPage() {
+        assertThat(PageUtils.decodeCursor(null)).isNull();
+        assertThat(PageUtils.decodeCursor(" ")).isNull();
+        assertThat(PageUtils.decodeScoreCursor("")).isNull();
+        assertThat(PageUtils.decodeIdCursor(null)).isNull();
+    }
+
+    @Test
+    void malformedCursor_isRejectedAsInvalidRequest() {
+        String notBase64 = "!!!";
+        String noSeparator = encode("2024-03-01T12:30");
+        String badDate = encode("yesterday_5");
+        String badId = encode("2024-03-01T12:30_x");
+        String notNumber = encode("abc");
+
+        assertThatThrownBy(() -> PageUtils.decodeCursor(notBase64)).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> PageUtils.decodeCursor(noSeparator)).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> PageUtils.decodeCursor(badDate)).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> PageUtils.decodeCursor(badId)).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> PageUtils.decodeScoreCursor(noSeparator)).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> PageUtils.decodeIdCursor(notBase64)).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> PageUtils.decodeIdCursor(notNumber)).isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void toIdCursorPageDto_usesExtraRowOnlyToDetectNextPage() {
+        commonDto.CursorPageDto<Long> page = PageUtils.toIdCursorPageDto(List.of(30L, 20L, 10L), 2, id -> id, 3L);
+
+        assertThat(page.getContent()).containsExactly(30L, 20L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(PageUtils.decodeIdCursor(page.getNextCursor())).isEqualTo(20L);
+        assertThat(page.getTotalElements()).isEqualTo(3L);
+    }
+
+    @Test
+    void toCursorPageDto_lastPageHasNoNextCursor() {
+        LocalDateTime createdDate = LocalDateTime.of(2024, 3, 1, 0, 0);
+        commonDto.CursorPageDto<Long> page = PageUtils.toCursorPageDto(List.of(2L, 1L), 2,
+                id -> new PageUtils.Cursor(createdDate, id), null);
+
+        assertThat(page.getContent()).containsExactly(2L, 1L);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.getTotalElements()).isNull();
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,109 @@
+package com.fream.back.global.utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 개인정보 암호화 유틸 단위 테스트 — 결정적 키 해시 호환, 스레드별 Cipher/MessageDigest 재사용, 일괄 암복호화.
+ */
+class PersonalDataEncryptionUtilTest {
+
+    private static final String SECRET = "0123456789abcdef";
+    private static final String IV = "fedcba9876543210";
+
+    private final PersonalDataEncryptionUtil util = newUtil();
+
+    @Test
+    void deterministicEncrypt_matchesStringConcatenationKeyHash() throws Exception {
+        for (String value : List.of("홍길동", "010-1234-5678", "서울특별시 강남구")) {
+            // 기존 구현: SHA-256(secretKey + input)의 앞 16바이트를 키로 사용
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest((SECRET + value).getBytes(StandardCharsets.UTF_8));
+            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+            cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(Arrays.copyOf(hash, 16), "AES"));
+            String expected = Base64.getEncoder().encodeToString(cipher.doFinal(value.getBytes(StandardCharsets.UTF_8)));
+
+            assertThat(util.deterministicEncrypt(value)).isEqualTo(expected);
+            assertThat(util.encryptForSearch(value)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void encryptAllAndDecryptAll_keepOrderNullsAndEmpties() {
+        List<String> plain = Arrays.asList("101동 1001호", null, "", "101동 1001호");
+
+        List<String> encrypted = util.encryptAll(plain);
+
+        assertThat(encrypted.get(0)).isEqualTo(util.encrypt("101동 1001호")).isEqualTo(encrypted.get(3));
+        assertThat(encrypted.get(1)).isNull();
+        assertThat(encrypted.get(2)).isEmpty();
+        assertThat(util.decryptAll(encrypted)).containsExactlyElementsOf(plain);
+    }
+
+    @Test
+    void deterministicDecryptAll_matchesSingleCalls() throws Exception {
+        Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "AES"));
+        String first = Base64.getEncoder().encodeToString(cipher.doFinal("홍길동".getBytes(StandardCharsets.UTF_8)));
+        String second = Base64.getEncoder().encodeToString(cipher.doFinal("010-1234-5678".getBytes(StandardCharsets.UTF_8)));
+
+        List<String> decrypted = util.deterministicDecryptAll(Arrays.asList(first, null, second));
+
+        assertThat(decrypted).containsExactly("홍길동", null, "010-1234-5678");
+        assertThat(decrypted.get(0)).isEqualTo(util.deterministicDecrypt(first));
+    }
+
+    @Test
+    void concurrentCalls_produceSameResultsAsSequentialCalls() throws Exception {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            values.add("user-" + i + "@fream.com");
+        }
+        List<String> expected = values.stream().map(util::deterministicEncrypt).toList();
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Boolean>> tasks = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                tasks.add(() -> {
+                    for (int i = 0; i < values.size(); i++) {
+                        String value = values.get(i);
+                        if (!expected.get(i).equals(util.deterministicEncrypt(value))
+                                || !value.equals(util.decrypt(util.encrypt(value)))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                });
+            }
+            for (Future<Boolean> result : pool.invokeAll(tasks)) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static PersonalDataEncryptionUtil newUtil() {
+        PersonalDataEncryptionUtil util = new PersonalDataEncryptionUtil();
+        ReflectionTestUtils.setField(util, "secretKey", SECRET);
+        ReflectionTestUtils.setField(util, "iv", IV);
+        util.init();
+        return util;
+    }
+}
@@ -0,0 +1,247 @@
+package com.fream.back.global.utils;
+
+import com.fream.back.domain.shipment.exception.ShipmentErrorCode;
+import com.fream.back.domain.shipment.exception.ShipmentException;
+import com.microsoft.playwright.Page;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Playwright 워커 풀 단위 테스트 — 페이지 재사용, 컨텍스트 교체, 대기열 초과, 실패 격리, 브라우저 해제/재시작, 종료.
+ */
+class PlaywrightBrowserManagerTest {
+
+    private final List<FakeSession> sessions = new CopyOnWriteArrayList<>();
+    private PlaywrightBrowserManager manager;
+
+    @AfterEach
+    void tearDown() {
+        if (manager != null) {
+            manager.shutdown();
+        }
+    }
+
+    @Test
+    void tasksReuseWorkerPage_untilContextTaskLimit() throws Exception {
+        manager = newManager(1, 10, 60_000, 2);
+
+        Page first = manager.submit(page -> page).get(5, TimeUnit.SECONDS);
+        Page second = manager.submit(page -> page).get(5, TimeUnit.SECONDS);
+        Page third = manager.submit(page -> page).get(5, TimeUnit.SECONDS);
+
+        FakeSession session = sessions.get(0);
+        assertThat(second).isSameAs(first);
+        assertThat(third).isNotSameAs(first); // 두 건 처리 후 컨텍스트 교체
+        assertThat(session.launches).isEqualTo(1);
+        assertThat(session.contexts).isEqualTo(2);
+        assertThat(manager.isInitialized()).isTrue();
+    }
+
+    @Test
+    void submit_rejectsWhenQueueIsFull() throws Exception {
+        manager = newManager(1, 1, 60_000, 100);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> running = manager.submit(page -> {
+            started.countDown();
+            await(release);
+            return "running";
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = manager.submit(page -> "queued");
+
+        assertThatThrownBy(() -> manager.submit(page -> "rejected"))
+                .isInstanceOfSatisfying(ShipmentException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(ShipmentErrorCode.EXTERNAL_TRACKING_SERVICE_ERROR));
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("running");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+    }
+
+    @Test
+    void failingTask_completesExceptionally_andWorkerKeepsServing() throws Exception {
+        manager = newManager(1, 10, 60_000, 100);
+
+        CompletableFuture<String> failed = manager.submit(page -> {
+            throw new IllegalStateException("selector timeout");
+        });
+
+        assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(manager.submit(page -> "ok").get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+        assertThat(sessions.get(0).launches).isEqualTo(1);
+    }
+
+    @Test
+    void browserStartFailure_failsTask_andRetriesOnNextTask() throws Exception {
+        manager = newManager(1, 10, 60_000, 100);
+        awaitSessions(1);
+        sessions.get(0).failNextLaunch = true;
+
+        CompletableFuture<String> failed = manager.submit(page -> "never");
+
+        assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(ShipmentException.class)
+                .cause()
+                .satisfies(e -> assertThat(((ShipmentException) e).getErrorCode())
+                        .isEqualTo(ShipmentErrorCode.BROWSER_INITIALIZATION_ERROR));
+        assertThat(manager.submit(page -> "ok").get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+    }
+
+    @Test
+    void closeBrowser_closesBeforeNextTask_andRelaunches() throws Exception {
+        manager = newManager(1, 10, 60_000, 100);
+        manager.submit(page -> "first").get(5, TimeUnit.SECONDS);
+
+        manager.closeBrowser();
+        manager.submit(page -> "second").get(5, TimeUnit.SECONDS);
+
+        FakeSession session = sessions.get(0);
+        assertThat(session.closes).isGreaterThanOrEqualTo(1);
+        assertThat(session.launches).isEqualTo(2);
+    }
+
+    @Test
+    void disconnectedBrowser_isRestartedOnNextTask() throws Exception {
+        manager = newManager(1, 10, 60_000, 100);
+        manager.submit(page -> "first").get(5, TimeUnit.SECONDS);
+
+        sessions.get(0).connected = false;
+        manager.submit(page -> "second").get(5, TimeUnit.SECONDS);
+        manager.submit(page -> "third").get(5, TimeUnit.SECONDS);
+
+        assertThat(sessions.get(0).launches).isEqualTo(2);
+    }
+
+    @Test
+    void openBrowser_warmsUpEveryWorker_andIdleBrowsersAreClosed() throws Exception {
+        manager = newManager(2, 10, 0, 100);
+
+        manager.openBrowser();
+
+        assertThat(sessions).hasSize(2).allSatisfy(session -> assertThat(session.launches).isEqualTo(1));
+        // 유휴 시간(0ms)이 지나면 다음 폴링 주기에 브라우저를 닫는다
+        waitUntil(() -> !manager.isInitialized());
+        assertThat(sessions).allSatisfy(session -> assertThat(session.closes).isGreaterThanOrEqualTo(1));
+    }
+
+    @Test
+    void shutdown_cancelsQueuedTasks_andRejectsNewOnes() throws Exception {
+        manager = newManager(1, 10, 60_000, 100);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        manager.submit(page -> {
+            started.countDown();
+            await(release);
+            return "running";
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = manager.submit(page -> "queued");
+
+        manager.shutdown();
+        release.countDown();
+
+        assertThat(queued.isCancelled()).isTrue();
+        assertThatThrownBy(() -> manager.submit(page -> "late"))
+                .isInstanceOfSatisfying(ShipmentException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(ShipmentErrorCode.BROWSER_INITIALIZATION_ERROR));
+    }
+
+    private PlaywrightBrowserManager newManager(int workers, int queueCapacity, long idleCloseMs, int maxTasksPerContext) {
+        return new PlaywrightBrowserManager(workers, queueCapacity, 5_000, idleCloseMs, maxTasksPerContext, name -> {
+            FakeSession session = new FakeSession();
+            sessions.add(session);
+            return session;
+        });
+    }
+
+    private void awaitSessions(int count) throws InterruptedException {
+        waitUntil(() -> sessions.size() >= count);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 브라우저 대신 페이지 목 객체를 돌려주는 세션 (워커 스레드에서만 변경)
+     */
+    private static final class FakeSession implements PlaywrightBrowserManager.BrowserSession {
+        private volatile int launches;
+        private volatile int contexts;
+        private volatile int closes;
+        private volatile boolean open;
+        private volatile boolean connected = true;
+        private volatile boolean failNextLaunch;
+        private Page page;
+
+        @Override
+        public Page page() {
+            if (!open) {
+                if (failNextLaunch) {
+                    failNextLaunch = false;
+                    throw new IllegalStateException("Executable doesn't exist");
+                }
+                launches++;
+                open = true;
+                connected = true;
+            }
+            if (page == null) {
+                contexts++;
+                page = mock(Page.class);
+            }
+            return page;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return open && connected;
+        }
+
+        @Override
+        public void closeContext() {
+            page = null;
+        }
+
+        @Override
+        public void close() {
+            if (open) {
+                closes++;
+            }
+            page = null;
+            open = false;
+        }
+    }
+}
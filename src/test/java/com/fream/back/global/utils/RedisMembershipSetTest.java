@@ -0,0 +1,153 @@
+package com.fream.back.global.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 사용자별 소속 집합 단위 테스트 — 최초 조회 시 한 번 적재, 적재 후 Redis만으로 판정, max-size 초과 표시로 적재 조회 반복 방지,
+ * 적재된 집합에만 토글 반영, Redis 실패 시 DB 대체.
+ * Lua 스크립트는 같은 규칙으로 동작하는 메모리 구현으로 대신한다.
+ */
+class RedisMembershipSetTest {
+
+    private static final String KEY = "style:liked:user@test.com";
+
+    private final Map<String, Set<String>> store = new HashMap<>();
+    private final Map<String, Long> ttls = new HashMap<>();
+    private final AtomicInteger loaderCalls = new AtomicInteger();
+    private RedisTemplate<String, String> redisTemplate;
+    private RedisMembershipSet membershipSet;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        SetOperations<String, String> setOperations = mock(SetOperations.class);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.isMember(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            Set<String> members = store.getOrDefault(invocation.<String>getArgument(0), Set.of());
+            Map<Object, Boolean> result = new LinkedHashMap<>();
+            for (int i = 1; i < invocation.getArguments().length; i++) {
+                Object member = invocation.getArguments()[i];
+                result.put(member, members.contains(member));
+            }
+            return result;
+        });
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(invocation -> {
+            String key = invocation.<List<String>>getArgument(1).get(0);
+            List<String> args = new ArrayList<>();
+            for (int i = 2; i < invocation.getArguments().length; i++) {
+                args.add((String) invocation.getArguments()[i]);
+            }
+            return args.get(0).equals("SADD") || args.get(0).equals("SREM") ? update(key, args) : load(key, args);
+        });
+
+        membershipSet = new RedisMembershipSet(redisTemplate, "style:liked:", Duration.ofHours(24), 3,
+                Duration.ofMinutes(60));
+    }
+
+    @Test
+    void firstLookupLoadsSet_andLaterLookupsUseRedisOnly() {
+        Set<Long> first = membershipSet.findMembers("user@test.com", List.of(1L, 2L, 9L), limit -> load(List.of(1L, 2L)));
+        Set<Long> second = membershipSet.findMembers("user@test.com", List.of(2L, 3L), limit -> load(List.of(1L, 2L)));
+
+        assertThat(first).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(second).containsExactly(2L);
+        assertThat(loaderCalls).hasValue(1);
+        assertThat(ttls).containsEntry(KEY, 24 * 3600L);
+    }
+
+    @Test
+    void tooLargeOwner_isMarked_andLoaderIsNotRerunUntilMarkerExpires() {
+        List<Long> heavy = LongStream.rangeClosed(1, 4).boxed().toList();
+
+        assertThat(membershipSet.findMembers("user@test.com", List.of(1L), limit -> {
+            assertThat(limit).isEqualTo(4); // max-size + 1건까지만 조회
+            return load(heavy);
+        })).isNull();
+        assertThat(membershipSet.findMembers("user@test.com", List.of(1L), limit -> load(heavy))).isNull();
+
+        assertThat(loaderCalls).hasValue(1);
+        assertThat(ttls).containsEntry(KEY, 3600L);
+
+        // 초과 표시가 만료되면 다시 적재 시도
+        store.remove(KEY);
+        assertThat(membershipSet.findMembers("user@test.com", List.of(1L), limit -> load(List.of(1L)))).containsExactly(1L);
+        assertThat(loaderCalls).hasValue(2);
+    }
+
+    @Test
+    void apply_updatesLoadedSetOnly_andLeavesTooLargeMarkerAlone() {
+        membershipSet.apply("user@test.com", 5L, true);
+        assertThat(store).doesNotContainKey(KEY);
+
+        membershipSet.findMembers("user@test.com", List.of(1L), limit -> load(List.of(1L)));
+        membershipSet.apply("user@test.com", 5L, true);
+        membershipSet.apply("user@test.com", 1L, false);
+        assertThat(membershipSet.findMembers("user@test.com", List.of(1L, 5L), limit -> load(List.of())))
+                .containsExactly(5L);
+
+        store.put(KEY, new HashSet<>(Set.of("-1")));
+        membershipSet.apply("user@test.com", 7L, true);
+        assertThat(store.get(KEY)).containsExactly("-1");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void redisFailure_fallsBackToDb_andFailedApplyDropsSet() {
+        when(redisTemplate.opsForSet().isMember(anyString(), any(Object[].class)))
+                .thenThrow(new IllegalStateException("connection refused"));
+        assertThat(membershipSet.findMembers("user@test.com", List.of(1L), limit -> load(List.of(1L)))).isNull();
+
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new IllegalStateException("connection refused"));
+        membershipSet.apply("user@test.com", 1L, true);
+        verify(redisTemplate).delete(KEY);
+    }
+
+    private List<Long> load(List<Long> ids) {
+        loaderCalls.incrementAndGet();
+        return ids;
+    }
+
+    // LOAD_SCRIPT와 같은 규칙: 이미 있으면 그대로, 없으면 멤버 추가 후 TTL 설정
+    private long load(String key, List<String> args) {
+        if (store.containsKey(key)) {
+            return 0;
+        }
+        store.put(key, new HashSet<>(args.subList(1, args.size())));
+        ttls.put(key, Long.parseLong(args.get(0)));
+        return 1;
+    }
+
+    // UPDATE_SCRIPT와 같은 규칙: 적재되지 않았거나 초과 표시 집합이면 무시
+    private long update(String key, List<String> args) {
+        Set<String> members = store.get(key);
+        if (members == null || members.contains("-1")) {
+            return 0;
+        }
+        return "SADD".equals(args.get(0)) ? (members.add(args.get(1)) ? 1 : 0) : (members.remove(args.get(1)) ? 1 : 0);
+    }
+}
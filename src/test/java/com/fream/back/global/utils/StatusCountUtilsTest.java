@@ -0,0 +1,49 @@
+package com.fream.back.global.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상태별 개수 집계 유틸 단위 테스트 — 그룹 결과 변환, 없는 상태 0, null 행 무시, 상태 합계.
+ */
+class StatusCountUtilsTest {
+
+    private enum Status { PENDING, MATCHED, CANCELLED, COMPLETED }
+
+    @Test
+    void toCountMap_fillsMissingStatusesWithZero() {
+        Map<Status, Long> counts = StatusCountUtils.toCountMap(Status.class, List.of(
+                new Object[]{Status.MATCHED, 3L},
+                new Object[]{Status.COMPLETED, 1}));
+
+        assertThat(counts).containsExactly(
+                Map.entry(Status.PENDING, 0L),
+                Map.entry(Status.MATCHED, 3L),
+                Map.entry(Status.CANCELLED, 0L),
+                Map.entry(Status.COMPLETED, 1L));
+    }
+
+    @Test
+    void toCountMap_ignoresRowsWithNullStatusOrCount() {
+        Map<Status, Long> counts = StatusCountUtils.toCountMap(Status.class, List.of(
+                new Object[]{null, 5L},
+                new Object[]{Status.PENDING, null}));
+
+        assertThat(counts.values()).containsOnly(0L);
+    }
+
+    @Test
+    void sum_addsRequestedStatuses() {
+        Map<Status, Long> counts = StatusCountUtils.toCountMap(Status.class, List.of(
+                new Object[]{Status.CANCELLED, 2L},
+                new Object[]{Status.COMPLETED, 5L},
+                new Object[]{Status.PENDING, 7L}));
+
+        assertThat(StatusCountUtils.sum(counts, Status.CANCELLED, Status.COMPLETED)).isEqualTo(7L);
+        assertThat(StatusCountUtils.sum(counts)).isZero();
+    }
+}